@@ -57,8 +57,13 @@ public abstract class AbstractScalarMap<KeyType,NumberType extends Number>
         @SuppressWarnings("unchecked")
         AbstractScalarMap<KeyType,NumberType> clone =
             (AbstractScalarMap<KeyType,NumberType>) super.clone();
-        clone.map = new LinkedHashMap<KeyType, NumberType>( this.size() );
-        clone.setAll(this);
+        if (this.map != null)
+        {
+            // Subclasses that do not use a backing map copy their own
+            // storage.
+            clone.map = new LinkedHashMap<KeyType, NumberType>( this.size() );
+            clone.setAll(this);
+        }
         return clone;
     }    
     
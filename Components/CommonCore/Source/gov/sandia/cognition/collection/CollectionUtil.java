@@ -26,6 +26,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * The {@code CollectionUtil} class implements static methods for dealing with
@@ -123,6 +124,34 @@ public class CollectionUtil
         }
     }
 
+    /**
+     * Returns the Collection as a List that supports random access. If the
+     * data is already a List that implements {@code RandomAccess}, it is
+     * returned directly, without copying. Otherwise, a new ArrayList is
+     * created from the data.
+     *
+     * @param <DataType> Type of data in the Collection.
+     * @param data Collection to return as a random-access List.
+     * @return A random-access List of the given Collection.
+     */
+    @SuppressWarnings("unchecked")
+    public static <DataType> List<DataType> asRandomAccessList(
+        final Collection<DataType> data)
+    {
+        if (data == null)
+        {
+            return null;
+        }
+        else if (data instanceof List && data instanceof RandomAccess)
+        {
+            return (List<DataType>) data;
+        }
+        else
+        {
+            return new ArrayList<DataType>(data);
+        }
+    }
+
     /**
      * Determines the size of the given collection, checking for null.
      *
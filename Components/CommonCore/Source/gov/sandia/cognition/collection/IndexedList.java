@@ -0,0 +1,209 @@
+/*
+ * File:            IndexedList.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.collection;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A light-weight, read-only list view of another list through an array of
+ * indices. Element i of the view is element {@code indices[fromIndex + i]} of
+ * the underlying list, optionally skipping a range of the index array. This
+ * allows many subsets of a large list, such as the training and testing sets
+ * of the folds of a cross-validation experiment, to share both the underlying
+ * list and a single index array instead of each copying the elements they
+ * contain. Random access remains O(1) as long as the underlying list supports
+ * it.
+ * <BR><BR>
+ * The view does not copy the index array, so changes to the array or to the
+ * underlying list are reflected in the view.
+ *
+ * @param   <E>
+ *      The type stored in the list.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     RangeExcludedArrayList
+ */
+public class IndexedList<E>
+    extends AbstractList<E>
+    implements RandomAccess
+{
+
+    /** The underlying list. */
+    private final List<? extends E> list;
+
+    /** The indices into the underlying list. */
+    private final int[] indices;
+
+    /** The first position in the index array (inclusive). */
+    private final int fromIndex;
+
+    /** The first position in the index array that is excluded. */
+    private final int excludedFromIndex;
+
+    /** The number of positions in the index array that are excluded. */
+    private final int sizeExcluded;
+
+    /** The size of the view. */
+    private final int size;
+
+    /**
+     * Creates a new {@code IndexedList} over all of the given indices.
+     *
+     * @param   list
+     *      The underlying list.
+     * @param   indices
+     *      The indices into the underlying list. Not copied.
+     */
+    public IndexedList(
+        final List<? extends E> list,
+        final int[] indices)
+    {
+        this(list, indices, 0, indices.length);
+    }
+
+    /**
+     * Creates a new {@code IndexedList} over a range of the given indices.
+     *
+     * @param   list
+     *      The underlying list.
+     * @param   indices
+     *      The indices into the underlying list. Not copied.
+     * @param   fromIndex
+     *      The first position in the index array to use (inclusive).
+     * @param   toIndex
+     *      The last position in the index array to use (exclusive).
+     */
+    public IndexedList(
+        final List<? extends E> list,
+        final int[] indices,
+        final int fromIndex,
+        final int toIndex)
+    {
+        this(list, indices, fromIndex, toIndex, toIndex, toIndex);
+    }
+
+    /**
+     * Creates a new {@code IndexedList} over a range of the given indices
+     * with a range inside of it excluded.
+     *
+     * @param   list
+     *      The underlying list.
+     * @param   indices
+     *      The indices into the underlying list. Not copied.
+     * @param   fromIndex
+     *      The first position in the index array to use (inclusive).
+     * @param   toIndex
+     *      The last position in the index array to use (exclusive).
+     * @param   excludedFromIndex
+     *      The first position in the index array to exclude (inclusive).
+     * @param   excludedToIndex
+     *      The last position in the index array to exclude (exclusive).
+     */
+    protected IndexedList(
+        final List<? extends E> list,
+        final int[] indices,
+        final int fromIndex,
+        final int toIndex,
+        final int excludedFromIndex,
+        final int excludedToIndex)
+    {
+        super();
+
+        if (fromIndex < 0)
+        {
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        }
+        else if (toIndex > indices.length)
+        {
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        }
+        else if (fromIndex > excludedFromIndex
+            || excludedFromIndex > excludedToIndex
+            || excludedToIndex > toIndex)
+        {
+            throw new IllegalArgumentException("Invalid range: fromIndex = "
+                + fromIndex + ", excludedFromIndex = " + excludedFromIndex
+                + ", excludedToIndex = " + excludedToIndex + ", toIndex = "
+                + toIndex);
+        }
+
+        this.list = list;
+        this.indices = indices;
+        this.fromIndex = fromIndex;
+        this.excludedFromIndex = excludedFromIndex;
+        this.sizeExcluded = excludedToIndex - excludedFromIndex;
+        this.size = toIndex - fromIndex - this.sizeExcluded;
+    }
+
+    /**
+     * Creates a new {@code IndexedList} over all of the given indices except
+     * for the given range. This is the complement of the view created by the
+     * constructor with the same range.
+     *
+     * @param   <E>
+     *      The type stored in the list.
+     * @param   list
+     *      The underlying list.
+     * @param   indices
+     *      The indices into the underlying list. Not copied.
+     * @param   fromIndex
+     *      The first position in the index array to exclude (inclusive).
+     * @param   toIndex
+     *      The last position in the index array to exclude (exclusive).
+     * @return
+     *      A new view that excludes the given range of the indices.
+     */
+    public static <E> IndexedList<E> createRangeExcluded(
+        final List<? extends E> list,
+        final int[] indices,
+        final int fromIndex,
+        final int toIndex)
+    {
+        return new IndexedList<E>(list, indices, 0, indices.length,
+            fromIndex, toIndex);
+    }
+
+    @Override
+    public E get(
+        final int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("index = " + index
+                + ", size = " + this.size);
+        }
+
+        int position = this.fromIndex + index;
+        if (position >= this.excludedFromIndex)
+        {
+            position += this.sizeExcluded;
+        }
+        return this.list.get(this.indices[position]);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets the underlying list.
+     *
+     * @return
+     *      The underlying list.
+     */
+    public List<? extends E> getList()
+    {
+        return this.list;
+    }
+
+}
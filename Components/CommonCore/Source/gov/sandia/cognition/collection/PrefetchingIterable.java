@@ -0,0 +1,383 @@
+/*
+ * File:            PrefetchingIterable.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.collection;
+
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An {@code Iterable} that wraps another {@code Iterable} and reads ahead from
+ * it on a background thread. This is useful when the underlying iterable is
+ * slow to produce values, such as when it reads and parses a file, since the
+ * reading can then overlap with the processing of the values. Values are
+ * handed from the background thread in batches to keep the synchronization
+ * overhead low, and the number of batches held at once is bounded so that
+ * memory use stays fixed no matter how large the underlying data is.
+ * <BR><BR>
+ * Each call to {@code iterator} starts a new daemon thread that iterates over
+ * the underlying iterable. The thread stops once the underlying iterator is
+ * exhausted or the returned iterator is closed. An exception thrown by the
+ * underlying iterator is rethrown by the returned iterator once it reaches
+ * that point in the data.
+ *
+ * @param   <DataType>
+ *      The type of data being iterated over.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class PrefetchingIterable<DataType>
+    extends Object
+    implements Iterable<DataType>
+{
+
+    /** The default batch size is {@value}. */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /** The default number of batches to read ahead is {@value}. */
+    public static final int DEFAULT_BATCH_COUNT = 4;
+
+    /** The underlying iterable to read ahead from. */
+    protected Iterable<? extends DataType> source;
+
+    /** The number of values handed from the background thread at a time. */
+    protected int batchSize;
+
+    /** The maximum number of batches the background thread reads ahead. */
+    protected int batchCount;
+
+    /**
+     * Creates a new {@code PrefetchingIterable} with default parameters.
+     *
+     * @param   source
+     *      The underlying iterable to read ahead from.
+     */
+    public PrefetchingIterable(
+        final Iterable<? extends DataType> source)
+    {
+        this(source, DEFAULT_BATCH_SIZE, DEFAULT_BATCH_COUNT);
+    }
+
+    /**
+     * Creates a new {@code PrefetchingIterable}.
+     *
+     * @param   source
+     *      The underlying iterable to read ahead from.
+     * @param   batchSize
+     *      The number of values handed from the background thread at a time.
+     *      Must be positive.
+     * @param   batchCount
+     *      The maximum number of batches the background thread reads ahead.
+     *      Must be positive.
+     */
+    public PrefetchingIterable(
+        final Iterable<? extends DataType> source,
+        final int batchSize,
+        final int batchCount)
+    {
+        super();
+
+        this.setSource(source);
+        this.setBatchSize(batchSize);
+        this.setBatchCount(batchCount);
+    }
+
+    @Override
+    public PrefetchingIterator<DataType> iterator()
+    {
+        return new PrefetchingIterator<DataType>(this.source.iterator(),
+            this.batchSize, this.batchCount);
+    }
+
+    /**
+     * Gets the underlying iterable to read ahead from.
+     *
+     * @return
+     *      The underlying iterable.
+     */
+    public Iterable<? extends DataType> getSource()
+    {
+        return this.source;
+    }
+
+    /**
+     * Sets the underlying iterable to read ahead from.
+     *
+     * @param   source
+     *      The underlying iterable.
+     */
+    public void setSource(
+        final Iterable<? extends DataType> source)
+    {
+        this.source = source;
+    }
+
+    /**
+     * Gets the number of values handed from the background thread at a time.
+     *
+     * @return
+     *      The batch size. Must be positive.
+     */
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Sets the number of values handed from the background thread at a time.
+     *
+     * @param   batchSize
+     *      The batch size. Must be positive.
+     */
+    public void setBatchSize(
+        final int batchSize)
+    {
+        ArgumentChecker.assertIsPositive("batchSize", batchSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the maximum number of batches the background thread reads ahead.
+     *
+     * @return
+     *      The batch count. Must be positive.
+     */
+    public int getBatchCount()
+    {
+        return this.batchCount;
+    }
+
+    /**
+     * Sets the maximum number of batches the background thread reads ahead.
+     *
+     * @param   batchCount
+     *      The batch count. Must be positive.
+     */
+    public void setBatchCount(
+        final int batchCount)
+    {
+        ArgumentChecker.assertIsPositive("batchCount", batchCount);
+        this.batchCount = batchCount;
+    }
+
+    /**
+     * The iterator for a {@code PrefetchingIterable}. It should be closed if
+     * it is not iterated to the end so that the background thread stops.
+     *
+     * @param   <DataType>
+     *      The type of data being iterated over.
+     */
+    public static class PrefetchingIterator<DataType>
+        extends Object
+        implements Iterator<DataType>, Closeable
+    {
+
+        /** The batch used to mark the end of the data. */
+        private static final ArrayList<Object> END = new ArrayList<Object>(0);
+
+        /** The queue of batches read by the background thread. */
+        private final BlockingQueue<ArrayList<? extends Object>> queue;
+
+        /** The background thread. */
+        private final Thread thread;
+
+        /** The batch currently being iterated over. */
+        private ArrayList<? extends Object> batch;
+
+        /** The position in the current batch. */
+        private int position;
+
+        /** The error thrown by the underlying iterator, if any. */
+        private volatile Throwable error;
+
+        /**
+         * Creates a new {@code PrefetchingIterator} and starts its background
+         * thread.
+         *
+         * @param   source
+         *      The underlying iterator to read ahead from.
+         * @param   batchSize
+         *      The number of values per batch.
+         * @param   batchCount
+         *      The maximum number of batches to read ahead.
+         */
+        public PrefetchingIterator(
+            final Iterator<? extends DataType> source,
+            final int batchSize,
+            final int batchCount)
+        {
+            super();
+
+            this.queue = new ArrayBlockingQueue<ArrayList<? extends Object>>(
+                batchCount);
+            this.batch = null;
+            this.position = 0;
+            this.error = null;
+            this.thread = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    fill(source, batchSize);
+                }
+            }, "PrefetchingIterator");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        /**
+         * Reads the underlying iterator into batches on the queue. Runs on
+         * the background thread.
+         *
+         * @param   source
+         *      The underlying iterator.
+         * @param   batchSize
+         *      The number of values per batch.
+         */
+        private void fill(
+            final Iterator<? extends DataType> source,
+            final int batchSize)
+        {
+            ArrayList<DataType> values = new ArrayList<DataType>(batchSize);
+            try
+            {
+                while (source.hasNext())
+                {
+                    values.add(source.next());
+                    if (values.size() >= batchSize)
+                    {
+                        this.queue.put(values);
+                        values = new ArrayList<DataType>(batchSize);
+                    }
+                }
+            }
+            catch (InterruptedException e)
+            {
+                // The iterator was closed.
+                return;
+            }
+            catch (Throwable e)
+            {
+                this.error = e;
+            }
+            finally
+            {
+                if (source instanceof Closeable)
+                {
+                    try
+                    {
+                        ((Closeable) source).close();
+                    }
+                    catch (IOException e)
+                    {
+                        if (this.error == null)
+                        {
+                            this.error = e;
+                        }
+                    }
+                }
+            }
+
+            try
+            {
+                // Hand over the values read before the end or an error.
+                if (!values.isEmpty())
+                {
+                    this.queue.put(values);
+                }
+                this.queue.put(END);
+            }
+            catch (InterruptedException e)
+            {
+                // The iterator was closed.
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.batch == null || this.position >= this.batch.size())
+            {
+                if (this.batch == END)
+                {
+                    return false;
+                }
+
+                try
+                {
+                    this.batch = this.queue.take();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                this.position = 0;
+
+                if (this.batch == END && this.error != null)
+                {
+                    final Throwable cause = this.error;
+                    this.error = null;
+                    if (cause instanceof RuntimeException)
+                    {
+                        throw (RuntimeException) cause;
+                    }
+                    else if (cause instanceof Error)
+                    {
+                        throw (Error) cause;
+                    }
+                    else
+                    {
+                        throw new RuntimeException(cause);
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public DataType next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            final DataType result = (DataType) this.batch.get(this.position);
+            this.position++;
+            return result;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported.");
+        }
+
+        /**
+         * Stops the background thread. This only needs to be called if the
+         * iterator is not iterated to the end.
+         */
+        @Override
+        public void close()
+        {
+            this.thread.interrupt();
+            this.queue.clear();
+            this.batch = END;
+        }
+
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * File:            ShuffleBufferIterable.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.collection;
+
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.Randomized;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * An {@code Iterable} that approximately shuffles the values of another
+ * {@code Iterable} using a fixed-size buffer. The buffer is first filled from
+ * the underlying iterable. Then each value returned is chosen uniformly at
+ * random from the buffer and its slot is refilled with the next underlying
+ * value. Once the underlying iterable is exhausted, the rest of the buffer is
+ * returned in random order. This allows data that is too large to hold in
+ * memory to be streamed in a randomized order, which many online learning
+ * algorithms need in order to avoid being biased by the order of the data.
+ * The larger the buffer, the closer the result is to a full shuffle; a buffer
+ * at least as large as the data gives a uniformly random permutation.
+ *
+ * @param   <DataType>
+ *      The type of data being iterated over.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ShuffleBufferIterable<DataType>
+    extends Object
+    implements Iterable<DataType>, Randomized
+{
+
+    /** The default buffer size is {@value}. */
+    public static final int DEFAULT_BUFFER_SIZE = 10000;
+
+    /** The underlying iterable to shuffle. */
+    protected Iterable<? extends DataType> source;
+
+    /** The number of values held in the buffer. */
+    protected int bufferSize;
+
+    /** The random number generator to use. */
+    protected Random random;
+
+    /**
+     * Creates a new {@code ShuffleBufferIterable} with a default buffer size.
+     *
+     * @param   source
+     *      The underlying iterable to shuffle.
+     * @param   random
+     *      The random number generator to use.
+     */
+    public ShuffleBufferIterable(
+        final Iterable<? extends DataType> source,
+        final Random random)
+    {
+        this(source, DEFAULT_BUFFER_SIZE, random);
+    }
+
+    /**
+     * Creates a new {@code ShuffleBufferIterable}.
+     *
+     * @param   source
+     *      The underlying iterable to shuffle.
+     * @param   bufferSize
+     *      The number of values held in the buffer. Must be positive.
+     * @param   random
+     *      The random number generator to use.
+     */
+    public ShuffleBufferIterable(
+        final Iterable<? extends DataType> source,
+        final int bufferSize,
+        final Random random)
+    {
+        super();
+
+        this.setSource(source);
+        this.setBufferSize(bufferSize);
+        this.setRandom(random);
+    }
+
+    @Override
+    public Iterator<DataType> iterator()
+    {
+        return new ShuffleBufferIterator<DataType>(this.source.iterator(),
+            this.bufferSize, this.random);
+    }
+
+    /**
+     * Gets the underlying iterable to shuffle.
+     *
+     * @return
+     *      The underlying iterable.
+     */
+    public Iterable<? extends DataType> getSource()
+    {
+        return this.source;
+    }
+
+    /**
+     * Sets the underlying iterable to shuffle.
+     *
+     * @param   source
+     *      The underlying iterable.
+     */
+    public void setSource(
+        final Iterable<? extends DataType> source)
+    {
+        this.source = source;
+    }
+
+    /**
+     * Gets the number of values held in the buffer.
+     *
+     * @return
+     *      The buffer size. Must be positive.
+     */
+    public int getBufferSize()
+    {
+        return this.bufferSize;
+    }
+
+    /**
+     * Sets the number of values held in the buffer.
+     *
+     * @param   bufferSize
+     *      The buffer size. Must be positive.
+     */
+    public void setBufferSize(
+        final int bufferSize)
+    {
+        ArgumentChecker.assertIsPositive("bufferSize", bufferSize);
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    /**
+     * The iterator for a {@code ShuffleBufferIterable}.
+     *
+     * @param   <DataType>
+     *      The type of data being iterated over.
+     */
+    protected static class ShuffleBufferIterator<DataType>
+        extends Object
+        implements Iterator<DataType>, Closeable
+    {
+
+        /** The underlying iterator. */
+        private final Iterator<? extends DataType> source;
+
+        /** The buffer of values. */
+        private final ArrayList<DataType> buffer;
+
+        /** The random number generator to use. */
+        private final Random random;
+
+        /**
+         * Creates a new {@code ShuffleBufferIterator}.
+         *
+         * @param   source
+         *      The underlying iterator.
+         * @param   bufferSize
+         *      The number of values held in the buffer.
+         * @param   random
+         *      The random number generator to use.
+         */
+        protected ShuffleBufferIterator(
+            final Iterator<? extends DataType> source,
+            final int bufferSize,
+            final Random random)
+        {
+            super();
+
+            this.source = source;
+            this.buffer = new ArrayList<DataType>(bufferSize);
+            this.random = random;
+
+            while (this.buffer.size() < bufferSize && source.hasNext())
+            {
+                this.buffer.add(source.next());
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return !this.buffer.isEmpty();
+        }
+
+        @Override
+        public DataType next()
+        {
+            final int size = this.buffer.size();
+            if (size <= 0)
+            {
+                throw new NoSuchElementException();
+            }
+
+            final int index = this.random.nextInt(size);
+            final DataType result = this.buffer.get(index);
+            if (this.source.hasNext())
+            {
+                // Refill the slot from the underlying data.
+                this.buffer.set(index, this.source.next());
+            }
+            else
+            {
+                // Move the last value into the slot to shrink the buffer.
+                this.buffer.set(index, this.buffer.get(size - 1));
+                this.buffer.remove(size - 1);
+            }
+            return result;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported.");
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            this.buffer.clear();
+            if (this.source instanceof Closeable)
+            {
+                ((Closeable) this.source).close();
+            }
+        }
+
+    }
+
+}
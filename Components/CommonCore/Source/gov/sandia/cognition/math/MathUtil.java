@@ -117,6 +117,60 @@ public class MathUtil
         return (Math.log( 2.5066282746310005 * ser ) - tmp);
     }
 
+    /**
+     * Computes the digamma function, which is the derivative of the logarithm
+     * of the Gamma function. Small inputs are shifted up using the recurrence
+     * psi(x) = psi(x + 1) - 1/x and then the asymptotic series is used.
+     * @param input
+     * Input to evaluate the digamma function. Must be greater than zero.
+     * @return
+     * The digamma function evaluated at the input.
+     */
+    @PublicationReferences(
+        references={
+            @PublicationReference(
+                author="Wikipedia",
+                title="Digamma function",
+                type=PublicationType.WebPage,
+                year=2026,
+                url="http://en.wikipedia.org/wiki/Digamma_function"
+            )
+            ,
+            @PublicationReference(
+                author="J. M. Bernardo",
+                title="Algorithm AS 103: Psi (Digamma) Function",
+                type=PublicationType.Journal,
+                publication="Journal of the Royal Statistical Society. Series C (Applied Statistics)",
+                year=1976,
+                pages={315, 317},
+                url="http://www.jstor.org/stable/2347257"
+            )
+        }
+    )
+    public static double digammaFunction(
+        final double input )
+    {
+
+        if (!(input > 0.0))
+        {
+            throw new IllegalArgumentException( "Input must be > 0.0" );
+        }
+
+        double x = input;
+        double result = 0.0;
+        while (x < 10.0)
+        {
+            result -= 1.0 / x;
+            x += 1.0;
+        }
+
+        final double f = 1.0 / (x * x);
+        result += Math.log( x ) - 0.5 / x
+            - f * (1.0 / 12.0 - f * (1.0 / 120.0 - f * (1.0 / 252.0
+            - f * (1.0 / 240.0 - f / 132.0))));
+        return result;
+    }
+
     /**
      * Computes the Lower incomplete gamma function.
      * Note that this has the reverse parameters order from octave.
@@ -0,0 +1,344 @@
+/*
+ * File:            UnivariateMomentSketch.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.math;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.Summarizer;
+import java.util.Collection;
+
+/**
+ * A streaming summary of the count, minimum, maximum, mean, variance,
+ * skewness, and kurtosis of a sequence of values. It makes a single pass over
+ * the data in constant memory, updating the central moments as each value is
+ * added in a numerically stable way. Two sketches can be merged, so the
+ * statistics of a large dataset can be computed by sketching chunks of it in
+ * parallel and then merging the results.
+ * <BR><BR>
+ * The statistics use the same definitions as {@code UnivariateStatisticsUtil}:
+ * the variance is the unbiased estimate, the skewness is the biased third
+ * central moment over the cube of the standard deviation, and the kurtosis is
+ * the biased excess kurtosis.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     UnivariateStatisticsUtil
+ * @see     UnivariateQuantileSketch
+ */
+@PublicationReference(
+    author="Philippe Pebay",
+    title="Formulas for Robust, One-Pass Parallel Computation of Covariances and Arbitrary-Order Statistical Moments",
+    type=PublicationType.TechnicalReport,
+    publication="Sandia Report SAND2008-6212",
+    year=2008,
+    url="http://prod.sandia.gov/techlib/access-control.cgi/2008/086212.pdf"
+)
+public class UnivariateMomentSketch
+    extends AbstractCloneableSerializable
+{
+
+    /** The number of values. */
+    protected long count;
+
+    /** The minimum value. */
+    protected double min;
+
+    /** The maximum value. */
+    protected double max;
+
+    /** The mean of the values. */
+    protected double mean;
+
+    /** The sum of squared differences from the mean. */
+    protected double m2;
+
+    /** The sum of cubed differences from the mean. */
+    protected double m3;
+
+    /** The sum of differences from the mean to the fourth power. */
+    protected double m4;
+
+    /**
+     * Creates a new, empty {@code UnivariateMomentSketch}.
+     */
+    public UnivariateMomentSketch()
+    {
+        super();
+
+        this.clear();
+    }
+
+    @Override
+    public UnivariateMomentSketch clone()
+    {
+        return (UnivariateMomentSketch) super.clone();
+    }
+
+    /**
+     * Creates a new sketch of the given values.
+     *
+     * @param   data
+     *      The values to sketch.
+     * @return
+     *      A new sketch of the values.
+     */
+    public static UnivariateMomentSketch create(
+        final Iterable<? extends Number> data)
+    {
+        final UnivariateMomentSketch result = new UnivariateMomentSketch();
+        result.addAll(data);
+        return result;
+    }
+
+    /**
+     * Removes all values from the sketch.
+     */
+    public void clear()
+    {
+        this.count = 0;
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+        this.mean = 0.0;
+        this.m2 = 0.0;
+        this.m3 = 0.0;
+        this.m4 = 0.0;
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param   value
+     *      The value to add.
+     */
+    public void add(
+        final double value)
+    {
+        final long previousCount = this.count;
+        this.count++;
+        final double n = this.count;
+        final double delta = value - this.mean;
+        final double deltaN = delta / n;
+        final double deltaN2 = deltaN * deltaN;
+        final double term = delta * deltaN * previousCount;
+
+        this.mean += deltaN;
+        this.m4 += term * deltaN2 * (n * n - 3.0 * n + 3.0)
+            + 6.0 * deltaN2 * this.m2 - 4.0 * deltaN * this.m3;
+        this.m3 += term * deltaN * (n - 2.0) - 3.0 * deltaN * this.m2;
+        this.m2 += term;
+
+        if (value < this.min)
+        {
+            this.min = value;
+        }
+        if (value > this.max)
+        {
+            this.max = value;
+        }
+    }
+
+    /**
+     * Adds all of the given values to the sketch.
+     *
+     * @param   data
+     *      The values to add.
+     */
+    public void addAll(
+        final Iterable<? extends Number> data)
+    {
+        for (Number value : data)
+        {
+            this.add(value.doubleValue());
+        }
+    }
+
+    /**
+     * Merges the values of another sketch into this one. The result is the
+     * same, up to rounding, as if all of the values had been added to this
+     * sketch.
+     *
+     * @param   other
+     *      The sketch to merge into this one. It is not changed.
+     */
+    public void merge(
+        final UnivariateMomentSketch other)
+    {
+        if (other.count <= 0)
+        {
+            return;
+        }
+        else if (this.count <= 0)
+        {
+            this.count = other.count;
+            this.min = other.min;
+            this.max = other.max;
+            this.mean = other.mean;
+            this.m2 = other.m2;
+            this.m3 = other.m3;
+            this.m4 = other.m4;
+            return;
+        }
+
+        final double na = this.count;
+        final double nb = other.count;
+        final double n = na + nb;
+        final double delta = other.mean - this.mean;
+        final double delta2 = delta * delta;
+        final double nanb = na * nb;
+
+        final double m4 = this.m4 + other.m4
+            + delta2 * delta2 * nanb * (na * na - nanb + nb * nb) / (n * n * n)
+            + 6.0 * delta2 * (na * na * other.m2 + nb * nb * this.m2) / (n * n)
+            + 4.0 * delta * (na * other.m3 - nb * this.m3) / n;
+        final double m3 = this.m3 + other.m3
+            + delta2 * delta * nanb * (na - nb) / (n * n)
+            + 3.0 * delta * (na * other.m2 - nb * this.m2) / n;
+        final double m2 = this.m2 + other.m2 + delta2 * nanb / n;
+
+        this.count += other.count;
+        this.mean += delta * nb / n;
+        this.m2 = m2;
+        this.m3 = m3;
+        this.m4 = m4;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+    }
+
+    /**
+     * Gets the number of values in the sketch.
+     *
+     * @return
+     *      The number of values.
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Gets the minimum value. It is positive infinity if the sketch is empty.
+     *
+     * @return
+     *      The minimum value.
+     */
+    public double getMin()
+    {
+        return this.min;
+    }
+
+    /**
+     * Gets the maximum value. It is negative infinity if the sketch is empty.
+     *
+     * @return
+     *      The maximum value.
+     */
+    public double getMax()
+    {
+        return this.max;
+    }
+
+    /**
+     * Gets the mean of the values. It is zero if the sketch is empty.
+     *
+     * @return
+     *      The mean.
+     */
+    public double getMean()
+    {
+        return this.mean;
+    }
+
+    /**
+     * Gets the unbiased variance of the values. It is zero if there are fewer
+     * than two values.
+     *
+     * @return
+     *      The unbiased variance.
+     */
+    public double getVariance()
+    {
+        return this.count >= 2 ? this.m2 / (this.count - 1) : 0.0;
+    }
+
+    /**
+     * Gets the standard deviation of the values, which is the square root of
+     * the unbiased variance.
+     *
+     * @return
+     *      The standard deviation.
+     */
+    public double getStandardDeviation()
+    {
+        return Math.sqrt(this.getVariance());
+    }
+
+    /**
+     * Gets the skewness of the values. It is zero if there are fewer than
+     * three values or they are all the same.
+     *
+     * @return
+     *      The skewness.
+     */
+    public double getSkewness()
+    {
+        final double variance = this.getVariance();
+        if (this.count < 3 || variance <= 0.0)
+        {
+            return 0.0;
+        }
+
+        return (this.m3 / this.count) / (variance * Math.sqrt(variance));
+    }
+
+    /**
+     * Gets the biased excess kurtosis of the values. It is zero if there are
+     * fewer than two values or they are all the same.
+     *
+     * @return
+     *      The excess kurtosis.
+     */
+    public double getKurtosis()
+    {
+        final double variance = this.getVariance();
+        if (this.count < 2 || variance <= 0.0)
+        {
+            return 0.0;
+        }
+
+        return (this.m4 / this.count) / (variance * variance) - 3.0;
+    }
+
+    /**
+     * A summarizer that creates a {@code UnivariateMomentSketch} of a
+     * collection of numbers.
+     */
+    public static class Summary
+        extends AbstractCloneableSerializable
+        implements Summarizer<Number, UnivariateMomentSketch>
+    {
+
+        /**
+         * Creates a new {@code Summary}.
+         */
+        public Summary()
+        {
+            super();
+        }
+
+        @Override
+        public UnivariateMomentSketch summarize(
+            final Collection<? extends Number> data)
+        {
+            return UnivariateMomentSketch.create(data);
+        }
+
+    }
+
+}
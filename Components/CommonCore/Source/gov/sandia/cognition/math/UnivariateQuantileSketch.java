@@ -0,0 +1,723 @@
+/*
+ * File:            UnivariateQuantileSketch.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.math;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.Summarizer;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A streaming sketch of a sequence of values that estimates its quantiles
+ * (percentiles) in bounded memory using a merging t-digest. The values are
+ * summarized by a sorted list of weighted centroids, where the size of each
+ * centroid is limited by a scale function so that centroids near the tails
+ * are small. This makes the estimates of extreme quantiles, such as the 99th
+ * percentile of a set of latencies, very accurate. New values are collected
+ * in a buffer and merged into the centroids in a single sorted pass when it
+ * fills, so adding a value is amortized constant time. Two sketches can be
+ * merged, so a large dataset can be sketched in parallel chunks.
+ * <BR><BR>
+ * The number of centroids is bounded by about the compression parameter,
+ * which trades memory for accuracy. While few enough values have been added
+ * that none need to be merged, each value is its own centroid and the
+ * quantiles are exactly those computed by
+ * {@code UnivariateStatisticsUtil.computePercentile}.
+ * <BR><BR>
+ * This class is not thread-safe, including the methods that read quantiles,
+ * since they first merge the buffer.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     UnivariateStatisticsUtil
+ * @see     UnivariateMomentSketch
+ */
+@PublicationReference(
+    author={"Ted Dunning", "Otmar Ertl"},
+    title="Computing Extremely Accurate Quantiles Using t-Digests",
+    type=PublicationType.Misc,
+    year=2019,
+    url="https://arxiv.org/abs/1902.04023"
+)
+public class UnivariateQuantileSketch
+    extends AbstractCloneableSerializable
+{
+
+    /** The default compression is {@value}. */
+    public static final double DEFAULT_COMPRESSION = 100.0;
+
+    /** The compression, which bounds the number of centroids. */
+    protected double compression;
+
+    /** The number of centroids. */
+    protected int centroidCount;
+
+    /** The means of the centroids, in increasing order. */
+    protected double[] centroidMeans;
+
+    /** The weights of the centroids. */
+    protected double[] centroidWeights;
+
+    /** The number of values in the buffer. */
+    protected int bufferCount;
+
+    /** The buffer of values that have not been merged yet. */
+    protected double[] bufferValues;
+
+    /** The weights of the values in the buffer. */
+    protected double[] bufferWeights;
+
+    /** The total weight of all values, including the buffer. */
+    protected double totalWeight;
+
+    /** The minimum value. */
+    protected double min;
+
+    /** The maximum value. */
+    protected double max;
+
+    /**
+     * Creates a new, empty {@code UnivariateQuantileSketch} with the default
+     * compression.
+     */
+    public UnivariateQuantileSketch()
+    {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a new, empty {@code UnivariateQuantileSketch}.
+     *
+     * @param   compression
+     *      The compression, which bounds the number of centroids. Larger
+     *      values give more accurate quantiles using more memory. Must be
+     *      positive.
+     */
+    public UnivariateQuantileSketch(
+        final double compression)
+    {
+        super();
+
+        ArgumentChecker.assertIsPositive("compression", compression);
+        this.compression = compression;
+        final int capacity = (int) Math.ceil(compression) + 8;
+        this.centroidMeans = new double[capacity];
+        this.centroidWeights = new double[capacity];
+        this.bufferValues = new double[5 * capacity];
+        this.bufferWeights = new double[5 * capacity];
+        this.clear();
+    }
+
+    @Override
+    public UnivariateQuantileSketch clone()
+    {
+        final UnivariateQuantileSketch clone =
+            (UnivariateQuantileSketch) super.clone();
+        clone.centroidMeans = this.centroidMeans.clone();
+        clone.centroidWeights = this.centroidWeights.clone();
+        clone.bufferValues = this.bufferValues.clone();
+        clone.bufferWeights = this.bufferWeights.clone();
+        return clone;
+    }
+
+    /**
+     * Creates a new sketch of the given values with the default compression.
+     *
+     * @param   data
+     *      The values to sketch.
+     * @return
+     *      A new sketch of the values.
+     */
+    public static UnivariateQuantileSketch create(
+        final Iterable<? extends Number> data)
+    {
+        final UnivariateQuantileSketch result = new UnivariateQuantileSketch();
+        result.addAll(data);
+        return result;
+    }
+
+    /**
+     * Removes all values from the sketch.
+     */
+    public void clear()
+    {
+        this.centroidCount = 0;
+        this.bufferCount = 0;
+        this.totalWeight = 0.0;
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param   value
+     *      The value to add.
+     */
+    public void add(
+        final double value)
+    {
+        this.add(value, 1.0);
+    }
+
+    /**
+     * Adds a weighted value to the sketch.
+     *
+     * @param   value
+     *      The value to add.
+     * @param   weight
+     *      The weight of the value. Must be positive.
+     */
+    public void add(
+        final double value,
+        final double weight)
+    {
+        if (!(weight > 0.0))
+        {
+            throw new IllegalArgumentException("weight must be positive");
+        }
+        else if (Double.isNaN(value))
+        {
+            throw new IllegalArgumentException("value cannot be NaN");
+        }
+
+        if (this.bufferCount >= this.bufferValues.length)
+        {
+            this.compress();
+        }
+
+        this.bufferValues[this.bufferCount] = value;
+        this.bufferWeights[this.bufferCount] = weight;
+        this.bufferCount++;
+        this.totalWeight += weight;
+        if (value < this.min)
+        {
+            this.min = value;
+        }
+        if (value > this.max)
+        {
+            this.max = value;
+        }
+    }
+
+    /**
+     * Adds all of the given values to the sketch.
+     *
+     * @param   data
+     *      The values to add.
+     */
+    public void addAll(
+        final Iterable<? extends Number> data)
+    {
+        for (Number value : data)
+        {
+            this.add(value.doubleValue());
+        }
+    }
+
+    /**
+     * Merges the values of another sketch into this one.
+     *
+     * @param   other
+     *      The sketch to merge into this one. It is not changed, other than
+     *      having its buffer merged.
+     */
+    public void merge(
+        final UnivariateQuantileSketch other)
+    {
+        other.compress();
+        for (int i = 0; i < other.centroidCount; i++)
+        {
+            this.add(other.centroidMeans[i], other.centroidWeights[i]);
+        }
+
+        // The centroids at the ends may not be the exact extremes.
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+    }
+
+    /**
+     * Merges the buffer into the centroids.
+     */
+    protected void compress()
+    {
+        if (this.bufferCount <= 0)
+        {
+            return;
+        }
+
+        // Sort the buffer and then merge it with the already sorted
+        // centroids.
+        sort(this.bufferValues, this.bufferWeights, 0, this.bufferCount - 1);
+
+        final int inputCount = this.centroidCount;
+        final double[] inputMeans = Arrays.copyOf(this.centroidMeans,
+            inputCount);
+        final double[] inputWeights = Arrays.copyOf(this.centroidWeights,
+            inputCount);
+        final double total = this.totalWeight;
+
+        this.centroidCount = 0;
+        double currentMean = 0.0;
+        double currentWeight = 0.0;
+        double weightSoFar = 0.0;
+        double limit = 0.0;
+        int i = 0;
+        int j = 0;
+        while (i < inputCount || j < this.bufferCount)
+        {
+            final double mean;
+            final double weight;
+            if (j >= this.bufferCount
+                || (i < inputCount && inputMeans[i] <= this.bufferValues[j]))
+            {
+                mean = inputMeans[i];
+                weight = inputWeights[i];
+                i++;
+            }
+            else
+            {
+                mean = this.bufferValues[j];
+                weight = this.bufferWeights[j];
+                j++;
+            }
+
+            if (currentWeight > 0.0
+                && weightSoFar + currentWeight + weight <= limit)
+            {
+                // Merge into the current centroid.
+                currentWeight += weight;
+                currentMean += (mean - currentMean) * weight / currentWeight;
+            }
+            else
+            {
+                if (currentWeight > 0.0)
+                {
+                    this.addCentroid(currentMean, currentWeight);
+                    weightSoFar += currentWeight;
+                }
+                currentMean = mean;
+                currentWeight = weight;
+                limit = total * this.getQuantileLimit(weightSoFar / total);
+            }
+        }
+        if (currentWeight > 0.0)
+        {
+            this.addCentroid(currentMean, currentWeight);
+        }
+
+        this.bufferCount = 0;
+    }
+
+    /**
+     * Appends a centroid, growing the arrays if needed.
+     *
+     * @param   mean
+     *      The mean of the centroid.
+     * @param   weight
+     *      The weight of the centroid.
+     */
+    private void addCentroid(
+        final double mean,
+        final double weight)
+    {
+        if (this.centroidCount >= this.centroidMeans.length)
+        {
+            final int capacity = 2 * this.centroidMeans.length;
+            this.centroidMeans = Arrays.copyOf(this.centroidMeans, capacity);
+            this.centroidWeights = Arrays.copyOf(this.centroidWeights,
+                capacity);
+        }
+        this.centroidMeans[this.centroidCount] = mean;
+        this.centroidWeights[this.centroidCount] = weight;
+        this.centroidCount++;
+    }
+
+    /**
+     * Gets the largest quantile that a centroid starting at the given
+     * quantile can extend to. This uses the arcsine scale function, which
+     * allows one unit of scale per centroid.
+     *
+     * @param   quantile
+     *      The quantile where the centroid starts.
+     * @return
+     *      The largest quantile the centroid can extend to.
+     */
+    private double getQuantileLimit(
+        final double quantile)
+    {
+        final double scale = this.compression / (2.0 * Math.PI)
+            * Math.asin(2.0 * quantile - 1.0) + 1.0;
+        final double angle = Math.min(scale * 2.0 * Math.PI / this.compression,
+            Math.PI / 2.0);
+        return (Math.sin(angle) + 1.0) / 2.0;
+    }
+
+    /**
+     * Estimates the given quantile of the values. The minimum and maximum
+     * values are returned exactly for quantiles 0.0 and 1.0. Between the
+     * centroids, the estimate is linearly interpolated.
+     *
+     * @param   quantile
+     *      The quantile to estimate. Must be between 0.0 and 1.0, inclusive.
+     * @return
+     *      The estimated quantile. It is NaN if the sketch is empty.
+     */
+    public double getQuantile(
+        final double quantile)
+    {
+        ProbabilityUtil.assertIsProbability(quantile);
+        this.compress();
+
+        final int n = this.centroidCount;
+        if (n <= 0)
+        {
+            return Double.NaN;
+        }
+
+        // Each centroid sits at the center of its weight. The minimum and
+        // maximum sit at the centers of the first and last unit of weight.
+        // This matches the usual linear interpolation between order
+        // statistics when every centroid is a single value.
+        final double total = this.totalWeight;
+        final double index = quantile * (total - 1.0) + 0.5;
+        double previousPosition = 0.5;
+        double previousValue = this.min;
+        double weightSoFar = 0.0;
+        for (int i = 0; i < n; i++)
+        {
+            final double position = weightSoFar
+                + this.centroidWeights[i] / 2.0;
+            final double value = this.centroidMeans[i];
+            if (index <= position)
+            {
+                return interpolate(index, previousPosition, previousValue,
+                    position, value);
+            }
+            previousPosition = position;
+            previousValue = value;
+            weightSoFar += this.centroidWeights[i];
+        }
+        return interpolate(index, previousPosition, previousValue,
+            total - 0.5, this.max);
+    }
+
+    /**
+     * Estimates each of the given quantiles of the values.
+     *
+     * @param   quantiles
+     *      The quantiles to estimate. All must be between 0.0 and 1.0,
+     *      inclusive.
+     * @return
+     *      An array of the same length as the given quantiles with the
+     *      estimate of each one.
+     */
+    public double[] getQuantiles(
+        final double... quantiles)
+    {
+        ArgumentChecker.assertIsNotNull("quantiles", quantiles);
+        final double[] result = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++)
+        {
+            result[i] = this.getQuantile(quantiles[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Estimates the median of the values.
+     *
+     * @return
+     *      The estimated median. It is NaN if the sketch is empty.
+     */
+    public double getMedian()
+    {
+        return this.getQuantile(0.5);
+    }
+
+    /**
+     * Linearly interpolates between two points, clamping to the end points.
+     *
+     * @param   x
+     *      The position to interpolate at.
+     * @param   x0
+     *      The position of the first point.
+     * @param   y0
+     *      The value of the first point.
+     * @param   x1
+     *      The position of the second point.
+     * @param   y1
+     *      The value of the second point.
+     * @return
+     *      The interpolated value.
+     */
+    private static double interpolate(
+        final double x,
+        final double x0,
+        final double y0,
+        final double x1,
+        final double y1)
+    {
+        if (x <= x0)
+        {
+            return y0;
+        }
+        else if (x >= x1)
+        {
+            return y1;
+        }
+        else
+        {
+            return y0 + (y1 - y0) * (x - x0) / (x1 - x0);
+        }
+    }
+
+    /**
+     * Sorts the given range of values, along with their weights, in
+     * increasing order of value.
+     *
+     * @param   values
+     *      The values to sort by.
+     * @param   weights
+     *      The weights to rearrange along with the values.
+     * @param   from
+     *      The first index to sort (inclusive).
+     * @param   to
+     *      The last index to sort (inclusive).
+     */
+    private static void sort(
+        final double[] values,
+        final double[] weights,
+        int from,
+        int to)
+    {
+        while (to - from > 16)
+        {
+            // Partition around the median of three values.
+            final int middle = (from + to) >>> 1;
+            if (values[middle] < values[from])
+            {
+                swap(values, weights, middle, from);
+            }
+            if (values[to] < values[from])
+            {
+                swap(values, weights, to, from);
+            }
+            if (values[to] < values[middle])
+            {
+                swap(values, weights, to, middle);
+            }
+            final double pivot = values[middle];
+            int i = from;
+            int j = to;
+            while (i <= j)
+            {
+                while (values[i] < pivot)
+                {
+                    i++;
+                }
+                while (values[j] > pivot)
+                {
+                    j--;
+                }
+                if (i <= j)
+                {
+                    swap(values, weights, i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            // Recurse on the smaller side to bound the stack depth.
+            if (j - from < to - i)
+            {
+                sort(values, weights, from, j);
+                from = i;
+            }
+            else
+            {
+                sort(values, weights, i, to);
+                to = j;
+            }
+        }
+
+        // Insertion sort for the small range that is left.
+        for (int i = from + 1; i <= to; i++)
+        {
+            final double value = values[i];
+            final double weight = weights[i];
+            int j = i - 1;
+            while (j >= from && values[j] > value)
+            {
+                values[j + 1] = values[j];
+                weights[j + 1] = weights[j];
+                j--;
+            }
+            values[j + 1] = value;
+            weights[j + 1] = weight;
+        }
+    }
+
+    /**
+     * Swaps two entries of the given values and weights.
+     *
+     * @param   values
+     *      The values.
+     * @param   weights
+     *      The weights.
+     * @param   i
+     *      The first index.
+     * @param   j
+     *      The second index.
+     */
+    private static void swap(
+        final double[] values,
+        final double[] weights,
+        final int i,
+        final int j)
+    {
+        final double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+        final double weight = weights[i];
+        weights[i] = weights[j];
+        weights[j] = weight;
+    }
+
+    /**
+     * Gets the compression, which bounds the number of centroids.
+     *
+     * @return
+     *      The compression.
+     */
+    public double getCompression()
+    {
+        return this.compression;
+    }
+
+    /**
+     * Gets the total weight of the values, which is the number of values
+     * when they are not weighted.
+     *
+     * @return
+     *      The total weight.
+     */
+    public double getTotalWeight()
+    {
+        return this.totalWeight;
+    }
+
+    /**
+     * Gets the number of centroids the values are summarized by.
+     *
+     * @return
+     *      The number of centroids.
+     */
+    public int getCentroidCount()
+    {
+        this.compress();
+        return this.centroidCount;
+    }
+
+    /**
+     * Gets the minimum value. It is positive infinity if the sketch is empty.
+     *
+     * @return
+     *      The minimum value.
+     */
+    public double getMin()
+    {
+        return this.min;
+    }
+
+    /**
+     * Gets the maximum value. It is negative infinity if the sketch is empty.
+     *
+     * @return
+     *      The maximum value.
+     */
+    public double getMax()
+    {
+        return this.max;
+    }
+
+    /**
+     * A summarizer that creates a {@code UnivariateQuantileSketch} of a
+     * collection of numbers.
+     */
+    public static class Summary
+        extends AbstractCloneableSerializable
+        implements Summarizer<Number, UnivariateQuantileSketch>
+    {
+
+        /** The compression of the sketches to create. */
+        protected double compression;
+
+        /**
+         * Creates a new {@code Summary} with the default compression.
+         */
+        public Summary()
+        {
+            this(DEFAULT_COMPRESSION);
+        }
+
+        /**
+         * Creates a new {@code Summary}.
+         *
+         * @param   compression
+         *      The compression of the sketches to create. Must be positive.
+         */
+        public Summary(
+            final double compression)
+        {
+            super();
+
+            this.setCompression(compression);
+        }
+
+        @Override
+        public UnivariateQuantileSketch summarize(
+            final Collection<? extends Number> data)
+        {
+            final UnivariateQuantileSketch result =
+                new UnivariateQuantileSketch(this.compression);
+            result.addAll(data);
+            return result;
+        }
+
+        /**
+         * Gets the compression of the sketches to create.
+         *
+         * @return
+         *      The compression. Must be positive.
+         */
+        public double getCompression()
+        {
+            return this.compression;
+        }
+
+        /**
+         * Sets the compression of the sketches to create.
+         *
+         * @param   compression
+         *      The compression. Must be positive.
+         */
+        public void setCompression(
+            final double compression)
+        {
+            ArgumentChecker.assertIsPositive("compression", compression);
+            this.compression = compression;
+        }
+
+    }
+
+}
@@ -0,0 +1,716 @@
+/*
+ * File:            RandomizedSingularValueDecomposition.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.math.matrix.custom;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.decomposition.AbstractSingularValueDecomposition;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A truncated singular value decomposition of a sparse matrix computed with
+ * a randomized range finder. Only the requested number of singular values and
+ * vectors are computed, so the cost is linear in the number of non-zero
+ * entries of the matrix instead of cubic in its size.
+ * <BR><BR>
+ * The matrix A is multiplied by a random Gaussian matrix with a few more
+ * columns than the requested rank to sample its range, and then a few power
+ * iterations with A and its transpose sharpen the sample toward the top
+ * singular vectors. The resulting orthonormal basis Q is used to project A
+ * into a small matrix whose decomposition gives the top singular values and
+ * vectors of A. All of the sparse products work directly on the compressed
+ * sparse row arrays of the matrix and its transpose and are split into row
+ * blocks that are run in parallel. The dense blocks are stored in row-major
+ * arrays with one row per row of the sparse matrix.
+ * <BR><BR>
+ * The bases are orthonormalized through the eigendecomposition of their
+ * small Gram matrices, which is fast and parallel for tall, thin blocks. This
+ * squares their condition numbers, so singular values smaller than about
+ * 1e-6 times the largest one are treated as zero.
+ * <BR><BR>
+ * The dense factors can be large for a large matrix, so computing either of
+ * them can be skipped. For example, latent semantic analysis of a
+ * document-by-term matrix only needs the right singular vectors.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+@PublicationReference(
+    author={"Nathan Halko", "Per-Gunnar Martinsson", "Joel A. Tropp"},
+    title="Finding Structure with Randomness: Probabilistic Algorithms for Constructing Approximate Matrix Decompositions",
+    type=PublicationType.Journal,
+    publication="SIAM Review",
+    year=2011,
+    pages={217, 288}
+)
+public class RandomizedSingularValueDecomposition
+    extends AbstractSingularValueDecomposition
+{
+
+    /**
+     * The default number of extra random columns to sample, {@value}.
+     */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+
+    /**
+     * The default number of power iterations, {@value}.
+     */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    /**
+     * The eigenvalues of a Gram matrix smaller than this times the largest
+     * are treated as zero, {@value}.
+     */
+    private static final double GRAM_TOLERANCE = 1e-12;
+
+    /**
+     * The number of random values generated by each task, {@value}.
+     */
+    private static final int RANDOM_BLOCK_SIZE = 1 << 16;
+
+    /** The right singular vectors as columns, or null. V transpose is only
+     *  created from it when it is asked for. */
+    protected Matrix V;
+
+    /**
+     * Creates a new {@code RandomizedSingularValueDecomposition}.
+     *
+     * @param   U
+     *      The left singular vectors as columns, or null.
+     * @param   S
+     *      The diagonal matrix of singular values.
+     * @param   V
+     *      The right singular vectors as columns, or null.
+     */
+    protected RandomizedSingularValueDecomposition(
+        final Matrix U,
+        final Matrix S,
+        final Matrix V)
+    {
+        super(U, S, null);
+        this.V = V;
+    }
+
+    /**
+     * Computes the truncated singular value decomposition of the given matrix
+     * with the default parameters.
+     *
+     * @param   matrix
+     *      The matrix to decompose.
+     * @param   rank
+     *      The number of singular values to compute. Must be positive.
+     * @param   random
+     *      The random number generator to use.
+     * @return
+     *      The truncated decomposition.
+     */
+    public static RandomizedSingularValueDecomposition create(
+        final SparseMatrix matrix,
+        final int rank,
+        final Random random)
+    {
+        final ThreadPoolExecutor threadPool = ParallelUtil.createThreadPool();
+        try
+        {
+            return create(matrix, rank, DEFAULT_OVERSAMPLING,
+                DEFAULT_POWER_ITERATIONS, true, true, random, threadPool);
+        }
+        finally
+        {
+            threadPool.shutdown();
+        }
+    }
+
+    /**
+     * Computes the truncated singular value decomposition of the given
+     * matrix.
+     *
+     * @param   matrix
+     *      The matrix to decompose. It is compressed if it is not already.
+     * @param   rank
+     *      The number of singular values to compute. Must be positive. Fewer
+     *      are returned if the matrix has a lower rank.
+     * @param   oversampling
+     *      The number of extra random columns to sample. Cannot be negative.
+     * @param   powerIterations
+     *      The number of power iterations. Cannot be negative. More
+     *      iterations give more accurate vectors when the singular values
+     *      decay slowly.
+     * @param   computeU
+     *      True to compute the left singular vectors. Otherwise, U is null.
+     * @param   computeV
+     *      True to compute the right singular vectors. Otherwise, V and V
+     *      transpose are null.
+     * @param   random
+     *      The random number generator to use.
+     * @param   threadPool
+     *      The thread pool to use.
+     * @return
+     *      The truncated decomposition.
+     */
+    public static RandomizedSingularValueDecomposition create(
+        final SparseMatrix matrix,
+        final int rank,
+        final int oversampling,
+        final int powerIterations,
+        final boolean computeU,
+        final boolean computeV,
+        final Random random,
+        final ThreadPoolExecutor threadPool)
+    {
+        ArgumentChecker.assertIsPositive("rank", rank);
+        ArgumentChecker.assertIsNonNegative("oversampling", oversampling);
+        ArgumentChecker.assertIsNonNegative("powerIterations",
+            powerIterations);
+
+        final int m = matrix.getNumRows();
+        final int n = matrix.getNumColumns();
+        ArgumentChecker.assertIsPositive("numRows", m);
+        ArgumentChecker.assertIsPositive("numColumns", n);
+        final int[] firstInRows = matrix.getFirstInRows();
+        final int[] columnIndices = matrix.getColumnIndices();
+        final double[] values = matrix.getValues();
+
+        // Build the transpose in the same format for the products with A^T.
+        final int nonZeros = values.length;
+        final int[] firstInColumns = new int[n + 1];
+        for (int i = 0; i < nonZeros; i++)
+        {
+            firstInColumns[columnIndices[i] + 1]++;
+        }
+        for (int j = 0; j < n; j++)
+        {
+            firstInColumns[j + 1] += firstInColumns[j];
+        }
+        final int[] rowIndices = new int[nonZeros];
+        final double[] transposeValues = new double[nonZeros];
+        final int[] next = firstInColumns.clone();
+        for (int i = 0; i < m; i++)
+        {
+            for (int p = firstInRows[i]; p < firstInRows[i + 1]; p++)
+            {
+                final int position = next[columnIndices[p]]++;
+                rowIndices[position] = i;
+                transposeValues[position] = values[p];
+            }
+        }
+
+        // Sample the range of A with a random Gaussian matrix.
+        int width = Math.min(rank + oversampling, Math.min(m, n));
+        checkedSize(m, width);
+        final double[] omega = gaussian(checkedSize(n, width), random,
+            threadPool);
+        double[] q = multiply(firstInRows, columnIndices, values, m, omega,
+            width, threadPool);
+        q = orthonormalize(q, m, width, threadPool);
+        width = q.length / m;
+
+        for (int iteration = 0; iteration < powerIterations && width > 0;
+            iteration++)
+        {
+            double[] z = multiply(firstInColumns, rowIndices, transposeValues,
+                n, q, width, threadPool);
+            z = orthonormalize(z, n, width, threadPool);
+            width = z.length / n;
+            q = multiply(firstInRows, columnIndices, values, m, z, width,
+                threadPool);
+            q = orthonormalize(q, m, width, threadPool);
+            width = q.length / m;
+        }
+
+        // Project A onto the basis: B^T = A^T Q. The singular vectors of B
+        // come from the eigendecomposition of B B^T.
+        final double[] b = multiply(firstInColumns, rowIndices,
+            transposeValues, n, q, width, threadPool);
+        final double[] gram = gram(b, n, width, threadPool);
+        final double[] eigenvalues = new double[width];
+        final double[] eigenvectors = eigen(gram, width, eigenvalues);
+        int k = 0;
+        while (k < Math.min(rank, width) && eigenvalues[k] > 0.0
+            && eigenvalues[k] >= GRAM_TOLERANCE * eigenvalues[0])
+        {
+            k++;
+        }
+
+        final DenseMatrix S = new DenseMatrix(k, k);
+        final double[] transform = new double[width * k];
+        final double[] scaledTransform = new double[width * k];
+        for (int c = 0; c < k; c++)
+        {
+            final double singularValue = Math.sqrt(eigenvalues[c]);
+            S.setElement(c, c, singularValue);
+            for (int a = 0; a < width; a++)
+            {
+                transform[a * k + c] = eigenvectors[a * width + c];
+                scaledTransform[a * k + c] =
+                    eigenvectors[a * width + c] / singularValue;
+            }
+        }
+
+        Matrix U = null;
+        if (computeU)
+        {
+            U = toMatrix(times(q, m, width, transform, k, threadPool), m, k);
+        }
+        Matrix V = null;
+        if (computeV)
+        {
+            V = toMatrix(times(b, n, width, scaledTransform, k, threadPool),
+                n, k);
+        }
+
+        return new RandomizedSingularValueDecomposition(U, S, V);
+    }
+
+    /**
+     * Gets the right singular vectors as the columns of a matrix. This avoids
+     * transposing them, which getVtranspose does the first time it is called.
+     *
+     * @return
+     *      The right singular vectors as columns, or null if they were not
+     *      computed.
+     */
+    public Matrix getV()
+    {
+        return this.V;
+    }
+
+    @Override
+    public Matrix getVtranspose()
+    {
+        Matrix Vtranspose = super.getVtranspose();
+        if (Vtranspose == null && this.V != null)
+        {
+            Vtranspose = this.V.transpose();
+            this.setVtranspose(Vtranspose);
+        }
+        return Vtranspose;
+    }
+
+    /**
+     * Computes the number of values in a row-major dense block, making sure
+     * that it fits in an array.
+     *
+     * @param   numRows
+     *      The number of rows.
+     * @param   numColumns
+     *      The number of columns.
+     * @return
+     *      The number of values.
+     * @throws  IllegalArgumentException
+     *      If the block is too large for an array.
+     */
+    private static int checkedSize(
+        final int numRows,
+        final int numColumns)
+    {
+        final long size = (long) numRows * numColumns;
+        if (size > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("A dense block of " + numRows
+                + " by " + numColumns + " is too large for an array.");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Creates a block of independent standard Gaussian values. The values
+     * only depend on the seed, not on the number of threads.
+     *
+     * @param   length
+     *      The number of values.
+     * @param   random
+     *      The random number generator used to seed the block generators.
+     * @param   threadPool
+     *      The thread pool to use.
+     * @return
+     *      The array of values.
+     */
+    private static double[] gaussian(
+        final int length,
+        final Random random,
+        final ThreadPoolExecutor threadPool)
+    {
+        final double[] result = new double[length];
+        final SplitMixRandom root = new SplitMixRandom(random.nextLong());
+        final ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int start = 0; start < length; start += RANDOM_BLOCK_SIZE)
+        {
+            final int begin = start;
+            final int end = Math.min(length, start + RANDOM_BLOCK_SIZE);
+            final Random blockRandom = root.split();
+            tasks.add(() ->
+            {
+                for (int i = begin; i < end; i++)
+                {
+                    result[i] = blockRandom.nextGaussian();
+                }
+                return null;
+            });
+        }
+        execute(tasks, threadPool);
+        return result;
+    }
+
+    /**
+     * Multiplies a sparse matrix in compressed sparse row format by a dense
+     * row-major block.
+     *
+     * @param   firstInRows
+     *      The index of the first value of each row.
+     * @param   indices
+     *      The column index of each value.
+     * @param   values
+     *      The values.
+     * @param   numRows
+     *      The number of rows of the sparse matrix.
+     * @param   block
+     *      The dense block, with one row per column of the sparse matrix.
+     * @param   width
+     *      The number of columns of the dense block.
+     * @param   threadPool
+     *      The thread pool to use.
+     * @return
+     *      The row-major product, with one row per row of the sparse matrix.
+     */
+    private static double[] multiply(
+        final int[] firstInRows,
+        final int[] indices,
+        final double[] values,
+        final int numRows,
+        final double[] block,
+        final int width,
+        final ThreadPoolExecutor threadPool)
+    {
+        final double[] result = new double[checkedSize(numRows, width)];
+        final ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int[] range : ranges(numRows, threadPool))
+        {
+            tasks.add(() ->
+            {
+                for (int i = range[0]; i < range[1]; i++)
+                {
+                    final int offset = i * width;
+                    for (int p = firstInRows[i]; p < firstInRows[i + 1]; p++)
+                    {
+                        final double value = values[p];
+                        final int other = indices[p] * width;
+                        for (int c = 0; c < width; c++)
+                        {
+                            result[offset + c] += value * block[other + c];
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        execute(tasks, threadPool);
+        return result;
+    }
+
+    /**
+     * Multiplies a dense row-major block by a small row-major matrix.
+     *
+     * @param   block
+     *      The dense block.
+     * @param   numRows
+     *      The number of rows of the block.
+     * @param   width
+     *      The number of columns of the block.
+     * @param   small
+     *      The small matrix, which has width rows.
+     * @param   columns
+     *      The number of columns of the small matrix.
+     * @param   threadPool
+     *      The thread pool to use.
+     * @return
+     *      The row-major product.
+     */
+    private static double[] times(
+        final double[] block,
+        final int numRows,
+        final int width,
+        final double[] small,
+        final int columns,
+        final ThreadPoolExecutor threadPool)
+    {
+        final double[] result = new double[checkedSize(numRows, columns)];
+        final ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int[] range : ranges(numRows, threadPool))
+        {
+            tasks.add(() ->
+            {
+                for (int i = range[0]; i < range[1]; i++)
+                {
+                    final int offset = i * columns;
+                    for (int a = 0; a < width; a++)
+                    {
+                        final double value = block[i * width + a];
+                        for (int c = 0; c < columns; c++)
+                        {
+                            result[offset + c] += value * small[a * columns + c];
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        execute(tasks, threadPool);
+        return result;
+    }
+
+    /**
+     * Computes the Gram matrix of the columns of a dense row-major block.
+     *
+     * @param   block
+     *      The dense block.
+     * @param   numRows
+     *      The number of rows of the block.
+     * @param   width
+     *      The number of columns of the block.
+     * @param   threadPool
+     *      The thread pool to use.
+     * @return
+     *      The row-major width-by-width Gram matrix.
+     */
+    private static double[] gram(
+        final double[] block,
+        final int numRows,
+        final int width,
+        final ThreadPoolExecutor threadPool)
+    {
+        final ArrayList<int[]> ranges = ranges(numRows, threadPool);
+        final double[][] partials = new double[ranges.size()][];
+        final ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int r = 0; r < ranges.size(); r++)
+        {
+            final int index = r;
+            final int[] range = ranges.get(r);
+            tasks.add(() ->
+            {
+                final double[] partial = new double[width * width];
+                for (int i = range[0]; i < range[1]; i++)
+                {
+                    final int offset = i * width;
+                    for (int a = 0; a < width; a++)
+                    {
+                        final double value = block[offset + a];
+                        if (value != 0.0)
+                        {
+                            for (int c = a; c < width; c++)
+                            {
+                                partial[a * width + c] +=
+                                    value * block[offset + c];
+                            }
+                        }
+                    }
+                }
+                partials[index] = partial;
+                return null;
+            });
+        }
+        execute(tasks, threadPool);
+
+        final double[] result = new double[width * width];
+        for (double[] partial : partials)
+        {
+            for (int i = 0; i < result.length; i++)
+            {
+                result[i] += partial[i];
+            }
+        }
+        for (int a = 0; a < width; a++)
+        {
+            for (int c = 0; c < a; c++)
+            {
+                result[a * width + c] = result[c * width + a];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Orthonormalizes the columns of a dense row-major block. Columns that
+     * are linearly dependent on the others are dropped, so the result may
+     * be narrower. Two passes are made to restore the orthogonality lost by
+     * forming the Gram matrix.
+     *
+     * @param   block
+     *      The dense block.
+     * @param   numRows
+     *      The number of rows of the block.
+     * @param   width
+     *      The number of columns of the block.
+     * @param   threadPool
+     *      The thread pool to use.
+     * @return
+     *      A row-major block with orthonormal columns that span the same
+     *      space.
+     */
+    private static double[] orthonormalize(
+        final double[] block,
+        final int numRows,
+        final int width,
+        final ThreadPoolExecutor threadPool)
+    {
+        double[] result = block;
+        int currentWidth = width;
+        for (int pass = 0; pass < 2 && currentWidth > 0; pass++)
+        {
+            final double[] gram = gram(result, numRows, currentWidth,
+                threadPool);
+            final double[] eigenvalues = new double[currentWidth];
+            final double[] eigenvectors = eigen(gram, currentWidth,
+                eigenvalues);
+            int kept = 0;
+            while (kept < currentWidth && eigenvalues[kept] > 0.0
+                && eigenvalues[kept] >= GRAM_TOLERANCE * eigenvalues[0])
+            {
+                kept++;
+            }
+
+            // Q = Y W diag(1 / sqrt(lambda)) has orthonormal columns.
+            final double[] transform = new double[currentWidth * kept];
+            for (int c = 0; c < kept; c++)
+            {
+                final double scale = 1.0 / Math.sqrt(eigenvalues[c]);
+                for (int a = 0; a < currentWidth; a++)
+                {
+                    transform[a * kept + c] =
+                        eigenvectors[a * currentWidth + c] * scale;
+                }
+            }
+            result = times(result, numRows, currentWidth, transform, kept,
+                threadPool);
+            currentWidth = kept;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the eigendecomposition of a small symmetric positive
+     * semi-definite matrix.
+     *
+     * @param   matrix
+     *      The row-major matrix.
+     * @param   size
+     *      The number of rows and columns.
+     * @param   eigenvalues
+     *      The array to write the eigenvalues into, in decreasing order.
+     * @return
+     *      The row-major matrix whose columns are the eigenvectors.
+     */
+    private static double[] eigen(
+        final double[] matrix,
+        final int size,
+        final double[] eigenvalues)
+    {
+        final double[] result = new double[size * size];
+        if (size == 0)
+        {
+            return result;
+        }
+
+        // For a symmetric positive semi-definite matrix, the singular value
+        // decomposition is the eigendecomposition.
+        final DenseMatrix dense = toMatrix(matrix, size, size);
+        final DenseMatrix.SVD svd = dense.svdDecompose();
+        for (int a = 0; a < size; a++)
+        {
+            eigenvalues[a] = svd.Sigma.getElement(a, a);
+            for (int c = 0; c < size; c++)
+            {
+                result[a * size + c] = svd.U.getElement(a, c);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts a row-major array into a dense matrix.
+     *
+     * @param   values
+     *      The row-major values.
+     * @param   numRows
+     *      The number of rows.
+     * @param   numColumns
+     *      The number of columns.
+     * @return
+     *      The dense matrix.
+     */
+    private static DenseMatrix toMatrix(
+        final double[] values,
+        final int numRows,
+        final int numColumns)
+    {
+        final DenseVector[] rows = new DenseVector[numRows];
+        for (int i = 0; i < numRows; i++)
+        {
+            rows[i] = new DenseVector(numColumns);
+            System.arraycopy(values, i * numColumns, rows[i].values, 0,
+                numColumns);
+        }
+        return new DenseMatrix(rows);
+    }
+
+    /**
+     * Splits a number of rows into contiguous ranges, a few per thread.
+     *
+     * @param   numRows
+     *      The number of rows.
+     * @param   threadPool
+     *      The thread pool that will be used.
+     * @return
+     *      The start (inclusive) and end (exclusive) of each range.
+     */
+    private static ArrayList<int[]> ranges(
+        final int numRows,
+        final ThreadPoolExecutor threadPool)
+    {
+        final int count = Math.max(1, Math.min(numRows,
+            4 * ParallelUtil.getNumThreads(threadPool)));
+        final ArrayList<int[]> result = new ArrayList<int[]>(count);
+        for (int r = 0; r < count; r++)
+        {
+            result.add(new int[] { (int) ((long) numRows * r / count),
+                (int) ((long) numRows * (r + 1) / count) });
+        }
+        return result;
+    }
+
+    /**
+     * Executes the given tasks.
+     *
+     * @param   tasks
+     *      The tasks.
+     * @param   threadPool
+     *      The thread pool to use.
+     */
+    private static void execute(
+        final ArrayList<Callable<Void>> tasks,
+        final ThreadPoolExecutor threadPool)
+    {
+        try
+        {
+            ParallelUtil.executeInParallel(tasks, threadPool);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
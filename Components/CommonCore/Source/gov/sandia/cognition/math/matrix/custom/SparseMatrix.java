@@ -153,7 +153,16 @@ public class SparseMatrix
 
         for (int i = 0; i < getNumRows(); ++i)
         {
-            rows[i].clear();
+            // The rows are not created while compressed when the matrix was
+            // built directly from compressed arrays.
+            if (rows[i] == null)
+            {
+                rows[i] = new SparseVector(numCols);
+            }
+            else
+            {
+                rows[i].clear();
+            }
             for (int j = firstIndicesForRows[i]; j < firstIndicesForRows[i + 1]; ++j)
             {
                 rows[i].setElement(columnIndices[j], values[j]);
@@ -269,10 +278,7 @@ public class SparseMatrix
         rows = new SparseVector[m.rows.length];
         if (m.isCompressed())
         {
-            for (int i = 0; i < this.numRows; ++i)
-            {
-                rows[i] = new SparseVector(m.numCols);
-            }
+            // The sparse rows are only created if the matrix is decompressed.
             values = Arrays.copyOf(m.values, m.values.length);
             firstIndicesForRows = Arrays.copyOf(m.firstIndicesForRows,
                 m.firstIndicesForRows.length);
@@ -368,6 +374,71 @@ public class SparseMatrix
         firstIndicesForRows[numRows] = idx;
     }
 
+    /**
+     * Creates a new sparse matrix directly from arrays in the compressed Yale
+     * (compressed sparse row) format. This avoids building the sparse rows
+     * one element at a time, which is much faster for large matrices.
+     *
+     * NOTE: Upon completion this is in the compressed Yale format. The arrays
+     * are used directly, not copied, so they should not be changed afterward.
+     *
+     * @param numRows The number of rows in the matrix
+     * @param numCols The number of columns in the matrix
+     * @param firstIndicesForRows The index in the other arrays of the first
+     * value of each row, followed by the number of values. Must have length
+     * numRows + 1, start at zero, and be non-decreasing.
+     * @param columnIndices The column index of each value. They must be in
+     * increasing order within each row.
+     * @param values The values. Must have the same length as columnIndices.
+     * @throws IllegalArgumentException if the arrays are not a valid matrix
+     * in the compressed Yale format.
+     */
+    public SparseMatrix(
+        final int numRows,
+        final int numCols,
+        final int[] firstIndicesForRows,
+        final int[] columnIndices,
+        final double[] values)
+    {
+        ArgumentChecker.assertIsNonNegative("numRows", numRows);
+        ArgumentChecker.assertIsNonNegative("numCols", numCols);
+        if (firstIndicesForRows.length != numRows + 1
+            || firstIndicesForRows[0] != 0
+            || firstIndicesForRows[numRows] != values.length
+            || columnIndices.length != values.length)
+        {
+            throw new IllegalArgumentException("The array lengths do not "
+                + "match the compressed Yale format.");
+        }
+        for (int i = 0; i < numRows; ++i)
+        {
+            final int start = firstIndicesForRows[i];
+            final int end = firstIndicesForRows[i + 1];
+            if (end < start)
+            {
+                throw new IllegalArgumentException(
+                    "firstIndicesForRows must be non-decreasing.");
+            }
+            for (int j = start; j < end; ++j)
+            {
+                if (columnIndices[j] < 0 || columnIndices[j] >= numCols
+                    || (j > start && columnIndices[j] <= columnIndices[j - 1]))
+                {
+                    throw new IllegalArgumentException("The column indices of "
+                        + "row " + i + " must be increasing and in range.");
+                }
+            }
+        }
+
+        this.numRows = numRows;
+        this.numCols = numCols;
+        // The sparse rows are only created if the matrix is decompressed.
+        rows = new SparseVector[numRows];
+        this.firstIndicesForRows = firstIndicesForRows;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
     /**
      * Package-private helper that creates a completely empty matrix (neither
      * format initialized). It is assumed that the calling function will
@@ -418,10 +489,7 @@ public class SparseMatrix
         clone.rows = new SparseVector[this.rows.length];
         if (this.isCompressed())
         {
-            for (int i = 0; i < this.numRows; ++i)
-            {
-                clone.rows[i] = new SparseVector(this.numCols);
-            }
+            // The sparse rows are only created if the matrix is decompressed.
             clone.values = Arrays.copyOf(this.values, this.values.length);
             clone.firstIndicesForRows = Arrays.copyOf(this.firstIndicesForRows,
                 this.firstIndicesForRows.length);
@@ -2067,7 +2135,10 @@ public class SparseMatrix
         // First get rid of any values already in there
         for (int i = 0; i < numRows; ++i)
         {
-            rows[i].clear();
+            if (rows[i] != null)
+            {
+                rows[i].clear();
+            }
         }
         // Kill compressed representation if there ... update to new values
         int diagLen = (numRows <= numCols) ? numRows : numCols;
@@ -2210,7 +2281,10 @@ public class SparseMatrix
         // Fill the data in
         for (int i = 0; i < numRows; ++i)
         {
-            rows[i].clear();
+            if (rows[i] != null)
+            {
+                rows[i].clear();
+            }
             firstIndicesForRows[i] = idx;
             for (int j = 0; j < numCols; ++j)
             {
@@ -2638,11 +2712,8 @@ public class SparseMatrix
         columnIndices = (int[]) ois.readObject();
         firstIndicesForRows = (int[]) ois.readObject();
         values = (double[]) ois.readObject();
+        // The sparse rows are only created if the matrix is decompressed.
         rows = new SparseVector[numRows];
-        for (int i = 0; i < this.numRows; ++i)
-        {
-            rows[i] = new SparseVector(numCols);
-        }
     }
 
 }
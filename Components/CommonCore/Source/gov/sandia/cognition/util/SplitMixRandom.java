@@ -0,0 +1,203 @@
+/*
+ * File:            SplitMixRandom.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.util;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import java.util.Random;
+
+/**
+ * A fast, splittable extension of {@code java.util.Random} that uses the
+ * SplitMix64 generator, the same one as {@code java.util.SplittableRandom}.
+ * Its state is a single 64-bit counter that is not synchronized, so it
+ * avoids the atomic update that {@code java.util.Random} does for every
+ * call, and it produces 64 random bits per step instead of 32.
+ * <BR><BR>
+ * The {@link #split()} method creates a new generator whose sequence is
+ * statistically independent of this one. This allows a parallel algorithm
+ * to give each task its own generator, split off in a fixed order from one
+ * seeded generator, so that the results are reproducible no matter how the
+ * tasks are scheduled.
+ * <BR><BR>
+ * Unlike {@code java.util.Random}, this class is not thread-safe. Each thread
+ * should use its own generator.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+@PublicationReference(
+    author={"Guy L. Steele", "Doug Lea", "Christine H. Flood"},
+    title="Fast Splittable Pseudorandom Number Generators",
+    type=PublicationType.Conference,
+    publication="Proceedings of the 2014 ACM International Conference on Object Oriented Programming Systems Languages & Applications",
+    year=2014,
+    pages={453, 472}
+)
+public class SplitMixRandom
+    extends Random
+{
+
+    /** The increment for the default generator sequence. */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** The state of the generator. */
+    private long state;
+
+    /** The increment added to the state at each step. It is always odd. */
+    private long gamma;
+
+    /**
+     * Creates a new {@code SplitMixRandom} with a seed from
+     * {@code System.nanoTime()} mixed with a new {@code Random}.
+     */
+    public SplitMixRandom()
+    {
+        this(new Random().nextLong() ^ System.nanoTime());
+    }
+
+    /**
+     * Creates a new {@code SplitMixRandom} with the given seed.
+     *
+     * @param   seed
+     *      The seed.
+     */
+    public SplitMixRandom(
+        final long seed)
+    {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates a new {@code SplitMixRandom} with the given state and
+     * increment.
+     *
+     * @param   state
+     *      The initial state.
+     * @param   gamma
+     *      The increment. Must be odd.
+     */
+    protected SplitMixRandom(
+        final long state,
+        final long gamma)
+    {
+        super(0L);
+
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    @Override
+    public SplitMixRandom clone()
+    {
+        return new SplitMixRandom(this.state, this.gamma);
+    }
+
+    /**
+     * Creates a new generator that is split off of this one. This advances
+     * this generator by two steps.
+     *
+     * @return
+     *      A new generator whose sequence is independent of this one.
+     */
+    public SplitMixRandom split()
+    {
+        return new SplitMixRandom(mix64(this.nextSeed()),
+            mixGamma(this.nextSeed()));
+    }
+
+    @Override
+    public void setSeed(
+        final long seed)
+    {
+        // This is called by the super constructor before the fields are
+        // initialized, so it must only set fields.
+        this.state = seed;
+        this.gamma = GOLDEN_GAMMA;
+    }
+
+    /**
+     * Advances the state.
+     *
+     * @return
+     *      The new state.
+     */
+    private long nextSeed()
+    {
+        return this.state += this.gamma;
+    }
+
+    /**
+     * The finalizer of MurmurHash3, which mixes the bits of a value.
+     *
+     * @param   value
+     *      The value to mix.
+     * @return
+     *      The mixed value.
+     */
+    private static long mix64(
+        final long value)
+    {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Mixes a value into an increment for a split generator. The result is
+     * odd and has enough bit transitions to be a good increment.
+     *
+     * @param   value
+     *      The value to mix.
+     * @return
+     *      The increment.
+     */
+    private static long mixGamma(
+        final long value)
+    {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        final int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+
+    @Override
+    protected int next(
+        final int bits)
+    {
+        return (int) (mix64(this.nextSeed()) >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong()
+    {
+        return mix64(this.nextSeed());
+    }
+
+    @Override
+    public int nextInt()
+    {
+        return (int) (mix64(this.nextSeed()) >>> 32);
+    }
+
+    @Override
+    public double nextDouble()
+    {
+        return (mix64(this.nextSeed()) >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public boolean nextBoolean()
+    {
+        return mix64(this.nextSeed()) < 0L;
+    }
+
+}
@@ -418,6 +418,29 @@ public class CollectionUtilTest
 
     }
 
+    /**
+     * Tests asRandomAccessList
+     */
+    public void testAsRandomAccessList()
+    {
+        System.out.println("asRandomAccessList");
+
+        List<Double> values = Arrays.asList(1.0, 2.0, 3.0, 4.0);
+        assertSame(values, CollectionUtil.asRandomAccessList(values));
+
+        LinkedList<Double> linked = new LinkedList<Double>(values);
+        List<Double> a0 = CollectionUtil.asRandomAccessList(linked);
+        assertNotSame(linked, a0);
+        assertEquals(values, a0);
+
+        HashSet<Double> set = new HashSet<Double>(values);
+        List<Double> a1 = CollectionUtil.asRandomAccessList(set);
+        assertEquals(values.size(), a1.size());
+        assertTrue(a1.containsAll(values));
+
+        assertNull(CollectionUtil.asRandomAccessList(null));
+    }
+
     /**
      * Tests ObjectUtil.getElement
      */
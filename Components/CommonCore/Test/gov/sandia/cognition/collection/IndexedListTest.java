@@ -0,0 +1,154 @@
+/*
+ * File:            IndexedListTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code IndexedList}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class IndexedListTest
+    extends TestCase
+{
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public IndexedListTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class IndexedList.
+     */
+    public void testConstructors()
+    {
+        final List<String> list = Arrays.asList("a", "b", "c", "d");
+        final int[] indices = { 3, 1, 0, 2 };
+
+        IndexedList<String> instance = new IndexedList<String>(list, indices);
+        assertSame(list, instance.getList());
+        assertEquals(Arrays.asList("d", "b", "a", "c"), instance);
+
+        instance = new IndexedList<String>(list, indices, 1, 3);
+        assertEquals(Arrays.asList("b", "a"), instance);
+
+        instance = new IndexedList<String>(list, indices, 2, 2);
+        assertTrue(instance.isEmpty());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance = new IndexedList<String>(list, indices, -1, 2);
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance = new IndexedList<String>(list, indices, 0, 5);
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance = new IndexedList<String>(list, indices, 3, 2);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of createRangeExcluded method, of class IndexedList.
+     */
+    public void testCreateRangeExcluded()
+    {
+        final ArrayList<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 10; i++)
+        {
+            list.add(10 * i);
+        }
+        final int[] indices = { 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 };
+
+        for (int from = 0; from <= indices.length; from++)
+        {
+            for (int to = from; to <= indices.length; to++)
+            {
+                final IndexedList<Integer> included = new IndexedList<Integer>(
+                    list, indices, from, to);
+                final IndexedList<Integer> excluded =
+                    IndexedList.createRangeExcluded(list, indices, from, to);
+                assertEquals(to - from, included.size());
+                assertEquals(indices.length - (to - from), excluded.size());
+
+                // Together they hold all of the elements exactly once.
+                final ArrayList<Integer> all = new ArrayList<Integer>(excluded);
+                all.addAll(included);
+                assertEquals(list.size(), all.size());
+                assertTrue(all.containsAll(list));
+
+                for (int i = 0; i < included.size(); i++)
+                {
+                    assertEquals(list.get(indices[from + i]), included.get(i));
+                }
+                for (int i = 0; i < excluded.size(); i++)
+                {
+                    final int position = i < from ? i : i + to - from;
+                    assertEquals(list.get(indices[position]), excluded.get(i));
+                }
+
+                boolean exceptionThrown = false;
+                try
+                {
+                    excluded.get(excluded.size());
+                }
+                catch (IndexOutOfBoundsException e)
+                {
+                    exceptionThrown = true;
+                }
+                finally
+                {
+                    assertTrue(exceptionThrown);
+                }
+            }
+        }
+    }
+
+}
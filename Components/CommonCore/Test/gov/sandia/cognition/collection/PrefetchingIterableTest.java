@@ -0,0 +1,184 @@
+/*
+ * File:            PrefetchingIterableTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.collection;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class PrefetchingIterable.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class PrefetchingIterableTest
+    extends TestCase
+{
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public PrefetchingIterableTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class PrefetchingIterable.
+     */
+    public void testConstructors()
+    {
+        ArrayList<Integer> source = new ArrayList<Integer>();
+        PrefetchingIterable<Integer> instance =
+            new PrefetchingIterable<Integer>(source);
+        assertSame(source, instance.getSource());
+        assertEquals(PrefetchingIterable.DEFAULT_BATCH_SIZE,
+            instance.getBatchSize());
+        assertEquals(PrefetchingIterable.DEFAULT_BATCH_COUNT,
+            instance.getBatchCount());
+
+        instance = new PrefetchingIterable<Integer>(source, 7, 3);
+        assertEquals(7, instance.getBatchSize());
+        assertEquals(3, instance.getBatchCount());
+    }
+
+    /**
+     * Test of iterator method, of class PrefetchingIterable.
+     */
+    public void testIterator()
+    {
+        for (int size : new int[] { 0, 1, 9, 10, 11, 1000 })
+        {
+            ArrayList<Integer> source = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++)
+            {
+                source.add(i);
+            }
+
+            PrefetchingIterable<Integer> instance =
+                new PrefetchingIterable<Integer>(source, 10, 2);
+            for (int pass = 0; pass < 2; pass++)
+            {
+                ArrayList<Integer> result = new ArrayList<Integer>();
+                for (Integer value : instance)
+                {
+                    result.add(value);
+                }
+                assertEquals(source, result);
+            }
+
+            Iterator<Integer> it = instance.iterator();
+            for (int i = 0; i < size; i++)
+            {
+                assertTrue(it.hasNext());
+                it.next();
+            }
+            assertFalse(it.hasNext());
+
+            boolean exceptionThrown = false;
+            try
+            {
+                it.next();
+            }
+            catch (NoSuchElementException e)
+            {
+                exceptionThrown = true;
+            }
+            finally
+            {
+                assertTrue(exceptionThrown);
+            }
+        }
+    }
+
+    /**
+     * Tests that an error in the source is rethrown by the iterator after the
+     * values before it.
+     */
+    public void testIteratorError()
+    {
+        Iterable<Integer> source = new Iterable<Integer>()
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                return new Iterator<Integer>()
+                {
+                    int count = 0;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return true;
+                    }
+
+                    @Override
+                    public Integer next()
+                    {
+                        if (this.count >= 5)
+                        {
+                            throw new IllegalStateException("bad data");
+                        }
+                        return this.count++;
+                    }
+
+                    @Override
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+
+        int count = 0;
+        boolean exceptionThrown = false;
+        try
+        {
+            for (Integer value : new PrefetchingIterable<Integer>(source, 2, 1))
+            {
+                assertEquals(count, (int) value);
+                count++;
+            }
+        }
+        catch (IllegalStateException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(5, count);
+    }
+
+    /**
+     * Test of close method, of class PrefetchingIterable.PrefetchingIterator.
+     */
+    public void testClose()
+    {
+        ArrayList<Integer> source = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++)
+        {
+            source.add(i);
+        }
+        PrefetchingIterable.PrefetchingIterator<Integer> it =
+            new PrefetchingIterable<Integer>(source, 3, 1).iterator();
+        assertEquals(0, (int) it.next());
+        it.close();
+        assertFalse(it.hasNext());
+    }
+
+}
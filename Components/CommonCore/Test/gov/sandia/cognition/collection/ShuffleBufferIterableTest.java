@@ -0,0 +1,126 @@
+/*
+ * File:            ShuffleBufferIterableTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ShuffleBufferIterable.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ShuffleBufferIterableTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(3333);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ShuffleBufferIterableTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class ShuffleBufferIterable.
+     */
+    public void testConstructors()
+    {
+        ArrayList<Integer> source = new ArrayList<Integer>();
+        ShuffleBufferIterable<Integer> instance =
+            new ShuffleBufferIterable<Integer>(source, random);
+        assertSame(source, instance.getSource());
+        assertEquals(ShuffleBufferIterable.DEFAULT_BUFFER_SIZE,
+            instance.getBufferSize());
+        assertSame(random, instance.getRandom());
+
+        instance = new ShuffleBufferIterable<Integer>(source, 12, random);
+        assertEquals(12, instance.getBufferSize());
+    }
+
+    /**
+     * Test of iterator method, of class ShuffleBufferIterable.
+     */
+    public void testIterator()
+    {
+        for (int size : new int[] { 0, 1, 5, 50, 500 })
+        {
+            ArrayList<Integer> source = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++)
+            {
+                source.add(i);
+            }
+
+            for (int bufferSize : new int[] { 1, 10, 1000 })
+            {
+                ShuffleBufferIterable<Integer> instance =
+                    new ShuffleBufferIterable<Integer>(source, bufferSize,
+                        random);
+                ArrayList<Integer> result = new ArrayList<Integer>();
+                for (Integer value : instance)
+                {
+                    result.add(value);
+                }
+
+                if (bufferSize == 1)
+                {
+                    // A buffer of one keeps the original order.
+                    assertEquals(source, result);
+                }
+                else if (size >= 50)
+                {
+                    assertFalse(source.equals(result));
+                }
+
+                // It must be a permutation.
+                Collections.sort(result);
+                assertEquals(source, result);
+            }
+        }
+    }
+
+    /**
+     * Test of setBufferSize method, of class ShuffleBufferIterable.
+     */
+    public void testSetBufferSize()
+    {
+        ShuffleBufferIterable<Integer> instance =
+            new ShuffleBufferIterable<Integer>(new ArrayList<Integer>(),
+                random);
+        instance.setBufferSize(1);
+        assertEquals(1, instance.getBufferSize());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setBufferSize(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(1, instance.getBufferSize());
+    }
+
+}
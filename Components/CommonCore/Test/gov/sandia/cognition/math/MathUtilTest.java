@@ -142,6 +142,44 @@ public class MathUtilTest
 
     }
 
+    /**
+     * Test of digammaFunction method, of class MathUtil.
+     */
+    public void testDigammaFunction()
+    {
+        System.out.println( "digammaFunction" );
+
+        // Euler-Mascheroni constant.
+        final double gamma = 0.57721566490153286;
+        assertEquals( -gamma, MathUtil.digammaFunction( 1.0 ), 1e-12 );
+        assertEquals( -gamma - 2.0 * Math.log( 2.0 ),
+            MathUtil.digammaFunction( 0.5 ), 1e-12 );
+        assertEquals( 1.0 - gamma, MathUtil.digammaFunction( 2.0 ), 1e-12 );
+        assertEquals( -10.423754940411076, MathUtil.digammaFunction( 0.1 ), 1e-11 );
+        assertEquals( 2.2517525890667211, MathUtil.digammaFunction( 10.0 ), 1e-12 );
+        assertEquals( 4.6001618527380874, MathUtil.digammaFunction( 100.0 ), 1e-12 );
+
+        // The derivative of the log Gamma function.
+        for (int i = 0; i < 10; i++)
+        {
+            final double x = 0.5 + RANDOM.nextDouble() * 20.0;
+            final double h = 1e-3;
+            final double derivative = (MathUtil.logGammaFunction( x + h )
+                - MathUtil.logGammaFunction( x - h )) / (2.0 * h);
+            assertEquals( derivative, MathUtil.digammaFunction( x ), 1e-5 );
+        }
+
+        try
+        {
+            MathUtil.digammaFunction( 0.0 );
+            fail( "x > 0" );
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println( "Good: " + e );
+        }
+    }
+
     /**
      * Test of evaluate method, of class gov.sandia.cognition.learning.util.statistics.Statistics.GammaFunction.Incomplete.
      */
@@ -0,0 +1,168 @@
+/*
+ * File:            UnivariateMomentSketchTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.math;
+
+import gov.sandia.cognition.util.Pair;
+import java.util.ArrayList;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code UnivariateMomentSketch}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class UnivariateMomentSketchTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(211);
+
+    /** Tolerance. */
+    protected static final double EPSILON = 1e-8;
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public UnivariateMomentSketchTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Creates some skewed random data.
+     *
+     * @param   count The number of values.
+     * @return  The data.
+     */
+    protected ArrayList<Double> createData(
+        final int count)
+    {
+        final ArrayList<Double> result = new ArrayList<Double>(count);
+        for (int i = 0; i < count; i++)
+        {
+            result.add(1000.0 + Math.exp(this.random.nextGaussian()));
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the sketch matches the statistics of the data.
+     *
+     * @param   data The data.
+     * @param   sketch The sketch.
+     */
+    protected void checkSketch(
+        final ArrayList<Double> data,
+        final UnivariateMomentSketch sketch)
+    {
+        final Pair<Double, Double> meanAndVariance =
+            UnivariateStatisticsUtil.computeMeanAndVariance(data);
+        assertEquals(data.size(), sketch.getCount());
+        assertEquals(UnivariateStatisticsUtil.computeMinimum(data),
+            sketch.getMin());
+        assertEquals(UnivariateStatisticsUtil.computeMaximum(data),
+            sketch.getMax());
+        assertEquals(meanAndVariance.getFirst(), sketch.getMean(), EPSILON);
+        assertEquals(meanAndVariance.getSecond(), sketch.getVariance(),
+            EPSILON);
+        assertEquals(Math.sqrt(meanAndVariance.getSecond()),
+            sketch.getStandardDeviation(), EPSILON);
+        assertEquals(UnivariateStatisticsUtil.computeSkewness(data),
+            sketch.getSkewness(), EPSILON);
+        assertEquals(UnivariateStatisticsUtil.computeKurtosis(data),
+            sketch.getKurtosis(), EPSILON);
+    }
+
+    /**
+     * Test of constructors of class UnivariateMomentSketch.
+     */
+    public void testConstructors()
+    {
+        UnivariateMomentSketch instance = new UnivariateMomentSketch();
+        assertEquals(0, instance.getCount());
+        assertEquals(Double.POSITIVE_INFINITY, instance.getMin());
+        assertEquals(Double.NEGATIVE_INFINITY, instance.getMax());
+        assertEquals(0.0, instance.getMean());
+        assertEquals(0.0, instance.getVariance());
+        assertEquals(0.0, instance.getSkewness());
+        assertEquals(0.0, instance.getKurtosis());
+    }
+
+    /**
+     * Test of add method, of class UnivariateMomentSketch.
+     */
+    public void testAdd()
+    {
+        final ArrayList<Double> data = createData(1000);
+        final UnivariateMomentSketch instance = new UnivariateMomentSketch();
+        final ArrayList<Double> added = new ArrayList<Double>();
+        for (double value : data)
+        {
+            instance.add(value);
+            added.add(value);
+            if (added.size() >= 3)
+            {
+                checkSketch(added, instance);
+            }
+        }
+
+        checkSketch(data, UnivariateMomentSketch.create(data));
+        checkSketch(data, new UnivariateMomentSketch.Summary().summarize(data));
+
+        final UnivariateMomentSketch clone = instance.clone();
+        instance.clear();
+        assertEquals(0, instance.getCount());
+        checkSketch(data, clone);
+
+        // Constant data.
+        instance.add(4.0);
+        instance.add(4.0);
+        instance.add(4.0);
+        assertEquals(4.0, instance.getMean());
+        assertEquals(0.0, instance.getVariance());
+        assertEquals(0.0, instance.getSkewness());
+        assertEquals(0.0, instance.getKurtosis());
+    }
+
+    /**
+     * Test of merge method, of class UnivariateMomentSketch.
+     */
+    public void testMerge()
+    {
+        final ArrayList<Double> data = createData(1000);
+
+        // Merge chunks of different sizes, including empty ones.
+        final UnivariateMomentSketch result = new UnivariateMomentSketch();
+        result.merge(new UnivariateMomentSketch());
+        int start = 0;
+        for (int size : new int[] { 1, 0, 2, 97, 400, 500 })
+        {
+            result.merge(UnivariateMomentSketch.create(
+                data.subList(start, start + size)));
+            start += size;
+        }
+        assertEquals(data.size(), start);
+        checkSketch(data, result);
+
+        // Merging in either order is the same.
+        final UnivariateMomentSketch a = UnivariateMomentSketch.create(
+            data.subList(0, 300));
+        final UnivariateMomentSketch b = UnivariateMomentSketch.create(
+            data.subList(300, 1000));
+        b.merge(a);
+        checkSketch(data, b);
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * File:            UnivariateQuantileSketchTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.math;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code UnivariateQuantileSketch}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class UnivariateQuantileSketchTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(211);
+
+    /** The quantiles to check. */
+    protected static final double[] QUANTILES = { 0.0, 0.001, 0.01, 0.1, 0.25,
+        0.5, 0.75, 0.9, 0.99, 0.999, 1.0 };
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public UnivariateQuantileSketchTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Creates some skewed random data, like latencies.
+     *
+     * @param   count The number of values.
+     * @return  The data.
+     */
+    protected ArrayList<Double> createData(
+        final int count)
+    {
+        final ArrayList<Double> result = new ArrayList<Double>(count);
+        for (int i = 0; i < count; i++)
+        {
+            result.add(Math.exp(this.random.nextGaussian()));
+        }
+        return result;
+    }
+
+    /**
+     * Checks the quantiles of a sketch against the data, in terms of the
+     * error in the rank of the estimate.
+     *
+     * @param   data The data.
+     * @param   sketch The sketch.
+     */
+    protected void checkQuantiles(
+        final ArrayList<Double> data,
+        final UnivariateQuantileSketch sketch)
+    {
+        final ArrayList<Double> sorted = new ArrayList<Double>(data);
+        Collections.sort(sorted);
+        final int n = sorted.size();
+        assertEquals((double) n, sketch.getTotalWeight());
+        assertEquals(sorted.get(0), sketch.getMin());
+        assertEquals(sorted.get(n - 1), sketch.getMax());
+        assertEquals(sorted.get(0), sketch.getQuantile(0.0));
+        assertEquals(sorted.get(n - 1), sketch.getQuantile(1.0));
+
+        for (double q : QUANTILES)
+        {
+            final double estimate = sketch.getQuantile(q);
+            int rank = Collections.binarySearch(sorted, estimate);
+            if (rank < 0)
+            {
+                rank = -rank - 1;
+            }
+
+            // The error in rank shrinks towards the tails.
+            final double allowed = 0.005 + 0.02 * Math.sqrt(q * (1.0 - q));
+            assertEquals("quantile " + q, q, (double) rank / n, allowed);
+        }
+    }
+
+    /**
+     * Test of constructors of class UnivariateQuantileSketch.
+     */
+    public void testConstructors()
+    {
+        UnivariateQuantileSketch instance = new UnivariateQuantileSketch();
+        assertEquals(UnivariateQuantileSketch.DEFAULT_COMPRESSION,
+            instance.getCompression());
+        assertEquals(0.0, instance.getTotalWeight());
+        assertEquals(0, instance.getCentroidCount());
+        assertTrue(Double.isNaN(instance.getMedian()));
+
+        instance = new UnivariateQuantileSketch(50.0);
+        assertEquals(50.0, instance.getCompression());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance = new UnivariateQuantileSketch(0.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of getQuantile method on small data, which should be exact.
+     */
+    public void testGetQuantileExact()
+    {
+        for (int n = 1; n <= 20; n++)
+        {
+            final ArrayList<Double> data = createData(n);
+            final UnivariateQuantileSketch instance =
+                UnivariateQuantileSketch.create(data);
+            assertEquals(n, instance.getCentroidCount());
+            for (double q : QUANTILES)
+            {
+                assertEquals(UnivariateStatisticsUtil.computePercentile(data, q),
+                    instance.getQuantile(q), 1e-10);
+            }
+            assertEquals(UnivariateStatisticsUtil.computeMedian(data),
+                instance.getMedian(), 1e-10);
+        }
+    }
+
+    /**
+     * Test of getQuantile method on large data.
+     */
+    public void testGetQuantile()
+    {
+        final ArrayList<Double> data = createData(100000);
+        final UnivariateQuantileSketch instance =
+            new UnivariateQuantileSketch.Summary().summarize(data);
+        checkQuantiles(data, instance);
+
+        // The memory stays bounded.
+        assertTrue(instance.getCentroidCount()
+            <= 2 * instance.getCompression());
+
+        final double[] quantiles = instance.getQuantiles(QUANTILES);
+        assertEquals(QUANTILES.length, quantiles.length);
+        for (int i = 0; i < QUANTILES.length; i++)
+        {
+            assertEquals(instance.getQuantile(QUANTILES[i]), quantiles[i]);
+            if (i > 0)
+            {
+                assertTrue(quantiles[i] >= quantiles[i - 1]);
+            }
+        }
+
+        final UnivariateQuantileSketch clone = instance.clone();
+        instance.clear();
+        assertEquals(0.0, instance.getTotalWeight());
+        checkQuantiles(data, clone);
+
+        // Sorted input is a hard case for the buffer.
+        final ArrayList<Double> sorted = new ArrayList<Double>(data);
+        Collections.sort(sorted);
+        checkQuantiles(sorted, UnivariateQuantileSketch.create(sorted));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            clone.getQuantile(1.1);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of merge method, of class UnivariateQuantileSketch.
+     */
+    public void testMerge()
+    {
+        final ArrayList<Double> data = createData(100000);
+        final UnivariateQuantileSketch result = new UnivariateQuantileSketch();
+        for (int start = 0; start < data.size(); start += 10000)
+        {
+            result.merge(UnivariateQuantileSketch.create(
+                data.subList(start, start + 10000)));
+        }
+        checkQuantiles(data, result);
+    }
+
+    /**
+     * Test of add method with weights, of class UnivariateQuantileSketch.
+     */
+    public void testAddWeighted()
+    {
+        final UnivariateQuantileSketch instance = new UnivariateQuantileSketch();
+        instance.add(1.0, 3.0);
+        instance.add(2.0, 1.0);
+        assertEquals(4.0, instance.getTotalWeight());
+        assertEquals(1.0, instance.getQuantile(0.0));
+        assertEquals(2.0, instance.getQuantile(1.0));
+        final double median = instance.getMedian();
+        assertTrue(median >= 1.0 && median < 1.5);
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.add(1.0, 0.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+}
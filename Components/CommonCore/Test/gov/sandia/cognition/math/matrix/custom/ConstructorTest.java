@@ -129,6 +129,49 @@ public class ConstructorTest
             0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 1);
         SparseMatrix sm4 = new SparseMatrix(di1);
         assertTrue(sm4.equals(di1));
+        SparseMatrix smc = new SparseMatrix(data.length, data[0].length,
+            sm2.getFirstInRows().clone(), sm2.getColumnIndices().clone(),
+            sm2.getValues().clone());
+        assertTrue(smc.isCompressed());
+        assertTrue(smc.equals(dm1));
+        // Copies stay compressed and writes decompress into new rows
+        SparseMatrix smcClone = (SparseMatrix) smc.clone();
+        SparseMatrix smcCopy = new SparseMatrix(smc);
+        assertTrue(smcClone.isCompressed());
+        assertTrue(smcCopy.equals(dm1));
+        smc.setElement(0, 0, 5);
+        assertFalse(smc.isCompressed());
+        assertEquals(5, smc.get(0, 0), 0.0);
+        assertEquals(1, smc.get(0, 2), 0.0);
+        assertEquals(0, smc.get(0, 1), 0.0);
+        assertEquals(1, smc.get(data.length - 1, data[0].length - 1), 0.0);
+        smc.compress();
+        assertEquals(5, smc.get(0, 0), 0.0);
+        smc.setElement(0, 0, 0);
+        assertTrue(smc.equals(dm1));
+        assertTrue(smcClone.equals(dm1));
+        smcClone.setElement(1, 1, 3);
+        assertEquals(3, smcClone.getRow(1).get(1), 0.0);
+        assertEquals(0, smcCopy.get(1, 1), 0.0);
+        SparseMatrix smcIdentity = new SparseMatrix(2, 2, new int[] { 0, 1, 2 },
+            new int[] { 1, 0 }, new double[] { 2, 3 });
+        smcIdentity.identity();
+        MatrixUtil.testMatrixEquals(smcIdentity, SparseMatrix.class, 2, 2, 1,
+            0, 0, 1);
+        smcIdentity.setElement(0, 1, 4);
+        MatrixUtil.testMatrixEquals(smcIdentity, SparseMatrix.class, 2, 2, 1,
+            4, 0, 1);
+        try
+        {
+            // Creating a compressed matrix with unsorted columns fails
+            new SparseMatrix(2, 2, new int[] { 0, 2, 2 }, new int[] { 1, 0 },
+                new double[] { 1, 2 });
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // correct path
+        }
         DiagonalMatrix di2 = new DiagonalMatrix(di1);
         assertTrue(di2.equals(di1));
         DiagonalMatrix di3 = new DiagonalMatrix(sm4);
@@ -0,0 +1,199 @@
+/*
+ * File:            RandomizedSingularValueDecompositionTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.math.matrix.custom;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.mtj.DenseMatrixFactoryMTJ;
+import gov.sandia.cognition.math.matrix.mtj.decomposition.SingularValueDecompositionMTJ;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for class RandomizedSingularValueDecomposition.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class RandomizedSingularValueDecompositionTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(2711);
+
+    /**
+     * Creates a sparse matrix that is the sum of sparse rank-one terms.
+     *
+     * @param   numRows The number of rows.
+     * @param   numColumns The number of columns.
+     * @param   rank The number of terms.
+     * @return  The matrix.
+     */
+    protected SparseMatrix createLowRank(
+        final int numRows,
+        final int numColumns,
+        final int rank)
+    {
+        final double[][] left = new double[rank][numRows];
+        final double[][] right = new double[rank][numColumns];
+        for (int k = 0; k < rank; k++)
+        {
+            for (int i = 0; i < numRows; i++)
+            {
+                if (random.nextDouble() < 0.3)
+                {
+                    left[k][i] = random.nextGaussian() * (rank - k);
+                }
+            }
+            for (int j = 0; j < numColumns; j++)
+            {
+                if (random.nextDouble() < 0.3)
+                {
+                    right[k][j] = random.nextGaussian();
+                }
+            }
+        }
+
+        final SparseMatrix result = new SparseMatrix(numRows, numColumns);
+        for (int i = 0; i < numRows; i++)
+        {
+            for (int j = 0; j < numColumns; j++)
+            {
+                double value = 0.0;
+                for (int k = 0; k < rank; k++)
+                {
+                    value += left[k][i] * right[k][j];
+                }
+                if (value != 0.0)
+                {
+                    result.setElement(i, j, value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tests that the decomposition matches the full one on a low-rank matrix.
+     */
+    @Test
+    public void testCreateLowRank()
+    {
+        final SparseMatrix matrix = createLowRank(120, 80, 8);
+        final RandomizedSingularValueDecomposition instance =
+            RandomizedSingularValueDecomposition.create(matrix, 5, random);
+        final SingularValueDecompositionMTJ expected =
+            SingularValueDecompositionMTJ.create(
+                DenseMatrixFactoryMTJ.INSTANCE.copyMatrix(matrix));
+
+        final Matrix U = instance.getU();
+        final Matrix S = instance.getS();
+        final Matrix Vt = instance.getVtranspose();
+        assertEquals(120, U.getNumRows());
+        assertEquals(5, U.getNumColumns());
+        assertEquals(5, S.getNumRows());
+        assertEquals(5, Vt.getNumRows());
+        assertEquals(80, Vt.getNumColumns());
+
+        final Matrix identity = MatrixFactory.getDenseDefault().createIdentity(
+            5, 5);
+        assertTrue(U.transpose().times(U).equals(identity, 1e-10));
+        assertTrue(Vt.times(Vt.transpose()).equals(identity, 1e-10));
+        assertEquals(80, instance.getV().getNumRows());
+        assertTrue(instance.getV().equals(Vt.transpose(), 0.0));
+        assertSame(Vt, instance.getVtranspose());
+        for (int i = 0; i < 5; i++)
+        {
+            final double singularValue = S.getElement(i, i);
+            assertEquals(expected.getS().getElement(i, i), singularValue,
+                1e-8 * singularValue);
+
+            // A v = s u for each pair of singular vectors.
+            final Vector v = Vt.getRow(i);
+            final Vector u = U.getColumn(i);
+            assertTrue(matrix.times(v).equals(u.scale(singularValue),
+                1e-8 * singularValue));
+        }
+        assertEquals(5, instance.rank());
+        assertEquals(expected.norm2(), instance.norm2(), 1e-8);
+    }
+
+    /**
+     * Tests that fewer values are returned when the matrix rank is lower than
+     * the requested rank.
+     */
+    @Test
+    public void testCreateRankDeficient()
+    {
+        final SparseMatrix matrix = createLowRank(60, 70, 3);
+        final ThreadPoolExecutor threadPool = ParallelUtil.createThreadPool(2);
+        try
+        {
+            final RandomizedSingularValueDecomposition instance =
+                RandomizedSingularValueDecomposition.create(matrix, 10, 5, 1,
+                    false, true, random, threadPool);
+            assertNull(instance.getU());
+            assertEquals(3, instance.getS().getNumRows());
+            assertEquals(3, instance.getVtranspose().getNumRows());
+
+            final RandomizedSingularValueDecomposition leftOnly =
+                RandomizedSingularValueDecomposition.create(matrix, 2, 1, 0,
+                    true, false, random, threadPool);
+            assertNull(leftOnly.getVtranspose());
+            assertNull(leftOnly.getV());
+            assertEquals(2, leftOnly.getU().getNumColumns());
+            assertEquals(instance.getS().getElement(0, 0),
+                leftOnly.getS().getElement(0, 0), 1e-8);
+
+            final RandomizedSingularValueDecomposition zero =
+                RandomizedSingularValueDecomposition.create(
+                    new SparseMatrix(4, 3), 2, 2, 1, true, true, random,
+                    threadPool);
+            assertEquals(0, zero.getS().getNumRows());
+        }
+        finally
+        {
+            threadPool.shutdown();
+        }
+    }
+
+    /**
+     * Tests the argument checks.
+     */
+    @Test
+    public void testCreateBadArguments()
+    {
+        final SparseMatrix matrix = new SparseMatrix(3, 3);
+        try
+        {
+            RandomizedSingularValueDecomposition.create(matrix, 0, random);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // correct path
+        }
+        try
+        {
+            RandomizedSingularValueDecomposition.create(matrix, 1, -1, 0,
+                true, true, random, null);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // correct path
+        }
+    }
+
+}
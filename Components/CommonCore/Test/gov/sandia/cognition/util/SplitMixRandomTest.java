@@ -0,0 +1,111 @@
+/*
+ * File:            SplitMixRandomTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.util;
+
+import java.util.SplittableRandom;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code SplitMixRandom}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class SplitMixRandomTest
+    extends TestCase
+{
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public SplitMixRandomTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Tests that the sequence matches {@code SplittableRandom}.
+     */
+    public void testMatchesSplittableRandom()
+    {
+        SplitMixRandom instance = new SplitMixRandom(4321L);
+        SplittableRandom expected = new SplittableRandom(4321L);
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(expected.nextLong(), instance.nextLong());
+        }
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(expected.nextDouble(), instance.nextDouble());
+        }
+
+        SplitMixRandom split = instance.split();
+        SplittableRandom expectedSplit = expected.split();
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(expectedSplit.nextLong(), split.nextLong());
+            assertEquals(expected.nextLong(), instance.nextLong());
+        }
+    }
+
+    /**
+     * Test of setSeed and clone methods, of class SplitMixRandom.
+     */
+    public void testSeedAndClone()
+    {
+        SplitMixRandom instance = new SplitMixRandom(99L);
+        long first = instance.nextLong();
+        instance.nextLong();
+        instance.setSeed(99L);
+        assertEquals(first, instance.nextLong());
+
+        SplitMixRandom clone = instance.clone();
+        assertNotSame(instance, clone);
+        for (int i = 0; i < 10; i++)
+        {
+            assertEquals(instance.nextInt(), clone.nextInt());
+        }
+
+        assertFalse(new SplitMixRandom().nextLong()
+            == new SplitMixRandom().nextLong());
+    }
+
+    /**
+     * Tests the ranges of the values.
+     */
+    public void testRanges()
+    {
+        SplitMixRandom instance = new SplitMixRandom(7L);
+        int trues = 0;
+        double sum = 0.0;
+        int n = 10000;
+        for (int i = 0; i < n; i++)
+        {
+            double value = instance.nextDouble();
+            assertTrue(value >= 0.0 && value < 1.0);
+            sum += value;
+
+            int bounded = instance.nextInt(17);
+            assertTrue(bounded >= 0 && bounded < 17);
+
+            if (instance.nextBoolean())
+            {
+                trues++;
+            }
+        }
+        assertEquals(0.5, sum / n, 0.02);
+        assertEquals(0.5, (double) trues / n, 0.03);
+        double gaussian = instance.nextGaussian();
+        assertFalse(Double.isNaN(gaussian));
+    }
+
+}
@@ -21,11 +21,18 @@ import gov.sandia.cognition.annotation.PublicationReference;
 import gov.sandia.cognition.annotation.PublicationReferences;
 import gov.sandia.cognition.annotation.PublicationType;
 import gov.sandia.cognition.learning.algorithm.AbstractAnytimeBatchLearner;
+import gov.sandia.cognition.learning.algorithm.clustering.cluster.CentroidCluster;
 import gov.sandia.cognition.learning.algorithm.clustering.cluster.Cluster;
 import gov.sandia.cognition.learning.algorithm.clustering.cluster.ClusterCreator;
+import gov.sandia.cognition.learning.algorithm.clustering.divergence.CentroidClusterDivergenceFunction;
 import gov.sandia.cognition.learning.algorithm.clustering.divergence.ClusterDivergenceFunction;
 import gov.sandia.cognition.learning.algorithm.clustering.initializer.FixedClusterInitializer;
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.function.distance.DivergenceFunctionContainer;
+import gov.sandia.cognition.learning.function.distance.EuclideanDistanceMetric;
+import gov.sandia.cognition.learning.function.distance.EuclideanDistanceSquaredMetric;
+import gov.sandia.cognition.math.DivergenceFunction;
+import gov.sandia.cognition.math.matrix.Vectorizable;
 import gov.sandia.cognition.util.DefaultNamedValue;
 import gov.sandia.cognition.util.NamedValue;
 import gov.sandia.cognition.util.ObjectUtil;
@@ -274,6 +281,13 @@ public class KMeansClusterer<DataType, ClusterType extends Cluster<DataType>>
     protected int[] assignDataToClusters(
         Collection<? extends DataType> data)
     {
+        if (data instanceof ColumnarDataset.InputList
+            && this.isEuclideanCentroidDivergence())
+        {
+            return this.assignColumnarDataToClusters(
+                ((ColumnarDataset.InputList) data).getDataset());
+        }
+
         // Loop through the elements and find the closest cluster for each.
         int i = 0;
         int[] localAssignments = new int[ data.size() ];
@@ -289,6 +303,85 @@ public class KMeansClusterer<DataType, ClusterType extends Cluster<DataType>>
         
     }
 
+    /**
+     * Creates the cluster assignments for the inputs of a columnar dataset by
+     * computing the squared Euclidean distance between each row and each
+     * centroid directly from the primitive arrays. This gives the same
+     * assignments as using a Euclidean centroid divergence on each vector.
+     * Only the assignment step works on the arrays; the clusters are still
+     * created from the input vectors of the dataset.
+     *
+     * @param data Columnar dataset whose inputs are being clustered.
+     * @return Assignments of the data to each of the k-clusters
+     */
+    protected int[] assignColumnarDataToClusters(
+        final ColumnarDataset<?> data)
+    {
+        // Get the centroids as arrays.
+        final int numClusters = this.getNumClusters();
+        final double[][] centroids = new double[numClusters][];
+        final double[] centroidNorms = new double[numClusters];
+        for (int k = 0; k < numClusters; k++)
+        {
+            final ClusterType cluster = this.clusters.get(k);
+            if (cluster != null)
+            {
+                centroids[k] = ((Vectorizable) ((CentroidCluster<?>) cluster)
+                    .getCentroid()).convertToVector().toArray();
+                for (double value : centroids[k])
+                {
+                    centroidNorms[k] += value * value;
+                }
+            }
+            // else - Ignore empty clusters.
+        }
+
+        final int size = data.size();
+        final int[] localAssignments = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            double minDistance = Double.MAX_VALUE;
+            int closestClusterIndex = -1;
+            for (int k = 0; k < numClusters; k++)
+            {
+                if (centroids[k] != null)
+                {
+                    final double distance = data.computeSquaredDistance(i,
+                        centroids[k], centroidNorms[k]);
+                    if (closestClusterIndex < 0 || distance < minDistance)
+                    {
+                        // This is the closest so far.
+                        minDistance = distance;
+                        closestClusterIndex = k;
+                    }
+                }
+            }
+            localAssignments[i] = closestClusterIndex;
+        }
+        return localAssignments;
+    }
+
+    /**
+     * Determines if the divergence function is a centroid divergence using
+     * the Euclidean distance (or its square), which means that the closest
+     * cluster can be found using primitive squared distances.
+     *
+     * @return True if the divergence is a Euclidean centroid divergence.
+     */
+    protected boolean isEuclideanCentroidDivergence()
+    {
+        if (!(this.divergenceFunction instanceof CentroidClusterDivergenceFunction))
+        {
+            return false;
+        }
+
+        final DivergenceFunction<?, ?> divergence =
+            ((CentroidClusterDivergenceFunction<?>) this.divergenceFunction)
+                .getDivergenceFunction();
+        return divergence instanceof EuclideanDistanceMetric
+            || divergence instanceof EuclideanDistanceSquaredMetric;
+    }
+
     @Override
     public void setData(
         Collection<? extends DataType> data)
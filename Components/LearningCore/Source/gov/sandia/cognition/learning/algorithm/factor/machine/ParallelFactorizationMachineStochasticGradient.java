@@ -0,0 +1,521 @@
+/*
+ * File:            ParallelFactorizationMachineStochasticGradient.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.algorithm.factor.machine;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.learning.data.DatasetUtil;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorEntry;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Implements a lock-free, multi-threaded Stochastic Gradient Descent (SGD)
+ * algorithm for learning a Factorization Machine in the style of Hogwild!.
+ * The bias, weights, and factors are kept in shared primitive arrays during
+ * learning and each thread processes its own block of the data, updating the
+ * shared parameters without any locking. Since the updates for sparse inputs
+ * rarely collide, the occasional lost update does not hurt convergence.
+ * <BR><BR>
+ * The factors are stored with all of the factors for one input dimension
+ * next to each other, so an update for a sparse example only touches the
+ * factor rows for its non-zero input dimensions. The algorithm can also use
+ * AdaGrad to adapt the learning rate per parameter based on the history of
+ * its squared gradients.
+ * <BR><BR>
+ * With one thread and AdaGrad disabled, the updates are the same as in
+ * {@link FactorizationMachineStochasticGradient}. The result factorization
+ * machine is updated from the shared parameters at the end of each iteration.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     FactorizationMachine
+ * @see     FactorizationMachineStochasticGradient
+ */
+@PublicationReferences(references={
+    @PublicationReference(
+        title="Hogwild!: A Lock-Free Approach to Parallelizing Stochastic Gradient Descent",
+        author={"Feng Niu", "Benjamin Recht", "Christopher Re", "Stephen J. Wright"},
+        year=2011,
+        type=PublicationType.Conference,
+        publication="Advances in Neural Information Processing Systems 24",
+        url="https://papers.nips.cc/paper/4390-hogwild-a-lock-free-approach-to-parallelizing-stochastic-gradient-descent.pdf"),
+    @PublicationReference(
+        title="Adaptive Subgradient Methods for Online Learning and Stochastic Optimization",
+        author={"John Duchi", "Elad Hazan", "Yoram Singer"},
+        year=2011,
+        type=PublicationType.Journal,
+        publication="Journal of Machine Learning Research",
+        pages={2121, 2159},
+        url="http://www.jmlr.org/papers/volume12/duchi11a/duchi11a.pdf")
+})
+public class ParallelFactorizationMachineStochasticGradient
+    extends FactorizationMachineStochasticGradient
+    implements ParallelAlgorithm
+{
+
+    /** The default for AdaGrad being enabled is {@value}. */
+    public static final boolean DEFAULT_ADA_GRAD_ENABLED = false;
+
+    /** A small value added to the AdaGrad denominator to avoid dividing by
+     *  zero, {@value}. */
+    protected static final double ADA_GRAD_EPSILON = 1e-8;
+
+    /** Indicates if AdaGrad is used to adapt the per-parameter step size. */
+    protected boolean adaGradEnabled;
+
+    /** The thread pool used for parallelization. */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /** The shared bias, stored as a single-element array. */
+    protected transient double[] sharedBias;
+
+    /** The shared linear weights. */
+    protected transient double[] sharedWeights;
+
+    /** The shared factors, where the value for input dimension i and
+     *  factor f is at index {@code i * factorCount + f}. */
+    protected transient double[] sharedFactors;
+
+    /** The sum of squared gradients for the bias, used by AdaGrad. */
+    protected transient double[] biasGradientSquares;
+
+    /** The sum of squared gradients for the weights, used by AdaGrad. */
+    protected transient double[] weightGradientSquares;
+
+    /** The sum of squared gradients for the factors, used by AdaGrad. */
+    protected transient double[] factorGradientSquares;
+
+    /**
+     * Creates a new {@link ParallelFactorizationMachineStochasticGradient}
+     * with default parameters.
+     */
+    public ParallelFactorizationMachineStochasticGradient()
+    {
+        this(DEFAULT_FACTOR_COUNT, DEFAULT_LEARNING_RATE, DEFAULT_BIAS_REGULARIZATION,
+            DEFAULT_WEIGHT_REGULARIZATION, DEFAULT_FACTOR_REGULARIZATION,
+            DEFAULT_SEED_SCALE, DEFAULT_MAX_ITERATIONS, new Random());
+    }
+
+    /**
+     * Creates a new {@link ParallelFactorizationMachineStochasticGradient}.
+     *
+     * @param   factorCount
+     *      The number of factors to use. Zero means no factors. Cannot be
+     *      negative.
+     * @param   learningRate
+     *      The learning rate. Must be positive.
+     * @param   biasRegularization
+     *      The regularization term for the bias. Cannot be negative.
+     * @param   weightRegularization
+     *      The regularization term for the linear weights. Cannot be negative.
+     * @param   factorRegularization
+     *      The regularization term for the factor matrix. Cannot be negative.
+     * @param   seedScale
+     *      The random initialization scale for the factors.
+     *      Multiplied by a random Gaussian to initialize each factor value.
+     *      Cannot be negative.
+     * @param   maxIterations
+     *      The maximum number of iterations for the algorithm to run. Cannot
+     *      be negative.
+     * @param   random
+     *      The random number generator.
+     */
+    public ParallelFactorizationMachineStochasticGradient(
+        final int factorCount,
+        final double learningRate,
+        final double biasRegularization,
+        final double weightRegularization,
+        final double factorRegularization,
+        final double seedScale,
+        final int maxIterations,
+        final Random random)
+    {
+        super(factorCount, learningRate, biasRegularization,
+            weightRegularization, factorRegularization, seedScale,
+            maxIterations, random);
+
+        this.setAdaGradEnabled(DEFAULT_ADA_GRAD_ENABLED);
+    }
+
+    @Override
+    public ParallelFactorizationMachineStochasticGradient clone()
+    {
+        final ParallelFactorizationMachineStochasticGradient clone =
+            (ParallelFactorizationMachineStochasticGradient) super.clone();
+        clone.threadPool = null;
+        return clone;
+    }
+
+    @Override
+    protected boolean initializeAlgorithm()
+    {
+        if (!super.initializeAlgorithm())
+        {
+            return false;
+        }
+
+        final int d = this.dimensionality;
+        final int k = this.factorCount;
+        this.sharedBias = new double[] { this.result.getBias() };
+        this.sharedWeights = new double[d];
+        this.sharedFactors = new double[d * k];
+        if (this.isFactorsEnabled())
+        {
+            final Matrix factors = this.result.getFactors();
+            for (int i = 0; i < d; i++)
+            {
+                for (int f = 0; f < k; f++)
+                {
+                    this.sharedFactors[i * k + f] = factors.getElement(f, i);
+                }
+            }
+        }
+
+        if (this.isAdaGradEnabled())
+        {
+            this.biasGradientSquares = new double[1];
+            this.weightGradientSquares = new double[d];
+            this.factorGradientSquares = new double[d * k];
+        }
+        return true;
+    }
+
+    @Override
+    protected boolean step()
+    {
+        final int n = this.dataList.size();
+        final int threadCount = Math.max(1, Math.min(n, this.getNumThreads()));
+        final ArrayList<Callable<double[]>> tasks =
+            new ArrayList<Callable<double[]>>(threadCount);
+        for (int t = 0; t < threadCount; t++)
+        {
+            final int start = (int) ((long) n * t / threadCount);
+            final int end = (int) ((long) n * (t + 1) / threadCount);
+            tasks.add(new Callable<double[]>()
+            {
+                @Override
+                public double[] call()
+                {
+                    return updateRange(start, end);
+                }
+            });
+        }
+
+        this.totalError = 0.0;
+        this.totalChange = 0.0;
+        try
+        {
+            for (double[] totals : ParallelUtil.executeInParallel(
+                tasks, this.getThreadPool()))
+            {
+                this.totalError += totals[0];
+                this.totalChange += totals[1];
+            }
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        this.copySharedParametersToResult();
+        return true;
+    }
+
+    /**
+     * Performs the stochastic gradient updates for a contiguous range of the
+     * data on the shared parameters. This is run by each worker thread
+     * without locking.
+     *
+     * @param   start
+     *      The index of the first example, inclusive.
+     * @param   end
+     *      The index of the last example, exclusive.
+     * @return
+     *      A two-element array of the total squared error and the total
+     *      parameter change for the range.
+     */
+    protected double[] updateRange(
+        final int start,
+        final int end)
+    {
+        final int k = this.factorCount;
+        final double[] sums = new double[k];
+        final double[] totals = new double[2];
+        for (int i = start; i < end; i++)
+        {
+            this.update(this.dataList.get(i), sums, totals);
+        }
+        return totals;
+    }
+
+    /**
+     * Performs a single stochastic gradient update on the shared parameters
+     * for the given example. Only the weights and factor rows for the
+     * non-zero input dimensions are read or written.
+     *
+     * @param   example
+     *      The example to do a stochastic gradient step for.
+     * @param   sums
+     *      Scratch space of length factorCount for the per-factor sums.
+     * @param   totals
+     *      A two-element array that the squared error and the total parameter
+     *      change for the example are added to.
+     */
+    protected void update(
+        final InputOutputPair<? extends Vector, Double> example,
+        final double[] sums,
+        final double[] totals)
+    {
+        final Vector input = example.getInput();
+        final double label = example.getOutput();
+        final double weight = DatasetUtil.getWeight(example);
+        final int k = this.factorCount;
+        final boolean weightsEnabled = this.isWeightsEnabled();
+        final boolean factorsEnabled = this.isFactorsEnabled();
+        final double[] bias = this.sharedBias;
+        final double[] weights = this.sharedWeights;
+        final double[] factors = this.sharedFactors;
+
+        // Compute the prediction and the per-factor sums in one pass over the
+        // non-zero inputs.
+        double prediction = bias[0];
+        double sumSquares = 0.0;
+        for (int f = 0; f < k; f++)
+        {
+            sums[f] = 0.0;
+        }
+        for (final VectorEntry entry : input)
+        {
+            final int index = entry.getIndex();
+            final double value = entry.getValue();
+            if (weightsEnabled)
+            {
+                prediction += value * weights[index];
+            }
+            if (factorsEnabled)
+            {
+                final int offset = index * k;
+                for (int f = 0; f < k; f++)
+                {
+                    final double product = value * factors[offset + f];
+                    sums[f] += product;
+                    sumSquares += product * product;
+                }
+            }
+        }
+        for (int f = 0; f < k; f++)
+        {
+            prediction += 0.5 * sums[f] * sums[f];
+        }
+        prediction -= 0.5 * sumSquares;
+
+        final double error = prediction - label;
+
+        // Compute the step size for this example.
+        final double stepSize;
+        if (this.biasGradientSquares != null)
+        {
+            // AdaGrad.
+            stepSize = this.learningRate * weight;
+        }
+        else
+        {
+            stepSize = this.learningRate * weight / this.dataList.size();
+        }
+
+        double change = 0.0;
+        if (this.isBiasEnabled())
+        {
+            // Update the bias term.
+            final double oldBias = bias[0];
+            final double gradient = 2.0 * error
+                + 2.0 * this.biasRegularization * oldBias;
+            final double biasChange = this.computeChange(
+                stepSize, gradient, this.biasGradientSquares, 0);
+            bias[0] = oldBias - biasChange;
+            change += Math.abs(biasChange);
+        }
+
+        if (weightsEnabled)
+        {
+            // Update the weight terms.
+            for (final VectorEntry entry : input)
+            {
+                final int index = entry.getIndex();
+                final double value = entry.getValue();
+                final double gradient = 2.0 * error * value
+                    + 2.0 * this.weightRegularization * weights[index];
+                final double weightChange = this.computeChange(
+                    stepSize, gradient, this.weightGradientSquares, index);
+                weights[index] -= weightChange;
+                change += Math.abs(weightChange);
+            }
+        }
+
+        if (factorsEnabled)
+        {
+            // Update the factor rows of the non-zero inputs.
+            for (final VectorEntry entry : input)
+            {
+                final int offset = entry.getIndex() * k;
+                final double value = entry.getValue();
+                for (int f = 0; f < k; f++)
+                {
+                    final double factorElement = factors[offset + f];
+                    final double gradient = 2.0 * error
+                        * value * (sums[f] - value * factorElement)
+                        + 2.0 * this.factorRegularization * factorElement;
+                    final double factorChange = this.computeChange(
+                        stepSize, gradient, this.factorGradientSquares,
+                        offset + f);
+                    factors[offset + f] -= factorChange;
+                    change += Math.abs(factorChange);
+                }
+            }
+        }
+
+        totals[0] += error * error;
+        totals[1] += change;
+    }
+
+    /**
+     * Computes the change for a parameter given its gradient. When AdaGrad is
+     * enabled, the squared gradient is accumulated and the step is scaled by
+     * the inverse square root of the accumulated squared gradients.
+     *
+     * @param   stepSize
+     *      The step size for the example.
+     * @param   gradient
+     *      The gradient for the parameter.
+     * @param   gradientSquares
+     *      The accumulated squared gradients. Null when AdaGrad is disabled.
+     * @param   index
+     *      The index of the parameter in the squared gradient array.
+     * @return
+     *      The amount to subtract from the parameter.
+     */
+    protected double computeChange(
+        final double stepSize,
+        final double gradient,
+        final double[] gradientSquares,
+        final int index)
+    {
+        if (gradientSquares == null)
+        {
+            return stepSize * gradient;
+        }
+        else
+        {
+            final double sum = gradientSquares[index] + gradient * gradient;
+            gradientSquares[index] = sum;
+            return stepSize * gradient / (Math.sqrt(sum) + ADA_GRAD_EPSILON);
+        }
+    }
+
+    /**
+     * Copies the shared parameters into the result factorization machine.
+     */
+    protected void copySharedParametersToResult()
+    {
+        final int d = this.dimensionality;
+        final int k = this.factorCount;
+        this.result.setBias(this.sharedBias[0]);
+
+        final Vector weights = this.result.getWeights();
+        for (int i = 0; i < d; i++)
+        {
+            weights.setElement(i, this.sharedWeights[i]);
+        }
+        this.result.setWeights(weights);
+
+        if (this.isFactorsEnabled())
+        {
+            final Matrix factors = this.result.getFactors();
+            for (int i = 0; i < d; i++)
+            {
+                for (int f = 0; f < k; f++)
+                {
+                    factors.setElement(f, i, this.sharedFactors[i * k + f]);
+                }
+            }
+            this.result.setFactors(factors);
+        }
+    }
+
+    @Override
+    protected void cleanupAlgorithm()
+    {
+        super.cleanupAlgorithm();
+        this.sharedBias = null;
+        this.sharedWeights = null;
+        this.sharedFactors = null;
+        this.biasGradientSquares = null;
+        this.weightGradientSquares = null;
+        this.factorGradientSquares = null;
+    }
+
+    /**
+     * Gets whether or not AdaGrad is used to adapt the step size of each
+     * parameter.
+     *
+     * @return
+     *      True if AdaGrad is enabled; otherwise, false.
+     */
+    public boolean isAdaGradEnabled()
+    {
+        return this.adaGradEnabled;
+    }
+
+    /**
+     * Sets whether or not AdaGrad is used to adapt the step size of each
+     * parameter. When enabled, the learning rate is not divided by the data
+     * size.
+     *
+     * @param   adaGradEnabled
+     *      True if AdaGrad is enabled; otherwise, false.
+     */
+    public void setAdaGradEnabled(
+        final boolean adaGradEnabled)
+    {
+        this.adaGradEnabled = adaGradEnabled;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.setThreadPool(ParallelUtil.createThreadPool());
+        }
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+}
@@ -0,0 +1,1413 @@
+/*
+ * File:                HiddenMarkovModelInferenceEngine.java
+ * Authors:             Justin Basilico
+ * Company:             Sandia National Laboratories
+ * Project:             Cognitive Foundry
+ *
+ * Copyright October 18, 2026, Sandia Corporation.
+ * Under the terms of Contract DE-AC04-94AL85000, there is a non-exclusive
+ * license for use of this work by or on behalf of the U.S. Government.
+ * Export of this program may require a license from the United States
+ * Government. See CopyrightHistory.txt for complete details.
+ *
+ */
+
+package gov.sandia.cognition.learning.algorithm.hmm;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.statistics.ComputableDistribution;
+import gov.sandia.cognition.statistics.ProbabilityFunction;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * An inference engine for a {@code HiddenMarkovModel} that works over flat
+ * primitive arrays instead of per-time-step {@code Vector} objects. All of
+ * the per-time-step quantities for a sequence of length T over K states are
+ * stored in row-major {@code double[T*K]} buffers inside of a reusable
+ * {@code Workspace}, so that repeated inference over long sequences does not
+ * allocate per time step.
+ * <BR><BR>
+ * The forward-backward algorithm uses the scaling of Rabiner so that the
+ * forward probabilities are normalized at each time step and the
+ * log-likelihood is the sum of the logs of the scale factors. The Viterbi
+ * algorithm is computed in log-space. When the transition matrix is sparse
+ * (below the sparsity threshold), it is stored in compressed-row form so
+ * that each recursion step only costs the number of non-zero transitions.
+ * <BR><BR>
+ * For a single long sequence, the emission likelihoods, the state beliefs,
+ * and the expected transition counts are computed in parallel over chunks
+ * of time steps. The forward and backward recursions are run one after the
+ * other on the calling thread, since the backward recursion is scaled by the
+ * scale factors of the forward recursion, so the chunk tasks always have the
+ * whole thread pool to themselves.
+ * <BR><BR>
+ * If the observations are impossible under the model at some time step, the
+ * log-likelihood is negative infinity and the probabilities from that time
+ * step on are left as zeros rather than being normalized into NaNs.
+ * <BR><BR>
+ * The engine takes a snapshot of the parameters of the HMM when it is
+ * created, so changes to the HMM afterwards are not reflected in the engine.
+ *
+ * @param <ObservationType> Type of Observations handled by the HMM.
+ * @author Justin Basilico
+ * @since 4.1.0
+ */
+@PublicationReference(
+    author="Lawrence R. Rabiner",
+    title="A tutorial on hidden Markov models and selected applications in speech recognition",
+    type=PublicationType.Journal,
+    year=1989,
+    publication="Proceedings of the IEEE",
+    pages={257,286},
+    url="http://www.cs.ubc.ca/~murphyk/Bayes/rabiner.pdf",
+    notes="Rabiner's transition matrix is transposed from mine."
+)
+public class HiddenMarkovModelInferenceEngine<ObservationType>
+    extends AbstractCloneableSerializable
+    implements ParallelAlgorithm
+{
+
+    /**
+     * The default fraction of non-zero transitions below which the sparse
+     * transition representation is used, {@value}.
+     */
+    public static final double DEFAULT_SPARSITY_THRESHOLD = 0.25;
+
+    /**
+     * The default number of time steps processed by each parallel task,
+     * {@value}.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /**
+     * Number of states in the HMM.
+     */
+    protected int numStates;
+
+    /**
+     * Initial probability over the states.
+     */
+    protected double[] initialProbability;
+
+    /**
+     * Dense transition probabilities in row-major order. The entry
+     * {@code i*K + j} is the probability of transitioning from state "j" to
+     * state "i". Null when the sparse representation is used.
+     */
+    protected double[] transitionProbability;
+
+    /**
+     * Start offsets of each destination-state row in the sparse transition
+     * representation. Null when the dense representation is used.
+     */
+    protected int[] transitionRowStarts;
+
+    /**
+     * Source-state index of each non-zero in the sparse transition
+     * representation.
+     */
+    protected int[] transitionSources;
+
+    /**
+     * Value of each non-zero in the sparse transition representation.
+     */
+    protected double[] transitionValues;
+
+    /**
+     * The probability functions that emit symbols from each state.
+     */
+    protected ArrayList<ProbabilityFunction<ObservationType>> emissionFunctions;
+
+    /**
+     * Number of time steps processed by each parallel task.
+     */
+    protected int chunkSize;
+
+    /**
+     * Thread pool used for parallelization.
+     */
+    private transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new {@code HiddenMarkovModelInferenceEngine} for the given
+     * HMM using the default sparsity threshold.
+     *
+     * @param   hmm
+     *      The HMM to perform inference over.
+     */
+    public HiddenMarkovModelInferenceEngine(
+        final HiddenMarkovModel<ObservationType> hmm)
+    {
+        this(hmm, DEFAULT_SPARSITY_THRESHOLD);
+    }
+
+    /**
+     * Creates a new {@code HiddenMarkovModelInferenceEngine} for the given
+     * HMM.
+     *
+     * @param   hmm
+     *      The HMM to perform inference over.
+     * @param   sparsityThreshold
+     *      The fraction of non-zero transitions below which the sparse
+     *      transition representation is used. Use 0.0 to always use the
+     *      dense representation.
+     */
+    public HiddenMarkovModelInferenceEngine(
+        final HiddenMarkovModel<ObservationType> hmm,
+        final double sparsityThreshold)
+    {
+        super();
+
+        final int k = hmm.getNumStates();
+        this.numStates = k;
+        this.initialProbability = new double[k];
+        for (int i = 0; i < k; i++)
+        {
+            this.initialProbability[i] =
+                hmm.getInitialProbability().getElement(i);
+        }
+
+        final Matrix A = hmm.getTransitionProbability();
+        int nonZeroCount = 0;
+        for (int i = 0; i < k; i++)
+        {
+            for (int j = 0; j < k; j++)
+            {
+                if (A.getElement(i, j) != 0.0)
+                {
+                    nonZeroCount++;
+                }
+            }
+        }
+
+        if (nonZeroCount < sparsityThreshold * k * k)
+        {
+            this.transitionRowStarts = new int[k + 1];
+            this.transitionSources = new int[nonZeroCount];
+            this.transitionValues = new double[nonZeroCount];
+            int index = 0;
+            for (int i = 0; i < k; i++)
+            {
+                this.transitionRowStarts[i] = index;
+                for (int j = 0; j < k; j++)
+                {
+                    final double value = A.getElement(i, j);
+                    if (value != 0.0)
+                    {
+                        this.transitionSources[index] = j;
+                        this.transitionValues[index] = value;
+                        index++;
+                    }
+                }
+            }
+            this.transitionRowStarts[k] = index;
+        }
+        else
+        {
+            this.transitionProbability = new double[k * k];
+            for (int i = 0; i < k; i++)
+            {
+                for (int j = 0; j < k; j++)
+                {
+                    this.transitionProbability[i * k + j] = A.getElement(i, j);
+                }
+            }
+        }
+
+        this.emissionFunctions =
+            new ArrayList<ProbabilityFunction<ObservationType>>(k);
+        for (ComputableDistribution<ObservationType> f
+            : hmm.getEmissionFunctions())
+        {
+            this.emissionFunctions.add(f.getProbabilityFunction());
+        }
+
+        this.setChunkSize(DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public HiddenMarkovModelInferenceEngine<ObservationType> clone()
+    {
+        final HiddenMarkovModelInferenceEngine<ObservationType> clone =
+            (HiddenMarkovModelInferenceEngine<ObservationType>) super.clone();
+        // The parameters are never modified after construction, so they can
+        // be shared. The thread pool is not shared.
+        clone.threadPool = null;
+        return clone;
+    }
+
+    /**
+     * Creates a new, empty workspace for use with this engine. A workspace
+     * grows as needed and can be reused across calls and sequences, but must
+     * not be used by more than one call at a time.
+     *
+     * @return
+     *      A new workspace.
+     */
+    public Workspace createWorkspace()
+    {
+        return new Workspace(this.numStates);
+    }
+
+    /**
+     * Computes the log-likelihood of the observation sequence. This is the
+     * answer to Rabiner's "Problem 1: Probability Evaluation".
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @return
+     *      The log-likelihood of the observation sequence.
+     */
+    public double computeObservationLogLikelihood(
+        final List<? extends ObservationType> observations)
+    {
+        return this.computeObservationLogLikelihood(
+            observations, this.createWorkspace());
+    }
+
+    /**
+     * Computes the log-likelihood of the observation sequence using the given
+     * workspace. Afterwards the workspace contains the observation
+     * likelihoods and the normalized forward probabilities.
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @param   workspace
+     *      The workspace to use.
+     * @return
+     *      The log-likelihood of the observation sequence.
+     */
+    public double computeObservationLogLikelihood(
+        final List<? extends ObservationType> observations,
+        final Workspace workspace)
+    {
+        this.computeObservationLikelihoods(observations, workspace);
+        return this.computeForwardProbabilities(workspace);
+    }
+
+    /**
+     * Computes the filtered state beliefs for each observation, which is the
+     * probability of each state given the observations up to and including
+     * that time step. This is the same as
+     * {@code HiddenMarkovModel.stateBeliefs}.
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @return
+     *      The filtered state beliefs as a row-major T-by-K array.
+     */
+    public double[] stateBeliefs(
+        final List<? extends ObservationType> observations)
+    {
+        final Workspace workspace = this.createWorkspace();
+        this.computeObservationLogLikelihood(observations, workspace);
+        return Arrays.copyOf(workspace.forward,
+            workspace.sequenceLength * this.numStates);
+    }
+
+    /**
+     * Computes the smoothed state beliefs for each observation, which is the
+     * probability of each state given the entire observation sequence.
+     * Rabiner calls these the "gammas".
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @return
+     *      The smoothed state beliefs as a row-major T-by-K array.
+     */
+    public double[] smoothedStateBeliefs(
+        final List<? extends ObservationType> observations)
+    {
+        final Workspace workspace = this.createWorkspace();
+        this.computeForwardBackward(observations, workspace);
+        return Arrays.copyOf(workspace.beliefs,
+            workspace.sequenceLength * this.numStates);
+    }
+
+    /**
+     * Runs the forward-backward algorithm on the observation sequence.
+     * Afterwards the workspace contains the observation likelihoods, the
+     * scaled forward and backward probabilities, and the smoothed state
+     * beliefs.
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @param   workspace
+     *      The workspace to use.
+     * @return
+     *      The log-likelihood of the observation sequence.
+     */
+    public double computeForwardBackward(
+        final List<? extends ObservationType> observations,
+        final Workspace workspace)
+    {
+        this.computeObservationLikelihoods(observations, workspace);
+        final double logLikelihood =
+            this.computeForwardProbabilities(workspace);
+        this.computeBackwardProbabilities(workspace);
+        this.computeStateBeliefs(workspace);
+        return logLikelihood;
+    }
+
+    /**
+     * Computes the expected number of transitions between each pair of
+     * states given the observation sequence, which is the sum of Rabiner's
+     * "xi" over time. The forward-backward algorithm must already have been
+     * run on the workspace.
+     *
+     * @param   workspace
+     *      The workspace that the forward-backward algorithm was run on.
+     * @param   transitionCounts
+     *      The row-major K-by-K array to add the expected transition counts
+     *      to, where entry {@code i*K + j} is the expected number of
+     *      transitions from state "j" to state "i".
+     */
+    public void accumulateExpectedTransitions(
+        final Workspace workspace,
+        final double[] transitionCounts)
+    {
+        final int k = this.numStates;
+        if (transitionCounts.length != k * k)
+        {
+            throw new IllegalArgumentException(
+                "transitionCounts must be of length numStates^2");
+        }
+        final int steps = workspace.sequenceLength - 1;
+        if (steps <= 0)
+        {
+            return;
+        }
+
+        if (this.isParallel(steps))
+        {
+            final ArrayList<Callable<double[]>> tasks =
+                new ArrayList<Callable<double[]>>();
+            for (int start = 0; start < steps; start += this.chunkSize)
+            {
+                final int chunkStart = start;
+                final int chunkEnd = Math.min(steps, start + this.chunkSize);
+                tasks.add(new Callable<double[]>()
+                {
+                    @Override
+                    public double[] call()
+                    {
+                        final double[] partial = new double[k * k];
+                        accumulateExpectedTransitions(
+                            workspace, chunkStart, chunkEnd, partial);
+                        return partial;
+                    }
+                });
+            }
+
+            for (double[] partial : this.executeInParallel(tasks))
+            {
+                for (int i = 0; i < partial.length; i++)
+                {
+                    transitionCounts[i] += partial[i];
+                }
+            }
+        }
+        else
+        {
+            this.accumulateExpectedTransitions(
+                workspace, 0, steps, transitionCounts);
+        }
+    }
+
+    /**
+     * Computes the maximum-likelihood transition matrix from the expected
+     * transition counts of the given workspaces. This is the transition
+     * re-estimation step of the Baum-Welch algorithm.
+     *
+     * @param   workspaces
+     *      The workspaces that the forward-backward algorithm was run on,
+     *      one per sequence.
+     * @return
+     *      The re-estimated transition probability matrix, where the entry
+     *      (i,j) is the probability of transition from state "j" to
+     *      state "i".
+     */
+    public Matrix computeTransitionProbabilityEstimate(
+        final Iterable<? extends Workspace> workspaces)
+    {
+        final int k = this.numStates;
+        final double[] counts = new double[k * k];
+        for (Workspace workspace : workspaces)
+        {
+            this.accumulateExpectedTransitions(workspace, counts);
+        }
+
+        final Matrix result = MatrixFactory.getDefault().createMatrix(k, k);
+        for (int j = 0; j < k; j++)
+        {
+            double sum = 0.0;
+            for (int i = 0; i < k; i++)
+            {
+                sum += counts[i * k + j];
+            }
+            for (int i = 0; i < k; i++)
+            {
+                final double count = counts[i * k + j];
+                result.setElement(i, j, sum > 0.0 ? count / sum : 1.0 / k);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Viterbi algorithm for decoding the most-likely sequence of states
+     * from the HMMs underlying Markov chain for a given observation sequence.
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @return
+     *      Indices of the most-likely state sequence that generated the given
+     *      observations.
+     */
+    public int[] viterbi(
+        final List<? extends ObservationType> observations)
+    {
+        final int[] states = new int[observations.size()];
+        this.viterbi(observations, this.createWorkspace(), states);
+        return states;
+    }
+
+    /**
+     * Viterbi algorithm for decoding the most-likely sequence of states
+     * from the HMMs underlying Markov chain for a given observation sequence.
+     * The recursion is done in log-space, so the observation likelihood
+     * buffer of the workspace holds log-likelihoods afterwards.
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @param   workspace
+     *      The workspace to use.
+     * @param   states
+     *      The array to write the most-likely state sequence into. Must be
+     *      at least as long as the observation sequence.
+     * @return
+     *      The log-likelihood of the observations together with the
+     *      most-likely state sequence.
+     */
+    @PublicationReference(
+        author="Wikipedia",
+        title="Viterbi algorithm",
+        year=2010,
+        type=PublicationType.WebPage,
+        url="http://en.wikipedia.org/wiki/Viterbi_algorithm"
+    )
+    public double viterbi(
+        final List<? extends ObservationType> observations,
+        final Workspace workspace,
+        final int[] states)
+    {
+        final int k = this.numStates;
+        final int n = observations.size();
+        if (states.length < n)
+        {
+            throw new IllegalArgumentException(
+                "states must be at least as long as the observations");
+        }
+        else if (n <= 0)
+        {
+            return 0.0;
+        }
+
+        workspace.ensureCapacity(n);
+        workspace.sequenceLength = n;
+        this.computeEmissions(observations, workspace.likelihoods, n, true);
+
+        final double[] logB = workspace.likelihoods;
+        final double[] delta = workspace.forward;
+        final int[] psi = workspace.getBackpointers();
+        final double[] logA = this.getLogTransitionValues();
+
+        for (int i = 0; i < k; i++)
+        {
+            delta[i] = Math.log(this.initialProbability[i]) + logB[i];
+            psi[i] = 0;
+        }
+
+        for (int t = 1; t < n; t++)
+        {
+            final int previous = (t - 1) * k;
+            final int current = t * k;
+            for (int i = 0; i < k; i++)
+            {
+                double best = Double.NEGATIVE_INFINITY;
+                int bestIndex = 0;
+                if (this.isSparse())
+                {
+                    for (int p = this.transitionRowStarts[i];
+                        p < this.transitionRowStarts[i + 1];
+                        p++)
+                    {
+                        final int j = this.transitionSources[p];
+                        final double value = logA[p] + delta[previous + j];
+                        if (best < value)
+                        {
+                            best = value;
+                            bestIndex = j;
+                        }
+                    }
+                }
+                else
+                {
+                    final int row = i * k;
+                    for (int j = 0; j < k; j++)
+                    {
+                        final double value = logA[row + j] + delta[previous + j];
+                        if (best < value)
+                        {
+                            best = value;
+                            bestIndex = j;
+                        }
+                    }
+                }
+                delta[current + i] = best + logB[current + i];
+                psi[current + i] = bestIndex;
+            }
+        }
+
+        // Backchaining.
+        final int last = (n - 1) * k;
+        int state = 0;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < k; i++)
+        {
+            if (best < delta[last + i])
+            {
+                best = delta[last + i];
+                state = i;
+            }
+        }
+        states[n - 1] = state;
+        for (int t = n - 2; t >= 0; t--)
+        {
+            state = psi[(t + 1) * k + state];
+            states[t] = state;
+        }
+        return best;
+    }
+
+    /**
+     * Computes the likelihood of each observation under each state's
+     * emission function into the workspace. This is done in parallel over
+     * chunks of time steps for long sequences.
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @param   workspace
+     *      The workspace to use.
+     */
+    public void computeObservationLikelihoods(
+        final List<? extends ObservationType> observations,
+        final Workspace workspace)
+    {
+        final int n = observations.size();
+        if (n <= 0)
+        {
+            throw new IllegalArgumentException(
+                "observations must not be empty");
+        }
+        workspace.ensureCapacity(n);
+        workspace.sequenceLength = n;
+        this.computeEmissions(observations, workspace.likelihoods, n, false);
+    }
+
+    /**
+     * Computes the normalized forward probabilities and scale factors from
+     * the observation likelihoods in the workspace.
+     *
+     * @param   workspace
+     *      The workspace containing the observation likelihoods.
+     * @return
+     *      The log-likelihood of the observation sequence.
+     */
+    protected double computeForwardProbabilities(
+        final Workspace workspace)
+    {
+        final int k = this.numStates;
+        final int n = workspace.sequenceLength;
+        final double[] b = workspace.likelihoods;
+        final double[] alpha = workspace.forward;
+        final double[] scales = workspace.scales;
+
+        double sum = 0.0;
+        for (int i = 0; i < k; i++)
+        {
+            final double value = this.initialProbability[i] * b[i];
+            alpha[i] = value;
+            sum += value;
+        }
+        scales[0] = sum;
+        normalize(alpha, 0, k, sum);
+        double logLikelihood = Math.log(sum);
+
+        for (int t = 1; t < n; t++)
+        {
+            final int previous = (t - 1) * k;
+            final int current = t * k;
+            sum = 0.0;
+            for (int i = 0; i < k; i++)
+            {
+                final double value =
+                    this.transitionTimes(i, alpha, previous) * b[current + i];
+                alpha[current + i] = value;
+                sum += value;
+            }
+            scales[t] = sum;
+            normalize(alpha, current, k, sum);
+            logLikelihood += Math.log(sum);
+        }
+
+        return logLikelihood;
+    }
+
+    /**
+     * Computes the scaled backward probabilities from the observation
+     * likelihoods in the workspace. Each time step is scaled by the forward
+     * scale factor of the following time step, so the forward probabilities
+     * must already be computed.
+     *
+     * @param   workspace
+     *      The workspace containing the observation likelihoods and the
+     *      forward scale factors.
+     */
+    protected void computeBackwardProbabilities(
+        final Workspace workspace)
+    {
+        final int k = this.numStates;
+        final int n = workspace.sequenceLength;
+        final double[] b = workspace.likelihoods;
+        final double[] beta = workspace.backward;
+        final double[] scales = workspace.scales;
+        final double[] weighted = new double[k];
+
+        final int last = (n - 1) * k;
+        Arrays.fill(beta, last, last + k, 1.0);
+        for (int t = n - 2; t >= 0; t--)
+        {
+            final int next = (t + 1) * k;
+            final int current = t * k;
+            for (int i = 0; i < k; i++)
+            {
+                weighted[i] = b[next + i] * beta[next + i];
+            }
+            Arrays.fill(beta, current, current + k, 0.0);
+            if (this.isSparse())
+            {
+                for (int i = 0; i < k; i++)
+                {
+                    final double w = weighted[i];
+                    for (int p = this.transitionRowStarts[i];
+                        p < this.transitionRowStarts[i + 1];
+                        p++)
+                    {
+                        beta[current + this.transitionSources[p]] +=
+                            this.transitionValues[p] * w;
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < k; i++)
+                {
+                    final double w = weighted[i];
+                    final int row = i * k;
+                    for (int j = 0; j < k; j++)
+                    {
+                        beta[current + j] +=
+                            this.transitionProbability[row + j] * w;
+                    }
+                }
+            }
+            normalize(beta, current, k, scales[t + 1]);
+        }
+    }
+
+    /**
+     * Computes the smoothed state beliefs from the forward and backward
+     * probabilities in the workspace, in parallel over chunks of time steps
+     * for long sequences.
+     *
+     * @param   workspace
+     *      The workspace containing the forward and backward probabilities.
+     */
+    protected void computeStateBeliefs(
+        final Workspace workspace)
+    {
+        final int n = workspace.sequenceLength;
+        if (this.isParallel(n))
+        {
+            final ArrayList<Callable<Void>> tasks =
+                new ArrayList<Callable<Void>>();
+            for (int start = 0; start < n; start += this.chunkSize)
+            {
+                final int chunkStart = start;
+                final int chunkEnd = Math.min(n, start + this.chunkSize);
+                tasks.add(new Callable<Void>()
+                {
+                    @Override
+                    public Void call()
+                    {
+                        computeStateBeliefs(workspace, chunkStart, chunkEnd);
+                        return null;
+                    }
+                });
+            }
+            this.executeInParallel(tasks);
+        }
+        else
+        {
+            this.computeStateBeliefs(workspace, 0, n);
+        }
+    }
+
+    /**
+     * Computes the smoothed state beliefs for a range of time steps.
+     *
+     * @param   workspace
+     *      The workspace containing the forward and backward probabilities.
+     * @param   start
+     *      The first time step, inclusive.
+     * @param   end
+     *      The last time step, exclusive.
+     */
+    protected void computeStateBeliefs(
+        final Workspace workspace,
+        final int start,
+        final int end)
+    {
+        final int k = this.numStates;
+        final double[] alpha = workspace.forward;
+        final double[] beta = workspace.backward;
+        final double[] gamma = workspace.beliefs;
+        for (int t = start; t < end; t++)
+        {
+            final int offset = t * k;
+            double sum = 0.0;
+            for (int i = 0; i < k; i++)
+            {
+                final double value = alpha[offset + i] * beta[offset + i];
+                gamma[offset + i] = value;
+                sum += value;
+            }
+            normalize(gamma, offset, k, sum);
+        }
+    }
+
+    /**
+     * Adds the expected transition counts for a range of time steps.
+     *
+     * @param   workspace
+     *      The workspace containing the forward and backward probabilities.
+     * @param   start
+     *      The first time step, inclusive.
+     * @param   end
+     *      The last time step, exclusive. Must be less than the sequence
+     *      length.
+     * @param   transitionCounts
+     *      The row-major K-by-K array to add the counts to.
+     */
+    protected void accumulateExpectedTransitions(
+        final Workspace workspace,
+        final int start,
+        final int end,
+        final double[] transitionCounts)
+    {
+        final int k = this.numStates;
+        final double[] b = workspace.likelihoods;
+        final double[] alpha = workspace.forward;
+        final double[] beta = workspace.backward;
+        final int size = this.isSparse() ? this.transitionValues.length : k * k;
+        final double[] xi = new double[size];
+        for (int t = start; t < end; t++)
+        {
+            final int current = t * k;
+            final int next = current + k;
+            double sum = 0.0;
+            if (this.isSparse())
+            {
+                for (int i = 0; i < k; i++)
+                {
+                    final double w = b[next + i] * beta[next + i];
+                    for (int p = this.transitionRowStarts[i];
+                        p < this.transitionRowStarts[i + 1];
+                        p++)
+                    {
+                        final double value = w * this.transitionValues[p]
+                            * alpha[current + this.transitionSources[p]];
+                        xi[p] = value;
+                        sum += value;
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < k; i++)
+                {
+                    final double w = b[next + i] * beta[next + i];
+                    final int row = i * k;
+                    for (int j = 0; j < k; j++)
+                    {
+                        final double value = w
+                            * this.transitionProbability[row + j]
+                            * alpha[current + j];
+                        xi[row + j] = value;
+                        sum += value;
+                    }
+                }
+            }
+
+            if (sum <= 0.0)
+            {
+                continue;
+            }
+            final double inverse = 1.0 / sum;
+            if (this.isSparse())
+            {
+                for (int i = 0; i < k; i++)
+                {
+                    for (int p = this.transitionRowStarts[i];
+                        p < this.transitionRowStarts[i + 1];
+                        p++)
+                    {
+                        transitionCounts[i * k + this.transitionSources[p]] +=
+                            xi[p] * inverse;
+                    }
+                }
+            }
+            else
+            {
+                for (int p = 0; p < size; p++)
+                {
+                    transitionCounts[p] += xi[p] * inverse;
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the emission functions over the observations into the given
+     * buffer, in parallel over chunks of time steps for long sequences.
+     *
+     * @param   observations
+     *      Observation sequence to consider.
+     * @param   output
+     *      The row-major T-by-K buffer to write into.
+     * @param   n
+     *      The length of the sequence.
+     * @param   log
+     *      True to compute log-likelihoods, false for likelihoods.
+     */
+    protected void computeEmissions(
+        final List<? extends ObservationType> observations,
+        final double[] output,
+        final int n,
+        final boolean log)
+    {
+        final List<? extends ObservationType> data =
+            observations instanceof RandomAccess ? observations
+                : new ArrayList<ObservationType>(observations);
+        if (this.isParallel(n))
+        {
+            final ArrayList<Callable<Void>> tasks =
+                new ArrayList<Callable<Void>>();
+            for (int start = 0; start < n; start += this.chunkSize)
+            {
+                final int chunkStart = start;
+                final int chunkEnd = Math.min(n, start + this.chunkSize);
+                tasks.add(new Callable<Void>()
+                {
+                    @Override
+                    public Void call()
+                    {
+                        computeEmissions(data, output, chunkStart, chunkEnd,
+                            log);
+                        return null;
+                    }
+                });
+            }
+            this.executeInParallel(tasks);
+        }
+        else
+        {
+            this.computeEmissions(data, output, 0, n, log);
+        }
+    }
+
+    /**
+     * Evaluates the emission functions over a range of time steps.
+     *
+     * @param   observations
+     *      Observation sequence to consider, which supports random access.
+     * @param   output
+     *      The row-major T-by-K buffer to write into.
+     * @param   start
+     *      The first time step, inclusive.
+     * @param   end
+     *      The last time step, exclusive.
+     * @param   log
+     *      True to compute log-likelihoods, false for likelihoods.
+     */
+    protected void computeEmissions(
+        final List<? extends ObservationType> observations,
+        final double[] output,
+        final int start,
+        final int end,
+        final boolean log)
+    {
+        final int k = this.numStates;
+        for (int t = start; t < end; t++)
+        {
+            final ObservationType observation = observations.get(t);
+            final int offset = t * k;
+            for (int i = 0; i < k; i++)
+            {
+                final ProbabilityFunction<ObservationType> f =
+                    this.emissionFunctions.get(i);
+                output[offset + i] = log ? f.logEvaluate(observation)
+                    : f.evaluate(observation);
+            }
+        }
+    }
+
+    /**
+     * Computes row i of the transition matrix times the vector at the given
+     * offset.
+     *
+     * @param   i
+     *      The destination state.
+     * @param   vector
+     *      The array containing the vector.
+     * @param   offset
+     *      The offset of the vector in the array.
+     * @return
+     *      The dot product of row i of the transition matrix with the vector.
+     */
+    private double transitionTimes(
+        final int i,
+        final double[] vector,
+        final int offset)
+    {
+        double sum = 0.0;
+        if (this.isSparse())
+        {
+            for (int p = this.transitionRowStarts[i];
+                p < this.transitionRowStarts[i + 1];
+                p++)
+            {
+                sum += this.transitionValues[p]
+                    * vector[offset + this.transitionSources[p]];
+            }
+        }
+        else
+        {
+            final int k = this.numStates;
+            final int row = i * k;
+            for (int j = 0; j < k; j++)
+            {
+                sum += this.transitionProbability[row + j] * vector[offset + j];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the logs of the stored transition values, in the same layout as
+     * the transition representation in use.
+     *
+     * @return
+     *      The log transition values.
+     */
+    private double[] getLogTransitionValues()
+    {
+        final double[] values = this.isSparse() ? this.transitionValues
+            : this.transitionProbability;
+        final double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++)
+        {
+            result[i] = Math.log(values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Divides a range of an array by a normalizing sum. If the sum is not
+     * positive, then the range is all zeros and it is left as is.
+     *
+     * @param   values
+     *      The array to normalize.
+     * @param   offset
+     *      The start of the range.
+     * @param   length
+     *      The length of the range.
+     * @param   sum
+     *      The sum to divide by.
+     */
+    private static void normalize(
+        final double[] values,
+        final int offset,
+        final int length,
+        final double sum)
+    {
+        if (sum > 0.0)
+        {
+            scale(values, offset, length, 1.0 / sum);
+        }
+    }
+
+    /**
+     * Scales a range of an array.
+     *
+     * @param   values
+     *      The array to scale.
+     * @param   offset
+     *      The start of the range.
+     * @param   length
+     *      The length of the range.
+     * @param   scale
+     *      The amount to scale by.
+     */
+    private static void scale(
+        final double[] values,
+        final int offset,
+        final int length,
+        final double scale)
+    {
+        for (int i = offset; i < offset + length; i++)
+        {
+            values[i] *= scale;
+        }
+    }
+
+    /**
+     * Determines if a sequence of the given length should be processed in
+     * parallel.
+     *
+     * @param   length
+     *      The number of time steps.
+     * @return
+     *      True if there are multiple threads and more than one chunk.
+     */
+    protected boolean isParallel(
+        final int length)
+    {
+        return length > this.chunkSize && this.getNumThreads() > 1;
+    }
+
+    /**
+     * Executes the given tasks on the thread pool.
+     *
+     * @param   <ResultType>
+     *      The type of result of the tasks.
+     * @param   tasks
+     *      The tasks to execute.
+     * @return
+     *      The results of the tasks.
+     */
+    private <ResultType> ArrayList<ResultType> executeInParallel(
+        final List<? extends Callable<ResultType>> tasks)
+    {
+        try
+        {
+            return ParallelUtil.executeInParallel(tasks, this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets the number of states in the HMM.
+     *
+     * @return
+     *      The number of states.
+     */
+    public int getNumStates()
+    {
+        return this.numStates;
+    }
+
+    /**
+     * Determines if the engine uses the sparse transition representation.
+     *
+     * @return
+     *      True if the transitions are stored in compressed-row form.
+     */
+    public boolean isSparse()
+    {
+        return this.transitionRowStarts != null;
+    }
+
+    /**
+     * Gets the initial probability over the states.
+     *
+     * @return
+     *      The initial probability vector.
+     */
+    public Vector getInitialProbability()
+    {
+        return VectorFactory.getDefault().copyArray(this.initialProbability);
+    }
+
+    /**
+     * Gets the number of time steps processed by each parallel task.
+     *
+     * @return
+     *      The chunk size. Must be positive.
+     */
+    public int getChunkSize()
+    {
+        return this.chunkSize;
+    }
+
+    /**
+     * Sets the number of time steps processed by each parallel task.
+     *
+     * @param   chunkSize
+     *      The chunk size. Must be positive.
+     */
+    public void setChunkSize(
+        final int chunkSize)
+    {
+        ArgumentChecker.assertIsPositive("chunkSize", chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.setThreadPool(ParallelUtil.createThreadPool());
+        }
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Reusable buffers for inference over a sequence. Each per-time-step
+     * buffer is a row-major array where the value for state "i" at time "t"
+     * is at index {@code t*K + i}. The buffers grow as needed and are never
+     * shrunk, so they may be longer than the current sequence.
+     */
+    public static class Workspace
+        extends AbstractCloneableSerializable
+    {
+
+        /**
+         * Number of states.
+         */
+        protected int numStates;
+
+        /**
+         * Length of the sequence most recently processed.
+         */
+        protected int sequenceLength;
+
+        /**
+         * Maximum sequence length the buffers can hold.
+         */
+        protected int capacity;
+
+        /**
+         * Observation likelihoods (or log-likelihoods after Viterbi).
+         */
+        protected double[] likelihoods;
+
+        /**
+         * Normalized forward probabilities (or Viterbi deltas).
+         */
+        protected double[] forward;
+
+        /**
+         * Scaled backward probabilities.
+         */
+        protected double[] backward;
+
+        /**
+         * Smoothed state beliefs.
+         */
+        protected double[] beliefs;
+
+        /**
+         * Forward scale factors, one per time step.
+         */
+        protected double[] scales;
+
+        /**
+         * Viterbi backpointers, allocated on first use.
+         */
+        protected int[] backpointers;
+
+        /**
+         * Creates a new, empty {@code Workspace}.
+         *
+         * @param   numStates
+         *      The number of states.
+         */
+        public Workspace(
+            final int numStates)
+        {
+            super();
+            this.numStates = numStates;
+            this.sequenceLength = 0;
+            this.capacity = 0;
+            this.likelihoods = new double[0];
+            this.forward = new double[0];
+            this.backward = new double[0];
+            this.beliefs = new double[0];
+            this.scales = new double[0];
+        }
+
+        @Override
+        public Workspace clone()
+        {
+            final Workspace clone = (Workspace) super.clone();
+            clone.likelihoods = this.likelihoods.clone();
+            clone.forward = this.forward.clone();
+            clone.backward = this.backward.clone();
+            clone.beliefs = this.beliefs.clone();
+            clone.scales = this.scales.clone();
+            clone.backpointers = this.backpointers == null ? null
+                : this.backpointers.clone();
+            return clone;
+        }
+
+        /**
+         * Ensures the buffers can hold a sequence of the given length.
+         *
+         * @param   length
+         *      The sequence length.
+         */
+        public void ensureCapacity(
+            final int length)
+        {
+            if (length > this.capacity)
+            {
+                final int size = length * this.numStates;
+                this.likelihoods = new double[size];
+                this.forward = new double[size];
+                this.backward = new double[size];
+                this.beliefs = new double[size];
+                this.scales = new double[length];
+                this.backpointers = null;
+                this.capacity = length;
+            }
+        }
+
+        /**
+         * Gets the Viterbi backpointer buffer, allocating it if needed.
+         *
+         * @return
+         *      The backpointer buffer.
+         */
+        protected int[] getBackpointers()
+        {
+            if (this.backpointers == null)
+            {
+                this.backpointers = new int[this.capacity * this.numStates];
+            }
+            return this.backpointers;
+        }
+
+        /**
+         * Gets the length of the sequence most recently processed.
+         *
+         * @return
+         *      The sequence length.
+         */
+        public int getSequenceLength()
+        {
+            return this.sequenceLength;
+        }
+
+        /**
+         * Gets the observation likelihood buffer.
+         *
+         * @return
+         *      The observation likelihoods.
+         */
+        public double[] getObservationLikelihoods()
+        {
+            return this.likelihoods;
+        }
+
+        /**
+         * Gets the normalized forward probability buffer, which are the
+         * filtered state beliefs.
+         *
+         * @return
+         *      The forward probabilities.
+         */
+        public double[] getForwardProbabilities()
+        {
+            return this.forward;
+        }
+
+        /**
+         * Gets the scaled backward probability buffer.
+         *
+         * @return
+         *      The backward probabilities.
+         */
+        public double[] getBackwardProbabilities()
+        {
+            return this.backward;
+        }
+
+        /**
+         * Gets the smoothed state belief buffer.
+         *
+         * @return
+         *      The smoothed state beliefs.
+         */
+        public double[] getStateBeliefs()
+        {
+            return this.beliefs;
+        }
+
+        /**
+         * Gets the forward scale factors, one per time step.
+         *
+         * @return
+         *      The scale factors.
+         */
+        public double[] getScaleFactors()
+        {
+            return this.scales;
+        }
+
+    }
+
+}
@@ -19,6 +19,7 @@ import gov.sandia.cognition.annotation.PublicationReference;
 import gov.sandia.cognition.annotation.PublicationReferences;
 import gov.sandia.cognition.annotation.PublicationType;
 import gov.sandia.cognition.collection.CollectionUtil;
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.data.InputOutputPair;
 import gov.sandia.cognition.math.UnivariateStatisticsUtil;
 import gov.sandia.cognition.math.matrix.VectorFactory;
@@ -34,6 +35,7 @@ import gov.sandia.cognition.statistics.distribution.ChiSquareDistribution;
 import gov.sandia.cognition.util.AbstractCloneableSerializable;
 import gov.sandia.cognition.util.ArgumentChecker;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -154,6 +156,12 @@ public class LinearRegression
     public LinearDiscriminantWithBias learn(
         Collection<? extends InputOutputPair<? extends Vectorizable, Double>> data )
     {
+        final ColumnarDataset<?> columnar =
+            ColumnarDataset.asColumnarDataset( data );
+        if( columnar != null && columnar.hasNumericOutputs() )
+        {
+            return this.learnColumnar( columnar );
+        }
 
         // We need to cheat to figure out how many coefficients we need...
         // So we'll push the first sample through... wasteful, but general
@@ -212,6 +220,118 @@ public class LinearRegression
         return new LinearDiscriminantWithBias( w, bias );
     }
 
+    /**
+     * Computes the linear regression directly from the primitive arrays of a
+     * columnar dataset with numeric outputs.  Without the pseudoinverse,
+     * rather than building the full data matrix, this accumulates the
+     * (d+1)-by-(d+1) normal equations in a single pass over the rows and then
+     * solves them, so the memory does not grow with the number of samples.
+     * In pseudoinverse mode, the data matrix is filled straight from the
+     * arrays and pseudoinverted, since thresholding the singular values of
+     * the normal equations would threshold the squared singular values of the
+     * data instead.
+     * @param data
+     * Columnar dataset with numeric outputs.  Weights are treated the same
+     * way as for a general collection.
+     * @return
+     * LinearCombinationFunction that minimizes the RMS error of the outputs.
+     */
+    protected LinearDiscriminantWithBias learnColumnar(
+        final ColumnarDataset<?> data )
+    {
+        final int numCoefficients = data.getDimensionality();
+        if( this.getUsePseudoInverse() )
+        {
+            return this.learnColumnarPseudoInverse( data );
+        }
+
+        final int M = numCoefficients+1;
+        final double[] gramian = new double[ M*M ];
+        final double[] moment = new double[ M ];
+        final int numSamples = data.size();
+        for( int n = 0; n < numSamples; n++ )
+        {
+            // The general version scales both the inputs and output by the
+            // weight, so each sample contributes with the squared weight.
+            final double weight = data.getWeight(n);
+            final double weightSquared = weight*weight;
+            data.addScaledBiasedOuterProduct( n, weightSquared, gramian );
+            final double scaledOutput = weightSquared * data.getOutputAsDouble(n);
+            data.addScaledInput( n, scaledOutput, moment );
+            moment[numCoefficients] += scaledOutput;
+        }
+
+        final Matrix lhs = MatrixFactory.getDenseDefault().createMatrix( M, M );
+        for( int i = 0; i < M; i++ )
+        {
+            for( int j = 0; j < M; j++ )
+            {
+                lhs.setElement( i, j, gramian[i*M+j] );
+            }
+        }
+        final Vector rhs = VectorFactory.getDenseDefault().copyArray( moment );
+
+        // Solve for the coefficients
+        if( this.regularization > 0.0 )
+        {
+            for( int i = 0; i < M; i++ )
+            {
+                double v = lhs.getElement(i, i);
+                lhs.setElement(i, i, v + this.regularization);
+            }
+        }
+        Vector coefficients = lhs.solve( rhs );
+
+        Vector w = coefficients.subVector(0, numCoefficients-1);
+        double bias = coefficients.getElement(numCoefficients);
+        return new LinearDiscriminantWithBias( w, bias );
+    }
+
+    /**
+     * Computes the linear regression of a columnar dataset with numeric
+     * outputs using the pseudoinverse of the (d+1)-by-N data matrix, which is
+     * filled straight from the primitive arrays.  This gives the same
+     * solution as the general version.
+     * @param data
+     * Columnar dataset with numeric outputs.
+     * @return
+     * LinearCombinationFunction that minimizes the RMS error of the outputs.
+     */
+    protected LinearDiscriminantWithBias learnColumnarPseudoInverse(
+        final ColumnarDataset<?> data )
+    {
+        final int numCoefficients = data.getDimensionality();
+        final int numSamples = data.size();
+        final Matrix X = MatrixFactory.getDefault().createMatrix(
+            numCoefficients+1, numSamples );
+        final Vector y = VectorFactory.getDefault().createVector( numSamples );
+        final double[] column = new double[ numCoefficients ];
+        for( int n = 0; n < numSamples; n++ )
+        {
+            // Scale the inputs, bias, and output by the weight, the same as
+            // the general version.
+            final double weight = data.getWeight(n);
+            Arrays.fill( column, 0.0 );
+            data.addScaledInput( n, weight, column );
+            for( int i = 0; i < numCoefficients; i++ )
+            {
+                if( column[i] != 0.0 )
+                {
+                    X.setElement( i, n, column[i] );
+                }
+            }
+            X.setElement( numCoefficients, n, weight );
+            y.setElement( n, weight * data.getOutputAsDouble(n) );
+        }
+
+        Matrix pseudoInverse = X.pseudoInverse(DEFAULT_PSEUDO_INVERSE_TOLERANCE);
+        Vector coefficients = y.times( pseudoInverse );
+
+        Vector w = coefficients.subVector(0, numCoefficients-1);
+        double bias = coefficients.getElement(numCoefficients);
+        return new LinearDiscriminantWithBias( w, bias );
+    }
+
     /**
      * Getter for usePseudoInverse
      * @return
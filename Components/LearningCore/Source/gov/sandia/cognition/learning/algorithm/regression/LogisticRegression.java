@@ -19,10 +19,12 @@ import gov.sandia.cognition.annotation.PublicationReferences;
 import gov.sandia.cognition.annotation.PublicationType;
 import gov.sandia.cognition.evaluator.CompositeEvaluatorPair;
 import gov.sandia.cognition.learning.algorithm.AbstractAnytimeSupervisedBatchLearner;
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.data.DatasetUtil;
 import gov.sandia.cognition.learning.data.InputOutputPair;
 import gov.sandia.cognition.learning.function.scalar.LinearDiscriminantWithBias;
 import gov.sandia.cognition.math.ProbabilityUtil;
+import gov.sandia.cognition.math.UnivariateScalarFunction;
 import gov.sandia.cognition.math.matrix.DiagonalMatrix;
 import gov.sandia.cognition.math.matrix.Matrix;
 import gov.sandia.cognition.math.matrix.MatrixFactory;
@@ -186,6 +188,12 @@ public class LogisticRegression
      */
     private transient Vector err;
 
+    /**
+     * The data as a columnar dataset, when the primitive-array version of the
+     * algorithm is being used; otherwise null.
+     */
+    private transient ColumnarDataset<?> columnarData;
+
     @Override
     public LogisticRegression clone()
     {
@@ -210,6 +218,24 @@ public class LogisticRegression
         }
         
         this.setResult( this.getObjectToOptimize().clone() );
+
+        final ColumnarDataset<?> columnar =
+            ColumnarDataset.asColumnarDataset( this.data );
+        this.columnarData = (columnar != null && columnar.hasNumericOutputs())
+            ? columnar : null;
+
+        if( this.columnarData != null )
+        {
+            // For columnar data we accumulate the normal equations directly
+            // from the primitive arrays, so we don't need the N-by-N
+            // matrices or the data matrix.
+            for( int n = 0; n < N; n++ )
+            {
+                ProbabilityUtil.assertIsProbability(
+                    this.columnarData.getOutputAsDouble(n) );
+            }
+            return true;
+        }
         
         this.R = MatrixFactory.getDiagonalDefault().createMatrix( N, N );
         this.Ri = MatrixFactory.getDiagonalDefault().createMatrix( N, N );
@@ -235,6 +261,10 @@ public class LogisticRegression
     @Override
     protected boolean step()
     {
+        if( this.columnarData != null )
+        {
+            return this.stepColumnar();
+        }
         
         int n = 0;
         LogisticRegression.Function f = this.getResult();
@@ -276,9 +306,78 @@ public class LogisticRegression
         
     }
 
+    /**
+     * Performs an iteratively reweighted least squares step directly on the
+     * primitive arrays of a columnar dataset.  It computes the same update as
+     * the general step, but accumulates X*R*X' and X*R*z one sample at a
+     * time instead of forming the data matrix and N-by-N diagonal matrices.
+     * @return
+     * True if the parameters changed more than the tolerance, false otherwise.
+     */
+    protected boolean stepColumnar()
+    {
+        final ColumnarDataset<?> dataset = this.columnarData;
+        final LogisticRegression.Function f = this.getResult();
+        final Vector w = f.convertToVector();
+        final double[] parameters = w.toArray();
+        final int M = parameters.length;
+        final int dimensionality = M-1;
+        final double bias = parameters[dimensionality];
+
+        UnivariateScalarFunction squash = null;
+        if( f.getSecond() instanceof UnivariateScalarFunction )
+        {
+            squash = (UnivariateScalarFunction) f.getSecond();
+        }
+
+        final double[] gramian = new double[ M*M ];
+        final double[] moment = new double[ M ];
+        final int N = dataset.size();
+        for( int n = 0; n < N; n++ )
+        {
+            final double y = dataset.getOutputAsDouble(n);
+            final double activation =
+                dataset.dotProduct( n, parameters ) + bias;
+            final double yhat = (squash != null) ? squash.evaluate(activation)
+                : f.getSecond().evaluate(activation);
+            final double r = yhat*(1.0-yhat);
+            final double z = activation + ((r!=0.0) ? (y - yhat)/r : 0.0);
+            final double rw = r * dataset.getWeight(n);
+
+            dataset.addScaledBiasedOuterProduct( n, rw, gramian );
+            dataset.addScaledInput( n, rw*z, moment );
+            moment[dimensionality] += rw*z;
+        }
+
+        final Matrix lhs = MatrixFactory.getDenseDefault().createMatrix( M, M );
+        for( int i = 0; i < M; i++ )
+        {
+            for( int j = 0; j < M; j++ )
+            {
+                lhs.setElement( i, j, gramian[i*M+j] );
+            }
+        }
+        if( this.regularization != 0.0 )
+        {
+            for( int i = 0; i < M; i++ )
+            {
+                final double v = lhs.getElement(i, i);
+                lhs.setElement(i, i, v + this.regularization);
+            }
+        }
+
+        final Vector rhs = VectorFactory.getDenseDefault().copyArray( moment );
+        final Vector wnew = lhs.solve( rhs );
+        f.convertFromVector( wnew );
+
+        double delta = wnew.minus( w ).norm2();
+        return delta > this.getTolerance();
+    }
+
     @Override
     protected void cleanupAlgorithm()
     {
+        this.columnarData = null;
         this.X = null;
         this.Xt = null;
         this.err = null;
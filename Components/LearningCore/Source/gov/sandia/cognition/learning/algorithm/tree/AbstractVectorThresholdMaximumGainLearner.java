@@ -16,10 +16,10 @@ package gov.sandia.cognition.learning.algorithm.tree;
 
 import gov.sandia.cognition.collection.ArrayUtil;
 import gov.sandia.cognition.collection.CollectionUtil;
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.data.DatasetUtil;
 import gov.sandia.cognition.learning.data.InputOutputPair;
 import gov.sandia.cognition.learning.function.categorization.VectorElementThresholdCategorizer;
-import gov.sandia.cognition.math.matrix.Vector;
 import gov.sandia.cognition.math.matrix.Vectorizable;
 import gov.sandia.cognition.statistics.distribution.DefaultDataDistribution;
 import gov.sandia.cognition.util.AbstractCloneableSerializable;
@@ -253,10 +253,12 @@ public abstract class AbstractVectorThresholdMaximumGainLearner<OutputType>
         for (InputOutputPair<? extends Vectorizable, OutputType> example
             : data)
         {
-            // Add this example to the list.
-            final Vector input = example.getInput().convertToVector();
+            // Add this example to the list. For rows of a columnar dataset
+            // this reads the value from the arrays without creating the
+            // vector, though sparse rows are still searched per value.
             final OutputType output = example.getOutput();
-            final double value = input.getElement(dimension);
+            final double value =
+                ColumnarDataset.getInputElement(example, dimension);
             DefaultWeightedValue<OutputType> entry = values.get(index);
             entry.setWeight(value);
             entry.setValue(output);
@@ -14,10 +14,10 @@
 
 package gov.sandia.cognition.learning.algorithm.tree;
 
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.data.DatasetUtil;
 import gov.sandia.cognition.learning.data.InputOutputPair;
 import gov.sandia.cognition.learning.function.categorization.VectorElementThresholdCategorizer;
-import gov.sandia.cognition.math.matrix.Vector;
 import gov.sandia.cognition.math.matrix.Vectorizable;
 import gov.sandia.cognition.statistics.distribution.UnivariateGaussian;
 import gov.sandia.cognition.util.AbstractCloneableSerializable;
@@ -219,9 +219,11 @@ public class VectorThresholdVarianceLearner
             new ArrayList<>(totalCount);
         for (InputOutputPair<? extends Vectorizable, Double> example : data)
         {
-            // Add this example to the list.
-            final Vector input = example.getInput().convertToVector();
-            final Double value = Double.valueOf(input.getElement(dimension));
+            // Add this example to the list. For rows of a columnar dataset
+            // this reads the value from the arrays without creating the
+            // vector, though sparse rows are still searched per value.
+            final Double value = Double.valueOf(
+                ColumnarDataset.getInputElement(example, dimension));
             final Double output = example.getOutput();
 
             values.add(new DefaultWeightedValue<>(output, value));
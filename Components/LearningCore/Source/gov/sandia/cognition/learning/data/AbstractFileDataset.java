@@ -0,0 +1,137 @@
+/*
+ * File:            AbstractFileDataset.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.data;
+
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.io.File;
+import java.io.Serializable;
+
+/**
+ * An abstract class for a dataset that is streamed from a file rather than
+ * held in memory. Each call to {@code iterator} opens the file and reads it
+ * one example at a time, so the data can be much larger than the available
+ * memory and can be passed directly to the {@code learn} and {@code update}
+ * methods of incremental learners. Several passes can be made by iterating
+ * again. The numeric output stored in the file is converted to the output
+ * type using an evaluator, which allows the same file to be used for
+ * regression (with an identity) or binary categorization (with a threshold).
+ * <BR><BR>
+ * Iterators over the data implement {@code Closeable} and close the file once
+ * the end is reached. An iterator that is abandoned early should be closed.
+ *
+ * @param   <OutputType>
+ *      The type of output values in the dataset.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public abstract class AbstractFileDataset<OutputType>
+    extends Object
+    implements Iterable<DefaultWeightedInputOutputPair<Vector, OutputType>>,
+        Serializable
+{
+
+    /** The file to read the data from. */
+    protected File file;
+
+    /** The evaluator to convert the numeric output in the file to the output
+     *  type. */
+    protected Evaluator<? super Double, ? extends OutputType> outputConverter;
+
+    /**
+     * Creates a new {@code AbstractFileDataset}.
+     *
+     * @param   file
+     *      The file to read the data from.
+     * @param   outputConverter
+     *      The evaluator to convert the numeric output in the file to the
+     *      output type.
+     */
+    public AbstractFileDataset(
+        final File file,
+        final Evaluator<? super Double, ? extends OutputType> outputConverter)
+    {
+        super();
+
+        this.setFile(file);
+        this.setOutputConverter(outputConverter);
+    }
+
+    /**
+     * Creates an example from the values read from the file.
+     *
+     * @param   input
+     *      The input values.
+     * @param   output
+     *      The numeric output.
+     * @param   weight
+     *      The weight.
+     * @return
+     *      A new example.
+     */
+    protected DefaultWeightedInputOutputPair<Vector, OutputType> createExample(
+        final double[] input,
+        final double output,
+        final double weight)
+    {
+        return new DefaultWeightedInputOutputPair<Vector, OutputType>(
+            VectorFactory.getDenseDefault().copyArray(input),
+            this.outputConverter.evaluate(output), weight);
+    }
+
+    /**
+     * Gets the file to read the data from.
+     *
+     * @return
+     *      The file.
+     */
+    public File getFile()
+    {
+        return this.file;
+    }
+
+    /**
+     * Sets the file to read the data from.
+     *
+     * @param   file
+     *      The file.
+     */
+    public void setFile(
+        final File file)
+    {
+        this.file = file;
+    }
+
+    /**
+     * Gets the evaluator to convert the numeric output in the file to the
+     * output type.
+     *
+     * @return
+     *      The output converter.
+     */
+    public Evaluator<? super Double, ? extends OutputType> getOutputConverter()
+    {
+        return this.outputConverter;
+    }
+
+    /**
+     * Sets the evaluator to convert the numeric output in the file to the
+     * output type.
+     *
+     * @param   outputConverter
+     *      The output converter.
+     */
+    public void setOutputConverter(
+        final Evaluator<? super Double, ? extends OutputType> outputConverter)
+    {
+        this.outputConverter = outputConverter;
+    }
+
+}
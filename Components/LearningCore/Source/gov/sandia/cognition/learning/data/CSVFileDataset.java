@@ -0,0 +1,353 @@
+/*
+ * File:            CSVFileDataset.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.data;
+
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.evaluator.IdentityEvaluator;
+import gov.sandia.cognition.io.CSVParseException;
+import gov.sandia.cognition.io.CSVUtility;
+import gov.sandia.cognition.math.matrix.Vector;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dataset streamed from a delimited text (CSV) file, one example per line.
+ * Every value on a line must be numeric. One column holds the output, by
+ * default the last one, and the others hold the input vector. Lines are read
+ * and parsed only as the iterator advances, so only one example is held in
+ * memory at a time. Empty lines are skipped, and the first line can be skipped
+ * as a header. All examples have a weight of 1.0.
+ * <BR><BR>
+ * Parsing text is relatively slow. For repeated passes over a large dataset,
+ * consider converting it once with {@code RecordFileDataset.write} or reading
+ * it through a {@code PrefetchingIterable}.
+ *
+ * @param   <OutputType>
+ *      The type of output values in the dataset.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     RecordFileDataset
+ */
+public class CSVFileDataset<OutputType>
+    extends AbstractFileDataset<OutputType>
+{
+
+    /** The default delimiter is {@value}. */
+    public static final char DEFAULT_DELIMITER = ',';
+
+    /** The default output column is {@value}, which means the last column. */
+    public static final int DEFAULT_OUTPUT_COLUMN = -1;
+
+    /** The delimiter between values on a line. */
+    protected char delimiter;
+
+    /** The index of the output column. A negative value counts from the end
+     *  of the line, so -1 is the last column. */
+    protected int outputColumn;
+
+    /** True if the first line of the file is a header to skip. */
+    protected boolean headerSkipped;
+
+    /**
+     * Creates a new {@code CSVFileDataset} with numeric outputs in the last
+     * column, comma delimiters, and no header.
+     *
+     * @param   file
+     *      The file to read.
+     * @return
+     *      A new dataset for the file.
+     */
+    public static CSVFileDataset<Double> create(
+        final File file)
+    {
+        return new CSVFileDataset<Double>(file,
+            new IdentityEvaluator<Double>());
+    }
+
+    /**
+     * Creates a new {@code CSVFileDataset} with the output in the last
+     * column, comma delimiters, and no header.
+     *
+     * @param   file
+     *      The file to read.
+     * @param   outputConverter
+     *      The evaluator to convert the numeric output in the file to the
+     *      output type.
+     */
+    public CSVFileDataset(
+        final File file,
+        final Evaluator<? super Double, ? extends OutputType> outputConverter)
+    {
+        this(file, outputConverter, DEFAULT_DELIMITER, DEFAULT_OUTPUT_COLUMN,
+            false);
+    }
+
+    /**
+     * Creates a new {@code CSVFileDataset}.
+     *
+     * @param   file
+     *      The file to read.
+     * @param   outputConverter
+     *      The evaluator to convert the numeric output in the file to the
+     *      output type.
+     * @param   delimiter
+     *      The delimiter between values on a line.
+     * @param   outputColumn
+     *      The index of the output column. A negative value counts from the
+     *      end of the line, so -1 is the last column.
+     * @param   headerSkipped
+     *      True if the first line of the file is a header to skip.
+     */
+    public CSVFileDataset(
+        final File file,
+        final Evaluator<? super Double, ? extends OutputType> outputConverter,
+        final char delimiter,
+        final int outputColumn,
+        final boolean headerSkipped)
+    {
+        super(file, outputConverter);
+
+        this.setDelimiter(delimiter);
+        this.setOutputColumn(outputColumn);
+        this.setHeaderSkipped(headerSkipped);
+    }
+
+    @Override
+    public LineIterator iterator()
+    {
+        try
+        {
+            return new LineIterator();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets the delimiter between values on a line.
+     *
+     * @return
+     *      The delimiter.
+     */
+    public char getDelimiter()
+    {
+        return this.delimiter;
+    }
+
+    /**
+     * Sets the delimiter between values on a line.
+     *
+     * @param   delimiter
+     *      The delimiter.
+     */
+    public void setDelimiter(
+        final char delimiter)
+    {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Gets the index of the output column. A negative value counts from the
+     * end of the line, so -1 is the last column.
+     *
+     * @return
+     *      The output column.
+     */
+    public int getOutputColumn()
+    {
+        return this.outputColumn;
+    }
+
+    /**
+     * Sets the index of the output column. A negative value counts from the
+     * end of the line, so -1 is the last column.
+     *
+     * @param   outputColumn
+     *      The output column.
+     */
+    public void setOutputColumn(
+        final int outputColumn)
+    {
+        this.outputColumn = outputColumn;
+    }
+
+    /**
+     * Gets whether the first line of the file is a header to skip.
+     *
+     * @return
+     *      True if the first line is skipped.
+     */
+    public boolean isHeaderSkipped()
+    {
+        return this.headerSkipped;
+    }
+
+    /**
+     * Sets whether the first line of the file is a header to skip.
+     *
+     * @param   headerSkipped
+     *      True if the first line is skipped.
+     */
+    public void setHeaderSkipped(
+        final boolean headerSkipped)
+    {
+        this.headerSkipped = headerSkipped;
+    }
+
+    /**
+     * The iterator over the lines of a {@code CSVFileDataset}.
+     */
+    public class LineIterator
+        extends Object
+        implements Iterator<DefaultWeightedInputOutputPair<Vector, OutputType>>,
+            Closeable
+    {
+
+        /** The reader for the file. Null once closed. */
+        private BufferedReader reader;
+
+        /** The values on the next line, or null if not read yet. */
+        private String[] nextLine;
+
+        /** The number of data records read so far, for error messages. */
+        private int recordNumber;
+
+        /**
+         * Creates a new {@code LineIterator}, opening the file.
+         *
+         * @throws  IOException
+         *      If there is an error opening the file.
+         */
+        protected LineIterator()
+            throws IOException
+        {
+            super();
+
+            this.reader = new BufferedReader(new FileReader(file));
+            this.nextLine = null;
+            this.recordNumber = 0;
+            if (headerSkipped)
+            {
+                this.reader.readLine();
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (this.nextLine == null && this.reader != null)
+            {
+                try
+                {
+                    this.nextLine = CSVUtility.nextNonEmptyLine(this.reader,
+                        delimiter);
+                    this.recordNumber++;
+                }
+                catch (IOException e)
+                {
+                    this.close();
+                    throw new RuntimeException(e);
+                }
+
+                if (this.nextLine == null)
+                {
+                    this.close();
+                }
+            }
+            return this.nextLine != null;
+        }
+
+        @Override
+        public DefaultWeightedInputOutputPair<Vector, OutputType> next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            final String[] values = this.nextLine;
+            this.nextLine = null;
+
+            final int length = values.length;
+            final int column = outputColumn < 0 ? length + outputColumn
+                : outputColumn;
+            if (column < 0 || column >= length)
+            {
+                this.close();
+                throw new RuntimeException(new CSVParseException(
+                    "No output column " + outputColumn + " in record "
+                    + this.recordNumber));
+            }
+
+            final double[] input = new double[length - 1];
+            double output = 0.0;
+            try
+            {
+                int index = 0;
+                for (int i = 0; i < length; i++)
+                {
+                    final double value = Double.parseDouble(values[i].trim());
+                    if (i == column)
+                    {
+                        output = value;
+                    }
+                    else
+                    {
+                        input[index] = value;
+                        index++;
+                    }
+                }
+            }
+            catch (NumberFormatException e)
+            {
+                this.close();
+                throw new RuntimeException(new CSVParseException(
+                    "Invalid number in record " + this.recordNumber, e));
+            }
+
+            return createExample(input, output, 1.0);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported.");
+        }
+
+        @Override
+        public void close()
+        {
+            this.nextLine = null;
+            if (this.reader != null)
+            {
+                try
+                {
+                    this.reader.close();
+                }
+                catch (IOException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                finally
+                {
+                    this.reader = null;
+                }
+            }
+        }
+
+    }
+
+}
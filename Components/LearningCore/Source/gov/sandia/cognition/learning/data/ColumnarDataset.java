@@ -0,0 +1,1103 @@
+/*
+ * File:            ColumnarDataset.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.data;
+
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorEntry;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A dataset of vector inputs that stores all of its values in contiguous
+ * primitive arrays instead of as a collection of pair, vector, and boxed
+ * output objects. The features are stored either as a dense row-major array
+ * or in compressed sparse row (CSR) form. Outputs are stored either as a
+ * primitive array of doubles (for regression) or as an array of integer codes
+ * into a list of categories (for categorization). Weights are optional.
+ * <BR><BR>
+ * The dataset implements the standard list of input-output pairs contract
+ * through lightweight {@code Row} views, so it can be passed to any learner.
+ * Learners that are aware of this class can detect it and read the
+ * underlying arrays directly in their inner loops. The views still create a
+ * new input vector each time one is requested, so any code that goes through
+ * the general interface, such as creating clusters from the inputs, still
+ * creates the per-example vectors.
+ * The arrays given to the factory methods are used directly, not copied, and
+ * should not be modified while the dataset is in use.
+ *
+ * @param   <OutputType>
+ *      The type of output values in the dataset.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ColumnarDataset<OutputType>
+    extends AbstractList<ColumnarDataset.Row<OutputType>>
+    implements RandomAccess, Serializable
+{
+
+    /** The number of rows (examples) in the dataset. */
+    protected int size;
+
+    /** The dimensionality of the input vectors. */
+    protected int dimensionality;
+
+    /** The feature values. For dense data this is the row-major size by
+     *  dimensionality matrix. For sparse data these are the non-zero values
+     *  in CSR order. */
+    protected double[] values;
+
+    /** For sparse data, the index into the values array where each row starts,
+     *  with one extra entry for the end. Null for dense data. */
+    protected int[] rowStarts;
+
+    /** For sparse data, the column index of each non-zero value, in ascending
+     *  order within each row. Null for dense data. */
+    protected int[] columnIndices;
+
+    /** The weight of each row. Null means every weight is 1.0. */
+    protected double[] weights;
+
+    /** The numeric outputs. Null for categorical outputs. */
+    protected double[] numericOutputs;
+
+    /** The index into the list of categories of each output. Null for numeric
+     *  outputs. */
+    protected int[] outputCodes;
+
+    /** The list of categories the output codes refer to. Null for numeric
+     *  outputs. */
+    protected ArrayList<OutputType> outputCategories;
+
+    /**
+     * Creates a new {@code ColumnarDataset}. Use one of the static factory
+     * methods to create it.
+     *
+     * @param   size
+     *      The number of rows.
+     * @param   dimensionality
+     *      The input dimensionality.
+     * @param   values
+     *      The feature values.
+     * @param   rowStarts
+     *      The CSR row starts, or null for dense data.
+     * @param   columnIndices
+     *      The CSR column indices, or null for dense data.
+     * @param   numericOutputs
+     *      The numeric outputs, or null for categorical outputs.
+     * @param   outputCodes
+     *      The categorical output codes, or null for numeric outputs.
+     * @param   outputCategories
+     *      The categories, or null for numeric outputs.
+     * @param   weights
+     *      The weights, or null for all weights of 1.0.
+     */
+    protected ColumnarDataset(
+        final int size,
+        final int dimensionality,
+        final double[] values,
+        final int[] rowStarts,
+        final int[] columnIndices,
+        final double[] numericOutputs,
+        final int[] outputCodes,
+        final List<OutputType> outputCategories,
+        final double[] weights)
+    {
+        super();
+
+        ArgumentChecker.assertIsNonNegative("size", size);
+        ArgumentChecker.assertIsNonNegative("dimensionality", dimensionality);
+        if (rowStarts == null)
+        {
+            if (values.length != size * dimensionality)
+            {
+                throw new IllegalArgumentException(
+                    "values must be of length size * dimensionality");
+            }
+        }
+        else
+        {
+            if (rowStarts.length != size + 1 || rowStarts[0] != 0
+                || rowStarts[size] != values.length
+                || columnIndices.length != values.length)
+            {
+                throw new IllegalArgumentException(
+                    "Invalid compressed sparse row structure");
+            }
+            for (int i = 0; i < size; i++)
+            {
+                if (rowStarts[i] > rowStarts[i + 1])
+                {
+                    throw new IllegalArgumentException(
+                        "rowStarts must be non-decreasing");
+                }
+                int previous = -1;
+                for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++)
+                {
+                    final int column = columnIndices[k];
+                    if (column <= previous || column >= dimensionality)
+                    {
+                        throw new IllegalArgumentException(
+                            "Column indices must be in range and ascending "
+                            + "within each row");
+                    }
+                    previous = column;
+                }
+            }
+        }
+
+        if (numericOutputs != null)
+        {
+            if (numericOutputs.length != size)
+            {
+                throw new IllegalArgumentException(
+                    "outputs must be of length size");
+            }
+        }
+        else
+        {
+            if (outputCodes.length != size)
+            {
+                throw new IllegalArgumentException(
+                    "outputCodes must be of length size");
+            }
+            for (int code : outputCodes)
+            {
+                if (code < 0 || code >= outputCategories.size())
+                {
+                    throw new IllegalArgumentException(
+                        "Output code out of range of the categories: " + code);
+                }
+            }
+        }
+
+        if (weights != null && weights.length != size)
+        {
+            throw new IllegalArgumentException(
+                "weights must be of length size");
+        }
+
+        this.size = size;
+        this.dimensionality = dimensionality;
+        this.values = values;
+        this.rowStarts = rowStarts;
+        this.columnIndices = columnIndices;
+        this.numericOutputs = numericOutputs;
+        this.outputCodes = outputCodes;
+        this.outputCategories = outputCategories == null ? null
+            : new ArrayList<OutputType>(outputCategories);
+        this.weights = weights;
+    }
+
+    /**
+     * Creates a new dense dataset with numeric outputs.
+     *
+     * @param   dimensionality
+     *      The input dimensionality.
+     * @param   features
+     *      The row-major feature matrix. Its length must be the number of
+     *      outputs times the dimensionality.
+     * @param   outputs
+     *      The output for each row.
+     * @param   weights
+     *      The weight for each row. May be null for all weights of 1.0.
+     * @return
+     *      A new dense dataset.
+     */
+    public static ColumnarDataset<Double> createDense(
+        final int dimensionality,
+        final double[] features,
+        final double[] outputs,
+        final double[] weights)
+    {
+        return new ColumnarDataset<Double>(outputs.length, dimensionality,
+            features, null, null, outputs, null, null, weights);
+    }
+
+    /**
+     * Creates a new dense dataset with categorical outputs.
+     *
+     * @param   <OutputType>
+     *      The type of output values.
+     * @param   dimensionality
+     *      The input dimensionality.
+     * @param   features
+     *      The row-major feature matrix. Its length must be the number of
+     *      output codes times the dimensionality.
+     * @param   outputCodes
+     *      The index of the output category for each row.
+     * @param   outputCategories
+     *      The list of categories that the output codes index into.
+     * @param   weights
+     *      The weight for each row. May be null for all weights of 1.0.
+     * @return
+     *      A new dense dataset.
+     */
+    public static <OutputType> ColumnarDataset<OutputType> createDense(
+        final int dimensionality,
+        final double[] features,
+        final int[] outputCodes,
+        final List<OutputType> outputCategories,
+        final double[] weights)
+    {
+        return new ColumnarDataset<OutputType>(outputCodes.length,
+            dimensionality, features, null, null, null, outputCodes,
+            outputCategories, weights);
+    }
+
+    /**
+     * Creates a new sparse dataset with numeric outputs from compressed sparse
+     * row (CSR) arrays.
+     *
+     * @param   dimensionality
+     *      The input dimensionality.
+     * @param   rowStarts
+     *      The index where each row starts in the column indices and values,
+     *      plus a final entry that is the total number of non-zeros.
+     * @param   columnIndices
+     *      The column of each non-zero, ascending within each row.
+     * @param   values
+     *      The value of each non-zero.
+     * @param   outputs
+     *      The output for each row.
+     * @param   weights
+     *      The weight for each row. May be null for all weights of 1.0.
+     * @return
+     *      A new sparse dataset.
+     */
+    public static ColumnarDataset<Double> createSparse(
+        final int dimensionality,
+        final int[] rowStarts,
+        final int[] columnIndices,
+        final double[] values,
+        final double[] outputs,
+        final double[] weights)
+    {
+        return new ColumnarDataset<Double>(outputs.length, dimensionality,
+            values, rowStarts, columnIndices, outputs, null, null, weights);
+    }
+
+    /**
+     * Creates a new sparse dataset with categorical outputs from compressed
+     * sparse row (CSR) arrays.
+     *
+     * @param   <OutputType>
+     *      The type of output values.
+     * @param   dimensionality
+     *      The input dimensionality.
+     * @param   rowStarts
+     *      The index where each row starts in the column indices and values,
+     *      plus a final entry that is the total number of non-zeros.
+     * @param   columnIndices
+     *      The column of each non-zero, ascending within each row.
+     * @param   values
+     *      The value of each non-zero.
+     * @param   outputCodes
+     *      The index of the output category for each row.
+     * @param   outputCategories
+     *      The list of categories that the output codes index into.
+     * @param   weights
+     *      The weight for each row. May be null for all weights of 1.0.
+     * @return
+     *      A new sparse dataset.
+     */
+    public static <OutputType> ColumnarDataset<OutputType> createSparse(
+        final int dimensionality,
+        final int[] rowStarts,
+        final int[] columnIndices,
+        final double[] values,
+        final int[] outputCodes,
+        final List<OutputType> outputCategories,
+        final double[] weights)
+    {
+        return new ColumnarDataset<OutputType>(outputCodes.length,
+            dimensionality, values, rowStarts, columnIndices, null,
+            outputCodes, outputCategories, weights);
+    }
+
+    /**
+     * Creates a columnar copy of the given data. If every output is a
+     * {@code Double}, the outputs are stored as numeric values. Otherwise,
+     * they are stored as categories. Weights are kept only if there is some
+     * weight other than 1.0.
+     *
+     * @param   <OutputType>
+     *      The type of output values.
+     * @param   data
+     *      The data to copy. Every input must have the same dimensionality.
+     * @param   sparse
+     *      True to store the features in sparse form; false for dense.
+     * @return
+     *      A new columnar dataset containing the given data.
+     */
+    public static <OutputType> ColumnarDataset<OutputType> fromCollection(
+        final Collection<? extends InputOutputPair<? extends Vectorizable, ? extends OutputType>> data,
+        final boolean sparse)
+    {
+        final int size = data.size();
+        final int dimensionality = size == 0 ? 0
+            : DatasetUtil.getInputDimensionality(data);
+
+        final double[] weights = new double[size];
+        boolean allOutputsDouble = true;
+        boolean allWeightsOne = true;
+        int nonZeroCount = 0;
+        final ArrayList<Vector> inputs = new ArrayList<Vector>(size);
+        for (InputOutputPair<? extends Vectorizable, ? extends OutputType> example
+            : data)
+        {
+            final Vector input = example.getInput().convertToVector();
+            input.assertDimensionalityEquals(dimensionality);
+            inputs.add(input);
+            if (sparse)
+            {
+                nonZeroCount += input.getEntryCount();
+            }
+
+            final double weight = DatasetUtil.getWeight(example);
+            allWeightsOne &= weight == 1.0;
+            weights[inputs.size() - 1] = weight;
+            allOutputsDouble &= example.getOutput() instanceof Double;
+        }
+
+        double[] values;
+        int[] rowStarts = null;
+        int[] columnIndices = null;
+        if (sparse)
+        {
+            // Count the actual non-zeros since sparse vectors may contain
+            // explicit zero entries.
+            rowStarts = new int[size + 1];
+            columnIndices = new int[nonZeroCount];
+            values = new double[nonZeroCount];
+            int offset = 0;
+            for (int i = 0; i < size; i++)
+            {
+                rowStarts[i] = offset;
+                for (VectorEntry entry : inputs.get(i))
+                {
+                    final double value = entry.getValue();
+                    if (value != 0.0)
+                    {
+                        columnIndices[offset] = entry.getIndex();
+                        values[offset] = value;
+                        offset++;
+                    }
+                }
+            }
+            rowStarts[size] = offset;
+            if (offset < nonZeroCount)
+            {
+                columnIndices = Arrays.copyOf(columnIndices, offset);
+                values = Arrays.copyOf(values, offset);
+            }
+        }
+        else
+        {
+            values = new double[size * dimensionality];
+            for (int i = 0; i < size; i++)
+            {
+                final int start = i * dimensionality;
+                for (VectorEntry entry : inputs.get(i))
+                {
+                    values[start + entry.getIndex()] = entry.getValue();
+                }
+            }
+        }
+
+        double[] numericOutputs = null;
+        int[] outputCodes = null;
+        ArrayList<OutputType> outputCategories = null;
+        int index = 0;
+        if (allOutputsDouble)
+        {
+            numericOutputs = new double[size];
+            for (InputOutputPair<?, ? extends OutputType> example : data)
+            {
+                numericOutputs[index] = (Double) example.getOutput();
+                index++;
+            }
+        }
+        else
+        {
+            outputCodes = new int[size];
+            outputCategories = new ArrayList<OutputType>();
+            final Map<OutputType, Integer> codes =
+                new HashMap<OutputType, Integer>();
+            for (InputOutputPair<?, ? extends OutputType> example : data)
+            {
+                final OutputType output = example.getOutput();
+                Integer code = codes.get(output);
+                if (code == null)
+                {
+                    code = outputCategories.size();
+                    codes.put(output, code);
+                    outputCategories.add(output);
+                }
+                outputCodes[index] = code;
+                index++;
+            }
+        }
+
+        return new ColumnarDataset<OutputType>(size, dimensionality, values,
+            rowStarts, columnIndices, numericOutputs, outputCodes,
+            outputCategories, allWeightsOne ? null : weights);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public Row<OutputType> get(
+        final int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        return new Row<OutputType>(this, index);
+    }
+
+    /**
+     * Gets a list view of the input vectors in the dataset. Each call to get
+     * on the view creates a new vector for the row.
+     *
+     * @return
+     *      A list view of the inputs.
+     */
+    public InputList getInputs()
+    {
+        return new InputList(this);
+    }
+
+    /**
+     * Gets the input for the given row as a new vector. It is sparse if the
+     * dataset is sparse and dense otherwise.
+     *
+     * @param   row
+     *      The row index.
+     * @return
+     *      A new vector containing the input values for the row.
+     */
+    public Vector getInput(
+        final int row)
+    {
+        if (this.rowStarts == null)
+        {
+            final int start = row * this.dimensionality;
+            return VectorFactory.getDenseDefault().copyArray(
+                Arrays.copyOfRange(this.values, start,
+                    start + this.dimensionality));
+        }
+        else
+        {
+            final int start = this.rowStarts[row];
+            final int end = this.rowStarts[row + 1];
+            return VectorFactory.getSparseDefault().copyArray(
+                this.dimensionality,
+                Arrays.copyOfRange(this.columnIndices, start, end),
+                Arrays.copyOfRange(this.values, start, end));
+        }
+    }
+
+    /**
+     * Gets the value of a single input feature. For sparse data this is a
+     * binary search over the non-zero columns of the row.
+     *
+     * @param   row
+     *      The row index.
+     * @param   column
+     *      The column (dimension) index.
+     * @return
+     *      The feature value.
+     */
+    public double getFeature(
+        final int row,
+        final int column)
+    {
+        if (this.rowStarts == null)
+        {
+            return this.values[row * this.dimensionality + column];
+        }
+        else
+        {
+            final int position = Arrays.binarySearch(this.columnIndices,
+                this.rowStarts[row], this.rowStarts[row + 1], column);
+            return position >= 0 ? this.values[position] : 0.0;
+        }
+    }
+
+    /**
+     * Gets the output of the given row.
+     *
+     * @param   row
+     *      The row index.
+     * @return
+     *      The output of the row.
+     */
+    @SuppressWarnings("unchecked")
+    public OutputType getOutput(
+        final int row)
+    {
+        if (this.numericOutputs != null)
+        {
+            return (OutputType) Double.valueOf(this.numericOutputs[row]);
+        }
+        else
+        {
+            return this.outputCategories.get(this.outputCodes[row]);
+        }
+    }
+
+    /**
+     * Gets the numeric output of the given row. Only valid if the dataset has
+     * numeric outputs.
+     *
+     * @param   row
+     *      The row index.
+     * @return
+     *      The numeric output of the row.
+     */
+    public double getOutputAsDouble(
+        final int row)
+    {
+        return this.numericOutputs[row];
+    }
+
+    /**
+     * Gets the category code of the output of the given row. Only valid if the
+     * dataset has categorical outputs.
+     *
+     * @param   row
+     *      The row index.
+     * @return
+     *      The index of the row's output in the list of output categories.
+     */
+    public int getOutputCode(
+        final int row)
+    {
+        return this.outputCodes[row];
+    }
+
+    /**
+     * Gets the weight of the given row.
+     *
+     * @param   row
+     *      The row index.
+     * @return
+     *      The weight of the row.
+     */
+    public double getWeight(
+        final int row)
+    {
+        return this.weights == null ? 1.0 : this.weights[row];
+    }
+
+    /**
+     * Gets the index into the values and column indices where the given row
+     * starts. Together with {@code getRowEnd}, {@code getColumnIndex}, and
+     * {@code getValue}, this allows looping over the entries of a row in the
+     * same way for dense and sparse data.
+     *
+     * @param   row
+     *      The row index.
+     * @return
+     *      The first entry position of the row.
+     */
+    public int getRowStart(
+        final int row)
+    {
+        return this.rowStarts == null ? row * this.dimensionality
+            : this.rowStarts[row];
+    }
+
+    /**
+     * Gets the index into the values and column indices one past where the
+     * given row ends.
+     *
+     * @param   row
+     *      The row index.
+     * @return
+     *      The position one past the last entry of the row.
+     */
+    public int getRowEnd(
+        final int row)
+    {
+        return this.rowStarts == null ? (row + 1) * this.dimensionality
+            : this.rowStarts[row + 1];
+    }
+
+    /**
+     * Gets the column of the entry at the given position.
+     *
+     * @param   position
+     *      The entry position.
+     * @return
+     *      The column index of the entry.
+     */
+    public int getColumnIndex(
+        final int position)
+    {
+        return this.columnIndices == null ? position % this.dimensionality
+            : this.columnIndices[position];
+    }
+
+    /**
+     * Gets the value of the entry at the given position.
+     *
+     * @param   position
+     *      The entry position.
+     * @return
+     *      The value of the entry.
+     */
+    public double getValue(
+        final int position)
+    {
+        return this.values[position];
+    }
+
+    /**
+     * Computes the dot product between the input of the given row and the
+     * given array.
+     *
+     * @param   row
+     *      The row index.
+     * @param   vector
+     *      An array of at least the dimensionality of the data.
+     * @return
+     *      The dot product.
+     */
+    public double dotProduct(
+        final int row,
+        final double[] vector)
+    {
+        double result = 0.0;
+        if (this.rowStarts == null)
+        {
+            final int start = row * this.dimensionality;
+            for (int j = 0; j < this.dimensionality; j++)
+            {
+                result += this.values[start + j] * vector[j];
+            }
+        }
+        else
+        {
+            final int end = this.rowStarts[row + 1];
+            for (int k = this.rowStarts[row]; k < end; k++)
+            {
+                result += this.values[k] * vector[this.columnIndices[k]];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the input of the given row times a scale to the given array.
+     *
+     * @param   row
+     *      The row index.
+     * @param   scale
+     *      The scale to multiply the input by.
+     * @param   target
+     *      The array to add to. Must be at least the dimensionality.
+     */
+    public void addScaledInput(
+        final int row,
+        final double scale,
+        final double[] target)
+    {
+        final int end = this.getRowEnd(row);
+        for (int k = this.getRowStart(row); k < end; k++)
+        {
+            target[this.getColumnIndex(k)] += scale * this.values[k];
+        }
+    }
+
+    /**
+     * Adds the scaled outer product of the input of the given row, augmented
+     * with a constant 1.0 as its last element, to the given row-major matrix.
+     * This is the term each example contributes to the normal equations of a
+     * linear model with a bias.
+     *
+     * @param   row
+     *      The row index.
+     * @param   scale
+     *      The scale to multiply the outer product by.
+     * @param   target
+     *      The row-major (dimensionality + 1) by (dimensionality + 1) matrix
+     *      to add to.
+     */
+    public void addScaledBiasedOuterProduct(
+        final int row,
+        final double scale,
+        final double[] target)
+    {
+        final int d = this.dimensionality;
+        final int m = d + 1;
+        final int start = this.getRowStart(row);
+        final int end = this.getRowEnd(row);
+        for (int a = start; a < end; a++)
+        {
+            final double scaledValue = scale * this.values[a];
+            if (scaledValue == 0.0)
+            {
+                continue;
+            }
+            final int offset = this.getColumnIndex(a) * m;
+            for (int b = start; b < end; b++)
+            {
+                target[offset + this.getColumnIndex(b)] +=
+                    scaledValue * this.values[b];
+            }
+            target[offset + d] += scaledValue;
+            target[d * m + this.getColumnIndex(a)] += scaledValue;
+        }
+        target[d * m + d] += scale;
+    }
+
+    /**
+     * Computes the squared Euclidean distance between the input of the given
+     * row and the given point.
+     *
+     * @param   row
+     *      The row index.
+     * @param   point
+     *      The point, which must have the dimensionality of the data.
+     * @param   pointSquaredNorm
+     *      The squared 2-norm of the point. Only used for sparse data, where
+     *      it avoids looping over the zero entries of the row.
+     * @return
+     *      The squared Euclidean distance.
+     */
+    public double computeSquaredDistance(
+        final int row,
+        final double[] point,
+        final double pointSquaredNorm)
+    {
+        if (this.rowStarts == null)
+        {
+            final int start = row * this.dimensionality;
+            double result = 0.0;
+            for (int j = 0; j < this.dimensionality; j++)
+            {
+                final double difference = this.values[start + j] - point[j];
+                result += difference * difference;
+            }
+            return result;
+        }
+        else
+        {
+            double result = pointSquaredNorm;
+            final int end = this.rowStarts[row + 1];
+            for (int k = this.rowStarts[row]; k < end; k++)
+            {
+                final double p = point[this.columnIndices[k]];
+                final double difference = this.values[k] - p;
+                result += difference * difference - p * p;
+            }
+            return Math.max(0.0, result);
+        }
+    }
+
+    /**
+     * Gets the dimensionality of the inputs.
+     *
+     * @return
+     *      The input dimensionality.
+     */
+    public int getDimensionality()
+    {
+        return this.dimensionality;
+    }
+
+    /**
+     * Determines if the features are stored in sparse (CSR) form.
+     *
+     * @return
+     *      True if the features are sparse; false if they are dense.
+     */
+    public boolean isSparse()
+    {
+        return this.rowStarts != null;
+    }
+
+    /**
+     * Determines if the outputs are stored as numeric values.
+     *
+     * @return
+     *      True if the outputs are numeric; false if they are categorical.
+     */
+    public boolean hasNumericOutputs()
+    {
+        return this.numericOutputs != null;
+    }
+
+    /**
+     * Determines if the dataset has explicit weights.
+     *
+     * @return
+     *      True if there are weights; false if all weights are 1.0.
+     */
+    public boolean hasWeights()
+    {
+        return this.weights != null;
+    }
+
+    /**
+     * Gets the list of output categories that the output codes refer to.
+     *
+     * @return
+     *      The output categories. Null if the outputs are numeric.
+     */
+    public List<OutputType> getOutputCategories()
+    {
+        return this.outputCategories;
+    }
+
+    /**
+     * Gets the given data as a {@code ColumnarDataset}, if it is one. This
+     * allows learners to detect columnar data passed to them through the
+     * general collection interface.
+     *
+     * @param   data
+     *      The data to check.
+     * @return
+     *      The data as a columnar dataset, or null if it is not one.
+     */
+    public static ColumnarDataset<?> asColumnarDataset(
+        final Collection<?> data)
+    {
+        if (data instanceof ColumnarDataset)
+        {
+            return (ColumnarDataset<?>) data;
+        }
+        else
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the value of the given dimension of the input of an example. If the
+     * example is a row of a {@code ColumnarDataset}, the value is read
+     * directly from the underlying array without creating the input vector,
+     * which for sparse data is a binary search within the row.
+     *
+     * @param   example
+     *      The example to get the input value of.
+     * @param   dimension
+     *      The dimension to get.
+     * @return
+     *      The value of the given dimension of the input.
+     */
+    public static double getInputElement(
+        final InputOutputPair<? extends Vectorizable, ?> example,
+        final int dimension)
+    {
+        if (example instanceof Row)
+        {
+            return ((Row<?>) example).getFeature(dimension);
+        }
+        else
+        {
+            return example.getInput().convertToVector().getElement(dimension);
+        }
+    }
+
+    /**
+     * A view of a single row of a {@code ColumnarDataset} as a weighted
+     * input-output pair. The input vector is created each time it is
+     * requested.
+     *
+     * @param   <OutputType>
+     *      The type of output values.
+     */
+    public static class Row<OutputType>
+        extends AbstractCloneableSerializable
+        implements WeightedInputOutputPair<Vector, OutputType>
+    {
+
+        /** The dataset the row belongs to. */
+        protected ColumnarDataset<OutputType> dataset;
+
+        /** The index of the row in the dataset. */
+        protected int index;
+
+        /**
+         * Creates a new {@code Row}.
+         *
+         * @param   dataset
+         *      The dataset the row belongs to.
+         * @param   index
+         *      The index of the row in the dataset.
+         */
+        public Row(
+            final ColumnarDataset<OutputType> dataset,
+            final int index)
+        {
+            super();
+
+            this.dataset = dataset;
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Row<OutputType> clone()
+        {
+            return (Row<OutputType>) super.clone();
+        }
+
+        @Override
+        public Vector getInput()
+        {
+            return this.dataset.getInput(this.index);
+        }
+
+        @Override
+        public OutputType getOutput()
+        {
+            return this.dataset.getOutput(this.index);
+        }
+
+        @Override
+        public Vector getFirst()
+        {
+            return this.getInput();
+        }
+
+        @Override
+        public OutputType getSecond()
+        {
+            return this.getOutput();
+        }
+
+        @Override
+        public double getWeight()
+        {
+            return this.dataset.getWeight(this.index);
+        }
+
+        /**
+         * Gets the value of a single input feature of the row.
+         *
+         * @param   column
+         *      The column (dimension) index.
+         * @return
+         *      The feature value.
+         */
+        public double getFeature(
+            final int column)
+        {
+            return this.dataset.getFeature(this.index, column);
+        }
+
+        /**
+         * Gets the dataset the row belongs to.
+         *
+         * @return
+         *      The dataset.
+         */
+        public ColumnarDataset<OutputType> getDataset()
+        {
+            return this.dataset;
+        }
+
+        /**
+         * Gets the index of the row in the dataset.
+         *
+         * @return
+         *      The row index.
+         */
+        public int getIndex()
+        {
+            return this.index;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Input: " + this.getInput() + " Output: " + this.getOutput()
+                + " Weight: " + this.getWeight();
+        }
+
+    }
+
+    /**
+     * A list view of the input vectors of a {@code ColumnarDataset}. Each call
+     * to get creates a new vector for the row, so iterating over the view
+     * creates one vector per row. Learners that detect the view can use
+     * {@code getDataset} to read the arrays instead.
+     */
+    public static class InputList
+        extends AbstractList<Vector>
+        implements RandomAccess, Serializable
+    {
+
+        /** The dataset to view the inputs of. */
+        protected ColumnarDataset<?> dataset;
+
+        /**
+         * Creates a new {@code InputList}.
+         *
+         * @param   dataset
+         *      The dataset to view the inputs of.
+         */
+        public InputList(
+            final ColumnarDataset<?> dataset)
+        {
+            super();
+
+            this.dataset = dataset;
+        }
+
+        @Override
+        public Vector get(
+            final int index)
+        {
+            if (index < 0 || index >= this.dataset.size())
+            {
+                throw new IndexOutOfBoundsException("index: " + index);
+            }
+            return this.dataset.getInput(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.dataset.size();
+        }
+
+        /**
+         * Gets the dataset the inputs belong to.
+         *
+         * @return
+         *      The dataset.
+         */
+        public ColumnarDataset<?> getDataset()
+        {
+            return this.dataset;
+        }
+
+    }
+
+}
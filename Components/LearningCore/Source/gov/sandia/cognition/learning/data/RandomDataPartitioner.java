@@ -15,9 +15,10 @@
 
 package gov.sandia.cognition.learning.data;
 
+import gov.sandia.cognition.collection.CollectionUtil;
+import gov.sandia.cognition.collection.IndexedList;
 import gov.sandia.cognition.math.Permutation;
 import gov.sandia.cognition.util.AbstractRandomized;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
@@ -107,14 +108,18 @@ public class RandomDataPartitioner<DataType>
         // Compute the number of total data and training data.
         final int numTrain = Math.max(1, (int) (trainingPercent * numTotal));
         
-        // Create the reordering of the data.
-        final ArrayList<DataType> reordering = 
-            Permutation.createReordering(data, random);
+        // Create a random permutation of indices into the data, which the
+        // two sets share instead of copying the data.
+        final List<? extends DataType> list =
+            CollectionUtil.asRandomAccessList(data);
+        final int[] permutation = Permutation.createPermutation(numTotal,
+            random);
         
-        // Get the sub lists for the two sets.
-        final List<DataType> trainingSet = reordering.subList(0, numTrain);
-        final List<DataType> testingSet = 
-            reordering.subList(numTrain, numTotal);
+        // Get the views for the two sets.
+        final List<DataType> trainingSet = new IndexedList<DataType>(list,
+            permutation, 0, numTrain);
+        final List<DataType> testingSet = new IndexedList<DataType>(list,
+            permutation, numTrain, numTotal);
         
         // Return the partitioned dataset.
         return new DefaultPartitionedDataset<DataType>(trainingSet, testingSet);
@@ -0,0 +1,407 @@
+/*
+ * File:            RecordFileDataset.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.data;
+
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.evaluator.IdentityEvaluator;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dataset streamed from a binary file of fixed-size dense records, which is
+ * read through memory-mapped windows. Because every record has the same size,
+ * reading is a sequential scan of the mapped memory with no parsing, so it is
+ * much faster than reading text. Files larger than the address space that can
+ * be mapped at once are read one window at a time.
+ * <BR><BR>
+ * The file format, with all values big-endian, is a header of the magic
+ * number (int), the format version (int), the input dimensionality d (int),
+ * and the number of records (long), followed by the records. Each record is
+ * the output (double), the weight (double), and then the d input values
+ * (doubles). Use the {@code write} method to create a file.
+ *
+ * @param   <OutputType>
+ *      The type of output values in the dataset.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class RecordFileDataset<OutputType>
+    extends AbstractFileDataset<OutputType>
+{
+
+    /** The magic number at the start of a record file. */
+    public static final int MAGIC_NUMBER = 0x46524543;
+
+    /** The version of the record file format. */
+    public static final int VERSION = 1;
+
+    /** The size of the header in bytes. */
+    public static final int HEADER_SIZE = 20;
+
+    /** The default size of each memory-mapped window is {@value} bytes. */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /** The input dimensionality of the records. */
+    protected int dimensionality;
+
+    /** The number of records in the file. */
+    protected long recordCount;
+
+    /** The maximum size in bytes of each memory-mapped window. */
+    protected int windowSize;
+
+    /**
+     * Creates a new {@code RecordFileDataset} with numeric outputs.
+     *
+     * @param   file
+     *      The record file to read.
+     * @return
+     *      A new dataset for the file.
+     * @throws  IOException
+     *      If there is an error reading the header of the file.
+     */
+    public static RecordFileDataset<Double> create(
+        final File file)
+        throws IOException
+    {
+        return new RecordFileDataset<Double>(file,
+            new IdentityEvaluator<Double>());
+    }
+
+    /**
+     * Creates a new {@code RecordFileDataset}, reading the header of the file.
+     *
+     * @param   file
+     *      The record file to read.
+     * @param   outputConverter
+     *      The evaluator to convert the numeric output in the file to the
+     *      output type.
+     * @throws  IOException
+     *      If there is an error reading the header of the file or it is not a
+     *      record file.
+     */
+    public RecordFileDataset(
+        final File file,
+        final Evaluator<? super Double, ? extends OutputType> outputConverter)
+        throws IOException
+    {
+        super(file, outputConverter);
+
+        this.setWindowSize(DEFAULT_WINDOW_SIZE);
+
+        final DataInputStream in = new DataInputStream(
+            new FileInputStream(file));
+        try
+        {
+            if (in.readInt() != MAGIC_NUMBER)
+            {
+                throw new IOException("Not a record file: " + file);
+            }
+            final int version = in.readInt();
+            if (version != VERSION)
+            {
+                throw new IOException("Unsupported record file version: "
+                    + version);
+            }
+            this.dimensionality = in.readInt();
+            this.recordCount = in.readLong();
+        }
+        finally
+        {
+            in.close();
+        }
+
+        final long expectedLength = HEADER_SIZE
+            + this.recordCount * this.getRecordSize();
+        if (file.length() < expectedLength)
+        {
+            throw new IOException("Record file is truncated: " + file);
+        }
+    }
+
+    /**
+     * Writes the given data to a record file. Every input must have the same
+     * dimensionality. Weights are taken from weighted pairs and are 1.0
+     * otherwise.
+     *
+     * @param   file
+     *      The file to write.
+     * @param   data
+     *      The data to write.
+     * @return
+     *      The number of records written.
+     * @throws  IOException
+     *      If there is an error writing the file.
+     */
+    public static long write(
+        final File file,
+        final Iterable<? extends InputOutputPair<? extends Vectorizable, ? extends Number>> data)
+        throws IOException
+    {
+        final DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(file)));
+        int dimensionality = 0;
+        long count = 0;
+        try
+        {
+            // The dimensionality and count are filled in at the end.
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(VERSION);
+            out.writeInt(dimensionality);
+            out.writeLong(count);
+
+            for (InputOutputPair<? extends Vectorizable, ? extends Number> example
+                : data)
+            {
+                final Vector input = example.getInput().convertToVector();
+                if (count == 0)
+                {
+                    dimensionality = input.getDimensionality();
+                }
+                else
+                {
+                    input.assertDimensionalityEquals(dimensionality);
+                }
+
+                out.writeDouble(example.getOutput().doubleValue());
+                out.writeDouble(DatasetUtil.getWeight(example));
+                for (int i = 0; i < dimensionality; i++)
+                {
+                    out.writeDouble(input.getElement(i));
+                }
+                count++;
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+
+        final RandomAccessFile header = new RandomAccessFile(file, "rw");
+        try
+        {
+            header.seek(8);
+            header.writeInt(dimensionality);
+            header.writeLong(count);
+        }
+        finally
+        {
+            header.close();
+        }
+        return count;
+    }
+
+    @Override
+    public RecordIterator iterator()
+    {
+        try
+        {
+            return new RecordIterator();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets the size of each record in bytes.
+     *
+     * @return
+     *      The record size.
+     */
+    public int getRecordSize()
+    {
+        return (this.dimensionality + 2) * 8;
+    }
+
+    /**
+     * Gets the input dimensionality of the records.
+     *
+     * @return
+     *      The input dimensionality.
+     */
+    public int getDimensionality()
+    {
+        return this.dimensionality;
+    }
+
+    /**
+     * Gets the number of records in the file.
+     *
+     * @return
+     *      The number of records.
+     */
+    public long getRecordCount()
+    {
+        return this.recordCount;
+    }
+
+    /**
+     * Gets the maximum size in bytes of each memory-mapped window.
+     *
+     * @return
+     *      The window size. Must be positive.
+     */
+    public int getWindowSize()
+    {
+        return this.windowSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of each memory-mapped window. A window
+     * always holds at least one record.
+     *
+     * @param   windowSize
+     *      The window size. Must be positive.
+     */
+    public void setWindowSize(
+        final int windowSize)
+    {
+        ArgumentChecker.assertIsPositive("windowSize", windowSize);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * The iterator over the records of a {@code RecordFileDataset}.
+     */
+    public class RecordIterator
+        extends Object
+        implements Iterator<DefaultWeightedInputOutputPair<Vector, OutputType>>,
+            Closeable
+    {
+
+        /** The channel for the file. Null once closed. */
+        private FileChannel channel;
+
+        /** The current memory-mapped window. */
+        private MappedByteBuffer window;
+
+        /** The number of records per window. */
+        private final long recordsPerWindow;
+
+        /** The index of the next record to read. */
+        private long index;
+
+        /**
+         * Creates a new {@code RecordIterator}, opening the file.
+         *
+         * @throws  IOException
+         *      If there is an error opening the file.
+         */
+        protected RecordIterator()
+            throws IOException
+        {
+            super();
+
+            this.channel = new RandomAccessFile(file, "r").getChannel();
+            this.recordsPerWindow = Math.max(1,
+                windowSize / getRecordSize());
+            this.window = null;
+            this.index = 0;
+
+            if (recordCount <= 0)
+            {
+                this.close();
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.channel != null && this.index < recordCount;
+        }
+
+        @Override
+        public DefaultWeightedInputOutputPair<Vector, OutputType> next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            final int recordSize = getRecordSize();
+            try
+            {
+                if (this.window == null || !this.window.hasRemaining())
+                {
+                    // Map the next window of records.
+                    final long count = Math.min(this.recordsPerWindow,
+                        recordCount - this.index);
+                    this.window = this.channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + this.index * recordSize,
+                        count * recordSize);
+                }
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+
+            final double output = this.window.getDouble();
+            final double weight = this.window.getDouble();
+            final double[] input = new double[dimensionality];
+            for (int i = 0; i < dimensionality; i++)
+            {
+                input[i] = this.window.getDouble();
+            }
+            this.index++;
+
+            if (this.index >= recordCount)
+            {
+                this.close();
+            }
+            return createExample(input, output, weight);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported.");
+        }
+
+        @Override
+        public void close()
+        {
+            this.window = null;
+            if (this.channel != null)
+            {
+                try
+                {
+                    this.channel.close();
+                }
+                catch (IOException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                finally
+                {
+                    this.channel = null;
+                }
+            }
+        }
+
+    }
+
+}
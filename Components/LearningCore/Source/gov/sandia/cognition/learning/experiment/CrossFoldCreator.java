@@ -15,7 +15,8 @@
 
 package gov.sandia.cognition.learning.experiment;
 
-import gov.sandia.cognition.collection.RangeExcludedArrayList;
+import gov.sandia.cognition.collection.CollectionUtil;
+import gov.sandia.cognition.collection.IndexedList;
 import gov.sandia.cognition.learning.data.DefaultPartitionedDataset;
 import gov.sandia.cognition.learning.data.PartitionedDataset;
 import gov.sandia.cognition.math.Permutation;
@@ -124,9 +125,12 @@ public class CrossFoldCreator<DataType>
         }
         CrossFoldCreator.checkNumFolds(numFolds);
         
-        // Randomize the data before splitting it.
-        final ArrayList<DataType> reordering = 
-            Permutation.createReordering(data, random);
+        // Randomize the order of the data before splitting it. Rather than
+        // copying the data into a new order, all of the folds share the data
+        // and a single permutation of indices into it.
+        final List<? extends DataType> list =
+            CollectionUtil.asRandomAccessList(data);
+        final int[] permutation = Permutation.createPermutation(total, random);
         
         // If there is less data than folds, we need a smaller number of
         // actual folds. This means that the algorithm defaults to a
@@ -147,14 +151,13 @@ public class CrossFoldCreator<DataType>
             
             // Create the training set by excluding the testing set indices
             // from the larger set of data.
-            final List<DataType> training = 
-                new RangeExcludedArrayList<DataType>(reordering, 
-                    fromIndex, toIndex - 1);
+            final List<DataType> training = IndexedList.createRangeExcluded(
+                list, permutation, fromIndex, toIndex);
             
-            // Create the testing set by taking the sub list of the set of
-            // all the data.
-            final List<DataType> testing = 
-                reordering.subList(fromIndex, toIndex);
+            // Create the testing set by taking the range of the permutation
+            // for the fold.
+            final List<DataType> testing = new IndexedList<DataType>(
+                list, permutation, fromIndex, toIndex);
             
             datasets.add(new DefaultPartitionedDataset<DataType>(training, testing));
         }
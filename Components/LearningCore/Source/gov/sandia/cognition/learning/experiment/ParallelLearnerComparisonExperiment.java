@@ -0,0 +1,207 @@
+/*
+ * File:            ParallelLearnerComparisonExperiment.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.experiment;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.learning.algorithm.BatchLearner;
+import gov.sandia.cognition.learning.data.PartitionedDataset;
+import gov.sandia.cognition.learning.performance.PerformanceEvaluator;
+import gov.sandia.cognition.statistics.method.NullHypothesisEvaluator;
+import gov.sandia.cognition.util.DefaultPair;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Summarizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Parallel version of the {@code LearnerComparisonExperiment} class that runs
+ * the folds on a thread pool. Each fold trains clones of the two learners and
+ * evaluates them on the testing set of the fold. The statistics are kept in
+ * fold order, so the pairing between the two learners that the statistical
+ * test relies on is preserved.
+ *
+ * @param   <InputDataType>
+ *      The type of the data to perform the experiment with.
+ * @param   <FoldDataType>
+ *      The type of data created by the fold creator that will go into the
+ *      learning algorithms.
+ * @param   <LearnedType>
+ *      The type of the output produced by the learning algorithms.
+ * @param   <StatisticType>
+ *      The type of the statistic generated by the performance evaluator on
+ *      the learned object for each fold.
+ * @param   <SummaryType>
+ *      The type produced by the summarizer at the end of the experiment from
+ *      a collection of the given statistics (one for each fold).
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelLearnerComparisonExperiment<InputDataType, FoldDataType, LearnedType, StatisticType, SummaryType>
+    extends LearnerComparisonExperiment<InputDataType, FoldDataType, LearnedType, StatisticType, SummaryType>
+    implements ParallelAlgorithm
+{
+
+    /** Thread pool used to split the computation across multiple cores. */
+    private transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new instance of {@code ParallelLearnerComparisonExperiment}.
+     */
+    public ParallelLearnerComparisonExperiment()
+    {
+        this(null, null, null, null);
+    }
+
+    /**
+     * Creates a new instance of {@code ParallelLearnerComparisonExperiment}.
+     *
+     * @param  foldCreator The object to use for creating the folds.
+     * @param  performanceEvaluator The evaluator to use to compute the
+     *         performance of the learned object on each fold.
+     * @param  statisticalTest The statistical test to apply to the
+     *         statistics of the two learners.
+     * @param  summarizer The summarizer for summarizing the result of the
+     *         performance evaluator from all the folds.
+     */
+    public ParallelLearnerComparisonExperiment(
+        final ValidationFoldCreator<InputDataType, FoldDataType> foldCreator,
+        final PerformanceEvaluator<? super LearnedType, ? super Collection<? extends FoldDataType>, ? extends StatisticType> performanceEvaluator,
+        final NullHypothesisEvaluator<Collection<? extends StatisticType>> statisticalTest,
+        final Summarizer<? super StatisticType, ? extends SummaryType> summarizer)
+    {
+        super(foldCreator, performanceEvaluator, statisticalTest, summarizer);
+    }
+
+    @Override
+    protected void runExperiment(
+        final Collection<PartitionedDataset<FoldDataType>> folds)
+    {
+        // The number of trials is the number of folds.
+        this.setNumTrials(folds.size());
+
+        this.fireExperimentStarted();
+
+        final ArrayList<Callable<DefaultPair<StatisticType, StatisticType>>> trials =
+            new ArrayList<Callable<DefaultPair<StatisticType, StatisticType>>>(
+                folds.size());
+        for (PartitionedDataset<FoldDataType> fold : folds)
+        {
+            trials.add(new TrialTask(fold));
+        }
+
+        final ArrayList<DefaultPair<StatisticType, StatisticType>> results;
+        try
+        {
+            results = ParallelUtil.executeInParallel(trials,
+                this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        for (DefaultPair<StatisticType, StatisticType> result : results)
+        {
+            this.getStatistics().getFirst().add(result.getFirst());
+            this.getStatistics().getSecond().add(result.getSecond());
+        }
+
+        this.fireExperimentEnded();
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Callable task for a single fold.
+     */
+    private class TrialTask
+        extends Object
+        implements Callable<DefaultPair<StatisticType, StatisticType>>
+    {
+
+        /** The fold for the trial. */
+        private final PartitionedDataset<FoldDataType> fold;
+
+        /**
+         * Creates a new {@code TrialTask}.
+         *
+         * @param   fold
+         *      The fold for the trial.
+         */
+        public TrialTask(
+            final PartitionedDataset<FoldDataType> fold)
+        {
+            super();
+
+            this.fold = fold;
+        }
+
+        @Override
+        public DefaultPair<StatisticType, StatisticType> call()
+            throws Exception
+        {
+            fireTrialStarted();
+
+            final StatisticType statistic1 = this.evaluate(
+                getLearners().getFirst());
+            final StatisticType statistic2 = this.evaluate(
+                getLearners().getSecond());
+
+            fireTrialEnded();
+            return DefaultPair.create(statistic1, statistic2);
+        }
+
+        /**
+         * Trains a clone of the given learner on the training set of the fold
+         * and evaluates it on the testing set.
+         *
+         * @param   learner
+         *      The learner to evaluate.
+         * @return
+         *      The statistic for the learner on the fold.
+         */
+        private StatisticType evaluate(
+            final BatchLearner<? super Collection<? extends FoldDataType>, ? extends LearnedType> learner)
+        {
+            final BatchLearner<? super Collection<? extends FoldDataType>, ? extends LearnedType>
+                learnerClone = ObjectUtil.cloneSmart(learner);
+            final LearnedType learned = learnerClone.learn(
+                this.fold.getTrainingSet());
+            return getPerformanceEvaluator().evaluatePerformance(
+                learned, this.fold.getTestingSet());
+        }
+
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * File:            ParallelLearnerRepeatExperiment.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.experiment;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.learning.algorithm.BatchLearner;
+import gov.sandia.cognition.learning.data.PartitionedDataset;
+import gov.sandia.cognition.learning.performance.PerformanceEvaluator;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import gov.sandia.cognition.util.Summarizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Parallel version of the {@code LearnerRepeatExperiment} class that runs the
+ * repeated trials on a thread pool. Each trial runs on its own clone of the
+ * learner. If the learner is {@code Randomized}, each clone is given its own
+ * random number generator, seeded from the random number generator of the
+ * learner, so that the trials still differ from one another. The statistics
+ * are kept in trial order.
+ *
+ * @param   <InputDataType>
+ *      The type of the data to perform the experiment with.
+ * @param   <LearnedType>
+ *      The type of the output produced by the learning algorithm whose
+ *      performance will be evaluated on each trial.
+ * @param   <StatisticType>
+ *      The type of the statistic generated by the performance evaluator on
+ *      the learned object for each trial.
+ * @param   <SummaryType>
+ *      The type produced by the summarizer at the end of the experiment from
+ *      a collection of the given statistics (one for each trial).
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelLearnerRepeatExperiment<InputDataType, LearnedType, StatisticType, SummaryType>
+    extends LearnerRepeatExperiment<InputDataType, LearnedType, StatisticType, SummaryType>
+    implements ParallelAlgorithm
+{
+
+    /** Thread pool used to split the computation across multiple cores. */
+    private transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new instance of {@code ParallelLearnerRepeatExperiment}.
+     */
+    public ParallelLearnerRepeatExperiment()
+    {
+        this(DEFAULT_NUM_TRIALS, null, null);
+    }
+
+    /**
+     * Creates a new instance of {@code ParallelLearnerRepeatExperiment}.
+     *
+     * @param  numTrials The number of trials to run. Must be positive.
+     * @param  performanceEvaluator The evaluator to use to compute the
+     *         performance of the learned object on each trial.
+     * @param  summarizer The summarizer for summarizing the result of the
+     *         performance evaluator from all the trials.
+     */
+    public ParallelLearnerRepeatExperiment(
+        final int numTrials,
+        final PerformanceEvaluator
+            <? super LearnedType, ? super Collection<? extends InputDataType>, ? extends StatisticType>
+            performanceEvaluator,
+        final Summarizer<? super StatisticType, ? extends SummaryType> summarizer)
+    {
+        super(numTrials, performanceEvaluator, summarizer);
+    }
+
+    @Override
+    protected void runExperiment(
+        final PartitionedDataset<? extends InputDataType> data)
+    {
+        this.fireExperimentStarted();
+
+        // Draw the seeds up front so that the result does not depend on the
+        // order that the trials run in.
+        final Random random = this.getLearner() instanceof Randomized
+            ? ((Randomized) this.getLearner()).getRandom() : null;
+        final int numTrials = this.getNumTrials();
+        final ArrayList<Callable<StatisticType>> trials =
+            new ArrayList<Callable<StatisticType>>(numTrials);
+        for (int i = 0; i < numTrials; i++)
+        {
+            final Long seed = random == null ? null : random.nextLong();
+            trials.add(new TrialTask(data, seed));
+        }
+
+        final ArrayList<StatisticType> results;
+        try
+        {
+            results = ParallelUtil.executeInParallel(trials,
+                this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        this.getStatistics().addAll(results);
+
+        this.fireExperimentEnded();
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Callable task for a single trial.
+     */
+    private class TrialTask
+        extends Object
+        implements Callable<StatisticType>
+    {
+
+        /** The data for the trial. */
+        private final PartitionedDataset<? extends InputDataType> data;
+
+        /** The seed for the random number generator of the learner, or null
+         *  if it is not randomized. */
+        private final Long seed;
+
+        /**
+         * Creates a new {@code TrialTask}.
+         *
+         * @param   data
+         *      The data for the trial.
+         * @param   seed
+         *      The seed for the random number generator of the learner, or
+         *      null if it is not randomized.
+         */
+        public TrialTask(
+            final PartitionedDataset<? extends InputDataType> data,
+            final Long seed)
+        {
+            super();
+
+            this.data = data;
+            this.seed = seed;
+        }
+
+        @Override
+        public StatisticType call()
+            throws Exception
+        {
+            fireTrialStarted();
+
+            final BatchLearner<? super Collection<? extends InputDataType>, ? extends LearnedType>
+                learnerClone = ObjectUtil.cloneSmart(getLearner());
+            if (this.seed != null)
+            {
+                ((Randomized) learnerClone).setRandom(new Random(this.seed));
+            }
+
+            // Perform the learning algorithm on the training set.
+            final LearnedType learned = learnerClone.learn(
+                this.data.getTrainingSet());
+
+            // Compute the statistic of the learned object on the testing set.
+            final StatisticType statistic =
+                getPerformanceEvaluator().evaluatePerformance(
+                    learned, this.data.getTestingSet());
+
+            fireTrialEnded();
+            return statistic;
+        }
+
+    }
+
+}
@@ -14,6 +14,7 @@
 package gov.sandia.cognition.learning.experiment;
 
 import gov.sandia.cognition.collection.CollectionUtil;
+import gov.sandia.cognition.collection.IndexedList;
 import gov.sandia.cognition.learning.data.DefaultPartitionedDataset;
 import gov.sandia.cognition.learning.data.PartitionedDataset;
 import gov.sandia.cognition.math.Permutation;
@@ -110,16 +111,22 @@ public class RandomByTwoFoldCreator<DataType>
 
         final int halfSize = Math.max(size / 2, 1);
 
+        // All of the splits share the data instead of copying it.
+        final List<? extends DataType> list =
+            CollectionUtil.asRandomAccessList(data);
+
         // Create the splits.
         for (int i = 0; i < actualNumSplits; i++)
         {
             // Create a random ordering.
-            final ArrayList<DataType> reordering =
-                Permutation.createReordering(data, this.getRandom());
+            final int[] permutation = Permutation.createPermutation(size,
+                this.getRandom());
 
             // Get the two halves.
-            final List<DataType> firstHalf = reordering.subList(0, halfSize);
-            final List<DataType> secondHalf = reordering.subList(halfSize, size);
+            final List<DataType> firstHalf = new IndexedList<DataType>(list,
+                permutation, 0, halfSize);
+            final List<DataType> secondHalf = new IndexedList<DataType>(list,
+                permutation, halfSize, size);
 
             // Add the two datasets.
             result.add(DefaultPartitionedDataset.create(firstHalf, secondHalf));
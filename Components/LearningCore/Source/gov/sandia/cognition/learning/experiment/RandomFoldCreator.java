@@ -15,10 +15,12 @@
 
 package gov.sandia.cognition.learning.experiment;
 
+import gov.sandia.cognition.collection.CollectionUtil;
 import gov.sandia.cognition.learning.data.PartitionedDataset;
 import gov.sandia.cognition.learning.data.RandomizedDataPartitioner;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * The {@code RandomFoldCreator} class makes use of a randomized data 
@@ -80,10 +82,15 @@ public class RandomFoldCreator<DataType>
         ArrayList<PartitionedDataset<DataType>> folds = 
             new ArrayList<PartitionedDataset<DataType>>(this.getNumFolds());
         
+        // Make sure the data supports random access once up front, so that
+        // partitioners that create views of it do not copy it for each fold.
+        final List<? extends DataType> list =
+            CollectionUtil.asRandomAccessList(data);
+
         // Partition the data randomly to get each fold.
         for (int i = 0; i < this.getNumFolds(); i++)
         {
-            folds.add(partitioner.createPartition(data));
+            folds.add(partitioner.createPartition(list));
         }
         
         // Return the created folds.
@@ -57,6 +57,12 @@ public abstract class AbstractMarkovChainMonteCarlo<ObservationType,ParameterTyp
      */
     private int iterationsPerSample;
 
+    /**
+     * The parameter to start the random walk from. If null, the walk starts
+     * from createInitialLearnedObject().
+     */
+    protected ParameterType initialParameter;
+
     /**
      * The current parameters in the random walk.
      */
@@ -175,6 +181,29 @@ public abstract class AbstractMarkovChainMonteCarlo<ObservationType,ParameterTyp
         this.random = random;
     }
 
+    /**
+     * Getter for initialParameter
+     * @return
+     * The parameter to start the random walk from. If null, the walk starts
+     * from createInitialLearnedObject().
+     */
+    public ParameterType getInitialParameter()
+    {
+        return this.initialParameter;
+    }
+
+    /**
+     * Setter for initialParameter
+     * @param initialParameter
+     * The parameter to start the random walk from. If null, the walk starts
+     * from createInitialLearnedObject().
+     */
+    public void setInitialParameter(
+        final ParameterType initialParameter)
+    {
+        this.initialParameter = initialParameter;
+    }
+
     /**
      * Performs a valid MCMC update step.  That is, the function is expected to
      * modify the currentParameter member.
@@ -191,8 +220,9 @@ public abstract class AbstractMarkovChainMonteCarlo<ObservationType,ParameterTyp
     @Override
     protected boolean initializeAlgorithm()
     {
-        this.previousParameter =
-            ObjectUtil.cloneSmart(this.createInitialLearnedObject());
+        this.previousParameter = ObjectUtil.cloneSmart(
+            this.initialParameter != null ? this.initialParameter
+                : this.createInitialLearnedObject());
         this.setCurrentParameter( this.previousParameter );
 
         for( int i = 0; i < this.getBurnInIterations(); i++ )
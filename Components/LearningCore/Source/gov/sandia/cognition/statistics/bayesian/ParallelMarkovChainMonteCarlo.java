@@ -0,0 +1,1129 @@
+/*
+ * File:            ParallelMarkovChainMonteCarlo.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.bayesian;
+
+import gov.sandia.cognition.algorithm.IterativeAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.algorithm.event.AbstractIterativeAlgorithmListener;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.statistics.DataDistribution;
+import gov.sandia.cognition.statistics.Distribution;
+import gov.sandia.cognition.statistics.distribution.DefaultDataDistribution;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs several independent Markov chains of a Markov chain Monte Carlo
+ * algorithm concurrently and merges their samples into a single result. Each
+ * chain is a clone of a prototype algorithm with its own random number
+ * generator, seeded from the random number generator of this runner. The
+ * diagnostics are only meaningful if the chains start from points that are
+ * overdispersed relative to the posterior, so an initial parameter
+ * distribution can be given to sample the starting point of each chain from.
+ * Otherwise, each chain starts from the initial parameter of the prototype.
+ * <BR><BR>
+ * While the chains run, the runner monitors the split potential scale
+ * reduction factor (R-hat) and the effective sample size of the samples. They
+ * are computed from a vector statistic of each sample, which by default is
+ * the sample itself if it is {@code Vectorizable} or a {@code Number}. The
+ * samples are not kept. Instead, each chain keeps running (Welford) means and
+ * sums of squared deviations over consecutive batches of its samples, and
+ * merges pairs of batches as the chain grows so that it keeps on the order of
+ * the square root of its length of them. Every {@code checkInterval} samples
+ * the split R-hat is computed by combining the batches of each half of each
+ * chain and the effective sample size by the method of batch means, so a
+ * check does not grow with the full history. Once the largest R-hat is below
+ * the threshold and the smallest effective sample size reaches the target,
+ * all of the chains are stopped. Otherwise, each chain runs for the maximum
+ * number of iterations of the prototype. Since the diagnostics need batches
+ * from every chain, early stopping requires that all of the chains run at
+ * the same time. When the thread pool has fewer threads than there are
+ * chains, as the default pool with one thread per core does when there are
+ * more chains than cores, the chains run on a temporary pool with one thread
+ * for each of them instead.
+ *
+ * @param   <ObservationType>
+ *      The type of observations on the data.
+ * @param   <ParameterType>
+ *      The type of parameter sampled by the chains.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+@PublicationReferences(
+    references={
+        @PublicationReference(
+            author={"Andrew Gelman", "John B. Carlin", "Hal S. Stern",
+                "David B. Dunson", "Aki Vehtari", "Donald B. Rubin"},
+            title="Bayesian Data Analysis, Third Edition",
+            type=PublicationType.Book,
+            year=2013,
+            pages={281, 288}
+        ),
+        @PublicationReference(
+            author="Charles J. Geyer",
+            title="Practical Markov Chain Monte Carlo",
+            type=PublicationType.Journal,
+            publication="Statistical Science",
+            year=1992,
+            pages={473, 483}
+        ),
+        @PublicationReference(
+            author={"James M. Flegal", "Galin L. Jones"},
+            title="Batch Means and Spectral Variance Estimators in Markov Chain Monte Carlo",
+            type=PublicationType.Journal,
+            publication="The Annals of Statistics",
+            year=2010,
+            pages={1034, 1070}
+        )
+    }
+)
+public class ParallelMarkovChainMonteCarlo<ObservationType, ParameterType>
+    extends AbstractCloneableSerializable
+    implements BayesianEstimator<ObservationType, ParameterType, DataDistribution<ParameterType>>,
+        ParallelAlgorithm, Randomized
+{
+
+    /** The default number of chains, {@value}. */
+    public static final int DEFAULT_NUM_CHAINS = 4;
+
+    /** The default number of samples between convergence checks, {@value}. */
+    public static final int DEFAULT_CHECK_INTERVAL = 100;
+
+    /** The default R-hat threshold for convergence, {@value}. */
+    public static final double DEFAULT_R_HAT_THRESHOLD = 1.01;
+
+    /** The default target effective sample size, {@value}. */
+    public static final double DEFAULT_TARGET_EFFECTIVE_SAMPLE_SIZE = 400.0;
+
+    /** The prototype algorithm that is cloned to create each chain. */
+    protected MarkovChainMonteCarlo<ObservationType, ParameterType> prototype;
+
+    /** The evaluator that converts each sample into the vector statistic used
+     *  to monitor convergence. If null, the sample itself is used. */
+    protected Evaluator<? super ParameterType, ? extends Vectorizable> statistic;
+
+    /** The number of chains to run. */
+    protected int numChains;
+
+    /** The number of samples between convergence checks. */
+    protected int checkInterval;
+
+    /** The R-hat below which the chains are considered to have mixed. */
+    protected double rHatThreshold;
+
+    /** The effective sample size needed before stopping early. */
+    protected double targetEffectiveSampleSize;
+
+    /** The distribution that the starting point of each chain is sampled
+     *  from. If null, each chain starts from the initial parameter of the
+     *  prototype. */
+    protected Distribution<? extends ParameterType> initialParameterDistribution;
+
+    /** The random number generator used to seed the chains. */
+    protected Random random;
+
+    /** Thread pool used to split the computation across multiple cores. */
+    private transient ThreadPoolExecutor threadPool;
+
+    /** The running statistics of each chain from the last run. */
+    private transient ArrayList<ChainStatistics> chainStatistics;
+
+    /** The largest R-hat from the last convergence check. */
+    private transient double rHat;
+
+    /** The smallest effective sample size from the last convergence check. */
+    private transient double effectiveSampleSize;
+
+    /** The number of batches per chain used in the last convergence check. */
+    private transient int checkedBatches;
+
+    /** Whether the chains converged during the last run. */
+    private transient volatile boolean converged;
+
+    /**
+     * Creates a new {@code ParallelMarkovChainMonteCarlo} with default
+     * parameters.
+     */
+    public ParallelMarkovChainMonteCarlo()
+    {
+        this(null, DEFAULT_NUM_CHAINS, new Random());
+    }
+
+    /**
+     * Creates a new {@code ParallelMarkovChainMonteCarlo}.
+     *
+     * @param   prototype
+     *      The prototype algorithm that is cloned to create each chain.
+     * @param   numChains
+     *      The number of chains to run. Must be at least 2.
+     * @param   random
+     *      The random number generator used to seed the chains.
+     */
+    public ParallelMarkovChainMonteCarlo(
+        final MarkovChainMonteCarlo<ObservationType, ParameterType> prototype,
+        final int numChains,
+        final Random random)
+    {
+        super();
+
+        this.setPrototype(prototype);
+        this.setNumChains(numChains);
+        this.setRandom(random);
+        this.setStatistic(null);
+        this.setCheckInterval(DEFAULT_CHECK_INTERVAL);
+        this.setRHatThreshold(DEFAULT_R_HAT_THRESHOLD);
+        this.setTargetEffectiveSampleSize(
+            DEFAULT_TARGET_EFFECTIVE_SAMPLE_SIZE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ParallelMarkovChainMonteCarlo<ObservationType, ParameterType> clone()
+    {
+        final ParallelMarkovChainMonteCarlo<ObservationType, ParameterType> clone =
+            (ParallelMarkovChainMonteCarlo<ObservationType, ParameterType>) super.clone();
+        clone.prototype = ObjectUtil.cloneSafe(this.prototype);
+        clone.statistic = ObjectUtil.cloneSmart(this.statistic);
+        clone.random = ObjectUtil.cloneSmart(this.random);
+        clone.threadPool = null;
+        clone.initialParameterDistribution =
+            ObjectUtil.cloneSmart(this.initialParameterDistribution);
+        clone.chainStatistics = null;
+        return clone;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DataDistribution<ParameterType> learn(
+        final Collection<? extends ObservationType> data)
+    {
+        if (this.prototype == null)
+        {
+            throw new IllegalStateException("prototype cannot be null");
+        }
+        else if (this.initialParameterDistribution != null
+            && !(this.prototype instanceof AbstractMarkovChainMonteCarlo))
+        {
+            throw new IllegalStateException(
+                "prototype must be an AbstractMarkovChainMonteCarlo to set the initial parameters");
+        }
+
+        this.chainStatistics = new ArrayList<ChainStatistics>(this.numChains);
+        this.rHat = Double.POSITIVE_INFINITY;
+        this.effectiveSampleSize = 0.0;
+        this.checkedBatches = 0;
+        this.converged = false;
+
+        // Draw the seeds and starting points up front so that the result does
+        // not depend on the order that the chains run in.
+        final ArrayList<ChainTask> tasks = new ArrayList<ChainTask>(
+            this.numChains);
+        for (int i = 0; i < this.numChains; i++)
+        {
+            final MarkovChainMonteCarlo<ObservationType, ParameterType> chain =
+                (MarkovChainMonteCarlo<ObservationType, ParameterType>)
+                    this.prototype.clone();
+            chain.setRandom(new Random(this.random.nextLong()));
+            if (this.initialParameterDistribution != null)
+            {
+                ((AbstractMarkovChainMonteCarlo<ObservationType, ParameterType>)
+                    chain).setInitialParameter(
+                        this.initialParameterDistribution.sample(this.random));
+            }
+            final ChainStatistics statistics = new ChainStatistics();
+            this.chainStatistics.add(statistics);
+            chain.addIterativeAlgorithmListener(new ChainMonitor(statistics));
+            tasks.add(new ChainTask(chain, data));
+        }
+
+        // A chain waiting in the queue of the thread pool has no batches, so
+        // the diagnostics could not be computed until the running chains had
+        // finished. Make sure that every chain gets its own thread.
+        ThreadPoolExecutor pool = this.getThreadPool();
+        ThreadPoolExecutor chainPool = null;
+        if (ParallelUtil.getNumThreads(pool) < this.numChains)
+        {
+            chainPool = ParallelUtil.createThreadPool(this.numChains);
+            pool = chainPool;
+        }
+
+        final ArrayList<DataDistribution<ParameterType>> results;
+        try
+        {
+            results = ParallelUtil.executeInParallel(tasks, pool);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            if (chainPool != null)
+            {
+                chainPool.shutdown();
+            }
+        }
+
+        int totalSamples = 0;
+        for (DataDistribution<ParameterType> chainResult : results)
+        {
+            totalSamples += chainResult.getDomainSize();
+        }
+        final DefaultDataDistribution<ParameterType> result =
+            new DefaultDataDistribution<ParameterType>(totalSamples);
+        for (DataDistribution<ParameterType> chainResult : results)
+        {
+            result.incrementAll(chainResult);
+        }
+
+        // Compute the final diagnostics over everything the chains sampled.
+        this.checkConvergence(true);
+        return result;
+    }
+
+    /**
+     * Converts a sample into the vector statistic used to monitor
+     * convergence.
+     *
+     * @param   parameter
+     *      The sample.
+     * @return
+     *      The values of the statistic.
+     */
+    protected double[] computeStatistic(
+        final ParameterType parameter)
+    {
+        if (this.statistic != null)
+        {
+            return this.statistic.evaluate(parameter).convertToVector()
+                .toArray();
+        }
+        else if (parameter instanceof Vectorizable)
+        {
+            return ((Vectorizable) parameter).convertToVector().toArray();
+        }
+        else if (parameter instanceof Number)
+        {
+            return new double[] { ((Number) parameter).doubleValue() };
+        }
+        else
+        {
+            throw new IllegalStateException(
+                "statistic cannot be null when the parameter is not Vectorizable or a Number");
+        }
+    }
+
+    /**
+     * Recomputes the convergence diagnostics from the running statistics of
+     * the chains, and marks the run as converged if the chains have mixed.
+     * The split R-hat combines the batches of each half of each chain and the
+     * effective sample size uses the variance of the batch means, so the
+     * cost only depends on the number of batches kept by each chain.
+     *
+     * @param   force
+     *      True to recompute the diagnostics even if no chain has completed a
+     *      new batch since the last check.
+     */
+    protected synchronized void checkConvergence(
+        final boolean force)
+    {
+        // Take a snapshot of the completed batches of each chain.
+        final int numTraces = this.chainStatistics.size();
+        final int[] batchSizes = new int[numTraces];
+        final double[][][] batchMeans = new double[numTraces][][];
+        final double[][][] batchSquares = new double[numTraces][][];
+        int minBatches = Integer.MAX_VALUE;
+        int totalBatches = 0;
+        for (int m = 0; m < numTraces; m++)
+        {
+            final ChainStatistics statistics = this.chainStatistics.get(m);
+            synchronized (statistics)
+            {
+                // Copy the batches, since merging updates them in place.
+                final int batches = statistics.means.size();
+                batchSizes[m] = statistics.batchSize;
+                batchMeans[m] = new double[batches][];
+                batchSquares[m] = new double[batches][];
+                for (int i = 0; i < batches; i++)
+                {
+                    batchMeans[m][i] = statistics.means.get(i).clone();
+                    batchSquares[m][i] = statistics.squares.get(i).clone();
+                }
+            }
+            minBatches = Math.min(minBatches, batchMeans[m].length);
+            totalBatches += batchMeans[m].length;
+        }
+
+        // Each chain is split in half for the diagnostics, and each half
+        // needs at least two batches.
+        if (minBatches < 4 || (!force && totalBatches <= this.checkedBatches))
+        {
+            return;
+        }
+        this.checkedBatches = totalBatches;
+
+        final int dimensionality = batchMeans[0][0].length;
+        final double[] splitMeans = new double[2 * numTraces];
+        final double[] splitVariances = new double[2 * numTraces];
+        double maxRHat = 0.0;
+        double minEffectiveSampleSize = Double.POSITIVE_INFINITY;
+        for (int d = 0; d < dimensionality; d++)
+        {
+            // Combine the batches of each half of each chain, using the last
+            // 2 * half batches so that the two halves line up.
+            double splitLength = 0.0;
+            double totalSamples = 0.0;
+            double batchMeansVariance = 0.0;
+            for (int m = 0; m < numTraces; m++)
+            {
+                final int batches = batchMeans[m].length;
+                final int half = batches / 2;
+                final int offset = batches - 2 * half;
+                final double halfCount = (double) half * batchSizes[m];
+                double chainMean = 0.0;
+                for (int split = 0; split < 2; split++)
+                {
+                    double mean = 0.0;
+                    double squares = 0.0;
+                    double count = 0.0;
+                    for (int i = offset + split * half;
+                        i < offset + (split + 1) * half; i++)
+                    {
+                        // Chan et al.'s update for merging two summaries.
+                        final double batchCount = batchSizes[m];
+                        final double delta = batchMeans[m][i][d] - mean;
+                        final double merged = count + batchCount;
+                        mean += delta * batchCount / merged;
+                        squares += batchSquares[m][i][d]
+                            + delta * delta * count * batchCount / merged;
+                        count = merged;
+                    }
+                    splitMeans[2 * m + split] = mean;
+                    splitVariances[2 * m + split] =
+                        squares / (halfCount - 1.0);
+                    chainMean += 0.5 * mean;
+                }
+                splitLength += halfCount;
+                totalSamples += 2.0 * halfCount;
+
+                // The batch means estimate of the asymptotic variance.
+                double sumSquared = 0.0;
+                for (int i = offset; i < batches; i++)
+                {
+                    final double delta = batchMeans[m][i][d] - chainMean;
+                    sumSquared += delta * delta;
+                }
+                batchMeansVariance +=
+                    batchSizes[m] * sumSquared / (2 * half - 1);
+            }
+            splitLength /= 2 * numTraces;
+            batchMeansVariance /= numTraces;
+
+            final double[] variances = computeVariances(splitMeans,
+                splitVariances, splitLength);
+            maxRHat = Math.max(maxRHat,
+                computePotentialScaleReduction(variances));
+            final double variancePlus = variances[1];
+            minEffectiveSampleSize = Math.min(minEffectiveSampleSize,
+                variancePlus <= 0.0 || batchMeansVariance <= 0.0
+                    ? totalSamples
+                    : totalSamples * variancePlus / batchMeansVariance);
+        }
+
+        this.rHat = maxRHat;
+        this.effectiveSampleSize = minEffectiveSampleSize;
+        if (this.rHat < this.rHatThreshold
+            && this.effectiveSampleSize >= this.targetEffectiveSampleSize)
+        {
+            this.converged = true;
+        }
+    }
+
+    /**
+     * Computes the potential scale reduction factor (R-hat) of the Gelman and
+     * Rubin diagnostic for a set of chains of a scalar statistic. Values near
+     * 1 indicate that the chains have mixed.
+     *
+     * @param   chains
+     *      The values of the statistic for each chain. There must be at least
+     *      two chains, all with the same length of at least two.
+     * @return
+     *      The potential scale reduction factor.
+     */
+    public static double computePotentialScaleReduction(
+        final double[][] chains)
+    {
+        return computePotentialScaleReduction(computeVariances(chains));
+    }
+
+    /**
+     * Computes the potential scale reduction factor (R-hat) from the
+     * within-chain variance and the pooled variance.
+     *
+     * @param   variances
+     *      An array of the within-chain variance and the pooled variance.
+     * @return
+     *      The potential scale reduction factor.
+     */
+    private static double computePotentialScaleReduction(
+        final double[] variances)
+    {
+        final double within = variances[0];
+        final double variancePlus = variances[1];
+        if (within <= 0.0)
+        {
+            // All of the chains are constant.
+            return variancePlus <= 0.0 ? 1.0 : Double.POSITIVE_INFINITY;
+        }
+
+        return Math.sqrt(variancePlus / within);
+    }
+
+    /**
+     * Computes the effective sample size of a set of chains of a scalar
+     * statistic. It uses the variogram estimate of the autocorrelations
+     * across the chains, truncated with Geyer's initial positive sequence.
+     *
+     * @param   chains
+     *      The values of the statistic for each chain. There must be at least
+     *      two chains, all with the same length of at least two.
+     * @return
+     *      The effective sample size, which is at most the total number of
+     *      samples for a chain with non-negative autocorrelation.
+     */
+    public static double computeEffectiveSampleSize(
+        final double[][] chains)
+    {
+        final int m = chains.length;
+        final int n = chains[0].length;
+        final double total = (double) m * n;
+
+        final double variancePlus = computeVariances(chains)[1];
+        if (variancePlus <= 0.0)
+        {
+            return total;
+        }
+
+        // Sum the autocorrelations in pairs until a pair is negative.
+        double sum = 0.0;
+        for (int lag = 1; lag + 1 < n; lag += 2)
+        {
+            final double pair = autocorrelation(chains, lag, variancePlus)
+                + autocorrelation(chains, lag + 1, variancePlus);
+            if (pair < 0.0)
+            {
+                break;
+            }
+            sum += pair;
+        }
+
+        return total / (1.0 + 2.0 * sum);
+    }
+
+    /**
+     * Computes the variogram estimate of the autocorrelation at a lag.
+     *
+     * @param   chains
+     *      The values of the statistic for each chain.
+     * @param   lag
+     *      The lag.
+     * @param   variancePlus
+     *      The pooled estimate of the marginal posterior variance.
+     * @return
+     *      The estimated autocorrelation.
+     */
+    private static double autocorrelation(
+        final double[][] chains,
+        final int lag,
+        final double variancePlus)
+    {
+        final int n = chains[0].length;
+        double variogram = 0.0;
+        for (double[] chain : chains)
+        {
+            for (int i = lag; i < n; i++)
+            {
+                final double delta = chain[i] - chain[i - lag];
+                variogram += delta * delta;
+            }
+        }
+        variogram /= (double) chains.length * (n - lag);
+        return 1.0 - variogram / (2.0 * variancePlus);
+    }
+
+    /**
+     * Computes the average within-chain variance and the pooled estimate of
+     * the marginal posterior variance of a set of chains.
+     *
+     * @param   chains
+     *      The values of the statistic for each chain.
+     * @return
+     *      An array of the within-chain variance and the pooled variance.
+     */
+    private static double[] computeVariances(
+        final double[][] chains)
+    {
+        final int m = chains.length;
+        final int n = chains[0].length;
+
+        final double[] means = new double[m];
+        final double[] variances = new double[m];
+        for (int j = 0; j < m; j++)
+        {
+            double mean = 0.0;
+            for (double value : chains[j])
+            {
+                mean += value;
+            }
+            mean /= n;
+            means[j] = mean;
+
+            double sumSquared = 0.0;
+            for (double value : chains[j])
+            {
+                final double delta = value - mean;
+                sumSquared += delta * delta;
+            }
+            variances[j] = sumSquared / (n - 1);
+        }
+        return computeVariances(means, variances, n);
+    }
+
+    /**
+     * Computes the average within-chain variance and the pooled estimate of
+     * the marginal posterior variance from the mean and variance of each
+     * chain.
+     *
+     * @param   means
+     *      The mean of each chain.
+     * @param   variances
+     *      The variance of each chain.
+     * @param   n
+     *      The (average) length of the chains.
+     * @return
+     *      An array of the within-chain variance and the pooled variance.
+     */
+    private static double[] computeVariances(
+        final double[] means,
+        final double[] variances,
+        final double n)
+    {
+        final int m = means.length;
+        double meanOfMeans = 0.0;
+        double within = 0.0;
+        for (int j = 0; j < m; j++)
+        {
+            meanOfMeans += means[j];
+            within += variances[j];
+        }
+        meanOfMeans /= m;
+        within /= m;
+
+        double between = 0.0;
+        for (double mean : means)
+        {
+            final double delta = mean - meanOfMeans;
+            between += delta * delta;
+        }
+        between *= n / (m - 1);
+
+        final double variancePlus = ((n - 1.0) * within + between) / n;
+        return new double[] { within, variancePlus };
+    }
+
+    /**
+     * Gets the prototype algorithm that is cloned to create each chain. Its
+     * maximum number of iterations is the most samples that each chain will
+     * produce.
+     *
+     * @return
+     *      The prototype algorithm.
+     */
+    public MarkovChainMonteCarlo<ObservationType, ParameterType> getPrototype()
+    {
+        return this.prototype;
+    }
+
+    /**
+     * Sets the prototype algorithm that is cloned to create each chain. Its
+     * maximum number of iterations is the most samples that each chain will
+     * produce.
+     *
+     * @param   prototype
+     *      The prototype algorithm.
+     */
+    public void setPrototype(
+        final MarkovChainMonteCarlo<ObservationType, ParameterType> prototype)
+    {
+        this.prototype = prototype;
+    }
+
+    /**
+     * Gets the evaluator that converts each sample into the vector statistic
+     * used to monitor convergence.
+     *
+     * @return
+     *      The statistic. If null, the sample itself is used.
+     */
+    public Evaluator<? super ParameterType, ? extends Vectorizable> getStatistic()
+    {
+        return this.statistic;
+    }
+
+    /**
+     * Sets the evaluator that converts each sample into the vector statistic
+     * used to monitor convergence.
+     *
+     * @param   statistic
+     *      The statistic. If null, the sample itself is used, which requires
+     *      it to be {@code Vectorizable} or a {@code Number}.
+     */
+    public void setStatistic(
+        final Evaluator<? super ParameterType, ? extends Vectorizable> statistic)
+    {
+        this.statistic = statistic;
+    }
+
+    /**
+     * Gets the distribution that the starting point of each chain is sampled
+     * from.
+     *
+     * @return
+     *      The initial parameter distribution. If null, each chain starts
+     *      from the initial parameter of the prototype.
+     */
+    public Distribution<? extends ParameterType> getInitialParameterDistribution()
+    {
+        return this.initialParameterDistribution;
+    }
+
+    /**
+     * Sets the distribution that the starting point of each chain is sampled
+     * from. It should be overdispersed relative to the posterior so that the
+     * R-hat can detect chains that have not mixed. It requires the prototype
+     * to be an {@code AbstractMarkovChainMonteCarlo}.
+     *
+     * @param   initialParameterDistribution
+     *      The initial parameter distribution. If null, each chain starts
+     *      from the initial parameter of the prototype.
+     */
+    public void setInitialParameterDistribution(
+        final Distribution<? extends ParameterType> initialParameterDistribution)
+    {
+        this.initialParameterDistribution = initialParameterDistribution;
+    }
+
+    /**
+     * Gets the number of chains to run.
+     *
+     * @return
+     *      The number of chains.
+     */
+    public int getNumChains()
+    {
+        return this.numChains;
+    }
+
+    /**
+     * Sets the number of chains to run.
+     *
+     * @param   numChains
+     *      The number of chains. Must be at least 2.
+     */
+    public void setNumChains(
+        final int numChains)
+    {
+        ArgumentChecker.assertIsInRangeInclusive("numChains", numChains,
+            2, Integer.MAX_VALUE);
+        this.numChains = numChains;
+    }
+
+    /**
+     * Gets the number of samples between convergence checks.
+     *
+     * @return
+     *      The number of samples between convergence checks.
+     */
+    public int getCheckInterval()
+    {
+        return this.checkInterval;
+    }
+
+    /**
+     * Sets the number of samples between convergence checks.
+     *
+     * @param   checkInterval
+     *      The number of samples between convergence checks. Must be
+     *      positive.
+     */
+    public void setCheckInterval(
+        final int checkInterval)
+    {
+        ArgumentChecker.assertIsPositive("checkInterval", checkInterval);
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Gets the R-hat below which the chains are considered to have mixed.
+     *
+     * @return
+     *      The R-hat threshold.
+     */
+    public double getRHatThreshold()
+    {
+        return this.rHatThreshold;
+    }
+
+    /**
+     * Sets the R-hat below which the chains are considered to have mixed.
+     *
+     * @param   rHatThreshold
+     *      The R-hat threshold. Must be greater than 1.
+     */
+    public void setRHatThreshold(
+        final double rHatThreshold)
+    {
+        if (!(rHatThreshold > 1.0))
+        {
+            throw new IllegalArgumentException(
+                "rHatThreshold must be greater than 1");
+        }
+        this.rHatThreshold = rHatThreshold;
+    }
+
+    /**
+     * Gets the effective sample size needed before stopping early.
+     *
+     * @return
+     *      The target effective sample size.
+     */
+    public double getTargetEffectiveSampleSize()
+    {
+        return this.targetEffectiveSampleSize;
+    }
+
+    /**
+     * Sets the effective sample size needed before stopping early.
+     *
+     * @param   targetEffectiveSampleSize
+     *      The target effective sample size. Must be non-negative.
+     */
+    public void setTargetEffectiveSampleSize(
+        final double targetEffectiveSampleSize)
+    {
+        ArgumentChecker.assertIsNonNegative("targetEffectiveSampleSize",
+            targetEffectiveSampleSize);
+        this.targetEffectiveSampleSize = targetEffectiveSampleSize;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    /**
+     * Gets the largest R-hat over the dimensions of the statistic from the
+     * last run.
+     *
+     * @return
+     *      The R-hat, or positive infinity if it has not been computed.
+     */
+    public double getRHat()
+    {
+        return this.rHat;
+    }
+
+    /**
+     * Gets the smallest effective sample size over the dimensions of the
+     * statistic from the last run.
+     *
+     * @return
+     *      The effective sample size.
+     */
+    public double getEffectiveSampleSize()
+    {
+        return this.effectiveSampleSize;
+    }
+
+    /**
+     * Determines if the chains converged and stopped early during the last
+     * run.
+     *
+     * @return
+     *      True if the chains converged.
+     */
+    public boolean isConverged()
+    {
+        return this.converged;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Listener that adds the statistic of each sample of a chain to its
+     * running statistics, checks for convergence, and stops the chain once
+     * the chains have mixed.
+     */
+    private class ChainMonitor
+        extends AbstractIterativeAlgorithmListener
+    {
+
+        /** The running statistics of the chain. */
+        private final ChainStatistics statistics;
+
+        /**
+         * Creates a new {@code ChainMonitor}.
+         *
+         * @param   statistics
+         *      The running statistics to add the statistic of the chain to.
+         */
+        public ChainMonitor(
+            final ChainStatistics statistics)
+        {
+            super();
+
+            this.statistics = statistics;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void stepEnded(
+            final IterativeAlgorithm algorithm)
+        {
+            final MarkovChainMonteCarlo<ObservationType, ParameterType> chain =
+                (MarkovChainMonteCarlo<ObservationType, ParameterType>) algorithm;
+            final double[] value = computeStatistic(
+                chain.getCurrentParameter());
+            final int size;
+            synchronized (this.statistics)
+            {
+                size = this.statistics.add(value);
+            }
+
+            if (!converged && size % checkInterval == 0)
+            {
+                checkConvergence(false);
+            }
+
+            if (converged)
+            {
+                chain.stop();
+            }
+        }
+
+    }
+
+    /**
+     * The running statistics of the samples of a chain. The samples are
+     * split into consecutive batches of equal size, and each batch keeps the
+     * mean and the sum of squared deviations from the mean of each dimension,
+     * which are updated with Welford's algorithm. Once there are more than
+     * four times as many batches as samples in a batch, pairs of batches are
+     * merged, which doubles the batch size, so the number of batches grows
+     * as the square root of the number of samples.
+     */
+    private static class ChainStatistics
+        extends Object
+    {
+
+        /** The number of samples in each batch. */
+        private int batchSize;
+
+        /** The number of samples added. */
+        private int count;
+
+        /** The number of samples in the current batch. */
+        private int currentCount;
+
+        /** The mean of the current batch. */
+        private double[] currentMean;
+
+        /** The sum of squared deviations of the current batch. */
+        private double[] currentSquares;
+
+        /** The mean of each completed batch. */
+        private final ArrayList<double[]> means;
+
+        /** The sum of squared deviations of each completed batch. */
+        private final ArrayList<double[]> squares;
+
+        /**
+         * Creates a new, empty {@code ChainStatistics}.
+         */
+        public ChainStatistics()
+        {
+            super();
+
+            this.batchSize = 1;
+            this.count = 0;
+            this.currentCount = 0;
+            this.means = new ArrayList<double[]>();
+            this.squares = new ArrayList<double[]>();
+        }
+
+        /**
+         * Adds the statistic of a sample.
+         *
+         * @param   value
+         *      The statistic of the sample.
+         * @return
+         *      The number of samples added so far.
+         */
+        public int add(
+            final double[] value)
+        {
+            final int dimensionality = value.length;
+            if (this.currentCount == 0)
+            {
+                this.currentMean = new double[dimensionality];
+                this.currentSquares = new double[dimensionality];
+            }
+
+            this.currentCount++;
+            for (int d = 0; d < dimensionality; d++)
+            {
+                final double delta = value[d] - this.currentMean[d];
+                this.currentMean[d] += delta / this.currentCount;
+                this.currentSquares[d] +=
+                    delta * (value[d] - this.currentMean[d]);
+            }
+            this.count++;
+
+            if (this.currentCount == this.batchSize)
+            {
+                this.means.add(this.currentMean);
+                this.squares.add(this.currentSquares);
+                this.currentCount = 0;
+                final int batches = this.means.size();
+                if (batches > 4 * this.batchSize && batches % 2 == 0)
+                {
+                    this.mergePairs(dimensionality);
+                }
+            }
+            return this.count;
+        }
+
+        /**
+         * Merges each pair of consecutive batches, which doubles the batch
+         * size.
+         *
+         * @param   dimensionality
+         *      The dimensionality of the statistic.
+         */
+        private void mergePairs(
+            final int dimensionality)
+        {
+            final int merged = this.means.size() / 2;
+            for (int i = 0; i < merged; i++)
+            {
+                final double[] firstMean = this.means.get(2 * i);
+                final double[] secondMean = this.means.get(2 * i + 1);
+                final double[] firstSquares = this.squares.get(2 * i);
+                final double[] secondSquares = this.squares.get(2 * i + 1);
+                for (int d = 0; d < dimensionality; d++)
+                {
+                    final double delta = secondMean[d] - firstMean[d];
+                    firstMean[d] += 0.5 * delta;
+                    firstSquares[d] += secondSquares[d]
+                        + 0.5 * delta * delta * this.batchSize;
+                }
+                this.means.set(i, firstMean);
+                this.squares.set(i, firstSquares);
+            }
+            this.means.subList(merged, this.means.size()).clear();
+            this.squares.subList(merged, this.squares.size()).clear();
+            this.batchSize *= 2;
+        }
+
+    }
+
+    /**
+     * Callable task that runs a single chain.
+     */
+    private class ChainTask
+        extends Object
+        implements Callable<DataDistribution<ParameterType>>
+    {
+
+        /** The chain to run. */
+        private final MarkovChainMonteCarlo<ObservationType, ParameterType> chain;
+
+        /** The data to run the chain on. */
+        private final Collection<? extends ObservationType> data;
+
+        /**
+         * Creates a new {@code ChainTask}.
+         *
+         * @param   chain
+         *      The chain to run.
+         * @param   data
+         *      The data to run the chain on.
+         */
+        public ChainTask(
+            final MarkovChainMonteCarlo<ObservationType, ParameterType> chain,
+            final Collection<? extends ObservationType> data)
+        {
+            super();
+
+            this.chain = chain;
+            this.data = data;
+        }
+
+        @Override
+        public DataDistribution<ParameterType> call()
+            throws Exception
+        {
+            return this.chain.learn(this.data);
+        }
+
+    }
+
+}
@@ -0,0 +1,907 @@
+/*
+ * File:            ParallelVectorParticleFilter.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.bayesian;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.learning.algorithm.AbstractBatchAndIncrementalLearner;
+import gov.sandia.cognition.math.ProbabilityUtil;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.statistics.distribution.DefaultDataDistribution;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.CloneableSerializable;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A sampling importance resampling particle filter over real-valued state
+ * vectors that is designed for large numbers of particles. Unlike
+ * {@code SamplingImportanceResamplingParticleFilter}, which keeps each
+ * particle as an object in a {@code DataDistribution}, the states of all of
+ * the particles are stored in a single primitive array and their weights in
+ * another, so an update allocates no per-particle objects. The propagation
+ * and likelihood evaluation of the particles are split into a fixed number of
+ * blocks that run on a thread pool, each block with its own random number
+ * generator seeded from the random number generator of the filter. Since the
+ * blocks do not depend on the number of threads, the filter gives the same
+ * result for the same seed whatever the size of the pool. When the effective number
+ * of particles drops below a fraction of the total, the particles are
+ * resampled in linear time with systematic or stratified resampling into a
+ * second preallocated array.
+ *
+ * @param   <ObservationType>
+ *      The type of observations handled by the filter.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     SamplingImportanceResamplingParticleFilter
+ */
+@PublicationReferences(
+    references={
+        @PublicationReference(
+            author={
+                "M. Sanjeev Arulampalam",
+                "Simon Maskell",
+                "Neil Gordon",
+                "Tim Clapp"
+            },
+            title="A Tutorial on Particle Filters for Online Nonlinear/Non-Gaussian Bayesian Tracking",
+            type=PublicationType.Journal,
+            publication="IEEE Transactions on Signal Processing, Vol. 50, No. 2",
+            year=2002,
+            pages={174,188},
+            url="http://people.cs.ubc.ca/~murphyk/Software/Kalman/ParticleFilterTutorial.pdf"
+        ),
+        @PublicationReference(
+            author={"Randal Douc", "Olivier Cappe", "Eric Moulines"},
+            title="Comparison of Resampling Schemes for Particle Filtering",
+            type=PublicationType.Conference,
+            publication="Proceedings of the 4th International Symposium on Image and Signal Processing and Analysis",
+            year=2005,
+            pages={64,69}
+        )
+    }
+)
+public class ParallelVectorParticleFilter<ObservationType>
+    extends AbstractBatchAndIncrementalLearner<ObservationType, ParallelVectorParticleFilter.ParticleSet>
+    implements ParallelAlgorithm, Randomized
+{
+
+    /** The default number of particles, {@value}. */
+    public static final int DEFAULT_NUM_PARTICLES = 1000;
+
+    /** The default fraction of effective particles below which the particles
+     *  are resampled, {@value}. */
+    public static final double DEFAULT_RESAMPLE_THRESHOLD = 0.5;
+
+    /** The default number of blocks that the particles are split into,
+     *  {@value}. */
+    public static final int DEFAULT_NUM_BLOCKS = 64;
+
+    /** The default resampling method. */
+    public static final ResamplingMethod DEFAULT_RESAMPLING_METHOD =
+        ResamplingMethod.SYSTEMATIC;
+
+    /** The updater that creates, propagates, and weights the particles. */
+    protected Updater<? super ObservationType> updater;
+
+    /** The number of particles. */
+    protected int numParticles;
+
+    /** The fraction of effective particles below which the particles are
+     *  resampled. */
+    protected double resampleThreshold;
+
+    /** The resampling method. */
+    protected ResamplingMethod resamplingMethod;
+
+    /** The number of blocks that the particles are split into, each with its
+     *  own random number generator. */
+    protected int numBlocks;
+
+    /** The random number generator. */
+    protected Random random;
+
+    /** Thread pool used to split the computation across multiple cores. */
+    private transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new {@code ParallelVectorParticleFilter} with default
+     * parameters.
+     */
+    public ParallelVectorParticleFilter()
+    {
+        this(null, DEFAULT_NUM_PARTICLES, new Random());
+    }
+
+    /**
+     * Creates a new {@code ParallelVectorParticleFilter}.
+     *
+     * @param   updater
+     *      The updater that creates, propagates, and weights the particles.
+     * @param   numParticles
+     *      The number of particles. Must be positive.
+     * @param   random
+     *      The random number generator.
+     */
+    public ParallelVectorParticleFilter(
+        final Updater<? super ObservationType> updater,
+        final int numParticles,
+        final Random random)
+    {
+        super();
+
+        this.setUpdater(updater);
+        this.setNumParticles(numParticles);
+        this.setRandom(random);
+        this.setResampleThreshold(DEFAULT_RESAMPLE_THRESHOLD);
+        this.setResamplingMethod(DEFAULT_RESAMPLING_METHOD);
+        this.setNumBlocks(DEFAULT_NUM_BLOCKS);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ParallelVectorParticleFilter<ObservationType> clone()
+    {
+        final ParallelVectorParticleFilter<ObservationType> clone =
+            (ParallelVectorParticleFilter<ObservationType>) super.clone();
+        clone.updater = ObjectUtil.cloneSafe(this.updater);
+        clone.random = ObjectUtil.cloneSmart(this.random);
+        clone.threadPool = null;
+        return clone;
+    }
+
+    @Override
+    public ParticleSet createInitialLearnedObject()
+    {
+        final int dimensionality = this.updater.getDimensionality();
+        final ParticleSet particles = new ParticleSet(this.numParticles,
+            dimensionality);
+        final double[] states = particles.states;
+        final double uniformWeight = 1.0 / this.numParticles;
+        for (int i = 0; i < this.numParticles; i++)
+        {
+            this.updater.initialize(states, i * dimensionality, this.random);
+        }
+        Arrays.fill(particles.weights, uniformWeight);
+        return particles;
+    }
+
+    @Override
+    public void update(
+        final ParticleSet particles,
+        final ObservationType observation)
+    {
+        final int count = particles.getNumParticles();
+        final double[] weights = particles.weights;
+
+        // Propagate and weight the particles in parallel blocks. Each block
+        // leaves the log of the unnormalized weight in the weights array.
+        // The blocks, and so the random number streams, do not depend on the
+        // number of threads.
+        final int numBlocks = Math.max(1, Math.min(count, this.numBlocks));
+        final ArrayList<PropagateTask> tasks =
+            new ArrayList<PropagateTask>(numBlocks);
+        for (int b = 0; b < numBlocks; b++)
+        {
+            final int start = (int) ((long) count * b / numBlocks);
+            final int end = (int) ((long) count * (b + 1) / numBlocks);
+            tasks.add(new PropagateTask(particles, observation, start, end,
+                this.random.nextLong()));
+        }
+
+        final ArrayList<Double> blockMaxima;
+        try
+        {
+            blockMaxima = ParallelUtil.executeInParallel(tasks,
+                this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        double maxLogWeight = Double.NEGATIVE_INFINITY;
+        for (Double blockMax : blockMaxima)
+        {
+            maxLogWeight = Math.max(maxLogWeight, blockMax);
+        }
+
+        if (Double.isInfinite(maxLogWeight) || Double.isNaN(maxLogWeight))
+        {
+            // No particle can explain the observation, so fall back to
+            // uniform weights rather than dividing by zero.
+            Arrays.fill(weights, 0, count, 1.0 / count);
+            return;
+        }
+
+        // Normalize the weights, subtracting the maximum log-weight to avoid
+        // underflow.
+        double weightSum = 0.0;
+        for (int i = 0; i < count; i++)
+        {
+            final double weight = Math.exp(weights[i] - maxLogWeight);
+            weights[i] = weight;
+            weightSum += weight;
+        }
+        double sumSquared = 0.0;
+        for (int i = 0; i < count; i++)
+        {
+            final double weight = weights[i] / weightSum;
+            weights[i] = weight;
+            sumSquared += weight * weight;
+        }
+
+        // Resample if there are too few effective particles.
+        final double effectiveParticles = 1.0 / sumSquared;
+        if (effectiveParticles < this.resampleThreshold * count)
+        {
+            this.resample(particles);
+        }
+    }
+
+    /**
+     * Resamples the particles according to their weights, giving all of the
+     * resampled particles uniform weight. It takes time linear in the number
+     * of particles and reuses the preallocated arrays of the particle set.
+     *
+     * @param   particles
+     *      The particles to resample.
+     */
+    public void resample(
+        final ParticleSet particles)
+    {
+        final int count = particles.getNumParticles();
+        final int dimensionality = particles.getDimensionality();
+        final int[] indices = particles.getIndexBuffer();
+        sampleIndices(particles.weights, this.resamplingMethod, this.random,
+            indices);
+
+        final double[] source = particles.states;
+        final double[] target = particles.getStateBuffer();
+        for (int j = 0; j < count; j++)
+        {
+            System.arraycopy(source, indices[j] * dimensionality,
+                target, j * dimensionality, dimensionality);
+        }
+
+        // Swap the buffers so the resampled states become the current ones.
+        particles.stateBuffer = source;
+        particles.states = target;
+        Arrays.fill(particles.weights, 0, count, 1.0 / count);
+    }
+
+    /**
+     * Samples indices in proportion to the given weights in linear time. The
+     * indices are sampled in sorted order using either systematic or
+     * stratified sampling of a single pass over the cumulative weights.
+     *
+     * @param   weights
+     *      The non-negative weights. They do not need to be normalized.
+     * @param   method
+     *      The resampling method.
+     * @param   random
+     *      The random number generator to use.
+     * @param   result
+     *      The array to put the sampled indices into. Its length is the
+     *      number of indices to sample, which must not exceed the number of
+     *      weights.
+     */
+    public static void sampleIndices(
+        final double[] weights,
+        final ResamplingMethod method,
+        final Random random,
+        final int[] result)
+    {
+        final int count = result.length;
+        double total = 0.0;
+        for (int i = 0; i < count; i++)
+        {
+            total += weights[i];
+        }
+
+        final double step = total / count;
+        final double offset = random.nextDouble();
+        int index = 0;
+        double cumulative = weights[0];
+        for (int j = 0; j < count; j++)
+        {
+            final double u = method == ResamplingMethod.STRATIFIED
+                ? (j + random.nextDouble()) * step
+                : (j + offset) * step;
+            while (u > cumulative && index < count - 1)
+            {
+                index++;
+                cumulative += weights[index];
+            }
+            result[j] = index;
+        }
+    }
+
+    /**
+     * Gets the updater that creates, propagates, and weights the particles.
+     *
+     * @return
+     *      The updater.
+     */
+    public Updater<? super ObservationType> getUpdater()
+    {
+        return this.updater;
+    }
+
+    /**
+     * Sets the updater that creates, propagates, and weights the particles.
+     *
+     * @param   updater
+     *      The updater.
+     */
+    public void setUpdater(
+        final Updater<? super ObservationType> updater)
+    {
+        this.updater = updater;
+    }
+
+    /**
+     * Gets the number of particles.
+     *
+     * @return
+     *      The number of particles.
+     */
+    public int getNumParticles()
+    {
+        return this.numParticles;
+    }
+
+    /**
+     * Sets the number of particles.
+     *
+     * @param   numParticles
+     *      The number of particles. Must be positive.
+     */
+    public void setNumParticles(
+        final int numParticles)
+    {
+        ArgumentChecker.assertIsPositive("numParticles", numParticles);
+        this.numParticles = numParticles;
+    }
+
+    /**
+     * Gets the fraction of effective particles below which the particles are
+     * resampled.
+     *
+     * @return
+     *      The resampling threshold.
+     */
+    public double getResampleThreshold()
+    {
+        return this.resampleThreshold;
+    }
+
+    /**
+     * Sets the fraction of effective particles below which the particles are
+     * resampled. Zero never resamples and one always resamples.
+     *
+     * @param   resampleThreshold
+     *      The resampling threshold. Must be between 0 and 1.
+     */
+    public void setResampleThreshold(
+        final double resampleThreshold)
+    {
+        ProbabilityUtil.assertIsProbability(resampleThreshold);
+        this.resampleThreshold = resampleThreshold;
+    }
+
+    /**
+     * Gets the resampling method.
+     *
+     * @return
+     *      The resampling method.
+     */
+    public ResamplingMethod getResamplingMethod()
+    {
+        return this.resamplingMethod;
+    }
+
+    /**
+     * Sets the resampling method.
+     *
+     * @param   resamplingMethod
+     *      The resampling method. Cannot be null.
+     */
+    public void setResamplingMethod(
+        final ResamplingMethod resamplingMethod)
+    {
+        ArgumentChecker.assertIsNotNull("resamplingMethod", resamplingMethod);
+        this.resamplingMethod = resamplingMethod;
+    }
+
+    /**
+     * Gets the number of blocks that the particles are split into, each with
+     * its own random number generator.
+     *
+     * @return
+     *      The number of blocks.
+     */
+    public int getNumBlocks()
+    {
+        return this.numBlocks;
+    }
+
+    /**
+     * Sets the number of blocks that the particles are split into, each with
+     * its own random number generator. It should be at least the number of
+     * threads. The result for a given seed depends on the number of blocks,
+     * but not on the number of threads.
+     *
+     * @param   numBlocks
+     *      The number of blocks. Must be positive.
+     */
+    public void setNumBlocks(
+        final int numBlocks)
+    {
+        ArgumentChecker.assertIsPositive("numBlocks", numBlocks);
+        this.numBlocks = numBlocks;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Callable task that propagates and weights a block of particles.
+     */
+    private class PropagateTask
+        extends Object
+        implements Callable<Double>
+    {
+
+        /** The particles. */
+        private final ParticleSet particles;
+
+        /** The observation. */
+        private final ObservationType observation;
+
+        /** The index of the first particle in the block. */
+        private final int start;
+
+        /** One past the index of the last particle in the block. */
+        private final int end;
+
+        /** The seed for the random number generator of the block. */
+        private final long seed;
+
+        /**
+         * Creates a new {@code PropagateTask}.
+         *
+         * @param   particles
+         *      The particles.
+         * @param   observation
+         *      The observation.
+         * @param   start
+         *      The index of the first particle in the block.
+         * @param   end
+         *      One past the index of the last particle in the block.
+         * @param   seed
+         *      The seed for the random number generator of the block.
+         */
+        public PropagateTask(
+            final ParticleSet particles,
+            final ObservationType observation,
+            final int start,
+            final int end,
+            final long seed)
+        {
+            super();
+
+            this.particles = particles;
+            this.observation = observation;
+            this.start = start;
+            this.end = end;
+            this.seed = seed;
+        }
+
+        @Override
+        public Double call()
+        {
+            final Random blockRandom = new Random(this.seed);
+            final double[] states = this.particles.states;
+            final double[] weights = this.particles.weights;
+            final int dimensionality = this.particles.getDimensionality();
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = this.start; i < this.end; i++)
+            {
+                final int offset = i * dimensionality;
+                updater.propagate(states, offset, blockRandom);
+                final double logWeight = Math.log(weights[i])
+                    + updater.computeLogLikelihood(states, offset,
+                        this.observation);
+                weights[i] = logWeight;
+                if (logWeight > max)
+                {
+                    max = logWeight;
+                }
+            }
+            return max;
+        }
+
+    }
+
+    /**
+     * Creates, propagates, and weights the particles of a
+     * {@code ParallelVectorParticleFilter}. Each particle is a contiguous
+     * slice of a state array, starting at an offset and with length equal to
+     * the dimensionality. The propagation and likelihood methods are called
+     * concurrently on different particles, so they must be thread-safe and
+     * should use the given random number generator rather than a shared one.
+     *
+     * @param   <ObservationType>
+     *      The type of observations.
+     */
+    public static interface Updater<ObservationType>
+        extends CloneableSerializable
+    {
+
+        /**
+         * Gets the dimensionality of the state of a particle.
+         *
+         * @return
+         *      The dimensionality of the state.
+         */
+        public int getDimensionality();
+
+        /**
+         * Samples the initial state of a particle.
+         *
+         * @param   states
+         *      The state array to write the particle into.
+         * @param   offset
+         *      The offset of the particle in the state array.
+         * @param   random
+         *      The random number generator to use.
+         */
+        public void initialize(
+            final double[] states,
+            final int offset,
+            final Random random);
+
+        /**
+         * Propagates the state of a particle in place by sampling from the
+         * transition model.
+         *
+         * @param   states
+         *      The state array containing the particle.
+         * @param   offset
+         *      The offset of the particle in the state array.
+         * @param   random
+         *      The random number generator to use.
+         */
+        public void propagate(
+            final double[] states,
+            final int offset,
+            final Random random);
+
+        /**
+         * Computes the log likelihood of an observation given the state of a
+         * particle.
+         *
+         * @param   states
+         *      The state array containing the particle.
+         * @param   offset
+         *      The offset of the particle in the state array.
+         * @param   observation
+         *      The observation.
+         * @return
+         *      The log likelihood of the observation.
+         */
+        public double computeLogLikelihood(
+            final double[] states,
+            final int offset,
+            final ObservationType observation);
+
+    }
+
+    /**
+     * The methods for resampling particles.
+     */
+    public static enum ResamplingMethod
+    {
+
+        /** Systematic resampling, which uses a single uniform offset for
+         *  evenly spaced sample points. */
+        SYSTEMATIC,
+
+        /** Stratified resampling, which draws an independent uniform sample
+         *  point in each of the evenly sized strata. */
+        STRATIFIED
+
+    }
+
+    /**
+     * The weighted particles of a {@code ParallelVectorParticleFilter}. The
+     * state of particle i is stored in the state array from index
+     * {@code i * dimensionality} up to {@code (i + 1) * dimensionality}.
+     */
+    public static class ParticleSet
+        extends AbstractCloneableSerializable
+    {
+
+        /** The number of particles. */
+        protected int numParticles;
+
+        /** The dimensionality of the state of each particle. */
+        protected int dimensionality;
+
+        /** The states of the particles. */
+        protected double[] states;
+
+        /** The normalized weights of the particles. */
+        protected double[] weights;
+
+        /** The buffer that particles are resampled into. */
+        protected transient double[] stateBuffer;
+
+        /** The buffer of resampled particle indices. */
+        protected transient int[] indexBuffer;
+
+        /**
+         * Creates a new {@code ParticleSet} with all states set to zero and
+         * all weights set to uniform.
+         *
+         * @param   numParticles
+         *      The number of particles. Must be positive.
+         * @param   dimensionality
+         *      The dimensionality of the state of each particle. Must be
+         *      positive.
+         */
+        public ParticleSet(
+            final int numParticles,
+            final int dimensionality)
+        {
+            super();
+
+            ArgumentChecker.assertIsPositive("numParticles", numParticles);
+            ArgumentChecker.assertIsPositive("dimensionality", dimensionality);
+            this.numParticles = numParticles;
+            this.dimensionality = dimensionality;
+            this.states = new double[numParticles * dimensionality];
+            this.weights = new double[numParticles];
+            Arrays.fill(this.weights, 1.0 / numParticles);
+        }
+
+        @Override
+        public ParticleSet clone()
+        {
+            final ParticleSet clone = (ParticleSet) super.clone();
+            clone.states = this.states.clone();
+            clone.weights = this.weights.clone();
+            clone.stateBuffer = null;
+            clone.indexBuffer = null;
+            return clone;
+        }
+
+        /**
+         * Gets the buffer that particles are resampled into, creating it if
+         * needed.
+         *
+         * @return
+         *      The state buffer.
+         */
+        protected double[] getStateBuffer()
+        {
+            if (this.stateBuffer == null)
+            {
+                this.stateBuffer = new double[this.states.length];
+            }
+            return this.stateBuffer;
+        }
+
+        /**
+         * Gets the buffer of resampled particle indices, creating it if
+         * needed.
+         *
+         * @return
+         *      The index buffer.
+         */
+        protected int[] getIndexBuffer()
+        {
+            if (this.indexBuffer == null)
+            {
+                this.indexBuffer = new int[this.numParticles];
+            }
+            return this.indexBuffer;
+        }
+
+        /**
+         * Gets the number of particles.
+         *
+         * @return
+         *      The number of particles.
+         */
+        public int getNumParticles()
+        {
+            return this.numParticles;
+        }
+
+        /**
+         * Gets the dimensionality of the state of each particle.
+         *
+         * @return
+         *      The dimensionality.
+         */
+        public int getDimensionality()
+        {
+            return this.dimensionality;
+        }
+
+        /**
+         * Gets the state array of the particles. It is the array itself, not
+         * a copy.
+         *
+         * @return
+         *      The state array.
+         */
+        public double[] getStates()
+        {
+            return this.states;
+        }
+
+        /**
+         * Gets the normalized weights of the particles. It is the array
+         * itself, not a copy.
+         *
+         * @return
+         *      The weights.
+         */
+        public double[] getWeights()
+        {
+            return this.weights;
+        }
+
+        /**
+         * Gets the state of a particle as a vector.
+         *
+         * @param   index
+         *      The index of the particle.
+         * @return
+         *      A new vector containing the state of the particle.
+         */
+        public Vector getParticle(
+            final int index)
+        {
+            final int offset = index * this.dimensionality;
+            return VectorFactory.getDefault().copyArray(Arrays.copyOfRange(
+                this.states, offset, offset + this.dimensionality));
+        }
+
+        /**
+         * Gets the weight of a particle.
+         *
+         * @param   index
+         *      The index of the particle.
+         * @return
+         *      The weight of the particle.
+         */
+        public double getWeight(
+            final int index)
+        {
+            return this.weights[index];
+        }
+
+        /**
+         * Computes the weighted mean of the particle states.
+         *
+         * @return
+         *      The weighted mean.
+         */
+        public Vector getMean()
+        {
+            final double[] mean = new double[this.dimensionality];
+            double totalWeight = 0.0;
+            for (int i = 0; i < this.numParticles; i++)
+            {
+                final double weight = this.weights[i];
+                final int offset = i * this.dimensionality;
+                for (int d = 0; d < this.dimensionality; d++)
+                {
+                    mean[d] += weight * this.states[offset + d];
+                }
+                totalWeight += weight;
+            }
+
+            for (int d = 0; d < this.dimensionality; d++)
+            {
+                mean[d] /= totalWeight;
+            }
+            return VectorFactory.getDefault().copyArray(mean);
+        }
+
+        /**
+         * Computes the effective number of particles from their weights.
+         *
+         * @return
+         *      The effective number of particles.
+         */
+        public double computeEffectiveParticles()
+        {
+            double total = 0.0;
+            double sumSquared = 0.0;
+            for (int i = 0; i < this.numParticles; i++)
+            {
+                final double weight = this.weights[i];
+                total += weight;
+                sumSquared += weight * weight;
+            }
+            return total * total / sumSquared;
+        }
+
+        /**
+         * Converts the particles into a data distribution over vectors, for
+         * use with code that expects the result of a
+         * {@code ParticleFilter}. It creates an object for each particle, so
+         * it is meant for inspection rather than use in the filtering loop.
+         *
+         * @return
+         *      A new data distribution of the particles.
+         */
+        public DefaultDataDistribution<Vector> toDataDistribution()
+        {
+            final DefaultDataDistribution<Vector> result =
+                new DefaultDataDistribution<Vector>(this.numParticles);
+            for (int i = 0; i < this.numParticles; i++)
+            {
+                result.increment(this.getParticle(i), this.weights[i]);
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,882 @@
+/*
+ * File:            SparseGaussianProcessRegression.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.bayesian;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.collection.CollectionUtil;
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.learning.algorithm.BatchLearner;
+import gov.sandia.cognition.learning.algorithm.clustering.BatchClusterer;
+import gov.sandia.cognition.learning.algorithm.clustering.cluster.CentroidCluster;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.learning.function.kernel.DefaultKernelContainer;
+import gov.sandia.cognition.learning.function.kernel.Kernel;
+import gov.sandia.cognition.math.Permutation;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.math.matrix.mtj.DenseMatrix;
+import gov.sandia.cognition.math.matrix.mtj.DenseMatrixFactoryMTJ;
+import gov.sandia.cognition.math.matrix.mtj.decomposition.CholeskyDecompositionMTJ;
+import gov.sandia.cognition.statistics.distribution.UnivariateGaussian;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Sparse Gaussian process regression that approximates the full Gaussian
+ * process with a set of M inducing points. Where
+ * {@code GaussianProcessRegression} builds and inverts the N by N kernel
+ * matrix over all of the training points, which takes O(N^3) time and O(N^2)
+ * memory, this only forms M by M matrices, so training takes O(N M^2) time
+ * and O(M^2) memory. The kernel between the training points and the inducing
+ * points is computed in parallel blocks of the data.
+ * <BR><BR>
+ * Two approximations are supported. The subset of regressors approximation
+ * replaces the kernel by its projection onto the inducing points. The fully
+ * independent training conditional (FITC) approximation additionally
+ * corrects the diagonal of the kernel matrix to its exact value, which gives
+ * more sensible predictive variances away from the inducing points.
+ * <BR><BR>
+ * Rather than forming any inverses, the inducing point kernel matrix and the
+ * posterior precision of the inducing point weights are Cholesky factored,
+ * adding more jitter to the diagonal if needed, and the mean and variance are
+ * computed with triangular solves.
+ * <BR><BR>
+ * The inducing points can be given directly. Otherwise, they are the
+ * centroids found by a clusterer, such as k-means, on the training inputs if
+ * one is set, or a random sample of the training inputs.
+ *
+ * @param   <InputType>
+ *      The type of input to the regression.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     GaussianProcessRegression
+ */
+@PublicationReference(
+    author={"Joaquin Quinonero-Candela", "Carl Edward Rasmussen"},
+    title="A Unifying View of Sparse Approximate Gaussian Process Regression",
+    type=PublicationType.Journal,
+    publication="Journal of Machine Learning Research",
+    year=2005,
+    pages={1939, 1959},
+    url="http://www.jmlr.org/papers/volume6/quinonero-candela05a/quinonero-candela05a.pdf"
+)
+public class SparseGaussianProcessRegression<InputType>
+    extends DefaultKernelContainer<InputType>
+    implements BatchLearner<Collection<? extends InputOutputPair<? extends InputType, Double>>, SparseGaussianProcessRegression.PredictiveDistribution<InputType>>,
+        ParallelAlgorithm, Randomized
+{
+
+    /** The default number of inducing points, {@value}. */
+    public static final int DEFAULT_NUM_INDUCING_POINTS = 100;
+
+    /** The default approximation. */
+    public static final Approximation DEFAULT_APPROXIMATION =
+        Approximation.FITC;
+
+    /** The default jitter added to the diagonal of the inducing point kernel
+     *  matrix, {@value}. */
+    public static final double DEFAULT_JITTER = 1e-6;
+
+    /** The maximum number of times the jitter is increased when a matrix
+     *  cannot be Cholesky factored, {@value}. */
+    public static final int MAX_JITTER_ATTEMPTS = 10;
+
+    /** The variance of the measurement noise on the outputs. */
+    protected double outputVariance;
+
+    /** The number of inducing points to select when they are not given. */
+    protected int numInducingPoints;
+
+    /** The inducing points to use. If null, they are selected from the
+     *  training data. */
+    protected List<? extends InputType> inducingPoints;
+
+    /** The clusterer whose centroids are used as the inducing points when
+     *  they are not given. If null, a random sample of the inputs is used. */
+    protected BatchClusterer<InputType, ? extends CentroidCluster<InputType>> inducingPointClusterer;
+
+    /** The approximation to use. */
+    protected Approximation approximation;
+
+    /** The jitter added to the diagonal of the inducing point kernel matrix
+     *  for numerical stability. */
+    protected double jitter;
+
+    /** The random number generator. */
+    protected Random random;
+
+    /** Thread pool used to split the computation across multiple cores. */
+    private transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new {@code SparseGaussianProcessRegression} with default
+     * parameters.
+     */
+    public SparseGaussianProcessRegression()
+    {
+        this(null, GaussianProcessRegression.DEFAULT_MEASUREMENT_VARIANCE,
+            DEFAULT_NUM_INDUCING_POINTS, new Random());
+    }
+
+    /**
+     * Creates a new {@code SparseGaussianProcessRegression}.
+     *
+     * @param   kernel
+     *      The kernel to use.
+     * @param   outputVariance
+     *      The variance of the measurement noise on the outputs. Must be
+     *      non-negative.
+     * @param   numInducingPoints
+     *      The number of inducing points to select. Must be positive.
+     * @param   random
+     *      The random number generator.
+     */
+    public SparseGaussianProcessRegression(
+        final Kernel<? super InputType> kernel,
+        final double outputVariance,
+        final int numInducingPoints,
+        final Random random)
+    {
+        super(kernel);
+
+        this.setOutputVariance(outputVariance);
+        this.setNumInducingPoints(numInducingPoints);
+        this.setInducingPoints(null);
+        this.setInducingPointClusterer(null);
+        this.setApproximation(DEFAULT_APPROXIMATION);
+        this.setJitter(DEFAULT_JITTER);
+        this.setRandom(random);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SparseGaussianProcessRegression<InputType> clone()
+    {
+        final SparseGaussianProcessRegression<InputType> clone =
+            (SparseGaussianProcessRegression<InputType>) super.clone();
+        clone.inducingPointClusterer =
+            ObjectUtil.cloneSafe(this.inducingPointClusterer);
+        clone.random = ObjectUtil.cloneSmart(this.random);
+        clone.threadPool = null;
+        return clone;
+    }
+
+    @Override
+    public PredictiveDistribution<InputType> learn(
+        final Collection<? extends InputOutputPair<? extends InputType, Double>> data)
+    {
+        final ArrayList<? extends InputOutputPair<? extends InputType, Double>> dataArray =
+            CollectionUtil.asArrayList(data);
+        final ArrayList<InputType> inducing =
+            this.selectInducingPoints(dataArray);
+        final int M = inducing.size();
+        final int N = dataArray.size();
+        final boolean fitc = this.approximation == Approximation.FITC;
+
+        // Compute the kernel between the inducing points.
+        final Matrix Kmm = MatrixFactory.getDefault().createMatrix(M, M);
+        for (int i = 0; i < M; i++)
+        {
+            final InputType xi = inducing.get(i);
+            for (int j = i; j < M; j++)
+            {
+                final double k = this.kernel.evaluate(xi, inducing.get(j));
+                Kmm.setElement(i, j, k);
+                Kmm.setElement(j, i, k);
+            }
+            Kmm.increment(i, i, this.jitter);
+        }
+
+        // Any extra jitter needed to factor the kernel matrix is added to it,
+        // so that A below is built from the same matrix that was factored.
+        final double[][] KmmFactor = choleskyFactor(Kmm, this.jitter);
+
+        // Accumulate the M by M matrix Kmn * inv(Lambda) * Knm and the
+        // vector Kmn * inv(Lambda) * y over blocks of the data in parallel.
+        final int numBlocks = Math.max(1, Math.min(N, this.getNumThreads()));
+        final ArrayList<AccumulateTask> tasks =
+            new ArrayList<AccumulateTask>(numBlocks);
+        for (int b = 0; b < numBlocks; b++)
+        {
+            final int start = (int) ((long) N * b / numBlocks);
+            final int end = (int) ((long) N * (b + 1) / numBlocks);
+            tasks.add(new AccumulateTask(dataArray, inducing,
+                fitc ? KmmFactor : null, start, end));
+        }
+
+        final ArrayList<double[][]> partials;
+        try
+        {
+            partials = ParallelUtil.executeInParallel(tasks,
+                this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        final Matrix A = Kmm.clone();
+        final Vector b = VectorFactory.getDefault().createVector(M);
+        for (double[][] partial : partials)
+        {
+            for (int i = 0; i < M; i++)
+            {
+                final double[] row = partial[i];
+                for (int j = 0; j < M; j++)
+                {
+                    A.increment(i, j, row[j]);
+                }
+                b.increment(i, partial[M][i]);
+            }
+        }
+
+        // The weights are inv(A) * b, from the Cholesky factor of A.
+        final double[][] AFactor = choleskyFactor(A, this.jitter);
+        final double[] z = b.toArray();
+        solveLower(AFactor, z);
+        solveLowerTranspose(AFactor, z);
+        final Vector weights = VectorFactory.getDefault().copyArray(z);
+        return new PredictiveDistribution<InputType>(this.kernel, inducing,
+            weights, AFactor, fitc ? KmmFactor : null, this.outputVariance);
+    }
+
+    /**
+     * Selects the inducing points for the given data. They are the given
+     * inducing points if they are set, otherwise the centroids of the
+     * clusterer on the inputs if it is set, otherwise a random sample of the
+     * inputs.
+     *
+     * @param   data
+     *      The training data.
+     * @return
+     *      The inducing points.
+     */
+    protected ArrayList<InputType> selectInducingPoints(
+        final List<? extends InputOutputPair<? extends InputType, Double>> data)
+    {
+        if (this.inducingPoints != null)
+        {
+            return new ArrayList<InputType>(this.inducingPoints);
+        }
+
+        final int N = data.size();
+        if (this.inducingPointClusterer != null)
+        {
+            final ArrayList<InputType> inputs = new ArrayList<InputType>(N);
+            for (InputOutputPair<? extends InputType, Double> pair : data)
+            {
+                inputs.add(pair.getInput());
+            }
+
+            final Collection<? extends CentroidCluster<InputType>> clusters =
+                this.inducingPointClusterer.learn(inputs);
+            final ArrayList<InputType> result =
+                new ArrayList<InputType>(clusters.size());
+            for (CentroidCluster<InputType> cluster : clusters)
+            {
+                result.add(cluster.getCentroid());
+            }
+            return result;
+        }
+
+        final int M = Math.min(N, this.numInducingPoints);
+        final int[] indices = Permutation.createPartialPermutation(N, M,
+            this.random);
+        final ArrayList<InputType> result = new ArrayList<InputType>(M);
+        for (int i = 0; i < M; i++)
+        {
+            result.add(data.get(indices[i]).getInput());
+        }
+        return result;
+    }
+
+    /**
+     * Computes the lower-triangular Cholesky factor L of a symmetric positive
+     * definite matrix, such that L * L' equals the matrix. If the matrix is
+     * not numerically positive definite, jitter is added to its diagonal,
+     * starting from the given amount and increasing by a factor of ten, until
+     * it can be factored. The jitter that is added is also added to the given
+     * matrix, so that the factor is always the factor of the matrix.
+     *
+     * @param   matrix
+     *      The symmetric matrix to factor. Any jitter needed to factor it is
+     *      added to its diagonal.
+     * @param   jitter
+     *      The initial jitter to add to the diagonal if the factorization
+     *      fails.
+     * @return
+     *      The lower-triangular Cholesky factor as an array of rows.
+     * @throws  IllegalArgumentException
+     *      If the matrix cannot be factored even with the jitter.
+     */
+    protected static double[][] choleskyFactor(
+        final Matrix matrix,
+        final double jitter)
+    {
+        final int M = matrix.getNumRows();
+        final DenseMatrix copy =
+            DenseMatrixFactoryMTJ.INSTANCE.copyMatrix(matrix);
+        double added = 0.0;
+        double nextJitter = Math.max(jitter, DEFAULT_JITTER);
+        for (int attempt = 0; attempt <= MAX_JITTER_ATTEMPTS; attempt++)
+        {
+            try
+            {
+                final DenseMatrix R =
+                    CholeskyDecompositionMTJ.create(copy).getR();
+
+                // Transpose the upper factor so that the solves go by row.
+                final double[][] result = new double[M][];
+                for (int i = 0; i < M; i++)
+                {
+                    result[i] = new double[i + 1];
+                    for (int j = 0; j <= i; j++)
+                    {
+                        result[i][j] = R.getElement(j, i);
+                    }
+                }
+                return result;
+            }
+            catch (IllegalArgumentException e)
+            {
+                // Add more jitter to the diagonal and try again.
+                for (int i = 0; i < M; i++)
+                {
+                    copy.increment(i, i, nextJitter - added);
+                    matrix.increment(i, i, nextJitter - added);
+                }
+                added = nextJitter;
+                nextJitter *= 10.0;
+            }
+        }
+        throw new IllegalArgumentException(
+            "Kernel matrix is not positive definite even with jitter "
+            + added);
+    }
+
+    /**
+     * Solves L * x = b in place for a lower-triangular matrix L.
+     *
+     * @param   lower
+     *      The lower-triangular matrix as an array of rows.
+     * @param   b
+     *      The right-hand side, which is replaced by the solution.
+     */
+    protected static void solveLower(
+        final double[][] lower,
+        final double[] b)
+    {
+        final int M = b.length;
+        for (int i = 0; i < M; i++)
+        {
+            final double[] row = lower[i];
+            double sum = b[i];
+            for (int j = 0; j < i; j++)
+            {
+                sum -= row[j] * b[j];
+            }
+            b[i] = sum / row[i];
+        }
+    }
+
+    /**
+     * Solves L' * x = b in place for a lower-triangular matrix L.
+     *
+     * @param   lower
+     *      The lower-triangular matrix as an array of rows.
+     * @param   b
+     *      The right-hand side, which is replaced by the solution.
+     */
+    protected static void solveLowerTranspose(
+        final double[][] lower,
+        final double[] b)
+    {
+        final int M = b.length;
+        for (int i = M - 1; i >= 0; i--)
+        {
+            final double[] row = lower[i];
+            final double value = b[i] / row[i];
+            b[i] = value;
+            for (int j = 0; j < i; j++)
+            {
+                b[j] -= row[j] * value;
+            }
+        }
+    }
+
+    /**
+     * Computes the quadratic form k' * inv(L * L') * k as the squared norm of
+     * the solution of L * z = k.
+     *
+     * @param   lower
+     *      The lower-triangular Cholesky factor L as an array of rows.
+     * @param   k
+     *      The vector k.
+     * @param   workspace
+     *      The workspace for the solution, of the same length as k.
+     * @return
+     *      The value of the quadratic form.
+     */
+    protected static double inverseQuadraticForm(
+        final double[][] lower,
+        final double[] k,
+        final double[] workspace)
+    {
+        System.arraycopy(k, 0, workspace, 0, k.length);
+        solveLower(lower, workspace);
+        double sum = 0.0;
+        for (double value : workspace)
+        {
+            sum += value * value;
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the variance of the measurement noise on the outputs.
+     *
+     * @return
+     *      The output variance.
+     */
+    public double getOutputVariance()
+    {
+        return this.outputVariance;
+    }
+
+    /**
+     * Sets the variance of the measurement noise on the outputs.
+     *
+     * @param   outputVariance
+     *      The output variance. Must be non-negative.
+     */
+    public void setOutputVariance(
+        final double outputVariance)
+    {
+        ArgumentChecker.assertIsNonNegative("outputVariance", outputVariance);
+        this.outputVariance = outputVariance;
+    }
+
+    /**
+     * Gets the number of inducing points to select when they are not given.
+     *
+     * @return
+     *      The number of inducing points.
+     */
+    public int getNumInducingPoints()
+    {
+        return this.numInducingPoints;
+    }
+
+    /**
+     * Sets the number of inducing points to select when they are not given.
+     * It is ignored when a clusterer is used.
+     *
+     * @param   numInducingPoints
+     *      The number of inducing points. Must be positive.
+     */
+    public void setNumInducingPoints(
+        final int numInducingPoints)
+    {
+        ArgumentChecker.assertIsPositive("numInducingPoints",
+            numInducingPoints);
+        this.numInducingPoints = numInducingPoints;
+    }
+
+    /**
+     * Gets the inducing points to use.
+     *
+     * @return
+     *      The inducing points. If null, they are selected from the training
+     *      data.
+     */
+    public List<? extends InputType> getInducingPoints()
+    {
+        return this.inducingPoints;
+    }
+
+    /**
+     * Sets the inducing points to use.
+     *
+     * @param   inducingPoints
+     *      The inducing points. If null, they are selected from the training
+     *      data.
+     */
+    public void setInducingPoints(
+        final List<? extends InputType> inducingPoints)
+    {
+        this.inducingPoints = inducingPoints;
+    }
+
+    /**
+     * Gets the clusterer whose centroids are used as the inducing points when
+     * they are not given.
+     *
+     * @return
+     *      The clusterer. If null, a random sample of the inputs is used.
+     */
+    public BatchClusterer<InputType, ? extends CentroidCluster<InputType>> getInducingPointClusterer()
+    {
+        return this.inducingPointClusterer;
+    }
+
+    /**
+     * Sets the clusterer whose centroids are used as the inducing points when
+     * they are not given.
+     *
+     * @param   inducingPointClusterer
+     *      The clusterer. If null, a random sample of the inputs is used.
+     */
+    public void setInducingPointClusterer(
+        final BatchClusterer<InputType, ? extends CentroidCluster<InputType>> inducingPointClusterer)
+    {
+        this.inducingPointClusterer = inducingPointClusterer;
+    }
+
+    /**
+     * Gets the approximation to use.
+     *
+     * @return
+     *      The approximation.
+     */
+    public Approximation getApproximation()
+    {
+        return this.approximation;
+    }
+
+    /**
+     * Sets the approximation to use.
+     *
+     * @param   approximation
+     *      The approximation. Cannot be null.
+     */
+    public void setApproximation(
+        final Approximation approximation)
+    {
+        ArgumentChecker.assertIsNotNull("approximation", approximation);
+        this.approximation = approximation;
+    }
+
+    /**
+     * Gets the jitter added to the diagonal of the inducing point kernel
+     * matrix for numerical stability.
+     *
+     * @return
+     *      The jitter.
+     */
+    public double getJitter()
+    {
+        return this.jitter;
+    }
+
+    /**
+     * Sets the jitter added to the diagonal of the inducing point kernel
+     * matrix for numerical stability.
+     *
+     * @param   jitter
+     *      The jitter. Must be non-negative.
+     */
+    public void setJitter(
+        final double jitter)
+    {
+        ArgumentChecker.assertIsNonNegative("jitter", jitter);
+        this.jitter = jitter;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Callable task that accumulates Kmn * inv(Lambda) * Knm and
+     * Kmn * inv(Lambda) * y over a block of the data. The result has M + 1
+     * rows, where the first M are the matrix and the last is the vector.
+     */
+    private class AccumulateTask
+        extends Object
+        implements Callable<double[][]>
+    {
+
+        /** The training data. */
+        private final List<? extends InputOutputPair<? extends InputType, Double>> data;
+
+        /** The inducing points. */
+        private final List<InputType> inducing;
+
+        /** The lower Cholesky factor of the inducing point kernel matrix for
+         *  the FITC diagonal correction, or null for subset of regressors. */
+        private final double[][] KmmFactor;
+
+        /** The index of the first data point in the block. */
+        private final int start;
+
+        /** One past the index of the last data point in the block. */
+        private final int end;
+
+        /**
+         * Creates a new {@code AccumulateTask}.
+         *
+         * @param   data
+         *      The training data.
+         * @param   inducing
+         *      The inducing points.
+         * @param   KmmFactor
+         *      The lower Cholesky factor of the inducing point kernel matrix
+         *      for the FITC diagonal correction, or null for subset of
+         *      regressors.
+         * @param   start
+         *      The index of the first data point in the block.
+         * @param   end
+         *      One past the index of the last data point in the block.
+         */
+        public AccumulateTask(
+            final List<? extends InputOutputPair<? extends InputType, Double>> data,
+            final List<InputType> inducing,
+            final double[][] KmmFactor,
+            final int start,
+            final int end)
+        {
+            super();
+
+            this.data = data;
+            this.inducing = inducing;
+            this.KmmFactor = KmmFactor;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public double[][] call()
+        {
+            final int M = this.inducing.size();
+            final double[][] result = new double[M + 1][M];
+            final double[] k = new double[M];
+            final double[] workspace = new double[M];
+            for (int n = this.start; n < this.end; n++)
+            {
+                final InputOutputPair<? extends InputType, Double> pair =
+                    this.data.get(n);
+                final InputType x = pair.getInput();
+                for (int i = 0; i < M; i++)
+                {
+                    k[i] = kernel.evaluate(this.inducing.get(i), x);
+                }
+
+                double lambda = outputVariance;
+                if (this.KmmFactor != null)
+                {
+                    // The FITC correction is the exact kernel diagonal minus
+                    // its Nystrom approximation.
+                    final double q = inverseQuadraticForm(this.KmmFactor, k,
+                        workspace);
+                    lambda += Math.max(0.0, kernel.evaluate(x, x) - q);
+                }
+
+                final double scale = 1.0 / lambda;
+                final double y = pair.getOutput();
+                for (int i = 0; i < M; i++)
+                {
+                    final double ki = k[i] * scale;
+                    final double[] row = result[i];
+                    for (int j = 0; j < M; j++)
+                    {
+                        row[j] += ki * k[j];
+                    }
+                    result[M][i] += ki * y;
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The approximations for sparse Gaussian process regression.
+     */
+    public static enum Approximation
+    {
+
+        /** The subset of regressors approximation, which replaces the kernel
+         *  with its projection onto the inducing points. */
+        SUBSET_OF_REGRESSORS,
+
+        /** The fully independent training conditional approximation, which
+         *  also keeps the exact diagonal of the kernel matrix. */
+        FITC
+
+    }
+
+    /**
+     * The predictive distribution of a sparse Gaussian process. It evaluates
+     * to the Gaussian distribution of the output at an input, including the
+     * measurement noise, just like the predictive distribution of
+     * {@code GaussianProcessRegression}.
+     *
+     * @param   <InputType>
+     *      The type of input to the regression.
+     */
+    public static class PredictiveDistribution<InputType>
+        extends AbstractCloneableSerializable
+        implements Evaluator<InputType, UnivariateGaussian>
+    {
+
+        /** The kernel. */
+        protected Kernel<? super InputType> kernel;
+
+        /** The inducing points. */
+        protected ArrayList<InputType> inducingPoints;
+
+        /** The weights of the kernel with each inducing point for the mean. */
+        protected Vector weights;
+
+        /** The lower Cholesky factor of the posterior precision of the
+         *  inducing point weights, as an array of rows. */
+        protected double[][] precisionFactor;
+
+        /** The lower Cholesky factor of the inducing point kernel matrix for
+         *  the FITC variance correction, as an array of rows, or null for
+         *  subset of regressors. */
+        protected double[][] kernelFactor;
+
+        /** The variance of the measurement noise on the outputs. */
+        protected double outputVariance;
+
+        /**
+         * Creates a new {@code PredictiveDistribution}.
+         *
+         * @param   kernel
+         *      The kernel.
+         * @param   inducingPoints
+         *      The inducing points.
+         * @param   weights
+         *      The weights of the kernel with each inducing point for the
+         *      mean.
+         * @param   precisionFactor
+         *      The lower Cholesky factor of the posterior precision of the
+         *      inducing point weights, as an array of rows.
+         * @param   kernelFactor
+         *      The lower Cholesky factor of the inducing point kernel matrix
+         *      for the FITC variance correction, as an array of rows, or null
+         *      for subset of regressors.
+         * @param   outputVariance
+         *      The variance of the measurement noise on the outputs.
+         */
+        public PredictiveDistribution(
+            final Kernel<? super InputType> kernel,
+            final ArrayList<InputType> inducingPoints,
+            final Vector weights,
+            final double[][] precisionFactor,
+            final double[][] kernelFactor,
+            final double outputVariance)
+        {
+            super();
+
+            this.kernel = kernel;
+            this.inducingPoints = inducingPoints;
+            this.weights = weights;
+            this.precisionFactor = precisionFactor;
+            this.kernelFactor = kernelFactor;
+            this.outputVariance = outputVariance;
+        }
+
+        @Override
+        public UnivariateGaussian evaluate(
+            final InputType input)
+        {
+            final int M = this.inducingPoints.size();
+            final double[] k = new double[M];
+            double mean = 0.0;
+            for (int i = 0; i < M; i++)
+            {
+                k[i] = this.kernel.evaluate(this.inducingPoints.get(i), input);
+                mean += k[i] * this.weights.getElement(i);
+            }
+
+            final double[] workspace = new double[M];
+            double variance = inverseQuadraticForm(this.precisionFactor, k,
+                workspace) + this.outputVariance;
+            if (this.kernelFactor != null)
+            {
+                variance += Math.max(0.0, this.kernel.evaluate(input, input)
+                    - inverseQuadraticForm(this.kernelFactor, k, workspace));
+            }
+            return new UnivariateGaussian(mean, variance);
+        }
+
+        /**
+         * Gets the inducing points.
+         *
+         * @return
+         *      The inducing points.
+         */
+        public ArrayList<InputType> getInducingPoints()
+        {
+            return this.inducingPoints;
+        }
+
+        /**
+         * Gets the weights of the kernel with each inducing point for the
+         * mean.
+         *
+         * @return
+         *      The weights.
+         */
+        public Vector getWeights()
+        {
+            return this.weights;
+        }
+
+    }
+
+}
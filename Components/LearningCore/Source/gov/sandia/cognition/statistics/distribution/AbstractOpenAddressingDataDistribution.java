@@ -0,0 +1,433 @@
+/*
+ * File:            AbstractOpenAddressingDataDistribution.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.collection.AbstractMutableDoubleMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An abstract {@code DataDistribution} that stores its counts in an
+ * open-addressing hash table with linear probing. The values are kept in a
+ * primitive {@code double} array parallel to the key array of the subclass,
+ * so an entry does not need a map entry, a boxed value, or (for primitive
+ * keys) a boxed key. The table has a power-of-two capacity and grows when it
+ * becomes three-quarters full. Keys are never removed except by
+ * {@link #compact()}, which rebuilds the table, so no deletion markers are
+ * needed.
+ * <BR><BR>
+ * The iteration order of the entries is the order of the table, which is not
+ * the insertion order and may change when the table grows.
+ * <BR><BR>
+ * This class is not thread-safe. See {@link StripedDataDistribution} for a
+ * version that can be updated by multiple threads.
+ *
+ * @param   <KeyType>
+ *      The type of the keys in the distribution.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+@PublicationReference(
+    author="Donald E. Knuth",
+    title="The Art of Computer Programming, Volume 3: Sorting and Searching",
+    type=PublicationType.Book,
+    year=1998,
+    pages={526, 531}
+)
+public abstract class AbstractOpenAddressingDataDistribution<KeyType>
+    extends AbstractPrimitiveDataDistribution<KeyType>
+{
+
+    /**
+     * The default initial capacity, {@value}.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The minimum capacity of the table, {@value}.
+     */
+    protected static final int MIN_CAPACITY = 4;
+
+    /**
+     * The values of the slots of the table.
+     */
+    protected double[] values;
+
+    /**
+     * The number of keys in the table.
+     */
+    protected int size;
+
+    /**
+     * The total of all the values.
+     */
+    protected double total;
+
+    /**
+     * Creates a new {@code AbstractOpenAddressingDataDistribution}. The
+     * subclass must call {@link #allocate(int)}.
+     */
+    public AbstractOpenAddressingDataDistribution()
+    {
+        super();
+    }
+
+    @Override
+    public AbstractOpenAddressingDataDistribution<KeyType> clone()
+    {
+        final AbstractOpenAddressingDataDistribution<KeyType> clone =
+            (AbstractOpenAddressingDataDistribution<KeyType>) super.clone();
+        clone.values = this.values.clone();
+        return clone;
+    }
+
+    /**
+     * Computes the table capacity that holds the given number of keys
+     * without growing.
+     *
+     * @param   expectedSize
+     *      The expected number of keys.
+     * @return
+     *      The smallest power of two capacity that can hold them.
+     */
+    protected static int computeCapacity(
+        final int expectedSize)
+    {
+        final long needed = Math.max(MIN_CAPACITY,
+            (4L * Math.max(expectedSize, 0)) / 3 + 1);
+        if (needed > (1 << 30))
+        {
+            return 1 << 30;
+        }
+        return Integer.highestOneBit((int) (needed - 1)) << 1;
+    }
+
+    /**
+     * Mixes the bits of a hash code so that keys that differ only in their
+     * high bits still spread out over the low bits used to index the table.
+     *
+     * @param   hash
+     *      The hash code.
+     * @return
+     *      The mixed hash code.
+     */
+    protected static int mix(
+        final int hash)
+    {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Allocates a new, empty table with the given capacity. Subclasses also
+     * allocate their key arrays.
+     *
+     * @param   capacity
+     *      The capacity. Must be a power of two.
+     */
+    protected void allocate(
+        final int capacity)
+    {
+        this.values = new double[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Rebuilds the table with the given capacity.
+     *
+     * @param   capacity
+     *      The new capacity. Must be a power of two that can hold all of the
+     *      keys that are kept.
+     * @param   removeZeros
+     *      True to drop the keys whose values are zero.
+     */
+    protected abstract void rehash(
+        final int capacity,
+        final boolean removeZeros);
+
+    /**
+     * Determines if a slot of the table holds a key.
+     *
+     * @param   slot
+     *      The slot.
+     * @return
+     *      True if the slot holds a key.
+     */
+    protected abstract boolean isOccupied(
+        final int slot);
+
+    /**
+     * Gets the key in a slot of the table.
+     *
+     * @param   slot
+     *      An occupied slot.
+     * @return
+     *      The key in the slot.
+     */
+    protected abstract KeyType getSlotKey(
+        final int slot);
+
+    /**
+     * Makes sure there is room to add one more key, growing the table if
+     * needed. Slot indices found before calling this are invalid if the
+     * table grows.
+     *
+     * @return
+     *      True if the table grew.
+     */
+    protected boolean ensureRoomForKey()
+    {
+        final int capacity = this.values.length;
+        if (4L * (this.size + 1) > 3L * capacity)
+        {
+            this.rehash(capacity << 1, false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sets the value in a slot, clamping it at zero and updating the total.
+     *
+     * @param   slot
+     *      An occupied slot.
+     * @param   value
+     *      The new value.
+     */
+    protected void setSlotValue(
+        final int slot,
+        final double value)
+    {
+        final double newValue = value > 0.0 ? value : 0.0;
+        this.total += newValue - this.values[slot];
+        this.values[slot] = newValue;
+    }
+
+    /**
+     * Adds to the value in a slot, clamping it at zero and updating the
+     * total.
+     *
+     * @param   slot
+     *      An occupied slot.
+     * @param   value
+     *      The amount to add.
+     * @return
+     *      The new value in the slot.
+     */
+    protected double incrementSlotValue(
+        final int slot,
+        final double value)
+    {
+        final double oldValue = this.values[slot];
+        final double newValue = oldValue + value;
+        if (newValue >= 0.0)
+        {
+            this.values[slot] = newValue;
+            this.total += value;
+            return newValue;
+        }
+        else
+        {
+            this.values[slot] = 0.0;
+            this.total -= oldValue;
+            return 0.0;
+        }
+    }
+
+    /**
+     * Stores a key's value in an empty slot found by a failed lookup.
+     *
+     * @param   slot
+     *      The empty slot.
+     * @param   value
+     *      The value. Must be positive.
+     */
+    protected void addSlotValue(
+        final int slot,
+        final double value)
+    {
+        this.values[slot] = value;
+        this.size++;
+        this.total += value;
+    }
+
+    @Override
+    public double getTotal()
+    {
+        return this.total;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets the current capacity of the table.
+     *
+     * @return
+     *      The capacity of the table.
+     */
+    public int getCapacity()
+    {
+        return this.values.length;
+    }
+
+    @Override
+    public void compact()
+    {
+        int nonZero = 0;
+        for (int slot = 0; slot < this.values.length; slot++)
+        {
+            if (this.values[slot] != 0.0)
+            {
+                nonZero++;
+            }
+        }
+        this.rehash(computeCapacity(nonZero), true);
+    }
+
+    @Override
+    public Set<AbstractMutableDoubleMap.Entry<KeyType>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    /**
+     * Gets the next occupied slot at or after the given one.
+     *
+     * @param   slot
+     *      The slot to start at.
+     * @return
+     *      The next occupied slot, or the capacity if there is none.
+     */
+    protected int nextOccupiedSlot(
+        final int slot)
+    {
+        int result = slot;
+        while (result < this.values.length && !this.isOccupied(result))
+        {
+            result++;
+        }
+        return result;
+    }
+
+    /**
+     * A view of the entries of the table. The values of the entries can be
+     * changed, but the table must not grow while iterating.
+     */
+    protected class EntrySet
+        extends AbstractSet<AbstractMutableDoubleMap.Entry<KeyType>>
+    {
+
+        /**
+         * Creates a new {@code EntrySet}.
+         */
+        public EntrySet()
+        {
+            super();
+        }
+
+        @Override
+        public Iterator<AbstractMutableDoubleMap.Entry<KeyType>> iterator()
+        {
+            return new Iterator<AbstractMutableDoubleMap.Entry<KeyType>>()
+            {
+
+                /** The next occupied slot. */
+                private int next = nextOccupiedSlot(0);
+
+                @Override
+                public boolean hasNext()
+                {
+                    return this.next < values.length;
+                }
+
+                @Override
+                public AbstractMutableDoubleMap.Entry<KeyType> next()
+                {
+                    if (!this.hasNext())
+                    {
+                        throw new NoSuchElementException();
+                    }
+                    final SlotEntry entry = new SlotEntry(this.next);
+                    this.next = nextOccupiedSlot(this.next + 1);
+                    return entry;
+                }
+
+                @Override
+                public void remove()
+                {
+                    throw new UnsupportedOperationException(
+                        "Use compact to remove keys");
+                }
+
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+    }
+
+    /**
+     * An entry for a slot of the table.
+     */
+    protected class SlotEntry
+        extends Object
+        implements AbstractMutableDoubleMap.Entry<KeyType>
+    {
+
+        /** The slot. */
+        protected final int slot;
+
+        /**
+         * Creates a new {@code SlotEntry}.
+         *
+         * @param   slot
+         *      The slot.
+         */
+        public SlotEntry(
+            final int slot)
+        {
+            super();
+
+            this.slot = slot;
+        }
+
+        @Override
+        public KeyType getKey()
+        {
+            return getSlotKey(this.slot);
+        }
+
+        @Override
+        public double getValue()
+        {
+            return values[this.slot];
+        }
+
+        @Override
+        public void setValue(
+            final double value)
+        {
+            setSlotValue(this.slot, value);
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * File:            AbstractPrimitiveDataDistribution.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.collection.AbstractMutableDoubleMap;
+import gov.sandia.cognition.collection.ScalarMap;
+import gov.sandia.cognition.math.MutableDouble;
+import gov.sandia.cognition.statistics.AbstractDataDistribution;
+import gov.sandia.cognition.statistics.DataDistribution;
+import gov.sandia.cognition.statistics.DistributionEstimator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An abstract {@code DataDistribution} whose counts are not stored in a map
+ * of {@code MutableDouble} values. Instead subclasses keep them in their own
+ * structures, such as primitive arrays, and implement the basic get, set,
+ * increment, and entry methods. The map-based methods inherited from
+ * {@code AbstractDataDistribution} are implemented in terms of those, so the
+ * {@code map} field is always null. The views returned by {@link #asMap()}
+ * and {@link #keySet()} are copies.
+ * <BR><BR>
+ * Like {@code DefaultDataDistribution}, the values are non-negative: setting
+ * a value less than zero sets it to zero and decrementing a value stops at
+ * zero. Keys whose values are set to zero stay in the domain until
+ * {@link #compact()} is called.
+ *
+ * @param   <KeyType>
+ *      The type of the keys in the distribution.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public abstract class AbstractPrimitiveDataDistribution<KeyType>
+    extends AbstractDataDistribution<KeyType>
+{
+
+    /**
+     * Creates a new {@code AbstractPrimitiveDataDistribution}.
+     */
+    public AbstractPrimitiveDataDistribution()
+    {
+        super(null);
+    }
+
+    @Override
+    public AbstractPrimitiveDataDistribution<KeyType> clone()
+    {
+        return (AbstractPrimitiveDataDistribution<KeyType>) super.clone();
+    }
+
+    @Override
+    public Map<KeyType, MutableDouble> asMap()
+    {
+        final LinkedHashMap<KeyType, MutableDouble> result =
+            new LinkedHashMap<KeyType, MutableDouble>(this.size());
+        for (ScalarMap.Entry<KeyType> entry : this.entrySet())
+        {
+            result.put(entry.getKey(), new MutableDouble(entry.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<KeyType> keySet()
+    {
+        final LinkedHashSet<KeyType> result =
+            new LinkedHashSet<KeyType>(this.size());
+        for (ScalarMap.Entry<KeyType> entry : this.entrySet())
+        {
+            result.add(entry.getKey());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public int getDomainSize()
+    {
+        return this.size();
+    }
+
+    @Override
+    public double increment(
+        final KeyType key)
+    {
+        return this.increment(key, 1.0);
+    }
+
+    @Override
+    public DistributionEstimator<KeyType, ? extends DataDistribution<KeyType>> getEstimator()
+    {
+        return new DefaultDataDistribution.Estimator<KeyType>();
+    }
+
+    @Override
+    public DataDistribution.PMF<KeyType> getProbabilityFunction()
+    {
+        return new DefaultDataDistribution.PMF<KeyType>(this);
+    }
+
+    @Override
+    public abstract double get(
+        final KeyType key);
+
+    @Override
+    public abstract void set(
+        final KeyType key,
+        final double value);
+
+    @Override
+    public abstract double increment(
+        final KeyType key,
+        final double value);
+
+    @Override
+    public abstract Set<AbstractMutableDoubleMap.Entry<KeyType>> entrySet();
+
+    @Override
+    public abstract int size();
+
+    @Override
+    public abstract boolean containsKey(
+        final KeyType key);
+
+    @Override
+    public abstract void clear();
+
+    /**
+     * Removes all of the keys whose values are zero.
+     */
+    @Override
+    public abstract void compact();
+
+}
@@ -447,7 +447,7 @@ public class GammaDistribution
                 double v = 0.0;
                 do
                 {
-                    x = random.nextGaussian();
+                    x = UnivariateGaussian.sampleStandard(random);
                     v = 1.0 + c * x;
                 }
                 while (v <= 0.0);
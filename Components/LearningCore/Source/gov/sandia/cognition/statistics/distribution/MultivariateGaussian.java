@@ -20,13 +20,12 @@ import gov.sandia.cognition.annotation.PublicationReference;
 import gov.sandia.cognition.annotation.PublicationType;
 import gov.sandia.cognition.math.ComplexNumber;
 import gov.sandia.cognition.math.MultivariateStatisticsUtil;
+import gov.sandia.cognition.math.matrix.DimensionalityMismatchException;
 import gov.sandia.cognition.math.matrix.VectorFactory;
 import gov.sandia.cognition.math.matrix.Matrix;
 import gov.sandia.cognition.math.matrix.MatrixFactory;
 import gov.sandia.cognition.math.matrix.Vector;
 import gov.sandia.cognition.math.matrix.VectorInputEvaluator;
-import gov.sandia.cognition.math.matrix.mtj.DenseMatrixFactoryMTJ;
-import gov.sandia.cognition.math.matrix.mtj.decomposition.CholeskyDecompositionMTJ;
 import gov.sandia.cognition.statistics.AbstractDistribution;
 import gov.sandia.cognition.statistics.AbstractIncrementalEstimator;
 import gov.sandia.cognition.statistics.AbstractSufficientStatistic;
@@ -124,6 +123,13 @@ public class MultivariateGaussian
      */
     private Double logLeadingCoefficient;
 
+    /**
+     * Lower-triangular Cholesky factor of the covariance matrix, stored in
+     * row-major order, automatically computed. It is an empty array if the
+     * covariance is not positive definite.
+     */
+    private transient double[] choleskyFactor;
+
     /**
      * Default constructor.
      */
@@ -197,16 +203,188 @@ public class MultivariateGaussian
     public double computeZSquared(
         Vector input)
     {
-        double zsquared;
+        final double[] factor = this.getCholeskyFactor();
+        if (factor.length == 0)
+        {
+            // The covariance is not positive definite, so fall back on its
+            // inverse.
+            Vector delta = input.minus(this.mean);
+            return delta.times(this.getCovarianceInverse()).dotProduct(delta);
+        }
+
+        input.assertDimensionalityEquals(this.getInputDimensionality());
+        final int d = this.mean.getDimensionality();
+        final double[] delta = new double[d];
+        for (int i = 0; i < d; i++)
+        {
+            delta[i] = input.getElement(i) - this.mean.getElement(i);
+        }
+        return solveLowerSquaredNorm(factor, d, delta);
+    }
+
+    /**
+     * Computes the z value squared for each row of the given matrix, such
+     * that p(x) = coefficient * exp{-0.5*z^2}. It uses triangular solves
+     * against the cached Cholesky factor of the covariance, so it does not
+     * form the inverse covariance or allocate a vector per point.
+     *
+     * @param inputs Matrix whose rows are the inputs about which to compute
+     * the z-value squared
+     * @param result Array to put the z-values squared into. Must have at
+     * least as many elements as the number of rows of inputs
+     */
+    public void computeZSquared(
+        final Matrix inputs,
+        final double[] result)
+    {
+        final int d = this.getInputDimensionality();
+        if (inputs.getNumColumns() != d)
+        {
+            throw new DimensionalityMismatchException(
+                inputs.getNumColumns(), d);
+        }
+
+        final int count = inputs.getNumRows();
+        final double[] factor = this.getCholeskyFactor();
+        final double[] mu = this.mean.toArray();
+        final double[] delta = new double[d];
+        for (int n = 0; n < count; n++)
+        {
+            for (int i = 0; i < d; i++)
+            {
+                delta[i] = inputs.getElement(n, i) - mu[i];
+            }
 
-        // Subtract the mean
-        Vector delta = input.minus(this.mean);
+            if (factor.length == 0)
+            {
+                final Vector deltaVector =
+                    VectorFactory.getDefault().copyArray(delta);
+                result[n] = deltaVector.times(
+                    this.getCovarianceInverse()).dotProduct(deltaVector);
+            }
+            else
+            {
+                result[n] = solveLowerSquaredNorm(factor, d, delta);
+            }
+        }
+    }
 
-        // Compute the weighted inner product.
-        zsquared = delta.times(this.getCovarianceInverse()).dotProduct(
-            delta);
+    /**
+     * Solves L * z = x in place by forward substitution, where L is a
+     * lower-triangular matrix stored in row-major order, and returns the
+     * squared norm of z.
+     *
+     * @param lower Lower-triangular matrix in row-major order
+     * @param d Dimensionality of the matrix
+     * @param x The right-hand side, which is replaced by the solution z
+     * @return The squared norm of the solution z
+     */
+    static double solveLowerSquaredNorm(
+        final double[] lower,
+        final int d,
+        final double[] x)
+    {
+        double sumSquared = 0.0;
+        for (int i = 0; i < d; i++)
+        {
+            final int row = i * d;
+            double value = x[i];
+            for (int j = 0; j < i; j++)
+            {
+                value -= lower[row + j] * x[j];
+            }
+            value /= lower[row + i];
+            x[i] = value;
+            sumSquared += value * value;
+        }
+        return sumSquared;
+    }
+
+    /**
+     * Computes the lower-triangular Cholesky factor L of a symmetric matrix,
+     * such that L * L.transpose() equals the matrix.
+     *
+     * @param matrix Symmetric matrix to factor
+     * @return The Cholesky factor in row-major order, or an empty array if
+     * the matrix is not positive definite
+     */
+    private static double[] computeCholeskyFactor(
+        final Matrix matrix)
+    {
+        final int d = matrix.getNumRows();
+        final double[] lower = new double[d * d];
+        for (int i = 0; i < d; i++)
+        {
+            final int rowI = i * d;
+            for (int j = 0; j <= i; j++)
+            {
+                final int rowJ = j * d;
+                double sum = matrix.getElement(i, j);
+                for (int k = 0; k < j; k++)
+                {
+                    sum -= lower[rowI + k] * lower[rowJ + k];
+                }
+
+                if (i == j)
+                {
+                    if (!(sum > 0.0))
+                    {
+                        return new double[0];
+                    }
+                    lower[rowI + i] = Math.sqrt(sum);
+                }
+                else
+                {
+                    lower[rowI + j] = sum / lower[rowJ + j];
+                }
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Gets the lower-triangular Cholesky factor of the covariance matrix,
+     * computing and caching it if needed.
+     *
+     * @return The Cholesky factor in row-major order, or an empty array if
+     * the covariance is not positive definite
+     */
+    double[] getCholeskyFactor()
+    {
+        if (this.choleskyFactor == null)
+        {
+            this.choleskyFactor = computeCholeskyFactor(this.getCovariance());
+        }
+        return this.choleskyFactor;
+    }
+
+    /**
+     * Gets the lower-triangular square root L of the covariance matrix, such
+     * that L * L.transpose() equals the covariance. It can be passed to the
+     * static sampling methods.
+     *
+     * @return A new matrix containing the lower-triangular Cholesky factor of
+     * the covariance
+     */
+    public Matrix getCovarianceSquareRoot()
+    {
+        final double[] factor = this.getCholeskyFactor();
+        if (factor.length == 0)
+        {
+            throw new IllegalStateException(
+                "Covariance must be symmetric and positive definite!");
+        }
 
-        return zsquared;
+        final int d = this.getInputDimensionality();
+        final Matrix result = MatrixFactory.getDefault().createMatrix(d, d);
+        for (int i = 0; i < d; i++)
+        {
+            for (int j = 0; j <= i; j++)
+            {
+                result.setElement(i, j, factor[i * d + j]);
+            }
+        }
+        return result;
     }
 
     /**
@@ -349,6 +527,7 @@ public class MultivariateGaussian
         this.covarianceInverse = null;
         this.logCovarianceDeterminant = null;
         this.logLeadingCoefficient = null;
+        this.choleskyFactor = null;
     }
 
     /**
@@ -415,6 +594,7 @@ public class MultivariateGaussian
         this.covariance = null;
         this.logCovarianceDeterminant = null;
         this.logLeadingCoefficient = null;
+        this.choleskyFactor = null;
 
     }
 
@@ -429,12 +609,29 @@ public class MultivariateGaussian
 
         if (this.logCovarianceDeterminant == null)
         {
-            // Compute the determinant of the matrix.
-            ComplexNumber logDeterminant = this.covariance.logDeterminant();
+            final double[] factor = this.getCholeskyFactor();
+            if (factor.length > 0)
+            {
+                // The determinant is the squared product of the diagonal of
+                // the Cholesky factor.
+                final int d = this.getInputDimensionality();
+                double logDeterminant = 0.0;
+                for (int i = 0; i < d; i++)
+                {
+                    logDeterminant += Math.log(factor[i * d + i]);
+                }
+                this.logCovarianceDeterminant = 2.0 * logDeterminant;
+            }
+            else
+            {
+                // Compute the determinant of the matrix.
+                ComplexNumber logDeterminant =
+                    this.getCovariance().logDeterminant();
 
-            // There should be no imaginary part, as the the determinant is
-            // a positive value
-            this.logCovarianceDeterminant = logDeterminant.getRealPart();
+                // There should be no imaginary part, as the the determinant
+                // is a positive value
+                this.logCovarianceDeterminant = logDeterminant.getRealPart();
+            }
         }
 
         return this.logCovarianceDeterminant;
@@ -489,10 +686,85 @@ public class MultivariateGaussian
         final int sampleCount,
         final Collection<? super Vector> output)
     {
-        final Matrix covSqrt = CholeskyDecompositionMTJ.create(
-            DenseMatrixFactoryMTJ.INSTANCE.copyMatrix(this.getCovariance())).getR();
+        final int d = this.getInputDimensionality();
+        final double[] sample = new double[d];
+        for (int n = 0; n < sampleCount; n++)
+        {
+            this.sampleInto(random, sample);
+            output.add(VectorFactory.getDefault().copyArray(sample));
+        }
+    }
+
+    /**
+     * Draws a sample into each row of the given matrix, using the cached
+     * Cholesky factor of the covariance. It does not allocate a vector per
+     * sample.
+     *
+     * @param random Random-number generator
+     * @param output Matrix to put the samples into, one per row. Its number
+     * of columns must equal the dimensionality of the Gaussian
+     */
+    public void sampleInto(
+        final Random random,
+        final Matrix output)
+    {
+        final int d = this.getInputDimensionality();
+        if (output.getNumColumns() != d)
+        {
+            throw new DimensionalityMismatchException(
+                output.getNumColumns(), d);
+        }
 
-        sampleInto(this.mean, covSqrt, random, sampleCount, output);
+        final int count = output.getNumRows();
+        final double[] sample = new double[d];
+        for (int n = 0; n < count; n++)
+        {
+            this.sampleInto(random, sample);
+            for (int i = 0; i < d; i++)
+            {
+                output.setElement(n, i, sample[i]);
+            }
+        }
+    }
+
+    /**
+     * Draws a single sample into the given array as the mean plus the
+     * Cholesky factor of the covariance times a vector of standard normal
+     * values.
+     *
+     * @param random Random-number generator
+     * @param sample Array to put the sample into. Must have the
+     * dimensionality of the Gaussian
+     */
+    private void sampleInto(
+        final Random random,
+        final double[] sample)
+    {
+        final double[] factor = this.getCholeskyFactor();
+        if (factor.length == 0)
+        {
+            throw new IllegalStateException(
+                "Covariance must be symmetric and positive definite!");
+        }
+
+        final int d = sample.length;
+        for (int i = 0; i < d; i++)
+        {
+            sample[i] = random.nextGaussian();
+        }
+
+        // Multiply in place from the bottom up, since row i of the lower
+        // factor only uses the first i + 1 standard normal values.
+        for (int i = d - 1; i >= 0; i--)
+        {
+            final int row = i * d;
+            double value = 0.0;
+            for (int j = 0; j <= i; j++)
+            {
+                value += factor[row + j] * sample[j];
+            }
+            sample[i] = value + this.mean.getElement(i);
+        }
     }
 
     /**
@@ -703,6 +975,42 @@ public class MultivariateGaussian
             return this.getLogLeadingCoefficient() - 0.5 * zsquared;
         }
 
+        /**
+         * Evaluates the natural logarithm of the PDF at each row of the given
+         * matrix.
+         *
+         * @param inputs Matrix whose rows are the inputs to evaluate
+         * @return Array of the log-densities of the rows
+         */
+        public double[] logEvaluate(
+            final Matrix inputs)
+        {
+            final double[] result = new double[inputs.getNumRows()];
+            this.logEvaluateInto(inputs, result);
+            return result;
+        }
+
+        /**
+         * Evaluates the natural logarithm of the PDF at each row of the given
+         * matrix into a preallocated array.
+         *
+         * @param inputs Matrix whose rows are the inputs to evaluate
+         * @param result Array to put the log-densities into. Must have at
+         * least as many elements as the number of rows of inputs
+         */
+        public void logEvaluateInto(
+            final Matrix inputs,
+            final double[] result)
+        {
+            this.computeZSquared(inputs, result);
+            final double logCoefficient = this.getLogLeadingCoefficient();
+            final int count = inputs.getNumRows();
+            for (int n = 0; n < count; n++)
+            {
+                result[n] = logCoefficient - 0.5 * result[n];
+            }
+        }
+
         @Override
         public MultivariateGaussian.PDF getProbabilityFunction()
         {
@@ -0,0 +1,261 @@
+/*
+ * File:            OpenAddressingDataDistribution.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.statistics.DataDistribution;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.util.Arrays;
+
+/**
+ * A {@code DataDistribution} over arbitrary keys, such as strings, that is
+ * stored in an open-addressing hash table. The keys and values are kept in
+ * two parallel arrays, so each entry costs a key reference and a primitive
+ * {@code double} instead of the map entry and {@code MutableDouble} used by
+ * {@link DefaultDataDistribution}. It is intended for large distributions
+ * such as term counts over a vocabulary. Null keys are not supported: a null
+ * key has a value of zero, and setting or incrementing one throws an
+ * {@code IllegalArgumentException}.
+ *
+ * @param   <KeyType>
+ *      The type of the keys in the distribution. It must have consistent
+ *      {@code equals} and {@code hashCode} methods.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     OpenAddressingIntegerDataDistribution
+ */
+public class OpenAddressingDataDistribution<KeyType>
+    extends AbstractOpenAddressingDataDistribution<KeyType>
+{
+
+    /**
+     * The keys of the slots of the table. Empty slots are null.
+     */
+    protected Object[] keys;
+
+    /**
+     * Creates a new, empty {@code OpenAddressingDataDistribution}.
+     */
+    public OpenAddressingDataDistribution()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty {@code OpenAddressingDataDistribution}.
+     *
+     * @param   expectedSize
+     *      The number of keys that can be added before the table grows.
+     *      Must be non-negative.
+     */
+    public OpenAddressingDataDistribution(
+        final int expectedSize)
+    {
+        super();
+
+        ArgumentChecker.assertIsNonNegative("expectedSize", expectedSize);
+        this.allocate(computeCapacity(expectedSize));
+    }
+
+    /**
+     * Creates a new {@code OpenAddressingDataDistribution} with a copy of
+     * the counts of another distribution.
+     *
+     * @param   other
+     *      The distribution to copy.
+     */
+    public OpenAddressingDataDistribution(
+        final DataDistribution<? extends KeyType> other)
+    {
+        this(other.getDomainSize());
+
+        this.incrementAll(other);
+    }
+
+    /**
+     * Creates a new {@code OpenAddressingDataDistribution} that counts the
+     * given data.
+     *
+     * @param   data
+     *      The data to count.
+     */
+    public OpenAddressingDataDistribution(
+        final Iterable<? extends KeyType> data)
+    {
+        this();
+
+        this.incrementAll(data);
+    }
+
+    @Override
+    public OpenAddressingDataDistribution<KeyType> clone()
+    {
+        final OpenAddressingDataDistribution<KeyType> clone =
+            (OpenAddressingDataDistribution<KeyType>) super.clone();
+        clone.keys = this.keys.clone();
+        return clone;
+    }
+
+    @Override
+    protected void allocate(
+        final int capacity)
+    {
+        super.allocate(capacity);
+        this.keys = new Object[capacity];
+    }
+
+    @Override
+    protected void rehash(
+        final int capacity,
+        final boolean removeZeros)
+    {
+        final Object[] oldKeys = this.keys;
+        final double[] oldValues = this.values;
+        this.allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            final Object key = oldKeys[i];
+            if (key == null || (removeZeros && oldValues[i] == 0.0))
+            {
+                continue;
+            }
+
+            int slot = mix(key.hashCode()) & mask;
+            while (this.keys[slot] != null)
+            {
+                slot = (slot + 1) & mask;
+            }
+            this.keys[slot] = key;
+            this.values[slot] = oldValues[i];
+            this.size++;
+        }
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @param   key
+     *      The key. Must not be null.
+     * @return
+     *      The slot of the key if it is in the table. Otherwise, -(slot + 1)
+     *      where slot is the empty slot where it would go.
+     */
+    protected int findSlot(
+        final Object key)
+    {
+        final int mask = this.keys.length - 1;
+        int slot = mix(key.hashCode()) & mask;
+        Object slotKey;
+        while ((slotKey = this.keys[slot]) != null)
+        {
+            if (slotKey == key || slotKey.equals(key))
+            {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -(slot + 1);
+    }
+
+    @Override
+    protected boolean isOccupied(
+        final int slot)
+    {
+        return this.keys[slot] != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected KeyType getSlotKey(
+        final int slot)
+    {
+        return (KeyType) this.keys[slot];
+    }
+
+    @Override
+    public double get(
+        final KeyType key)
+    {
+        if (key == null)
+        {
+            return 0.0;
+        }
+
+        final int slot = this.findSlot(key);
+        return slot >= 0 ? this.values[slot] : 0.0;
+    }
+
+    @Override
+    public boolean containsKey(
+        final KeyType key)
+    {
+        return key != null && this.findSlot(key) >= 0;
+    }
+
+    @Override
+    public void set(
+        final KeyType key,
+        final double value)
+    {
+        ArgumentChecker.assertIsNotNull("key", key);
+        int slot = this.findSlot(key);
+        if (slot >= 0)
+        {
+            this.setSlotValue(slot, value);
+        }
+        else if (value > 0.0)
+        {
+            if (this.ensureRoomForKey())
+            {
+                slot = this.findSlot(key);
+            }
+            slot = -slot - 1;
+            this.keys[slot] = key;
+            this.addSlotValue(slot, value);
+        }
+    }
+
+    @Override
+    public double increment(
+        final KeyType key,
+        final double value)
+    {
+        ArgumentChecker.assertIsNotNull("key", key);
+        int slot = this.findSlot(key);
+        if (slot >= 0)
+        {
+            return this.incrementSlotValue(slot, value);
+        }
+        else if (value > 0.0)
+        {
+            if (this.ensureRoomForKey())
+            {
+                slot = this.findSlot(key);
+            }
+            slot = -slot - 1;
+            this.keys[slot] = key;
+            this.addSlotValue(slot, value);
+            return value;
+        }
+        else
+        {
+            return 0.0;
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.keys, null);
+        Arrays.fill(this.values, 0.0);
+        this.size = 0;
+        this.total = 0.0;
+    }
+
+}
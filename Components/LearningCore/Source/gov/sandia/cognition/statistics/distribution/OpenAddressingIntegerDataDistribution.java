@@ -0,0 +1,361 @@
+/*
+ * File:            OpenAddressingIntegerDataDistribution.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.statistics.DataDistribution;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.util.Arrays;
+
+/**
+ * A {@code DataDistribution} over integer keys, such as term indices or
+ * category labels, that is stored in an open-addressing hash table. The keys
+ * and values are kept in primitive arrays, so each entry costs an
+ * {@code int}, a {@code double} and an occupied flag instead of the map
+ * entry, {@code Integer} and {@code MutableDouble} used by
+ * {@link DefaultDataDistribution}. The methods that take an {@code int} key
+ * avoid boxing entirely. Null keys are not supported: a null key has a
+ * value of zero, and setting or incrementing one throws an
+ * {@code IllegalArgumentException}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     OpenAddressingDataDistribution
+ */
+public class OpenAddressingIntegerDataDistribution
+    extends AbstractOpenAddressingDataDistribution<Integer>
+{
+
+    /**
+     * The keys of the slots of the table.
+     */
+    protected int[] keys;
+
+    /**
+     * Indicates which slots of the table hold a key.
+     */
+    protected boolean[] occupied;
+
+    /**
+     * Creates a new, empty {@code OpenAddressingIntegerDataDistribution}.
+     */
+    public OpenAddressingIntegerDataDistribution()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty {@code OpenAddressingIntegerDataDistribution}.
+     *
+     * @param   expectedSize
+     *      The number of keys that can be added before the table grows.
+     *      Must be non-negative.
+     */
+    public OpenAddressingIntegerDataDistribution(
+        final int expectedSize)
+    {
+        super();
+
+        ArgumentChecker.assertIsNonNegative("expectedSize", expectedSize);
+        this.allocate(computeCapacity(expectedSize));
+    }
+
+    /**
+     * Creates a new {@code OpenAddressingIntegerDataDistribution} with a copy
+     * of the counts of another distribution.
+     *
+     * @param   other
+     *      The distribution to copy.
+     */
+    public OpenAddressingIntegerDataDistribution(
+        final DataDistribution<? extends Integer> other)
+    {
+        this(other.getDomainSize());
+
+        this.incrementAll(other);
+    }
+
+    /**
+     * Creates a new {@code OpenAddressingIntegerDataDistribution} that counts
+     * the given data.
+     *
+     * @param   data
+     *      The data to count.
+     */
+    public OpenAddressingIntegerDataDistribution(
+        final Iterable<? extends Integer> data)
+    {
+        this();
+
+        this.incrementAll(data);
+    }
+
+    @Override
+    public OpenAddressingIntegerDataDistribution clone()
+    {
+        final OpenAddressingIntegerDataDistribution clone =
+            (OpenAddressingIntegerDataDistribution) super.clone();
+        clone.keys = this.keys.clone();
+        clone.occupied = this.occupied.clone();
+        return clone;
+    }
+
+    @Override
+    protected void allocate(
+        final int capacity)
+    {
+        super.allocate(capacity);
+        this.keys = new int[capacity];
+        this.occupied = new boolean[capacity];
+    }
+
+    @Override
+    protected void rehash(
+        final int capacity,
+        final boolean removeZeros)
+    {
+        final int[] oldKeys = this.keys;
+        final boolean[] oldOccupied = this.occupied;
+        final double[] oldValues = this.values;
+        this.allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (!oldOccupied[i] || (removeZeros && oldValues[i] == 0.0))
+            {
+                continue;
+            }
+
+            final int key = oldKeys[i];
+            int slot = mix(key) & mask;
+            while (this.occupied[slot])
+            {
+                slot = (slot + 1) & mask;
+            }
+            this.keys[slot] = key;
+            this.occupied[slot] = true;
+            this.values[slot] = oldValues[i];
+            this.size++;
+        }
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @param   key
+     *      The key.
+     * @return
+     *      The slot of the key if it is in the table. Otherwise, -(slot + 1)
+     *      where slot is the empty slot where it would go.
+     */
+    protected int findSlot(
+        final int key)
+    {
+        final int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        while (this.occupied[slot])
+        {
+            if (this.keys[slot] == key)
+            {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -(slot + 1);
+    }
+
+    @Override
+    protected boolean isOccupied(
+        final int slot)
+    {
+        return this.occupied[slot];
+    }
+
+    @Override
+    protected Integer getSlotKey(
+        final int slot)
+    {
+        return this.keys[slot];
+    }
+
+    @Override
+    public double get(
+        final Integer key)
+    {
+        return key == null ? 0.0 : this.get(key.intValue());
+    }
+
+    /**
+     * Gets the value of the given key.
+     *
+     * @param   key
+     *      The key.
+     * @return
+     *      The value of the key, or zero if it is not in the distribution.
+     */
+    public double get(
+        final int key)
+    {
+        final int slot = this.findSlot(key);
+        return slot >= 0 ? this.values[slot] : 0.0;
+    }
+
+    @Override
+    public boolean containsKey(
+        final Integer key)
+    {
+        return key != null && this.containsKey(key.intValue());
+    }
+
+    /**
+     * Determines if the given key is in the distribution.
+     *
+     * @param   key
+     *      The key.
+     * @return
+     *      True if the key is in the distribution.
+     */
+    public boolean containsKey(
+        final int key)
+    {
+        return this.findSlot(key) >= 0;
+    }
+
+    /**
+     * Gets the fraction of the total of the given key.
+     *
+     * @param   key
+     *      The key.
+     * @return
+     *      The value of the key divided by the total, or zero if the total is
+     *      zero.
+     */
+    public double getFraction(
+        final int key)
+    {
+        final double total = this.getTotal();
+        return (total != 0.0) ? (this.get(key) / total) : 0.0;
+    }
+
+    @Override
+    public void set(
+        final Integer key,
+        final double value)
+    {
+        ArgumentChecker.assertIsNotNull("key", key);
+        this.set(key.intValue(), value);
+    }
+
+    /**
+     * Sets the value of the given key. Values less than zero are set to zero.
+     *
+     * @param   key
+     *      The key.
+     * @param   value
+     *      The value.
+     */
+    public void set(
+        final int key,
+        final double value)
+    {
+        int slot = this.findSlot(key);
+        if (slot >= 0)
+        {
+            this.setSlotValue(slot, value);
+        }
+        else if (value > 0.0)
+        {
+            if (this.ensureRoomForKey())
+            {
+                slot = this.findSlot(key);
+            }
+            slot = -slot - 1;
+            this.keys[slot] = key;
+            this.occupied[slot] = true;
+            this.addSlotValue(slot, value);
+        }
+    }
+
+    @Override
+    public double increment(
+        final Integer key)
+    {
+        ArgumentChecker.assertIsNotNull("key", key);
+        return this.increment(key.intValue(), 1.0);
+    }
+
+    @Override
+    public double increment(
+        final Integer key,
+        final double value)
+    {
+        ArgumentChecker.assertIsNotNull("key", key);
+        return this.increment(key.intValue(), value);
+    }
+
+    /**
+     * Increments the value of the given key by one.
+     *
+     * @param   key
+     *      The key.
+     * @return
+     *      The new value of the key.
+     */
+    public double increment(
+        final int key)
+    {
+        return this.increment(key, 1.0);
+    }
+
+    /**
+     * Increments the value of the given key. Values stop at zero.
+     *
+     * @param   key
+     *      The key.
+     * @param   value
+     *      The amount to add.
+     * @return
+     *      The new value of the key.
+     */
+    public double increment(
+        final int key,
+        final double value)
+    {
+        int slot = this.findSlot(key);
+        if (slot >= 0)
+        {
+            return this.incrementSlotValue(slot, value);
+        }
+        else if (value > 0.0)
+        {
+            if (this.ensureRoomForKey())
+            {
+                slot = this.findSlot(key);
+            }
+            slot = -slot - 1;
+            this.keys[slot] = key;
+            this.occupied[slot] = true;
+            this.addSlotValue(slot, value);
+            return value;
+        }
+        else
+        {
+            return 0.0;
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.occupied, false);
+        Arrays.fill(this.values, 0.0);
+        this.size = 0;
+        this.total = 0.0;
+    }
+
+}
@@ -0,0 +1,1090 @@
+/*
+ * File:            ParallelMixtureOfGaussiansEMLearner.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.algorithm.MeasurablePerformanceAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.learning.algorithm.AbstractAnytimeBatchLearner;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.statistics.DistributionEstimator;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.DefaultNamedValue;
+import gov.sandia.cognition.util.NamedValue;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A parallel Expectation-Maximization learner for a mixture of Gaussians. It
+ * performs the same soft-assignment updates as
+ * {@link MixtureOfGaussians.EMLearner}, but the data is split into blocks
+ * that are processed in parallel. The E-step writes the responsibilities into
+ * a single N-by-K buffer that is reused across iterations and, in the same
+ * pass, accumulates the per-block weight and first-moment sums needed by the
+ * M-step. A second parallel pass accumulates the weighted scatter about the
+ * new means. The partial sums of each block are merged at the end of each
+ * pass, so no per-point weighted values are created.
+ * <BR><BR>
+ * The distributions start at data points picked by squared-distance seeding,
+ * which spreads them out over the data more reliably than picking the points
+ * uniformly at random.
+ * <BR><BR>
+ * The covariance of each component can either be full or diagonal. Diagonal
+ * covariances reduce the cost of each iteration from O(N K d^2) to O(N K d),
+ * which makes them the better choice for high-dimensional data.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     MixtureOfGaussians.EMLearner
+ */
+@PublicationReferences(
+    references={
+        @PublicationReference(
+            author="Christopher M. Bishop",
+            title="Pattern Recognition and Machine Learning",
+            type=PublicationType.Book,
+            year=2006,
+            pages={435, 439}
+        ),
+        @PublicationReference(
+            author={"David Arthur", "Sergei Vassilvitskii"},
+            title="k-means++: The Advantages of Careful Seeding",
+            type=PublicationType.Conference,
+            publication="Proceedings of the Eighteenth Annual ACM-SIAM Symposium on Discrete Algorithms",
+            year=2007,
+            pages={1027, 1035}
+        )
+    }
+)
+public class ParallelMixtureOfGaussiansEMLearner
+    extends AbstractAnytimeBatchLearner<Collection<? extends Vector>, MixtureOfGaussians.PDF>
+    implements Randomized, ParallelAlgorithm,
+        DistributionEstimator<Vector, MixtureOfGaussians.PDF>,
+        MeasurablePerformanceAlgorithm
+{
+
+    /**
+     * Name of the performance measurement, {@value}.
+     */
+    public static final String PERFORMANCE_NAME =
+        MixtureOfGaussians.EMLearner.PERFORMANCE_NAME;
+
+    /**
+     * Default number of distributions in the mixture, {@value}.
+     */
+    public static final int DEFAULT_DISTRIBUTION_COUNT = 2;
+
+    /**
+     * Default max iterations, {@value}.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS =
+        MixtureOfGaussians.EMLearner.DEFAULT_MAX_ITERATIONS;
+
+    /**
+     * Default tolerance, {@value}.
+     */
+    public static final double DEFAULT_TOLERANCE =
+        MixtureOfGaussians.EMLearner.DEFAULT_TOLERANCE;
+
+    /**
+     * Default amount added to the diagonal of each covariance, {@value}.
+     */
+    public static final double DEFAULT_DEFAULT_COVARIANCE =
+        MultivariateGaussian.WeightedMaximumLikelihoodEstimator.DEFAULT_COVARIANCE;
+
+    /**
+     * Number of distributions in the mixture. Must be positive.
+     */
+    protected int distributionCount;
+
+    /**
+     * Indicates whether the covariances are restricted to be diagonal.
+     */
+    protected boolean diagonalCovariance;
+
+    /**
+     * Amount added to the diagonal of each covariance matrix. Must be
+     * positive so that the covariances stay positive definite.
+     */
+    protected double defaultCovariance;
+
+    /**
+     * Tolerance on the total change in the responsibilities before stopping.
+     * Must be non-negative.
+     */
+    protected double tolerance;
+
+    /**
+     * Random number generator.
+     */
+    protected Random random;
+
+    /**
+     * Thread pool used for parallelization.
+     */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /**
+     * The data points.
+     */
+    private transient ArrayList<Vector> points;
+
+    /**
+     * The dimensionality of the data.
+     */
+    private transient int dimensionality;
+
+    /**
+     * The data points in row-major order.
+     */
+    private transient double[] values;
+
+    /**
+     * The responsibility of each distribution for each point, as an N-by-K
+     * array in row-major order.
+     */
+    private transient double[] responsibilities;
+
+    /**
+     * The means of the distributions, as a K-by-d array in row-major order.
+     */
+    private transient double[] means;
+
+    /**
+     * The inverse of the variances of the distributions, as a K-by-d array in
+     * row-major order. Only used for diagonal covariances.
+     */
+    private transient double[] inverseVariances;
+
+    /**
+     * The Cholesky factors of the covariances of the distributions. Only used
+     * for full covariances.
+     */
+    private transient double[][] choleskyFactors;
+
+    /**
+     * The log of the prior weight plus the log of the leading coefficient of
+     * each distribution.
+     */
+    private transient double[] logCoefficients;
+
+    /**
+     * The tasks for the E-step.
+     */
+    private transient ArrayList<ExpectationTask> expectationTasks;
+
+    /**
+     * The tasks for accumulating the covariances in the M-step.
+     */
+    private transient ArrayList<CovarianceTask> covarianceTasks;
+
+    /**
+     * The current distributions.
+     */
+    private transient ArrayList<MultivariateGaussian.PDF> distributions;
+
+    /**
+     * The current prior weights of the distributions.
+     */
+    private transient double[] priorWeights;
+
+    /**
+     * Amount that the assignments change between iterations.
+     */
+    private transient double assignmentChanged;
+
+    /**
+     * The log-likelihood of the data computed in the last E-step.
+     */
+    private transient double logLikelihood;
+
+    /**
+     * Creates a new {@code ParallelMixtureOfGaussiansEMLearner} with default
+     * parameters.
+     */
+    public ParallelMixtureOfGaussiansEMLearner()
+    {
+        this(DEFAULT_DISTRIBUTION_COUNT, new Random());
+    }
+
+    /**
+     * Creates a new {@code ParallelMixtureOfGaussiansEMLearner}.
+     *
+     * @param   distributionCount
+     *      The number of distributions in the mixture. Must be positive.
+     * @param   random
+     *      The random number generator.
+     */
+    public ParallelMixtureOfGaussiansEMLearner(
+        final int distributionCount,
+        final Random random)
+    {
+        this(distributionCount, false, random);
+    }
+
+    /**
+     * Creates a new {@code ParallelMixtureOfGaussiansEMLearner}.
+     *
+     * @param   distributionCount
+     *      The number of distributions in the mixture. Must be positive.
+     * @param   diagonalCovariance
+     *      True to restrict the covariances to be diagonal.
+     * @param   random
+     *      The random number generator.
+     */
+    public ParallelMixtureOfGaussiansEMLearner(
+        final int distributionCount,
+        final boolean diagonalCovariance,
+        final Random random)
+    {
+        super(DEFAULT_MAX_ITERATIONS);
+
+        this.setDistributionCount(distributionCount);
+        this.setDiagonalCovariance(diagonalCovariance);
+        this.setDefaultCovariance(DEFAULT_DEFAULT_COVARIANCE);
+        this.setTolerance(DEFAULT_TOLERANCE);
+        this.setRandom(random);
+    }
+
+    @Override
+    public ParallelMixtureOfGaussiansEMLearner clone()
+    {
+        final ParallelMixtureOfGaussiansEMLearner clone =
+            (ParallelMixtureOfGaussiansEMLearner) super.clone();
+        clone.random = ObjectUtil.cloneSmart(this.random);
+        clone.threadPool = null;
+        return clone;
+    }
+
+    @Override
+    protected boolean initializeAlgorithm()
+    {
+        final int N = this.data.size();
+        if (N <= 0)
+        {
+            return false;
+        }
+
+        final int K = this.distributionCount;
+        this.points = new ArrayList<Vector>(this.data);
+        final int d = this.points.get(0).getDimensionality();
+        this.dimensionality = d;
+        this.values = new double[N * d];
+        for (int n = 0; n < N; n++)
+        {
+            final Vector point = this.points.get(n);
+            point.assertDimensionalityEquals(d);
+            for (int i = 0; i < d; i++)
+            {
+                this.values[n * d + i] = point.getElement(i);
+            }
+        }
+
+        // Start the distributions at data points that are spread out by
+        // sampling each one in proportion to its squared distance to the
+        // closest one already picked.
+        final double[] centers = new double[K * d];
+        final double[] minDistances = new double[N];
+        Arrays.fill(minDistances, Double.POSITIVE_INFINITY);
+        int index = this.random.nextInt(N);
+        for (int k = 0; k < K; k++)
+        {
+            System.arraycopy(this.values, index * d, centers, k * d, d);
+            double total = 0.0;
+            for (int n = 0; n < N; n++)
+            {
+                double distance = 0.0;
+                for (int i = 0; i < d; i++)
+                {
+                    final double difference =
+                        this.values[n * d + i] - centers[k * d + i];
+                    distance += difference * difference;
+                }
+                minDistances[n] = Math.min(minDistances[n], distance);
+                total += minDistances[n];
+            }
+
+            if (total > 0.0)
+            {
+                double target = total * this.random.nextDouble();
+                index = 0;
+                while (index < N - 1 && target >= minDistances[index])
+                {
+                    target -= minDistances[index];
+                    index++;
+                }
+            }
+            else
+            {
+                index = this.random.nextInt(N);
+            }
+        }
+
+        // Softly assign the points to the centers based on their L1 distance.
+        this.responsibilities = new double[N * K];
+        final double[] weightSums = new double[K];
+        final double[] sums = new double[K * d];
+        final double[] logWeights = new double[K];
+        for (int n = 0; n < N; n++)
+        {
+            final int offset = n * d;
+            for (int k = 0; k < K; k++)
+            {
+                double distance = 0.0;
+                for (int i = 0; i < d; i++)
+                {
+                    distance += Math.abs(
+                        this.values[offset + i] - centers[k * d + i]);
+                }
+                logWeights[k] = -distance;
+            }
+            normalizeLogWeights(logWeights, K, this.responsibilities, n * K);
+            accumulate(this.responsibilities, n * K, this.values, offset, K,
+                d, weightSums, sums);
+        }
+
+        this.distributions = new ArrayList<MultivariateGaussian.PDF>(K);
+        for (int k = 0; k < K; k++)
+        {
+            this.distributions.add(null);
+        }
+        this.priorWeights = new double[K];
+        this.means = new double[K * d];
+        this.logCoefficients = new double[K];
+        if (this.diagonalCovariance)
+        {
+            this.inverseVariances = new double[K * d];
+            this.choleskyFactors = null;
+        }
+        else
+        {
+            this.inverseVariances = null;
+            this.choleskyFactors = new double[K][];
+        }
+
+        // Create the tasks, which keep their partial sums between
+        // iterations.
+        final int numBlocks = Math.max(1, Math.min(N, this.getNumThreads()));
+        this.expectationTasks = new ArrayList<ExpectationTask>(numBlocks);
+        this.covarianceTasks = new ArrayList<CovarianceTask>(numBlocks);
+        for (int b = 0; b < numBlocks; b++)
+        {
+            final int start = (int) ((long) N * b / numBlocks);
+            final int end = (int) ((long) N * (b + 1) / numBlocks);
+            this.expectationTasks.add(new ExpectationTask(start, end));
+            this.covarianceTasks.add(new CovarianceTask(start, end));
+        }
+
+        this.assignmentChanged = N;
+        this.logLikelihood = Double.NEGATIVE_INFINITY;
+        this.updateDistributions(weightSums, sums);
+        return true;
+    }
+
+    @Override
+    protected boolean step()
+    {
+        final int K = this.distributionCount;
+        final int d = this.dimensionality;
+
+        // The "E" step, which also sums up the weights and first moments.
+        try
+        {
+            ParallelUtil.executeInParallel(this.expectationTasks,
+                this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        this.assignmentChanged = 0.0;
+        this.logLikelihood = 0.0;
+        final double[] weightSums = new double[K];
+        final double[] sums = new double[K * d];
+        for (ExpectationTask task : this.expectationTasks)
+        {
+            this.assignmentChanged += task.assignmentChanged;
+            this.logLikelihood += task.logLikelihood;
+            add(task.weightSums, weightSums);
+            add(task.sums, sums);
+        }
+
+        if (this.assignmentChanged <= this.tolerance)
+        {
+            return false;
+        }
+
+        // The "M" step.
+        this.updateDistributions(weightSums, sums);
+        return true;
+    }
+
+    /**
+     * Updates the distributions given the current responsibilities and the
+     * sums of the responsibilities and the weighted points.
+     *
+     * @param   weightSums
+     *      The sum of the responsibilities of each distribution.
+     * @param   sums
+     *      The sum of the points weighted by the responsibilities of each
+     *      distribution, as a K-by-d array in row-major order.
+     */
+    protected void updateDistributions(
+        final double[] weightSums,
+        final double[] sums)
+    {
+        final int N = this.points.size();
+        final int K = this.distributionCount;
+        final int d = this.dimensionality;
+
+        for (int k = 0; k < K; k++)
+        {
+            final double weightSum = weightSums[k];
+            if (weightSum > 0.0)
+            {
+                for (int i = 0; i < d; i++)
+                {
+                    this.means[k * d + i] = sums[k * d + i] / weightSum;
+                }
+            }
+            // Otherwise the distribution has no points, so it keeps its old
+            // mean.
+        }
+
+        // Sum up the weighted scatter about the new means.
+        try
+        {
+            ParallelUtil.executeInParallel(this.covarianceTasks,
+                this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        final double[] scatter =
+            new double[this.covarianceTasks.get(0).scatter.length];
+        for (CovarianceTask task : this.covarianceTasks)
+        {
+            add(task.scatter, scatter);
+        }
+
+        final double halfDLogTwoPi = 0.5 * d * MultivariateGaussian.LOG_TWO_PI;
+        for (int k = 0; k < K; k++)
+        {
+            final double weightSum = weightSums[k];
+            final double scale = weightSum > 0.0 ? 1.0 / weightSum : 0.0;
+            final Vector mean = VectorFactory.getDefault().createVector(d);
+            for (int i = 0; i < d; i++)
+            {
+                mean.setElement(i, this.means[k * d + i]);
+            }
+
+            final double prior = weightSum / N;
+            this.priorWeights[k] = prior;
+            final double logPrior = Math.log(prior);
+            if (this.diagonalCovariance)
+            {
+                // Only store the variances, so this stays linear in d.
+                final Matrix covariance =
+                    MatrixFactory.getDiagonalDefault().createMatrix(d, d);
+                double logDeterminant = 0.0;
+                for (int i = 0; i < d; i++)
+                {
+                    final double variance = scale * scatter[k * d + i]
+                        + this.defaultCovariance;
+                    covariance.setElement(i, i, variance);
+                    this.inverseVariances[k * d + i] = 1.0 / variance;
+                    logDeterminant += Math.log(variance);
+                }
+                this.distributions.set(k,
+                    new MultivariateGaussian.PDF(mean, covariance));
+                this.logCoefficients[k] = logPrior - halfDLogTwoPi
+                    - 0.5 * logDeterminant;
+            }
+            else
+            {
+                final Matrix covariance =
+                    MatrixFactory.getDefault().createMatrix(d, d);
+                final int offset = k * d * d;
+                for (int i = 0; i < d; i++)
+                {
+                    for (int j = 0; j < i; j++)
+                    {
+                        final double value = scale * scatter[offset + i * d + j];
+                        covariance.setElement(i, j, value);
+                        covariance.setElement(j, i, value);
+                    }
+                    covariance.setElement(i, i,
+                        scale * scatter[offset + i * d + i]
+                        + this.defaultCovariance);
+                }
+
+                // Compute the Cholesky factor and coefficient here so that
+                // the tasks only read them.
+                final MultivariateGaussian.PDF distribution =
+                    new MultivariateGaussian.PDF(mean, covariance);
+                this.distributions.set(k, distribution);
+                this.choleskyFactors[k] = distribution.getCholeskyFactor();
+                this.logCoefficients[k] = logPrior
+                    + distribution.getLogLeadingCoefficient();
+            }
+        }
+    }
+
+    @Override
+    protected void cleanupAlgorithm()
+    {
+        this.points = null;
+        this.values = null;
+        this.responsibilities = null;
+        this.means = null;
+        this.inverseVariances = null;
+        this.choleskyFactors = null;
+        this.logCoefficients = null;
+        this.expectationTasks = null;
+        this.covarianceTasks = null;
+        this.data = null;
+    }
+
+    /**
+     * Normalizes the given log-weights into probabilities.
+     *
+     * @param   logWeights
+     *      The log-weights.
+     * @param   count
+     *      The number of log-weights.
+     * @param   result
+     *      The array to write the probabilities into.
+     * @param   offset
+     *      The offset into the result to write the probabilities at.
+     * @return
+     *      The log of the sum of the exponentiated weights, or negative
+     *      infinity if all of the weights are zero, in which case the
+     *      probabilities are uniform.
+     */
+    private static double normalizeLogWeights(
+        final double[] logWeights,
+        final int count,
+        final double[] result,
+        final int offset)
+    {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < count; k++)
+        {
+            if (logWeights[k] > max)
+            {
+                max = logWeights[k];
+            }
+        }
+
+        if (Double.isInfinite(max) || Double.isNaN(max))
+        {
+            Arrays.fill(result, offset, offset + count, 1.0 / count);
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        double sum = 0.0;
+        for (int k = 0; k < count; k++)
+        {
+            final double weight = Math.exp(logWeights[k] - max);
+            result[offset + k] = weight;
+            sum += weight;
+        }
+        for (int k = 0; k < count; k++)
+        {
+            result[offset + k] /= sum;
+        }
+        return max + Math.log(sum);
+    }
+
+    /**
+     * Adds the responsibilities of a point and the point weighted by them to
+     * the given sums.
+     *
+     * @param   responsibilities
+     *      The responsibilities.
+     * @param   responsibilityOffset
+     *      The offset of the responsibilities of the point.
+     * @param   values
+     *      The points.
+     * @param   valueOffset
+     *      The offset of the point.
+     * @param   K
+     *      The number of distributions.
+     * @param   d
+     *      The dimensionality.
+     * @param   weightSums
+     *      The sums of the responsibilities to add to.
+     * @param   sums
+     *      The sums of the weighted points to add to.
+     */
+    private static void accumulate(
+        final double[] responsibilities,
+        final int responsibilityOffset,
+        final double[] values,
+        final int valueOffset,
+        final int K,
+        final int d,
+        final double[] weightSums,
+        final double[] sums)
+    {
+        for (int k = 0; k < K; k++)
+        {
+            final double weight = responsibilities[responsibilityOffset + k];
+            if (weight == 0.0)
+            {
+                continue;
+            }
+
+            weightSums[k] += weight;
+            final int offset = k * d;
+            for (int i = 0; i < d; i++)
+            {
+                sums[offset + i] += weight * values[valueOffset + i];
+            }
+        }
+    }
+
+    /**
+     * Adds the values of one array to another.
+     *
+     * @param   values
+     *      The values to add.
+     * @param   result
+     *      The array to add them to.
+     */
+    private static void add(
+        final double[] values,
+        final double[] result)
+    {
+        for (int i = 0; i < values.length; i++)
+        {
+            result[i] += values[i];
+        }
+    }
+
+    @Override
+    public MixtureOfGaussians.PDF getResult()
+    {
+        if (this.distributions == null)
+        {
+            return null;
+        }
+
+        return new MixtureOfGaussians.PDF(this.distributions,
+            this.priorWeights.clone());
+    }
+
+    @Override
+    public NamedValue<Double> getPerformance()
+    {
+        return new DefaultNamedValue<Double>(PERFORMANCE_NAME,
+            this.getAssignmentChanged());
+    }
+
+    /**
+     * Gets the total assignment change from the last completed step of the
+     * algorithm.
+     *
+     * @return
+     *      The assignment changed from the last completed step.
+     */
+    public double getAssignmentChanged()
+    {
+        return this.assignmentChanged;
+    }
+
+    /**
+     * Gets the log-likelihood of the data computed during the E-step of the
+     * last completed step of the algorithm.
+     *
+     * @return
+     *      The log-likelihood of the data.
+     */
+    public double getLogLikelihood()
+    {
+        return this.logLikelihood;
+    }
+
+    /**
+     * Gets the number of distributions in the mixture.
+     *
+     * @return
+     *      The number of distributions. Must be positive.
+     */
+    public int getDistributionCount()
+    {
+        return this.distributionCount;
+    }
+
+    /**
+     * Sets the number of distributions in the mixture.
+     *
+     * @param   distributionCount
+     *      The number of distributions. Must be positive.
+     */
+    public void setDistributionCount(
+        final int distributionCount)
+    {
+        ArgumentChecker.assertIsPositive("distributionCount",
+            distributionCount);
+        this.distributionCount = distributionCount;
+    }
+
+    /**
+     * Gets whether the covariances are restricted to be diagonal.
+     *
+     * @return
+     *      True if the covariances are diagonal; false if they are full.
+     */
+    public boolean isDiagonalCovariance()
+    {
+        return this.diagonalCovariance;
+    }
+
+    /**
+     * Sets whether the covariances are restricted to be diagonal.
+     *
+     * @param   diagonalCovariance
+     *      True if the covariances are diagonal; false if they are full.
+     */
+    public void setDiagonalCovariance(
+        final boolean diagonalCovariance)
+    {
+        this.diagonalCovariance = diagonalCovariance;
+    }
+
+    /**
+     * Gets the amount added to the diagonal of each covariance matrix.
+     *
+     * @return
+     *      The amount added to the diagonal of each covariance. Must be
+     *      positive.
+     */
+    public double getDefaultCovariance()
+    {
+        return this.defaultCovariance;
+    }
+
+    /**
+     * Sets the amount added to the diagonal of each covariance matrix.
+     *
+     * @param   defaultCovariance
+     *      The amount added to the diagonal of each covariance. Must be
+     *      positive.
+     */
+    public void setDefaultCovariance(
+        final double defaultCovariance)
+    {
+        ArgumentChecker.assertIsPositive("defaultCovariance",
+            defaultCovariance);
+        this.defaultCovariance = defaultCovariance;
+    }
+
+    /**
+     * Gets the tolerance on the total change in the responsibilities before
+     * stopping.
+     *
+     * @return
+     *      The tolerance. Must be non-negative.
+     */
+    public double getTolerance()
+    {
+        return this.tolerance;
+    }
+
+    /**
+     * Sets the tolerance on the total change in the responsibilities before
+     * stopping.
+     *
+     * @param   tolerance
+     *      The tolerance. Must be non-negative.
+     */
+    public void setTolerance(
+        final double tolerance)
+    {
+        ArgumentChecker.assertIsNonNegative("tolerance", tolerance);
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Callable task that computes the responsibilities for a block of points
+     * and sums up their weights and first moments.
+     */
+    private class ExpectationTask
+        extends Object
+        implements Callable<Void>
+    {
+
+        /** The index of the first point in the block. */
+        private final int start;
+
+        /** One past the index of the last point in the block. */
+        private final int end;
+
+        /** The sum of the responsibilities of each distribution. */
+        private final double[] weightSums;
+
+        /** The sum of the weighted points of each distribution. */
+        private final double[] sums;
+
+        /** Buffer for the log-weights of a point. */
+        private final double[] logWeights;
+
+        /** Buffer for the old responsibilities of a point. */
+        private final double[] oldResponsibilities;
+
+        /** Buffer for the difference between a point and a mean. */
+        private final double[] delta;
+
+        /** The total change in the responsibilities of the block. */
+        private double assignmentChanged;
+
+        /** The log-likelihood of the block. */
+        private double logLikelihood;
+
+        /**
+         * Creates a new {@code ExpectationTask}.
+         *
+         * @param   start
+         *      The index of the first point in the block.
+         * @param   end
+         *      One past the index of the last point in the block.
+         */
+        public ExpectationTask(
+            final int start,
+            final int end)
+        {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.weightSums = new double[distributionCount];
+            this.sums = new double[distributionCount * dimensionality];
+            this.logWeights = new double[distributionCount];
+            this.oldResponsibilities = new double[distributionCount];
+            this.delta = new double[dimensionality];
+        }
+
+        @Override
+        public Void call()
+        {
+            final int K = distributionCount;
+            final int d = dimensionality;
+            Arrays.fill(this.weightSums, 0.0);
+            Arrays.fill(this.sums, 0.0);
+            this.assignmentChanged = 0.0;
+            this.logLikelihood = 0.0;
+
+            for (int n = this.start; n < this.end; n++)
+            {
+                final int valueOffset = n * d;
+                for (int k = 0; k < K; k++)
+                {
+                    final int meanOffset = k * d;
+                    double zSquared = 0.0;
+                    if (diagonalCovariance)
+                    {
+                        for (int i = 0; i < d; i++)
+                        {
+                            final double difference = values[valueOffset + i]
+                                - means[meanOffset + i];
+                            zSquared += difference * difference
+                                * inverseVariances[meanOffset + i];
+                        }
+                    }
+                    else if (choleskyFactors[k].length == 0)
+                    {
+                        // The covariance is not numerically positive
+                        // definite, so use the slower general method.
+                        zSquared = distributions.get(k).computeZSquared(
+                            points.get(n));
+                    }
+                    else
+                    {
+                        for (int i = 0; i < d; i++)
+                        {
+                            this.delta[i] = values[valueOffset + i]
+                                - means[meanOffset + i];
+                        }
+                        zSquared = MultivariateGaussian.solveLowerSquaredNorm(
+                            choleskyFactors[k], d, this.delta);
+                    }
+                    this.logWeights[k] = logCoefficients[k] - 0.5 * zSquared;
+                }
+
+                final int offset = n * K;
+                System.arraycopy(responsibilities, offset,
+                    this.oldResponsibilities, 0, K);
+                this.logLikelihood += normalizeLogWeights(this.logWeights, K,
+                    responsibilities, offset);
+                for (int k = 0; k < K; k++)
+                {
+                    this.assignmentChanged += Math.abs(
+                        responsibilities[offset + k]
+                        - this.oldResponsibilities[k]);
+                }
+                accumulate(responsibilities, offset, values, valueOffset, K,
+                    d, this.weightSums, this.sums);
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Callable task that sums up the weighted scatter of a block of points
+     * about the means of the distributions. For full covariances only the
+     * lower triangle is computed.
+     */
+    private class CovarianceTask
+        extends Object
+        implements Callable<Void>
+    {
+
+        /** The index of the first point in the block. */
+        private final int start;
+
+        /** One past the index of the last point in the block. */
+        private final int end;
+
+        /** The scatter of each distribution, in row-major order. */
+        private final double[] scatter;
+
+        /** Buffer for the difference between a point and a mean. */
+        private final double[] delta;
+
+        /**
+         * Creates a new {@code CovarianceTask}.
+         *
+         * @param   start
+         *      The index of the first point in the block.
+         * @param   end
+         *      One past the index of the last point in the block.
+         */
+        public CovarianceTask(
+            final int start,
+            final int end)
+        {
+            super();
+
+            this.start = start;
+            this.end = end;
+            final int d = dimensionality;
+            this.scatter = new double[distributionCount
+                * (diagonalCovariance ? d : d * d)];
+            this.delta = new double[d];
+        }
+
+        @Override
+        public Void call()
+        {
+            final int K = distributionCount;
+            final int d = dimensionality;
+            Arrays.fill(this.scatter, 0.0);
+
+            for (int n = this.start; n < this.end; n++)
+            {
+                final int valueOffset = n * d;
+                for (int k = 0; k < K; k++)
+                {
+                    final double weight = responsibilities[n * K + k];
+                    if (weight == 0.0)
+                    {
+                        continue;
+                    }
+
+                    final int meanOffset = k * d;
+                    for (int i = 0; i < d; i++)
+                    {
+                        this.delta[i] = values[valueOffset + i]
+                            - means[meanOffset + i];
+                    }
+
+                    if (diagonalCovariance)
+                    {
+                        for (int i = 0; i < d; i++)
+                        {
+                            this.scatter[meanOffset + i] +=
+                                weight * this.delta[i] * this.delta[i];
+                        }
+                    }
+                    else
+                    {
+                        final int offset = k * d * d;
+                        for (int i = 0; i < d; i++)
+                        {
+                            final double weightedDelta = weight * this.delta[i];
+                            final int row = offset + i * d;
+                            for (int j = 0; j <= i; j++)
+                            {
+                                this.scatter[row + j] +=
+                                    weightedDelta * this.delta[j];
+                            }
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
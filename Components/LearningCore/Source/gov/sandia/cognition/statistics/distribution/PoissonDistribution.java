@@ -31,7 +31,6 @@ import gov.sandia.cognition.statistics.ProbabilityMassFunction;
 import gov.sandia.cognition.statistics.ProbabilityMassFunctionUtil;
 import gov.sandia.cognition.util.AbstractCloneableSerializable;
 import gov.sandia.cognition.util.WeightedValue;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Random;
 
@@ -123,17 +122,17 @@ public class PoissonDistribution
         final int sampleCount,
         final Collection<? super Number> output)
     {
-        ProbabilityMassFunctionUtil.sampleInto(
-            this.getProbabilityFunction(), random, sampleCount, output);
+        for (int n = 0; n < sampleCount; n++)
+        {
+            output.add(sample(this.rate, random));
+        }
     }
 
     @Override
     public int sampleAsInt(
         final Random random)
     {
-// TODO: See if there is a way to do this without any boxing.
-        return ProbabilityMassFunctionUtil.sampleSingle(
-            this.getProbabilityFunction(), random).intValue();
+        return sample(this.rate, random);
     }
 
     @Override
@@ -143,11 +142,81 @@ public class PoissonDistribution
         final int start,
         final int length)
     {
-// TODO: See if there is a way to do this without any boxing.
-        final ArrayList<Number> samples = this.sample(random, length);
-        for (int i = 0; i < length; i++)
+        final int end = start + length;
+        for (int i = start; i < end; i++)
+        {
+            output[i] = sample(this.rate, random);
+        }
+    }
+
+    /**
+     * Samples a value from a Poisson distribution with the given rate. Small
+     * rates invert the CDF with a sequential search, which takes one uniform
+     * value and about rate + 1 steps. Larger rates use the transformed
+     * rejection method of Hormann, which takes a constant expected number of
+     * uniform values.
+     *
+     * @param   rate
+     *      The rate of the Poisson distribution. Must be positive.
+     * @param   random
+     *      The random number generator to use.
+     * @return
+     *      A value sampled from the Poisson distribution.
+     */
+    @PublicationReference(
+        author="Wolfgang Hormann",
+        title="The transformed rejection method for generating Poisson random variables",
+        type=PublicationType.Journal,
+        publication="Insurance: Mathematics and Economics",
+        year=1993,
+        pages={39, 45}
+    )
+    public static int sample(
+        final double rate,
+        final Random random)
+    {
+        if (rate < 10.0)
         {
-            output[start + i] = samples.get(i).intValue();
+            // Invert the CDF by sequential search, using a single uniform.
+            final double u = random.nextDouble();
+            double probability = Math.exp(-rate);
+            double cumulative = probability;
+            int result = 0;
+            while (u > cumulative && probability > 0.0)
+            {
+                result++;
+                probability *= rate / result;
+                cumulative += probability;
+            }
+            return result;
+        }
+
+        // PTRS: transformed rejection with squeeze.
+        final double logRate = Math.log(rate);
+        final double b = 0.931 + 2.53 * Math.sqrt(rate);
+        final double a = -0.059 + 0.02483 * b;
+        final double logInverseAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+        final double vr = 0.9277 - 3.6224 / (b - 2.0);
+        while (true)
+        {
+            final double u = random.nextDouble() - 0.5;
+            final double v = random.nextDouble();
+            final double us = 0.5 - Math.abs(u);
+            final double k = Math.floor((2.0 * a / us + b) * u + rate + 0.43);
+            if (us >= 0.07 && v <= vr)
+            {
+                return (int) k;
+            }
+            else if (k < 0.0 || (us < 0.013 && v > us))
+            {
+                continue;
+            }
+
+            if (Math.log(v) + logInverseAlpha - Math.log(a / (us * us) + b)
+                <= -rate + k * logRate - MathUtil.logGammaFunction(k + 1.0))
+            {
+                return (int) k;
+            }
         }
     }
     
@@ -318,11 +318,11 @@ public class ScalarMixtureDensityModel
         {
             final double mi = distribution.getMean();
             final double prior = this.priorWeights[i] / priorWeightSum;
-            result += prior*(mi*mi + distribution.getVariance()) - mean2;
+            result += prior*(mi*mi + distribution.getVariance());
             i++;
         }
 
-        return result;
+        return result - mean2;
     }
 
     @Override
@@ -642,6 +642,12 @@ public class ScalarMixtureDensityModel
          */
         public static final double DEFAULT_TOLERANCE = 1e-5;
 
+        /**
+         * Maximum number of random starting points to try when a learner
+         * cannot fit its initial weighting of the data, {@value}.
+         */
+        public static final int MAX_INITIALIZATION_ATTEMPTS = 10;
+
         /**
          * Collection of learners used to create each component.
          */
@@ -743,6 +749,32 @@ public class ScalarMixtureDensityModel
 
         @Override
         protected boolean initializeAlgorithm()
+        {
+            // A learner for a one-sided distribution, such as the
+            // exponential, cannot fit data that is centered on the wrong
+            // side, so try other random starting points when that happens.
+            for( int attempt = 1; ; attempt++ )
+            {
+                try
+                {
+                    this.initializeDistributions();
+                    return true;
+                }
+                catch( IllegalArgumentException e )
+                {
+                    if( attempt >= MAX_INITIALIZATION_ATTEMPTS )
+                    {
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Creates the initial distributions by assigning the data to
+         * components centered near random data points.
+         */
+        protected void initializeDistributions()
         {
             final int N = this.data.size();
             final int K = this.learners.size();
@@ -801,8 +833,6 @@ public class ScalarMixtureDensityModel
                     learner.learn( this.weightedData ).getProbabilityFunction() );
                 k++;
             }
-
-            return true;
         }
 
 
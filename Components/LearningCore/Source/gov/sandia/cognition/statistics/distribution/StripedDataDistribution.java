@@ -0,0 +1,366 @@
+/*
+ * File:            StripedDataDistribution.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.collection.AbstractMutableDoubleMap;
+import gov.sandia.cognition.statistics.DataDistribution;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A thread-safe {@code DataDistribution} for counting from multiple threads.
+ * The keys are split by hash code over a fixed number of stripes, each of
+ * which is an {@link OpenAddressingDataDistribution} guarded by its own lock.
+ * Threads that update keys in different stripes do not contend with each
+ * other, so with enough stripes many threads can count into one distribution
+ * at once.
+ * <BR><BR>
+ * Single-key operations are atomic. Operations over the whole distribution,
+ * such as {@link #getTotal()} or {@link #entrySet()}, lock one stripe at a
+ * time, so they are consistent for each stripe but not across stripes while
+ * other threads are still updating. The entry set is a copy whose entries
+ * write their values back through {@link #set(Object, double)}.
+ *
+ * @param   <KeyType>
+ *      The type of the keys in the distribution. It must have consistent
+ *      {@code equals} and {@code hashCode} methods. Null keys are not
+ *      supported: a null key has a value of zero, and setting or
+ *      incrementing one throws an {@code IllegalArgumentException}.
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class StripedDataDistribution<KeyType>
+    extends AbstractPrimitiveDataDistribution<KeyType>
+{
+
+    /**
+     * The default number of stripes, {@value}.
+     */
+    public static final int DEFAULT_NUM_STRIPES = 16;
+
+    /**
+     * The stripes.
+     */
+    protected OpenAddressingDataDistribution<KeyType>[] stripes;
+
+    /**
+     * The number of bits used to pick a stripe.
+     */
+    protected int stripeBits;
+
+    /**
+     * Creates a new, empty {@code StripedDataDistribution} with the default
+     * number of stripes.
+     */
+    public StripedDataDistribution()
+    {
+        this(DEFAULT_NUM_STRIPES);
+    }
+
+    /**
+     * Creates a new, empty {@code StripedDataDistribution}.
+     *
+     * @param   numStripes
+     *      The number of stripes. It is rounded up to a power of two. Must
+     *      be positive.
+     */
+    public StripedDataDistribution(
+        final int numStripes)
+    {
+        this(numStripes,
+            AbstractOpenAddressingDataDistribution.DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty {@code StripedDataDistribution}.
+     *
+     * @param   numStripes
+     *      The number of stripes. It is rounded up to a power of two. Must
+     *      be positive.
+     * @param   expectedSize
+     *      The total number of keys that can be added before the stripes
+     *      start to grow. Must be non-negative.
+     */
+    @SuppressWarnings("unchecked")
+    public StripedDataDistribution(
+        final int numStripes,
+        final int expectedSize)
+    {
+        super();
+
+        ArgumentChecker.assertIsPositive("numStripes", numStripes);
+        ArgumentChecker.assertIsNonNegative("expectedSize", expectedSize);
+        final int count = numStripes == 1 ? 1
+            : Integer.highestOneBit(numStripes - 1) << 1;
+        this.stripeBits = Integer.numberOfTrailingZeros(count);
+        this.stripes = (OpenAddressingDataDistribution<KeyType>[])
+            new OpenAddressingDataDistribution<?>[count];
+        final int stripeSize = (expectedSize + count - 1) / count;
+        for (int i = 0; i < count; i++)
+        {
+            this.stripes[i] =
+                new OpenAddressingDataDistribution<KeyType>(stripeSize);
+        }
+    }
+
+    /**
+     * Creates a new {@code StripedDataDistribution} with a copy of the
+     * counts of another distribution.
+     *
+     * @param   other
+     *      The distribution to copy.
+     */
+    public StripedDataDistribution(
+        final DataDistribution<? extends KeyType> other)
+    {
+        this(DEFAULT_NUM_STRIPES, other.getDomainSize());
+
+        this.incrementAll(other);
+    }
+
+    @Override
+    public StripedDataDistribution<KeyType> clone()
+    {
+        final StripedDataDistribution<KeyType> clone =
+            (StripedDataDistribution<KeyType>) super.clone();
+        clone.stripes = this.stripes.clone();
+        for (int i = 0; i < this.stripes.length; i++)
+        {
+            final OpenAddressingDataDistribution<KeyType> stripe =
+                this.stripes[i];
+            synchronized (stripe)
+            {
+                clone.stripes[i] = stripe.clone();
+            }
+        }
+        return clone;
+    }
+
+    /**
+     * Gets the stripe for a key. It uses the high bits of the mixed hash code
+     * since the stripe uses the low bits to index its table.
+     *
+     * @param   key
+     *      The key. Must not be null.
+     * @return
+     *      The stripe that holds the key.
+     */
+    protected OpenAddressingDataDistribution<KeyType> getStripe(
+        final Object key)
+    {
+        final int hash =
+            AbstractOpenAddressingDataDistribution.mix(key.hashCode());
+        final int index = Integer.rotateLeft(hash, this.stripeBits)
+            & (this.stripes.length - 1);
+        return this.stripes[index];
+    }
+
+    @Override
+    public double get(
+        final KeyType key)
+    {
+        if (key == null)
+        {
+            return 0.0;
+        }
+
+        final OpenAddressingDataDistribution<KeyType> stripe =
+            this.getStripe(key);
+        synchronized (stripe)
+        {
+            return stripe.get(key);
+        }
+    }
+
+    @Override
+    public boolean containsKey(
+        final KeyType key)
+    {
+        if (key == null)
+        {
+            return false;
+        }
+
+        final OpenAddressingDataDistribution<KeyType> stripe =
+            this.getStripe(key);
+        synchronized (stripe)
+        {
+            return stripe.containsKey(key);
+        }
+    }
+
+    @Override
+    public void set(
+        final KeyType key,
+        final double value)
+    {
+        ArgumentChecker.assertIsNotNull("key", key);
+        final OpenAddressingDataDistribution<KeyType> stripe =
+            this.getStripe(key);
+        synchronized (stripe)
+        {
+            stripe.set(key, value);
+        }
+    }
+
+    @Override
+    public double increment(
+        final KeyType key,
+        final double value)
+    {
+        ArgumentChecker.assertIsNotNull("key", key);
+        final OpenAddressingDataDistribution<KeyType> stripe =
+            this.getStripe(key);
+        synchronized (stripe)
+        {
+            return stripe.increment(key, value);
+        }
+    }
+
+    @Override
+    public double getTotal()
+    {
+        double total = 0.0;
+        for (OpenAddressingDataDistribution<KeyType> stripe : this.stripes)
+        {
+            synchronized (stripe)
+            {
+                total += stripe.getTotal();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public int size()
+    {
+        int size = 0;
+        for (OpenAddressingDataDistribution<KeyType> stripe : this.stripes)
+        {
+            synchronized (stripe)
+            {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (OpenAddressingDataDistribution<KeyType> stripe : this.stripes)
+        {
+            synchronized (stripe)
+            {
+                stripe.clear();
+            }
+        }
+    }
+
+    @Override
+    public void compact()
+    {
+        for (OpenAddressingDataDistribution<KeyType> stripe : this.stripes)
+        {
+            synchronized (stripe)
+            {
+                stripe.compact();
+            }
+        }
+    }
+
+    @Override
+    public Set<AbstractMutableDoubleMap.Entry<KeyType>> entrySet()
+    {
+        final ArrayList<StripeEntry> entries = new ArrayList<StripeEntry>();
+        for (OpenAddressingDataDistribution<KeyType> stripe : this.stripes)
+        {
+            synchronized (stripe)
+            {
+                for (AbstractMutableDoubleMap.Entry<KeyType> entry
+                    : stripe.entrySet())
+                {
+                    entries.add(new StripeEntry(entry.getKey(),
+                        entry.getValue()));
+                }
+            }
+        }
+        return new LinkedHashSet<AbstractMutableDoubleMap.Entry<KeyType>>(
+            entries);
+    }
+
+    /**
+     * Gets the number of stripes.
+     *
+     * @return
+     *      The number of stripes.
+     */
+    public int getNumStripes()
+    {
+        return this.stripes.length;
+    }
+
+    /**
+     * An entry copied out of a stripe. Setting its value sets the value in
+     * the distribution.
+     */
+    protected class StripeEntry
+        extends Object
+        implements AbstractMutableDoubleMap.Entry<KeyType>
+    {
+
+        /** The key. */
+        protected final KeyType key;
+
+        /** The value when the entry was copied or last set. */
+        protected double value;
+
+        /**
+         * Creates a new {@code StripeEntry}.
+         *
+         * @param   key
+         *      The key.
+         * @param   value
+         *      The value.
+         */
+        public StripeEntry(
+            final KeyType key,
+            final double value)
+        {
+            super();
+
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public KeyType getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public double getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public void setValue(
+            final double value)
+        {
+            set(this.key, value);
+            this.value = Math.max(value, 0.0);
+        }
+
+    }
+
+}
@@ -0,0 +1,361 @@
+/*
+ * File:            BinnedReceiverOperatingCharacteristic.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.method;
+
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.util.Arrays;
+
+/**
+ * A streaming, approximate ROC curve that counts the positive and negative
+ * examples in fixed-width bins of score. It uses constant memory no matter
+ * how many examples are added, so it can evaluate a scorer over a stream or
+ * over data too large to sort. Histograms with the same bins can be merged,
+ * so shards of the data can be counted in parallel and combined.
+ * <BR><BR>
+ * The curve has one point per non-empty bin, using the lower edge of the bin
+ * as the threshold. Scores outside of the range of the bins are counted in
+ * the first or last bin. The area under the curve treats examples in the
+ * same bin as ties, so it differs from the exact area by at most the
+ * fraction of positive-negative pairs that share a bin.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     ScoreReceiverOperatingCharacteristic
+ */
+public class BinnedReceiverOperatingCharacteristic
+    extends AbstractCloneableSerializable
+{
+
+    /** The default number of bins, {@value}. */
+    public static final int DEFAULT_BIN_COUNT = 1000;
+
+    /** The lower edge of the first bin. */
+    protected double minScore;
+
+    /** The upper edge of the last bin. */
+    protected double maxScore;
+
+    /** The number of positive examples in each bin. */
+    protected long[] positiveCounts;
+
+    /** The number of negative examples in each bin. */
+    protected long[] negativeCounts;
+
+    /**
+     * Creates a new {@code BinnedReceiverOperatingCharacteristic} with the
+     * default number of bins over [0, 1], which suits probability scores.
+     */
+    public BinnedReceiverOperatingCharacteristic()
+    {
+        this(0.0, 1.0, DEFAULT_BIN_COUNT);
+    }
+
+    /**
+     * Creates a new {@code BinnedReceiverOperatingCharacteristic}.
+     *
+     * @param   minScore
+     *      The lower edge of the first bin.
+     * @param   maxScore
+     *      The upper edge of the last bin. Must be greater than minScore.
+     * @param   binCount
+     *      The number of bins. Must be positive.
+     */
+    public BinnedReceiverOperatingCharacteristic(
+        final double minScore,
+        final double maxScore,
+        final int binCount)
+    {
+        super();
+
+        ArgumentChecker.assertIsPositive("binCount", binCount);
+        if (!(minScore < maxScore))
+        {
+            throw new IllegalArgumentException(
+                "minScore must be less than maxScore");
+        }
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.positiveCounts = new long[binCount];
+        this.negativeCounts = new long[binCount];
+    }
+
+    @Override
+    public BinnedReceiverOperatingCharacteristic clone()
+    {
+        final BinnedReceiverOperatingCharacteristic clone =
+            (BinnedReceiverOperatingCharacteristic) super.clone();
+        clone.positiveCounts = this.positiveCounts.clone();
+        clone.negativeCounts = this.negativeCounts.clone();
+        return clone;
+    }
+
+    /**
+     * Removes all of the examples.
+     */
+    public void clear()
+    {
+        Arrays.fill(this.positiveCounts, 0);
+        Arrays.fill(this.negativeCounts, 0);
+    }
+
+    /**
+     * Gets the bin of a score.
+     *
+     * @param   score
+     *      The score. Must not be NaN.
+     * @return
+     *      The index of the bin.
+     */
+    public int findBin(
+        final double score)
+    {
+        final int binCount = this.positiveCounts.length;
+        final double position = (score - this.minScore) * binCount
+            / (this.maxScore - this.minScore);
+        if (position <= 0.0)
+        {
+            return 0;
+        }
+        else if (position >= binCount)
+        {
+            return binCount - 1;
+        }
+        else
+        {
+            return (int) position;
+        }
+    }
+
+    /**
+     * Adds a scored example.
+     *
+     * @param   score
+     *      The score of the example. Must not be NaN.
+     * @param   label
+     *      The label of the example, true for positive.
+     */
+    public void add(
+        final double score,
+        final boolean label)
+    {
+        if (Double.isNaN(score))
+        {
+            throw new IllegalArgumentException("Score is NaN");
+        }
+
+        final int bin = this.findBin(score);
+        if (label)
+        {
+            this.positiveCounts[bin]++;
+        }
+        else
+        {
+            this.negativeCounts[bin]++;
+        }
+    }
+
+    /**
+     * Adds all of the given scored examples.
+     *
+     * @param   scores
+     *      The score of each example. Must not contain NaN.
+     * @param   labels
+     *      The label of each example, true for positive. Must be the same
+     *      length as the scores.
+     */
+    public void addAll(
+        final double[] scores,
+        final boolean[] labels)
+    {
+        if (scores.length != labels.length)
+        {
+            throw new IllegalArgumentException(
+                "The number of scores and labels must be the same");
+        }
+
+        for (int i = 0; i < scores.length; i++)
+        {
+            this.add(scores[i], labels[i]);
+        }
+    }
+
+    /**
+     * Merges the counts of another histogram into this one.
+     *
+     * @param   other
+     *      The histogram to merge. It must have the same bins. It is not
+     *      changed.
+     */
+    public void merge(
+        final BinnedReceiverOperatingCharacteristic other)
+    {
+        if (this.minScore != other.minScore
+            || this.maxScore != other.maxScore
+            || this.positiveCounts.length != other.positiveCounts.length)
+        {
+            throw new IllegalArgumentException(
+                "Cannot merge histograms with different bins");
+        }
+
+        for (int i = 0; i < this.positiveCounts.length; i++)
+        {
+            this.positiveCounts[i] += other.positiveCounts[i];
+            this.negativeCounts[i] += other.negativeCounts[i];
+        }
+    }
+
+    /**
+     * Computes the area under the curve, counting examples in the same bin as
+     * ties.
+     *
+     * @return
+     *      The approximate area under the curve, on the interval [0, 1]. If
+     *      one of the classes is empty it is 0.5.
+     */
+    public double computeAreaUnderCurve()
+    {
+        // Walk from the top bin down, counting for each negative the
+        // positives above it plus half of those in its bin.
+        double pairs = 0.0;
+        long positivesAbove = 0;
+        long totalNegatives = 0;
+        for (int i = this.positiveCounts.length - 1; i >= 0; i--)
+        {
+            final long positives = this.positiveCounts[i];
+            final long negatives = this.negativeCounts[i];
+            pairs += negatives * (positivesAbove + 0.5 * positives);
+            positivesAbove += positives;
+            totalNegatives += negatives;
+        }
+
+        if (positivesAbove <= 0 || totalNegatives <= 0)
+        {
+            return 0.5;
+        }
+        return pairs / ((double) positivesAbove * totalNegatives);
+    }
+
+    /**
+     * Creates the ROC curve of the histogram, with one point per non-empty
+     * bin at the lower edge of the bin.
+     *
+     * @return
+     *      The ROC curve.
+     */
+    public ScoreReceiverOperatingCharacteristic toReceiverOperatingCharacteristic()
+    {
+        final int binCount = this.positiveCounts.length;
+        final double[] thresholds = new double[binCount];
+        final long[] truePositives = new long[binCount];
+        final long[] falsePositives = new long[binCount];
+        final double binWidth = (this.maxScore - this.minScore) / binCount;
+        long tp = 0;
+        long fp = 0;
+        int count = 0;
+        for (int i = binCount - 1; i >= 0; i--)
+        {
+            if (this.positiveCounts[i] <= 0 && this.negativeCounts[i] <= 0)
+            {
+                continue;
+            }
+
+            tp += this.positiveCounts[i];
+            fp += this.negativeCounts[i];
+            thresholds[count] = this.minScore + i * binWidth;
+            truePositives[count] = tp;
+            falsePositives[count] = fp;
+            count++;
+        }
+
+        return new ScoreReceiverOperatingCharacteristic(
+            Arrays.copyOf(thresholds, count),
+            Arrays.copyOf(truePositives, count),
+            Arrays.copyOf(falsePositives, count),
+            tp, fp);
+    }
+
+    /**
+     * Gets the lower edge of the first bin.
+     *
+     * @return
+     *      The minimum score.
+     */
+    public double getMinScore()
+    {
+        return this.minScore;
+    }
+
+    /**
+     * Gets the upper edge of the last bin.
+     *
+     * @return
+     *      The maximum score.
+     */
+    public double getMaxScore()
+    {
+        return this.maxScore;
+    }
+
+    /**
+     * Gets the number of bins.
+     *
+     * @return
+     *      The number of bins.
+     */
+    public int getBinCount()
+    {
+        return this.positiveCounts.length;
+    }
+
+    /**
+     * Gets the number of positive examples in a bin.
+     *
+     * @param   bin
+     *      The index of the bin.
+     * @return
+     *      The number of positive examples in the bin.
+     */
+    public long getPositiveCount(
+        final int bin)
+    {
+        return this.positiveCounts[bin];
+    }
+
+    /**
+     * Gets the number of negative examples in a bin.
+     *
+     * @param   bin
+     *      The index of the bin.
+     * @return
+     *      The number of negative examples in the bin.
+     */
+    public long getNegativeCount(
+        final int bin)
+    {
+        return this.negativeCounts[bin];
+    }
+
+    /**
+     * Gets the total number of examples that have been added.
+     *
+     * @return
+     *      The number of examples.
+     */
+    public long getCount()
+    {
+        long count = 0;
+        for (int i = 0; i < this.positiveCounts.length; i++)
+        {
+            count += this.positiveCounts[i] + this.negativeCounts[i];
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ * File:            ParallelSampling.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.method;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.statistics.IntegerDistribution;
+import gov.sandia.cognition.statistics.SmoothUnivariateDistribution;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Draws large batches of samples from a univariate distribution in parallel
+ * into a primitive array. The output is split into fixed-size blocks and
+ * each block is filled by its own {@link SplitMixRandom}, split off in order
+ * from a generator seeded by the given random number generator. Because the
+ * blocks and their generators do not depend on the number of threads, the
+ * samples are the same for a given seed no matter how many threads are used.
+ * <BR><BR>
+ * The distribution is shared by all of the threads, so its sampling methods
+ * must not change its state. This is true of the closed-form distributions
+ * in {@code gov.sandia.cognition.statistics.distribution}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     SplitMixRandom
+ */
+public class ParallelSampling
+{
+
+    /**
+     * The default number of samples in each block, {@value}.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Samples values from a distribution into part of an array in parallel.
+     *
+     * @param   distribution
+     *      The distribution to sample from.
+     * @param   random
+     *      The random number generator used to seed the generators of the
+     *      blocks. It is called once.
+     * @param   output
+     *      The array to write the samples into.
+     * @param   start
+     *      The offset in the array to start writing at. Cannot be negative.
+     * @param   length
+     *      The number of values to sample. Cannot be negative.
+     * @param   threadPool
+     *      The thread pool to use.
+     */
+    public static void sampleInto(
+        final SmoothUnivariateDistribution distribution,
+        final Random random,
+        final double[] output,
+        final int start,
+        final int length,
+        final ThreadPoolExecutor threadPool)
+    {
+        ArgumentChecker.assertIsNonNegative("start", start);
+        ArgumentChecker.assertIsNonNegative("length", length);
+
+        final ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        final SplitMixRandom root = new SplitMixRandom(random.nextLong());
+        for (int offset = 0; offset < length; offset += DEFAULT_BLOCK_SIZE)
+        {
+            tasks.add(new DoubleSampleTask(distribution, root.split(), output,
+                start + offset, Math.min(DEFAULT_BLOCK_SIZE, length - offset)));
+        }
+        execute(tasks, threadPool);
+    }
+
+    /**
+     * Samples values from an integer distribution into part of an array in
+     * parallel.
+     *
+     * @param   distribution
+     *      The distribution to sample from.
+     * @param   random
+     *      The random number generator used to seed the generators of the
+     *      blocks. It is called once.
+     * @param   output
+     *      The array to write the samples into.
+     * @param   start
+     *      The offset in the array to start writing at. Cannot be negative.
+     * @param   length
+     *      The number of values to sample. Cannot be negative.
+     * @param   threadPool
+     *      The thread pool to use.
+     */
+    public static void sampleInto(
+        final IntegerDistribution distribution,
+        final Random random,
+        final int[] output,
+        final int start,
+        final int length,
+        final ThreadPoolExecutor threadPool)
+    {
+        ArgumentChecker.assertIsNonNegative("start", start);
+        ArgumentChecker.assertIsNonNegative("length", length);
+
+        final ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        final SplitMixRandom root = new SplitMixRandom(random.nextLong());
+        for (int offset = 0; offset < length; offset += DEFAULT_BLOCK_SIZE)
+        {
+            tasks.add(new IntegerSampleTask(distribution, root.split(), output,
+                start + offset, Math.min(DEFAULT_BLOCK_SIZE, length - offset)));
+        }
+        execute(tasks, threadPool);
+    }
+
+    /**
+     * Executes the sampling tasks.
+     *
+     * @param   tasks
+     *      The tasks to execute.
+     * @param   threadPool
+     *      The thread pool to use.
+     */
+    private static void execute(
+        final ArrayList<Callable<Void>> tasks,
+        final ThreadPoolExecutor threadPool)
+    {
+        if (tasks.size() <= 1)
+        {
+            for (Callable<Void> task : tasks)
+            {
+                try
+                {
+                    task.call();
+                }
+                catch (Exception e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            return;
+        }
+
+        try
+        {
+            ParallelUtil.executeInParallel(tasks, threadPool);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Fills a block of a double array with samples.
+     */
+    private static class DoubleSampleTask
+        extends Object
+        implements Callable<Void>
+    {
+
+        /** The distribution to sample from. */
+        private final SmoothUnivariateDistribution distribution;
+
+        /** The random number generator of the block. */
+        private final Random random;
+
+        /** The output array. */
+        private final double[] output;
+
+        /** The start of the block. */
+        private final int start;
+
+        /** The length of the block. */
+        private final int length;
+
+        /**
+         * Creates a new {@code DoubleSampleTask}.
+         *
+         * @param   distribution
+         *      The distribution to sample from.
+         * @param   random
+         *      The random number generator of the block.
+         * @param   output
+         *      The output array.
+         * @param   start
+         *      The start of the block.
+         * @param   length
+         *      The length of the block.
+         */
+        public DoubleSampleTask(
+            final SmoothUnivariateDistribution distribution,
+            final Random random,
+            final double[] output,
+            final int start,
+            final int length)
+        {
+            super();
+
+            this.distribution = distribution;
+            this.random = random;
+            this.output = output;
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public Void call()
+        {
+            this.distribution.sampleInto(this.random, this.output, this.start,
+                this.length);
+            return null;
+        }
+
+    }
+
+    /**
+     * Fills a block of an integer array with samples.
+     */
+    private static class IntegerSampleTask
+        extends Object
+        implements Callable<Void>
+    {
+
+        /** The distribution to sample from. */
+        private final IntegerDistribution distribution;
+
+        /** The random number generator of the block. */
+        private final Random random;
+
+        /** The output array. */
+        private final int[] output;
+
+        /** The start of the block. */
+        private final int start;
+
+        /** The length of the block. */
+        private final int length;
+
+        /**
+         * Creates a new {@code IntegerSampleTask}.
+         *
+         * @param   distribution
+         *      The distribution to sample from.
+         * @param   random
+         *      The random number generator of the block.
+         * @param   output
+         *      The output array.
+         * @param   start
+         *      The start of the block.
+         * @param   length
+         *      The length of the block.
+         */
+        public IntegerSampleTask(
+            final IntegerDistribution distribution,
+            final Random random,
+            final int[] output,
+            final int start,
+            final int length)
+        {
+            super();
+
+            this.distribution = distribution;
+            this.random = random;
+            this.output = output;
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public Void call()
+        {
+            this.distribution.sampleInto(this.random, this.output, this.start,
+                this.length);
+            return null;
+        }
+
+    }
+
+}
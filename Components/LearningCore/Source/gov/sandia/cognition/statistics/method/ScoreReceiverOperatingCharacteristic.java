@@ -0,0 +1,537 @@
+/*
+ * File:            ScoreReceiverOperatingCharacteristic.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.method;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import java.util.Arrays;
+
+/**
+ * An ROC curve that is computed directly from arrays of scores and labels.
+ * Unlike {@link ReceiverOperatingCharacteristic}, it does not create a
+ * confusion matrix object per point or run a Mann-Whitney U-test. Instead the
+ * scores of the positive and negative examples are each sorted once, in
+ * parallel, and then merged in a single pass that records the cumulative
+ * true positive and false positive counts at each distinct score. This makes
+ * it practical for very large numbers of scored examples.
+ * <BR><BR>
+ * Point i of the curve is for the classifier that labels an example positive
+ * when its score is greater than or equal to threshold i. The thresholds are
+ * in decreasing order, so the false positive and true positive rates are in
+ * increasing order. The curve implicitly starts at (0, 0). Curves computed on
+ * separate shards of the data can be combined with
+ * {@link #merge(ScoreReceiverOperatingCharacteristic)}. For streaming or
+ * approximate evaluation see {@link BinnedReceiverOperatingCharacteristic}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     ReceiverOperatingCharacteristic
+ */
+@PublicationReference(
+    author="Tom Fawcett",
+    title="An introduction to ROC analysis",
+    type=PublicationType.Journal,
+    publication="Pattern Recognition Letters",
+    year=2006,
+    pages={861, 874}
+)
+public class ScoreReceiverOperatingCharacteristic
+    extends AbstractCloneableSerializable
+    implements Evaluator<Double, Double>
+{
+
+    /** The distinct thresholds, in decreasing order. */
+    protected double[] thresholds;
+
+    /** The number of positive examples at or above each threshold. */
+    protected long[] truePositives;
+
+    /** The number of negative examples at or above each threshold. */
+    protected long[] falsePositives;
+
+    /** The total number of positive examples. */
+    protected long totalPositives;
+
+    /** The total number of negative examples. */
+    protected long totalNegatives;
+
+    /**
+     * Creates a new {@code ScoreReceiverOperatingCharacteristic}.
+     *
+     * @param   thresholds
+     *      The distinct thresholds, in decreasing order.
+     * @param   truePositives
+     *      The number of positive examples at or above each threshold.
+     * @param   falsePositives
+     *      The number of negative examples at or above each threshold.
+     * @param   totalPositives
+     *      The total number of positive examples.
+     * @param   totalNegatives
+     *      The total number of negative examples.
+     */
+    protected ScoreReceiverOperatingCharacteristic(
+        final double[] thresholds,
+        final long[] truePositives,
+        final long[] falsePositives,
+        final long totalPositives,
+        final long totalNegatives)
+    {
+        super();
+
+        this.thresholds = thresholds;
+        this.truePositives = truePositives;
+        this.falsePositives = falsePositives;
+        this.totalPositives = totalPositives;
+        this.totalNegatives = totalNegatives;
+    }
+
+    @Override
+    public ScoreReceiverOperatingCharacteristic clone()
+    {
+        final ScoreReceiverOperatingCharacteristic clone =
+            (ScoreReceiverOperatingCharacteristic) super.clone();
+        clone.thresholds = this.thresholds.clone();
+        clone.truePositives = this.truePositives.clone();
+        clone.falsePositives = this.falsePositives.clone();
+        return clone;
+    }
+
+    /**
+     * Creates an ROC curve from the given scores and labels. The arrays are
+     * not changed.
+     *
+     * @param   scores
+     *      The score of each example. Larger scores mean the example is more
+     *      likely to be positive. Must not contain NaN.
+     * @param   labels
+     *      The label of each example, true for positive. Must be the same
+     *      length as the scores.
+     * @return
+     *      The ROC curve of the scores.
+     */
+    public static ScoreReceiverOperatingCharacteristic create(
+        final double[] scores,
+        final boolean[] labels)
+    {
+        if (scores.length != labels.length)
+        {
+            throw new IllegalArgumentException(
+                "The number of scores and labels must be the same");
+        }
+
+        int positiveCount = 0;
+        for (boolean label : labels)
+        {
+            if (label)
+            {
+                positiveCount++;
+            }
+        }
+
+        // Split the scores by label so that each half can be sorted as a
+        // primitive array.
+        final double[] positives = new double[positiveCount];
+        final double[] negatives = new double[scores.length - positiveCount];
+        int p = 0;
+        int n = 0;
+        for (int i = 0; i < scores.length; i++)
+        {
+            final double score = scores[i];
+            if (Double.isNaN(score))
+            {
+                throw new IllegalArgumentException(
+                    "Score " + i + " is NaN");
+            }
+            else if (labels[i])
+            {
+                positives[p++] = score;
+            }
+            else
+            {
+                negatives[n++] = score;
+            }
+        }
+
+        return createFromClassScores(positives, negatives);
+    }
+
+    /**
+     * Creates an ROC curve from the scores of the positive and negative
+     * examples. The arrays are sorted in place.
+     *
+     * @param   positives
+     *      The scores of the positive examples. Must not contain NaN.
+     * @param   negatives
+     *      The scores of the negative examples. Must not contain NaN.
+     * @return
+     *      The ROC curve of the scores.
+     */
+    public static ScoreReceiverOperatingCharacteristic createFromClassScores(
+        final double[] positives,
+        final double[] negatives)
+    {
+        Arrays.parallelSort(positives);
+        Arrays.parallelSort(negatives);
+
+        // Walk both sorted arrays down from the largest score, emitting one
+        // point per distinct score.
+        final double[] thresholds =
+            new double[positives.length + negatives.length];
+        final long[] truePositives = new long[thresholds.length];
+        final long[] falsePositives = new long[thresholds.length];
+        int p = positives.length - 1;
+        int n = negatives.length - 1;
+        long tp = 0;
+        long fp = 0;
+        int count = 0;
+        while (p >= 0 || n >= 0)
+        {
+            final double threshold = Math.max(
+                p >= 0 ? positives[p] : Double.NEGATIVE_INFINITY,
+                n >= 0 ? negatives[n] : Double.NEGATIVE_INFINITY);
+            while (p >= 0 && positives[p] == threshold)
+            {
+                tp++;
+                p--;
+            }
+            while (n >= 0 && negatives[n] == threshold)
+            {
+                fp++;
+                n--;
+            }
+            thresholds[count] = threshold;
+            truePositives[count] = tp;
+            falsePositives[count] = fp;
+            count++;
+        }
+
+        return new ScoreReceiverOperatingCharacteristic(
+            Arrays.copyOf(thresholds, count),
+            Arrays.copyOf(truePositives, count),
+            Arrays.copyOf(falsePositives, count),
+            positives.length, negatives.length);
+    }
+
+    /**
+     * Merges this curve with one computed on another set of examples. The
+     * result is the same as the curve computed on all of the examples. This
+     * allows curves to be computed on shards of the data and then combined.
+     *
+     * @param   other
+     *      The other curve. It is not changed.
+     * @return
+     *      A new curve for the examples of both curves.
+     */
+    public ScoreReceiverOperatingCharacteristic merge(
+        final ScoreReceiverOperatingCharacteristic other)
+    {
+        final int thisCount = this.thresholds.length;
+        final int otherCount = other.thresholds.length;
+        final double[] thresholds = new double[thisCount + otherCount];
+        final long[] truePositives = new long[thresholds.length];
+        final long[] falsePositives = new long[thresholds.length];
+
+        // Both curves are in decreasing order of threshold, so the cumulative
+        // counts of a curve at a threshold are those of its last point at or
+        // above that threshold.
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < thisCount || j < otherCount)
+        {
+            final double threshold = Math.max(
+                i < thisCount ? this.thresholds[i] : Double.NEGATIVE_INFINITY,
+                j < otherCount ? other.thresholds[j] : Double.NEGATIVE_INFINITY);
+            if (i < thisCount && this.thresholds[i] == threshold)
+            {
+                i++;
+            }
+            if (j < otherCount && other.thresholds[j] == threshold)
+            {
+                j++;
+            }
+            thresholds[count] = threshold;
+            truePositives[count] = (i > 0 ? this.truePositives[i - 1] : 0)
+                + (j > 0 ? other.truePositives[j - 1] : 0);
+            falsePositives[count] = (i > 0 ? this.falsePositives[i - 1] : 0)
+                + (j > 0 ? other.falsePositives[j - 1] : 0);
+            count++;
+        }
+
+        return new ScoreReceiverOperatingCharacteristic(
+            Arrays.copyOf(thresholds, count),
+            Arrays.copyOf(truePositives, count),
+            Arrays.copyOf(falsePositives, count),
+            this.totalPositives + other.totalPositives,
+            this.totalNegatives + other.totalNegatives);
+    }
+
+    /**
+     * Evaluates the "pessimistic" value of the true positive rate for a
+     * given false positive rate, in the same way as
+     * {@link ReceiverOperatingCharacteristic#evaluate(Double)}.
+     *
+     * @param   input
+     *      The false positive rate.
+     * @return
+     *      The true positive rate of the last point whose false positive rate
+     *      is less than or equal to the given one.
+     */
+    @Override
+    public Double evaluate(
+        final Double input)
+    {
+        final double falsePositiveRate = input;
+
+        // The false positive rates are non-decreasing, so binary search for
+        // the last point at or below the given rate.
+        int low = 0;
+        int high = this.thresholds.length - 1;
+        int found = -1;
+        while (low <= high)
+        {
+            final int middle = (low + high) >>> 1;
+            if (this.getFalsePositiveRate(middle) <= falsePositiveRate)
+            {
+                found = middle;
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+        return found < 0 ? 0.0 : this.getTruePositiveRate(found);
+    }
+
+    /**
+     * Computes the area under the ROC curve using the trapezoid rule. This
+     * is the probability that a random positive example has a larger score
+     * than a random negative example, counting ties as one half, which is
+     * the Mann-Whitney U statistic divided by the product of the class
+     * sizes.
+     *
+     * @return
+     *      The area under the curve, on the interval [0, 1]. If one of the
+     *      classes is empty it is 0.5.
+     */
+    public double computeAreaUnderCurve()
+    {
+        if (this.totalPositives <= 0 || this.totalNegatives <= 0)
+        {
+            return 0.5;
+        }
+
+        // Sum twice the trapezoid areas in counts to avoid rounding until
+        // the end.
+        double area = 0.0;
+        long previousTruePositives = 0;
+        long previousFalsePositives = 0;
+        for (int i = 0; i < this.thresholds.length; i++)
+        {
+            final long tp = this.truePositives[i];
+            final long fp = this.falsePositives[i];
+            area += (double) (fp - previousFalsePositives)
+                * (tp + previousTruePositives);
+            previousTruePositives = tp;
+            previousFalsePositives = fp;
+        }
+        return area / (2.0 * this.totalPositives * this.totalNegatives);
+    }
+
+    /**
+     * Computes the average precision, which summarizes the precision-recall
+     * curve as the mean of the precision at each threshold weighted by the
+     * increase in recall at that threshold.
+     *
+     * @return
+     *      The average precision, on the interval [0, 1]. If there are no
+     *      positive examples it is zero.
+     */
+    public double computeAveragePrecision()
+    {
+        if (this.totalPositives <= 0)
+        {
+            return 0.0;
+        }
+
+        double sum = 0.0;
+        long previousTruePositives = 0;
+        for (int i = 0; i < this.thresholds.length; i++)
+        {
+            final long tp = this.truePositives[i];
+            if (tp > previousTruePositives)
+            {
+                sum += (tp - previousTruePositives) * this.getPrecision(i);
+                previousTruePositives = tp;
+            }
+        }
+        return sum / this.totalPositives;
+    }
+
+    /**
+     * Finds the point that maximizes the weighted sum of the true positive
+     * rate and the true negative rate, usually the upper-left "knee" of the
+     * curve.
+     *
+     * @param   truePositiveWeight
+     *      The weight of the true positive rate.
+     * @param   trueNegativeWeight
+     *      The weight of the true negative rate.
+     * @return
+     *      The index of the best point, or -1 if the curve is empty.
+     */
+    public int findOptimalThresholdIndex(
+        final double truePositiveWeight,
+        final double trueNegativeWeight)
+    {
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.thresholds.length; i++)
+        {
+            final double value =
+                truePositiveWeight * this.getTruePositiveRate(i)
+                + trueNegativeWeight * (1.0 - this.getFalsePositiveRate(i));
+            if (value > bestValue)
+            {
+                bestValue = value;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the number of points on the curve, which is the number of
+     * distinct scores.
+     *
+     * @return
+     *      The number of points.
+     */
+    public int getPointCount()
+    {
+        return this.thresholds.length;
+    }
+
+    /**
+     * Gets the threshold of a point.
+     *
+     * @param   index
+     *      The index of the point.
+     * @return
+     *      The threshold of the point.
+     */
+    public double getThreshold(
+        final int index)
+    {
+        return this.thresholds[index];
+    }
+
+    /**
+     * Gets the number of positive examples at or above the threshold of a
+     * point.
+     *
+     * @param   index
+     *      The index of the point.
+     * @return
+     *      The number of true positives.
+     */
+    public long getTruePositivesCount(
+        final int index)
+    {
+        return this.truePositives[index];
+    }
+
+    /**
+     * Gets the number of negative examples at or above the threshold of a
+     * point.
+     *
+     * @param   index
+     *      The index of the point.
+     * @return
+     *      The number of false positives.
+     */
+    public long getFalsePositivesCount(
+        final int index)
+    {
+        return this.falsePositives[index];
+    }
+
+    /**
+     * Gets the true positive rate (recall) of a point.
+     *
+     * @param   index
+     *      The index of the point.
+     * @return
+     *      The true positive rate, or zero if there are no positives.
+     */
+    public double getTruePositiveRate(
+        final int index)
+    {
+        return this.totalPositives <= 0 ? 0.0
+            : (double) this.truePositives[index] / this.totalPositives;
+    }
+
+    /**
+     * Gets the false positive rate of a point.
+     *
+     * @param   index
+     *      The index of the point.
+     * @return
+     *      The false positive rate, or zero if there are no negatives.
+     */
+    public double getFalsePositiveRate(
+        final int index)
+    {
+        return this.totalNegatives <= 0 ? 0.0
+            : (double) this.falsePositives[index] / this.totalNegatives;
+    }
+
+    /**
+     * Gets the precision of a point.
+     *
+     * @param   index
+     *      The index of the point.
+     * @return
+     *      The fraction of the examples at or above the threshold that are
+     *      positive.
+     */
+    public double getPrecision(
+        final int index)
+    {
+        final long tp = this.truePositives[index];
+        final long total = tp + this.falsePositives[index];
+        return total <= 0 ? 0.0 : (double) tp / total;
+    }
+
+    /**
+     * Gets the total number of positive examples.
+     *
+     * @return
+     *      The number of positive examples.
+     */
+    public long getTotalPositives()
+    {
+        return this.totalPositives;
+    }
+
+    /**
+     * Gets the total number of negative examples.
+     *
+     * @return
+     *      The number of negative examples.
+     */
+    public long getTotalNegatives()
+    {
+        return this.totalNegatives;
+    }
+
+}
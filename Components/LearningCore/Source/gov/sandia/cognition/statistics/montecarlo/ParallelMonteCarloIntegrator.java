@@ -0,0 +1,984 @@
+/*
+ * File:            ParallelMonteCarloIntegrator.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.montecarlo;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.statistics.distribution.UnivariateGaussian;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import gov.sandia.cognition.util.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A parallel Monte Carlo integrator that estimates the integral of a scalar
+ * function over the unit hypercube, which is its expectation under uniform
+ * samples. To integrate against another distribution, compose the function
+ * with a transform of the uniform samples, such as the inverse CDF of each
+ * dimension.
+ * <BR><BR>
+ * Unlike {@link UnivariateMonteCarloIntegrator}, the samples are never
+ * stored. The points are split into a fixed number of streams, each with its
+ * own running accumulator of the first and second moments. Each round adds a
+ * block of points to every stream in parallel and then merges the
+ * accumulators to update the estimate and its standard error. Integration
+ * stops once the standard error reaches the target or the maximum number of
+ * evaluations is used. Since the streams do not depend on the number of
+ * threads, the result is the same for a given seed on any thread pool.
+ * <BR><BR>
+ * Three variance-reduction options are supported:
+ * <UL>
+ * <LI>Antithetic variates: each point u is paired with 1 - u and the two
+ * values are averaged, which cancels the linear part of the function.</LI>
+ * <LI>A control variate: a function with a known mean whose fitted multiple
+ * is subtracted from the integrand, which removes the part of the variance
+ * that is correlated with it.</LI>
+ * <LI>Quasi-random points: each stream is a copy of a {@link SobolSequence}
+ * with its own random digital shift. The error is then estimated from the
+ * spread of the stream estimates, since the points within a stream are not
+ * independent.</LI>
+ * </UL>
+ * The integrand and control variate are called from several threads at
+ * once, so they must be thread-safe. The vector passed to them is reused
+ * for the next point, so they must not keep a reference to it.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     UnivariateMonteCarloIntegrator
+ */
+@PublicationReferences(
+    references={
+        @PublicationReference(
+            author={
+                "Christian P. Robert",
+                "George Casella"
+            },
+            title="Monte Carlo Statistical Methods, Second Edition",
+            type=PublicationType.Book,
+            year=2004
+        ),
+        @PublicationReference(
+            author="Art B. Owen",
+            title="Monte Carlo theory, methods and examples",
+            type=PublicationType.Book,
+            year=2013,
+            url="https://artowen.su.domains/mc/"
+        )
+    }
+)
+public class ParallelMonteCarloIntegrator
+    extends AbstractCloneableSerializable
+    implements Randomized, ParallelAlgorithm
+{
+
+    /**
+     * The ways of generating the points.
+     */
+    public enum SamplingMethod
+    {
+
+        /** Independent uniform samples from a pseudo-random generator. */
+        PSEUDO_RANDOM,
+
+        /** Randomly shifted copies of a Sobol sequence. */
+        SOBOL
+
+    }
+
+    /** The default sampling method is {@code PSEUDO_RANDOM}. */
+    public static final SamplingMethod DEFAULT_SAMPLING_METHOD =
+        SamplingMethod.PSEUDO_RANDOM;
+
+    /** The default number of streams, {@value}. */
+    public static final int DEFAULT_STREAM_COUNT = 16;
+
+    /** The default number of points added to each stream per round, {@value}. */
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    /** The default maximum number of function evaluations, {@value}. */
+    public static final long DEFAULT_MAX_EVALUATIONS = 1000000L;
+
+    /** The default target standard error, {@value}. */
+    public static final double DEFAULT_TARGET_STANDARD_ERROR = 0.0;
+
+    /** The dimensionality of the hypercube. */
+    protected int dimensionality;
+
+    /** The method for generating the points. */
+    protected SamplingMethod samplingMethod;
+
+    /** True to use antithetic pairs of points. */
+    protected boolean antithetic;
+
+    /** The control variate, or null to not use one. */
+    protected Evaluator<? super Vector, ? extends Number> controlVariate;
+
+    /** The known mean of the control variate over the hypercube. */
+    protected double controlVariateMean;
+
+    /** The number of streams. */
+    protected int streamCount;
+
+    /** The number of points added to each stream per round. */
+    protected int blockSize;
+
+    /** The maximum number of function evaluations. */
+    protected long maxEvaluations;
+
+    /**
+     * The standard error at which to stop. Zero means to use all of the
+     * evaluations.
+     */
+    protected double targetStandardError;
+
+    /** The random number generator. */
+    protected Random random;
+
+    /** The thread pool. */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new {@code ParallelMonteCarloIntegrator} with default
+     * parameters.
+     *
+     * @param   dimensionality
+     *      The dimensionality of the hypercube. Must be positive.
+     */
+    public ParallelMonteCarloIntegrator(
+        final int dimensionality)
+    {
+        this(dimensionality, DEFAULT_SAMPLING_METHOD, new Random());
+    }
+
+    /**
+     * Creates a new {@code ParallelMonteCarloIntegrator}.
+     *
+     * @param   dimensionality
+     *      The dimensionality of the hypercube. Must be positive.
+     * @param   samplingMethod
+     *      The method for generating the points.
+     * @param   random
+     *      The random number generator.
+     */
+    public ParallelMonteCarloIntegrator(
+        final int dimensionality,
+        final SamplingMethod samplingMethod,
+        final Random random)
+    {
+        super();
+
+        this.setDimensionality(dimensionality);
+        this.setSamplingMethod(samplingMethod);
+        this.setAntithetic(false);
+        this.setControlVariate(null, 0.0);
+        this.setStreamCount(DEFAULT_STREAM_COUNT);
+        this.setBlockSize(DEFAULT_BLOCK_SIZE);
+        this.setMaxEvaluations(DEFAULT_MAX_EVALUATIONS);
+        this.setTargetStandardError(DEFAULT_TARGET_STANDARD_ERROR);
+        this.setRandom(random);
+    }
+
+    @Override
+    public ParallelMonteCarloIntegrator clone()
+    {
+        final ParallelMonteCarloIntegrator clone =
+            (ParallelMonteCarloIntegrator) super.clone();
+        clone.random = ObjectUtil.cloneSmart(this.random);
+        clone.threadPool = null;
+        return clone;
+    }
+
+    /**
+     * Integrates the given function over the unit hypercube.
+     *
+     * @param   function
+     *      The function to integrate. It must be thread-safe.
+     * @return
+     *      The estimate of the integral and its standard error.
+     */
+    public Result integrate(
+        final Evaluator<? super Vector, ? extends Number> function)
+    {
+        if (this.samplingMethod == SamplingMethod.SOBOL
+            && this.dimensionality > SobolSequence.MAX_DIMENSIONALITY)
+        {
+            throw new IllegalStateException("Sobol sampling supports at most "
+                + SobolSequence.MAX_DIMENSIONALITY + " dimensions");
+        }
+
+        final int evaluationsPerPoint = (this.antithetic ? 2 : 1);
+        if (this.maxEvaluations < evaluationsPerPoint)
+        {
+            throw new IllegalStateException(
+                "maxEvaluations must allow at least one point");
+        }
+
+        final SplitMixRandom root = new SplitMixRandom(this.random.nextLong());
+        final ArrayList<StreamTask> tasks =
+            new ArrayList<StreamTask>(this.streamCount);
+        for (int i = 0; i < this.streamCount; i++)
+        {
+            final StreamTask task = new StreamTask(function);
+            if (this.samplingMethod == SamplingMethod.SOBOL)
+            {
+                task.sequence = new SobolSequence(this.dimensionality);
+                task.sequence.randomizeShift(root);
+            }
+            else
+            {
+                task.random = root.split();
+            }
+            tasks.add(task);
+        }
+
+        long evaluations = 0;
+        int rounds = 0;
+        Result result = null;
+        while (result == null || !result.isConverged())
+        {
+            // Clamp the round to the remaining budget. When it is less than a
+            // point per stream, the first streams get one point each.
+            final long remainingPoints =
+                (this.maxEvaluations - evaluations) / evaluationsPerPoint;
+            if (remainingPoints <= 0)
+            {
+                break;
+            }
+            final int pointCount = (int) Math.min(this.blockSize,
+                remainingPoints / this.streamCount);
+            if (this.samplingMethod == SamplingMethod.SOBOL
+                && tasks.get(0).accumulator.count + Math.max(1, pointCount)
+                    > SobolSequence.MAX_INDEX)
+            {
+                break;
+            }
+
+            long roundPoints = 0;
+            for (int i = 0; i < this.streamCount; i++)
+            {
+                final StreamTask task = tasks.get(i);
+                task.pointCount = pointCount > 0 ? pointCount
+                    : (i < remainingPoints ? 1 : 0);
+                roundPoints += task.pointCount;
+            }
+            this.execute(tasks);
+            evaluations += roundPoints * evaluationsPerPoint;
+            rounds++;
+            result = this.computeResult(tasks, evaluations, rounds);
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs one round of the stream tasks.
+     *
+     * @param   tasks
+     *      The tasks to run.
+     */
+    protected void execute(
+        final ArrayList<StreamTask> tasks)
+    {
+        if (tasks.size() <= 1)
+        {
+            for (StreamTask task : tasks)
+            {
+                task.call();
+            }
+            return;
+        }
+
+        try
+        {
+            ParallelUtil.executeInParallel(tasks, this.getThreadPool());
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Computes the current estimate from the accumulators of the streams.
+     *
+     * @param   tasks
+     *      The stream tasks.
+     * @param   evaluations
+     *      The number of function evaluations so far.
+     * @param   rounds
+     *      The number of rounds so far.
+     * @return
+     *      The current result.
+     */
+    protected Result computeResult(
+        final ArrayList<StreamTask> tasks,
+        final long evaluations,
+        final int rounds)
+    {
+        final MomentAccumulator total = new MomentAccumulator();
+        for (StreamTask task : tasks)
+        {
+            total.merge(task.accumulator);
+        }
+
+        // The optimal coefficient of the control variate is the ratio of its
+        // covariance with the function to its variance.
+        double coefficient = 0.0;
+        if (this.controlVariate != null && total.squaredControlDifferences > 0.0)
+        {
+            coefficient = total.coDifferences / total.squaredControlDifferences;
+        }
+        final double mean = total.valueMean
+            - coefficient * (total.controlMean - this.controlVariateMean);
+
+        double variance;
+        if (this.samplingMethod == SamplingMethod.SOBOL)
+        {
+            // The points in a stream are dependent, so use the spread of the
+            // independently shifted stream estimates. Streams without points
+            // yet have no estimate.
+            int n = 0;
+            double sum = 0.0;
+            for (StreamTask task : tasks)
+            {
+                final MomentAccumulator a = task.accumulator;
+                if (a.count <= 0)
+                {
+                    continue;
+                }
+                n++;
+                final double delta = a.valueMean
+                    - coefficient * (a.controlMean - this.controlVariateMean)
+                    - mean;
+                sum += delta * delta;
+            }
+            variance = n > 1 ? sum / ((double) n * (n - 1)) : Double.POSITIVE_INFINITY;
+        }
+        else
+        {
+            final long n = total.count;
+            final double residual = total.squaredValueDifferences
+                - 2.0 * coefficient * total.coDifferences
+                + coefficient * coefficient * total.squaredControlDifferences;
+            variance = n > 1
+                ? Math.max(0.0, residual) / ((double) (n - 1) * n)
+                : Double.POSITIVE_INFINITY;
+        }
+
+        final boolean converged = this.targetStandardError > 0.0
+            && Math.sqrt(variance) <= this.targetStandardError;
+        return new Result(mean, variance, evaluations, rounds, coefficient,
+            converged);
+    }
+
+    /**
+     * Gets the dimensionality of the hypercube.
+     *
+     * @return
+     *      The dimensionality.
+     */
+    public int getDimensionality()
+    {
+        return this.dimensionality;
+    }
+
+    /**
+     * Sets the dimensionality of the hypercube.
+     *
+     * @param   dimensionality
+     *      The dimensionality. Must be positive.
+     */
+    public void setDimensionality(
+        final int dimensionality)
+    {
+        ArgumentChecker.assertIsPositive("dimensionality", dimensionality);
+        this.dimensionality = dimensionality;
+    }
+
+    /**
+     * Gets the method for generating the points.
+     *
+     * @return
+     *      The sampling method.
+     */
+    public SamplingMethod getSamplingMethod()
+    {
+        return this.samplingMethod;
+    }
+
+    /**
+     * Sets the method for generating the points.
+     *
+     * @param   samplingMethod
+     *      The sampling method. Cannot be null.
+     */
+    public void setSamplingMethod(
+        final SamplingMethod samplingMethod)
+    {
+        ArgumentChecker.assertIsNotNull("samplingMethod", samplingMethod);
+        this.samplingMethod = samplingMethod;
+    }
+
+    /**
+     * Gets whether antithetic pairs of points are used.
+     *
+     * @return
+     *      True if antithetic pairs are used.
+     */
+    public boolean isAntithetic()
+    {
+        return this.antithetic;
+    }
+
+    /**
+     * Sets whether antithetic pairs of points are used. Each point u is then
+     * paired with 1 - u.
+     *
+     * @param   antithetic
+     *      True to use antithetic pairs.
+     */
+    public void setAntithetic(
+        final boolean antithetic)
+    {
+        this.antithetic = antithetic;
+    }
+
+    /**
+     * Gets the control variate.
+     *
+     * @return
+     *      The control variate, or null if none is used.
+     */
+    public Evaluator<? super Vector, ? extends Number> getControlVariate()
+    {
+        return this.controlVariate;
+    }
+
+    /**
+     * Gets the known mean of the control variate.
+     *
+     * @return
+     *      The mean of the control variate over the hypercube.
+     */
+    public double getControlVariateMean()
+    {
+        return this.controlVariateMean;
+    }
+
+    /**
+     * Sets the control variate and its known mean. The control variate
+     * should be correlated with the function being integrated. It must be
+     * thread-safe.
+     *
+     * @param   controlVariate
+     *      The control variate, or null to not use one.
+     * @param   controlVariateMean
+     *      The mean of the control variate over the hypercube.
+     */
+    public void setControlVariate(
+        final Evaluator<? super Vector, ? extends Number> controlVariate,
+        final double controlVariateMean)
+    {
+        this.controlVariate = controlVariate;
+        this.controlVariateMean = controlVariateMean;
+    }
+
+    /**
+     * Gets the number of streams.
+     *
+     * @return
+     *      The number of streams.
+     */
+    public int getStreamCount()
+    {
+        return this.streamCount;
+    }
+
+    /**
+     * Sets the number of streams. It bounds the number of threads that can
+     * be used and, for Sobol sampling, is the number of independent
+     * estimates used for the standard error.
+     *
+     * @param   streamCount
+     *      The number of streams. Must be positive.
+     */
+    public void setStreamCount(
+        final int streamCount)
+    {
+        ArgumentChecker.assertIsPositive("streamCount", streamCount);
+        this.streamCount = streamCount;
+    }
+
+    /**
+     * Gets the number of points added to each stream per round.
+     *
+     * @return
+     *      The block size.
+     */
+    public int getBlockSize()
+    {
+        return this.blockSize;
+    }
+
+    /**
+     * Sets the number of points added to each stream per round. The error
+     * is checked after each round.
+     *
+     * @param   blockSize
+     *      The block size. Must be positive.
+     */
+    public void setBlockSize(
+        final int blockSize)
+    {
+        ArgumentChecker.assertIsPositive("blockSize", blockSize);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Gets the maximum number of function evaluations.
+     *
+     * @return
+     *      The maximum number of evaluations.
+     */
+    public long getMaxEvaluations()
+    {
+        return this.maxEvaluations;
+    }
+
+    /**
+     * Sets the maximum number of function evaluations. It is never exceeded:
+     * the last round is shortened to fit the remaining evaluations. With
+     * antithetic variates each point takes two evaluations, so it must be at
+     * least two.
+     *
+     * @param   maxEvaluations
+     *      The maximum number of evaluations. Must be positive.
+     */
+    public void setMaxEvaluations(
+        final long maxEvaluations)
+    {
+        ArgumentChecker.assertIsPositive("maxEvaluations", maxEvaluations);
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    /**
+     * Gets the standard error at which to stop.
+     *
+     * @return
+     *      The target standard error.
+     */
+    public double getTargetStandardError()
+    {
+        return this.targetStandardError;
+    }
+
+    /**
+     * Sets the standard error at which to stop.
+     *
+     * @param   targetStandardError
+     *      The target standard error. Zero means to use all of the
+     *      evaluations. Cannot be negative.
+     */
+    public void setTargetStandardError(
+        final double targetStandardError)
+    {
+        ArgumentChecker.assertIsNonNegative("targetStandardError",
+            targetStandardError);
+        this.targetStandardError = targetStandardError;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * The result of an integration.
+     */
+    public static class Result
+        extends AbstractCloneableSerializable
+    {
+
+        /** The estimate of the integral. */
+        protected double mean;
+
+        /** The variance of the estimate. */
+        protected double variance;
+
+        /** The number of function evaluations used. */
+        protected long evaluations;
+
+        /** The number of rounds run. */
+        protected int rounds;
+
+        /** The fitted coefficient of the control variate. */
+        protected double controlVariateCoefficient;
+
+        /** True if the target standard error was reached. */
+        protected boolean converged;
+
+        /**
+         * Creates a new {@code Result}.
+         *
+         * @param   mean
+         *      The estimate of the integral.
+         * @param   variance
+         *      The variance of the estimate.
+         * @param   evaluations
+         *      The number of function evaluations used.
+         * @param   rounds
+         *      The number of rounds run.
+         * @param   controlVariateCoefficient
+         *      The fitted coefficient of the control variate.
+         * @param   converged
+         *      True if the target standard error was reached.
+         */
+        public Result(
+            final double mean,
+            final double variance,
+            final long evaluations,
+            final int rounds,
+            final double controlVariateCoefficient,
+            final boolean converged)
+        {
+            super();
+
+            this.mean = mean;
+            this.variance = variance;
+            this.evaluations = evaluations;
+            this.rounds = rounds;
+            this.controlVariateCoefficient = controlVariateCoefficient;
+            this.converged = converged;
+        }
+
+        /**
+         * Creates a Gaussian for the estimate, in the same form as
+         * {@link UnivariateMonteCarloIntegrator}.
+         *
+         * @return
+         *      A Gaussian with the mean and variance of the estimate.
+         */
+        public UnivariateGaussian.PDF toGaussian()
+        {
+            return new UnivariateGaussian.PDF(this.mean, this.variance);
+        }
+
+        /**
+         * Gets the estimate of the integral.
+         *
+         * @return
+         *      The estimate of the integral.
+         */
+        public double getMean()
+        {
+            return this.mean;
+        }
+
+        /**
+         * Gets the variance of the estimate.
+         *
+         * @return
+         *      The variance of the estimate.
+         */
+        public double getVariance()
+        {
+            return this.variance;
+        }
+
+        /**
+         * Gets the standard error of the estimate.
+         *
+         * @return
+         *      The standard error of the estimate.
+         */
+        public double getStandardError()
+        {
+            return Math.sqrt(this.variance);
+        }
+
+        /**
+         * Gets the number of function evaluations used. The control variate
+         * evaluations are not counted.
+         *
+         * @return
+         *      The number of evaluations.
+         */
+        public long getEvaluations()
+        {
+            return this.evaluations;
+        }
+
+        /**
+         * Gets the number of rounds run.
+         *
+         * @return
+         *      The number of rounds.
+         */
+        public int getRounds()
+        {
+            return this.rounds;
+        }
+
+        /**
+         * Gets the fitted coefficient of the control variate.
+         *
+         * @return
+         *      The control variate coefficient. Zero if there is none.
+         */
+        public double getControlVariateCoefficient()
+        {
+            return this.controlVariateCoefficient;
+        }
+
+        /**
+         * Gets whether the target standard error was reached.
+         *
+         * @return
+         *      True if the target standard error was reached.
+         */
+        public boolean isConverged()
+        {
+            return this.converged;
+        }
+
+    }
+
+    /**
+     * Running means and co-moments of the function value and the control
+     * variate, updated with Welford's method and merged with the pairwise
+     * formula of Chan et al.
+     */
+    protected static class MomentAccumulator
+        extends Object
+    {
+
+        /** The number of values. */
+        protected long count;
+
+        /** The mean of the function values. */
+        protected double valueMean;
+
+        /** The mean of the control variate values. */
+        protected double controlMean;
+
+        /** The sum of squared differences of the function values. */
+        protected double squaredValueDifferences;
+
+        /** The sum of squared differences of the control variate values. */
+        protected double squaredControlDifferences;
+
+        /** The sum of the products of the differences of the two. */
+        protected double coDifferences;
+
+        /**
+         * Creates a new, empty {@code MomentAccumulator}.
+         */
+        public MomentAccumulator()
+        {
+            super();
+        }
+
+        /**
+         * Adds a pair of values.
+         *
+         * @param   value
+         *      The function value.
+         * @param   control
+         *      The control variate value.
+         */
+        public void add(
+            final double value,
+            final double control)
+        {
+            this.count++;
+            final double valueDelta = value - this.valueMean;
+            final double controlDelta = control - this.controlMean;
+            this.valueMean += valueDelta / this.count;
+            this.controlMean += controlDelta / this.count;
+            this.squaredValueDifferences += valueDelta
+                * (value - this.valueMean);
+            this.squaredControlDifferences += controlDelta
+                * (control - this.controlMean);
+            this.coDifferences += valueDelta * (control - this.controlMean);
+        }
+
+        /**
+         * Merges another accumulator into this one.
+         *
+         * @param   other
+         *      The accumulator to merge in.
+         */
+        public void merge(
+            final MomentAccumulator other)
+        {
+            if (other.count == 0)
+            {
+                return;
+            }
+
+            final long total = this.count + other.count;
+            final double valueDelta = other.valueMean - this.valueMean;
+            final double controlDelta = other.controlMean - this.controlMean;
+            final double factor = (double) this.count * other.count / total;
+            this.valueMean += valueDelta * other.count / total;
+            this.controlMean += controlDelta * other.count / total;
+            this.squaredValueDifferences += other.squaredValueDifferences
+                + valueDelta * valueDelta * factor;
+            this.squaredControlDifferences += other.squaredControlDifferences
+                + controlDelta * controlDelta * factor;
+            this.coDifferences += other.coDifferences
+                + valueDelta * controlDelta * factor;
+            this.count = total;
+        }
+
+    }
+
+    /**
+     * Adds a block of points to one stream.
+     */
+    protected class StreamTask
+        extends Object
+        implements Callable<Void>
+    {
+
+        /** The function to integrate. */
+        protected final Evaluator<? super Vector, ? extends Number> function;
+
+        /** The accumulator of the stream. */
+        protected final MomentAccumulator accumulator;
+
+        /** The point passed to the functions. */
+        protected final Vector point;
+
+        /** The antithetic point passed to the functions. */
+        protected final Vector reflected;
+
+        /** The coordinates of the current point. */
+        protected final double[] coordinates;
+
+        /** The random number generator of a pseudo-random stream. */
+        protected Random random;
+
+        /** The sequence of a Sobol stream. */
+        protected SobolSequence sequence;
+
+        /** The number of points to add in the next call. */
+        protected int pointCount;
+
+        /**
+         * Creates a new {@code StreamTask}.
+         *
+         * @param   function
+         *      The function to integrate.
+         */
+        public StreamTask(
+            final Evaluator<? super Vector, ? extends Number> function)
+        {
+            super();
+
+            final int d = dimensionality;
+            this.function = function;
+            this.accumulator = new MomentAccumulator();
+            this.point = VectorFactory.getDenseDefault().createVector(d);
+            this.reflected = VectorFactory.getDenseDefault().createVector(d);
+            this.coordinates = new double[d];
+        }
+
+        @Override
+        public Void call()
+        {
+            final int d = this.coordinates.length;
+            for (int n = 0; n < this.pointCount; n++)
+            {
+                if (this.sequence != null)
+                {
+                    this.sequence.nextInto(this.coordinates);
+                }
+                else
+                {
+                    for (int i = 0; i < d; i++)
+                    {
+                        this.coordinates[i] = this.random.nextDouble();
+                    }
+                }
+
+                for (int i = 0; i < d; i++)
+                {
+                    this.point.setElement(i, this.coordinates[i]);
+                }
+                double value = this.function.evaluate(this.point).doubleValue();
+                double control = (controlVariate == null) ? 0.0
+                    : controlVariate.evaluate(this.point).doubleValue();
+
+                if (antithetic)
+                {
+                    for (int i = 0; i < d; i++)
+                    {
+                        this.reflected.setElement(i, 1.0 - this.coordinates[i]);
+                    }
+                    value = 0.5 * (value
+                        + this.function.evaluate(this.reflected).doubleValue());
+                    if (controlVariate != null)
+                    {
+                        control = 0.5 * (control + controlVariate.evaluate(
+                            this.reflected).doubleValue());
+                    }
+                }
+
+                this.accumulator.add(value, control);
+            }
+            return null;
+        }
+
+    }
+
+}
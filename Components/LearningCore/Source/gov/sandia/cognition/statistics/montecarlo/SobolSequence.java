@@ -0,0 +1,323 @@
+/*
+ * File:            SobolSequence.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.montecarlo;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import java.util.Random;
+
+/**
+ * Generates the points of a Sobol low-discrepancy sequence in the unit
+ * hypercube. The points fill the hypercube more evenly than independent
+ * uniform samples, so averages over them converge at close to a rate of
+ * 1/n for smooth integrands instead of 1/sqrt(n).
+ * <BR><BR>
+ * The points are generated in Gray-code order with 32 bits of precision, so
+ * each point after the first costs one exclusive-or per dimension. The
+ * sequence can jump to any index, which lets parallel tasks generate disjoint
+ * ranges of it. Each point is placed at the center of its 2^-32 cell so that
+ * no coordinate is exactly zero or one.
+ * <BR><BR>
+ * A random digital shift, which exclusive-ors each coordinate with a fixed
+ * random bit pattern, can be applied to randomize the sequence. A shifted
+ * sequence keeps its even spacing, and averages over independently shifted
+ * copies are independent, unbiased estimates that can be used to estimate
+ * the integration error.
+ * <BR><BR>
+ * The direction numbers are those of Joe and Kuo, which are provided for up
+ * to {@link #MAX_DIMENSIONALITY} dimensions.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+@PublicationReferences(
+    references={
+        @PublicationReference(
+            author={"Paul Bratley", "Bennett L. Fox"},
+            title="Algorithm 659: Implementing Sobol's quasirandom sequence generator",
+            type=PublicationType.Journal,
+            publication="ACM Transactions on Mathematical Software",
+            year=1988,
+            pages={88, 100}
+        ),
+        @PublicationReference(
+            author={"Stephen Joe", "Frances Y. Kuo"},
+            title="Constructing Sobol sequences with better two-dimensional projections",
+            type=PublicationType.Journal,
+            publication="SIAM Journal on Scientific Computing",
+            year=2008,
+            pages={2635, 2654}
+        )
+    }
+)
+public class SobolSequence
+    extends AbstractCloneableSerializable
+{
+
+    /** The number of bits of precision in each coordinate. */
+    private static final int BITS = 32;
+
+    /** The scale that maps the integer coordinates into [0, 1). */
+    private static final double SCALE = 0x1.0p-32;
+
+    /**
+     * The maximum index that can be generated plus one. Beyond it the
+     * sequence would repeat.
+     */
+    public static final long MAX_INDEX = 1L << BITS;
+
+    /**
+     * The primitive polynomials and initial direction numbers of the
+     * dimensions after the first. Each row is the degree s of the polynomial,
+     * its interior coefficients a, and then the s initial direction numbers.
+     */
+    private static final int[][] DIRECTION_PARAMETERS = {
+        { 1, 0, 1 },
+        { 2, 1, 1, 3 },
+        { 3, 1, 1, 3, 1 },
+        { 3, 2, 1, 1, 1 },
+        { 4, 1, 1, 1, 3, 3 },
+        { 4, 4, 1, 3, 5, 13 },
+        { 5, 2, 1, 1, 5, 5, 17 },
+        { 5, 4, 1, 1, 5, 5, 5 },
+        { 5, 7, 1, 1, 7, 11, 19 },
+        { 5, 11, 1, 1, 5, 1, 1 },
+        { 5, 13, 1, 1, 1, 3, 11 },
+        { 5, 14, 1, 3, 5, 5, 31 },
+        { 6, 1, 1, 3, 3, 9, 7, 49 },
+        { 6, 13, 1, 1, 1, 15, 21, 21 },
+        { 6, 16, 1, 3, 1, 13, 27, 49 }
+    };
+
+    /**
+     * The maximum dimensionality supported, {@value}.
+     */
+    public static final int MAX_DIMENSIONALITY = 16;
+
+    /**
+     * The direction numbers, indexed by dimension and then by bit.
+     */
+    protected int[][] directions;
+
+    /**
+     * The digital shift of each dimension.
+     */
+    protected int[] shift;
+
+    /**
+     * The unshifted integer coordinates of the current point.
+     */
+    protected int[] current;
+
+    /**
+     * The index of the next point to generate.
+     */
+    protected long index;
+
+    /**
+     * Creates a new {@code SobolSequence} of the given dimensionality that
+     * starts at index zero without a shift.
+     *
+     * @param   dimensionality
+     *      The dimensionality of the points. Must be between 1 and
+     *      {@link #MAX_DIMENSIONALITY}.
+     */
+    public SobolSequence(
+        final int dimensionality)
+    {
+        super();
+
+        ArgumentChecker.assertIsInRangeInclusive("dimensionality",
+            dimensionality, 1, MAX_DIMENSIONALITY);
+
+        this.directions = new int[dimensionality][BITS];
+        for (int k = 0; k < BITS; k++)
+        {
+            this.directions[0][k] = 1 << (BITS - 1 - k);
+        }
+        for (int d = 1; d < dimensionality; d++)
+        {
+            final int[] parameters = DIRECTION_PARAMETERS[d - 1];
+            final int s = parameters[0];
+            final int a = parameters[1];
+            final int[] v = this.directions[d];
+            for (int k = 0; k < s; k++)
+            {
+                v[k] = parameters[2 + k] << (BITS - 1 - k);
+            }
+            for (int k = s; k < BITS; k++)
+            {
+                v[k] = v[k - s] ^ (v[k - s] >>> s);
+                for (int j = 1; j < s; j++)
+                {
+                    if (((a >>> (s - 1 - j)) & 1) != 0)
+                    {
+                        v[k] ^= v[k - j];
+                    }
+                }
+            }
+        }
+
+        this.shift = new int[dimensionality];
+        this.current = new int[dimensionality];
+        this.index = 0;
+    }
+
+    @Override
+    public SobolSequence clone()
+    {
+        final SobolSequence clone = (SobolSequence) super.clone();
+        // The direction numbers are never modified, so they can be shared.
+        clone.shift = this.shift.clone();
+        clone.current = this.current.clone();
+        return clone;
+    }
+
+    /**
+     * Writes the next point of the sequence into the given array and
+     * advances the index.
+     *
+     * @param   point
+     *      The array to write the point into. Its length must be at least the
+     *      dimensionality.
+     */
+    public void nextInto(
+        final double[] point)
+    {
+        if (this.index >= MAX_INDEX)
+        {
+            throw new IllegalStateException(
+                "The sequence has no more points.");
+        }
+
+        if (this.index > 0)
+        {
+            // Moving to the next Gray code flips the bit at the lowest set
+            // bit of the index.
+            final int bit = Long.numberOfTrailingZeros(this.index);
+            for (int d = 0; d < this.current.length; d++)
+            {
+                this.current[d] ^= this.directions[d][bit];
+            }
+        }
+
+        for (int d = 0; d < this.current.length; d++)
+        {
+            point[d] = (((this.current[d] ^ this.shift[d]) & 0xFFFFFFFFL)
+                + 0.5) * SCALE;
+        }
+        this.index++;
+    }
+
+    /**
+     * Sets a random digital shift for each dimension.
+     *
+     * @param   random
+     *      The random number generator to use.
+     */
+    public void randomizeShift(
+        final Random random)
+    {
+        for (int d = 0; d < this.shift.length; d++)
+        {
+            this.shift[d] = random.nextInt();
+        }
+    }
+
+    /**
+     * Gets the dimensionality of the points.
+     *
+     * @return
+     *      The dimensionality.
+     */
+    public int getDimensionality()
+    {
+        return this.shift.length;
+    }
+
+    /**
+     * Gets the index of the next point to generate.
+     *
+     * @return
+     *      The index of the next point.
+     */
+    public long getIndex()
+    {
+        return this.index;
+    }
+
+    /**
+     * Sets the index of the next point to generate.
+     *
+     * @param   index
+     *      The index of the next point. Must be between zero and
+     *      {@link #MAX_INDEX}.
+     */
+    public void setIndex(
+        final long index)
+    {
+        if (index < 0 || index > MAX_INDEX)
+        {
+            throw new IllegalArgumentException(
+                "index must be between 0 and " + MAX_INDEX);
+        }
+
+        // The coordinates before a point are those of the previous Gray code,
+        // since nextInto applies the step into the index.
+        final long previous = Math.max(0L, index - 1);
+        final long gray = previous ^ (previous >>> 1);
+        for (int d = 0; d < this.current.length; d++)
+        {
+            int x = 0;
+            for (int k = 0; k < BITS; k++)
+            {
+                if (((gray >>> k) & 1L) != 0L)
+                {
+                    x ^= this.directions[d][k];
+                }
+            }
+            this.current[d] = x;
+        }
+        this.index = index;
+    }
+
+    /**
+     * Gets the digital shift of each dimension.
+     *
+     * @return
+     *      The digital shift.
+     */
+    public int[] getShift()
+    {
+        return this.shift;
+    }
+
+    /**
+     * Sets the digital shift of each dimension. A shift of zero gives the
+     * original sequence.
+     *
+     * @param   shift
+     *      The digital shift. Its length must equal the dimensionality.
+     */
+    public void setShift(
+        final int[] shift)
+    {
+        if (shift.length != this.current.length)
+        {
+            throw new IllegalArgumentException(
+                "shift must have length " + this.current.length);
+        }
+
+        this.shift = shift;
+    }
+
+}
@@ -21,10 +21,15 @@ import gov.sandia.cognition.learning.algorithm.clustering.initializer.GreedyClus
 import gov.sandia.cognition.learning.function.distance.EuclideanDistanceMetric;
 import gov.sandia.cognition.learning.algorithm.clustering.cluster.VectorMeanCentroidClusterCreator;
 import gov.sandia.cognition.learning.algorithm.clustering.initializer.FixedClusterInitializer;
+import gov.sandia.cognition.learning.data.ColumnarDataset;
+import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.math.matrix.VectorFactory;
 import gov.sandia.cognition.math.matrix.Vector;
 import gov.sandia.cognition.math.matrix.mtj.Vector2;
 import gov.sandia.cognition.util.NamedValue;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Random;
 import junit.framework.TestCase;
@@ -260,4 +265,48 @@ public class KMeansClustererTest
         Collection<CentroidCluster<Vector>> result = instance.learn(data);
     }
 
+    /**
+     * Tests that assigning the inputs of a columnar dataset gives the same
+     * assignments as assigning the equivalent list of vectors.
+     */
+    public void testAssignDataToClustersColumnar()
+    {
+        final ArrayList<InputOutputPair<Vector, Double>> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            final Vector input = VectorFactory.getDefault().createUniformRandom(
+                5, -1.0, 1.0, this.random);
+            input.setElement(this.random.nextInt(5), 0.0);
+            data.add(DefaultInputOutputPair.create(input, 0.0));
+        }
+
+        final ArrayList<CentroidCluster<Vector>> clusters = new ArrayList<>();
+        for (int k = 0; k < 4; k++)
+        {
+            clusters.add(new CentroidCluster<Vector>(
+                VectorFactory.getDefault().createUniformRandom(
+                    5, -1.0, 1.0, this.random)));
+        }
+        clusters.add(null);
+
+        for (boolean sparse : new boolean[] { false, true })
+        {
+            final ColumnarDataset<Double> columnar =
+                ColumnarDataset.fromCollection(data, sparse);
+            final KMeansClusterer<Vector, CentroidCluster<Vector>> instance =
+                new KMeansClusterer<Vector, CentroidCluster<Vector>>(
+                    0, 100, this.initializer, this.clusterMetric, this.creator);
+            instance.setClusters(clusters);
+
+            final int[] expected = instance.assignDataToClusters(
+                new ArrayList<Vector>(columnar.getInputs()));
+            final int[] result = instance.assignDataToClusters(
+                columnar.getInputs());
+            assertTrue(Arrays.equals(expected, result));
+
+            instance.setNumRequestedClusters(3);
+            assertEquals(3, instance.learn(columnar.getInputs()).size());
+        }
+    }
+
 }
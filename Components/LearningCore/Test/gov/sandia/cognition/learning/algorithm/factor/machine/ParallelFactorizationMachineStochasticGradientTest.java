@@ -0,0 +1,251 @@
+/*
+ * File:            ParallelFactorizationMachineStochasticGradientTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.algorithm.factor.machine;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.learning.performance.MeanSquaredErrorEvaluator;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class {@link ParallelFactorizationMachineStochasticGradient}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelFactorizationMachineStochasticGradientTest
+    extends Object
+{
+    protected Random random = new Random(47474747);
+
+    /**
+     * Creates a new test.
+     */
+    public ParallelFactorizationMachineStochasticGradientTest()
+    {
+        super();
+    }
+
+    /**
+     * Creates a random factorization machine.
+     *
+     * @param   d
+     *      The input dimensionality.
+     * @param   k
+     *      The number of factors.
+     * @return
+     *      A new factorization machine.
+     */
+    protected FactorizationMachine createRandomMachine(
+        final int d,
+        final int k)
+    {
+        FactorizationMachine actual = new FactorizationMachine(d, k);
+        actual.setBias(this.random.nextGaussian() * 10.0);
+        actual.setWeights(VectorFactory.getDenseDefault().createUniformRandom(d,
+            -1.0, 1.0, this.random));
+        actual.setFactors(MatrixFactory.getDenseDefault().createUniformRandom(k,
+            d, -1.0, 1.0, this.random));
+        return actual;
+    }
+
+    /**
+     * Creates data labeled by the given factorization machine.
+     *
+     * @param   actual
+     *      The machine to label the data with.
+     * @param   n
+     *      The number of examples.
+     * @param   sparse
+     *      True to create sparse inputs with two non-zeros each.
+     * @return
+     *      The labeled data.
+     */
+    protected List<InputOutputPair<Vector, Double>> createData(
+        final FactorizationMachine actual,
+        final int n,
+        final boolean sparse)
+    {
+        final int d = actual.getInputDimensionality();
+        final List<InputOutputPair<Vector, Double>> result =
+            new ArrayList<InputOutputPair<Vector, Double>>(n);
+        for (int i = 0; i < n; i++)
+        {
+            final Vector input;
+            if (sparse)
+            {
+                input = VectorFactory.getSparseDefault().createVector(d);
+                input.setElement(this.random.nextInt(d), 1.0);
+                input.setElement(this.random.nextInt(d), 1.0);
+            }
+            else
+            {
+                input = VectorFactory.getDenseDefault().createUniformRandom(
+                    d, -10.0, 10.0, this.random);
+            }
+            result.add(DefaultInputOutputPair.create(input,
+                actual.evaluateAsDouble(input)));
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class ParallelFactorizationMachineStochasticGradient.
+     */
+    @Test
+    public void testConstructors()
+    {
+        ParallelFactorizationMachineStochasticGradient instance =
+            new ParallelFactorizationMachineStochasticGradient();
+        assertEquals(ParallelFactorizationMachineStochasticGradient.DEFAULT_FACTOR_COUNT,
+            instance.getFactorCount());
+        assertEquals(ParallelFactorizationMachineStochasticGradient.DEFAULT_LEARNING_RATE,
+            instance.getLearningRate(), 0.0);
+        assertEquals(ParallelFactorizationMachineStochasticGradient.DEFAULT_ADA_GRAD_ENABLED,
+            instance.isAdaGradEnabled());
+        assertNotNull(instance.getRandom());
+
+        Random random = new Random();
+        instance = new ParallelFactorizationMachineStochasticGradient(22,
+            0.12321, 3.33, 44.44, 555.55, 0.6, 777, random);
+        assertEquals(22, instance.getFactorCount());
+        assertEquals(0.12321, instance.getLearningRate(), 0.0);
+        assertEquals(3.33, instance.getBiasRegularization(), 0.0);
+        assertEquals(44.44, instance.getWeightRegularization(), 0.0);
+        assertEquals(555.55, instance.getFactorRegularization(), 0.0);
+        assertEquals(0.6, instance.getSeedScale(), 0.0);
+        assertEquals(777, instance.getMaxIterations());
+        assertSame(random, instance.getRandom());
+    }
+
+    /**
+     * Tests that with a single thread the result is the same as the serial
+     * stochastic gradient descent.
+     */
+    @Test
+    public void testSingleThreadMatchesSerial()
+    {
+        int d = 5;
+        int k = 2;
+        List<InputOutputPair<Vector, Double>> data =
+            this.createData(this.createRandomMachine(d, k), 100, false);
+
+        FactorizationMachineStochasticGradient serial =
+            new FactorizationMachineStochasticGradient(k, 0.005, 0.0, 0.01,
+                0.1, 0.2, 20, new Random(1234));
+        ParallelFactorizationMachineStochasticGradient parallel =
+            new ParallelFactorizationMachineStochasticGradient(k, 0.005, 0.0,
+                0.01, 0.1, 0.2, 20, new Random(1234));
+        parallel.setThreadPool(ParallelUtil.createThreadPool(1));
+
+        FactorizationMachine expected = serial.learn(data);
+        FactorizationMachine result = parallel.learn(data);
+        assertEquals(expected.getBias(), result.getBias(), 1e-8);
+        assertTrue(expected.getWeights().equals(result.getWeights(), 1e-8));
+        assertTrue(expected.getFactors().equals(result.getFactors(), 1e-8));
+        assertEquals(serial.getTotalError(), parallel.getTotalError(), 1e-6);
+    }
+
+    /**
+     * Test of learn method with multiple threads.
+     */
+    @Test
+    public void testLearn()
+    {
+        int d = 5;
+        int k = 2;
+        FactorizationMachine actual = this.createRandomMachine(d, k);
+        List<InputOutputPair<Vector, Double>> trainData =
+            this.createData(actual, 400, false);
+        List<InputOutputPair<Vector, Double>> testData =
+            this.createData(actual, 400, false);
+
+        ParallelFactorizationMachineStochasticGradient instance =
+            new ParallelFactorizationMachineStochasticGradient();
+        instance.setFactorCount(k);
+        instance.setSeedScale(0.2);
+        instance.setBiasRegularization(0.0);
+        instance.setWeightRegularization(0.01);
+        instance.setFactorRegularization(0.1);
+        instance.setLearningRate(0.005);
+        instance.setMaxIterations(1000);
+        instance.setRandom(random);
+        instance.setThreadPool(ParallelUtil.createThreadPool(4));
+
+        FactorizationMachine result = instance.learn(trainData);
+        assertEquals(d, result.getInputDimensionality());
+        assertEquals(k, result.getFactorCount());
+
+        MeanSquaredErrorEvaluator<Vector> performance =
+            new MeanSquaredErrorEvaluator<Vector>();
+        double rmse = Math.sqrt(performance.evaluatePerformance(result, testData));
+        assertTrue("RMSE: " + rmse, rmse < 0.1);
+    }
+
+    /**
+     * Test of learn method with AdaGrad on sparse data.
+     */
+    @Test
+    public void testLearnAdaGradSparse()
+    {
+        int d = 20;
+        int k = 2;
+        FactorizationMachine actual = this.createRandomMachine(d, k);
+        List<InputOutputPair<Vector, Double>> trainData =
+            this.createData(actual, 2000, true);
+        List<InputOutputPair<Vector, Double>> testData =
+            this.createData(actual, 200, true);
+
+        ParallelFactorizationMachineStochasticGradient instance =
+            new ParallelFactorizationMachineStochasticGradient();
+        instance.setFactorCount(k);
+        instance.setSeedScale(0.1);
+        instance.setBiasRegularization(0.0);
+        instance.setWeightRegularization(0.0);
+        instance.setFactorRegularization(0.0);
+        instance.setLearningRate(0.1);
+        instance.setAdaGradEnabled(true);
+        instance.setMaxIterations(100);
+        instance.setRandom(random);
+        instance.setThreadPool(ParallelUtil.createThreadPool(4));
+
+        MeanSquaredErrorEvaluator<Vector> performance =
+            new MeanSquaredErrorEvaluator<Vector>();
+        double baseline = Math.sqrt(performance.evaluatePerformance(
+            new FactorizationMachine(d, k), testData));
+        FactorizationMachine result = instance.learn(trainData);
+        double rmse = Math.sqrt(performance.evaluatePerformance(result, testData));
+        assertTrue("RMSE: " + rmse + " baseline: " + baseline,
+            rmse < 0.1 * baseline);
+    }
+
+    /**
+     * Test of setAdaGradEnabled method.
+     */
+    @Test
+    public void testSetAdaGradEnabled()
+    {
+        ParallelFactorizationMachineStochasticGradient instance =
+            new ParallelFactorizationMachineStochasticGradient();
+        assertFalse(instance.isAdaGradEnabled());
+        instance.setAdaGradEnabled(true);
+        assertTrue(instance.isAdaGradEnabled());
+        instance.setAdaGradEnabled(false);
+        assertFalse(instance.isAdaGradEnabled());
+    }
+
+}
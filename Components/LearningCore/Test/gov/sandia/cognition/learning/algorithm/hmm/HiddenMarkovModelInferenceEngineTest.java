@@ -0,0 +1,370 @@
+/*
+ * File:                HiddenMarkovModelInferenceEngineTest.java
+ * Authors:             Justin Basilico
+ * Company:             Sandia National Laboratories
+ * Project:             Cognitive Foundry
+ *
+ * Copyright October 18, 2026, Sandia Corporation.
+ * Under the terms of Contract DE-AC04-94AL85000, there is a non-exclusive
+ * license for use of this work by or on behalf of the U.S. Government.
+ * Export of this program may require a license from the United States
+ * Government. See CopyrightHistory.txt for complete details.
+ *
+ */
+
+package gov.sandia.cognition.learning.algorithm.hmm;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.statistics.distribution.MultivariateGaussian;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class HiddenMarkovModelInferenceEngine.
+ *
+ * @author Justin Basilico
+ * @since 4.1.0
+ */
+public class HiddenMarkovModelInferenceEngineTest
+    extends TestCase
+{
+
+    /**
+     * Tolerance for equality checks.
+     */
+    public static final double TOLERANCE = 1e-8;
+
+    /**
+     * Random number generator to use.
+     */
+    protected Random random = new Random(4747);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public HiddenMarkovModelInferenceEngineTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Creates a left-to-right HMM that has a sparse transition matrix.
+     *
+     * @param   k
+     *      The number of states.
+     * @return
+     *      A new HMM.
+     */
+    public static HiddenMarkovModel<Vector> createSparseInstance(
+        final int k)
+    {
+        final ArrayList<MultivariateGaussian.PDF> pdfs =
+            new ArrayList<MultivariateGaussian.PDF>(k);
+        final Matrix C = MatrixFactory.getDefault().createIdentity(1, 1);
+        final Matrix A = MatrixFactory.getDefault().createMatrix(k, k);
+        for (int i = 0; i < k; i++)
+        {
+            pdfs.add(new MultivariateGaussian.PDF(
+                VectorFactory.getDefault().createVector(1, i), C.clone()));
+            A.setElement(i, i, 0.8);
+            A.setElement((i + 1) % k, i, 0.2);
+        }
+        final Vector pi = VectorFactory.getDefault().createVector(k, 1.0 / k);
+        return new HiddenMarkovModel<Vector>(pi, A, pdfs);
+    }
+
+    /**
+     * Test of constructors of class HiddenMarkovModelInferenceEngine.
+     */
+    public void testConstructors()
+    {
+        HiddenMarkovModel<Vector> hmm = HiddenMarkovModelTest.staticCreateInstance();
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        assertEquals(hmm.getNumStates(), instance.getNumStates());
+        assertFalse(instance.isSparse());
+        assertEquals(HiddenMarkovModelInferenceEngine.DEFAULT_CHUNK_SIZE,
+            instance.getChunkSize());
+        assertTrue(hmm.getInitialProbability().equals(
+            instance.getInitialProbability(), TOLERANCE));
+
+        hmm = createSparseInstance(10);
+        instance = new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        assertTrue(instance.isSparse());
+
+        instance = new HiddenMarkovModelInferenceEngine<Vector>(hmm, 0.0);
+        assertFalse(instance.isSparse());
+    }
+
+    /**
+     * Test of computeObservationLogLikelihood method.
+     */
+    public void testComputeObservationLogLikelihood()
+    {
+        HiddenMarkovModel<Vector> hmm = HiddenMarkovModelTest.staticCreateInstance();
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        ArrayList<Vector> samples = hmm.sample(random, 100);
+        assertEquals(hmm.computeObservationLogLikelihood(samples),
+            instance.computeObservationLogLikelihood(samples), TOLERANCE);
+
+        // Linked lists are copied to support random access.
+        assertEquals(hmm.computeObservationLogLikelihood(samples),
+            instance.computeObservationLogLikelihood(
+                new LinkedList<Vector>(samples)), TOLERANCE);
+
+        hmm = createSparseInstance(10);
+        samples = hmm.sample(random, 100);
+        instance = new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        assertTrue(instance.isSparse());
+        assertEquals(hmm.computeObservationLogLikelihood(samples),
+            instance.computeObservationLogLikelihood(samples), TOLERANCE);
+    }
+
+    /**
+     * Test of stateBeliefs method.
+     */
+    public void testStateBeliefs()
+    {
+        HiddenMarkovModel<Vector> hmm = HiddenMarkovModelTest.staticCreateInstance();
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        ArrayList<Vector> samples = hmm.sample(random, 50);
+        ArrayList<Vector> expected = hmm.stateBeliefs(samples);
+        double[] result = instance.stateBeliefs(samples);
+        final int k = hmm.getNumStates();
+        assertEquals(samples.size() * k, result.length);
+        for (int t = 0; t < samples.size(); t++)
+        {
+            for (int i = 0; i < k; i++)
+            {
+                assertEquals(expected.get(t).getElement(i), result[t * k + i],
+                    TOLERANCE);
+            }
+        }
+    }
+
+    /**
+     * Test of smoothedStateBeliefs method.
+     */
+    public void testSmoothedStateBeliefs()
+    {
+        HiddenMarkovModel<Vector> hmm = HiddenMarkovModelTest.staticCreateInstance();
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        ArrayList<Vector> samples = hmm.sample(random, 50);
+        final int k = hmm.getNumStates();
+        final int n = samples.size();
+
+        ArrayList<Vector> b = hmm.computeObservationLikelihoods(samples);
+        ArrayList<Vector> expected = hmm.computeStateObservationLikelihood(
+            hmm.computeForwardProbabilities(b, true),
+            hmm.computeBackwardProbabilities(b,
+                hmm.computeForwardProbabilities(b, true)), 1.0);
+        double[] result = instance.smoothedStateBeliefs(samples);
+        for (int t = 0; t < n; t++)
+        {
+            double sum = 0.0;
+            for (int i = 0; i < k; i++)
+            {
+                assertEquals(expected.get(t).getElement(i), result[t * k + i],
+                    TOLERANCE);
+                sum += result[t * k + i];
+            }
+            assertEquals(1.0, sum, TOLERANCE);
+        }
+
+        // The filtered and smoothed beliefs agree at the last time step.
+        double[] filtered = instance.stateBeliefs(samples);
+        for (int i = 0; i < k; i++)
+        {
+            assertEquals(filtered[(n - 1) * k + i], result[(n - 1) * k + i],
+                TOLERANCE);
+        }
+    }
+
+    /**
+     * Test of viterbi method.
+     */
+    public void testViterbi()
+    {
+        HiddenMarkovModel<Vector> hmm = HiddenMarkovModelTest.staticCreateInstance();
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        ArrayList<Vector> samples = hmm.sample(random, 100);
+        ArrayList<Integer> expected = hmm.viterbi(samples);
+        int[] result = instance.viterbi(samples);
+        assertEquals(expected.size(), result.length);
+        for (int t = 0; t < result.length; t++)
+        {
+            assertEquals((int) expected.get(t), result[t]);
+        }
+
+        hmm = createSparseInstance(8);
+        instance = new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        samples = hmm.sample(random, 100);
+        expected = hmm.viterbi(samples);
+        HiddenMarkovModelInferenceEngine.Workspace workspace =
+            instance.createWorkspace();
+        result = new int[samples.size()];
+        double logLikelihood = instance.viterbi(samples, workspace, result);
+        for (int t = 0; t < result.length; t++)
+        {
+            assertEquals((int) expected.get(t), result[t]);
+        }
+        ArrayList<Integer> states = new ArrayList<Integer>();
+        for (int state : result)
+        {
+            states.add(state);
+        }
+        assertEquals(hmm.computeObservationLogLikelihood(samples, states),
+            logLikelihood, TOLERANCE);
+    }
+
+    /**
+     * Test of computeTransitionProbabilityEstimate method.
+     */
+    public void testComputeTransitionProbabilityEstimate()
+    {
+        HiddenMarkovModel<Vector> hmm = HiddenMarkovModelTest.staticCreateInstance();
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        ArrayList<Vector> samples = hmm.sample(random, 50);
+        ArrayList<Vector> b = hmm.computeObservationLikelihoods(samples);
+        Matrix expected = hmm.computeTransitions(
+            hmm.computeForwardProbabilities(b, true),
+            hmm.computeBackwardProbabilities(b,
+                hmm.computeForwardProbabilities(b, true)), b);
+
+        HiddenMarkovModelInferenceEngine.Workspace workspace =
+            instance.createWorkspace();
+        instance.computeForwardBackward(samples, workspace);
+        ArrayList<HiddenMarkovModelInferenceEngine.Workspace> workspaces =
+            new ArrayList<HiddenMarkovModelInferenceEngine.Workspace>();
+        workspaces.add(workspace);
+        Matrix result = instance.computeTransitionProbabilityEstimate(workspaces);
+        assertTrue(expected.equals(result, TOLERANCE));
+    }
+
+    /**
+     * Tests that the parallel, chunked computation matches the sequential one
+     * and that workspaces can be reused across sequences.
+     */
+    public void testParallel()
+    {
+        HiddenMarkovModel<Vector> hmm = createSparseInstance(6);
+        HiddenMarkovModelInferenceEngine<Vector> sequential =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        sequential.setThreadPool(ParallelUtil.createThreadPool(1));
+        HiddenMarkovModelInferenceEngine<Vector> parallel = sequential.clone();
+        parallel.setThreadPool(ParallelUtil.createThreadPool(4));
+        parallel.setChunkSize(37);
+
+        HiddenMarkovModelInferenceEngine.Workspace workspace =
+            parallel.createWorkspace();
+        for (int n : new int[] { 1000, 300 })
+        {
+            ArrayList<Vector> samples = hmm.sample(random, n);
+            final double expectedLogLikelihood =
+                sequential.computeObservationLogLikelihood(samples);
+            final double[] expectedBeliefs =
+                sequential.smoothedStateBeliefs(samples);
+            final double actualLogLikelihood =
+                parallel.computeForwardBackward(samples, workspace);
+            assertEquals(n, workspace.getSequenceLength());
+            assertEquals(expectedLogLikelihood, actualLogLikelihood, TOLERANCE);
+            for (int i = 0; i < expectedBeliefs.length; i++)
+            {
+                assertEquals(expectedBeliefs[i],
+                    workspace.getStateBeliefs()[i], TOLERANCE);
+            }
+
+            // The backward probabilities use the same forward scale factors.
+            HiddenMarkovModelInferenceEngine.Workspace other =
+                sequential.createWorkspace();
+            sequential.computeForwardBackward(samples, other);
+            for (int i = 0; i < n * hmm.getNumStates(); i++)
+            {
+                assertEquals(other.getForwardProbabilities()[i],
+                    workspace.getForwardProbabilities()[i], TOLERANCE);
+                assertEquals(other.getBackwardProbabilities()[i],
+                    workspace.getBackwardProbabilities()[i], TOLERANCE);
+            }
+            assertTrue(sequential.computeTransitionProbabilityEstimate(
+                Collections.singletonList(other)).equals(
+                parallel.computeTransitionProbabilityEstimate(
+                Collections.singletonList(workspace)), TOLERANCE));
+        }
+    }
+
+    /**
+     * Tests that an observation that is impossible under the model gives a
+     * log-likelihood of negative infinity without producing NaNs.
+     */
+    public void testZeroLikelihood()
+    {
+        HiddenMarkovModel<Vector> hmm = createSparseInstance(4);
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(hmm);
+        instance.setThreadPool(ParallelUtil.createThreadPool(4));
+        instance.setChunkSize(16);
+
+        final int n = 100;
+        final int k = hmm.getNumStates();
+        ArrayList<Vector> samples = hmm.sample(random, n);
+        samples.set(n / 2, VectorFactory.getDefault().createVector(1, 1e6));
+        HiddenMarkovModelInferenceEngine.Workspace workspace =
+            instance.createWorkspace();
+        final double logLikelihood =
+            instance.computeForwardBackward(samples, workspace);
+        assertEquals(Double.NEGATIVE_INFINITY, logLikelihood);
+        for (int i = 0; i < n * k; i++)
+        {
+            assertFalse(Double.isNaN(workspace.getForwardProbabilities()[i]));
+            assertFalse(Double.isNaN(workspace.getBackwardProbabilities()[i]));
+            assertFalse(Double.isNaN(workspace.getStateBeliefs()[i]));
+        }
+        assertFalse(Double.isNaN(instance.computeTransitionProbabilityEstimate(
+            Collections.singletonList(workspace)).normFrobenius()));
+        instance.getThreadPool().shutdown();
+    }
+
+    /**
+     * Test of setChunkSize method.
+     */
+    public void testSetChunkSize()
+    {
+        HiddenMarkovModelInferenceEngine<Vector> instance =
+            new HiddenMarkovModelInferenceEngine<Vector>(
+                HiddenMarkovModelTest.staticCreateInstance());
+        instance.setChunkSize(10);
+        assertEquals(10, instance.getChunkSize());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setChunkSize(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(10, instance.getChunkSize());
+    }
+
+}
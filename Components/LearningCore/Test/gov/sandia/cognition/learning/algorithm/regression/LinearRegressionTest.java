@@ -16,6 +16,7 @@ package gov.sandia.cognition.learning.algorithm.regression;
 
 import gov.sandia.cognition.annotation.CodeReview;
 import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
 import gov.sandia.cognition.learning.data.DefaultWeightedInputOutputPair;
 import gov.sandia.cognition.learning.data.InputOutputPair;
@@ -207,6 +208,56 @@ public class LinearRegressionTest
 
     }
     
+    /**
+     * Tests that learning on a columnar dataset gives the same result as
+     * learning on the equivalent collection of pairs.
+     */
+    public void testLearnColumnar()
+    {
+        System.out.println( "learnColumnar" );
+
+        ArrayList<InputOutputPair<Vector, Double>> data =
+            new ArrayList<InputOutputPair<Vector, Double>>();
+        for( int n = 0; n < 50; n++ )
+        {
+            Vector input = VectorFactory.getDefault().createUniformRandom(
+                4, -1, 1, random );
+            input.setElement( random.nextInt(4), 0.0 );
+            data.add( new DefaultWeightedInputOutputPair<Vector, Double>(
+                input, random.nextGaussian(), 0.5 + random.nextDouble() ) );
+        }
+
+        for( boolean sparse : new boolean[] { false, true } )
+        {
+            ColumnarDataset<Double> columnar =
+                ColumnarDataset.fromCollection( data, sparse );
+            for( boolean usePseudoInverse : new boolean[] { true, false } )
+            {
+                LinearRegression instance =
+                    new LinearRegression( 0.0, usePseudoInverse );
+                Vector expected = instance.learn( data ).convertToVector();
+                Vector result = instance.learn( columnar ).convertToVector();
+                assertTrue( expected.equals( result, EPS ) );
+            }
+        }
+
+        // With a repeated column the data matrix is singular, so the
+        // pseudoinverse thresholds its singular values.
+        for( InputOutputPair<Vector, Double> pair : data )
+        {
+            pair.getInput().setElement( 3, pair.getInput().getElement( 0 ) );
+        }
+        for( boolean sparse : new boolean[] { false, true } )
+        {
+            LinearRegression instance = new LinearRegression( 0.0, true );
+            Vector expected = instance.learn( data ).convertToVector();
+            Vector result = instance.learn(
+                ColumnarDataset.fromCollection( data, sparse ) ).convertToVector();
+            assertTrue( expected.equals( result, EPS ) );
+            assertEquals( result.getElement( 0 ), result.getElement( 3 ), EPS );
+        }
+    }
+
     /**
      * This tests Justin's pathological example that kills the LU solver.
      */
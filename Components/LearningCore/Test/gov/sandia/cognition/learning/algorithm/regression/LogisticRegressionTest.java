@@ -15,6 +15,7 @@
 package gov.sandia.cognition.learning.algorithm.regression;
 
 import gov.sandia.cognition.learning.algorithm.regression.LogisticRegression.Function;
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
 import gov.sandia.cognition.learning.data.DefaultWeightedInputOutputPair;
 import gov.sandia.cognition.learning.data.InputOutputPair;
@@ -162,6 +163,37 @@ public class LogisticRegressionTest
         
     }
 
+    /**
+     * Tests that learning on a columnar dataset gives the same result as
+     * learning on the equivalent collection of pairs.
+     */
+    public void testLearnColumnar()
+    {
+        System.out.println( "learnColumnar" );
+
+        LinkedList<InputOutputPair<Vector,Double>> data =
+            new LinkedList<InputOutputPair<Vector, Double>>();
+        for( int n = 0; n < 200; n++ )
+        {
+            Vector input = VectorFactory.getDefault().createUniformRandom(
+                3, -2.0, 2.0, random );
+            double p = 1.0 / (1.0 + Math.exp(
+                -(1.5 * input.getElement(0) - input.getElement(2) + 0.5)) );
+            double y = (random.nextDouble() < p) ? 1.0 : 0.0;
+            data.add( new DefaultWeightedInputOutputPair<Vector, Double>(
+                input, y, 0.5 + random.nextDouble() ) );
+        }
+
+        for( boolean sparse : new boolean[] { false, true } )
+        {
+            LogisticRegression instance = new LogisticRegression( 0.1 );
+            Vector expected = instance.learn( data ).convertToVector();
+            Vector result = instance.learn(
+                ColumnarDataset.fromCollection( data, sparse ) ).convertToVector();
+            assertTrue( expected.equals( result, TOLERANCE ) );
+        }
+    }
+
     /**
      * Test of getObjectToOptimize method, of class LogisticRegression.
      */
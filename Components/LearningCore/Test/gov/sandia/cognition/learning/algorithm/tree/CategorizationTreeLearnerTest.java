@@ -14,15 +14,19 @@
 
 package gov.sandia.cognition.learning.algorithm.tree;
 
+import gov.sandia.cognition.learning.data.ColumnarDataset;
 import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
 import gov.sandia.cognition.learning.function.categorization.VectorElementThresholdCategorizer;
 import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
 import gov.sandia.cognition.math.matrix.mtj.Vector3;
 import gov.sandia.cognition.statistics.distribution.DefaultDataDistribution;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 import junit.framework.TestCase;
 
 /**
@@ -156,6 +160,42 @@ instance.setDeciderLearner(new VectorThresholdHellingerDistanceLearner<String>()
         assertTrue(result.getCategories().contains("b"));
     }
 
+    /**
+     * Tests that learning on a columnar dataset gives the same tree as
+     * learning on the equivalent collection of pairs.
+     */
+    public void testLearnColumnar()
+    {
+        Random random = new Random(4747);
+        ArrayList<InputOutputPair<Vector, String>> data =
+            new ArrayList<InputOutputPair<Vector, String>>();
+        for (int i = 0; i < 200; i++)
+        {
+            Vector input = VectorFactory.getDefault().createUniformRandom(
+                4, -1.0, 1.0, random);
+            input.setElement(random.nextInt(4), 0.0);
+            String label = input.getElement(0) + input.getElement(1) > 0.2
+                ? "a" : (input.getElement(2) > 0.0 ? "b" : "c");
+            data.add(DefaultInputOutputPair.create(input, label));
+        }
+
+        CategorizationTreeLearner<Vector, String> instance =
+            new CategorizationTreeLearner<Vector, String>(
+                new VectorThresholdInformationGainLearner<String>());
+        CategorizationTree<Vector, String> expected = instance.learn(data);
+        for (boolean sparse : new boolean[] { false, true })
+        {
+            ColumnarDataset<String> columnar =
+                ColumnarDataset.fromCollection(data, sparse);
+            CategorizationTree<Vector, String> result = instance.learn(columnar);
+            for (InputOutputPair<Vector, String> example : data)
+            {
+                assertEquals(expected.evaluate(example.getInput()),
+                    result.evaluate(example.getInput()));
+            }
+        }
+    }
+
     /**
      * Test of learn method, when using manual prior weights.
      */
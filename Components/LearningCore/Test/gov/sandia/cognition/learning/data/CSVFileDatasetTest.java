@@ -0,0 +1,202 @@
+/*
+ * File:            CSVFileDatasetTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.data;
+
+import gov.sandia.cognition.evaluator.IdentityEvaluator;
+import gov.sandia.cognition.io.CSVParseException;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code CSVFileDataset}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class CSVFileDatasetTest
+    extends TestCase
+{
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public CSVFileDatasetTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Writes the given text to a temporary file.
+     *
+     * @param   text The text.
+     * @return  The file.
+     * @throws  IOException If there is an error.
+     */
+    protected File writeFile(
+        final String text)
+        throws IOException
+    {
+        final File file = File.createTempFile("CSVFileDatasetTest", ".csv");
+        file.deleteOnExit();
+        final FileWriter writer = new FileWriter(file);
+        writer.write(text);
+        writer.close();
+        return file;
+    }
+
+    /**
+     * Reads all the examples from a dataset.
+     *
+     * @param   dataset The dataset.
+     * @return  The examples.
+     */
+    protected ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> readAll(
+        final CSVFileDataset<Double> dataset)
+    {
+        final ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> result =
+            new ArrayList<DefaultWeightedInputOutputPair<Vector, Double>>();
+        for (DefaultWeightedInputOutputPair<Vector, Double> example : dataset)
+        {
+            result.add(example);
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class CSVFileDataset.
+     *
+     * @throws  Exception
+     */
+    public void testConstructors()
+        throws Exception
+    {
+        final File file = writeFile("1,2,3\n");
+        CSVFileDataset<Double> instance = CSVFileDataset.create(file);
+        assertSame(file, instance.getFile());
+        assertNotNull(instance.getOutputConverter());
+        assertEquals(CSVFileDataset.DEFAULT_DELIMITER, instance.getDelimiter());
+        assertEquals(CSVFileDataset.DEFAULT_OUTPUT_COLUMN,
+            instance.getOutputColumn());
+        assertFalse(instance.isHeaderSkipped());
+
+        final IdentityEvaluator<Double> converter =
+            new IdentityEvaluator<Double>();
+        instance = new CSVFileDataset<Double>(file, converter, '\t', 0, true);
+        assertSame(file, instance.getFile());
+        assertSame(converter, instance.getOutputConverter());
+        assertEquals('\t', instance.getDelimiter());
+        assertEquals(0, instance.getOutputColumn());
+        assertTrue(instance.isHeaderSkipped());
+    }
+
+    /**
+     * Test of iterator method, of class CSVFileDataset.
+     *
+     * @throws  Exception
+     */
+    public void testIterator()
+        throws Exception
+    {
+        final File file = writeFile("a,b,y\n1,2,3\n\n 4 ,5,6\n-1.5,0,7e1\n");
+        final CSVFileDataset<Double> instance = new CSVFileDataset<Double>(
+            file, new IdentityEvaluator<Double>(), ',', -1, true);
+
+        for (int pass = 0; pass < 2; pass++)
+        {
+            final ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> result =
+                readAll(instance);
+            assertEquals(3, result.size());
+            assertEquals(VectorFactory.getDenseDefault().copyValues(1.0, 2.0),
+                result.get(0).getInput());
+            assertEquals(3.0, result.get(0).getOutput());
+            assertEquals(1.0, result.get(0).getWeight());
+            assertEquals(VectorFactory.getDenseDefault().copyValues(4.0, 5.0),
+                result.get(1).getInput());
+            assertEquals(6.0, result.get(1).getOutput());
+            assertEquals(VectorFactory.getDenseDefault().copyValues(-1.5, 0.0),
+                result.get(2).getInput());
+            assertEquals(70.0, result.get(2).getOutput());
+        }
+
+        // Output in the first column with a different delimiter.
+        instance.setFile(writeFile("3;1;2\n6;4;5\n"));
+        instance.setDelimiter(';');
+        instance.setOutputColumn(0);
+        instance.setHeaderSkipped(false);
+        final ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> result =
+            readAll(instance);
+        assertEquals(2, result.size());
+        assertEquals(VectorFactory.getDenseDefault().copyValues(1.0, 2.0),
+            result.get(0).getInput());
+        assertEquals(3.0, result.get(0).getOutput());
+        assertEquals(VectorFactory.getDenseDefault().copyValues(4.0, 5.0),
+            result.get(1).getInput());
+        assertEquals(6.0, result.get(1).getOutput());
+
+        // Closing early is allowed.
+        final CSVFileDataset<Double>.LineIterator iterator =
+            instance.iterator();
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Test of iterator method with bad data, of class CSVFileDataset.
+     *
+     * @throws  Exception
+     */
+    public void testIteratorBadData()
+        throws Exception
+    {
+        CSVFileDataset<Double> instance = CSVFileDataset.create(
+            writeFile("1,2,3\n4,x,6\n"));
+        boolean exceptionThrown = false;
+        try
+        {
+            readAll(instance);
+        }
+        catch (RuntimeException e)
+        {
+            exceptionThrown = true;
+            assertTrue(e.getCause() instanceof CSVParseException);
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        instance = CSVFileDataset.create(writeFile("1,2,3\n"));
+        instance.setOutputColumn(3);
+        exceptionThrown = false;
+        try
+        {
+            readAll(instance);
+        }
+        catch (RuntimeException e)
+        {
+            exceptionThrown = true;
+            assertTrue(e.getCause() instanceof CSVParseException);
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * File:            ColumnarDatasetTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.data;
+
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ColumnarDataset.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ColumnarDatasetTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(211);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ColumnarDatasetTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Creates a random list of weighted examples with some zero values.
+     *
+     * @param   count
+     *      The number of examples.
+     * @param   dimensionality
+     *      The input dimensionality.
+     * @return
+     *      A new list of examples.
+     */
+    protected List<InputOutputPair<Vector, String>> createData(
+        final int count,
+        final int dimensionality)
+    {
+        final List<InputOutputPair<Vector, String>> result =
+            new ArrayList<InputOutputPair<Vector, String>>(count);
+        for (int i = 0; i < count; i++)
+        {
+            final Vector input = VectorFactory.getDenseDefault().createVector(
+                dimensionality);
+            for (int j = 0; j < dimensionality; j++)
+            {
+                if (this.random.nextBoolean())
+                {
+                    input.setElement(j, this.random.nextGaussian());
+                }
+            }
+            result.add(DefaultWeightedInputOutputPair.create(input,
+                "" + this.random.nextInt(3), 1.0 + this.random.nextInt(3)));
+        }
+        return result;
+    }
+
+    /**
+     * Test of createDense method, of class ColumnarDataset.
+     */
+    public void testCreateDense()
+    {
+        double[] features = { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 };
+        double[] outputs = { 0.5, -0.5 };
+        ColumnarDataset<Double> instance = ColumnarDataset.createDense(3,
+            features, outputs, null);
+        assertEquals(2, instance.size());
+        assertEquals(3, instance.getDimensionality());
+        assertFalse(instance.isSparse());
+        assertTrue(instance.hasNumericOutputs());
+        assertFalse(instance.hasWeights());
+        assertEquals(VectorFactory.getDefault().copyValues(4.0, 5.0, 6.0),
+            instance.get(1).getInput());
+        assertEquals(-0.5, instance.get(1).getOutput(), 0.0);
+        assertEquals(1.0, instance.get(1).getWeight(), 0.0);
+        assertEquals(2.0, instance.getFeature(0, 1), 0.0);
+
+        List<String> categories = Arrays.asList("a", "b");
+        ColumnarDataset<String> categorical = ColumnarDataset.createDense(3,
+            features, new int[] { 1, 0 }, categories, new double[] { 2.0, 3.0 });
+        assertFalse(categorical.hasNumericOutputs());
+        assertTrue(categorical.hasWeights());
+        assertEquals("b", categorical.get(0).getOutput());
+        assertEquals("a", categorical.get(1).getOutput());
+        assertEquals(1, categorical.getOutputCode(0));
+        assertEquals(3.0, categorical.get(1).getWeight(), 0.0);
+        assertEquals(categories, categorical.getOutputCategories());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            ColumnarDataset.createDense(4, features, outputs, null);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            ColumnarDataset.createDense(3, features, new int[] { 0, 2 },
+                categories, null);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of createSparse method, of class ColumnarDataset.
+     */
+    public void testCreateSparse()
+    {
+        int[] rowStarts = { 0, 2, 2, 3 };
+        int[] columnIndices = { 0, 3, 2 };
+        double[] values = { 1.0, 2.0, 3.0 };
+        double[] outputs = { 1.0, 2.0, 3.0 };
+        ColumnarDataset<Double> instance = ColumnarDataset.createSparse(4,
+            rowStarts, columnIndices, values, outputs, null);
+        assertEquals(3, instance.size());
+        assertTrue(instance.isSparse());
+        assertEquals(VectorFactory.getDefault().copyValues(1.0, 0.0, 0.0, 2.0),
+            instance.get(0).getInput());
+        assertEquals(VectorFactory.getDefault().copyValues(0.0, 0.0, 0.0, 0.0),
+            instance.get(1).getInput());
+        assertEquals(2.0, instance.getFeature(0, 3), 0.0);
+        assertEquals(0.0, instance.getFeature(0, 2), 0.0);
+        assertEquals(3.0, instance.getFeature(2, 2), 0.0);
+
+        boolean exceptionThrown = false;
+        try
+        {
+            ColumnarDataset.createSparse(4, rowStarts, new int[] { 3, 0, 2 },
+                values, outputs, null);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of fromCollection method, of class ColumnarDataset.
+     */
+    public void testFromCollection()
+    {
+        List<InputOutputPair<Vector, String>> data = this.createData(20, 5);
+        for (boolean sparse : new boolean[] { false, true })
+        {
+            ColumnarDataset<String> instance =
+                ColumnarDataset.fromCollection(data, sparse);
+            assertEquals(sparse, instance.isSparse());
+            assertEquals(data.size(), instance.size());
+            assertEquals(5, instance.getDimensionality());
+            assertFalse(instance.hasNumericOutputs());
+            for (int i = 0; i < data.size(); i++)
+            {
+                InputOutputPair<Vector, String> expected = data.get(i);
+                ColumnarDataset.Row<String> row = instance.get(i);
+                assertEquals(i, row.getIndex());
+                assertSame(instance, row.getDataset());
+                assertEquals(expected.getInput(), row.getInput());
+                assertEquals(expected.getOutput(), row.getOutput());
+                assertEquals(DatasetUtil.getWeight(expected), row.getWeight(),
+                    0.0);
+                assertEquals(expected.getInput(), instance.getInputs().get(i));
+                for (int j = 0; j < 5; j++)
+                {
+                    assertEquals(expected.getInput().getElement(j),
+                        row.getFeature(j), 0.0);
+                    assertEquals(expected.getInput().getElement(j),
+                        ColumnarDataset.getInputElement(row, j), 0.0);
+                }
+            }
+        }
+
+        ArrayList<InputOutputPair<Vector, Double>> numeric =
+            new ArrayList<InputOutputPair<Vector, Double>>();
+        numeric.add(DefaultInputOutputPair.create(
+            VectorFactory.getDefault().copyValues(1.0, 2.0), 3.0));
+        numeric.add(DefaultInputOutputPair.create(
+            VectorFactory.getDefault().copyValues(4.0, 5.0), 6.0));
+        ColumnarDataset<Double> instance =
+            ColumnarDataset.fromCollection(numeric, false);
+        assertTrue(instance.hasNumericOutputs());
+        assertFalse(instance.hasWeights());
+        assertEquals(6.0, instance.getOutputAsDouble(1), 0.0);
+        assertEquals(6.0, instance.get(1).getOutput(), 0.0);
+
+        instance = ColumnarDataset.fromCollection(
+            new ArrayList<InputOutputPair<Vector, Double>>(), true);
+        assertTrue(instance.isEmpty());
+    }
+
+    /**
+     * Test of the primitive row operations of class ColumnarDataset.
+     */
+    public void testRowOperations()
+    {
+        List<InputOutputPair<Vector, String>> data = this.createData(10, 4);
+        double[] point = { 0.5, -1.0, 2.0, 0.25 };
+        Vector pointVector = VectorFactory.getDefault().copyArray(point);
+        double pointNorm = pointVector.norm2Squared();
+        for (boolean sparse : new boolean[] { false, true })
+        {
+            ColumnarDataset<String> instance =
+                ColumnarDataset.fromCollection(data, sparse);
+            for (int i = 0; i < instance.size(); i++)
+            {
+                Vector input = data.get(i).getInput();
+                assertEquals(input.dotProduct(pointVector),
+                    instance.dotProduct(i, point), 1e-10);
+                assertEquals(input.euclideanDistanceSquared(pointVector),
+                    instance.computeSquaredDistance(i, point, pointNorm),
+                    1e-10);
+
+                double[] target = point.clone();
+                instance.addScaledInput(i, 2.0, target);
+                assertTrue(pointVector.plus(input.scale(2.0)).equals(
+                    VectorFactory.getDefault().copyArray(target), 1e-10));
+
+                Vector biased = input.stack(
+                    VectorFactory.getDefault().copyValues(1.0));
+                double[] outer = new double[25];
+                instance.addScaledBiasedOuterProduct(i, 3.0, outer);
+                for (int a = 0; a < 5; a++)
+                {
+                    for (int b = 0; b < 5; b++)
+                    {
+                        assertEquals(3.0 * biased.getElement(a)
+                            * biased.getElement(b), outer[a * 5 + b], 1e-10);
+                    }
+                }
+
+                int count = 0;
+                for (int k = instance.getRowStart(i); k < instance.getRowEnd(i);
+                    k++)
+                {
+                    assertEquals(input.getElement(instance.getColumnIndex(k)),
+                        instance.getValue(k), 0.0);
+                    count++;
+                }
+                assertEquals(sparse ? input.countNonZeros() : 4, count);
+            }
+        }
+    }
+
+    /**
+     * Test of asColumnarDataset method, of class ColumnarDataset.
+     */
+    public void testAsColumnarDataset()
+    {
+        List<InputOutputPair<Vector, String>> data = this.createData(3, 2);
+        assertNull(ColumnarDataset.asColumnarDataset(data));
+        ColumnarDataset<String> instance =
+            ColumnarDataset.fromCollection(data, false);
+        assertSame(instance, ColumnarDataset.asColumnarDataset(instance));
+        assertEquals(data.get(0).getInput().getElement(1),
+            ColumnarDataset.getInputElement(data.get(0), 1), 0.0);
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * File:            RecordFileDatasetTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.data;
+
+import gov.sandia.cognition.collection.PrefetchingIterable;
+import gov.sandia.cognition.collection.ShuffleBufferIterable;
+import gov.sandia.cognition.learning.algorithm.perceptron.OnlinePerceptron;
+import gov.sandia.cognition.learning.function.categorization.LinearBinaryCategorizer;
+import gov.sandia.cognition.learning.function.categorization.ScalarThresholdBinaryCategorizer;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code RecordFileDataset}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class RecordFileDatasetTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(211);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public RecordFileDatasetTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Creates some random data.
+     *
+     * @param   count The number of examples.
+     * @param   dimensionality The input dimensionality.
+     * @return  The data.
+     */
+    protected ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> createData(
+        final int count,
+        final int dimensionality)
+    {
+        final ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> result =
+            new ArrayList<DefaultWeightedInputOutputPair<Vector, Double>>();
+        for (int i = 0; i < count; i++)
+        {
+            final Vector input = VectorFactory.getDenseDefault().createUniformRandom(
+                dimensionality, -1.0, 1.0, this.random);
+            result.add(DefaultWeightedInputOutputPair.create(input,
+                this.random.nextGaussian(), this.random.nextDouble()));
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class RecordFileDataset.
+     *
+     * @throws  Exception
+     */
+    public void testConstructors()
+        throws Exception
+    {
+        final File file = File.createTempFile("RecordFileDatasetTest", ".bin");
+        file.deleteOnExit();
+        RecordFileDataset.write(file, createData(7, 3));
+
+        RecordFileDataset<Double> instance = RecordFileDataset.create(file);
+        assertSame(file, instance.getFile());
+        assertNotNull(instance.getOutputConverter());
+        assertEquals(3, instance.getDimensionality());
+        assertEquals(7L, instance.getRecordCount());
+        assertEquals(40, instance.getRecordSize());
+        assertEquals(RecordFileDataset.DEFAULT_WINDOW_SIZE,
+            instance.getWindowSize());
+
+        // Not a record file.
+        final DataOutputStream out = new DataOutputStream(
+            new FileOutputStream(file));
+        out.writeInt(1234);
+        out.writeInt(RecordFileDataset.VERSION);
+        out.close();
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance = RecordFileDataset.create(file);
+        }
+        catch (IOException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of write and iterator method, of class RecordFileDataset.
+     *
+     * @throws  Exception
+     */
+    public void testWriteAndIterator()
+        throws Exception
+    {
+        final File file = File.createTempFile("RecordFileDatasetTest", ".bin");
+        file.deleteOnExit();
+        final ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> data =
+            createData(53, 4);
+        assertEquals(53L, RecordFileDataset.write(file, data));
+
+        final RecordFileDataset<Double> instance = RecordFileDataset.create(
+            file);
+        // Use windows that do not line up with the records.
+        for (int windowSize : new int[] { 1, 100, 1000,
+            RecordFileDataset.DEFAULT_WINDOW_SIZE })
+        {
+            instance.setWindowSize(windowSize);
+            for (int pass = 0; pass < 2; pass++)
+            {
+                int count = 0;
+                for (DefaultWeightedInputOutputPair<Vector, Double> example
+                    : instance)
+                {
+                    final DefaultWeightedInputOutputPair<Vector, Double> expected =
+                        data.get(count);
+                    assertEquals(expected.getInput(), example.getInput());
+                    assertEquals(expected.getOutput(), example.getOutput());
+                    assertEquals(expected.getWeight(), example.getWeight());
+                    count++;
+                }
+                assertEquals(data.size(), count);
+            }
+        }
+
+        // Closing early is allowed.
+        final RecordFileDataset<Double>.RecordIterator iterator =
+            instance.iterator();
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.close();
+        assertFalse(iterator.hasNext());
+
+        // An empty file.
+        RecordFileDataset.write(file,
+            new ArrayList<DefaultWeightedInputOutputPair<Vector, Double>>());
+        final RecordFileDataset<Double> empty = RecordFileDataset.create(file);
+        assertEquals(0L, empty.getRecordCount());
+        assertFalse(empty.iterator().hasNext());
+    }
+
+    /**
+     * Test of streaming a file to an incremental learner.
+     *
+     * @throws  Exception
+     */
+    public void testLearnStreaming()
+        throws Exception
+    {
+        final File file = File.createTempFile("RecordFileDatasetTest", ".bin");
+        file.deleteOnExit();
+
+        // Linearly separable data with a 0/1 output.
+        final Vector weights = VectorFactory.getDenseDefault().copyValues(
+            2.0, -1.0, 0.5);
+        final ArrayList<DefaultWeightedInputOutputPair<Vector, Double>> data =
+            new ArrayList<DefaultWeightedInputOutputPair<Vector, Double>>();
+        for (int i = 0; i < 500; i++)
+        {
+            final Vector input = VectorFactory.getDenseDefault().createUniformRandom(
+                3, -1.0, 1.0, this.random);
+            final double score = input.dotProduct(weights);
+            if (Math.abs(score) > 0.1)
+            {
+                data.add(DefaultWeightedInputOutputPair.create(input,
+                    score > 0.0 ? 1.0 : 0.0, 1.0));
+            }
+        }
+        RecordFileDataset.write(file, data);
+
+        final RecordFileDataset<Boolean> dataset =
+            new RecordFileDataset<Boolean>(file,
+                new ScalarThresholdBinaryCategorizer(0.5));
+        dataset.setWindowSize(1000);
+        final Iterable<DefaultWeightedInputOutputPair<Vector, Boolean>> stream =
+            new PrefetchingIterable<DefaultWeightedInputOutputPair<Vector, Boolean>>(
+                new ShuffleBufferIterable<DefaultWeightedInputOutputPair<Vector, Boolean>>(
+                    dataset, 100, this.random), 16, 2);
+
+        final OnlinePerceptron learner = new OnlinePerceptron();
+        final LinearBinaryCategorizer result = learner.learn(stream);
+        for (int pass = 0; pass < 20; pass++)
+        {
+            learner.update(result, stream);
+        }
+
+        int correct = 0;
+        int total = 0;
+        final Iterator<DefaultWeightedInputOutputPair<Vector, Boolean>> it =
+            dataset.iterator();
+        while (it.hasNext())
+        {
+            final DefaultWeightedInputOutputPair<Vector, Boolean> example =
+                it.next();
+            if (example.getOutput().equals(result.evaluate(example.getInput())))
+            {
+                correct++;
+            }
+            total++;
+        }
+        assertEquals(data.size(), total);
+        assertTrue(correct >= 0.95 * total);
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * File:            ParallelLearnerComparisonExperimentTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.experiment;
+
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.learning.algorithm.perceptron.Perceptron;
+import gov.sandia.cognition.learning.algorithm.perceptron.kernel.KernelPerceptron;
+import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.learning.function.kernel.PolynomialKernel;
+import gov.sandia.cognition.learning.performance.MeanZeroOneErrorEvaluator;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.mtj.Vector2;
+import gov.sandia.cognition.statistics.method.ConfidenceInterval;
+import gov.sandia.cognition.statistics.method.StudentTConfidence;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code ParallelLearnerComparisonExperiment}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelLearnerComparisonExperimentTest
+    extends TestCase
+{
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public ParallelLearnerComparisonExperimentTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class ParallelLearnerComparisonExperiment.
+     */
+    public void testConstructors()
+    {
+        ParallelLearnerComparisonExperiment<InputOutputPair<Vector, Boolean>, InputOutputPair<Vector, Boolean>,
+            Evaluator<? super Vector, ? extends Boolean>, Number, ConfidenceInterval>
+            instance = new ParallelLearnerComparisonExperiment<InputOutputPair<Vector, Boolean>, InputOutputPair<Vector, Boolean>,
+                Evaluator<? super Vector, ? extends Boolean>, Number, ConfidenceInterval>();
+        assertNull(instance.getFoldCreator());
+        assertNull(instance.getPerformanceEvaluator());
+        assertNull(instance.getStatisticalTest());
+        assertNull(instance.getSummarizer());
+
+        CrossFoldCreator<InputOutputPair<Vector, Boolean>> foldCreator =
+            new CrossFoldCreator<InputOutputPair<Vector, Boolean>>(4);
+        MeanZeroOneErrorEvaluator<Vector, Boolean> performance =
+            new MeanZeroOneErrorEvaluator<Vector, Boolean>();
+        StudentTConfidence.Summary summarizer = new StudentTConfidence.Summary(0.95);
+        StudentTConfidence test = new StudentTConfidence();
+        instance = new ParallelLearnerComparisonExperiment<InputOutputPair<Vector, Boolean>, InputOutputPair<Vector, Boolean>,
+                Evaluator<? super Vector, ? extends Boolean>, Number, ConfidenceInterval>(
+            foldCreator, performance, test, summarizer);
+        assertSame(foldCreator, instance.getFoldCreator());
+        assertSame(performance, instance.getPerformanceEvaluator());
+        assertSame(test, instance.getStatisticalTest());
+        assertSame(summarizer, instance.getSummarizer());
+        assertNotNull(instance.getThreadPool());
+        assertTrue(instance.getNumThreads() > 0);
+    }
+
+    /**
+     * Test of evaluate method, of class ParallelLearnerComparisonExperiment.
+     */
+    public void testEvaluate()
+    {
+        // The XOR problem with some noise.
+        final Random random = new Random(211);
+        ArrayList<InputOutputPair<Vector, Boolean>> examples =
+            new ArrayList<InputOutputPair<Vector, Boolean>>();
+        for (int i = 0; i < 40; i++)
+        {
+            final boolean x = random.nextBoolean();
+            final boolean y = random.nextBoolean();
+            examples.add(new DefaultInputOutputPair<Vector, Boolean>(
+                new Vector2((x ? 1.0 : 0.0) + 0.01 * random.nextDouble(),
+                    (y ? 1.0 : 0.0) + 0.01 * random.nextDouble()), x != y));
+        }
+
+        MeanZeroOneErrorEvaluator<Vector, Boolean> performance =
+            new MeanZeroOneErrorEvaluator<Vector, Boolean>();
+        StudentTConfidence.Summary summarizer = new StudentTConfidence.Summary(0.95);
+        StudentTConfidence test = new StudentTConfidence();
+        ParallelLearnerComparisonExperiment<InputOutputPair<Vector, Boolean>, InputOutputPair<Vector, Boolean>,
+            Evaluator<? super Vector, ? extends Boolean>, Number, ConfidenceInterval>
+            instance = new ParallelLearnerComparisonExperiment<InputOutputPair<Vector, Boolean>, InputOutputPair<Vector, Boolean>,
+                Evaluator<? super Vector, ? extends Boolean>, Number, ConfidenceInterval>(
+            new CrossFoldCreator<InputOutputPair<Vector, Boolean>>(10, random),
+            performance, test, summarizer);
+        instance.setThreadPool((ThreadPoolExecutor) Executors.newFixedThreadPool(3));
+
+        // The perceptron can't learn the XOR problem, but the kernel
+        // perceptron with a polynomial of degree 2 can.
+        Perceptron learner1 = new Perceptron();
+        KernelPerceptron<Vector> learner2 = new KernelPerceptron<Vector>(
+            new PolynomialKernel(2));
+
+        LearnerComparisonExperiment.Result<ConfidenceInterval> result =
+            instance.evaluate(learner1, learner2, examples);
+        assertTrue(result.getConfidence().getNullHypothesisProbability() < 0.05);
+        assertTrue(result.getSummaries().getFirst().getCentralValue() > 0.0);
+        assertEquals(0.0, result.getSummaries().getSecond().getCentralValue());
+
+        assertSame(result.getConfidence(), instance.getConfidence());
+        assertSame(result.getSummaries(), instance.getSummaries());
+        assertSame(learner1, instance.getLearners().getFirst());
+        assertSame(learner2, instance.getLearners().getSecond());
+        assertEquals(10, instance.getNumTrials());
+        assertEquals(10, instance.getStatistics().getFirst().size());
+        assertEquals(10, instance.getStatistics().getSecond().size());
+        instance.getThreadPool().shutdown();
+    }
+
+}
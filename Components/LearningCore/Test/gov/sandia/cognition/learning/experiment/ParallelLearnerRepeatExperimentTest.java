@@ -0,0 +1,123 @@
+/*
+ * File:            ParallelLearnerRepeatExperimentTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.learning.experiment;
+
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.learning.algorithm.ensemble.BinaryBaggingLearner;
+import gov.sandia.cognition.learning.algorithm.perceptron.Perceptron;
+import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.learning.data.PartitionedDataset;
+import gov.sandia.cognition.learning.data.RandomDataPartitioner;
+import gov.sandia.cognition.learning.performance.MeanZeroOneErrorEvaluator;
+import gov.sandia.cognition.math.UnivariateStatisticsUtil;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.mtj.Vector2;
+import gov.sandia.cognition.statistics.method.ConfidenceInterval;
+import gov.sandia.cognition.statistics.method.StudentTConfidence;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class {@code ParallelLearnerRepeatExperiment}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelLearnerRepeatExperimentTest
+    extends TestCase
+{
+
+    /** Random number generator. */
+    protected Random random = new Random(211);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName The test name.
+     */
+    public ParallelLearnerRepeatExperimentTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class ParallelLearnerRepeatExperiment.
+     */
+    public void testConstructors()
+    {
+        ParallelLearnerRepeatExperiment<InputOutputPair<Vector, Boolean>, Evaluator<? super Vector, ? extends Boolean>, Double, ConfidenceInterval>
+            instance = new ParallelLearnerRepeatExperiment<InputOutputPair<Vector, Boolean>, Evaluator<? super Vector, ? extends Boolean>, Double, ConfidenceInterval>();
+        assertEquals(LearnerRepeatExperiment.DEFAULT_NUM_TRIALS,
+            instance.getNumTrials());
+        assertNull(instance.getPerformanceEvaluator());
+        assertNull(instance.getSummarizer());
+
+        MeanZeroOneErrorEvaluator<Vector, Boolean> measure = new MeanZeroOneErrorEvaluator<Vector, Boolean>();
+        StudentTConfidence.Summary summarizer = new StudentTConfidence.Summary(0.95);
+        instance = new ParallelLearnerRepeatExperiment<InputOutputPair<Vector, Boolean>, Evaluator<? super Vector, ? extends Boolean>, Double, ConfidenceInterval>(
+            7, measure, summarizer);
+        assertEquals(7, instance.getNumTrials());
+        assertSame(measure, instance.getPerformanceEvaluator());
+        assertSame(summarizer, instance.getSummarizer());
+        assertNotNull(instance.getThreadPool());
+        assertTrue(instance.getNumThreads() > 0);
+    }
+
+    /**
+     * Test of evaluatePerformance method, of class
+     * ParallelLearnerRepeatExperiment.
+     */
+    public void testEvaluatePerformance()
+    {
+        final int numTrials = 15;
+        MeanZeroOneErrorEvaluator<Vector, Boolean> measure =
+            new MeanZeroOneErrorEvaluator<Vector, Boolean>();
+        StudentTConfidence.Summary summarizer = new StudentTConfidence.Summary(0.95);
+        ParallelLearnerRepeatExperiment<InputOutputPair<Vector, Boolean>, Evaluator<? super Vector, ? extends Boolean>, Double, ConfidenceInterval>
+            instance = new ParallelLearnerRepeatExperiment<InputOutputPair<Vector, Boolean>, Evaluator<? super Vector, ? extends Boolean>, Double, ConfidenceInterval>(
+                numTrials, measure, summarizer);
+        instance.setThreadPool((ThreadPoolExecutor) Executors.newFixedThreadPool(3));
+
+        ArrayList<InputOutputPair<Vector, Boolean>> examples =
+            new ArrayList<InputOutputPair<Vector, Boolean>>();
+        for (int i = 0; i < 60; i++)
+        {
+            final Vector2 input = new Vector2(this.random.nextGaussian(),
+                this.random.nextGaussian());
+            examples.add(new DefaultInputOutputPair<Vector, Boolean>(input,
+                input.getX() + 0.5 * this.random.nextGaussian() > 0.0));
+        }
+        PartitionedDataset<InputOutputPair<Vector, Boolean>> dataset =
+            RandomDataPartitioner.createPartition(examples, 0.5, this.random);
+
+        BinaryBaggingLearner<Vector> learner = new BinaryBaggingLearner<Vector>(
+            new Perceptron(), 5, this.random);
+
+        ConfidenceInterval result = instance.evaluatePerformance(learner,
+            dataset);
+        assertSame(learner, instance.getLearner());
+        assertNotNull(result);
+        assertTrue(result.getCentralValue() > 0.0);
+        assertEquals(UnivariateStatisticsUtil.computeMean(instance.getStatistics()),
+            result.getCentralValue(), 1e-10);
+        assertEquals(numTrials, instance.getStatistics().size());
+        assertSame(result, instance.getSummary());
+
+        // The randomized learner gets a different seed on each trial.
+        assertTrue(new HashSet<Double>(instance.getStatistics()).size() > 1);
+        instance.getThreadPool().shutdown();
+    }
+
+}
@@ -495,8 +495,27 @@ public abstract class UnivariateDistributionTestHarness<NumberType extends Numbe
         System.out.println( "Sample Variance: " + sampleVariance );
         System.out.println( "Stated Variance: " + estimatedVariance );
         double max = Math.max(sampleVariance,estimatedVariance);
+
+        // The standard error of the sample variance is
+        // sqrt((m4 - variance^2)/N), where m4 is the fourth central moment,
+        // so it grows with the kurtosis. A heavy-tailed distribution needs a
+        // much wider bound than max/sqrt(N), which is only 1.4 standard
+        // errors even for a Gaussian. The fourth moment comes from a larger,
+        // independent sample, since for heavy tails the fourth moment of the
+        // same N points is usually far too small.
+        ArrayList<? extends Number> s2 =
+            instance.sample(RANDOM, 10 * NUM_SAMPLES);
+        double mean = UnivariateStatisticsUtil.computeMean(s2);
+        double moment2 = UnivariateStatisticsUtil.computeCentralMoment(
+            s2, mean, 2);
+        double moment4 = UnivariateStatisticsUtil.computeCentralMoment(
+            s2, mean, 4);
+        double standardError = Math.sqrt(
+            Math.max(0.0, moment4 - moment2*moment2) / s1.size());
+        System.out.println( "Standard Error: " + standardError );
         assertEquals( sampleVariance, instance.getVariance(),
-            MONTE_CARLO_FACTOR*max/Math.sqrt(NUM_SAMPLES) );
+            MONTE_CARLO_FACTOR*Math.max(
+                max/Math.sqrt(NUM_SAMPLES), standardError) );
     }
 
     /**
@@ -0,0 +1,425 @@
+/*
+ * File:            ParallelMarkovChainMonteCarloTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.bayesian;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.statistics.DataDistribution;
+import gov.sandia.cognition.statistics.distribution.UniformDistribution;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ParallelMarkovChainMonteCarlo.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelMarkovChainMonteCarloTest
+    extends TestCase
+{
+
+    /** Random number generator to use for a fixed random seed. */
+    protected Random random = new Random(4747);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ParallelMarkovChainMonteCarloTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class ParallelMarkovChainMonteCarlo.
+     */
+    public void testConstructors()
+    {
+        ParallelMarkovChainMonteCarlo<Double, Double> instance =
+            new ParallelMarkovChainMonteCarlo<Double, Double>();
+        assertNull(instance.getPrototype());
+        assertNull(instance.getStatistic());
+        assertEquals(ParallelMarkovChainMonteCarlo.DEFAULT_NUM_CHAINS,
+            instance.getNumChains());
+        assertEquals(ParallelMarkovChainMonteCarlo.DEFAULT_CHECK_INTERVAL,
+            instance.getCheckInterval());
+        assertEquals(ParallelMarkovChainMonteCarlo.DEFAULT_R_HAT_THRESHOLD,
+            instance.getRHatThreshold());
+        assertEquals(
+            ParallelMarkovChainMonteCarlo.DEFAULT_TARGET_EFFECTIVE_SAMPLE_SIZE,
+            instance.getTargetEffectiveSampleSize());
+        assertNotNull(instance.getRandom());
+        assertFalse(instance.isConverged());
+
+        GaussianRandomWalk prototype = new GaussianRandomWalk();
+        instance = new ParallelMarkovChainMonteCarlo<Double, Double>(
+            prototype, 7, random);
+        assertSame(prototype, instance.getPrototype());
+        assertEquals(7, instance.getNumChains());
+        assertSame(random, instance.getRandom());
+    }
+
+    /**
+     * Test of clone method, of class ParallelMarkovChainMonteCarlo.
+     */
+    public void testClone()
+    {
+        ParallelMarkovChainMonteCarlo<Double, Double> instance =
+            new ParallelMarkovChainMonteCarlo<Double, Double>(
+                new GaussianRandomWalk(), 3, random);
+        ParallelMarkovChainMonteCarlo<Double, Double> clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertNotSame(instance.getPrototype(), clone.getPrototype());
+        assertEquals(3, clone.getNumChains());
+    }
+
+    /**
+     * Test of learn method, of class ParallelMarkovChainMonteCarlo, when the
+     * chains mix and stop early.
+     */
+    public void testLearnConverges()
+    {
+        final int numChains = 4;
+        final int maxIterations = 20000;
+        GaussianRandomWalk prototype = new GaussianRandomWalk();
+        prototype.setMaxIterations(maxIterations);
+        prototype.setBurnInIterations(100);
+        ParallelMarkovChainMonteCarlo<Double, Double> instance =
+            new ParallelMarkovChainMonteCarlo<Double, Double>(
+                prototype, numChains, random);
+        instance.setThreadPool(ParallelUtil.createThreadPool(numChains));
+
+        List<Double> data = Arrays.asList(1.0, 2.0);
+        DataDistribution<Double> result = instance.learn(data);
+        assertTrue(instance.isConverged());
+        assertTrue(instance.getRHat() < instance.getRHatThreshold());
+        assertTrue(instance.getEffectiveSampleSize()
+            >= instance.getTargetEffectiveSampleSize());
+
+        // The samples of all the chains are merged, but they stopped early.
+        final double total = result.getTotal();
+        assertTrue(total >= numChains * instance.getCheckInterval());
+        assertTrue(total < numChains * maxIterations);
+
+        // The target is a standard Gaussian.
+        double mean = 0.0;
+        for (Double value : result.getDomain())
+        {
+            mean += value * result.get(value);
+        }
+        mean /= total;
+        assertEquals(0.0, mean, 0.25);
+
+        // The prototype is not run.
+        assertNull(prototype.getResult());
+    }
+
+    /**
+     * Test of learn method, of class ParallelMarkovChainMonteCarlo, when
+     * there are more chains than threads in the thread pool.
+     */
+    public void testLearnConvergesMoreChainsThanThreads()
+    {
+        final int numChains = 8;
+        final int maxIterations = 20000;
+        GaussianRandomWalk prototype = new GaussianRandomWalk();
+        prototype.setMaxIterations(maxIterations);
+        prototype.setBurnInIterations(100);
+        ParallelMarkovChainMonteCarlo<Double, Double> instance =
+            new ParallelMarkovChainMonteCarlo<Double, Double>(
+                prototype, numChains, random);
+        final ThreadPoolExecutor threadPool = ParallelUtil.createThreadPool(2);
+        instance.setThreadPool(threadPool);
+
+        List<Double> data = Arrays.asList(1.0, 2.0);
+        DataDistribution<Double> result = instance.learn(data);
+
+        // The chains still stop early, since they all run at once. If they
+        // were queued on the two threads, all but the last two chains would
+        // run for the maximum number of iterations.
+        assertTrue(instance.isConverged());
+        assertTrue(result.getTotal() < (numChains - 2) * maxIterations);
+        assertSame(threadPool, instance.getThreadPool());
+        assertFalse(threadPool.isShutdown());
+        threadPool.shutdown();
+    }
+
+    /**
+     * Test of learn method, of class ParallelMarkovChainMonteCarlo, when the
+     * chains run out of iterations before they mix.
+     */
+    public void testLearnMaxIterations()
+    {
+        final int numChains = 3;
+        final int maxIterations = 50;
+        GaussianRandomWalk prototype = new GaussianRandomWalk();
+        prototype.setMaxIterations(maxIterations);
+        ParallelMarkovChainMonteCarlo<Double, Double> instance =
+            new ParallelMarkovChainMonteCarlo<Double, Double>(
+                prototype, numChains, random);
+        instance.setCheckInterval(10);
+
+        DataDistribution<Double> result = instance.learn(
+            Arrays.asList(1.0));
+        assertFalse(instance.isConverged());
+        assertEquals(numChains * maxIterations, result.getTotal(), 0.0);
+        assertTrue(instance.getEffectiveSampleSize()
+            < instance.getTargetEffectiveSampleSize());
+        assertTrue(instance.getRHat() > 0.0);
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new ParallelMarkovChainMonteCarlo<Double, Double>().learn(
+                Arrays.asList(1.0));
+        }
+        catch (IllegalStateException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of learn method, of class ParallelMarkovChainMonteCarlo, with
+     * starting points sampled from an overdispersed distribution.
+     */
+    public void testLearnInitialParameterDistribution()
+    {
+        final int numChains = 4;
+        GaussianRandomWalk prototype = new GaussianRandomWalk();
+        prototype.setMaxIterations(200);
+        ParallelMarkovChainMonteCarlo<Double, Double> instance =
+            new ParallelMarkovChainMonteCarlo<Double, Double>(
+                prototype, numChains, random);
+        instance.setCheckInterval(20);
+        UniformDistribution initial = new UniformDistribution(-1000.0, 1000.0);
+        instance.setInitialParameterDistribution(initial);
+        assertSame(initial, instance.getInitialParameterDistribution());
+
+        // The chains start too far apart to mix in the iterations given.
+        DataDistribution<Double> result = instance.learn(Arrays.asList(1.0));
+        assertFalse(instance.isConverged());
+        assertTrue(instance.getRHat() > 10.0);
+        assertEquals(numChains * 200, result.getTotal(), 0.0);
+        assertNull(prototype.getInitialParameter());
+
+        // Each chain starts from its own point.
+        prototype.setMaxIterations(1);
+        prototype.setBurnInIterations(0);
+        instance.setInitialParameterDistribution(
+            new UniformDistribution(100.0, 101.0));
+        result = instance.learn(Arrays.asList(1.0));
+        assertEquals(numChains, result.getTotal(), 0.0);
+        for (Double value : result.getDomain())
+        {
+            assertTrue(value > 90.0);
+        }
+    }
+
+    /**
+     * Test of computePotentialScaleReduction method, of class
+     * ParallelMarkovChainMonteCarlo.
+     */
+    public void testComputePotentialScaleReduction()
+    {
+        double[][] chains = new double[4][1000];
+        for (double[] chain : chains)
+        {
+            for (int i = 0; i < chain.length; i++)
+            {
+                chain[i] = random.nextGaussian();
+            }
+        }
+        double rHat =
+            ParallelMarkovChainMonteCarlo.computePotentialScaleReduction(chains);
+        assertEquals(1.0, rHat, 0.01);
+
+        // Shifting one chain means it has not mixed.
+        for (int i = 0; i < chains[0].length; i++)
+        {
+            chains[0][i] += 3.0;
+        }
+        rHat =
+            ParallelMarkovChainMonteCarlo.computePotentialScaleReduction(chains);
+        assertTrue(rHat > 1.5);
+
+        // Constant chains.
+        double[][] constant = { { 1.0, 1.0, 1.0 }, { 1.0, 1.0, 1.0 } };
+        assertEquals(1.0,
+            ParallelMarkovChainMonteCarlo.computePotentialScaleReduction(
+                constant));
+        constant[1] = new double[] { 2.0, 2.0, 2.0 };
+        assertEquals(Double.POSITIVE_INFINITY,
+            ParallelMarkovChainMonteCarlo.computePotentialScaleReduction(
+                constant));
+    }
+
+    /**
+     * Test of computeEffectiveSampleSize method, of class
+     * ParallelMarkovChainMonteCarlo.
+     */
+    public void testComputeEffectiveSampleSize()
+    {
+        // Independent samples have an effective sample size near the total.
+        double[][] chains = new double[4][1000];
+        for (double[] chain : chains)
+        {
+            for (int i = 0; i < chain.length; i++)
+            {
+                chain[i] = random.nextGaussian();
+            }
+        }
+        double ess =
+            ParallelMarkovChainMonteCarlo.computeEffectiveSampleSize(chains);
+        assertEquals(4000.0, ess, 600.0);
+
+        // A strongly autocorrelated chain has a much smaller one.
+        for (double[] chain : chains)
+        {
+            chain[0] = random.nextGaussian();
+            for (int i = 1; i < chain.length; i++)
+            {
+                chain[i] = 0.95 * chain[i - 1]
+                    + Math.sqrt(1.0 - 0.95 * 0.95) * random.nextGaussian();
+            }
+        }
+        ess = ParallelMarkovChainMonteCarlo.computeEffectiveSampleSize(chains);
+        // The true value is 4000 * 0.05 / 1.95, which is about 103.
+        assertEquals(103.0, ess, 50.0);
+
+        double[][] constant = { { 1.0, 1.0, 1.0 }, { 1.0, 1.0, 1.0 } };
+        assertEquals(6.0,
+            ParallelMarkovChainMonteCarlo.computeEffectiveSampleSize(constant));
+    }
+
+    /**
+     * Test of the setters of class ParallelMarkovChainMonteCarlo.
+     */
+    public void testSetters()
+    {
+        ParallelMarkovChainMonteCarlo<Double, Double> instance =
+            new ParallelMarkovChainMonteCarlo<Double, Double>();
+
+        instance.setNumChains(2);
+        assertEquals(2, instance.getNumChains());
+        instance.setCheckInterval(1);
+        assertEquals(1, instance.getCheckInterval());
+        instance.setRHatThreshold(1.1);
+        assertEquals(1.1, instance.getRHatThreshold());
+        instance.setTargetEffectiveSampleSize(0.0);
+        assertEquals(0.0, instance.getTargetEffectiveSampleSize());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setNumChains(1);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(2, instance.getNumChains());
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setCheckInterval(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setRHatThreshold(1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setTargetEffectiveSampleSize(-1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * A Metropolis random walk whose target is a standard Gaussian.
+     */
+    public static class GaussianRandomWalk
+        extends AbstractMarkovChainMonteCarlo<Double, Double>
+    {
+
+        /**
+         * Creates a new {@code GaussianRandomWalk}.
+         */
+        public GaussianRandomWalk()
+        {
+            super();
+
+            this.setRandom(new Random(1));
+        }
+
+        @Override
+        public Double createInitialLearnedObject()
+        {
+            // Start the chains far from the mode.
+            return 5.0 * this.random.nextGaussian();
+        }
+
+        @Override
+        protected void mcmcUpdate()
+        {
+            final double current = this.currentParameter;
+            final double proposal = current + 2.0 * this.random.nextGaussian();
+            final double logRatio =
+                0.5 * (current * current - proposal * proposal);
+            if (Math.log(this.random.nextDouble()) < logRatio)
+            {
+                this.setCurrentParameter(proposal);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,429 @@
+/*
+ * File:            ParallelVectorParticleFilterTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.bayesian;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.statistics.bayesian.ParallelVectorParticleFilter.ParticleSet;
+import gov.sandia.cognition.statistics.bayesian.ParallelVectorParticleFilter.ResamplingMethod;
+import gov.sandia.cognition.statistics.distribution.DefaultDataDistribution;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ParallelVectorParticleFilter.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelVectorParticleFilterTest
+    extends TestCase
+{
+
+    /** Random number generator to use for a fixed random seed. */
+    protected Random random = new Random(211);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ParallelVectorParticleFilterTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class ParallelVectorParticleFilter.
+     */
+    public void testConstructors()
+    {
+        ParallelVectorParticleFilter<Double> instance =
+            new ParallelVectorParticleFilter<Double>();
+        assertNull(instance.getUpdater());
+        assertEquals(ParallelVectorParticleFilter.DEFAULT_NUM_PARTICLES,
+            instance.getNumParticles());
+        assertEquals(ParallelVectorParticleFilter.DEFAULT_RESAMPLE_THRESHOLD,
+            instance.getResampleThreshold());
+        assertEquals(ParallelVectorParticleFilter.DEFAULT_RESAMPLING_METHOD,
+            instance.getResamplingMethod());
+        assertEquals(ParallelVectorParticleFilter.DEFAULT_NUM_BLOCKS,
+            instance.getNumBlocks());
+        assertNotNull(instance.getRandom());
+
+        RandomWalkUpdater updater = new RandomWalkUpdater();
+        instance = new ParallelVectorParticleFilter<Double>(updater, 20,
+            random);
+        assertSame(updater, instance.getUpdater());
+        assertEquals(20, instance.getNumParticles());
+        assertSame(random, instance.getRandom());
+    }
+
+    /**
+     * Test of clone method, of class ParallelVectorParticleFilter.
+     */
+    public void testClone()
+    {
+        ParallelVectorParticleFilter<Double> instance =
+            new ParallelVectorParticleFilter<Double>(new RandomWalkUpdater(),
+                20, random);
+        ParallelVectorParticleFilter<Double> clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertNotSame(instance.getUpdater(), clone.getUpdater());
+        assertEquals(instance.getNumParticles(), clone.getNumParticles());
+
+        ParticleSet particles = instance.createInitialLearnedObject();
+        ParticleSet particlesClone = particles.clone();
+        assertNotSame(particles.getStates(), particlesClone.getStates());
+        assertNotSame(particles.getWeights(), particlesClone.getWeights());
+        assertEquals(particles.getMean(), particlesClone.getMean());
+    }
+
+    /**
+     * Test of createInitialLearnedObject method, of class
+     * ParallelVectorParticleFilter.
+     */
+    public void testCreateInitialLearnedObject()
+    {
+        ParallelVectorParticleFilter<Double> instance =
+            new ParallelVectorParticleFilter<Double>(new RandomWalkUpdater(),
+                500, random);
+        ParticleSet particles = instance.createInitialLearnedObject();
+        assertEquals(500, particles.getNumParticles());
+        assertEquals(1, particles.getDimensionality());
+        assertEquals(500, particles.getStates().length);
+        assertEquals(500.0, particles.computeEffectiveParticles(), 1e-6);
+        assertEquals(1.0 / 500, particles.getWeight(17));
+        assertEquals(0.0, particles.getMean().getElement(0), 0.5);
+
+        DefaultDataDistribution<Vector> distribution =
+            particles.toDataDistribution();
+        assertEquals(1.0, distribution.getTotal(), 1e-6);
+    }
+
+    /**
+     * Test of learn method, of class ParallelVectorParticleFilter, tracking a
+     * random walk from noisy observations.
+     */
+    public void testLearn()
+    {
+        ParallelVectorParticleFilter<Double> instance =
+            new ParallelVectorParticleFilter<Double>(new RandomWalkUpdater(),
+                5000, random);
+
+        for (ResamplingMethod method : ResamplingMethod.values())
+        {
+            instance.setResamplingMethod(method);
+            ParticleSet particles = instance.createInitialLearnedObject();
+            double state = 0.0;
+            double sumSquaredError = 0.0;
+            final int numSteps = 100;
+            for (int t = 0; t < numSteps; t++)
+            {
+                state += random.nextGaussian();
+                final double observation = state + random.nextGaussian();
+                instance.update(particles, observation);
+
+                final double estimate = particles.getMean().getElement(0);
+                sumSquaredError += (estimate - state) * (estimate - state);
+                assertEquals(1.0, sum(particles.getWeights()), 1e-6);
+            }
+
+            // The steady-state posterior variance of this filter is about
+            // 0.62, which is well below the observation noise of 1.
+            final double meanSquaredError = sumSquaredError / numSteps;
+            assertTrue(meanSquaredError < 1.0);
+        }
+    }
+
+    /**
+     * Test of update method, of class ParallelVectorParticleFilter, that the
+     * result for a seed does not depend on the number of threads.
+     */
+    public void testUpdateReproducible()
+    {
+        double[] expected = null;
+        for (int numThreads : new int[] { 1, 2, 3, 8 })
+        {
+            ParallelVectorParticleFilter<Double> instance =
+                new ParallelVectorParticleFilter<Double>(
+                    new RandomWalkUpdater(), 1000, new Random(11));
+            instance.setThreadPool(ParallelUtil.createThreadPool(numThreads));
+            ParticleSet particles = instance.createInitialLearnedObject();
+            for (int t = 0; t < 10; t++)
+            {
+                instance.update(particles, 0.5 * t);
+            }
+
+            if (expected == null)
+            {
+                expected = particles.getStates().clone();
+            }
+            else
+            {
+                assertTrue(Arrays.equals(expected, particles.getStates()));
+            }
+        }
+    }
+
+    /**
+     * Test of update method, of class ParallelVectorParticleFilter, when no
+     * particle can explain the observation.
+     */
+    public void testUpdateImpossibleObservation()
+    {
+        ParallelVectorParticleFilter<Double> instance =
+            new ParallelVectorParticleFilter<Double>(new RandomWalkUpdater(),
+                100, random);
+        ParticleSet particles = instance.createInitialLearnedObject();
+        instance.update(particles, Double.POSITIVE_INFINITY);
+        for (double weight : particles.getWeights())
+        {
+            assertEquals(0.01, weight, 1e-10);
+        }
+    }
+
+    /**
+     * Test of resample method, of class ParallelVectorParticleFilter.
+     */
+    public void testResample()
+    {
+        ParallelVectorParticleFilter<Double> instance =
+            new ParallelVectorParticleFilter<Double>(new RandomWalkUpdater(),
+                4, random);
+        ParticleSet particles = new ParticleSet(4, 2);
+        double[] states = particles.getStates();
+        for (int i = 0; i < states.length; i++)
+        {
+            states[i] = i;
+        }
+        double[] weights = particles.getWeights();
+        weights[0] = 0.0;
+        weights[1] = 0.0;
+        weights[2] = 1.0;
+        weights[3] = 0.0;
+
+        instance.resample(particles);
+        for (int i = 0; i < 4; i++)
+        {
+            assertEquals(0.25, particles.getWeight(i));
+            assertEquals(4.0, particles.getParticle(i).getElement(0));
+            assertEquals(5.0, particles.getParticle(i).getElement(1));
+        }
+        assertEquals(4.0, particles.computeEffectiveParticles(), 1e-10);
+    }
+
+    /**
+     * Test of sampleIndices method, of class ParallelVectorParticleFilter.
+     */
+    public void testSampleIndices()
+    {
+        final int count = 1000;
+        double[] weights = new double[count];
+        for (int i = 0; i < count; i++)
+        {
+            weights[i] = (i % 4) + 0.5;
+        }
+        double total = sum(weights);
+
+        for (ResamplingMethod method : ResamplingMethod.values())
+        {
+            int[] indices = new int[count];
+            ParallelVectorParticleFilter.sampleIndices(weights, method,
+                random, indices);
+
+            int[] counts = new int[count];
+            for (int j = 0; j < count; j++)
+            {
+                assertTrue(indices[j] >= 0 && indices[j] < count);
+                if (j > 0)
+                {
+                    assertTrue(indices[j] >= indices[j - 1]);
+                }
+                counts[indices[j]]++;
+            }
+
+            for (int i = 0; i < count; i++)
+            {
+                final double expected = count * weights[i] / total;
+                if (method == ResamplingMethod.SYSTEMATIC)
+                {
+                    // Systematic resampling keeps each count within one of
+                    // its expected value.
+                    assertTrue(Math.abs(counts[i] - expected) < 1.0);
+                }
+                else
+                {
+                    assertTrue(Math.abs(counts[i] - expected) < 2.0);
+                }
+            }
+        }
+
+        // Equal weights always select each index once.
+        int[] indices = new int[3];
+        ParallelVectorParticleFilter.sampleIndices(
+            new double[] { 2.0, 2.0, 2.0 }, ResamplingMethod.SYSTEMATIC,
+            random, indices);
+        assertEquals(0, indices[0]);
+        assertEquals(1, indices[1]);
+        assertEquals(2, indices[2]);
+    }
+
+    /**
+     * Test of the setters of class ParallelVectorParticleFilter.
+     */
+    public void testSetters()
+    {
+        ParallelVectorParticleFilter<Double> instance =
+            new ParallelVectorParticleFilter<Double>();
+
+        instance.setNumParticles(3);
+        assertEquals(3, instance.getNumParticles());
+        instance.setResampleThreshold(1.0);
+        assertEquals(1.0, instance.getResampleThreshold());
+        instance.setResamplingMethod(ResamplingMethod.STRATIFIED);
+        assertEquals(ResamplingMethod.STRATIFIED,
+            instance.getResamplingMethod());
+        instance.setNumBlocks(5);
+        assertEquals(5, instance.getNumBlocks());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setNumParticles(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setResampleThreshold(1.1);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setNumBlocks(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setResamplingMethod(null);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Sums an array.
+     *
+     * @param   values
+     *      The values.
+     * @return
+     *      The sum.
+     */
+    private static double sum(
+        final double[] values)
+    {
+        double sum = 0.0;
+        for (double value : values)
+        {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * A one-dimensional Gaussian random walk observed with unit Gaussian
+     * noise.
+     */
+    public static class RandomWalkUpdater
+        extends AbstractCloneableSerializable
+        implements ParallelVectorParticleFilter.Updater<Double>
+    {
+
+        /**
+         * Creates a new {@code RandomWalkUpdater}.
+         */
+        public RandomWalkUpdater()
+        {
+            super();
+        }
+
+        @Override
+        public int getDimensionality()
+        {
+            return 1;
+        }
+
+        @Override
+        public void initialize(
+            final double[] states,
+            final int offset,
+            final Random random)
+        {
+            states[offset] = random.nextGaussian();
+        }
+
+        @Override
+        public void propagate(
+            final double[] states,
+            final int offset,
+            final Random random)
+        {
+            states[offset] += random.nextGaussian();
+        }
+
+        @Override
+        public double computeLogLikelihood(
+            final double[] states,
+            final int offset,
+            final Double observation)
+        {
+            final double delta = observation - states[offset];
+            return -0.5 * delta * delta;
+        }
+
+    }
+
+}
@@ -0,0 +1,399 @@
+/*
+ * File:            SparseGaussianProcessRegressionTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.bayesian;
+
+import gov.sandia.cognition.learning.algorithm.clustering.KMeansFactory;
+import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import gov.sandia.cognition.learning.function.kernel.RadialBasisKernel;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.statistics.bayesian.SparseGaussianProcessRegression.Approximation;
+import gov.sandia.cognition.statistics.bayesian.SparseGaussianProcessRegression.PredictiveDistribution;
+import gov.sandia.cognition.statistics.distribution.UnivariateGaussian;
+import java.util.ArrayList;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class SparseGaussianProcessRegression.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class SparseGaussianProcessRegressionTest
+    extends TestCase
+{
+
+    /** Random number generator to use for a fixed random seed. */
+    protected Random random = new Random(2005);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public SparseGaussianProcessRegressionTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Creates noisy samples of a sine wave.
+     *
+     * @param   count
+     *      The number of samples.
+     * @return
+     *      The samples.
+     */
+    protected ArrayList<InputOutputPair<Vector, Double>> createData(
+        final int count)
+    {
+        final ArrayList<InputOutputPair<Vector, Double>> result =
+            new ArrayList<InputOutputPair<Vector, Double>>(count);
+        for (int i = 0; i < count; i++)
+        {
+            final double x = 6.0 * random.nextDouble() - 3.0;
+            final double y = Math.sin(x) + 0.1 * random.nextGaussian();
+            result.add(DefaultInputOutputPair.create(
+                VectorFactory.getDefault().copyValues(x), y));
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class SparseGaussianProcessRegression.
+     */
+    public void testConstructors()
+    {
+        SparseGaussianProcessRegression<Vector> instance =
+            new SparseGaussianProcessRegression<Vector>();
+        assertNull(instance.getKernel());
+        assertEquals(GaussianProcessRegression.DEFAULT_MEASUREMENT_VARIANCE,
+            instance.getOutputVariance());
+        assertEquals(
+            SparseGaussianProcessRegression.DEFAULT_NUM_INDUCING_POINTS,
+            instance.getNumInducingPoints());
+        assertNull(instance.getInducingPoints());
+        assertNull(instance.getInducingPointClusterer());
+        assertEquals(SparseGaussianProcessRegression.DEFAULT_APPROXIMATION,
+            instance.getApproximation());
+        assertEquals(SparseGaussianProcessRegression.DEFAULT_JITTER,
+            instance.getJitter());
+        assertNotNull(instance.getRandom());
+
+        RadialBasisKernel kernel = new RadialBasisKernel();
+        instance = new SparseGaussianProcessRegression<Vector>(kernel, 0.5,
+            12, random);
+        assertSame(kernel, instance.getKernel());
+        assertEquals(0.5, instance.getOutputVariance());
+        assertEquals(12, instance.getNumInducingPoints());
+        assertSame(random, instance.getRandom());
+    }
+
+    /**
+     * Test of clone method, of class SparseGaussianProcessRegression.
+     */
+    public void testClone()
+    {
+        SparseGaussianProcessRegression<Vector> instance =
+            new SparseGaussianProcessRegression<Vector>(
+                new RadialBasisKernel(), 0.5, 12, random);
+        SparseGaussianProcessRegression<Vector> clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertNotSame(instance.getKernel(), clone.getKernel());
+        assertEquals(instance.getOutputVariance(), clone.getOutputVariance());
+        assertEquals(instance.getNumInducingPoints(),
+            clone.getNumInducingPoints());
+    }
+
+    /**
+     * Test of learn method, of class SparseGaussianProcessRegression, using
+     * all of the training inputs as inducing points, where FITC is exact.
+     */
+    public void testLearnAllInducingPoints()
+    {
+        // Keep the problem small so the kernel matrix is well conditioned
+        // without any jitter.
+        final double outputVariance = 0.01;
+        ArrayList<InputOutputPair<Vector, Double>> data = this.createData(8);
+        ArrayList<Vectorizable> inputs = new ArrayList<Vectorizable>();
+        ArrayList<Vector> inducing = new ArrayList<Vector>();
+        for (InputOutputPair<Vector, Double> pair : data)
+        {
+            inputs.add(pair.getInput());
+            inducing.add(pair.getInput());
+        }
+
+        GaussianProcessRegression<Vectorizable> full =
+            new GaussianProcessRegression<Vectorizable>(
+                new RadialBasisKernel(), outputVariance);
+        GaussianProcessRegression<Vectorizable>.PredictiveDistribution
+            fullPredictive = full.createPredictiveDistribution(
+                full.learn(data), inputs);
+
+        SparseGaussianProcessRegression<Vector> instance =
+            new SparseGaussianProcessRegression<Vector>(
+                new RadialBasisKernel(), outputVariance, 5, random);
+        instance.setInducingPoints(inducing);
+        instance.setJitter(0.0);
+
+        instance.setApproximation(Approximation.FITC);
+        PredictiveDistribution<Vector> fitc = instance.learn(data);
+        assertEquals(data.size(), fitc.getInducingPoints().size());
+        instance.setApproximation(Approximation.SUBSET_OF_REGRESSORS);
+        PredictiveDistribution<Vector> sor = instance.learn(data);
+
+        for (int i = 0; i < 20; i++)
+        {
+            Vector x = VectorFactory.getDefault().copyValues(
+                6.0 * random.nextDouble() - 3.0);
+            UnivariateGaussian expected = fullPredictive.evaluate(x);
+            UnivariateGaussian fitcResult = fitc.evaluate(x);
+            assertEquals(expected.getMean(), fitcResult.getMean(), 1e-4);
+            assertEquals(expected.getVariance(), fitcResult.getVariance(),
+                1e-4);
+
+            // Subset of regressors has the same mean but can only
+            // underestimate the variance.
+            UnivariateGaussian sorResult = sor.evaluate(x);
+            assertEquals(expected.getMean(), sorResult.getMean(), 1e-4);
+            assertTrue(sorResult.getVariance()
+                <= expected.getVariance() + 1e-4);
+            assertTrue(sorResult.getVariance() >= outputVariance - 1e-8);
+        }
+    }
+
+    /**
+     * Test of learn method, of class SparseGaussianProcessRegression, with a
+     * random sample of inducing points.
+     */
+    public void testLearnRandomInducingPoints()
+    {
+        ArrayList<InputOutputPair<Vector, Double>> data =
+            this.createData(2000);
+        SparseGaussianProcessRegression<Vector> instance =
+            new SparseGaussianProcessRegression<Vector>(
+                new RadialBasisKernel(), 0.01, 25, random);
+
+        for (Approximation approximation : Approximation.values())
+        {
+            instance.setApproximation(approximation);
+            PredictiveDistribution<Vector> result = instance.learn(data);
+            assertEquals(25, result.getInducingPoints().size());
+            assertEquals(25, result.getWeights().getDimensionality());
+
+            for (int i = 0; i < 20; i++)
+            {
+                final double x = 5.0 * random.nextDouble() - 2.5;
+                UnivariateGaussian prediction = result.evaluate(
+                    VectorFactory.getDefault().copyValues(x));
+                assertEquals(Math.sin(x), prediction.getMean(), 0.1);
+                assertTrue(prediction.getVariance() >= 0.01 - 1e-8);
+            }
+        }
+
+        // Asking for more inducing points than data uses all of it.
+        instance.setNumInducingPoints(100);
+        PredictiveDistribution<Vector> result = instance.learn(
+            this.createData(10));
+        assertEquals(10, result.getInducingPoints().size());
+    }
+
+    /**
+     * Test of learn method, of class SparseGaussianProcessRegression, with
+     * repeated inducing points, which make the kernel matrix singular.
+     */
+    public void testLearnRepeatedInducingPoints()
+    {
+        ArrayList<InputOutputPair<Vector, Double>> data =
+            this.createData(500);
+        ArrayList<Vector> inducing = new ArrayList<Vector>();
+        for (int i = 0; i < 10; i++)
+        {
+            inducing.add(data.get(i).getInput());
+            inducing.add(data.get(i).getInput().clone());
+        }
+        SparseGaussianProcessRegression<Vector> instance =
+            new SparseGaussianProcessRegression<Vector>(
+                new RadialBasisKernel(), 0.01, 20, random);
+        instance.setInducingPoints(inducing);
+        instance.setJitter(0.0);
+
+        for (Approximation approximation : Approximation.values())
+        {
+            instance.setApproximation(approximation);
+            PredictiveDistribution<Vector> result = instance.learn(data);
+            for (int i = 0; i < 20; i++)
+            {
+                final double x = 5.0 * random.nextDouble() - 2.5;
+                UnivariateGaussian prediction = result.evaluate(
+                    VectorFactory.getDefault().copyValues(x));
+                assertFalse(Double.isNaN(prediction.getMean()));
+                assertFalse(Double.isInfinite(prediction.getMean()));
+                assertTrue(prediction.getVariance() >= 0.01 - 1e-8);
+            }
+        }
+    }
+
+    /**
+     * Test of learn method, of class SparseGaussianProcessRegression, with
+     * k-means centroids as inducing points.
+     */
+    public void testLearnClusteredInducingPoints()
+    {
+        ArrayList<InputOutputPair<Vector, Double>> data =
+            this.createData(1000);
+        SparseGaussianProcessRegression<Vector> instance =
+            new SparseGaussianProcessRegression<Vector>(
+                new RadialBasisKernel(), 0.01, 100, random);
+        instance.setInducingPointClusterer(KMeansFactory.create(15, random));
+
+        PredictiveDistribution<Vector> result = instance.learn(data);
+        assertEquals(15, result.getInducingPoints().size());
+        for (int i = 0; i < 20; i++)
+        {
+            final double x = 5.0 * random.nextDouble() - 2.5;
+            UnivariateGaussian prediction = result.evaluate(
+                VectorFactory.getDefault().copyValues(x));
+            assertEquals(Math.sin(x), prediction.getMean(), 0.1);
+        }
+    }
+
+    /**
+     * Test of choleskyFactor method, of class SparseGaussianProcessRegression.
+     */
+    public void testCholeskyFactor()
+    {
+        // A positive definite matrix is factored as is.
+        Matrix matrix = MatrixFactory.getDefault().copyArray(
+            new double[][] { { 4.0, 2.0 }, { 2.0, 3.0 } });
+        Matrix original = matrix.clone();
+        double[][] factor =
+            SparseGaussianProcessRegression.choleskyFactor(matrix, 0.0);
+        assertEquals(original, matrix);
+        assertFactorEquals(matrix, factor);
+
+        // A singular matrix gets the jitter that was needed to factor it.
+        matrix = MatrixFactory.getDefault().copyArray(
+            new double[][] { { 1.0, 1.0 }, { 1.0, 1.0 } });
+        factor = SparseGaussianProcessRegression.choleskyFactor(matrix, 0.0);
+        assertTrue(matrix.getElement(0, 0) > 1.0);
+        assertEquals(matrix.getElement(0, 0), matrix.getElement(1, 1));
+        assertEquals(1.0, matrix.getElement(0, 1));
+        assertFactorEquals(matrix, factor);
+    }
+
+    /**
+     * Asserts that L * L' equals the given matrix.
+     *
+     * @param   expected
+     *      The expected matrix.
+     * @param   lower
+     *      The lower-triangular factor as an array of rows.
+     */
+    protected static void assertFactorEquals(
+        final Matrix expected,
+        final double[][] lower)
+    {
+        final int M = expected.getNumRows();
+        for (int i = 0; i < M; i++)
+        {
+            for (int j = 0; j <= i; j++)
+            {
+                double sum = 0.0;
+                for (int k = 0; k <= j; k++)
+                {
+                    sum += lower[i][k] * lower[j][k];
+                }
+                assertEquals(expected.getElement(i, j), sum, 1e-10);
+            }
+        }
+    }
+
+    /**
+     * Test of the setters of class SparseGaussianProcessRegression.
+     */
+    public void testSetters()
+    {
+        SparseGaussianProcessRegression<Vector> instance =
+            new SparseGaussianProcessRegression<Vector>();
+        instance.setOutputVariance(0.0);
+        assertEquals(0.0, instance.getOutputVariance());
+        instance.setNumInducingPoints(1);
+        assertEquals(1, instance.getNumInducingPoints());
+        instance.setJitter(1e-3);
+        assertEquals(1e-3, instance.getJitter());
+        instance.setApproximation(Approximation.SUBSET_OF_REGRESSORS);
+        assertEquals(Approximation.SUBSET_OF_REGRESSORS,
+            instance.getApproximation());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setOutputVariance(-1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setNumInducingPoints(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setJitter(-1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setApproximation(null);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+}
@@ -390,6 +390,139 @@ public class MultivariateGaussianTest
         assertEquals( instance.getMean().getDimensionality(), instance.getInputDimensionality() );
     }
 
+    /**
+     * Test of getCovarianceSquareRoot method, of class MultivariateGaussian.
+     */
+    public void testGetCovarianceSquareRoot()
+    {
+        System.out.println( "getCovarianceSquareRoot" );
+
+        MultivariateGaussian instance = this.createInstance();
+        Matrix L = instance.getCovarianceSquareRoot();
+        assertTrue( instance.getCovariance().equals( L.times( L.transpose() ), TOLERANCE ) );
+        for( int i = 0; i < L.getNumRows(); i++ )
+        {
+            assertTrue( L.getElement(i, i) > 0.0 );
+            for( int j = i+1; j < L.getNumColumns(); j++ )
+            {
+                assertEquals( 0.0, L.getElement(i, j) );
+            }
+        }
+
+        // Changing the covariance recomputes the factor.
+        instance.setCovariance( instance.getCovariance().scale( 4.0 ) );
+        assertTrue( L.scale( 2.0 ).equals( instance.getCovarianceSquareRoot(), TOLERANCE ) );
+
+        instance.setCovariance( MatrixFactory.getDefault().createMatrix( 3, 3 ) );
+        try
+        {
+            instance.getCovarianceSquareRoot();
+            fail( "Covariance must be positive definite" );
+        }
+        catch (IllegalStateException e)
+        {
+            System.out.println( "Good: " + e );
+        }
+    }
+
+    /**
+     * Test of computeZSquared method with a Matrix, of class MultivariateGaussian.
+     */
+    public void testComputeZSquaredMatrix()
+    {
+        System.out.println( "computeZSquared(Matrix)" );
+
+        MultivariateGaussian instance = this.createInstance();
+        final int N = 20;
+        Matrix inputs = MatrixFactory.getDefault().createUniformRandom(
+            N, instance.getInputDimensionality(), -3.0, 3.0, RANDOM );
+        double[] result = new double[ N ];
+        instance.computeZSquared( inputs, result );
+        Matrix covarianceInverse = instance.getCovarianceInverse();
+        for( int n = 0; n < N; n++ )
+        {
+            Vector delta = inputs.getRow(n).minus( instance.getMean() );
+            double expected = delta.times( covarianceInverse ).dotProduct( delta );
+            assertEquals( expected, result[n], TOLERANCE * Math.max( 1.0, expected ) );
+            assertEquals( result[n], instance.computeZSquared( inputs.getRow(n) ), 1e-10 );
+        }
+
+        try
+        {
+            instance.computeZSquared( MatrixFactory.getDefault().createMatrix( 2, 2 ), result );
+            fail( "Wrong dimensionality" );
+        }
+        catch (Exception e)
+        {
+            System.out.println( "Good: " + e );
+        }
+    }
+
+    /**
+     * Test of logEvaluate method with a Matrix, of class MultivariateGaussian.PDF.
+     */
+    public void testLogEvaluateMatrix()
+    {
+        System.out.println( "PDF.logEvaluate(Matrix)" );
+
+        MultivariateGaussian.PDF instance = this.createInstance().getProbabilityFunction();
+        final int N = 20;
+        Matrix inputs = MatrixFactory.getDefault().createUniformRandom(
+            N, instance.getInputDimensionality(), -3.0, 3.0, RANDOM );
+        double[] result = instance.logEvaluate( inputs );
+        assertEquals( N, result.length );
+        for( int n = 0; n < N; n++ )
+        {
+            assertEquals( instance.logEvaluate( inputs.getRow(n) ), result[n], 1e-10 );
+        }
+
+        // The log-determinant from the Cholesky factor matches the direct one.
+        assertEquals( instance.getCovariance().logDeterminant().getRealPart(),
+            instance.getLogCovarianceDeterminant(), TOLERANCE );
+    }
+
+    /**
+     * Test of sampleInto method with a Matrix, of class MultivariateGaussian.
+     */
+    public void testSampleIntoMatrix()
+    {
+        System.out.println( "sampleInto(Matrix)" );
+
+        Vector mean = VectorFactory.getDefault().copyValues( 1.0, -2.0 );
+        Matrix covariance = MatrixFactory.getDefault().copyArray( new double[][] {
+            { 4.0, 1.5 },
+            { 1.5, 1.0 } } );
+        MultivariateGaussian instance = new MultivariateGaussian( mean, covariance );
+
+        final int N = 20000;
+        Matrix samples = MatrixFactory.getDefault().createMatrix( N, 2 );
+        instance.sampleInto( RANDOM, samples );
+        ArrayList<Vector> rows = new ArrayList<Vector>( N );
+        for( int n = 0; n < N; n++ )
+        {
+            rows.add( samples.getRow(n) );
+        }
+        MultivariateGaussian estimate =
+            MultivariateGaussian.MaximumLikelihoodEstimator.learn( rows, 0.0 );
+        assertTrue( mean.equals( estimate.getMean(), 0.05 ) );
+        assertTrue( covariance.equals( estimate.getCovariance(), 0.1 ) );
+
+        // The collection version samples the same way.
+        ArrayList<Vector> sampled = instance.sample( RANDOM, N );
+        estimate = MultivariateGaussian.MaximumLikelihoodEstimator.learn( sampled, 0.0 );
+        assertTrue( covariance.equals( estimate.getCovariance(), 0.1 ) );
+
+        try
+        {
+            instance.sampleInto( RANDOM, MatrixFactory.getDefault().createMatrix( 2, 3 ) );
+            fail( "Wrong dimensionality" );
+        }
+        catch (Exception e)
+        {
+            System.out.println( "Good: " + e );
+        }
+    }
+
     @Override
     public MultivariateGaussian createInstance()
     {
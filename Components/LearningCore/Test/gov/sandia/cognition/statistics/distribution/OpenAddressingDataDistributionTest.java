@@ -0,0 +1,290 @@
+/*
+ * File:            OpenAddressingDataDistributionTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.collection.ScalarMap;
+import gov.sandia.cognition.statistics.DataDistribution;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class OpenAddressingDataDistribution.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class OpenAddressingDataDistributionTest
+    extends TestCase
+{
+
+    /** Random number generator to use for a fixed random seed. */
+    protected Random random = new Random(1717);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public OpenAddressingDataDistributionTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class OpenAddressingDataDistribution.
+     */
+    public void testConstructors()
+    {
+        OpenAddressingDataDistribution<String> instance =
+            new OpenAddressingDataDistribution<String>();
+        assertEquals(0, instance.size());
+        assertTrue(instance.isEmpty());
+        assertEquals(0.0, instance.getTotal());
+        assertTrue(instance.getCapacity() * 3
+            >= OpenAddressingDataDistribution.DEFAULT_INITIAL_CAPACITY * 4);
+
+        instance = new OpenAddressingDataDistribution<String>(100);
+        assertEquals(0, instance.size());
+        assertTrue(instance.getCapacity() * 3 > 100 * 4);
+
+        instance = new OpenAddressingDataDistribution<String>(
+            Arrays.asList("a", "b", "a", "c", "a"));
+        assertEquals(3, instance.size());
+        assertEquals(5.0, instance.getTotal());
+        assertEquals(3.0, instance.get("a"));
+
+        OpenAddressingDataDistribution<String> copy =
+            new OpenAddressingDataDistribution<String>(instance);
+        assertEquals(3, copy.size());
+        assertEquals(5.0, copy.getTotal());
+        assertEquals(3.0, copy.get("a"));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new OpenAddressingDataDistribution<String>(-1);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of clone method, of class OpenAddressingDataDistribution.
+     */
+    public void testClone()
+    {
+        OpenAddressingDataDistribution<String> instance =
+            new OpenAddressingDataDistribution<String>(
+                Arrays.asList("a", "b", "a"));
+        OpenAddressingDataDistribution<String> clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertEquals(instance.getTotal(), clone.getTotal());
+        assertEquals(2.0, clone.get("a"));
+
+        clone.increment("a");
+        clone.increment("c");
+        assertEquals(2.0, instance.get("a"));
+        assertFalse(instance.containsKey("c"));
+        assertEquals(3.0, instance.getTotal());
+        assertEquals(5.0, clone.getTotal());
+    }
+
+    /**
+     * Tests that null keys have no value and cannot be set or incremented.
+     */
+    public void testNullKey()
+    {
+        OpenAddressingDataDistribution<String> instance =
+            new OpenAddressingDataDistribution<String>();
+        instance.increment("a");
+        assertEquals(0.0, instance.get((String) null));
+        assertFalse(instance.containsKey((String) null));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.increment((String) null, 1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.set((String) null, 1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(1, instance.size());
+        assertEquals(1.0, instance.getTotal());
+    }
+
+    /**
+     * Tests that random operations match DefaultDataDistribution.
+     */
+    public void testMatchesDefaultDataDistribution()
+    {
+        OpenAddressingDataDistribution<String> instance =
+            new OpenAddressingDataDistribution<String>(0);
+        DefaultDataDistribution<String> expected =
+            new DefaultDataDistribution<String>();
+        for (int i = 0; i < 20000; i++)
+        {
+            final String key = "key" + random.nextInt(1000);
+            final int operation = random.nextInt(4);
+            if (operation == 0)
+            {
+                final double value = 3.0 * random.nextDouble() - 1.0;
+                instance.set(key, value);
+                expected.set(key, value);
+            }
+            else if (operation == 1)
+            {
+                assertEquals(expected.decrement(key), instance.decrement(key));
+            }
+            else
+            {
+                final double value = random.nextDouble();
+                assertEquals(expected.increment(key, value),
+                    instance.increment(key, value), 1e-10);
+            }
+        }
+
+        assertEquals(expected.size(), instance.size());
+        assertEquals(expected.getTotal(), instance.getTotal(), 1e-6);
+        assertEquals(expected.getEntropy(), instance.getEntropy(), 1e-8);
+        assertEquals(expected.getMaxValue(), instance.getMaxValue(), 1e-10);
+        assertEquals(expected.getMaxValueKey(), instance.getMaxValueKey());
+        assertEquals(expected.keySet(), instance.keySet());
+        assertEquals(expected.getDomain(), instance.getDomain());
+        int count = 0;
+        for (ScalarMap.Entry<String> entry : instance.entrySet())
+        {
+            assertEquals(expected.get(entry.getKey()), entry.getValue(),
+                1e-10);
+            count++;
+        }
+        assertEquals(expected.size(), count);
+        for (String key : expected.getDomain())
+        {
+            assertTrue(instance.containsKey(key));
+            assertEquals(expected.getFraction(key), instance.getFraction(key),
+                1e-10);
+            assertEquals(expected.get(key),
+                instance.asMap().get(key).getValue(), 1e-10);
+        }
+        assertFalse(instance.containsKey("missing"));
+        assertEquals(0.0, instance.get("missing"));
+        assertEquals(0.0, instance.get(null));
+        assertFalse(instance.containsKey(null));
+    }
+
+    /**
+     * Test of compact method, of class OpenAddressingDataDistribution.
+     */
+    public void testCompact()
+    {
+        OpenAddressingDataDistribution<Integer> instance =
+            new OpenAddressingDataDistribution<Integer>();
+        for (int i = 0; i < 1000; i++)
+        {
+            instance.increment(i, i + 1);
+        }
+        final int capacity = instance.getCapacity();
+        assertEquals(1000, instance.size());
+        for (int i = 0; i < 1000; i++)
+        {
+            if (i % 10 != 0)
+            {
+                instance.set(i, 0.0);
+            }
+        }
+        assertEquals(1000, instance.size());
+
+        instance.compact();
+        assertEquals(100, instance.size());
+        assertTrue(instance.getCapacity() < capacity);
+        double total = 0.0;
+        for (int i = 0; i < 1000; i += 10)
+        {
+            assertEquals(i + 1.0, instance.get(i));
+            total += i + 1.0;
+        }
+        assertEquals(total, instance.getTotal());
+        assertFalse(instance.containsKey(1));
+    }
+
+    /**
+     * Test of entrySet method, of class OpenAddressingDataDistribution.
+     */
+    public void testEntrySet()
+    {
+        OpenAddressingDataDistribution<String> instance =
+            new OpenAddressingDataDistribution<String>(
+                Arrays.asList("a", "b", "b"));
+        Set<? extends ScalarMap.Entry<String>> entries = instance.entrySet();
+        assertEquals(2, entries.size());
+        for (ScalarMap.Entry<String> entry : entries)
+        {
+            entry.setValue(entry.getValue() * 10.0);
+        }
+        assertEquals(10.0, instance.get("a"));
+        assertEquals(20.0, instance.get("b"));
+        assertEquals(30.0, instance.getTotal());
+
+        instance.clear();
+        assertTrue(instance.isEmpty());
+        assertEquals(0.0, instance.getTotal());
+        assertFalse(instance.entrySet().iterator().hasNext());
+    }
+
+    /**
+     * Test of sample and getProbabilityFunction methods, of class
+     * OpenAddressingDataDistribution.
+     */
+    public void testSample()
+    {
+        OpenAddressingDataDistribution<String> instance =
+            new OpenAddressingDataDistribution<String>();
+        instance.increment("a", 1.0);
+        instance.increment("b", 3.0);
+        DataDistribution<String> samples =
+            new OpenAddressingDataDistribution<String>(
+                instance.sample(random, 4000));
+        assertEquals(0.25, samples.getFraction("a"), 0.03);
+        assertEquals(0.75, samples.getFraction("b"), 0.03);
+
+        DataDistribution.PMF<String> pmf = instance.getProbabilityFunction();
+        assertEquals(0.75, pmf.evaluate("b"), 1e-10);
+        assertNotNull(instance.getEstimator());
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * File:            OpenAddressingIntegerDataDistributionTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.collection.ScalarMap;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class OpenAddressingIntegerDataDistribution.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class OpenAddressingIntegerDataDistributionTest
+    extends TestCase
+{
+
+    /** Random number generator to use for a fixed random seed. */
+    protected Random random = new Random(909);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public OpenAddressingIntegerDataDistributionTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class OpenAddressingIntegerDataDistribution.
+     */
+    public void testConstructors()
+    {
+        OpenAddressingIntegerDataDistribution instance =
+            new OpenAddressingIntegerDataDistribution();
+        assertEquals(0, instance.size());
+        assertEquals(0.0, instance.getTotal());
+
+        instance = new OpenAddressingIntegerDataDistribution(
+            Arrays.asList(4, -1, 4, 0));
+        assertEquals(3, instance.size());
+        assertEquals(4.0, instance.getTotal());
+        assertEquals(2.0, instance.get(4));
+        assertEquals(1.0, instance.get(0));
+        assertEquals(1.0, instance.get(-1));
+
+        OpenAddressingIntegerDataDistribution copy =
+            new OpenAddressingIntegerDataDistribution(instance);
+        assertEquals(3, copy.size());
+        assertEquals(2.0, copy.get(Integer.valueOf(4)));
+    }
+
+    /**
+     * Test of clone method, of class OpenAddressingIntegerDataDistribution.
+     */
+    public void testClone()
+    {
+        OpenAddressingIntegerDataDistribution instance =
+            new OpenAddressingIntegerDataDistribution(Arrays.asList(1, 2, 2));
+        OpenAddressingIntegerDataDistribution clone = instance.clone();
+        assertNotSame(instance, clone);
+        clone.increment(7);
+        clone.set(2, 0.0);
+        assertFalse(instance.containsKey(7));
+        assertEquals(2.0, instance.get(2));
+        assertEquals(3.0, instance.getTotal());
+        assertEquals(2.0, clone.getTotal());
+    }
+
+    /**
+     * Tests that random operations match DefaultDataDistribution, including
+     * keys that collide in the low bits.
+     */
+    public void testMatchesDefaultDataDistribution()
+    {
+        OpenAddressingIntegerDataDistribution instance =
+            new OpenAddressingIntegerDataDistribution(0);
+        DefaultDataDistribution<Integer> expected =
+            new DefaultDataDistribution<Integer>();
+        for (int i = 0; i < 20000; i++)
+        {
+            final int key = random.nextInt(500) << (random.nextBoolean() ? 16 : 0);
+            final int operation = random.nextInt(4);
+            if (operation == 0)
+            {
+                final double value = 3.0 * random.nextDouble() - 1.0;
+                instance.set(key, value);
+                expected.set(key, value);
+            }
+            else if (operation == 1)
+            {
+                assertEquals(expected.decrement(key),
+                    instance.decrement(key));
+            }
+            else
+            {
+                assertEquals(expected.increment(key),
+                    instance.increment(key), 1e-10);
+            }
+        }
+
+        assertEquals(expected.size(), instance.size());
+        assertEquals(expected.getTotal(), instance.getTotal(), 1e-6);
+        assertEquals(expected.keySet(), instance.keySet());
+        for (ScalarMap.Entry<Integer> entry : instance.entrySet())
+        {
+            assertEquals(expected.get(entry.getKey()), entry.getValue(),
+                1e-10);
+            assertEquals(expected.getFraction(entry.getKey()),
+                instance.getFraction(entry.getKey().intValue()), 1e-10);
+        }
+        assertFalse(instance.containsKey(-5));
+        assertFalse(instance.containsKey((Integer) null));
+        assertEquals(0.0, instance.get(-5));
+    }
+
+    /**
+     * Tests that null keys have no value and cannot be set or incremented.
+     */
+    public void testNullKey()
+    {
+        OpenAddressingIntegerDataDistribution instance =
+            new OpenAddressingIntegerDataDistribution();
+        instance.increment(1);
+        assertEquals(0.0, instance.get((Integer) null));
+        assertFalse(instance.containsKey((Integer) null));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.increment((Integer) null, 1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.set((Integer) null, 1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(1, instance.size());
+        assertEquals(1.0, instance.getTotal());
+    }
+
+    /**
+     * Test of compact method, of class OpenAddressingIntegerDataDistribution.
+     */
+    public void testCompact()
+    {
+        OpenAddressingIntegerDataDistribution instance =
+            new OpenAddressingIntegerDataDistribution();
+        for (int i = 0; i < 100; i++)
+        {
+            instance.increment(i, 2.0);
+        }
+        for (int i = 0; i < 100; i += 2)
+        {
+            instance.decrement(i, 5.0);
+        }
+        assertEquals(100, instance.size());
+        assertEquals(100.0, instance.getTotal());
+
+        instance.compact();
+        assertEquals(50, instance.size());
+        assertEquals(100.0, instance.getTotal());
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(i % 2 == 0 ? 0.0 : 2.0, instance.get(i));
+            assertEquals(i % 2 != 0, instance.containsKey(i));
+        }
+
+        instance.clear();
+        assertEquals(0, instance.size());
+        assertEquals(0.0, instance.get(1));
+        instance.increment(1);
+        assertEquals(1.0, instance.getTotal());
+    }
+
+}
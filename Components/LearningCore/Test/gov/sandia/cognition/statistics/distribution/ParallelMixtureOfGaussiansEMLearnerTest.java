@@ -0,0 +1,331 @@
+/*
+ * File:            ParallelMixtureOfGaussiansEMLearnerTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.DiagonalMatrix;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.MatrixFactory;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.util.ArrayList;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ParallelMixtureOfGaussiansEMLearner.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelMixtureOfGaussiansEMLearnerTest
+    extends TestCase
+{
+
+    /** Random number generator to use for a fixed random seed. */
+    protected Random random = new Random(3131);
+
+    /** The means of the distributions the data is drawn from. */
+    protected Vector[] means = {
+        VectorFactory.getDefault().copyValues(0.0, 0.0),
+        VectorFactory.getDefault().copyValues(10.0, 0.0),
+        VectorFactory.getDefault().copyValues(0.0, 10.0) };
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ParallelMixtureOfGaussiansEMLearnerTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Creates data from three correlated Gaussians.
+     *
+     * @param   countPerDistribution
+     *      The number of points from each distribution.
+     * @return
+     *      The data.
+     */
+    protected ArrayList<Vector> createData(
+        final int countPerDistribution)
+    {
+        final Matrix covariance = MatrixFactory.getDefault().copyArray(
+            new double[][] { { 1.0, 0.6 }, { 0.6, 1.0 } });
+        final ArrayList<Vector> result = new ArrayList<Vector>();
+        for (Vector mean : this.means)
+        {
+            result.addAll(new MultivariateGaussian(mean, covariance).sample(
+                random, countPerDistribution));
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class ParallelMixtureOfGaussiansEMLearner.
+     */
+    public void testConstructors()
+    {
+        ParallelMixtureOfGaussiansEMLearner instance =
+            new ParallelMixtureOfGaussiansEMLearner();
+        assertEquals(
+            ParallelMixtureOfGaussiansEMLearner.DEFAULT_DISTRIBUTION_COUNT,
+            instance.getDistributionCount());
+        assertFalse(instance.isDiagonalCovariance());
+        assertEquals(
+            ParallelMixtureOfGaussiansEMLearner.DEFAULT_DEFAULT_COVARIANCE,
+            instance.getDefaultCovariance());
+        assertEquals(ParallelMixtureOfGaussiansEMLearner.DEFAULT_TOLERANCE,
+            instance.getTolerance());
+        assertEquals(ParallelMixtureOfGaussiansEMLearner.DEFAULT_MAX_ITERATIONS,
+            instance.getMaxIterations());
+        assertNotNull(instance.getRandom());
+        assertNull(instance.getResult());
+
+        instance = new ParallelMixtureOfGaussiansEMLearner(4, random);
+        assertEquals(4, instance.getDistributionCount());
+        assertFalse(instance.isDiagonalCovariance());
+        assertSame(random, instance.getRandom());
+
+        instance = new ParallelMixtureOfGaussiansEMLearner(3, true, random);
+        assertEquals(3, instance.getDistributionCount());
+        assertTrue(instance.isDiagonalCovariance());
+        assertSame(random, instance.getRandom());
+    }
+
+    /**
+     * Test of clone method, of class ParallelMixtureOfGaussiansEMLearner.
+     */
+    public void testClone()
+    {
+        ParallelMixtureOfGaussiansEMLearner instance =
+            new ParallelMixtureOfGaussiansEMLearner(3, true, random);
+        ParallelMixtureOfGaussiansEMLearner clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertEquals(3, clone.getDistributionCount());
+        assertTrue(clone.isDiagonalCovariance());
+    }
+
+    /**
+     * Test of learn method, of class ParallelMixtureOfGaussiansEMLearner,
+     * with full covariances.
+     */
+    public void testLearnFullCovariance()
+    {
+        ArrayList<Vector> data = this.createData(300);
+        ParallelMixtureOfGaussiansEMLearner instance =
+            new ParallelMixtureOfGaussiansEMLearner(3, random);
+        MixtureOfGaussians.PDF result = instance.learn(data);
+        assertEquals(3, result.getDistributionCount());
+        assertTrue(instance.getIteration() < instance.getMaxIterations());
+        assertTrue(instance.getAssignmentChanged() <= instance.getTolerance());
+
+        for (Vector mean : this.means)
+        {
+            MultivariateGaussian closest = this.findClosest(result, mean);
+            assertTrue(mean.equals(closest.getMean(), 0.3));
+            assertEquals(0.6, closest.getCovariance().getElement(0, 1), 0.2);
+            assertEquals(1.0, closest.getCovariance().getElement(1, 1), 0.3);
+        }
+        for (double prior : result.getPriorWeights())
+        {
+            assertEquals(1.0 / 3.0, prior, 0.05);
+        }
+        assertEquals(1.0, result.getPriorWeightSum(), 1e-10);
+
+        // The log-likelihood from the last E-step is that of the result.
+        double logLikelihood = 0.0;
+        for (Vector x : data)
+        {
+            logLikelihood += result.logEvaluate(x);
+        }
+        assertEquals(logLikelihood, instance.getLogLikelihood(),
+            1e-6 * Math.abs(logLikelihood));
+    }
+
+    /**
+     * Test of learn method, of class ParallelMixtureOfGaussiansEMLearner,
+     * with diagonal covariances.
+     */
+    public void testLearnDiagonalCovariance()
+    {
+        ArrayList<Vector> data = this.createData(300);
+        ParallelMixtureOfGaussiansEMLearner instance =
+            new ParallelMixtureOfGaussiansEMLearner(3, true, random);
+        MixtureOfGaussians.PDF result = instance.learn(data);
+        assertEquals(3, result.getDistributionCount());
+
+        for (Vector mean : this.means)
+        {
+            MultivariateGaussian closest = this.findClosest(result, mean);
+            assertTrue(mean.equals(closest.getMean(), 0.3));
+            assertTrue(closest.getCovariance() instanceof DiagonalMatrix);
+            assertEquals(0.0, closest.getCovariance().getElement(0, 1));
+            assertEquals(1.0, closest.getCovariance().getElement(0, 0), 0.3);
+        }
+    }
+
+    /**
+     * Test of learn method, of class ParallelMixtureOfGaussiansEMLearner, to
+     * make sure the number of threads does not change the result.
+     */
+    public void testLearnNumThreads()
+    {
+        ArrayList<Vector> data = this.createData(100);
+        for (boolean diagonal : new boolean[] { false, true })
+        {
+            ParallelMixtureOfGaussiansEMLearner single =
+                new ParallelMixtureOfGaussiansEMLearner(3, diagonal,
+                    new Random(7));
+            single.setThreadPool(ParallelUtil.createThreadPool(1));
+            ParallelMixtureOfGaussiansEMLearner multiple =
+                new ParallelMixtureOfGaussiansEMLearner(3, diagonal,
+                    new Random(7));
+            multiple.setThreadPool(ParallelUtil.createThreadPool(4));
+            assertEquals(4, multiple.getNumThreads());
+
+            MixtureOfGaussians.PDF singleResult = single.learn(data);
+            MixtureOfGaussians.PDF multipleResult = multiple.learn(data);
+            assertEquals(single.getIteration(), multiple.getIteration());
+            for (int k = 0; k < 3; k++)
+            {
+                MultivariateGaussian expected =
+                    singleResult.getDistributions().get(k);
+                MultivariateGaussian actual =
+                    multipleResult.getDistributions().get(k);
+                assertTrue(expected.getMean().equals(actual.getMean(), 1e-8));
+                assertTrue(expected.getCovariance().equals(
+                    actual.getCovariance(), 1e-8));
+                assertEquals(singleResult.getPriorWeights()[k],
+                    multipleResult.getPriorWeights()[k], 1e-10);
+            }
+        }
+    }
+
+    /**
+     * Test of learn method, of class ParallelMixtureOfGaussiansEMLearner,
+     * with a single distribution, which is the maximum likelihood estimate.
+     */
+    public void testLearnSingleDistribution()
+    {
+        ArrayList<Vector> data = this.createData(50);
+        ParallelMixtureOfGaussiansEMLearner instance =
+            new ParallelMixtureOfGaussiansEMLearner(1, random);
+        MixtureOfGaussians.PDF result = instance.learn(data);
+        assertEquals(1, instance.getIteration());
+
+        MultivariateGaussian expected =
+            MultivariateGaussian.MaximumLikelihoodEstimator.learn(data,
+                instance.getDefaultCovariance());
+        MultivariateGaussian actual = result.getDistributions().get(0);
+        assertTrue(expected.getMean().equals(actual.getMean(), 1e-10));
+
+        // The maximum likelihood estimator uses the unbiased covariance.
+        final double N = data.size();
+        Matrix covariance = actual.getCovariance().scale(N / (N - 1.0));
+        assertTrue(expected.getCovariance().equals(covariance, 1e-3));
+    }
+
+    /**
+     * Test of the setters of class ParallelMixtureOfGaussiansEMLearner.
+     */
+    public void testSetters()
+    {
+        ParallelMixtureOfGaussiansEMLearner instance =
+            new ParallelMixtureOfGaussiansEMLearner();
+
+        instance.setDistributionCount(5);
+        assertEquals(5, instance.getDistributionCount());
+        instance.setDiagonalCovariance(true);
+        assertTrue(instance.isDiagonalCovariance());
+        instance.setDefaultCovariance(0.1);
+        assertEquals(0.1, instance.getDefaultCovariance());
+        instance.setTolerance(0.0);
+        assertEquals(0.0, instance.getTolerance());
+        instance.setRandom(random);
+        assertSame(random, instance.getRandom());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setDistributionCount(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setDefaultCovariance(0.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setTolerance(-1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Finds the distribution in the mixture whose mean is closest to the
+     * given point.
+     *
+     * @param   mixture
+     *      The mixture.
+     * @param   point
+     *      The point.
+     * @return
+     *      The closest distribution.
+     */
+    private MultivariateGaussian findClosest(
+        final MixtureOfGaussians.PDF mixture,
+        final Vector point)
+    {
+        MultivariateGaussian closest = null;
+        double closestDistance = Double.POSITIVE_INFINITY;
+        for (MultivariateGaussian distribution : mixture.getDistributions())
+        {
+            final double distance =
+                distribution.getMean().euclideanDistance(point);
+            if (distance < closestDistance)
+            {
+                closest = distribution;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+}
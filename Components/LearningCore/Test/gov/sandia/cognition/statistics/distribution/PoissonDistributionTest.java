@@ -270,4 +270,51 @@ public class PoissonDistributionTest
         assertEquals(p1.getMean(), learned.getMean(), 0.001);
     }
 
+    /**
+     * Test of the static sample method, for both the inversion and the
+     * rejection algorithms.
+     */
+    public void testSampleStatic()
+    {
+        System.out.println( "sample(rate, random)" );
+
+        int n = 20000;
+        for (double rate : new double[] { 0.25, 3.0, 9.5, 10.0, 40.0, 1000.0 })
+        {
+            PoissonDistribution.PMF pmf = new PoissonDistribution.PMF(rate);
+            int[] counts = new int[(int) (rate + 10 * Math.sqrt(rate) + 10)];
+            double sum = 0.0;
+            for (int i = 0; i < n; i++)
+            {
+                int k = PoissonDistribution.sample(rate, RANDOM);
+                assertTrue(k >= 0);
+                sum += k;
+                if (k < counts.length)
+                {
+                    counts[k]++;
+                }
+            }
+            assertEquals(rate, sum / n, 4.0 * Math.sqrt(rate / n));
+
+            for (int k = 0; k < counts.length; k++)
+            {
+                double expected = n * pmf.evaluate(k);
+                if (expected > 20.0)
+                {
+                    assertEquals(expected, counts[k],
+                        5.0 * Math.sqrt(expected));
+                }
+            }
+        }
+
+        PoissonDistribution instance = new PoissonDistribution(25.0);
+        int[] output = new int[10];
+        instance.sampleInto(RANDOM, output, 2, 5);
+        assertEquals(0, output[0]);
+        assertEquals(0, output[1]);
+        assertTrue(output[2] > 0);
+        assertTrue(output[6] > 0);
+        assertEquals(0, output[7]);
+    }
+
 }
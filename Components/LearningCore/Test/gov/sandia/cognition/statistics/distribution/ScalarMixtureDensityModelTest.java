@@ -252,7 +252,22 @@ System.out.println("Mean: " + UnivariateStatisticsUtil.computeMean(samples));
 
     }
 
+    /**
+     * Tests the mean and variance against known values.
+     */
+    public void testKnownMeanAndVariance()
+    {
+        System.out.println( "Known Mean and Variance" );
+
+        ScalarMixtureDensityModel instance = new ScalarMixtureDensityModel(
+            Arrays.asList( new UnivariateGaussian( 0.0, 1.0 ),
+                new UnivariateGaussian( 5.0, 2.0 ) ),
+            new double[]{ 1.4, 0.6 } );
 
+        // Mean is 0.7*0 + 0.3*5, variance is 0.7*(0+1) + 0.3*(25+2) - 1.5^2
+        assertEquals( 1.5, instance.getMean(), TOLERANCE );
+        assertEquals( 6.55, instance.getVariance(), TOLERANCE );
+    }
 
     @Override
     public void testKnownConvertToVector()
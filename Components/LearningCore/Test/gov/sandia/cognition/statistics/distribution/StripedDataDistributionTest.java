@@ -0,0 +1,235 @@
+/*
+ * File:            StripedDataDistributionTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.distribution;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.collection.ScalarMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class StripedDataDistribution.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class StripedDataDistributionTest
+    extends TestCase
+{
+
+    /** Random number generator to use for a fixed random seed. */
+    protected Random random = new Random(5511);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public StripedDataDistributionTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class StripedDataDistribution.
+     */
+    public void testConstructors()
+    {
+        StripedDataDistribution<String> instance =
+            new StripedDataDistribution<String>();
+        assertEquals(StripedDataDistribution.DEFAULT_NUM_STRIPES,
+            instance.getNumStripes());
+        assertEquals(0, instance.size());
+
+        instance = new StripedDataDistribution<String>(5);
+        assertEquals(8, instance.getNumStripes());
+        instance = new StripedDataDistribution<String>(1, 100);
+        assertEquals(1, instance.getNumStripes());
+        instance.incrementAll(Arrays.asList("a", "b", "a"));
+        assertEquals(2.0, instance.get("a"));
+
+        StripedDataDistribution<String> copy =
+            new StripedDataDistribution<String>(instance);
+        assertEquals(2, copy.size());
+        assertEquals(3.0, copy.getTotal());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new StripedDataDistribution<String>(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of clone method, of class StripedDataDistribution.
+     */
+    public void testClone()
+    {
+        StripedDataDistribution<String> instance =
+            new StripedDataDistribution<String>(4);
+        instance.incrementAll(Arrays.asList("a", "b", "a"));
+        StripedDataDistribution<String> clone = instance.clone();
+        assertNotSame(instance, clone);
+        clone.increment("c");
+        clone.increment("a");
+        assertEquals(3.0, instance.getTotal());
+        assertEquals(2.0, instance.get("a"));
+        assertFalse(instance.containsKey("c"));
+        assertEquals(5.0, clone.getTotal());
+    }
+
+    /**
+     * Tests that random operations match DefaultDataDistribution.
+     */
+    public void testMatchesDefaultDataDistribution()
+    {
+        StripedDataDistribution<Integer> instance =
+            new StripedDataDistribution<Integer>(4);
+        DefaultDataDistribution<Integer> expected =
+            new DefaultDataDistribution<Integer>();
+        for (int i = 0; i < 5000; i++)
+        {
+            final int key = random.nextInt(300);
+            if (random.nextInt(3) == 0)
+            {
+                assertEquals(expected.decrement(key), instance.decrement(key));
+            }
+            else
+            {
+                assertEquals(expected.increment(key), instance.increment(key));
+            }
+        }
+        assertEquals(expected.size(), instance.size());
+        assertEquals(expected.getTotal(), instance.getTotal(), 1e-10);
+        assertEquals(expected.keySet(), instance.keySet());
+        assertEquals(expected.getEntropy(), instance.getEntropy(), 1e-10);
+
+        for (ScalarMap.Entry<Integer> entry : instance.entrySet())
+        {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+            entry.setValue(1.0);
+            assertEquals(1.0, entry.getValue());
+        }
+        assertEquals(expected.size(), instance.getTotal(), 1e-10);
+
+        instance.set(5, 0.0);
+        instance.compact();
+        assertEquals(expected.size() - 1, instance.size());
+        instance.clear();
+        assertTrue(instance.isEmpty());
+        assertEquals(0.0, instance.getTotal());
+    }
+
+    /**
+     * Tests that null keys have no value and cannot be set or incremented.
+     */
+    public void testNullKey()
+    {
+        StripedDataDistribution<String> instance =
+            new StripedDataDistribution<String>();
+        instance.increment("a");
+        assertEquals(0.0, instance.get((String) null));
+        assertFalse(instance.containsKey((String) null));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.increment((String) null, 1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.set((String) null, 1.0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(1, instance.size());
+        assertEquals(1.0, instance.getTotal());
+    }
+
+    /**
+     * Tests counting into the distribution from multiple threads.
+     */
+    public void testConcurrentIncrement()
+        throws Exception
+    {
+        final StripedDataDistribution<String> instance =
+            new StripedDataDistribution<String>();
+        final int numTasks = 8;
+        final int numKeys = 1000;
+        final int repeats = 20;
+        ArrayList<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+        for (int t = 0; t < numTasks; t++)
+        {
+            tasks.add(new Callable<Object>()
+            {
+                @Override
+                public Object call()
+                {
+                    for (int r = 0; r < repeats; r++)
+                    {
+                        for (int k = 0; k < numKeys; k++)
+                        {
+                            instance.increment("term" + k);
+                        }
+                    }
+                    return null;
+                }
+            });
+        }
+
+        ThreadPoolExecutor threadPool = ParallelUtil.createThreadPool(4);
+        try
+        {
+            ParallelUtil.executeInParallel(tasks, threadPool);
+        }
+        finally
+        {
+            threadPool.shutdown();
+        }
+
+        assertEquals(numKeys, instance.size());
+        assertEquals((double) numTasks * numKeys * repeats,
+            instance.getTotal());
+        for (int k = 0; k < numKeys; k++)
+        {
+            assertEquals((double) numTasks * repeats, instance.get("term" + k));
+        }
+    }
+
+}
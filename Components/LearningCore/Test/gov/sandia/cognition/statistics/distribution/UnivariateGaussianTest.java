@@ -17,6 +17,7 @@ package gov.sandia.cognition.statistics.distribution;
 import gov.sandia.cognition.math.UnivariateStatisticsUtil;
 import gov.sandia.cognition.math.matrix.Vector;
 import gov.sandia.cognition.statistics.SmoothUnivariateDistributionTestHarness;
+import gov.sandia.cognition.statistics.method.KolmogorovSmirnovConfidence;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -608,4 +609,42 @@ public class UnivariateGaussianTest
         }
     }
 
+    /**
+     * Test of sampleStandard method, of class UnivariateGaussian.
+     */
+    public void testSampleStandard()
+    {
+        System.out.println("sampleStandard");
+
+        int n = 200000;
+        ArrayList<Double> samples = new ArrayList<Double>(n);
+        int tail = 0;
+        for (int i = 0; i < n; i++)
+        {
+            double x = UnivariateGaussian.sampleStandard(RANDOM);
+            samples.add(x);
+            if (Math.abs(x) > 3.442619855899)
+            {
+                tail++;
+            }
+        }
+
+        double mean = UnivariateStatisticsUtil.computeMean(samples);
+        double variance = UnivariateStatisticsUtil.computeVariance(samples);
+        assertEquals(0.0, mean, 4.0 / Math.sqrt(n));
+        assertEquals(1.0, variance, 4.0 * Math.sqrt(2.0 / n));
+
+        // The base layer and the tail are the cases that are handled
+        // specially, so check their probability mass.
+        double tailProbability = 2.0 * (1.0 - UnivariateGaussian.CDF.evaluate(
+            3.442619855899, 0.0, 1.0));
+        assertEquals(tailProbability, (double) tail / n,
+            4.0 * Math.sqrt(tailProbability / n));
+
+        KolmogorovSmirnovConfidence.Statistic kstest =
+            KolmogorovSmirnovConfidence.evaluateNullHypothesis(
+                samples.subList(0, 5000), new UnivariateGaussian.CDF());
+        assertTrue(kstest.getNullHypothesisProbability() > 0.01);
+    }
+
 }
@@ -0,0 +1,212 @@
+/*
+ * File:            BinnedReceiverOperatingCharacteristicTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.method;
+
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class BinnedReceiverOperatingCharacteristic.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class BinnedReceiverOperatingCharacteristicTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(2931);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public BinnedReceiverOperatingCharacteristicTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors, of class BinnedReceiverOperatingCharacteristic.
+     */
+    public void testConstructors()
+    {
+        BinnedReceiverOperatingCharacteristic instance =
+            new BinnedReceiverOperatingCharacteristic();
+        assertEquals(0.0, instance.getMinScore());
+        assertEquals(1.0, instance.getMaxScore());
+        assertEquals(BinnedReceiverOperatingCharacteristic.DEFAULT_BIN_COUNT,
+            instance.getBinCount());
+        assertEquals(0, instance.getCount());
+
+        instance = new BinnedReceiverOperatingCharacteristic(-2.0, 2.0, 8);
+        assertEquals(-2.0, instance.getMinScore());
+        assertEquals(2.0, instance.getMaxScore());
+        assertEquals(8, instance.getBinCount());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new BinnedReceiverOperatingCharacteristic(1.0, 1.0, 8);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            new BinnedReceiverOperatingCharacteristic(0.0, 1.0, 0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of add method, of class BinnedReceiverOperatingCharacteristic.
+     */
+    public void testAdd()
+    {
+        BinnedReceiverOperatingCharacteristic instance =
+            new BinnedReceiverOperatingCharacteristic(0.0, 1.0, 4);
+        assertEquals(0, instance.findBin(-1.0));
+        assertEquals(0, instance.findBin(0.1));
+        assertEquals(1, instance.findBin(0.25));
+        assertEquals(3, instance.findBin(1.0));
+        assertEquals(3, instance.findBin(5.0));
+
+        instance.add(0.1, false);
+        instance.add(0.3, true);
+        instance.add(0.35, false);
+        instance.add(0.9, true);
+        assertEquals(4, instance.getCount());
+        assertEquals(1, instance.getNegativeCount(0));
+        assertEquals(1, instance.getPositiveCount(1));
+        assertEquals(1, instance.getNegativeCount(1));
+        assertEquals(1, instance.getPositiveCount(3));
+
+        // Pairs: (0.3, 0.1), (0.9, 0.1), (0.9, 0.35) ordered and
+        // (0.3, 0.35) tied in a bin.
+        assertEquals(3.5 / 4.0, instance.computeAreaUnderCurve(), 1e-10);
+
+        ScoreReceiverOperatingCharacteristic roc =
+            instance.toReceiverOperatingCharacteristic();
+        assertEquals(3, roc.getPointCount());
+        assertEquals(0.75, roc.getThreshold(0));
+        assertEquals(0.25, roc.getThreshold(1));
+        assertEquals(0.0, roc.getThreshold(2));
+        assertEquals(instance.computeAreaUnderCurve(),
+            roc.computeAreaUnderCurve(), 1e-10);
+
+        instance.clear();
+        assertEquals(0, instance.getCount());
+        assertEquals(0.5, instance.computeAreaUnderCurve());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.add(Double.NaN, true);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Tests that the approximate area is close to the exact area.
+     */
+    public void testAreaUnderCurve()
+    {
+        int n = 2000;
+        double[] scores = new double[n];
+        boolean[] labels = new boolean[n];
+        for (int i = 0; i < n; i++)
+        {
+            labels[i] = this.random.nextBoolean();
+            scores[i] = 1.0 / (1.0 + Math.exp(-this.random.nextGaussian()
+                - (labels[i] ? 1.0 : 0.0)));
+        }
+
+        BinnedReceiverOperatingCharacteristic instance =
+            new BinnedReceiverOperatingCharacteristic();
+        instance.addAll(scores, labels);
+        assertEquals(n, instance.getCount());
+        double exact = ScoreReceiverOperatingCharacteristic.create(
+            scores, labels).computeAreaUnderCurve();
+        assertEquals(exact, instance.computeAreaUnderCurve(), 0.005);
+    }
+
+    /**
+     * Test of merge method, of class BinnedReceiverOperatingCharacteristic.
+     */
+    public void testMerge()
+    {
+        BinnedReceiverOperatingCharacteristic all =
+            new BinnedReceiverOperatingCharacteristic(-3.0, 3.0, 50);
+        BinnedReceiverOperatingCharacteristic first =
+            new BinnedReceiverOperatingCharacteristic(-3.0, 3.0, 50);
+        BinnedReceiverOperatingCharacteristic second =
+            new BinnedReceiverOperatingCharacteristic(-3.0, 3.0, 50);
+        for (int i = 0; i < 500; i++)
+        {
+            boolean label = this.random.nextBoolean();
+            double score = this.random.nextGaussian() + (label ? 1.0 : 0.0);
+            all.add(score, label);
+            (i % 2 == 0 ? first : second).add(score, label);
+        }
+
+        BinnedReceiverOperatingCharacteristic clone = first.clone();
+        first.merge(second);
+        assertEquals(all.getCount(), first.getCount());
+        for (int i = 0; i < all.getBinCount(); i++)
+        {
+            assertEquals(all.getPositiveCount(i), first.getPositiveCount(i));
+            assertEquals(all.getNegativeCount(i), first.getNegativeCount(i));
+        }
+        assertEquals(all.computeAreaUnderCurve(),
+            first.computeAreaUnderCurve(), 1e-10);
+        assertEquals(250, clone.getCount());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            first.merge(new BinnedReceiverOperatingCharacteristic(
+                -3.0, 3.0, 10));
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * File:            ParallelSamplingTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.method;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.statistics.distribution.GammaDistribution;
+import gov.sandia.cognition.statistics.distribution.PoissonDistribution;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ParallelSampling.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelSamplingTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(5521);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ParallelSamplingTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of sampleInto method for smooth distributions, of class
+     * ParallelSampling.
+     */
+    public void testSampleIntoDouble()
+    {
+        GammaDistribution distribution = new GammaDistribution(2.5, 2.0);
+        int n = 3 * ParallelSampling.DEFAULT_BLOCK_SIZE + 17;
+        double[] output = new double[n + 10];
+
+        ThreadPoolExecutor threadPool = ParallelUtil.createThreadPool(4);
+        try
+        {
+            long seed = this.random.nextLong();
+            ParallelSampling.sampleInto(distribution, new Random(seed),
+                output, 5, n, threadPool);
+            assertEquals(0.0, output[4]);
+            assertEquals(0.0, output[n + 5]);
+
+            double sum = 0.0;
+            for (int i = 5; i < n + 5; i++)
+            {
+                assertTrue(output[i] > 0.0);
+                sum += output[i];
+            }
+            assertEquals(distribution.getMeanAsDouble(), sum / n,
+                4.0 * Math.sqrt(distribution.getVariance() / n));
+
+            // The result does not depend on the number of threads.
+            double[] single = new double[n + 10];
+            ThreadPoolExecutor singlePool = ParallelUtil.createThreadPool(1);
+            try
+            {
+                ParallelSampling.sampleInto(distribution, new Random(seed),
+                    single, 5, n, singlePool);
+            }
+            finally
+            {
+                singlePool.shutdown();
+            }
+            assertTrue(Arrays.equals(output, single));
+        }
+        finally
+        {
+            threadPool.shutdown();
+        }
+    }
+
+    /**
+     * Test of sampleInto method for integer distributions, of class
+     * ParallelSampling.
+     */
+    public void testSampleIntoInteger()
+    {
+        PoissonDistribution distribution = new PoissonDistribution(4.0);
+        int n = 2 * ParallelSampling.DEFAULT_BLOCK_SIZE + 3;
+        int[] output = new int[n];
+
+        ThreadPoolExecutor threadPool = ParallelUtil.createThreadPool(3);
+        try
+        {
+            ParallelSampling.sampleInto(distribution, this.random, output, 0,
+                n, threadPool);
+
+            // Small and empty batches.
+            int[] small = new int[5];
+            ParallelSampling.sampleInto(distribution, this.random, small, 0,
+                5, threadPool);
+            int[] empty = new int[0];
+            ParallelSampling.sampleInto(distribution, this.random, empty, 0,
+                0, threadPool);
+
+            boolean exceptionThrown = false;
+            try
+            {
+                ParallelSampling.sampleInto(distribution, this.random, output,
+                    -1, 5, threadPool);
+            }
+            catch (IllegalArgumentException e)
+            {
+                exceptionThrown = true;
+            }
+            finally
+            {
+                assertTrue(exceptionThrown);
+            }
+        }
+        finally
+        {
+            threadPool.shutdown();
+        }
+
+        double sum = 0.0;
+        for (int value : output)
+        {
+            assertTrue(value >= 0);
+            sum += value;
+        }
+        assertEquals(4.0, sum / n, 4.0 * Math.sqrt(4.0 / n));
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * File:            ScoreReceiverOperatingCharacteristicTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.method;
+
+import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
+import gov.sandia.cognition.learning.data.InputOutputPair;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ScoreReceiverOperatingCharacteristic.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ScoreReceiverOperatingCharacteristicTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(3849);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ScoreReceiverOperatingCharacteristicTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of create method, of class ScoreReceiverOperatingCharacteristic.
+     */
+    public void testCreate()
+    {
+        double[] scores = { 0.9, 0.8, 0.8, 0.5, 0.3, 0.1 };
+        boolean[] labels = { true, false, true, true, false, false };
+        double[] original = scores.clone();
+        ScoreReceiverOperatingCharacteristic instance =
+            ScoreReceiverOperatingCharacteristic.create(scores, labels);
+        assertTrue(Arrays.equals(original, scores));
+
+        assertEquals(3, instance.getTotalPositives());
+        assertEquals(3, instance.getTotalNegatives());
+        assertEquals(5, instance.getPointCount());
+        assertEquals(0.9, instance.getThreshold(0));
+        assertEquals(1, instance.getTruePositivesCount(0));
+        assertEquals(0, instance.getFalsePositivesCount(0));
+        assertEquals(0.8, instance.getThreshold(1));
+        assertEquals(2, instance.getTruePositivesCount(1));
+        assertEquals(1, instance.getFalsePositivesCount(1));
+        assertEquals(2.0 / 3.0, instance.getPrecision(1), 1e-10);
+        assertEquals(0.1, instance.getThreshold(4));
+        assertEquals(1.0, instance.getTruePositiveRate(4));
+        assertEquals(1.0, instance.getFalsePositiveRate(4));
+
+        // Pairs: 9 total, 7.5 ordered correctly with the tie at 0.8.
+        assertEquals(7.5 / 9.0, instance.computeAreaUnderCurve(), 1e-10);
+
+        // Precision at each new positive: 1, 2/3, 3/4.
+        assertEquals((1.0 + 2.0 / 3.0 + 3.0 / 4.0) / 3.0,
+            instance.computeAveragePrecision(), 1e-10);
+
+        assertEquals(0.0, instance.evaluate(-0.1));
+        assertEquals(1.0 / 3.0, instance.evaluate(0.0));
+        assertEquals(1.0, instance.evaluate(0.5));
+        assertEquals(1.0, instance.evaluate(1.0));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            ScoreReceiverOperatingCharacteristic.create(new double[2],
+                new boolean[3]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            ScoreReceiverOperatingCharacteristic.create(
+                new double[] { Double.NaN }, new boolean[1]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Tests that the curve matches the one from
+     * ReceiverOperatingCharacteristic.
+     */
+    public void testMatchesReceiverOperatingCharacteristic()
+    {
+        int n = 500;
+        double[] scores = new double[n];
+        boolean[] labels = new boolean[n];
+        ArrayList<InputOutputPair<Double, Boolean>> data =
+            new ArrayList<InputOutputPair<Double, Boolean>>(n);
+        for (int i = 0; i < n; i++)
+        {
+            labels[i] = this.random.nextBoolean();
+            scores[i] = this.random.nextGaussian() + (labels[i] ? 1.0 : 0.0);
+            data.add(DefaultInputOutputPair.create(scores[i], labels[i]));
+        }
+
+        ScoreReceiverOperatingCharacteristic instance =
+            ScoreReceiverOperatingCharacteristic.create(scores, labels);
+        ReceiverOperatingCharacteristic expected =
+            ReceiverOperatingCharacteristic.create(data);
+
+        assertEquals(expected.getSortedROCData().size(),
+            instance.getPointCount());
+        assertEquals(
+            ReceiverOperatingCharacteristic.Statistic.computeAreaUnderCurveTrapezoid(
+                expected.getSortedROCData()),
+            instance.computeAreaUnderCurve(), 1e-10);
+
+        for (int i = 0; i < 20; i++)
+        {
+            double x = this.random.nextDouble();
+            assertEquals(expected.evaluate(x), instance.evaluate(x), 1e-10);
+        }
+
+        ReceiverOperatingCharacteristic.DataPoint optimal =
+            ReceiverOperatingCharacteristic.Statistic.computeOptimalThreshold(
+                expected);
+        int index = instance.findOptimalThresholdIndex(1.0, 1.0);
+        assertEquals(optimal.getClassifier().getThreshold(),
+            instance.getThreshold(index));
+    }
+
+    /**
+     * Test of merge method, of class ScoreReceiverOperatingCharacteristic.
+     */
+    public void testMerge()
+    {
+        int n = 300;
+        double[] scores = new double[n];
+        boolean[] labels = new boolean[n];
+        for (int i = 0; i < n; i++)
+        {
+            labels[i] = this.random.nextBoolean();
+            // Round the scores to create ties across the shards.
+            scores[i] = Math.round(10.0 * (this.random.nextGaussian()
+                + (labels[i] ? 0.5 : 0.0))) / 10.0;
+        }
+
+        ScoreReceiverOperatingCharacteristic expected =
+            ScoreReceiverOperatingCharacteristic.create(scores, labels);
+        ScoreReceiverOperatingCharacteristic first =
+            ScoreReceiverOperatingCharacteristic.create(
+                Arrays.copyOfRange(scores, 0, 100),
+                Arrays.copyOfRange(labels, 0, 100));
+        ScoreReceiverOperatingCharacteristic second =
+            ScoreReceiverOperatingCharacteristic.create(
+                Arrays.copyOfRange(scores, 100, n),
+                Arrays.copyOfRange(labels, 100, n));
+        ScoreReceiverOperatingCharacteristic merged = first.merge(second);
+
+        assertEquals(expected.getTotalPositives(), merged.getTotalPositives());
+        assertEquals(expected.getTotalNegatives(), merged.getTotalNegatives());
+        assertEquals(expected.getPointCount(), merged.getPointCount());
+        for (int i = 0; i < expected.getPointCount(); i++)
+        {
+            assertEquals(expected.getThreshold(i), merged.getThreshold(i));
+            assertEquals(expected.getTruePositivesCount(i),
+                merged.getTruePositivesCount(i));
+            assertEquals(expected.getFalsePositivesCount(i),
+                merged.getFalsePositivesCount(i));
+        }
+        assertEquals(expected.computeAreaUnderCurve(),
+            merged.computeAreaUnderCurve(), 1e-10);
+        assertEquals(expected.computeAveragePrecision(),
+            merged.computeAveragePrecision(), 1e-10);
+    }
+
+    /**
+     * Tests the curve when there is only one class.
+     */
+    public void testOneClass()
+    {
+        ScoreReceiverOperatingCharacteristic instance =
+            ScoreReceiverOperatingCharacteristic.create(
+                new double[] { 1.0, 2.0 }, new boolean[] { true, true });
+        assertEquals(0.5, instance.computeAreaUnderCurve());
+        assertEquals(1.0, instance.computeAveragePrecision());
+
+        instance = ScoreReceiverOperatingCharacteristic.create(
+            new double[0], new boolean[0]);
+        assertEquals(0, instance.getPointCount());
+        assertEquals(0.5, instance.computeAreaUnderCurve());
+        assertEquals(0.0, instance.computeAveragePrecision());
+        assertEquals(-1, instance.findOptimalThresholdIndex(1.0, 1.0));
+    }
+
+    /**
+     * Test of clone method, of class ScoreReceiverOperatingCharacteristic.
+     */
+    public void testClone()
+    {
+        ScoreReceiverOperatingCharacteristic instance =
+            ScoreReceiverOperatingCharacteristic.create(
+                new double[] { 1.0, 2.0 }, new boolean[] { false, true });
+        ScoreReceiverOperatingCharacteristic clone = instance.clone();
+        assertNotSame(instance.thresholds, clone.thresholds);
+        assertEquals(instance.computeAreaUnderCurve(),
+            clone.computeAreaUnderCurve());
+    }
+
+}
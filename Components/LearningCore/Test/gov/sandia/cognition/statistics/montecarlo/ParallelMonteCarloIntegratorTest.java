@@ -0,0 +1,358 @@
+/*
+ * File:            ParallelMonteCarloIntegratorTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.montecarlo;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.evaluator.Evaluator;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.statistics.distribution.UnivariateGaussian;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class ParallelMonteCarloIntegrator.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelMonteCarloIntegratorTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4417);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public ParallelMonteCarloIntegratorTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * The exponential of the sum of the coordinates, whose integral over the
+     * unit hypercube is (e - 1)^d.
+     */
+    public static class ExponentialSum
+        implements Evaluator<Vector, Double>
+    {
+
+        @Override
+        public Double evaluate(
+            final Vector input)
+        {
+            return Math.exp(input.sum());
+        }
+
+    }
+
+    /**
+     * The sum of the coordinates, whose integral is d / 2.
+     */
+    public static class Sum
+        implements Evaluator<Vector, Double>
+    {
+
+        @Override
+        public Double evaluate(
+            final Vector input)
+        {
+            return input.sum();
+        }
+
+    }
+
+    /**
+     * Test of constructors of class ParallelMonteCarloIntegrator.
+     */
+    public void testConstructors()
+    {
+        ParallelMonteCarloIntegrator instance =
+            new ParallelMonteCarloIntegrator(3);
+        assertEquals(3, instance.getDimensionality());
+        assertEquals(ParallelMonteCarloIntegrator.DEFAULT_SAMPLING_METHOD,
+            instance.getSamplingMethod());
+        assertFalse(instance.isAntithetic());
+        assertNull(instance.getControlVariate());
+        assertEquals(ParallelMonteCarloIntegrator.DEFAULT_STREAM_COUNT,
+            instance.getStreamCount());
+        assertEquals(ParallelMonteCarloIntegrator.DEFAULT_BLOCK_SIZE,
+            instance.getBlockSize());
+        assertEquals(ParallelMonteCarloIntegrator.DEFAULT_MAX_EVALUATIONS,
+            instance.getMaxEvaluations());
+        assertEquals(0.0, instance.getTargetStandardError());
+        assertNotNull(instance.getRandom());
+
+        instance = new ParallelMonteCarloIntegrator(2,
+            ParallelMonteCarloIntegrator.SamplingMethod.SOBOL, this.random);
+        assertEquals(ParallelMonteCarloIntegrator.SamplingMethod.SOBOL,
+            instance.getSamplingMethod());
+        assertSame(this.random, instance.getRandom());
+
+        ParallelMonteCarloIntegrator clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertEquals(instance.getSamplingMethod(), clone.getSamplingMethod());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new ParallelMonteCarloIntegrator(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of integrate method with pseudo-random points, of class
+     * ParallelMonteCarloIntegrator.
+     */
+    public void testIntegratePseudoRandom()
+    {
+        int d = 3;
+        double expected = Math.pow(Math.E - 1.0, d);
+        ParallelMonteCarloIntegrator instance =
+            new ParallelMonteCarloIntegrator(d,
+                ParallelMonteCarloIntegrator.SamplingMethod.PSEUDO_RANDOM,
+                this.random);
+        instance.setBlockSize(1000);
+        instance.setMaxEvaluations(200000);
+
+        ParallelMonteCarloIntegrator.Result result =
+            instance.integrate(new ExponentialSum());
+        // The last round is shortened to use the rest of the budget.
+        assertEquals(200000, result.getEvaluations());
+        assertEquals(13, result.getRounds());
+        assertFalse(result.isConverged());
+        assertEquals(expected, result.getMean(),
+            4.0 * result.getStandardError());
+
+        // The variance of exp(x) is (e^2 - 1)/2 - (e - 1)^2 in one dimension.
+        double variance1 = (Math.exp(2.0) - 1.0) / 2.0;
+        double variance = Math.pow(variance1, d) - expected * expected;
+        assertEquals(variance / result.getEvaluations(), result.getVariance(),
+            0.1 * variance / result.getEvaluations());
+
+        UnivariateGaussian.PDF gaussian = result.toGaussian();
+        assertEquals(result.getMean(), gaussian.getMean());
+        assertEquals(result.getVariance(), gaussian.getVariance());
+    }
+
+    /**
+     * Tests that the result does not depend on the thread pool.
+     */
+    public void testIntegrateDeterministic()
+    {
+        long seed = this.random.nextLong();
+        ParallelMonteCarloIntegrator instance =
+            new ParallelMonteCarloIntegrator(2,
+                ParallelMonteCarloIntegrator.SamplingMethod.PSEUDO_RANDOM,
+                new Random(seed));
+        instance.setBlockSize(500);
+        instance.setMaxEvaluations(40000);
+
+        ThreadPoolExecutor single = ParallelUtil.createThreadPool(1);
+        ThreadPoolExecutor several = ParallelUtil.createThreadPool(4);
+        try
+        {
+            instance.setThreadPool(single);
+            ParallelMonteCarloIntegrator.Result first =
+                instance.integrate(new ExponentialSum());
+            instance.setRandom(new Random(seed));
+            instance.setThreadPool(several);
+            ParallelMonteCarloIntegrator.Result second =
+                instance.integrate(new ExponentialSum());
+            assertEquals(first.getMean(), second.getMean());
+            assertEquals(first.getVariance(), second.getVariance());
+        }
+        finally
+        {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * Tests the variance reduction options.
+     */
+    public void testVarianceReduction()
+    {
+        ParallelMonteCarloIntegrator instance =
+            new ParallelMonteCarloIntegrator(1,
+                ParallelMonteCarloIntegrator.SamplingMethod.PSEUDO_RANDOM,
+                this.random);
+        instance.setBlockSize(1000);
+        instance.setMaxEvaluations(32000);
+        double expected = Math.E - 1.0;
+        ParallelMonteCarloIntegrator.Result plain =
+            instance.integrate(new ExponentialSum());
+
+        // Antithetic pairs cancel the linear part, so a linear function has
+        // no error at all.
+        instance.setAntithetic(true);
+        ParallelMonteCarloIntegrator.Result antithetic =
+            instance.integrate(new ExponentialSum());
+        assertEquals(32000, antithetic.getEvaluations());
+        assertEquals(expected, antithetic.getMean(),
+            4.0 * antithetic.getStandardError());
+        assertTrue(antithetic.getStandardError()
+            < 0.2 * plain.getStandardError());
+        ParallelMonteCarloIntegrator.Result linear =
+            instance.integrate(new Sum());
+        assertEquals(0.5, linear.getMean(), 1e-10);
+        assertEquals(0.0, linear.getStandardError(), 1e-10);
+
+        // The optimal coefficient for x as a control variate of exp(x) is
+        // cov(exp(x), x) / var(x) = 6 (3 - e).
+        instance.setAntithetic(false);
+        instance.setControlVariate(new Sum(), 0.5);
+        ParallelMonteCarloIntegrator.Result control =
+            instance.integrate(new ExponentialSum());
+        assertEquals(expected, control.getMean(),
+            4.0 * control.getStandardError());
+        assertEquals(6.0 * (3.0 - Math.E),
+            control.getControlVariateCoefficient(), 0.02);
+        assertTrue(control.getStandardError() < 0.2 * plain.getStandardError());
+        assertEquals(0.0, plain.getControlVariateCoefficient());
+    }
+
+    /**
+     * Test of integrate method with Sobol points, of class
+     * ParallelMonteCarloIntegrator.
+     */
+    public void testIntegrateSobol()
+    {
+        int d = 4;
+        double expected = Math.pow(Math.E - 1.0, d);
+        ParallelMonteCarloIntegrator instance =
+            new ParallelMonteCarloIntegrator(d,
+                ParallelMonteCarloIntegrator.SamplingMethod.PSEUDO_RANDOM,
+                this.random);
+        instance.setBlockSize(1024);
+        instance.setMaxEvaluations(65536);
+        ParallelMonteCarloIntegrator.Result pseudoRandom =
+            instance.integrate(new ExponentialSum());
+
+        instance.setSamplingMethod(
+            ParallelMonteCarloIntegrator.SamplingMethod.SOBOL);
+        ParallelMonteCarloIntegrator.Result sobol =
+            instance.integrate(new ExponentialSum());
+        assertEquals(65536, sobol.getEvaluations());
+        assertEquals(expected, sobol.getMean(), 4.0 * sobol.getStandardError());
+        assertTrue(sobol.getStandardError()
+            < 0.05 * pseudoRandom.getStandardError());
+        assertTrue(Math.abs(sobol.getMean() - expected)
+            < 0.05 * pseudoRandom.getStandardError());
+
+        instance.setDimensionality(SobolSequence.MAX_DIMENSIONALITY + 1);
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.integrate(new ExponentialSum());
+        }
+        catch (IllegalStateException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Tests that a small maximum number of evaluations is never exceeded,
+     * even in the first round.
+     */
+    public void testSmallMaxEvaluations()
+    {
+        ParallelMonteCarloIntegrator instance =
+            new ParallelMonteCarloIntegrator(2,
+                ParallelMonteCarloIntegrator.SamplingMethod.PSEUDO_RANDOM,
+                this.random);
+        instance.setMaxEvaluations(10);
+        ParallelMonteCarloIntegrator.Result result =
+            instance.integrate(new ExponentialSum());
+        assertEquals(10, result.getEvaluations());
+        assertEquals(1, result.getRounds());
+        assertFalse(Double.isNaN(result.getMean()));
+
+        // Each antithetic point takes two evaluations.
+        instance.setAntithetic(true);
+        instance.setMaxEvaluations(7);
+        result = instance.integrate(new ExponentialSum());
+        assertEquals(6, result.getEvaluations());
+
+        // A budget of a few rounds with a partial last round.
+        instance.setAntithetic(false);
+        instance.setBlockSize(3);
+        instance.setMaxEvaluations(100);
+        result = instance.integrate(new ExponentialSum());
+        assertEquals(100, result.getEvaluations());
+        assertEquals(3, result.getRounds());
+
+        // Sobol streams without points are left out of the error estimate.
+        instance.setSamplingMethod(
+            ParallelMonteCarloIntegrator.SamplingMethod.SOBOL);
+        instance.setMaxEvaluations(5);
+        result = instance.integrate(new ExponentialSum());
+        assertEquals(5, result.getEvaluations());
+        assertTrue(result.getVariance() > 0.0);
+        assertFalse(Double.isInfinite(result.getVariance()));
+
+        instance.setAntithetic(true);
+        instance.setMaxEvaluations(1);
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.integrate(new ExponentialSum());
+        }
+        catch (IllegalStateException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Tests stopping at the target standard error.
+     */
+    public void testTargetStandardError()
+    {
+        ParallelMonteCarloIntegrator instance =
+            new ParallelMonteCarloIntegrator(2,
+                ParallelMonteCarloIntegrator.SamplingMethod.PSEUDO_RANDOM,
+                this.random);
+        instance.setBlockSize(100);
+        instance.setTargetStandardError(0.01);
+        ParallelMonteCarloIntegrator.Result result =
+            instance.integrate(new ExponentialSum());
+        assertTrue(result.isConverged());
+        assertTrue(result.getStandardError() <= 0.01);
+        assertTrue(result.getEvaluations()
+            < instance.getMaxEvaluations() / 10);
+        // One round fewer would not have reached the target.
+        assertTrue(result.getRounds() > 1);
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * File:            SobolSequenceTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.statistics.montecarlo;
+
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for class SobolSequence.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class SobolSequenceTest
+    extends TestCase
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(7781);
+
+    /**
+     * Creates a new test.
+     *
+     * @param   testName
+     *      The test name.
+     */
+    public SobolSequenceTest(
+        String testName)
+    {
+        super(testName);
+    }
+
+    /**
+     * Test of constructors of class SobolSequence.
+     */
+    public void testConstructors()
+    {
+        SobolSequence instance = new SobolSequence(3);
+        assertEquals(3, instance.getDimensionality());
+        assertEquals(0, instance.getIndex());
+
+        instance = new SobolSequence(SobolSequence.MAX_DIMENSIONALITY);
+        assertEquals(SobolSequence.MAX_DIMENSIONALITY,
+            instance.getDimensionality());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new SobolSequence(SobolSequence.MAX_DIMENSIONALITY + 1);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of nextInto method, of class SobolSequence.
+     */
+    public void testNextInto()
+    {
+        SobolSequence instance = new SobolSequence(2);
+        double[] point = new double[2];
+        double[][] expected = {
+            { 0.0, 0.0 }, { 0.5, 0.5 }, { 0.75, 0.25 }, { 0.25, 0.75 } };
+        for (double[] x : expected)
+        {
+            instance.nextInto(point);
+            assertEquals(x[0], point[0], 1e-9);
+            assertEquals(x[1], point[1], 1e-9);
+            assertTrue(point[0] > 0.0 && point[0] < 1.0);
+        }
+        assertEquals(4, instance.getIndex());
+    }
+
+    /**
+     * Tests that the first 2^k points of each dimension fall one in each
+     * interval of width 2^-k, with or without a shift.
+     */
+    public void testStratification()
+    {
+        int d = SobolSequence.MAX_DIMENSIONALITY;
+        int n = 1 << 10;
+        for (int shifted = 0; shifted < 2; shifted++)
+        {
+            SobolSequence instance = new SobolSequence(d);
+            if (shifted > 0)
+            {
+                instance.randomizeShift(this.random);
+            }
+            int[][] counts = new int[d][n];
+            double[] point = new double[d];
+            for (int i = 0; i < n; i++)
+            {
+                instance.nextInto(point);
+                for (int j = 0; j < d; j++)
+                {
+                    counts[j][(int) (point[j] * n)]++;
+                }
+            }
+            for (int j = 0; j < d; j++)
+            {
+                for (int i = 0; i < n; i++)
+                {
+                    assertEquals(1, counts[j][i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of setIndex method, of class SobolSequence.
+     */
+    public void testSetIndex()
+    {
+        SobolSequence sequential = new SobolSequence(5);
+        sequential.randomizeShift(this.random);
+        SobolSequence jumped = sequential.clone();
+        double[] expected = new double[5];
+        double[] actual = new double[5];
+        for (int i = 0; i < 1000; i++)
+        {
+            sequential.nextInto(expected);
+        }
+        for (long index : new long[] { 1000, 0, 1, 513 })
+        {
+            jumped.setIndex(index);
+            jumped.nextInto(actual);
+            SobolSequence reference = sequential.clone();
+            reference.setIndex(0);
+            for (long i = 0; i <= index; i++)
+            {
+                reference.nextInto(expected);
+            }
+            for (int j = 0; j < 5; j++)
+            {
+                assertEquals(expected[j], actual[j]);
+            }
+            assertEquals(index + 1, jumped.getIndex());
+        }
+
+        boolean exceptionThrown = false;
+        try
+        {
+            jumped.setIndex(-1);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of setShift method, of class SobolSequence.
+     */
+    public void testSetShift()
+    {
+        SobolSequence instance = new SobolSequence(2);
+        instance.setShift(new int[] { 1 << 31, 0 });
+        double[] point = new double[2];
+        instance.nextInto(point);
+        assertEquals(0.5, point[0], 1e-9);
+        assertEquals(0.0, point[1], 1e-9);
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setShift(new int[3]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+}
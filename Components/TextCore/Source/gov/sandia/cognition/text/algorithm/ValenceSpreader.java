@@ -1,24 +1,24 @@
 
 package gov.sandia.cognition.text.algorithm;
 
-import gov.sandia.cognition.learning.algorithm.minimization.matrix.ConjugateGradientMatrixSolver;
-import gov.sandia.cognition.learning.algorithm.semisupervised.valence.MultipartiteValenceMatrix;
+import gov.sandia.cognition.algorithm.ParallelUtil;
 import gov.sandia.cognition.learning.data.DefaultInputOutputPair;
-import gov.sandia.cognition.math.matrix.Vector;
 import gov.sandia.cognition.util.Pair;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
- * This class serves as a wrapper for the MultipartiteValenceMatrix class to
- * simplify the interface for the most common valence task: Ranking a set of
- * documents based on a small set of scored documents and/or a set of scored
- * terms.
+ * This class spreads valence over a bipartite graph of terms and documents
+ * for the most common valence task: Ranking a set of documents based on a
+ * small set of scored documents and/or a set of scored terms.
  *
  * This algorithm only works when there are some negative scores and some
  * positive scores. However, some datasets (such as ANEW) score from [0 ... 10]
@@ -26,15 +26,32 @@ import java.util.Set;
  * positive/negative scale), you can call centerWeightsRange to make sure there
  * are some negative and some positive scores.
  *
- * Note that this class also serves as an example of how to call
- * MultipartiteValenceMatrix for if you have a different application and just
- * want to see how it's done.
+ * This solves the same system as MultipartiteValenceMatrix with a bipartite
+ * graph of terms and documents, but it assembles the normalized adjacency
+ * directly into compressed sparse row arrays and solves with a
+ * Jacobi-preconditioned conjugate gradient whose matrix/vector multiplies run
+ * in parallel over blocks of rows. When spreadValence is called again after
+ * documents or scores are added, the solver starts from the previous solution
+ * (see setWarmStart), which usually takes far fewer iterations.
  *
  * @author jdwendt
  */
 public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType extends Comparable<DocIdType>>
 {
 
+    /**
+     * The default trust for non-scored items. This exists solely to keep scores
+     * from wandering from zero for no apparent reason. It matches the one used
+     * by MultipartiteValenceMatrix.
+     */
+    private static final double DEFAULT_TRUST = 0.001;
+
+    /**
+     * The number of iterations between recomputing the residual from scratch
+     * in the conjugate gradient solver to avoid accumulating round-off error.
+     */
+    private static final int RESIDUAL_RESET_ITERATIONS = 50;
+
     /**
      * The (possibly empty) set of terms and their scores passed in by the
      * calling system. Note that either this or weightedDocuments should be
@@ -54,7 +71,7 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
      * map with each term in the document is the key and the score is the value
      * (can be passed in as a binary 1/0, TF, TF-IDF, etc.).
      */
-    private Map<DocIdType, Map<TermType, Double>> documents;
+    private Map<DocIdType, DocumentTerms> documents;
 
     /**
      * The accuracy required before declaring that the iterative solver has
@@ -70,6 +87,38 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
      */
     private int numThreads;
 
+    /**
+     * True if the solver should start from the result of the previous call to
+     * spreadValence for the terms and documents it contains.
+     */
+    private boolean warmStart;
+
+    /**
+     * The sorted terms of the previous call to spreadValence, used for
+     * warm-starting the solver. Null if there is none.
+     */
+    private List<TermType> previousTerms;
+
+    /**
+     * The sorted document ids of the previous call to spreadValence, used for
+     * warm-starting the solver. Null if there is none.
+     */
+    private List<DocIdType> previousDocumentIds;
+
+    /**
+     * The solution of the previous call to spreadValence: the term scores in
+     * the order of previousTerms followed by the document scores in the order
+     * of previousDocumentIds. It is private to this class, so changes to a
+     * returned result do not affect the warm start. Null if there is none.
+     */
+    private double[] previousSolution;
+
+    /**
+     * The number of iterations the solver took in the last call to
+     * spreadValence.
+     */
+    private int iterationCount;
+
     /**
      * Creates an empty valence spreader. After initialization, documents and
      * some set of scores must be passed in.
@@ -78,9 +127,12 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
     {
         weightedTerms = new HashMap<TermType, Pair<Double, Double>>();
         weightedDocuments = new HashMap<DocIdType, Pair<Double, Double>>();
-        documents = new HashMap<DocIdType, Map<TermType, Double>>();
+        documents = new HashMap<DocIdType, DocumentTerms>();
         tolerance = 1e-5;
         numThreads = 2;
+        warmStart = true;
+        clearPreviousSolution();
+        iterationCount = 0;
     }
 
     /**
@@ -124,6 +176,46 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
         this.tolerance = tolerance;
     }
 
+    /**
+     * Sets whether the iterative solver starts from the result of the previous
+     * call to spreadValence. When documents are added incrementally, the
+     * previous scores are usually close to the new ones, so this takes far
+     * fewer iterations. New terms and documents start from their input score.
+     * This is on by default.
+     *
+     * @param warmStart True to start from the previous result; false to start
+     * from the input scores each time.
+     */
+    public void setWarmStart(boolean warmStart)
+    {
+        this.warmStart = warmStart;
+        if (!warmStart)
+        {
+            clearPreviousSolution();
+        }
+    }
+
+    /**
+     * Forgets the solution kept for warm-starting the solver.
+     */
+    private void clearPreviousSolution()
+    {
+        previousTerms = null;
+        previousDocumentIds = null;
+        previousSolution = null;
+    }
+
+    /**
+     * Gets the number of iterations the iterative solver took in the last call
+     * to spreadValence.
+     *
+     * @return The number of iterations in the last solve.
+     */
+    public int getIterationCount()
+    {
+        return iterationCount;
+    }
+
     /**
      * Adds the input term with its associated score. Note that this term/score
      * pair will only be used when solving for the system if some document uses
@@ -222,11 +314,10 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
     public void addDocumentTermOccurrences(DocIdType documentId,
         Set<TermType> terms)
     {
-        Map<TermType, Double> document = new HashMap<TermType, Double>(
-            terms.size());
+        DocumentTerms document = new DocumentTerms(terms.size());
         for (TermType term : terms)
         {
-            document.put(term, 1.0);
+            document.add(term, 1.0);
         }
         documents.put(documentId, document);
     }
@@ -246,7 +337,12 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
     public void addDocumentTermWeights(DocIdType documentId,
         Map<TermType, Double> terms)
     {
-        documents.put(documentId, new HashMap<TermType, Double>(terms));
+        DocumentTerms document = new DocumentTerms(terms.size());
+        for (Map.Entry<TermType, Double> term : terms.entrySet())
+        {
+            document.add(term.getKey(), term.getValue());
+        }
+        documents.put(documentId, document);
     }
 
     /**
@@ -343,9 +439,12 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
         int numDocs = documents.size();
         // First get all of the terms in all of the documents
         Set<TermType> allTerms = new HashSet<TermType>();
-        for (Map<TermType, Double> document : documents.values())
+        for (DocumentTerms document : documents.values())
         {
-            allTerms.addAll(document.keySet());
+            for (int i = 0; i < document.size; ++i)
+            {
+                allTerms.add(document.getTerm(i));
+            }
         }
         int numTerms = allTerms.size();
         // Now, put them in some deterministic order
@@ -371,48 +470,131 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
             reverseLookupDocuments.put(orderedDocumentIds.get(i), i);
         }
 
-        // Now, I can start putting things in the valence spreading algorithm
-        List<Integer> sizes = new ArrayList<Integer>(2);
-        sizes.add(numTerms);
-        sizes.add(numDocs);
-        MultipartiteValenceMatrix mvm = new MultipartiteValenceMatrix(sizes,
-            power, numThreads);
-        // For all documents...
+        // The terms come first and then the documents, as in the partitions
+        // of MultipartiteValenceMatrix. Assemble the symmetric adjacency
+        // matrix directly in compressed sparse row form: first count the
+        // entries in each row...
+        int n = numTerms + numDocs;
+        int[][] documentTermIndices = new int[numDocs][];
+        int[] rowStarts = new int[n + 1];
+        for (int i = 0; i < numDocs; ++i)
+        {
+            DocumentTerms document = documents.get(orderedDocumentIds.get(i));
+            int[] termIndices = new int[document.size];
+            for (int j = 0; j < document.size; ++j)
+            {
+                termIndices[j] = reverseLookupTerms.get(document.getTerm(j));
+                rowStarts[termIndices[j] + 1]++;
+            }
+            documentTermIndices[i] = termIndices;
+            rowStarts[numTerms + i + 1] = document.size;
+        }
+        for (int i = 0; i < n; ++i)
+        {
+            rowStarts[i + 1] += rowStarts[i];
+        }
+
+        // ... then fill in both directions of each relationship.
+        int[] columnIndices = new int[rowStarts[n]];
+        double[] values = new double[rowStarts[n]];
+        int[] next = new int[numTerms];
+        System.arraycopy(rowStarts, 0, next, 0, numTerms);
         for (int i = 0; i < numDocs; ++i)
         {
-            // Add all terms that document uses (w/ their scores)
-            for (Map.Entry<TermType, Double> term : documents.get(
-                orderedDocumentIds.get(i)).entrySet())
+            double[] weights = documents.get(orderedDocumentIds.get(i)).weights;
+            int[] termIndices = documentTermIndices[i];
+            int position = rowStarts[numTerms + i];
+            for (int j = 0; j < termIndices.length; ++j)
+            {
+                columnIndices[position] = termIndices[j];
+                values[position] = weights[j];
+                position++;
+
+                int termPosition = next[termIndices[j]]++;
+                columnIndices[termPosition] = numTerms + i;
+                values[termPosition] = weights[j];
+            }
+            documentTermIndices[i] = null;
+        }
+        documentTermIndices = null;
+        next = null;
+
+        // Normalize the adjacency to D^(-1/2)AD^(-1/2) where D is the diagonal
+        // of row sums, so that the normalized Laplacian is I - D^(-1/2)AD^(-1/2)
+        double[] scales = new double[n];
+        for (int i = 0; i < n; ++i)
+        {
+            double rowSum = 0.0;
+            for (int k = rowStarts[i]; k < rowStarts[i + 1]; ++k)
+            {
+                rowSum += values[k];
+            }
+            if (rowSum > 0)
+            {
+                scales[i] = 1.0 / Math.sqrt(rowSum);
+            }
+        }
+        for (int i = 0; i < n; ++i)
+        {
+            for (int k = rowStarts[i]; k < rowStarts[i + 1]; ++k)
             {
-                mvm.addRelationship(0, reverseLookupTerms.get(term.getKey()), 1,
-                    i, term.getValue());
+                values[k] *= scales[i] * scales[columnIndices[k]];
             }
         }
+        scales = null;
 
-        // Now, set the initial scores for all of the scores passed in
+        // Now, set the trust and initial scores for all of the scores passed in
+        double[] trusts = new double[n];
+        double[] rhs = new double[n];
+        Arrays.fill(trusts, DEFAULT_TRUST);
         for (Map.Entry<TermType, Pair<Double, Double>> e
             : weightedTerms.entrySet())
         {
             Integer idx = reverseLookupTerms.get(e.getKey());
             if (idx != null)
             {
-                mvm.setElementsScore(0, idx.intValue(), e.getValue().getSecond(),
-                    e.getValue().getFirst());
+                trusts[idx] = e.getValue().getSecond();
+                rhs[idx] = e.getValue().getSecond() * e.getValue().getFirst();
             }
         }
         for (Map.Entry<DocIdType, Pair<Double, Double>> e
             : weightedDocuments.entrySet())
         {
             Integer idx = reverseLookupDocuments.get(e.getKey());
-            mvm.setElementsScore(1, idx.intValue(), e.getValue().getSecond(),
-                e.getValue().getFirst());
+            if (idx != null)
+            {
+                trusts[numTerms + idx] = e.getValue().getSecond();
+                rhs[numTerms + idx] =
+                    e.getValue().getSecond() * e.getValue().getFirst();
+            }
+        }
+
+        // Start from the right-hand side, or the previous result if there is one
+        double[] result = rhs.clone();
+        if (warmStart && previousSolution != null)
+        {
+            // Both orders are sorted, so walk them together
+            copyPreviousScores(orderedTerms, previousTerms, 0, 0, result);
+            copyPreviousScores(orderedDocumentIds, previousDocumentIds,
+                numTerms, previousTerms.size(), result);
         }
 
         // Now, solve the stupid thing!
-        Vector rhs = mvm.init();
-        ConjugateGradientMatrixSolver s = new ConjugateGradientMatrixSolver(rhs,
-            rhs, tolerance);
-        Vector result = s.learn(mvm).getOutput();
+        ThreadPoolExecutor threadPool = numThreads > 1
+            ? ParallelUtil.createThreadPool(numThreads) : null;
+        try
+        {
+            ValenceSystem system = new ValenceSystem(rowStarts, columnIndices,
+                values, trusts, power, threadPool, numThreads);
+            iterationCount = system.solve(rhs, result, tolerance, 10 * n);
+        }
+        finally
+        {
+            if (threadPool != null)
+            {
+                threadPool.shutdown();
+            }
+        }
 
         // Now pull out all of the scores into my return type
         Result<TermType, DocIdType> r = new Result<TermType, DocIdType>();
@@ -420,17 +602,451 @@ public class ValenceSpreader<TermType extends Comparable<TermType>, DocIdType ex
         r.documentWeights = new HashMap<DocIdType, Double>(numDocs);
         for (int i = 0; i < numTerms; ++i)
         {
-            r.termWeights.put(orderedTerms.get(i), result.getElement(i));
+            r.termWeights.put(orderedTerms.get(i), result[i]);
         }
         for (int i = 0; i < numDocs; ++i)
         {
-            r.documentWeights.put(orderedDocumentIds.get(i), result.getElement(
-                numTerms + i));
+            r.documentWeights.put(orderedDocumentIds.get(i),
+                result[numTerms + i]);
         }
 
+        if (warmStart)
+        {
+            previousTerms = orderedTerms;
+            previousDocumentIds = orderedDocumentIds;
+            previousSolution = result;
+        }
         return r;
     }
 
+    /**
+     * Copies the previous scores of the items that are in both the current
+     * and the previous sorted orders into the starting point of the solver.
+     *
+     * @param <T> The type of the items
+     * @param ordered The items of this call in sorted order
+     * @param previous The items of the previous call in sorted order
+     * @param offset The index in the solution of the first of the items
+     * @param previousOffset The index in the previous solution of the first
+     * of the previous items
+     * @param result The starting point of the solver to copy the scores into
+     */
+    private <T extends Comparable<T>> void copyPreviousScores(List<T> ordered,
+        List<T> previous, int offset, int previousOffset, double[] result)
+    {
+        int j = 0;
+        for (int i = 0; i < ordered.size() && j < previous.size(); ++i)
+        {
+            T item = ordered.get(i);
+            int comparison = -1;
+            while (j < previous.size()
+                && (comparison = previous.get(j).compareTo(item)) < 0)
+            {
+                ++j;
+            }
+            if (comparison == 0)
+            {
+                result[offset + i] = previousSolution[previousOffset + j];
+                ++j;
+            }
+        }
+    }
+
+    /**
+     * The terms of a single document and their scores, stored in parallel
+     * arrays rather than a map to keep large collections of documents small.
+     */
+    private class DocumentTerms
+    {
+
+        /**
+         * The terms in the document.
+         */
+        private Object[] terms;
+
+        /**
+         * The score for each term.
+         */
+        private double[] weights;
+
+        /**
+         * The number of terms in the document.
+         */
+        private int size;
+
+        /**
+         * Creates an empty document with room for the given number of terms.
+         *
+         * @param capacity The number of terms in the document
+         */
+        private DocumentTerms(int capacity)
+        {
+            terms = new Object[capacity];
+            weights = new double[capacity];
+            size = 0;
+        }
+
+        /**
+         * Adds a term to the document. The terms must be unique.
+         *
+         * @param term The term
+         * @param weight The score for the term in the document
+         */
+        private void add(TermType term,
+            double weight)
+        {
+            terms[size] = term;
+            weights[size] = weight;
+            size++;
+        }
+
+        /**
+         * Gets the term at the given position.
+         *
+         * @param i The position of the term
+         * @return The term at that position
+         */
+        @SuppressWarnings("unchecked")
+        private TermType getTerm(int i)
+        {
+            return (TermType) terms[i];
+        }
+
+    }
+
+    /**
+     * The system of equations (L_tilde^power + B) x = b from "Agile
+     * Sentiment..." over primitive arrays, where L_tilde is the normalized
+     * Laplacian, I - D^(-1/2)AD^(-1/2), and B is the diagonal of trusts. See
+     * MultipartiteValenceMatrix for the details.
+     */
+    private static class ValenceSystem
+    {
+
+        /**
+         * The start of each row of the normalized adjacency in the column
+         * indices and values. It has one more element than there are rows.
+         */
+        private final int[] rowStarts;
+
+        /**
+         * The column index of each entry of the normalized adjacency.
+         */
+        private final int[] columnIndices;
+
+        /**
+         * The value of each entry of the normalized adjacency.
+         */
+        private final double[] values;
+
+        /**
+         * The down-the-diagonal trust for each element.
+         */
+        private final double[] trusts;
+
+        /**
+         * The power to raise the normalized Laplacian to.
+         */
+        private final int power;
+
+        /**
+         * The thread pool for the matrix/vector multiplies. Null to multiply
+         * on the calling thread.
+         */
+        private final ThreadPoolExecutor threadPool;
+
+        /**
+         * The tasks that each multiply a block of rows.
+         */
+        private final ArrayList<MultiplyTask> tasks;
+
+        /**
+         * The first of the two work vectors for raising the Laplacian to the
+         * power.
+         */
+        private final double[] first;
+
+        /**
+         * The second of the two work vectors for raising the Laplacian to the
+         * power.
+         */
+        private final double[] second;
+
+        /**
+         * The vector the tasks are currently multiplying.
+         */
+        private double[] input;
+
+        /**
+         * The vector the tasks are currently writing to.
+         */
+        private double[] output;
+
+        /**
+         * Creates a new system.
+         *
+         * @param rowStarts The start of each row of the normalized adjacency
+         * @param columnIndices The column index of each entry
+         * @param values The value of each entry
+         * @param trusts The trust for each element
+         * @param power The power to raise the Laplacian to
+         * @param threadPool The thread pool to use, or null for none
+         * @param numThreads The number of blocks of rows to split the
+         * multiplies into
+         */
+        private ValenceSystem(int[] rowStarts,
+            int[] columnIndices,
+            double[] values,
+            double[] trusts,
+            int power,
+            ThreadPoolExecutor threadPool,
+            int numThreads)
+        {
+            this.rowStarts = rowStarts;
+            this.columnIndices = columnIndices;
+            this.values = values;
+            this.trusts = trusts;
+            this.power = power;
+            this.threadPool = threadPool;
+            int n = trusts.length;
+            this.first = new double[n];
+            this.second = new double[n];
+
+            // Split the rows into blocks with about the same number of entries
+            tasks = new ArrayList<MultiplyTask>(numThreads);
+            if (threadPool != null)
+            {
+                long entries = (long) rowStarts[n] + n;
+                int start = 0;
+                for (int t = 1; t <= numThreads && start < n; ++t)
+                {
+                    long target = entries * t / numThreads;
+                    int end = start;
+                    while (end < n && (long) rowStarts[end] + end < target)
+                    {
+                        end++;
+                    }
+                    if (t == numThreads)
+                    {
+                        end = n;
+                    }
+                    if (end > start)
+                    {
+                        tasks.add(new MultiplyTask(start, end));
+                        start = end;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Solves the system using the conjugate gradient method with a Jacobi
+         * preconditioner of 1 + trust, which is the diagonal of L_tilde^power
+         * + B ignoring the off-diagonal spreading. Iterations stop when the
+         * squared L-2 norm of the residual goes below the tolerance, as in
+         * ConjugateGradientMatrixSolver.
+         *
+         * @param rhs The right-hand side of the system
+         * @param x The initial guess, which is replaced by the solution
+         * @param tolerance The tolerance for the squared norm of the residual
+         * @param maxIterations The maximum number of iterations
+         * @return The number of iterations performed
+         */
+        private int solve(double[] rhs,
+            double[] x,
+            double tolerance,
+            int maxIterations)
+        {
+            int n = rhs.length;
+            double[] residual = new double[n];
+            double[] preconditioned = new double[n];
+            double[] direction = new double[n];
+            double[] product = new double[n];
+
+            times(x, product);
+            double residualNorm = 0.0;
+            double delta = 0.0;
+            for (int i = 0; i < n; ++i)
+            {
+                residual[i] = rhs[i] - product[i];
+                preconditioned[i] = residual[i] / (1.0 + trusts[i]);
+                direction[i] = preconditioned[i];
+                residualNorm += residual[i] * residual[i];
+                delta += residual[i] * preconditioned[i];
+            }
+
+            int iteration = 0;
+            while (residualNorm >= tolerance && iteration < maxIterations)
+            {
+                iteration++;
+                times(direction, product);
+                double curvature = 0.0;
+                for (int i = 0; i < n; ++i)
+                {
+                    curvature += direction[i] * product[i];
+                }
+                if (curvature <= 0.0)
+                {
+                    // Only possible through round-off at the solution.
+                    break;
+                }
+                double alpha = delta / curvature;
+                for (int i = 0; i < n; ++i)
+                {
+                    x[i] += alpha * direction[i];
+                }
+
+                if (iteration % RESIDUAL_RESET_ITERATIONS == 0)
+                {
+                    times(x, product);
+                    for (int i = 0; i < n; ++i)
+                    {
+                        residual[i] = rhs[i] - product[i];
+                    }
+                }
+                else
+                {
+                    for (int i = 0; i < n; ++i)
+                    {
+                        residual[i] -= alpha * product[i];
+                    }
+                }
+
+                double deltaOld = delta;
+                residualNorm = 0.0;
+                delta = 0.0;
+                for (int i = 0; i < n; ++i)
+                {
+                    preconditioned[i] = residual[i] / (1.0 + trusts[i]);
+                    residualNorm += residual[i] * residual[i];
+                    delta += residual[i] * preconditioned[i];
+                }
+                double beta = delta / deltaOld;
+                for (int i = 0; i < n; ++i)
+                {
+                    direction[i] = preconditioned[i] + beta * direction[i];
+                }
+            }
+            return iteration;
+        }
+
+        /**
+         * Computes (L_tilde^power + B) x.
+         *
+         * @param x The vector to multiply
+         * @param result The vector to write the result to
+         */
+        private void times(double[] x,
+            double[] result)
+        {
+            double[] from = x;
+            double[] to = first;
+            for (int i = 0; i < power; ++i)
+            {
+                laplacianTimes(from, to);
+                from = to;
+                to = (to == first) ? second : first;
+            }
+            for (int i = 0; i < x.length; ++i)
+            {
+                result[i] = from[i] + trusts[i] * x[i];
+            }
+        }
+
+        /**
+         * Computes L_tilde from into to, in parallel if there is a thread
+         * pool.
+         *
+         * @param from The vector to multiply
+         * @param to The vector to write the result to
+         */
+        private void laplacianTimes(double[] from,
+            double[] to)
+        {
+            if (threadPool == null)
+            {
+                laplacianTimes(from, to, 0, from.length);
+                return;
+            }
+
+            input = from;
+            output = to;
+            try
+            {
+                ParallelUtil.executeInParallel(tasks, threadPool);
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Computes a block of rows of L_tilde from into to.
+         *
+         * @param from The vector to multiply
+         * @param to The vector to write the result to
+         * @param start The first row (inclusive)
+         * @param end The last row (exclusive)
+         */
+        private void laplacianTimes(double[] from,
+            double[] to,
+            int start,
+            int end)
+        {
+            for (int i = start; i < end; ++i)
+            {
+                double sum = 0.0;
+                for (int k = rowStarts[i]; k < rowStarts[i + 1]; ++k)
+                {
+                    sum += values[k] * from[columnIndices[k]];
+                }
+                to[i] = from[i] - sum;
+            }
+        }
+
+        /**
+         * Multiplies one block of rows of the normalized Laplacian.
+         */
+        private class MultiplyTask
+            extends Object
+            implements Callable<Boolean>
+        {
+
+            /**
+             * The first row (inclusive).
+             */
+            private final int start;
+
+            /**
+             * The last row (exclusive).
+             */
+            private final int end;
+
+            /**
+             * Creates a new task for the given rows.
+             *
+             * @param start The first row (inclusive)
+             * @param end The last row (exclusive)
+             */
+            private MultiplyTask(int start,
+                int end)
+            {
+                this.start = start;
+                this.end = end;
+            }
+
+            @Override
+            public Boolean call()
+            {
+                laplacianTimes(input, output, start, end);
+                return true;
+            }
+
+        }
+
+    }
+
     /**
      * The return type from running the spreadValence methods. This reports the
      * weights assigned to all of the input documents and all of the terms that
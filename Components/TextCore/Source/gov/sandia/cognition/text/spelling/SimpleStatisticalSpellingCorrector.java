@@ -15,33 +15,60 @@
 package gov.sandia.cognition.text.spelling;
 
 import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
 import gov.sandia.cognition.annotation.PublicationType;
 import gov.sandia.cognition.evaluator.Evaluator;
 import gov.sandia.cognition.learning.algorithm.AbstractBatchAndIncrementalLearner;
 import gov.sandia.cognition.statistics.distribution.DefaultDataDistribution;
 import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * A simple statistical spelling corrector based on word counts that looks at
  * possible one and two-character edits.
+ * <BR><BR>
+ * Rather than enumerating every edit of a word over the alphabet, the
+ * corrector keeps a symmetric-delete index that maps each string made by
+ * deleting up to two characters from a known word to that word. A word is
+ * within two edits of a known word only if some deletes of the two match, so
+ * the candidates come from looking up the few deletes of the misspelled word.
+ * Each candidate is then checked with the edit distance. The index is built
+ * lazily and kept up to date by the add methods. If the word counts are
+ * changed directly, call {@link #clearIndex()}.
  * 
  * @author  Justin Basilico
  * @since   3.0
  */
-@PublicationReference(
-    author="Peter Norvig",
-    title="How to Write a Spelling Corrector",
-    year=2009,
-    type=PublicationType.WebPage,
-    url="http://norvig.com/spell-correct.html"
+@PublicationReferences(
+    references={
+        @PublicationReference(
+            author="Peter Norvig",
+            title="How to Write a Spelling Corrector",
+            year=2009,
+            type=PublicationType.WebPage,
+            url="http://norvig.com/spell-correct.html"
+        ),
+        @PublicationReference(
+            author="Wolf Garbe",
+            title="1000x Faster Spelling Correction algorithm",
+            year=2012,
+            type=PublicationType.WebPage,
+            url="https://seekstorm.com/blog/1000x-spelling-correction/"
+        )
+    }
 )
 public class SimpleStatisticalSpellingCorrector
     extends AbstractCloneableSerializable
     implements Evaluator<String, String>
 {
+
+    /** The maximum number of edits between a word and its correction. */
+    public static final int MAXIMUM_EDIT_DISTANCE = 2;
+
     /**
      * Creates the default alphabet, which are the lower-case English letters.
      *
@@ -59,6 +86,14 @@ public class SimpleStatisticalSpellingCorrector
     /** The alphabet of lower case characters. */
     protected char[] alphabet;
 
+    /** Maps each string made by deleting up to two characters from a known
+     *  word to the known words it came from. Null until it is needed. */
+    protected transient volatile HashMap<String, String[]> deleteIndex;
+
+    /** The number of words in the word counts that are in the delete
+     *  index. */
+    protected transient int indexedWordCount;
+
     /**
      * Creates a new, default {@code SimpleStatisticalSpellingCorrector} with
      * a default alphabet.
@@ -108,7 +143,13 @@ public class SimpleStatisticalSpellingCorrector
     public void add(
         final String word)
     {
-        this.wordCounts.increment(word.toLowerCase());
+        final String key = word.toLowerCase();
+        final int domainSize = this.wordCounts.getDomainSize();
+        this.wordCounts.increment(key);
+        if (this.wordCounts.getDomainSize() > domainSize)
+        {
+            this.indexWord(key);
+        }
     }
 
     /**
@@ -124,7 +165,22 @@ public class SimpleStatisticalSpellingCorrector
         final String word,
         final int count)
     {
+        final int domainSize = this.wordCounts.getDomainSize();
         this.wordCounts.increment(word, count);
+        if (this.wordCounts.getDomainSize() > domainSize)
+        {
+            this.indexWord(word);
+        }
+    }
+
+    @Override
+    public SimpleStatisticalSpellingCorrector clone()
+    {
+        final SimpleStatisticalSpellingCorrector clone =
+            (SimpleStatisticalSpellingCorrector) super.clone();
+        clone.deleteIndex = null;
+        clone.indexedWordCount = 0;
+        return clone;
     }
 
     @Override
@@ -144,29 +200,304 @@ public class SimpleStatisticalSpellingCorrector
             return input;
         }
 
-        // Compute the one-character edits.
-        final HashSet<String> oneCharacterEdits = new HashSet<String>();
-        this.possibleOneCharacterEdits(input, oneCharacterEdits);
+        // Generate the deletes of the input, which includes the input itself.
+        final HashSet<String> deletes = new HashSet<String>();
+        deletes.add(input);
+        addDeletes(input, MAXIMUM_EDIT_DISTANCE, deletes);
+
+        // Any known word within the maximum number of edits shares a delete
+        // with the input, so look up the candidates and check their distance.
+        // The best one has the fewest edits and then the highest count.
+        final HashMap<String, String[]> index = this.getDeleteIndex();
+        final HashSet<String> seen = new HashSet<String>();
+        String result = input;
+        int bestDistance = MAXIMUM_EDIT_DISTANCE + 1;
+        double bestCount = 0.0;
+        for (String delete : deletes)
+        {
+            final String[] candidates = index.get(delete);
+            if (candidates == null)
+            {
+                continue;
+            }
+
+            for (String candidate : candidates)
+            {
+                if (!seen.add(candidate))
+                {
+                    // Already checked.
+                    continue;
+                }
+
+                final double count = this.wordCounts.get(candidate);
+                if (count <= 0.0
+                    || Math.abs(candidate.length() - input.length())
+                        > bestDistance)
+                {
+                    continue;
+                }
+
+                final int distance = this.editDistance(input, candidate);
+                if (distance > MAXIMUM_EDIT_DISTANCE)
+                {
+                    // Too far to be a correction.
+                    continue;
+                }
+                else if (distance < bestDistance
+                    || (distance == bestDistance && (count > bestCount
+                        || (count == bestCount
+                            && candidate.compareTo(result) < 0))))
+                {
+                    // Best found so far.
+                    result = candidate;
+                    bestDistance = distance;
+                    bestCount = count;
+                }
+            }
+        }
 
-        // Find the best one-character edits.
-        String result = this.findBest(oneCharacterEdits, null);
-        if (result != null)
+        // Return the best known word, which defaults to the input.
+        return result;
+    }
+
+    /**
+     * Computes the number of edits needed to turn the given source word into
+     * the given target word. The edits are the same as those considered by
+     * {@link #possibleOneCharacterEdits}: deletes, transposes of adjacent
+     * characters, and replaces and inserts of characters in the alphabet. It
+     * uses the Lowrance-Wagner algorithm for the Damerau-Levenshtein
+     * distance, with replaces and inserts of characters outside of the
+     * alphabet not allowed. Distances beyond the maximum edit distance are
+     * reported as one more than it.
+     *
+     * @param   source
+     *      The source word.
+     * @param   target
+     *      The target word.
+     * @return
+     *      The number of edits between the two words, up to one more than the
+     *      maximum edit distance.
+     */
+    public int editDistance(
+        final String source,
+        final String target)
+    {
+        final int tooFar = MAXIMUM_EDIT_DISTANCE + 1;
+        final int sourceLength = source.length();
+        final int targetLength = target.length();
+        if (Math.abs(sourceLength - targetLength) >= tooFar)
         {
-            // There was a good one-character edit, so return it.
-            return result;
+            return tooFar;
         }
-        // else - No known one-character edits.
 
-        // Now compute all the possible edits from the one character edits.
-        final Set<String> twoCharacterEdits =
-            this.knownTwoCharacterEdits(oneCharacterEdits);
+        // The cost of inserting or replacing with each target character.
+        final int[] addCosts = new int[targetLength];
+        for (int j = 0; j < targetLength; j++)
+        {
+            addCosts[j] = this.isInAlphabet(target.charAt(j)) ? 1 : tooFar;
+        }
 
-        // Find the best known two character edits with a default of using the
-        // input word.
-        result = this.findBest(twoCharacterEdits, input);
+        // Distances between source and target prefixes, capped at too far.
+        final int[][] distances = new int[sourceLength + 1][targetLength + 1];
+        for (int i = 1; i <= sourceLength; i++)
+        {
+            distances[i][0] = Math.min(i, tooFar);
+        }
+        for (int j = 1; j <= targetLength; j++)
+        {
+            distances[0][j] =
+                Math.min(distances[0][j - 1] + addCosts[j - 1], tooFar);
+        }
 
-        // Return the result.
-        return result;
+        for (int i = 1; i <= sourceLength; i++)
+        {
+            final char sourceChar = source.charAt(i - 1);
+            int rowMinimum = distances[i][0];
+            for (int j = 1; j <= targetLength; j++)
+            {
+                final char targetChar = target.charAt(j - 1);
+                int distance = Math.min(
+                    distances[i - 1][j] + 1,
+                    distances[i][j - 1] + addCosts[j - 1]);
+                distance = Math.min(distance, distances[i - 1][j - 1]
+                    + (sourceChar == targetChar ? 0 : addCosts[j - 1]));
+
+                // Transposes, possibly with deletes and inserts between the
+                // two transposed characters.
+                final int lastSource = source.lastIndexOf(targetChar, i - 2);
+                final int lastTarget = target.lastIndexOf(sourceChar, j - 2);
+                if (lastSource >= 0 && lastTarget >= 0)
+                {
+                    int transpose = distances[lastSource][lastTarget]
+                        + (i - lastSource - 2) + 1;
+                    for (int k = lastTarget + 1; k < j - 1; k++)
+                    {
+                        transpose += addCosts[k];
+                    }
+                    distance = Math.min(distance, transpose);
+                }
+
+                distance = Math.min(distance, tooFar);
+                distances[i][j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+
+            if (rowMinimum >= tooFar)
+            {
+                // Every path is already too far.
+                return tooFar;
+            }
+        }
+
+        return distances[sourceLength][targetLength];
+    }
+
+    /**
+     * Determines if the given character is in the alphabet.
+     *
+     * @param   c
+     *      The character.
+     * @return
+     *      True if the character is in the alphabet.
+     */
+    protected boolean isInAlphabet(
+        final char c)
+    {
+        for (char a : this.alphabet)
+        {
+            if (a == c)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds all the strings made by deleting between one and the given number
+     * of characters from the given word.
+     *
+     * @param   word
+     *      The word to delete characters from.
+     * @param   maximumDeletes
+     *      The maximum number of characters to delete.
+     * @param   result
+     *      The collection to add the deletes to.
+     */
+    protected static void addDeletes(
+        final String word,
+        final int maximumDeletes,
+        final Collection<String> result)
+    {
+        final int wordLength = word.length();
+        for (int i = 0; i < wordLength; i++)
+        {
+            final String delete = word.substring(0, i) + word.substring(i + 1);
+            if (result.add(delete) && maximumDeletes > 1)
+            {
+                addDeletes(delete, maximumDeletes - 1, result);
+            }
+        }
+    }
+
+    /**
+     * Gets the delete index for the current word counts, building it if it
+     * does not exist or the word counts have changed size.
+     *
+     * @return
+     *      The index from deletes to known words.
+     */
+    protected HashMap<String, String[]> getDeleteIndex()
+    {
+        HashMap<String, String[]> index = this.deleteIndex;
+        if (index == null
+            || this.indexedWordCount != this.wordCounts.getDomainSize())
+        {
+            synchronized (this)
+            {
+                index = this.deleteIndex;
+                if (index == null
+                    || this.indexedWordCount != this.wordCounts.getDomainSize())
+                {
+                    index = new HashMap<String, String[]>();
+                    final HashSet<String> deletes = new HashSet<String>();
+                    for (String word : this.wordCounts.getDomain())
+                    {
+                        addToIndex(index, word, deletes);
+                    }
+                    this.indexedWordCount = this.wordCounts.getDomainSize();
+                    this.deleteIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds a newly-known word to the delete index, if the index exists.
+     *
+     * @param   word
+     *      The word to add to the index.
+     */
+    protected void indexWord(
+        final String word)
+    {
+        final HashMap<String, String[]> index = this.deleteIndex;
+        if (index != null
+            && this.indexedWordCount + 1 == this.wordCounts.getDomainSize())
+        {
+            addToIndex(index, word, new HashSet<String>());
+            this.indexedWordCount++;
+        }
+        // else - The index will be rebuilt when it is next needed.
+    }
+
+    /**
+     * Adds a word to the given delete index under itself and all of its
+     * deletes.
+     *
+     * @param   index
+     *      The index to add to.
+     * @param   word
+     *      The word to add.
+     * @param   deletes
+     *      The set to use to hold the deletes of the word. It is cleared
+     *      first.
+     */
+    protected static void addToIndex(
+        final HashMap<String, String[]> index,
+        final String word,
+        final HashSet<String> deletes)
+    {
+        deletes.clear();
+        deletes.add(word);
+        addDeletes(word, MAXIMUM_EDIT_DISTANCE, deletes);
+        for (String delete : deletes)
+        {
+            final String[] words = index.get(delete);
+            if (words == null)
+            {
+                index.put(delete, new String[] { word });
+            }
+            else
+            {
+                // Most deletes map to very few words, so grow by one.
+                final String[] grown = Arrays.copyOf(words, words.length + 1);
+                grown[words.length] = word;
+                index.put(delete, grown);
+            }
+        }
+    }
+
+    /**
+     * Clears the delete index so that it is rebuilt when it is next needed.
+     * Call this after changing the word counts directly rather than through
+     * the add methods.
+     */
+    public void clearIndex()
+    {
+        this.deleteIndex = null;
+        this.indexedWordCount = 0;
     }
 
     /**
@@ -328,6 +659,7 @@ public class SimpleStatisticalSpellingCorrector
         final DefaultDataDistribution<String> wordCounts)
     {
         this.wordCounts = wordCounts;
+        this.clearIndex();
     }
 
     /**
@@ -0,0 +1,506 @@
+/*
+ * File:                ConcurrentTermIndex.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term;
+
+import gov.sandia.cognition.text.token.TokenBuffer;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A thread-safe implementation of the {@code TermIndex} interface that
+ * allows several threads to build one vocabulary at the same time. The
+ * lookup table is split into lock stripes by the hash of the term name, so
+ * threads only contend when they look up names in the same stripe. Each
+ * stripe is an open-addressing table of primitive arrays holding term
+ * indices and name hashes. The indexed terms themselves are kept in
+ * fixed-size chunks that are never moved, so reading a term by its index
+ * does not need a lock.
+ * <p>
+ * Once the vocabulary is built, {@code freeze} creates a compact read-only
+ * {@code FrozenTermIndex} with the same indices for vectorization.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     FrozenTermIndex
+ */
+public class ConcurrentTermIndex
+    extends AbstractTermIndex
+{
+
+    /** The default number of lock stripes is {@value}. */
+    public static final int DEFAULT_STRIPE_COUNT = 64;
+
+    /** The number of bits of the index used within a chunk. */
+    protected static final int CHUNK_BITS = 10;
+
+    /** The number of terms in each chunk. */
+    protected static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    /** The initial capacity of each stripe. */
+    protected static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    /** The lock stripes of the lookup table. */
+    protected Stripe[] stripes;
+
+    /** The number of bits used to pick a stripe. */
+    protected int stripeBits;
+
+    /** The chunks of indexed terms, ordered by index. A chunk is created
+     *  when the first term in it is added. */
+    protected volatile DefaultIndexedTerm[][] chunks;
+
+    /** The number of terms in the index. It is written after the term is
+     *  stored, which publishes the term to readers. */
+    protected volatile int termCount;
+
+    /**
+     * Creates a new, empty {@code ConcurrentTermIndex} with the default
+     * number of lock stripes.
+     */
+    public ConcurrentTermIndex()
+    {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Creates a new, empty {@code ConcurrentTermIndex}.
+     *
+     * @param   stripeCount
+     *      The number of lock stripes. Must be positive. It is rounded up to
+     *      a power of two.
+     */
+    public ConcurrentTermIndex(
+        final int stripeCount)
+    {
+        super();
+
+        if (stripeCount <= 0)
+        {
+            throw new IllegalArgumentException(
+                "stripeCount must be positive");
+        }
+
+        this.stripeBits = 0;
+        while ((1 << this.stripeBits) < stripeCount)
+        {
+            this.stripeBits++;
+        }
+
+        this.stripes = new Stripe[1 << this.stripeBits];
+        for (int i = 0; i < this.stripes.length; i++)
+        {
+            this.stripes[i] = new Stripe(INITIAL_STRIPE_CAPACITY);
+        }
+        this.chunks = new DefaultIndexedTerm[1][];
+        this.termCount = 0;
+    }
+
+    /**
+     * Creates a new {@code ConcurrentTermIndex} containing the terms of the
+     * given index with the same indices.
+     *
+     * @param   other
+     *      The term index to copy.
+     */
+    public ConcurrentTermIndex(
+        final TermIndex other)
+    {
+        this();
+
+        final int count = other.getTermCount();
+        for (int i = 0; i < count; i++)
+        {
+            this.add(other.getTerm(i));
+        }
+    }
+
+    /**
+     * Creates a copy of this index. It should not be called while other
+     * threads are adding terms.
+     *
+     * @return
+     *      A copy of this index.
+     */
+    @Override
+    public ConcurrentTermIndex clone()
+    {
+        final ConcurrentTermIndex clone = (ConcurrentTermIndex) super.clone();
+        clone.stripes = new Stripe[this.stripes.length];
+        for (int i = 0; i < this.stripes.length; i++)
+        {
+            synchronized (this.stripes[i])
+            {
+                clone.stripes[i] = this.stripes[i].clone();
+            }
+        }
+
+        final DefaultIndexedTerm[][] chunks = this.chunks;
+        clone.chunks = new DefaultIndexedTerm[chunks.length][];
+        for (int i = 0; i < chunks.length; i++)
+        {
+            if (chunks[i] != null)
+            {
+                clone.chunks[i] = chunks[i].clone();
+            }
+        }
+        return clone;
+    }
+
+    public int getTermCount()
+    {
+        return this.termCount;
+    }
+
+    /**
+     * Gets a snapshot of the terms in the index, ordered by index. Terms
+     * added afterward are not in the list.
+     *
+     * @return
+     *      An unmodifiable list of the terms in the index.
+     */
+    public List<DefaultIndexedTerm> getTerms()
+    {
+        final int count = this.termCount;
+        final ArrayList<DefaultIndexedTerm> result =
+            new ArrayList<DefaultIndexedTerm>(count);
+        for (int i = 0; i < count; i++)
+        {
+            result.add(this.getIndexedTerm(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public DefaultIndexedTerm getIndexedTerm(
+        final Term term)
+    {
+        if (term == null)
+        {
+            return null;
+        }
+        else
+        {
+            return this.getIndexedTerm(this.getIndexForName(term.getName()));
+        }
+    }
+
+    public DefaultIndexedTerm getIndexedTerm(
+        final int index)
+    {
+        if (index < 0 || index >= this.termCount)
+        {
+            return null;
+        }
+        else
+        {
+            // Reading the count first makes the term visible.
+            return this.chunks[index >>> CHUNK_BITS][index & (CHUNK_SIZE - 1)];
+        }
+    }
+
+    @Override
+    public int getIndex(
+        final Term term)
+    {
+        return term == null ? -1 : this.getIndexForName(term.getName());
+    }
+
+    public int getIndexForName(
+        final CharSequence name)
+    {
+        final int hash = TokenBuffer.contentHashCode(name);
+        final Stripe stripe = this.getStripe(hash);
+        synchronized (stripe)
+        {
+            return stripe.find(this, name, hash);
+        }
+    }
+
+    public IndexedTerm add(
+        final Term term)
+    {
+        if (term == null)
+        {
+            // Don't add a null term.
+            return null;
+        }
+
+        final String name = term.getName();
+        final int hash = name.hashCode();
+        final Stripe stripe = this.getStripe(hash);
+        synchronized (stripe)
+        {
+            final int index = stripe.find(this, name, hash);
+            if (index >= 0)
+            {
+                return this.getIndexedTerm(index);
+            }
+            else
+            {
+                final DefaultIndexedTerm result = this.append(term);
+                stripe.insert(result.getIndex(), hash);
+                return result;
+            }
+        }
+    }
+
+    public DefaultIndexedTerm intern(
+        final CharSequence name)
+    {
+        final int hash = TokenBuffer.contentHashCode(name);
+        final Stripe stripe = this.getStripe(hash);
+        synchronized (stripe)
+        {
+            final int index = stripe.find(this, name, hash);
+            if (index >= 0)
+            {
+                return this.getIndexedTerm(index);
+            }
+            else
+            {
+                // Only a new term needs its own copy of the name.
+                final DefaultIndexedTerm result =
+                    this.append(new DefaultTerm(name.toString()));
+                stripe.insert(result.getIndex(), hash);
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Creates a compact, read-only copy of this index with the same term
+     * indices. It should be called once the vocabulary is complete.
+     *
+     * @return
+     *      A new frozen term index.
+     */
+    public FrozenTermIndex freeze()
+    {
+        return new FrozenTermIndex(this);
+    }
+
+    /**
+     * Appends a new term to the index, giving it the next index. The caller
+     * must hold the lock of the stripe for the name of the term, which makes
+     * sure it is not added twice.
+     *
+     * @param   term
+     *      The term to append.
+     * @return
+     *      The new indexed term.
+     */
+    protected synchronized DefaultIndexedTerm append(
+        final Term term)
+    {
+        final int index = this.termCount;
+        final int chunkIndex = index >>> CHUNK_BITS;
+
+        DefaultIndexedTerm[][] chunks = this.chunks;
+        if (chunkIndex >= chunks.length)
+        {
+            chunks = Arrays.copyOf(chunks, 2 * chunks.length);
+            this.chunks = chunks;
+        }
+        if (chunks[chunkIndex] == null)
+        {
+            chunks[chunkIndex] = new DefaultIndexedTerm[CHUNK_SIZE];
+        }
+
+        final DefaultIndexedTerm result = new DefaultIndexedTerm(index, term);
+        chunks[chunkIndex][index & (CHUNK_SIZE - 1)] = result;
+
+        // Publish the new term.
+        this.termCount = index + 1;
+        return result;
+    }
+
+    /**
+     * Gets the lock stripe for the given name hash.
+     *
+     * @param   hash
+     *      The hash code of a term name.
+     * @return
+     *      The stripe for the hash.
+     */
+    protected Stripe getStripe(
+        final int hash)
+    {
+        if (this.stripeBits <= 0)
+        {
+            return this.stripes[0];
+        }
+        else
+        {
+            // Use the high bits of a multiplicative hash for the stripe so
+            // that the low bits are left for the slot within the stripe.
+            return this.stripes[(hash * 0x9E3779B9) >>> (32 - this.stripeBits)];
+        }
+    }
+
+    /**
+     * Gets the name of the term with the given index.
+     *
+     * @param   index
+     *      The index of a term in the index.
+     * @return
+     *      The name of the term.
+     */
+    protected String getTermName(
+        final int index)
+    {
+        return this.getIndexedTerm(index).getTerm().getName();
+    }
+
+    /**
+     * One lock stripe of the lookup table. It is an open-addressing hash
+     * table that maps a name hash to one plus the index of the term, with
+     * zero marking an empty slot. The hash is stored next to the index so
+     * that probing rarely needs to look at the term name itself. All access
+     * must hold the lock of the stripe.
+     */
+    protected static class Stripe
+        implements Serializable, Cloneable
+    {
+
+        /** The slots holding one plus the term index, or zero if empty. */
+        protected int[] slots;
+
+        /** The name hash for each slot. */
+        protected int[] hashes;
+
+        /** The number of terms in the stripe. */
+        protected int size;
+
+        /**
+         * Creates a new, empty {@code Stripe}.
+         *
+         * @param   capacity
+         *      The initial capacity. Must be a power of two.
+         */
+        protected Stripe(
+            final int capacity)
+        {
+            super();
+
+            this.slots = new int[capacity];
+            this.hashes = new int[capacity];
+            this.size = 0;
+        }
+
+        @Override
+        protected Stripe clone()
+        {
+            try
+            {
+                final Stripe clone = (Stripe) super.clone();
+                clone.slots = this.slots.clone();
+                clone.hashes = this.hashes.clone();
+                return clone;
+            }
+            catch (CloneNotSupportedException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Finds the index of the term with the given name.
+         *
+         * @param   index
+         *      The term index that the stripe belongs to.
+         * @param   name
+         *      The name to look up.
+         * @param   hash
+         *      The hash code of the name.
+         * @return
+         *      The index of the term or -1 if it is not in the stripe.
+         */
+        protected int find(
+            final ConcurrentTermIndex index,
+            final CharSequence name,
+            final int hash)
+        {
+            final int mask = this.slots.length - 1;
+            for (int slot = (hash ^ (hash >>> 16)) & mask;
+                this.slots[slot] != 0;
+                slot = (slot + 1) & mask)
+            {
+                if (this.hashes[slot] == hash)
+                {
+                    final int termIndex = this.slots[slot] - 1;
+                    if (TokenBuffer.contentEquals(
+                        index.getTermName(termIndex), name))
+                    {
+                        return termIndex;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Inserts a term index into the stripe, growing it to stay at most
+         * half full.
+         *
+         * @param   termIndex
+         *      The index of the term.
+         * @param   hash
+         *      The hash code of the name of the term.
+         */
+        protected void insert(
+            final int termIndex,
+            final int hash)
+        {
+            if (2 * (this.size + 1) > this.slots.length)
+            {
+                // Rehash into a table twice the size.
+                final int[] oldSlots = this.slots;
+                final int[] oldHashes = this.hashes;
+                this.slots = new int[2 * oldSlots.length];
+                this.hashes = new int[2 * oldSlots.length];
+                for (int i = 0; i < oldSlots.length; i++)
+                {
+                    if (oldSlots[i] != 0)
+                    {
+                        this.put(oldSlots[i], oldHashes[i]);
+                    }
+                }
+            }
+
+            this.put(termIndex + 1, hash);
+            this.size++;
+        }
+
+        /**
+         * Puts a slot value in the first empty slot for the hash.
+         *
+         * @param   value
+         *      One plus the term index.
+         * @param   hash
+         *      The hash code of the name of the term.
+         */
+        private void put(
+            final int value,
+            final int hash)
+        {
+            final int mask = this.slots.length - 1;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (this.slots[slot] != 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+            this.slots[slot] = value;
+            this.hashes[slot] = hash;
+        }
+
+    }
+
+}
@@ -14,6 +14,7 @@
 
 package gov.sandia.cognition.text.term;
 
+import gov.sandia.cognition.text.token.TokenBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,6 +37,12 @@ public class DefaultTermIndex
     /** The list of terms ordered by indices. */
     protected List<DefaultIndexedTerm> termList;
 
+    /** An open-addressing hash table from the hash of a term name to one
+     *  plus the index of the term, with zero marking an empty slot. It
+     *  allows looking up a character sequence without creating a string. It
+     *  is created when first needed. */
+    protected transient int[] nameTable;
+
     /**
      * Creates a new, empty {@code DefaultTermIndex}.
      */
@@ -53,6 +60,7 @@ public class DefaultTermIndex
         final DefaultTermIndex clone = (DefaultTermIndex) super.clone();
         clone.termMap = new HashMap<Term, DefaultIndexedTerm>(this.termMap);
         clone.termList = new ArrayList<DefaultIndexedTerm>(this.termList);
+        clone.nameTable = null;
         return clone;
     }
 
@@ -74,12 +82,130 @@ public class DefaultTermIndex
             indexedTerm = new DefaultIndexedTerm(index, term);
             this.termMap.put(term, indexedTerm);
             this.termList.add(indexedTerm);
+
+            if (this.nameTable != null)
+            {
+                this.addToNameTable(indexedTerm);
+            }
         }
 
         // Return the index for the term.
         return indexedTerm;
     }
 
+    public int getIndexForName(
+        final CharSequence name)
+    {
+        final int[] table = this.getNameTable();
+        final int mask = table.length - 1;
+        final int hash = TokenBuffer.contentHashCode(name);
+
+        // Linear probing until the name or an empty slot is found.
+        for (int slot = (hash ^ (hash >>> 16)) & mask;
+            table[slot] != 0;
+            slot = (slot + 1) & mask)
+        {
+            final int index = table[slot] - 1;
+            final String entry = this.termList.get(index).getTerm().getName();
+            if (entry.hashCode() == hash
+                && TokenBuffer.contentEquals(entry, name))
+            {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public DefaultIndexedTerm intern(
+        final CharSequence name)
+    {
+        final int index = this.getIndexForName(name);
+        if (index >= 0)
+        {
+            return this.termList.get(index);
+        }
+        else
+        {
+            // Only a new term needs its own copy of the name.
+            return (DefaultIndexedTerm) this.add(
+                new DefaultTerm(name.toString()));
+        }
+    }
+
+    /**
+     * Creates the hash table of the term names, if it does not exist yet, so
+     * that names can then be looked up from several threads.
+     */
+    public void prepareForConcurrentReads()
+    {
+        this.getNameTable();
+    }
+
+    /**
+     * Gets the hash table of the term names, creating it if needed.
+     *
+     * @return
+     *      The hash table of term names.
+     */
+    protected int[] getNameTable()
+    {
+        if (this.nameTable == null)
+        {
+            this.nameTable = new int[16];
+            for (DefaultIndexedTerm indexedTerm : this.termList)
+            {
+                this.addToNameTable(indexedTerm);
+            }
+        }
+        return this.nameTable;
+    }
+
+    /**
+     * Adds an indexed term to the hash table of names, growing it to stay at
+     * most half full.
+     *
+     * @param   indexedTerm
+     *      The indexed term to add.
+     */
+    protected void addToNameTable(
+        final IndexedTerm indexedTerm)
+    {
+        if (2 * (indexedTerm.getIndex() + 1) > this.nameTable.length)
+        {
+            // Rehash the names into a table twice the size.
+            final int[] oldTable = this.nameTable;
+            this.nameTable = new int[2 * oldTable.length];
+            for (int entry : oldTable)
+            {
+                if (entry != 0)
+                {
+                    this.insertIntoNameTable(entry - 1);
+                }
+            }
+        }
+        this.insertIntoNameTable(indexedTerm.getIndex());
+    }
+
+    /**
+     * Inserts a term index into the hash table of names. The table must have
+     * space for it.
+     *
+     * @param   index
+     *      The index of the term to insert.
+     */
+    private void insertIntoNameTable(
+        final int index)
+    {
+        final int mask = this.nameTable.length - 1;
+        final int hash = this.termList.get(index).getTerm().getName()
+            .hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (this.nameTable[slot] != 0)
+        {
+            slot = (slot + 1) & mask;
+        }
+        this.nameTable[slot] = index + 1;
+    }
 
     public int getTermCount()
     {
@@ -133,6 +259,7 @@ public class DefaultTermIndex
         final Map<Term, DefaultIndexedTerm> termMap)
     {
         this.termMap = termMap;
+        this.nameTable = null;
     }
 
     /**
@@ -156,6 +283,7 @@ public class DefaultTermIndex
         final List<DefaultIndexedTerm> termList)
     {
         this.termList = termList;
+        this.nameTable = null;
     }
 
 }
@@ -0,0 +1,583 @@
+/*
+ * File:                FrozenTermIndex.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A compact, read-only {@code TermIndex} for looking up terms once a
+ * vocabulary is complete. All term names are stored in a single character
+ * array and found through a minimal perfect hash function built with the
+ * hash, displace, and compress (CHD) algorithm. A lookup hashes the name
+ * once, reads one displacement and one slot, and compares the characters
+ * against the single candidate, without creating any objects. Since it
+ * cannot change, it can be shared by any number of threads.
+ * <p>
+ * The index does not keep term objects; {@code getIndexedTerm} and
+ * {@code getTerm} create them on demand, so lookups during vectorization
+ * should use {@code getIndex} or {@code getIndexForName}. Adding a term that
+ * is already in the index returns it, but adding a new term throws an
+ * {@code UnsupportedOperationException}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     ConcurrentTermIndex
+ */
+@PublicationReference(
+    author={"Djamal Belazzougui", "Fabiano C. Botelho", "Martin Dietzfelbinger"},
+    title="Hash, displace, and compress",
+    year=2009,
+    type=PublicationType.Conference,
+    publication="Proceedings of the 17th European Symposium on Algorithms",
+    pages={682, 693}
+)
+public class FrozenTermIndex
+    extends AbstractTermIndex
+{
+
+    /** The average number of terms per bucket of the hash function. */
+    protected static final int BUCKET_SIZE = 3;
+
+    /** The maximum number of seeds tried when building the hash function. */
+    protected static final int MAX_SEED_ATTEMPTS = 100;
+
+    /** The number of multipliers tried for each bucket. */
+    protected static final int MULTIPLIER_COUNT = 128;
+
+    /** The characters of all the term names, ordered by their slot in the
+     *  hash function. */
+    protected char[] characters;
+
+    /** Two entries for each slot of the hash function: the offset of its
+     *  name in the characters and its term index. It ends with the offset of
+     *  the end of the last name. Keeping them together means a lookup only
+     *  touches one part of the array. */
+    protected int[] slotEntries;
+
+    /** The slot of each term index. */
+    protected int[] indexSlots;
+
+    /** The seed of the hash function. */
+    protected long seed;
+
+    /** The displacement pair (d0, d1) for each bucket of the hash function,
+     *  with d0 in the upper 32 bits and d1 in the lower. */
+    protected long[] displacements;
+
+    /**
+     * Creates a new {@code FrozenTermIndex} with the same terms and indices
+     * as the given index.
+     *
+     * @param   other
+     *      The term index to freeze. It must not change while the frozen
+     *      index is created.
+     */
+    public FrozenTermIndex(
+        final TermIndex other)
+    {
+        super();
+
+        final int count = other.getTermCount();
+        final String[] names = new String[count];
+        int totalLength = 0;
+        for (int i = 0; i < count; i++)
+        {
+            names[i] = other.getTerm(i).getName();
+            totalLength += names[i].length();
+        }
+
+        final int[] slotIndices = this.buildHashFunction(names);
+
+        // Copy the names into a single array in slot order.
+        this.characters = new char[totalLength];
+        this.slotEntries = new int[2 * count + 1];
+        this.indexSlots = new int[count];
+        int offset = 0;
+        for (int slot = 0; slot < count; slot++)
+        {
+            final int index = slotIndices[slot];
+            final String name = names[index];
+            name.getChars(0, name.length(), this.characters, offset);
+            this.slotEntries[2 * slot] = offset;
+            this.slotEntries[2 * slot + 1] = index;
+            this.indexSlots[index] = slot;
+            offset += name.length();
+        }
+        this.slotEntries[2 * count] = offset;
+    }
+
+    @Override
+    public FrozenTermIndex clone()
+    {
+        // The index cannot change, so the arrays can be shared.
+        return (FrozenTermIndex) super.clone();
+    }
+
+    /**
+     * Builds the minimal perfect hash function over the given names, trying
+     * new seeds until every bucket finds a displacement.
+     *
+     * @param   names
+     *      The distinct term names, ordered by index.
+     * @return
+     *      The term index in each slot of the hash function.
+     */
+    protected int[] buildHashFunction(
+        final String[] names)
+    {
+        final int count = names.length;
+        final int bucketCount = Math.max(1, (count + BUCKET_SIZE - 1)
+            / BUCKET_SIZE);
+        final Random random = new Random(count);
+        this.displacements = new long[bucketCount];
+        final int[] slotIndices = new int[count];
+
+        long seed = 0L;
+        for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS; attempt++)
+        {
+            if (this.tryBuildHashFunction(names, seed, slotIndices))
+            {
+                this.seed = seed;
+                return slotIndices;
+            }
+            seed = random.nextLong();
+        }
+
+        throw new IllegalStateException(
+            "Unable to build a perfect hash function for the terms");
+    }
+
+    /**
+     * Tries to build the minimal perfect hash function with the given seed.
+     * Buckets are placed from the largest to the smallest. Each bucket
+     * searches for a displacement pair (d0, d1) that moves all of its names
+     * to free slots, where the slot of a name is its first hash plus d0
+     * times its second hash, reduced to the number of slots, plus d1.
+     * Buckets with a single name just take the next free slot.
+     *
+     * @param   names
+     *      The distinct term names, ordered by index.
+     * @param   seed
+     *      The seed of the hash function.
+     * @param   slotIndices
+     *      The array to fill with the term index in each slot.
+     * @return
+     *      True if the hash function was built; false if a bucket could not
+     *      be placed.
+     */
+    protected boolean tryBuildHashFunction(
+        final String[] names,
+        final long seed,
+        final int[] slotIndices)
+    {
+        final int count = names.length;
+        final int bucketCount = this.displacements.length;
+
+        // Hash all of the names and group them by bucket.
+        final int[] first = new int[count];
+        final int[] second = new int[count];
+        final int[] bucketStarts = new int[bucketCount + 1];
+        final int[] buckets = new int[count];
+        for (int i = 0; i < count; i++)
+        {
+            final long hash = hash(names[i], seed);
+            buckets[i] = reduce((int) (hash >>> 32), bucketCount);
+            first[i] = (int) hash;
+            second[i] = secondHash(hash);
+            bucketStarts[buckets[i] + 1]++;
+        }
+        for (int b = 0; b < bucketCount; b++)
+        {
+            bucketStarts[b + 1] += bucketStarts[b];
+        }
+        final int[] members = new int[count];
+        final int[] fill = new int[bucketCount];
+        for (int i = 0; i < count; i++)
+        {
+            final int b = buckets[i];
+            members[bucketStarts[b] + fill[b]] = i;
+            fill[b]++;
+        }
+
+        // Order the buckets by decreasing size with a counting sort.
+        int maxSize = 0;
+        for (int b = 0; b < bucketCount; b++)
+        {
+            maxSize = Math.max(maxSize, bucketStarts[b + 1] - bucketStarts[b]);
+        }
+        final int[] sizeStarts = new int[maxSize + 2];
+        for (int b = 0; b < bucketCount; b++)
+        {
+            final int size = bucketStarts[b + 1] - bucketStarts[b];
+            sizeStarts[maxSize - size + 1]++;
+        }
+        for (int s = 0; s <= maxSize; s++)
+        {
+            sizeStarts[s + 1] += sizeStarts[s];
+        }
+        final int[] order = new int[bucketCount];
+        for (int b = 0; b < bucketCount; b++)
+        {
+            final int size = bucketStarts[b + 1] - bucketStarts[b];
+            order[sizeStarts[maxSize - size]] = b;
+            sizeStarts[maxSize - size]++;
+        }
+
+        final boolean[] taken = new boolean[count];
+        final int[] bases = new int[Math.max(1, maxSize)];
+        int nextFree = 0;
+        for (int b : order)
+        {
+            final int start = bucketStarts[b];
+            final int size = bucketStarts[b + 1] - start;
+            if (size <= 0)
+            {
+                // Empty buckets are never used by a name in the index.
+                this.displacements[b] = 0L;
+            }
+            else if (size == 1)
+            {
+                // A single name can go in any free slot by picking d1.
+                while (taken[nextFree])
+                {
+                    nextFree++;
+                }
+                final int i = members[start];
+                final int base = reduce(first[i], count);
+                this.displacements[b] = nextFree >= base
+                    ? nextFree - base : nextFree - base + count;
+                taken[nextFree] = true;
+                slotIndices[nextFree] = i;
+            }
+            else if (!this.placeBucket(first, second, members, start, size,
+                b, bases, taken, slotIndices))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Searches for a displacement pair that places all the names in a
+     * bucket in free slots and, if one is found, places them.
+     *
+     * @param   first
+     *      The first hash of each name.
+     * @param   second
+     *      The second hash of each name.
+     * @param   members
+     *      The names grouped by bucket.
+     * @param   start
+     *      The start of the bucket in the members.
+     * @param   size
+     *      The number of names in the bucket.
+     * @param   bucket
+     *      The bucket.
+     * @param   bases
+     *      Workspace for the base slots of the names in the bucket.
+     * @param   taken
+     *      Which slots are already taken.
+     * @param   slotIndices
+     *      The term index in each slot.
+     * @return
+     *      True if the bucket was placed; otherwise, false.
+     */
+    private boolean placeBucket(
+        final int[] first,
+        final int[] second,
+        final int[] members,
+        final int start,
+        final int size,
+        final int bucket,
+        final int[] bases,
+        final boolean[] taken,
+        final int[] slotIndices)
+    {
+        final int count = taken.length;
+        for (int d0 = 0; d0 < MULTIPLIER_COUNT; d0++)
+        {
+            // Compute the base slots, which must be distinct.
+            boolean distinct = true;
+            for (int j = 0; distinct && j < size; j++)
+            {
+                final int i = members[start + j];
+                bases[j] = reduce(first[i] + d0 * second[i], count);
+                for (int k = 0; distinct && k < j; k++)
+                {
+                    distinct = bases[k] != bases[j];
+                }
+            }
+            if (!distinct)
+            {
+                continue;
+            }
+
+            for (int d1 = 0; d1 < count; d1++)
+            {
+                boolean free = true;
+                for (int j = 0; free && j < size; j++)
+                {
+                    final int slot = bases[j] + d1;
+                    free = !taken[slot < count ? slot : slot - count];
+                }
+
+                if (free)
+                {
+                    this.displacements[bucket] = ((long) d0 << 32) | d1;
+                    for (int j = 0; j < size; j++)
+                    {
+                        int slot = bases[j] + d1;
+                        slot = slot < count ? slot : slot - count;
+                        taken[slot] = true;
+                        slotIndices[slot] = members[start + j];
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int getTermCount()
+    {
+        return this.indexSlots.length;
+    }
+
+    /**
+     * Gets a view of the terms in the index, ordered by index. The term
+     * objects are created as they are accessed.
+     *
+     * @return
+     *      An unmodifiable list view of the terms in the index.
+     */
+    public List<IndexedTerm> getTerms()
+    {
+        return new AbstractList<IndexedTerm>()
+        {
+            @Override
+            public IndexedTerm get(
+                final int index)
+            {
+                if (!hasIndex(index))
+                {
+                    throw new IndexOutOfBoundsException("index: " + index);
+                }
+                return getIndexedTerm(index);
+            }
+
+            @Override
+            public int size()
+            {
+                return getTermCount();
+            }
+        };
+    }
+
+    public IndexedTerm getIndexedTerm(
+        final Term term)
+    {
+        return this.getIndexedTerm(this.getIndex(term));
+    }
+
+    public IndexedTerm getIndexedTerm(
+        final int index)
+    {
+        if (!this.hasIndex(index))
+        {
+            return null;
+        }
+        else
+        {
+            return new DefaultIndexedTerm(index,
+                new DefaultTerm(this.getTermName(index)));
+        }
+    }
+
+    @Override
+    public boolean hasTerm(
+        final Term term)
+    {
+        return this.getIndex(term) >= 0;
+    }
+
+    @Override
+    public int getIndex(
+        final Term term)
+    {
+        return term == null ? -1 : this.getIndexForName(term.getName());
+    }
+
+    public int getIndexForName(
+        final CharSequence name)
+    {
+        final int count = this.getTermCount();
+        if (count <= 0)
+        {
+            return -1;
+        }
+
+        // Find the only slot the name could be in.
+        final long hash = hash(name, this.seed);
+        final long displacement = this.displacements[
+            reduce((int) (hash >>> 32), this.displacements.length)];
+        int slot = reduce((int) hash
+            + (int) (displacement >>> 32) * secondHash(hash), count)
+            + (int) displacement;
+        if (slot >= count)
+        {
+            slot -= count;
+        }
+
+        // Make sure it is the same name.
+        final int entry = 2 * slot;
+        final int start = this.slotEntries[entry];
+        final int length = name.length();
+        if (this.slotEntries[entry + 2] - start != length)
+        {
+            return -1;
+        }
+        for (int i = 0; i < length; i++)
+        {
+            if (this.characters[start + i] != name.charAt(i))
+            {
+                return -1;
+            }
+        }
+        return this.slotEntries[entry + 1];
+    }
+
+    /**
+     * Returns the existing indexed term for the given term, since a frozen
+     * index cannot be changed.
+     *
+     * @param   term
+     *      The term to look up.
+     * @return
+     *      The indexed term, or null if the term is null.
+     * @throws  UnsupportedOperationException
+     *      If the term is not already in the index.
+     */
+    public IndexedTerm add(
+        final Term term)
+    {
+        if (term == null)
+        {
+            return null;
+        }
+
+        final int index = this.getIndex(term);
+        if (index < 0)
+        {
+            throw new UnsupportedOperationException(
+                "Cannot add a term to a FrozenTermIndex: " + term);
+        }
+        return this.getIndexedTerm(index);
+    }
+
+    /**
+     * Gets the name of the term with the given index.
+     *
+     * @param   index
+     *      The index of a term in the index.
+     * @return
+     *      The name of the term.
+     */
+    public String getTermName(
+        final int index)
+    {
+        final int entry = 2 * this.indexSlots[index];
+        final int start = this.slotEntries[entry];
+        return new String(this.characters, start,
+            this.slotEntries[entry + 2] - start);
+    }
+
+    /**
+     * Computes the 64-bit hash of a name for the given seed.
+     *
+     * @param   name
+     *      The name to hash.
+     * @param   seed
+     *      The seed of the hash function.
+     * @return
+     *      The hash of the name.
+     */
+    protected static long hash(
+        final CharSequence name,
+        final long seed)
+    {
+        // Two independent 32-bit hashes in one pass, so that the
+        // multiplications can run in parallel.
+        final int length = name.length();
+        int polynomial = 0;
+        int product = 0x811C9DC5;
+        for (int i = 0; i < length; i++)
+        {
+            final char c = name.charAt(i);
+            polynomial = 31 * polynomial + c;
+            product = (product ^ c) * 0x01000193;
+        }
+        return mix(seed ^ (((long) polynomial << 32)
+            | (product & 0xFFFFFFFFL)));
+    }
+
+    /**
+     * Mixes the bits of a 64-bit value using the SplitMix64 finalizer.
+     *
+     * @param   value
+     *      The value to mix.
+     * @return
+     *      The mixed value.
+     */
+    protected static long mix(
+        final long value)
+    {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Computes the second hash of a name from its full hash.
+     *
+     * @param   hash
+     *      The hash of the name.
+     * @return
+     *      The second hash of the name.
+     */
+    protected static int secondHash(
+        final long hash)
+    {
+        return (int) mix(hash + 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Reduces a 32-bit hash to the range [0, n) by multiplication instead of
+     * a remainder.
+     *
+     * @param   hash
+     *      The hash value, treated as unsigned.
+     * @param   n
+     *      The size of the range. Must be positive.
+     * @return
+     *      A value between 0 (inclusive) and n (exclusive).
+     */
+    protected static int reduce(
+        final int hash,
+        final int n)
+    {
+        return (int) (((hash & 0xFFFFFFFFL) * n) >>> 32);
+    }
+
+}
@@ -195,4 +195,57 @@ public interface TermIndex
     public void addAll(
         final Iterable<? extends Termable> terms);
 
+    /**
+     * Gets the index of the term with the given name. The default
+     * implementation wraps the name in a term, but implementations should
+     * override it to look up the characters without creating any objects.
+     *
+     * @param   name
+     *      The name of the term, such as a reused token buffer.
+     * @return
+     *      The index of the term with the given name, if there is one;
+     *      otherwise, -1.
+     */
+    default int getIndexForName(
+        final CharSequence name)
+    {
+        return this.getIndex(new DefaultTerm(name.toString()));
+    }
+
+    /**
+     * Interns the term with the given name. If there is already a term with
+     * that name, its existing indexed term is returned; otherwise a new term
+     * is created and added to the index. Implementations should only create
+     * a new string for the name when the term is new.
+     *
+     * @param   name
+     *      The name of the term, such as a reused token buffer.
+     * @return
+     *      The indexed term for the name.
+     */
+    default IndexedTerm intern(
+        final CharSequence name)
+    {
+        final int index = this.getIndexForName(name);
+        if (index >= 0)
+        {
+            return this.getIndexedTerm(index);
+        }
+        else
+        {
+            return this.add(new DefaultTerm(name.toString()));
+        }
+    }
+
+    /**
+     * Prepares the index to be read from several threads at the same time.
+     * Some implementations build their lookup tables lazily on the first
+     * lookup, which is not safe to do from several threads at once, so this
+     * must be called before an index that is not being added to is shared
+     * between threads. The default implementation does nothing.
+     */
+    default void prepareForConcurrentReads()
+    {
+    }
+
 }
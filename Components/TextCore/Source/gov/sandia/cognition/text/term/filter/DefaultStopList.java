@@ -43,6 +43,11 @@ public class DefaultStopList
     /** The set of words in the stop list, all in lower-case. */
     protected Set<String> words;
 
+    /** An open-addressing hash table of the words, which allows looking up a
+     *  character sequence without creating a string. It is created when
+     *  first needed and discarded when the words change. */
+    protected transient volatile String[] wordTable;
+
     /**
      * Creates a new, empty {@code DefaultStopList}.
      */
@@ -72,6 +77,7 @@ public class DefaultStopList
     {
         final DefaultStopList clone = (DefaultStopList) super.clone();
         clone.words = new LinkedHashSet<String>(this.words);
+        clone.wordTable = null;
 
         return clone;
     }
@@ -86,6 +92,7 @@ public class DefaultStopList
         final String word)
     {
         this.words.add(word.toLowerCase());
+        this.wordTable = null;
     }
 
     /**
@@ -138,6 +145,90 @@ public class DefaultStopList
         return this.words.contains(word.toLowerCase());
     }
 
+    /**
+     * Returns true if the given word is in the stop list. It converts the
+     * characters to lower case one at a time while looking up the word, so
+     * it does not create any objects.
+     *
+     * @param   word
+     *      A word.
+     * @return
+     *      True if the word is contained in the stop list. Otherwise, false.
+     */
+    public boolean contains(
+        final CharSequence word)
+    {
+        final String[] table = this.getWordTable();
+        final int mask = table.length - 1;
+        final int length = word.length();
+
+        // Compute the hash of the lower case version of the word, which is
+        // the same as the hash code of the lower case string.
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + Character.toLowerCase(word.charAt(i));
+        }
+
+        // Linear probing until the word or an empty slot is found.
+        for (int slot = (hash ^ (hash >>> 16)) & mask;
+            table[slot] != null;
+            slot = (slot + 1) & mask)
+        {
+            final String entry = table[slot];
+            if (entry.hashCode() == hash && entry.length() == length)
+            {
+                boolean equal = true;
+                for (int i = 0; equal && i < length; i++)
+                {
+                    equal = entry.charAt(i)
+                        == Character.toLowerCase(word.charAt(i));
+                }
+
+                if (equal)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the hash table of the words, creating it if needed.
+     *
+     * @return
+     *      The open-addressing hash table of the words.
+     */
+    protected String[] getWordTable()
+    {
+        String[] table = this.wordTable;
+        if (table == null)
+        {
+            // Keep the table at most half full.
+            int capacity = 2;
+            while (capacity < 2 * this.words.size())
+            {
+                capacity *= 2;
+            }
+
+            table = new String[capacity];
+            final int mask = capacity - 1;
+            for (String word : this.words)
+            {
+                final int hash = word.hashCode();
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (table[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = word;
+            }
+            this.wordTable = table;
+        }
+        return table;
+    }
+
     /**
      * Gets the set of words in the stop list.
      *
@@ -159,6 +250,7 @@ public class DefaultStopList
         final Set<String> words)
     {
         this.words = words;
+        this.wordTable = null;
     }
 
     /**
@@ -17,6 +17,7 @@ package gov.sandia.cognition.text.term.filter;
 import gov.sandia.cognition.text.term.DefaultTerm;
 import gov.sandia.cognition.text.term.DefaultTermOccurrence;
 import gov.sandia.cognition.text.term.TermOccurrence;
+import gov.sandia.cognition.text.token.TokenBuffer;
 
 /**
  * A term filter that converts all terms to lower case.
@@ -26,6 +27,7 @@ import gov.sandia.cognition.text.term.TermOccurrence;
  */
 public class LowerCaseTermFilter
     extends AbstractSingleTermFilter
+    implements TokenBufferFilter
 {
 
     /**
@@ -50,4 +52,26 @@ public class LowerCaseTermFilter
         return newOccurrence;
     }
 
+    /**
+     * Converts the token to lower case in place, one character at a time.
+     * This matches {@code String.toLowerCase} except for the few
+     * locale-specific and multi-character case mappings.
+     *
+     * @param   token
+     *      The token to convert to lower case.
+     * @return
+     *      Always true.
+     */
+    public boolean filterInPlace(
+        final TokenBuffer token)
+    {
+        final char[] characters = token.getCharacters();
+        final int length = token.length();
+        for (int i = 0; i < length; i++)
+        {
+            characters[i] = Character.toLowerCase(characters[i]);
+        }
+        return true;
+    }
+
 }
@@ -14,6 +14,7 @@
 
 package gov.sandia.cognition.text.term.filter;
 
+import gov.sandia.cognition.text.term.DefaultTerm;
 import gov.sandia.cognition.text.term.Termable;
 
 /**
@@ -37,4 +38,21 @@ public interface StopList
     public boolean contains(
         final Termable term);
 
+    /**
+     * Determines if the given word is contained in this stop list. The
+     * default implementation wraps the word in a term, but implementations
+     * should override it to look up the characters without creating any
+     * objects.
+     *
+     * @param   word
+     *      The word.
+     * @return
+     *      True if the word is in the list and false otherwise.
+     */
+    default boolean contains(
+        final CharSequence word)
+    {
+        return this.contains(new DefaultTerm(word.toString()));
+    }
+
 }
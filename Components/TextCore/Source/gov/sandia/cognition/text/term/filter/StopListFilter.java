@@ -15,6 +15,7 @@
 package gov.sandia.cognition.text.term.filter;
 
 import gov.sandia.cognition.text.term.TermOccurrence;
+import gov.sandia.cognition.text.token.TokenBuffer;
 
 /**
  * A term filter that rejects any term that appears in a given stop list.
@@ -24,6 +25,7 @@ import gov.sandia.cognition.text.term.TermOccurrence;
  */
 public class StopListFilter
     extends AbstractSingleTermFilter
+    implements TokenBufferFilter
 {
     /** The stop list for the filter to use. */
     protected StopList stopList;
@@ -65,6 +67,13 @@ public class StopListFilter
         }
     }
 
+    public boolean filterInPlace(
+        final TokenBuffer token)
+    {
+        // Keep the token if it is not a stop word.
+        return !this.stopList.contains(token);
+    }
+
     /**
      * Gets the stop list used by the filter.
      *
@@ -17,6 +17,7 @@ package gov.sandia.cognition.text.term.filter;
 import gov.sandia.cognition.annotation.PublicationReference;
 import gov.sandia.cognition.annotation.PublicationType;
 import gov.sandia.cognition.text.term.TermOccurrence;
+import gov.sandia.cognition.text.token.TokenBuffer;
 
 /**
  * Implements a filter based on the length of a term. The length is computed
@@ -27,6 +28,7 @@ import gov.sandia.cognition.text.term.TermOccurrence;
  */
 public class TermLengthFilter
     extends AbstractSingleTermFilter
+    implements TokenBufferFilter
 {
     /** The default minimum length is {@value}. */
     public static final int DEFAULT_MINIMUM_LENGTH = 3;
@@ -84,22 +86,41 @@ public class TermLengthFilter
         final TermOccurrence occurrence)
     {
         // Get the length of the name of the term.
-        final int length = occurrence.getTerm().getName().toString().length();
+        return this.accept(occurrence.getTerm().getName().length())
+            ? occurrence : null;
+    }
 
+    public boolean filterInPlace(
+        final TokenBuffer token)
+    {
+        return this.accept(token.length());
+    }
+
+    /**
+     * Determines if a term of the given length is within the bounds.
+     *
+     * @param   length
+     *      The length of a term.
+     * @return
+     *      True if the length is allowed; otherwise, false.
+     */
+    protected boolean accept(
+        final int length)
+    {
         if (this.minimumLength != null && length < this.minimumLength)
         {
             // Smaller than the minimum length.
-            return null;
+            return false;
         }
         else if (this.maximumLength != null && length > this.maximumLength)
         {
             // Larger than the maximum length.
-            return null;
+            return false;
         }
         else
         {
             // Within the term bounds.
-            return occurrence;
+            return true;
         }
     }
 
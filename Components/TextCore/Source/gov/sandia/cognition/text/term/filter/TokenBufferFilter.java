@@ -0,0 +1,40 @@
+/*
+ * File:                TokenBufferFilter.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.filter;
+
+import gov.sandia.cognition.text.token.TokenBuffer;
+
+/**
+ * Interface for a filter that rewrites a token in place in a reusable
+ * {@code TokenBuffer}. It is the allocation-free counterpart of
+ * {@code SingleTermFilter} for use with the streaming tokenization pipeline.
+ * Implementations must be safe to share between threads, since each thread
+ * brings its own buffer.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     gov.sandia.cognition.text.token.CharacterTokenCursor
+ */
+public interface TokenBufferFilter
+{
+
+    /**
+     * Filters the token in the given buffer, possibly rewriting its contents
+     * in place.
+     *
+     * @param   token
+     *      The buffer holding the token to filter. It may be modified.
+     * @return
+     *      True if the token is kept; false if the filter has rejected it, in
+     *      which case the contents of the buffer are unspecified.
+     */
+    public boolean filterInPlace(
+        final TokenBuffer token);
+
+}
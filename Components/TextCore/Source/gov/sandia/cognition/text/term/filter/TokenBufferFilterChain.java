@@ -0,0 +1,130 @@
+/*
+ * File:                TokenBufferFilterChain.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.filter;
+
+import gov.sandia.cognition.text.token.TokenBuffer;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ObjectUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies a sequence of {@code TokenBufferFilter}s to a token in order,
+ * stopping as soon as one of them rejects it. For example, a chain of a
+ * {@code LowerCaseTermFilter}, {@code StopListFilter}, {@code TermLengthFilter}
+ * and {@code PorterEnglishStemmingFilter} gives the usual English text
+ * normalization without allocating per token.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class TokenBufferFilterChain
+    extends AbstractCloneableSerializable
+    implements TokenBufferFilter
+{
+
+    /** The filters to apply, in order. */
+    protected ArrayList<TokenBufferFilter> filters;
+
+    /**
+     * Creates a new, empty {@code TokenBufferFilterChain}.
+     */
+    public TokenBufferFilterChain()
+    {
+        this(new ArrayList<TokenBufferFilter>());
+    }
+
+    /**
+     * Creates a new {@code TokenBufferFilterChain} with the given filters.
+     *
+     * @param   filters
+     *      The filters to apply, in order.
+     */
+    public TokenBufferFilterChain(
+        final TokenBufferFilter... filters)
+    {
+        this(Arrays.asList(filters));
+    }
+
+    /**
+     * Creates a new {@code TokenBufferFilterChain} with the given filters.
+     *
+     * @param   filters
+     *      The filters to apply, in order.
+     */
+    public TokenBufferFilterChain(
+        final List<? extends TokenBufferFilter> filters)
+    {
+        super();
+
+        this.setFilters(new ArrayList<TokenBufferFilter>(filters));
+    }
+
+    @Override
+    public TokenBufferFilterChain clone()
+    {
+        final TokenBufferFilterChain clone =
+            (TokenBufferFilterChain) super.clone();
+        clone.filters = ObjectUtil.cloneSmartElementsAsArrayList(this.filters);
+        return clone;
+    }
+
+    public boolean filterInPlace(
+        final TokenBuffer token)
+    {
+        // Use an indexed loop to avoid creating an iterator per token.
+        final int filterCount = this.filters.size();
+        for (int i = 0; i < filterCount; i++)
+        {
+            if (!this.filters.get(i).filterInPlace(token))
+            {
+                // The filter rejected the token.
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a filter to the end of the chain.
+     *
+     * @param   filter
+     *      The filter to add.
+     */
+    public void add(
+        final TokenBufferFilter filter)
+    {
+        this.filters.add(filter);
+    }
+
+    /**
+     * Gets the filters to apply, in order.
+     *
+     * @return
+     *      The filters.
+     */
+    public ArrayList<TokenBufferFilter> getFilters()
+    {
+        return this.filters;
+    }
+
+    /**
+     * Sets the filters to apply, in order.
+     *
+     * @param   filters
+     *      The filters.
+     */
+    public void setFilters(
+        final ArrayList<TokenBufferFilter> filters)
+    {
+        this.filters = filters;
+    }
+
+}
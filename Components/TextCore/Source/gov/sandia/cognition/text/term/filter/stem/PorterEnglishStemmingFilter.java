@@ -21,6 +21,8 @@ import gov.sandia.cognition.text.term.DefaultTerm;
 import gov.sandia.cognition.text.term.DefaultTermOccurrence;
 import gov.sandia.cognition.text.term.TermOccurrence;
 import gov.sandia.cognition.text.term.filter.AbstractSingleTermFilter;
+import gov.sandia.cognition.text.term.filter.TokenBufferFilter;
+import gov.sandia.cognition.text.token.TokenBuffer;
 import org.tartarus.martin.Stemmer;
 
 /**
@@ -60,8 +62,21 @@ import org.tartarus.martin.Stemmer;
 )
 public class PorterEnglishStemmingFilter
     extends AbstractSingleTermFilter
+    implements TokenBufferFilter
 {
 
+    /** A stemmer for each thread to reuse when stemming in place, since the
+     *  stemmer keeps its own working buffer. */
+    private static final ThreadLocal<Stemmer> STEMMERS =
+        new ThreadLocal<Stemmer>()
+        {
+            @Override
+            protected Stemmer initialValue()
+            {
+                return new Stemmer();
+            }
+        };
+
     /**
      * Creates a new {@code PorterEnglishStemmingFilter}.
      */
@@ -89,6 +104,19 @@ public class PorterEnglishStemmingFilter
         return newOccurrence;
     }
 
+    public boolean filterInPlace(
+        final TokenBuffer token)
+    {
+        // Stem the word with the stemmer for this thread and copy the result
+        // back into the buffer.
+        final Stemmer stemmer = STEMMERS.get();
+        stemmer.add(token.getCharacters(), token.length());
+        stemmer.stem();
+        token.setCharacters(stemmer.getResultBuffer(), 0,
+            stemmer.getResultLength());
+        return true;
+    }
+
     /**
      * Stems the given String according to the Porter stemming algorithm for
      * English words.
@@ -0,0 +1,662 @@
+/*
+ * File:                AllPairsTermSimilarityNetworkCreator.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.relation;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.math.matrix.DimensionalityMismatchException;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.math.matrix.custom.SparseMatrix;
+import gov.sandia.cognition.text.term.TermIndex;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Creates a sparse term similarity network that holds only the pairs of terms
+ * whose cosine similarity is at least a threshold. Unlike
+ * {@code TermVectorSimilarityNetworkCreator}, it never compares all pairs of
+ * terms, which makes it feasible for large vocabularies.
+ * <p>
+ * Each term is represented by its unit-length vector over the documents. The
+ * documents are ordered from the one with the most terms to the one with the
+ * fewest. For each term, the longest prefix of its vector in that order whose
+ * length is below the threshold is left out of an inverted index from
+ * documents to terms. Two terms can only have a cosine similarity of at least
+ * the threshold if one of them has a document in the indexed part of the
+ * other, so probing the index with each term finds every candidate pair. The
+ * common documents, which would have the longest posting lists, are the ones
+ * left out. Each candidate is then scored exactly. The probes run in parallel,
+ * and the result is an exact, symmetric compressed sparse row matrix.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     TermVectorSimilarityNetworkCreator
+ */
+@PublicationReference(
+    author={"Roberto J. Bayardo", "Yiming Ma", "Ramakrishnan Srikant"},
+    title="Scaling up all pairs similarity search",
+    year=2007,
+    type=PublicationType.Conference,
+    publication="Proceedings of the 16th International Conference on World Wide Web",
+    pages={131, 140}
+)
+public class AllPairsTermSimilarityNetworkCreator
+    extends AbstractCloneableSerializable
+    implements ParallelAlgorithm
+{
+
+    /** The default similarity threshold is {@value}. */
+    public static final double DEFAULT_THRESHOLD = 0.5;
+
+    /** The minimum cosine similarity for a pair of terms to be related. */
+    protected double threshold;
+
+    /** The thread pool. */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new {@code AllPairsTermSimilarityNetworkCreator} with the
+     * default threshold.
+     */
+    public AllPairsTermSimilarityNetworkCreator()
+    {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a new {@code AllPairsTermSimilarityNetworkCreator}.
+     *
+     * @param   threshold
+     *      The minimum cosine similarity for a pair of terms to be related.
+     *      Must be in (0, 1].
+     */
+    public AllPairsTermSimilarityNetworkCreator(
+        final double threshold)
+    {
+        super();
+
+        this.setThreshold(threshold);
+    }
+
+    @Override
+    public AllPairsTermSimilarityNetworkCreator clone()
+    {
+        final AllPairsTermSimilarityNetworkCreator clone =
+            (AllPairsTermSimilarityNetworkCreator) super.clone();
+        clone.threadPool = null;
+        return clone;
+    }
+
+    /**
+     * Creates a new similarity network between the terms in the given
+     * documents. The similarity of a pair of terms is the cosine similarity
+     * of their columns in the document-by-term matrix, and it is only kept if
+     * it is at least the threshold. Each term with any occurrence is related
+     * to itself with a similarity of one.
+     *
+     * @param   documents
+     *      The term vectors for each document to calculate the similarity
+     *      network from.
+     * @param   termIndex
+     *      The index of terms that was used to create the term vectors for
+     *      each document.
+     * @return
+     *      A new similarity network for the terms in the given index, backed
+     *      by a sparse matrix.
+     */
+    public MatrixBasedTermSimilarityNetwork create(
+        final Collection<? extends Vectorizable> documents,
+        final TermIndex termIndex)
+    {
+        final int termCount = termIndex.getTermCount();
+        final int documentCount = documents.size();
+
+        // Gather the documents, which are the rows of the document-by-term
+        // matrix.
+        final Vector[] vectors = new Vector[documentCount];
+        final int[] documentLengths = new int[documentCount];
+        final int[] termLengths = new int[termCount];
+        int document = 0;
+        for (Vectorizable vectorizable : documents)
+        {
+            final Vector vector = vectorizable.convertToVector();
+            if (vector.getDimensionality() != termCount)
+            {
+                throw new DimensionalityMismatchException(termCount,
+                    vector.getDimensionality());
+            }
+            vectors[document] = vector;
+            final int documentIndex = document;
+            vector.forEachNonZero((term, value) ->
+            {
+                documentLengths[documentIndex]++;
+                termLengths[term]++;
+            });
+            document++;
+        }
+
+        // Rank the documents from the most terms to the fewest, so the
+        // prefixes that are left out of the index are the common documents.
+        final Integer[] order = new Integer[documentCount];
+        for (int i = 0; i < documentCount; i++)
+        {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> documentLengths[second]
+            - documentLengths[first]);
+        final int[] ranks = new int[documentCount];
+        for (int rank = 0; rank < documentCount; rank++)
+        {
+            ranks[order[rank]] = rank;
+        }
+
+        // Build the term vectors over the ranked documents by transposing.
+        // Filling the documents in rank order keeps each term's entries in
+        // rank order.
+        final int[] termStarts = new int[termCount + 1];
+        for (int term = 0; term < termCount; term++)
+        {
+            termStarts[term + 1] = termStarts[term] + termLengths[term];
+        }
+        final int entryCount = termStarts[termCount];
+        final int[] termDocuments = new int[entryCount];
+        final double[] termWeights = new double[entryCount];
+        final int[] fill = Arrays.copyOf(termStarts, termCount);
+        for (int rank = 0; rank < documentCount; rank++)
+        {
+            final int documentRank = rank;
+            vectors[order[rank]].forEachNonZero((term, value) ->
+            {
+                final int position = fill[term]++;
+                termDocuments[position] = documentRank;
+                termWeights[position] = value;
+            });
+        }
+
+        // Normalize each term to unit length and find its prefix to leave
+        // out of the index.
+        final int[] prefixEnds = new int[termCount];
+        for (int term = 0; term < termCount; term++)
+        {
+            final int start = termStarts[term];
+            final int end = termStarts[term + 1];
+            double sumOfSquares = 0.0;
+            for (int i = start; i < end; i++)
+            {
+                sumOfSquares += termWeights[i] * termWeights[i];
+            }
+            final double scale = sumOfSquares > 0.0
+                ? 1.0 / Math.sqrt(sumOfSquares) : 0.0;
+
+            // The prefix can be left out while its length is below the
+            // threshold, since its dot product with any unit vector is at
+            // most its length.
+            final double limit = this.threshold * this.threshold;
+            double prefixSumOfSquares = 0.0;
+            int prefixEnd = start;
+            for (int i = start; i < end; i++)
+            {
+                termWeights[i] *= scale;
+                final double square = termWeights[i] * termWeights[i];
+                if (prefixEnd == i && prefixSumOfSquares + square < limit)
+                {
+                    prefixSumOfSquares += square;
+                    prefixEnd++;
+                }
+            }
+            prefixEnds[term] = prefixEnd;
+        }
+
+        // Build the inverted index from each document to the terms whose
+        // indexed part contains it, in increasing order of term.
+        final int[] indexStarts = new int[documentCount + 1];
+        for (int term = 0; term < termCount; term++)
+        {
+            for (int i = prefixEnds[term]; i < termStarts[term + 1]; i++)
+            {
+                indexStarts[termDocuments[i] + 1]++;
+            }
+        }
+        for (int rank = 0; rank < documentCount; rank++)
+        {
+            indexStarts[rank + 1] += indexStarts[rank];
+        }
+        final int[] indexTerms = new int[indexStarts[documentCount]];
+        final double[] indexWeights = new double[indexTerms.length];
+        final int[] indexFill = Arrays.copyOf(indexStarts, documentCount);
+        for (int term = 0; term < termCount; term++)
+        {
+            for (int i = prefixEnds[term]; i < termStarts[term + 1]; i++)
+            {
+                final int position = indexFill[termDocuments[i]]++;
+                indexTerms[position] = term;
+                indexWeights[position] = termWeights[i];
+            }
+        }
+
+        // Probe the index with each term in parallel. The terms are dealt
+        // out round-robin since the early terms have more candidates.
+        final int taskCount = Math.max(1,
+            Math.min(4 * this.getNumThreads(), termCount));
+        final ArrayList<ProbeTask> tasks = new ArrayList<ProbeTask>(taskCount);
+        for (int i = 0; i < taskCount; i++)
+        {
+            tasks.add(new ProbeTask(i, taskCount, termCount, documentCount,
+                termStarts, termDocuments, termWeights, prefixEnds,
+                indexStarts, indexTerms, indexWeights));
+        }
+        try
+        {
+            ParallelUtil.executeInParallel(tasks, this.getThreadPool());
+        }
+        catch (Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+
+        return new MatrixBasedTermSimilarityNetwork(termIndex,
+            createMatrix(termCount, termStarts, tasks));
+    }
+
+    /**
+     * Creates the symmetric similarity matrix from the pairs found by the
+     * tasks, where each task holds the pairs (i, j) with i &lt; j for its
+     * terms i.
+     *
+     * @param   termCount
+     *      The number of terms.
+     * @param   termStarts
+     *      The start of each term's vector, which tells if it is empty.
+     * @param   tasks
+     *      The tasks that found the pairs.
+     * @return
+     *      The similarity matrix.
+     */
+    protected static SparseMatrix createMatrix(
+        final int termCount,
+        final int[] termStarts,
+        final ArrayList<ProbeTask> tasks)
+    {
+        // Count the entries in each row: the diagonal plus each pair in both
+        // directions.
+        final int taskCount = tasks.size();
+        final int[] firstInRows = new int[termCount + 1];
+        for (int term = 0; term < termCount; term++)
+        {
+            if (termStarts[term + 1] > termStarts[term])
+            {
+                firstInRows[term + 1]++;
+            }
+            final ProbeTask task = tasks.get(term % taskCount);
+            final int local = term / taskCount;
+            for (int i = task.pairStarts[local];
+                i < task.pairStarts[local + 1]; i++)
+            {
+                firstInRows[term + 1]++;
+                firstInRows[task.pairTerms[i] + 1]++;
+            }
+        }
+        for (int term = 0; term < termCount; term++)
+        {
+            firstInRows[term + 1] += firstInRows[term];
+        }
+
+        // Fill the rows in order of the first term of each pair. Row i gets
+        // its entries from the terms before i first, then its diagonal, and
+        // then the terms after i, so each row ends up sorted.
+        final int entryCount = firstInRows[termCount];
+        final int[] columns = new int[entryCount];
+        final double[] values = new double[entryCount];
+        final int[] fill = Arrays.copyOf(firstInRows, termCount);
+        for (int term = 0; term < termCount; term++)
+        {
+            if (termStarts[term + 1] > termStarts[term])
+            {
+                columns[fill[term]] = term;
+                values[fill[term]] = 1.0;
+                fill[term]++;
+            }
+
+            final ProbeTask task = tasks.get(term % taskCount);
+            final int local = term / taskCount;
+            for (int i = task.pairStarts[local];
+                i < task.pairStarts[local + 1]; i++)
+            {
+                final int other = task.pairTerms[i];
+                final double similarity = task.pairSimilarities[i];
+                columns[fill[term]] = other;
+                values[fill[term]] = similarity;
+                fill[term]++;
+                columns[fill[other]] = term;
+                values[fill[other]] = similarity;
+                fill[other]++;
+            }
+        }
+
+        return new SparseMatrix(termCount, termCount, firstInRows, columns,
+            values);
+    }
+
+    /**
+     * Gets the minimum cosine similarity for a pair of terms to be related.
+     *
+     * @return
+     *      The similarity threshold.
+     */
+    public double getThreshold()
+    {
+        return this.threshold;
+    }
+
+    /**
+     * Sets the minimum cosine similarity for a pair of terms to be related.
+     * Higher thresholds give sparser networks and faster searches.
+     *
+     * @param   threshold
+     *      The similarity threshold. Must be in (0, 1].
+     */
+    public void setThreshold(
+        final double threshold)
+    {
+        if (!(threshold > 0.0 && threshold <= 1.0))
+        {
+            throw new IllegalArgumentException(
+                "threshold must be in (0, 1]");
+        }
+
+        this.threshold = threshold;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * A task that probes the inverted index with every term whose index is
+     * equal to its offset modulo the stride, and keeps the pairs with later
+     * terms whose similarity is at least the threshold.
+     */
+    protected class ProbeTask
+        extends Object
+        implements Callable<Boolean>
+    {
+
+        /** The first term of the task. */
+        protected int offset;
+
+        /** The distance between the terms of the task. */
+        protected int stride;
+
+        /** The number of terms. */
+        protected int termCount;
+
+        /** The number of documents. */
+        protected int documentCount;
+
+        /** The start of each term's vector. */
+        protected int[] termStarts;
+
+        /** The document ranks of the term vectors. */
+        protected int[] termDocuments;
+
+        /** The unit-length weights of the term vectors. */
+        protected double[] termWeights;
+
+        /** The end of each term's prefix that is not indexed. */
+        protected int[] prefixEnds;
+
+        /** The start of each document's posting list. */
+        protected int[] indexStarts;
+
+        /** The terms in the posting lists. */
+        protected int[] indexTerms;
+
+        /** The weights in the posting lists. */
+        protected double[] indexWeights;
+
+        /** The start of the pairs for each term of the task, followed by the
+         *  number of pairs. */
+        protected int[] pairStarts;
+
+        /** The second term of each pair. */
+        protected int[] pairTerms;
+
+        /** The similarity of each pair. */
+        protected double[] pairSimilarities;
+
+        /** The number of pairs. */
+        protected int pairCount;
+
+        /**
+         * Creates a new {@code ProbeTask}.
+         *
+         * @param   offset
+         *      The first term of the task.
+         * @param   stride
+         *      The distance between the terms of the task.
+         * @param   termCount
+         *      The number of terms.
+         * @param   documentCount
+         *      The number of documents.
+         * @param   termStarts
+         *      The start of each term's vector.
+         * @param   termDocuments
+         *      The document ranks of the term vectors.
+         * @param   termWeights
+         *      The unit-length weights of the term vectors.
+         * @param   prefixEnds
+         *      The end of each term's prefix that is not indexed.
+         * @param   indexStarts
+         *      The start of each document's posting list.
+         * @param   indexTerms
+         *      The terms in the posting lists.
+         * @param   indexWeights
+         *      The weights in the posting lists.
+         */
+        public ProbeTask(
+            final int offset,
+            final int stride,
+            final int termCount,
+            final int documentCount,
+            final int[] termStarts,
+            final int[] termDocuments,
+            final double[] termWeights,
+            final int[] prefixEnds,
+            final int[] indexStarts,
+            final int[] indexTerms,
+            final double[] indexWeights)
+        {
+            super();
+
+            this.offset = offset;
+            this.stride = stride;
+            this.termCount = termCount;
+            this.documentCount = documentCount;
+            this.termStarts = termStarts;
+            this.termDocuments = termDocuments;
+            this.termWeights = termWeights;
+            this.prefixEnds = prefixEnds;
+            this.indexStarts = indexStarts;
+            this.indexTerms = indexTerms;
+            this.indexWeights = indexWeights;
+        }
+
+        @Override
+        public Boolean call()
+        {
+            final double threshold = getThreshold();
+            final int localCount =
+                (this.termCount - this.offset + this.stride - 1) / this.stride;
+            this.pairStarts = new int[localCount + 1];
+            this.pairTerms = new int[64];
+            this.pairSimilarities = new double[64];
+            this.pairCount = 0;
+
+            // The probing term as a dense vector, the partial dot products of
+            // the candidates, and which terms are already candidates.
+            final double[] probe = new double[this.documentCount];
+            final double[] scores = new double[this.termCount];
+            final boolean[] isCandidate = new boolean[this.termCount];
+            int[] candidates = new int[64];
+
+            for (int local = 0; local < localCount; local++)
+            {
+                final int term = this.offset + local * this.stride;
+                this.pairStarts[local] = this.pairCount;
+                final int start = this.termStarts[term];
+                final int end = this.termStarts[term + 1];
+
+                // Accumulate the dot products with the indexed parts of the
+                // later terms.
+                int candidateCount = 0;
+                for (int i = start; i < end; i++)
+                {
+                    final int document = this.termDocuments[i];
+                    final double weight = this.termWeights[i];
+                    probe[document] = weight;
+
+                    final int listEnd = this.indexStarts[document + 1];
+                    int position = this.findFirstAfter(term,
+                        this.indexStarts[document], listEnd);
+                    for (; position < listEnd; position++)
+                    {
+                        final int other = this.indexTerms[position];
+                        if (!isCandidate[other])
+                        {
+                            isCandidate[other] = true;
+                            if (candidateCount >= candidates.length)
+                            {
+                                candidates = Arrays.copyOf(candidates,
+                                    2 * candidateCount);
+                            }
+                            candidates[candidateCount++] = other;
+                        }
+                        scores[other] += weight * this.indexWeights[position];
+                    }
+                }
+
+                // Finish each candidate's dot product with its prefix and
+                // keep the ones that reach the threshold.
+                Arrays.sort(candidates, 0, candidateCount);
+                for (int c = 0; c < candidateCount; c++)
+                {
+                    final int other = candidates[c];
+                    double similarity = scores[other];
+                    for (int i = this.termStarts[other];
+                        i < this.prefixEnds[other]; i++)
+                    {
+                        similarity += probe[this.termDocuments[i]]
+                            * this.termWeights[i];
+                    }
+
+                    if (similarity >= threshold)
+                    {
+                        this.addPair(other, Math.min(similarity, 1.0));
+                    }
+                    scores[other] = 0.0;
+                    isCandidate[other] = false;
+                }
+
+                for (int i = start; i < end; i++)
+                {
+                    probe[this.termDocuments[i]] = 0.0;
+                }
+            }
+            this.pairStarts[localCount] = this.pairCount;
+            return true;
+        }
+
+        /**
+         * Finds the first position in a posting list whose term is after the
+         * given term, using a binary search since the lists are sorted.
+         *
+         * @param   term
+         *      The term.
+         * @param   start
+         *      The start of the posting list.
+         * @param   end
+         *      The end of the posting list.
+         * @return
+         *      The first position whose term is greater than the given term,
+         *      or the end.
+         */
+        protected int findFirstAfter(
+            final int term,
+            int start,
+            int end)
+        {
+            while (start < end)
+            {
+                final int middle = (start + end) >>> 1;
+                if (this.indexTerms[middle] <= term)
+                {
+                    start = middle + 1;
+                }
+                else
+                {
+                    end = middle;
+                }
+            }
+            return start;
+        }
+
+        /**
+         * Adds a pair for the current term.
+         *
+         * @param   other
+         *      The other term of the pair.
+         * @param   similarity
+         *      The similarity of the pair.
+         */
+        protected void addPair(
+            final int other,
+            final double similarity)
+        {
+            if (this.pairCount >= this.pairTerms.length)
+            {
+                this.pairTerms = Arrays.copyOf(this.pairTerms,
+                    2 * this.pairCount);
+                this.pairSimilarities = Arrays.copyOf(this.pairSimilarities,
+                    2 * this.pairCount);
+            }
+            this.pairTerms[this.pairCount] = other;
+            this.pairSimilarities[this.pairCount] = similarity;
+            this.pairCount++;
+        }
+
+    }
+
+}
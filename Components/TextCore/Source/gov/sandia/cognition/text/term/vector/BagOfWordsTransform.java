@@ -23,6 +23,7 @@ import gov.sandia.cognition.text.term.DefaultTermIndex;
 import gov.sandia.cognition.text.term.Term;
 import gov.sandia.cognition.text.term.TermIndex;
 import gov.sandia.cognition.text.term.Termable;
+import java.util.Arrays;
 
 /**
  * Transforms a list of term occurrences into a vector of counts.
@@ -138,10 +139,9 @@ public class BagOfWordsTransform
         final TermIndex termIndex,
         final VectorFactory<?> vectorFactory)
     {
-        // Create the vector to store the result.
-        final Vector result = vectorFactory.createVector(
-            termIndex.getTermCount());
-
+        // Look up the index of each occurrence. Unknown terms are skipped.
+        int[] indices = new int[16];
+        int count = 0;
         for (Termable termable : terms)
         {
             final Term term = termable.asTerm();
@@ -149,14 +149,38 @@ public class BagOfWordsTransform
 
             if (index >= 0)
             {
-                final double count = result.getElement(index);
-                result.setElement(index, count + 1);
+                if (count >= indices.length)
+                {
+                    indices = Arrays.copyOf(indices, 2 * indices.length);
+                }
+                indices[count] = index;
+                count++;
             }
             // TODO: Ideally we would somehow handle all of the "unknown"
             // elements also. Perhaps by using the first vector element for
             // unknowns.
         }
 
+        // Sort the indices so that each distinct term is set once, in
+        // order, rather than updating the vector for every occurrence.
+        Arrays.sort(indices, 0, count);
+
+        // Create the vector to store the result.
+        final Vector result = vectorFactory.createVector(
+            termIndex.getTermCount());
+        int i = 0;
+        while (i < count)
+        {
+            final int index = indices[i];
+            int end = i + 1;
+            while (end < count && indices[end] == index)
+            {
+                end++;
+            }
+            result.setElement(index, end - i);
+            i = end;
+        }
+
         return result;
     }
 
@@ -0,0 +1,829 @@
+/*
+ * File:                CosineInvertedIndex.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.vector;
+
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.DefaultWeightedValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An inverted index over term-weighted document vectors that finds the
+ * documents with the highest cosine similarity to a query without scoring
+ * every document. Each document is normalized to unit length when it is
+ * added and each of its non-zero terms is appended to the posting list for
+ * that term. A query is then answered with the WAND algorithm: a cursor is
+ * kept for each query term, and since each posting list knows the largest
+ * contribution it can make to the score, whole ranges of documents that
+ * cannot beat the current k-th best score are skipped rather than scored.
+ * <p>
+ * The posting lists are compressed: the document identifiers are stored as
+ * variable-length byte deltas and the weights as floats. Every
+ * {@value #BLOCK_SIZE} postings start a new block that records its last
+ * document, so a cursor can skip over whole blocks without decoding them.
+ * <p>
+ * Documents get consecutive identifiers as they are added, starting at
+ * zero, and can be added at any time. Removing a document marks it as
+ * removed so that it is no longer returned; its postings are kept. The index
+ * is not thread-safe while documents are being added or removed, but any
+ * number of threads can search it concurrently otherwise.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     CosineSimilarityFunction
+ */
+@PublicationReference(
+    author={"Andrei Z. Broder", "David Carmel", "Michael Herscovici",
+        "Aya Soffer", "Jason Zien"},
+    title="Efficient query evaluation using a two-level retrieval process",
+    year=2003,
+    type=PublicationType.Conference,
+    publication="Proceedings of the Twelfth International Conference on Information and Knowledge Management",
+    pages={426, 434}
+)
+public class CosineInvertedIndex
+    extends AbstractVectorSpaceModel
+{
+
+    /** The number of postings in a block is {@value}. */
+    public static final int BLOCK_SIZE = 128;
+
+    /** The tolerance used to decide that a removed vector is the same as an
+     *  indexed document is {@value}. */
+    public static final double REMOVE_TOLERANCE = 1e-6;
+
+    /** The posting list of each term, indexed by term. Terms that do not
+     *  occur have null lists. */
+    protected PostingList[] postings;
+
+    /** The number of documents that have been added, which is also the next
+     *  document identifier. */
+    protected int addedCount;
+
+    /** The documents that have been removed. */
+    protected BitSet removed;
+
+    /** The number of documents that have been removed. */
+    protected int removedCount;
+
+    /**
+     * Creates a new, empty {@code CosineInvertedIndex}.
+     */
+    public CosineInvertedIndex()
+    {
+        super();
+
+        this.postings = new PostingList[16];
+        this.addedCount = 0;
+        this.removed = new BitSet();
+        this.removedCount = 0;
+    }
+
+    @Override
+    public CosineInvertedIndex clone()
+    {
+        final CosineInvertedIndex clone = (CosineInvertedIndex) super.clone();
+        clone.postings = new PostingList[this.postings.length];
+        for (int i = 0; i < this.postings.length; i++)
+        {
+            if (this.postings[i] != null)
+            {
+                clone.postings[i] = this.postings[i].clone();
+            }
+        }
+        clone.removed = (BitSet) this.removed.clone();
+        return clone;
+    }
+
+    public void add(
+        final Vector document)
+    {
+        this.addDocument(document);
+    }
+
+    /**
+     * Adds a document to the index.
+     *
+     * @param   document
+     *      The term-weighted vector of the document.
+     * @return
+     *      The identifier of the document, which is the number of documents
+     *      added before it.
+     */
+    public int addDocument(
+        final Vectorizable document)
+    {
+        return this.addDocument(document.convertToVector());
+    }
+
+    /**
+     * Adds a document to the index.
+     *
+     * @param   document
+     *      The term-weighted vector of the document.
+     * @return
+     *      The identifier of the document, which is the number of documents
+     *      added before it.
+     */
+    public int addDocument(
+        final Vector document)
+    {
+        final int identifier = this.addedCount;
+        final double norm = document.norm2();
+        if (norm > 0.0)
+        {
+            final int dimensionality = document.getDimensionality();
+            if (dimensionality > this.postings.length)
+            {
+                this.postings = Arrays.copyOf(this.postings,
+                    Math.max(dimensionality, 2 * this.postings.length));
+            }
+
+            final double scale = 1.0 / norm;
+            document.forEachNonZero(new Vector.IndexValueConsumer()
+            {
+                @Override
+                public void consume(
+                    final int index,
+                    final double value)
+                {
+                    PostingList list = postings[index];
+                    if (list == null)
+                    {
+                        list = new PostingList();
+                        postings[index] = list;
+                    }
+                    list.add(identifier, (float) (value * scale));
+                }
+            });
+        }
+
+        this.addedCount++;
+        return identifier;
+    }
+
+    /**
+     * Removes the indexed document with the highest cosine similarity to the
+     * given vector, if it is within a small tolerance of one. Documents are
+     * compared by cosine similarity, so any document that is a positive
+     * multiple of the vector is the same document.
+     *
+     * @param   document
+     *      The vector of the document to remove.
+     * @return
+     *      True if a document was removed; otherwise, false.
+     */
+    public boolean remove(
+        final Vector document)
+    {
+        final List<DefaultWeightedValue<Integer>> nearest =
+            this.findMostSimilar(document, 1);
+        if (!nearest.isEmpty()
+            && nearest.get(0).getWeight() >= 1.0 - REMOVE_TOLERANCE)
+        {
+            return this.removeDocument(nearest.get(0).getValue());
+        }
+        else
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Removes the document with the given identifier so that it is no longer
+     * returned by searches.
+     *
+     * @param   identifier
+     *      The identifier of the document.
+     * @return
+     *      True if the document was removed; false if there is no such
+     *      document or it was already removed.
+     */
+    public boolean removeDocument(
+        final int identifier)
+    {
+        if (identifier < 0 || identifier >= this.addedCount
+            || this.removed.get(identifier))
+        {
+            return false;
+        }
+
+        this.removed.set(identifier);
+        this.removedCount++;
+        return true;
+    }
+
+    /**
+     * Determines if the document with the given identifier is in the index.
+     *
+     * @param   identifier
+     *      The identifier of the document.
+     * @return
+     *      True if the document has been added and not removed.
+     */
+    public boolean containsDocument(
+        final int identifier)
+    {
+        return identifier >= 0 && identifier < this.addedCount
+            && !this.removed.get(identifier);
+    }
+
+    public int getDocumentCount()
+    {
+        return this.addedCount - this.removedCount;
+    }
+
+    /**
+     * Gets the number of documents that have been added, including removed
+     * ones. It is the identifier the next document will get.
+     *
+     * @return
+     *      The number of documents that have been added.
+     */
+    public int getAddedCount()
+    {
+        return this.addedCount;
+    }
+
+    /**
+     * Finds the documents with the highest cosine similarity to the query.
+     *
+     * @param   query
+     *      The query, which should use the same term weighting as the
+     *      documents.
+     * @param   k
+     *      The maximum number of documents to return. Must be positive.
+     * @return
+     *      Up to k documents that share a term with the query, as their
+     *      identifier weighted by their cosine similarity, in decreasing
+     *      order of similarity.
+     */
+    public List<DefaultWeightedValue<Integer>> findMostSimilar(
+        final Vectorizable query,
+        final int k)
+    {
+        return this.findMostSimilar(query.convertToVector(), k);
+    }
+
+    /**
+     * Finds the documents with the highest cosine similarity to the query.
+     *
+     * @param   query
+     *      The query, which should use the same term weighting as the
+     *      documents.
+     * @param   k
+     *      The maximum number of documents to return. Must be positive.
+     * @return
+     *      Up to k documents that share a term with the query, as their
+     *      identifier weighted by their cosine similarity, in decreasing
+     *      order of similarity.
+     */
+    public List<DefaultWeightedValue<Integer>> findMostSimilar(
+        final Vector query,
+        final int k)
+    {
+        ArgumentChecker.assertIsPositive("k", k);
+
+        final double norm = query.norm2();
+        if (norm <= 0.0)
+        {
+            return Collections.emptyList();
+        }
+
+        // Create a cursor for each query term that has postings.
+        final double scale = 1.0 / norm;
+        final ArrayList<Cursor> cursorList = new ArrayList<Cursor>();
+        query.forEachNonZero(new Vector.IndexValueConsumer()
+        {
+            @Override
+            public void consume(
+                final int index,
+                final double value)
+            {
+                if (index < postings.length && postings[index] != null)
+                {
+                    cursorList.add(new Cursor(postings[index], value * scale));
+                }
+            }
+        });
+        final Cursor[] cursors = cursorList.toArray(
+            new Cursor[cursorList.size()]);
+        final int cursorCount = cursors.length;
+
+        final TopDocuments top = new TopDocuments(k);
+        while (true)
+        {
+            // Order the cursors by their current document. They are nearly
+            // in order from the last iteration, so use an insertion sort.
+            for (int i = 1; i < cursorCount; i++)
+            {
+                final Cursor cursor = cursors[i];
+                int j = i - 1;
+                while (j >= 0 && cursors[j].document > cursor.document)
+                {
+                    cursors[j + 1] = cursors[j];
+                    j--;
+                }
+                cursors[j + 1] = cursor;
+            }
+
+            // Find the pivot: the first cursor where the documents up to it
+            // could beat the threshold.
+            final double threshold = top.getThreshold();
+            double bound = 0.0;
+            int pivot = -1;
+            for (int i = 0; i < cursorCount; i++)
+            {
+                if (cursors[i].document == Cursor.END)
+                {
+                    break;
+                }
+                bound += cursors[i].upperBound;
+                if (bound > threshold)
+                {
+                    pivot = i;
+                    break;
+                }
+            }
+
+            if (pivot < 0)
+            {
+                // No remaining document can beat the threshold.
+                break;
+            }
+
+            final int pivotDocument = cursors[pivot].document;
+            if (cursors[0].document == pivotDocument)
+            {
+                // All the cursors up to the pivot are on the pivot document,
+                // so fully score it.
+                double score = 0.0;
+                for (int i = 0; i < cursorCount
+                    && cursors[i].document == pivotDocument; i++)
+                {
+                    score += cursors[i].getScore();
+                    cursors[i].next();
+                }
+
+                if (!this.removed.get(pivotDocument))
+                {
+                    top.offer(pivotDocument, score);
+                }
+            }
+            else
+            {
+                // Skip the cursors before the pivot to the pivot document,
+                // since none of the documents before it can make it.
+                for (int i = 0; i < pivot; i++)
+                {
+                    cursors[i].skipTo(pivotDocument);
+                }
+            }
+        }
+
+        return top.toList();
+    }
+
+    /**
+     * A posting list of the documents that contain a term along with the
+     * term's weight in each.
+     */
+    protected static class PostingList
+        extends AbstractCloneableSerializable
+    {
+
+        /** The variable-length deltas between the document identifiers. */
+        protected byte[] bytes;
+
+        /** The number of bytes used. */
+        protected int byteCount;
+
+        /** The weight of the term in each document. */
+        protected float[] weights;
+
+        /** The number of postings. */
+        protected int size;
+
+        /** The last document of each block. */
+        protected int[] blockLastDocuments;
+
+        /** The offset of each block in the bytes. */
+        protected int[] blockOffsets;
+
+        /** The last document added. */
+        protected int lastDocument;
+
+        /** The maximum weight. */
+        protected float maximumWeight;
+
+        /** The minimum weight. */
+        protected float minimumWeight;
+
+        /**
+         * Creates a new, empty {@code PostingList}.
+         */
+        public PostingList()
+        {
+            super();
+
+            this.bytes = new byte[8];
+            this.byteCount = 0;
+            this.weights = new float[4];
+            this.size = 0;
+            this.blockLastDocuments = new int[1];
+            this.blockOffsets = new int[1];
+            this.lastDocument = -1;
+            this.maximumWeight = Float.NEGATIVE_INFINITY;
+            this.minimumWeight = Float.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public PostingList clone()
+        {
+            final PostingList clone = (PostingList) super.clone();
+            clone.bytes = this.bytes.clone();
+            clone.weights = this.weights.clone();
+            clone.blockLastDocuments = this.blockLastDocuments.clone();
+            clone.blockOffsets = this.blockOffsets.clone();
+            return clone;
+        }
+
+        /**
+         * Adds a posting. The document must be after the last one added.
+         *
+         * @param   document
+         *      The document identifier.
+         * @param   weight
+         *      The weight of the term in the document.
+         */
+        public void add(
+            final int document,
+            final float weight)
+        {
+            final int block = this.size / BLOCK_SIZE;
+            if (this.size % BLOCK_SIZE == 0)
+            {
+                // Start a new block.
+                if (block >= this.blockOffsets.length)
+                {
+                    this.blockOffsets = Arrays.copyOf(this.blockOffsets,
+                        2 * block);
+                    this.blockLastDocuments = Arrays.copyOf(
+                        this.blockLastDocuments, 2 * block);
+                }
+                this.blockOffsets[block] = this.byteCount;
+            }
+
+            // Write the delta as a variable-length integer with seven bits
+            // per byte and the high bit set on all but the last byte.
+            if (this.byteCount + 5 > this.bytes.length)
+            {
+                this.bytes = Arrays.copyOf(this.bytes,
+                    Math.max(this.byteCount + 5, 2 * this.bytes.length));
+            }
+            int delta = document - this.lastDocument;
+            while (delta >= 0x80)
+            {
+                this.bytes[this.byteCount++] = (byte) (delta | 0x80);
+                delta >>>= 7;
+            }
+            this.bytes[this.byteCount++] = (byte) delta;
+
+            if (this.size >= this.weights.length)
+            {
+                this.weights = Arrays.copyOf(this.weights, 2 * this.size);
+            }
+            this.weights[this.size] = weight;
+            this.size++;
+            this.blockLastDocuments[block] = document;
+            this.lastDocument = document;
+            this.maximumWeight = Math.max(this.maximumWeight, weight);
+            this.minimumWeight = Math.min(this.minimumWeight, weight);
+        }
+
+        /**
+         * Gets the number of postings.
+         *
+         * @return
+         *      The number of postings.
+         */
+        public int size()
+        {
+            return this.size;
+        }
+
+    }
+
+    /**
+     * A cursor over a posting list for a query term.
+     */
+    protected static class Cursor
+        extends Object
+    {
+
+        /** The document of a cursor that is past the end of its list. */
+        protected static final int END = Integer.MAX_VALUE;
+
+        /** The posting list. */
+        protected PostingList list;
+
+        /** The weight of the term in the query. */
+        protected double queryWeight;
+
+        /** The largest amount the term can add to the score of a document,
+         *  which is never negative. */
+        protected double upperBound;
+
+        /** The position of the current posting. */
+        protected int position;
+
+        /** The offset of the next byte to decode. */
+        protected int offset;
+
+        /** The current document. */
+        protected int document;
+
+        /**
+         * Creates a new {@code Cursor} on the first posting of a list.
+         *
+         * @param   list
+         *      The posting list.
+         * @param   queryWeight
+         *      The weight of the term in the query.
+         */
+        public Cursor(
+            final PostingList list,
+            final double queryWeight)
+        {
+            super();
+
+            this.list = list;
+            this.queryWeight = queryWeight;
+            this.upperBound = Math.max(0.0, Math.max(
+                queryWeight * list.maximumWeight,
+                queryWeight * list.minimumWeight));
+            this.position = 0;
+            this.offset = 0;
+            this.document = list.size > 0 ? this.readDelta() - 1 : END;
+        }
+
+        /**
+         * Reads the next variable-length delta.
+         *
+         * @return
+         *      The delta.
+         */
+        protected int readDelta()
+        {
+            final byte[] bytes = this.list.bytes;
+            int result = 0;
+            int shift = 0;
+            byte b;
+            do
+            {
+                b = bytes[this.offset++];
+                result |= (b & 0x7F) << shift;
+                shift += 7;
+            }
+            while (b < 0);
+            return result;
+        }
+
+        /**
+         * Gets the contribution of the term to the score of the current
+         * document.
+         *
+         * @return
+         *      The query weight times the document weight.
+         */
+        public double getScore()
+        {
+            return this.queryWeight * this.list.weights[this.position];
+        }
+
+        /**
+         * Moves to the next posting.
+         */
+        public void next()
+        {
+            this.position++;
+            if (this.position >= this.list.size)
+            {
+                this.document = END;
+            }
+            else
+            {
+                this.document += this.readDelta();
+            }
+        }
+
+        /**
+         * Moves to the first posting whose document is at least the target,
+         * skipping over whole blocks where possible.
+         *
+         * @param   target
+         *      The target document.
+         */
+        public void skipTo(
+            final int target)
+        {
+            if (this.document >= target)
+            {
+                return;
+            }
+
+            final PostingList list = this.list;
+            final int blockCount = (list.size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            final int currentBlock = this.position / BLOCK_SIZE;
+            int block = currentBlock;
+            while (block < blockCount
+                && list.blockLastDocuments[block] < target)
+            {
+                block++;
+            }
+
+            if (block >= blockCount)
+            {
+                this.position = list.size;
+                this.document = END;
+                return;
+            }
+            else if (block > currentBlock)
+            {
+                // Jump to the start of the block, whose delta is from the
+                // last document of the previous block.
+                this.position = block * BLOCK_SIZE;
+                this.offset = list.blockOffsets[block];
+                this.document = list.blockLastDocuments[block - 1]
+                    + this.readDelta();
+            }
+
+            while (this.document < target)
+            {
+                this.next();
+            }
+        }
+
+    }
+
+    /**
+     * A bounded min-heap of the best documents found so far.
+     */
+    protected static class TopDocuments
+        extends Object
+    {
+
+        /** The documents in the heap. */
+        protected int[] documents;
+
+        /** The scores in the heap, with the lowest first. */
+        protected double[] scores;
+
+        /** The number of documents in the heap. */
+        protected int size;
+
+        /** The maximum number of documents to keep. */
+        protected int capacity;
+
+        /**
+         * Creates a new {@code TopDocuments}.
+         *
+         * @param   capacity
+         *      The maximum number of documents to keep.
+         */
+        public TopDocuments(
+            final int capacity)
+        {
+            super();
+
+            final int initial = Math.min(capacity, 64);
+            this.documents = new int[initial];
+            this.scores = new double[initial];
+            this.size = 0;
+            this.capacity = capacity;
+        }
+
+        /**
+         * Gets the score a document must beat to be added.
+         *
+         * @return
+         *      The lowest score in the heap if it is full; otherwise,
+         *      negative infinity.
+         */
+        public double getThreshold()
+        {
+            return this.size < this.capacity ? Double.NEGATIVE_INFINITY
+                : this.scores[0];
+        }
+
+        /**
+         * Offers a document to the heap.
+         *
+         * @param   document
+         *      The document.
+         * @param   score
+         *      The score of the document.
+         */
+        public void offer(
+            final int document,
+            final double score)
+        {
+            if (this.size < this.capacity)
+            {
+                if (this.size >= this.documents.length)
+                {
+                    final int newLength = Math.min(this.capacity,
+                        2 * this.size);
+                    this.documents = Arrays.copyOf(this.documents, newLength);
+                    this.scores = Arrays.copyOf(this.scores, newLength);
+                }
+
+                // Sift the new document up.
+                int i = this.size;
+                this.size++;
+                while (i > 0)
+                {
+                    final int parent = (i - 1) / 2;
+                    if (this.scores[parent] <= score)
+                    {
+                        break;
+                    }
+                    this.documents[i] = this.documents[parent];
+                    this.scores[i] = this.scores[parent];
+                    i = parent;
+                }
+                this.documents[i] = document;
+                this.scores[i] = score;
+            }
+            else if (score > this.scores[0])
+            {
+                // Replace the lowest and sift it down.
+                int i = 0;
+                while (true)
+                {
+                    int child = 2 * i + 1;
+                    if (child >= this.size)
+                    {
+                        break;
+                    }
+                    if (child + 1 < this.size
+                        && this.scores[child + 1] < this.scores[child])
+                    {
+                        child++;
+                    }
+                    if (this.scores[child] >= score)
+                    {
+                        break;
+                    }
+                    this.documents[i] = this.documents[child];
+                    this.scores[i] = this.scores[child];
+                    i = child;
+                }
+                this.documents[i] = document;
+                this.scores[i] = score;
+            }
+        }
+
+        /**
+         * Creates the list of documents in decreasing order of score.
+         *
+         * @return
+         *      The documents weighted by their scores.
+         */
+        public List<DefaultWeightedValue<Integer>> toList()
+        {
+            final ArrayList<DefaultWeightedValue<Integer>> result =
+                new ArrayList<DefaultWeightedValue<Integer>>(this.size);
+            for (int i = 0; i < this.size; i++)
+            {
+                result.add(new DefaultWeightedValue<Integer>(
+                    this.documents[i], this.scores[i]));
+            }
+            // Sort by decreasing score and then by document.
+            Collections.sort(result, (first, second) ->
+            {
+                final int comparison = Double.compare(second.getWeight(),
+                    first.getWeight());
+                return comparison != 0 ? comparison
+                    : first.getValue().compareTo(second.getValue());
+            });
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,1199 @@
+/*
+ * File:                ParallelCorpusVectorizer.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.vector;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.math.matrix.custom.SparseMatrix;
+import gov.sandia.cognition.text.document.AbstractDocument;
+import gov.sandia.cognition.text.document.Document;
+import gov.sandia.cognition.text.document.Field;
+import gov.sandia.cognition.text.term.ConcurrentTermIndex;
+import gov.sandia.cognition.text.term.TermIndex;
+import gov.sandia.cognition.text.term.filter.TokenBufferFilterChain;
+import gov.sandia.cognition.text.token.AbstractCharacterBasedTokenizer;
+import gov.sandia.cognition.text.token.CharacterTokenCursor;
+import gov.sandia.cognition.text.token.TokenBuffer;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.ObjectUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Converts a stream of documents into a weighted document-by-term matrix in
+ * the compressed sparse row format. It does the same work as applying a
+ * {@code DocumentSingleFieldConverter}, {@code Tokenizer}, term filters,
+ * {@code BagOfWordsTransform} and {@code CompositeLocalGlobalTermWeighter} to
+ * each document in turn, but without creating a token, term or vector object
+ * per document. Instead, the pipeline runs in two passes:
+ * <ol>
+ *   <li>The documents are read in batches. Each batch is split between the
+ *     threads, which tokenize the text field with a {@code CharacterTokenCursor},
+ *     filter the tokens in place with a {@code TokenBufferFilterChain}, look
+ *     them up in the term index, and count the terms of each document into
+ *     primitive arrays. The rows of the batch are then kept as an exactly
+ *     sized chunk in document order.</li>
+ *   <li>Once all the documents have been read, the chunks are copied into the
+ *     matrix arrays, releasing each chunk as it goes. The document
+ *     frequencies and term entropies are computed from the matrix arrays,
+ *     which gives the global weights. The local and global weights and the
+ *     normalization are then applied to the rows in place and in
+ *     parallel.</li>
+ * </ol>
+ * Row i of the result is the vector for the i-th document and column j is the
+ * term with index j in the term index.
+ * <p>
+ * The global weights and number of documents of the corpus are kept, so that
+ * new documents can later be vectorized with the same weights by passing
+ * true for {@code useExistingGlobalWeights}.
+ * <p>
+ * When new terms are added, the term index should be a
+ * {@code ConcurrentTermIndex} so that the threads can intern terms without
+ * blocking each other; any other index is locked while a term is interned.
+ * Since the threads race to add new terms, the indices that new terms get
+ * depend on the thread scheduling, but each column always matches the index
+ * of its term. To get the same indices on every run, build the vocabulary
+ * first and vectorize against a fixed index (such as a
+ * {@code FrozenTermIndex}) without adding new terms. In that case the index
+ * is only read by the threads, and {@code prepareForConcurrentReads} is
+ * called on it first so that any lazily built lookup table is created before
+ * they start.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     BagOfWordsTransform
+ * @see     gov.sandia.cognition.text.term.vector.weighter.CompositeLocalGlobalTermWeighter
+ */
+public class ParallelCorpusVectorizer
+    extends AbstractCloneableSerializable
+    implements ParallelAlgorithm
+{
+
+    /** The default number of documents read per batch is {@value}. */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    /**
+     * The local weighting of the count of a term in a document.
+     */
+    public static enum LocalWeighting
+    {
+        /** The weight is the count of the term, as when there is no local
+         *  weighter. */
+        COUNT,
+
+        /** The weight is the count of the term divided by the number of
+         *  terms in the document, as in
+         *  {@code TermFrequencyLocalTermWeighter}. */
+        TERM_FREQUENCY,
+
+        /** The weight is one if the term occurs, as in
+         *  {@code BinaryLocalTermWeighter}. */
+        BINARY,
+
+        /** The weight is log(1 + count), as in
+         *  {@code LogLocalTermWeighter}. */
+        LOG;
+
+        /**
+         * Computes the local weight for a count.
+         *
+         * @param   count
+         *      The number of times the term occurs in the document. Must be
+         *      positive.
+         * @param   documentLength
+         *      The total count of all the terms in the document.
+         * @return
+         *      The local weight.
+         */
+        public double computeWeight(
+            final double count,
+            final double documentLength)
+        {
+            switch (this)
+            {
+                case TERM_FREQUENCY:
+                    return count / documentLength;
+                case BINARY:
+                    return 1.0;
+                case LOG:
+                    return Math.log(1.0 + count);
+                default:
+                    return count;
+            }
+        }
+    }
+
+    /**
+     * The global weighting of a term over the corpus.
+     */
+    public static enum GlobalWeighting
+    {
+        /** Every term has a weight of one. */
+        NONE,
+
+        /** The weight is log(documentCount / documentFrequency), as in
+         *  {@code InverseDocumentFrequencyGlobalTermWeighter}. */
+        INVERSE_DOCUMENT_FREQUENCY,
+
+        /** The weight is one plus the normalized negative entropy of the
+         *  term over the documents, as in {@code EntropyGlobalTermWeighter}. */
+        ENTROPY
+    }
+
+    /** The name of the document field to vectorize. */
+    protected String fieldName;
+
+    /** The tokenizer. */
+    protected AbstractCharacterBasedTokenizer tokenizer;
+
+    /** The chain of filters applied to each token in place. */
+    protected TokenBufferFilterChain filters;
+
+    /** The index of the terms, which gives the columns. */
+    protected TermIndex termIndex;
+
+    /** True to add new terms to the term index; false to skip any term that
+     *  is not already in it. */
+    protected boolean addNewTerms;
+
+    /** The local weighting. */
+    protected LocalWeighting localWeighting;
+
+    /** The global weighting. */
+    protected GlobalWeighting globalWeighting;
+
+    /** True to normalize each row to unit length. */
+    protected boolean unitNormalize;
+
+    /** The number of documents read per batch. */
+    protected int batchSize;
+
+    /** The global weight of each term from the last corpus vectorized. */
+    protected Vector globalWeights;
+
+    /** The number of documents in the last corpus vectorized. */
+    protected int documentCount;
+
+    /** The thread pool. */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new {@code ParallelCorpusVectorizer} for the body field of
+     * the documents that adds new terms to a new {@code ConcurrentTermIndex}
+     * and computes normalized tf-idf weights.
+     *
+     * @param   tokenizer
+     *      The tokenizer.
+     * @param   filters
+     *      The chain of filters applied to each token in place.
+     */
+    public ParallelCorpusVectorizer(
+        final AbstractCharacterBasedTokenizer tokenizer,
+        final TokenBufferFilterChain filters)
+    {
+        this(AbstractDocument.BODY_FIELD_NAME, tokenizer, filters,
+            new ConcurrentTermIndex(), true, LocalWeighting.TERM_FREQUENCY,
+            GlobalWeighting.INVERSE_DOCUMENT_FREQUENCY, true);
+    }
+
+    /**
+     * Creates a new {@code ParallelCorpusVectorizer}.
+     *
+     * @param   fieldName
+     *      The name of the document field to vectorize.
+     * @param   tokenizer
+     *      The tokenizer.
+     * @param   filters
+     *      The chain of filters applied to each token in place.
+     * @param   termIndex
+     *      The index of the terms, which gives the columns.
+     * @param   addNewTerms
+     *      True to add new terms to the term index; false to skip any term
+     *      that is not already in it.
+     * @param   localWeighting
+     *      The local weighting.
+     * @param   globalWeighting
+     *      The global weighting.
+     * @param   unitNormalize
+     *      True to normalize each row to unit length.
+     */
+    public ParallelCorpusVectorizer(
+        final String fieldName,
+        final AbstractCharacterBasedTokenizer tokenizer,
+        final TokenBufferFilterChain filters,
+        final TermIndex termIndex,
+        final boolean addNewTerms,
+        final LocalWeighting localWeighting,
+        final GlobalWeighting globalWeighting,
+        final boolean unitNormalize)
+    {
+        super();
+
+        this.setFieldName(fieldName);
+        this.setTokenizer(tokenizer);
+        this.setFilters(filters);
+        this.setTermIndex(termIndex);
+        this.setAddNewTerms(addNewTerms);
+        this.setLocalWeighting(localWeighting);
+        this.setGlobalWeighting(globalWeighting);
+        this.setUnitNormalize(unitNormalize);
+        this.setBatchSize(DEFAULT_BATCH_SIZE);
+        this.globalWeights = null;
+        this.documentCount = 0;
+    }
+
+    @Override
+    public ParallelCorpusVectorizer clone()
+    {
+        final ParallelCorpusVectorizer clone =
+            (ParallelCorpusVectorizer) super.clone();
+        clone.tokenizer = ObjectUtil.cloneSafe(this.tokenizer);
+        clone.filters = ObjectUtil.cloneSafe(this.filters);
+        clone.termIndex = ObjectUtil.cloneSmart(this.termIndex);
+        clone.globalWeights = ObjectUtil.cloneSafe(this.globalWeights);
+        clone.threadPool = null;
+        return clone;
+    }
+
+    /**
+     * Vectorizes the given documents into a document-by-term matrix. The
+     * documents are only iterated over once, so they can be streamed. The
+     * global weights and document count are computed from these documents
+     * and kept for the corpus.
+     *
+     * @param   documents
+     *      The documents to vectorize. A document without the field is an
+     *      empty row.
+     * @return
+     *      The weighted document-by-term matrix in the compressed sparse row
+     *      format. Its number of columns is the number of terms in the term
+     *      index once all the documents have been read.
+     */
+    public SparseMatrix vectorize(
+        final Iterable<? extends Document> documents)
+    {
+        return this.vectorize(documents, false);
+    }
+
+    /**
+     * Vectorizes the given documents into a document-by-term matrix. The
+     * documents are only iterated over once, so they can be streamed.
+     *
+     * @param   documents
+     *      The documents to vectorize. A document without the field is an
+     *      empty row.
+     * @param   useExistingGlobalWeights
+     *      True to weight the documents with the global weights kept from the
+     *      corpus that was last vectorized, such as to vectorize new documents
+     *      consistently with it. Terms added since then get the weight of a
+     *      term that did not occur in the corpus. False to compute the global
+     *      weights from these documents and keep them, along with the number
+     *      of documents.
+     * @return
+     *      The weighted document-by-term matrix in the compressed sparse row
+     *      format. Its number of columns is the number of terms in the term
+     *      index once all the documents have been read.
+     * @throws  IllegalStateException
+     *      If the existing global weights should be used but no corpus has
+     *      been vectorized yet.
+     */
+    public SparseMatrix vectorize(
+        final Iterable<? extends Document> documents,
+        final boolean useExistingGlobalWeights)
+    {
+        if (useExistingGlobalWeights && this.globalWeights == null)
+        {
+            throw new IllegalStateException(
+                "No corpus has been vectorized to get global weights from.");
+        }
+
+        if (!this.addNewTerms)
+        {
+            // The index is only read from the threads below.
+            this.termIndex.prepareForConcurrentReads();
+        }
+
+        // The first pass counts the terms of each document in batches.
+        final int taskCount = Math.max(1, this.getNumThreads());
+        final ArrayList<CountTask> countTasks =
+            new ArrayList<CountTask>(taskCount);
+        for (int i = 0; i < taskCount; i++)
+        {
+            countTasks.add(new CountTask());
+        }
+
+        final RowBuffer rows = new RowBuffer();
+        final ArrayList<Document> batch =
+            new ArrayList<Document>(this.batchSize);
+        for (Document document : documents)
+        {
+            batch.add(document);
+            if (batch.size() >= this.batchSize)
+            {
+                this.countBatch(batch, countTasks, rows);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty())
+        {
+            this.countBatch(batch, countTasks, rows);
+            batch.clear();
+        }
+
+        // The second pass assembles the matrix arrays, computes the global
+        // weights, and weights the rows.
+        final int rowCount = rows.rowCount;
+        final int termCount = this.termIndex.getTermCount();
+        final int[] firstInRows = rows.removeFirstInRows();
+        final int[] columns = rows.removeColumns();
+        final double[] values = rows.removeValues();
+        final double[] weights;
+        if (useExistingGlobalWeights)
+        {
+            // Start from the weights of terms that did not occur in the
+            // corpus, for any terms added since.
+            weights = this.computeGlobalWeights(this.documentCount, termCount,
+                columns, values, 0);
+            final int existingCount = Math.min(termCount,
+                this.globalWeights.getDimensionality());
+            for (int term = 0; term < existingCount; term++)
+            {
+                weights[term] = this.globalWeights.getElement(term);
+            }
+        }
+        else
+        {
+            weights = this.computeGlobalWeights(rowCount, termCount, columns,
+                values, values.length);
+        }
+
+        final int partitionCount = Math.max(1, Math.min(taskCount, rowCount));
+        final ArrayList<WeightTask> weightTasks =
+            new ArrayList<WeightTask>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++)
+        {
+            weightTasks.add(new WeightTask(firstInRows, columns, values,
+                weights,
+                partition * rowCount / partitionCount,
+                (partition + 1) * rowCount / partitionCount));
+        }
+        this.execute(weightTasks);
+
+        if (!useExistingGlobalWeights)
+        {
+            this.documentCount = rowCount;
+            this.globalWeights =
+                VectorFactory.getDenseDefault().copyArray(weights);
+        }
+        return new SparseMatrix(rowCount, termCount, firstInRows, columns,
+            values);
+    }
+
+    /**
+     * Counts the terms of a batch of documents in parallel and appends the
+     * rows to the buffer in document order.
+     *
+     * @param   batch
+     *      The batch of documents.
+     * @param   tasks
+     *      The tasks to split the batch between.
+     * @param   rows
+     *      The buffer of rows to append to.
+     */
+    protected void countBatch(
+        final ArrayList<Document> batch,
+        final ArrayList<CountTask> tasks,
+        final RowBuffer rows)
+    {
+        final int count = batch.size();
+        final int partitionCount = Math.min(tasks.size(), count);
+        final ArrayList<CountTask> active =
+            new ArrayList<CountTask>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++)
+        {
+            final CountTask task = tasks.get(partition);
+            task.setDocuments(batch, partition * count / partitionCount,
+                (partition + 1) * count / partitionCount);
+            active.add(task);
+        }
+        this.execute(active);
+
+        for (CountTask task : active)
+        {
+            rows.append(task);
+        }
+    }
+
+    /**
+     * Computes the global weight of each term from the counts in the matrix
+     * arrays.
+     *
+     * @param   rowCount
+     *      The number of rows (documents).
+     * @param   termCount
+     *      The number of terms.
+     * @param   columns
+     *      The column of each count.
+     * @param   counts
+     *      The counts.
+     * @param   size
+     *      The number of counts.
+     * @return
+     *      The global weight of each term.
+     */
+    protected double[] computeGlobalWeights(
+        final int rowCount,
+        final int termCount,
+        final int[] columns,
+        final double[] counts,
+        final int size)
+    {
+        final double[] weights = new double[termCount];
+        switch (this.globalWeighting)
+        {
+            case INVERSE_DOCUMENT_FREQUENCY:
+            {
+                // Each column appears at most once per row, so counting its
+                // entries gives the document frequency.
+                for (int i = 0; i < size; i++)
+                {
+                    weights[columns[i]] += 1.0;
+                }
+                for (int term = 0; term < termCount; term++)
+                {
+                    final double documentFrequency = weights[term];
+                    if (documentFrequency > 0.0)
+                    {
+                        weights[term] = Math.log(rowCount / documentFrequency);
+                    }
+                }
+                break;
+            }
+            case ENTROPY:
+            {
+                final double[] entropySums = new double[termCount];
+                for (int i = 0; i < size; i++)
+                {
+                    final double count = counts[i];
+                    weights[columns[i]] += count;
+                    entropySums[columns[i]] += count * Math.log(count);
+                }
+                final double logDocumentCount = Math.log(rowCount);
+                for (int term = 0; term < termCount; term++)
+                {
+                    final double occurrences = weights[term];
+                    double value = 1.0;
+                    if (occurrences != 0.0 && logDocumentCount != 0.0)
+                    {
+                        value += (entropySums[term] / occurrences
+                            - Math.log(occurrences)) / logDocumentCount;
+                    }
+                    weights[term] = value;
+                }
+                break;
+            }
+            default:
+                Arrays.fill(weights, 1.0);
+                break;
+        }
+        return weights;
+    }
+
+    /**
+     * Executes the given tasks on the thread pool.
+     *
+     * @param   tasks
+     *      The tasks to execute.
+     */
+    protected void execute(
+        final ArrayList<? extends Callable<Boolean>> tasks)
+    {
+        try
+        {
+            ParallelUtil.executeInParallel(tasks, this.getThreadPool());
+        }
+        catch (Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Gets the index of a token, adding it to the term index if new terms
+     * are being added.
+     *
+     * @param   token
+     *      The token.
+     * @return
+     *      The index of the token's term, or -1 if it is not in the index.
+     */
+    protected int getIndex(
+        final TokenBuffer token)
+    {
+        final TermIndex termIndex = this.termIndex;
+        if (!this.addNewTerms)
+        {
+            return termIndex.getIndexForName(token);
+        }
+        else if (termIndex instanceof ConcurrentTermIndex)
+        {
+            return ((ConcurrentTermIndex) termIndex).intern(token).getIndex();
+        }
+        else
+        {
+            synchronized (termIndex)
+            {
+                return termIndex.intern(token).getIndex();
+            }
+        }
+    }
+
+    /**
+     * Gets the name of the document field to vectorize.
+     *
+     * @return
+     *      The name of the field.
+     */
+    public String getFieldName()
+    {
+        return this.fieldName;
+    }
+
+    /**
+     * Sets the name of the document field to vectorize.
+     *
+     * @param   fieldName
+     *      The name of the field.
+     */
+    public void setFieldName(
+        final String fieldName)
+    {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Gets the tokenizer.
+     *
+     * @return
+     *      The tokenizer.
+     */
+    public AbstractCharacterBasedTokenizer getTokenizer()
+    {
+        return this.tokenizer;
+    }
+
+    /**
+     * Sets the tokenizer.
+     *
+     * @param   tokenizer
+     *      The tokenizer. Cannot be null.
+     */
+    public void setTokenizer(
+        final AbstractCharacterBasedTokenizer tokenizer)
+    {
+        ArgumentChecker.assertIsNotNull("tokenizer", tokenizer);
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Gets the chain of filters applied to each token in place.
+     *
+     * @return
+     *      The chain of filters.
+     */
+    public TokenBufferFilterChain getFilters()
+    {
+        return this.filters;
+    }
+
+    /**
+     * Sets the chain of filters applied to each token in place. The filters
+     * are shared between the threads, so they must be thread-safe.
+     *
+     * @param   filters
+     *      The chain of filters. Cannot be null.
+     */
+    public void setFilters(
+        final TokenBufferFilterChain filters)
+    {
+        ArgumentChecker.assertIsNotNull("filters", filters);
+        this.filters = filters;
+    }
+
+    /**
+     * Gets the index of the terms, which gives the columns.
+     *
+     * @return
+     *      The term index.
+     */
+    public TermIndex getTermIndex()
+    {
+        return this.termIndex;
+    }
+
+    /**
+     * Sets the index of the terms, which gives the columns.
+     *
+     * @param   termIndex
+     *      The term index. Cannot be null.
+     */
+    public void setTermIndex(
+        final TermIndex termIndex)
+    {
+        ArgumentChecker.assertIsNotNull("termIndex", termIndex);
+        this.termIndex = termIndex;
+    }
+
+    /**
+     * Gets whether new terms are added to the term index.
+     *
+     * @return
+     *      True to add new terms to the term index; false to skip any term
+     *      that is not already in it.
+     */
+    public boolean isAddNewTerms()
+    {
+        return this.addNewTerms;
+    }
+
+    /**
+     * Sets whether new terms are added to the term index.
+     *
+     * @param   addNewTerms
+     *      True to add new terms to the term index; false to skip any term
+     *      that is not already in it.
+     */
+    public void setAddNewTerms(
+        final boolean addNewTerms)
+    {
+        this.addNewTerms = addNewTerms;
+    }
+
+    /**
+     * Gets the local weighting.
+     *
+     * @return
+     *      The local weighting.
+     */
+    public LocalWeighting getLocalWeighting()
+    {
+        return this.localWeighting;
+    }
+
+    /**
+     * Sets the local weighting.
+     *
+     * @param   localWeighting
+     *      The local weighting. Cannot be null.
+     */
+    public void setLocalWeighting(
+        final LocalWeighting localWeighting)
+    {
+        ArgumentChecker.assertIsNotNull("localWeighting", localWeighting);
+        this.localWeighting = localWeighting;
+    }
+
+    /**
+     * Gets the global weighting.
+     *
+     * @return
+     *      The global weighting.
+     */
+    public GlobalWeighting getGlobalWeighting()
+    {
+        return this.globalWeighting;
+    }
+
+    /**
+     * Sets the global weighting.
+     *
+     * @param   globalWeighting
+     *      The global weighting. Cannot be null.
+     */
+    public void setGlobalWeighting(
+        final GlobalWeighting globalWeighting)
+    {
+        ArgumentChecker.assertIsNotNull("globalWeighting", globalWeighting);
+        this.globalWeighting = globalWeighting;
+    }
+
+    /**
+     * Gets whether each row is normalized to unit length.
+     *
+     * @return
+     *      True to normalize each row to unit length.
+     */
+    public boolean isUnitNormalize()
+    {
+        return this.unitNormalize;
+    }
+
+    /**
+     * Sets whether each row is normalized to unit length.
+     *
+     * @param   unitNormalize
+     *      True to normalize each row to unit length.
+     */
+    public void setUnitNormalize(
+        final boolean unitNormalize)
+    {
+        this.unitNormalize = unitNormalize;
+    }
+
+    /**
+     * Gets the number of documents read per batch.
+     *
+     * @return
+     *      The batch size.
+     */
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Sets the number of documents read per batch. Larger batches give the
+     * threads more work per batch but hold more documents in memory.
+     *
+     * @param   batchSize
+     *      The batch size. Must be positive.
+     */
+    public void setBatchSize(
+        final int batchSize)
+    {
+        ArgumentChecker.assertIsPositive("batchSize", batchSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the global weight of each term from the last corpus vectorized.
+     * They are used to weight new documents consistently with the corpus
+     * when vectorizing with {@code useExistingGlobalWeights}.
+     *
+     * @return
+     *      The global weights, or null if nothing has been vectorized.
+     */
+    public Vector getGlobalWeights()
+    {
+        return this.globalWeights;
+    }
+
+    /**
+     * Gets the number of documents in the last corpus vectorized.
+     *
+     * @return
+     *      The number of documents.
+     */
+    public int getDocumentCount()
+    {
+        return this.documentCount;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * A task that counts the terms of a range of the documents in a batch.
+     * It is reused between batches so that its buffers are only allocated
+     * once they need to grow.
+     */
+    protected class CountTask
+        extends Object
+        implements Callable<Boolean>
+    {
+
+        /** The token cursor. */
+        protected CharacterTokenCursor cursor;
+
+        /** The documents of the batch. */
+        protected ArrayList<Document> documents;
+
+        /** The first document. */
+        protected int start;
+
+        /** One past the last document. */
+        protected int end;
+
+        /** The count of each term in the current document, indexed by
+         *  term. It is all zeros between documents. */
+        protected int[] termCounts;
+
+        /** The terms that occur in the current document. */
+        protected int[] documentTerms;
+
+        /** The number of terms in each document of the range. */
+        protected int[] rowLengths;
+
+        /** The terms of the rows, in order. */
+        protected int[] columns;
+
+        /** The counts of the rows, in order. */
+        protected int[] counts;
+
+        /** The number of entries in the rows. */
+        protected int size;
+
+        /**
+         * Creates a new {@code CountTask}.
+         */
+        public CountTask()
+        {
+            super();
+
+            this.cursor = tokenizer.createTokenCursor();
+            this.termCounts = new int[1024];
+            this.documentTerms = new int[256];
+            this.rowLengths = new int[256];
+            this.columns = new int[1024];
+            this.counts = new int[1024];
+            this.size = 0;
+        }
+
+        /**
+         * Sets the range of documents for the task to count.
+         *
+         * @param   documents
+         *      The documents of the batch.
+         * @param   start
+         *      The first document.
+         * @param   end
+         *      One past the last document.
+         */
+        public void setDocuments(
+            final ArrayList<Document> documents,
+            final int start,
+            final int end)
+        {
+            this.documents = documents;
+            this.start = start;
+            this.end = end;
+            if (this.rowLengths.length < end - start)
+            {
+                this.rowLengths = new int[end - start];
+            }
+            this.size = 0;
+        }
+
+        @Override
+        public Boolean call()
+        {
+            final TokenBuffer token = this.cursor.getToken();
+            for (int i = this.start; i < this.end; i++)
+            {
+                final Field field =
+                    this.documents.get(i).getField(fieldName);
+                int termCount = 0;
+                if (field != null)
+                {
+                    this.cursor.reset(field.getText());
+                    while (this.cursor.next())
+                    {
+                        if (!filters.filterInPlace(token))
+                        {
+                            continue;
+                        }
+
+                        final int index = getIndex(token);
+                        if (index < 0)
+                        {
+                            continue;
+                        }
+
+                        if (index >= this.termCounts.length)
+                        {
+                            this.termCounts = Arrays.copyOf(this.termCounts,
+                                Math.max(index + 1,
+                                    2 * this.termCounts.length));
+                        }
+                        if (this.termCounts[index] == 0)
+                        {
+                            // The first time the term is in the document.
+                            if (termCount >= this.documentTerms.length)
+                            {
+                                this.documentTerms = Arrays.copyOf(
+                                    this.documentTerms, 2 * termCount);
+                            }
+                            this.documentTerms[termCount] = index;
+                            termCount++;
+                        }
+                        this.termCounts[index]++;
+                    }
+                }
+
+                // Append the row in term order and clear the counts for the
+                // next document.
+                Arrays.sort(this.documentTerms, 0, termCount);
+                if (this.size + termCount > this.columns.length)
+                {
+                    final int capacity = Math.max(this.size + termCount,
+                        2 * this.columns.length);
+                    this.columns = Arrays.copyOf(this.columns, capacity);
+                    this.counts = Arrays.copyOf(this.counts, capacity);
+                }
+                for (int j = 0; j < termCount; j++)
+                {
+                    final int index = this.documentTerms[j];
+                    this.columns[this.size] = index;
+                    this.counts[this.size] = this.termCounts[index];
+                    this.termCounts[index] = 0;
+                    this.size++;
+                }
+                this.rowLengths[i - this.start] = termCount;
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * A task that applies the local and global weights and the normalization
+     * to a range of rows in place.
+     */
+    protected class WeightTask
+        extends Object
+        implements Callable<Boolean>
+    {
+
+        /** The index of the first entry of each row. */
+        protected int[] firstInRows;
+
+        /** The column of each entry. */
+        protected int[] columns;
+
+        /** The values, which are counts on input and weights on output. */
+        protected double[] values;
+
+        /** The global weight of each term. */
+        protected double[] globalWeights;
+
+        /** The first row. */
+        protected int start;
+
+        /** One past the last row. */
+        protected int end;
+
+        /**
+         * Creates a new {@code WeightTask}.
+         *
+         * @param   firstInRows
+         *      The index of the first entry of each row.
+         * @param   columns
+         *      The column of each entry.
+         * @param   values
+         *      The values, which are counts on input and weights on output.
+         * @param   globalWeights
+         *      The global weight of each term.
+         * @param   start
+         *      The first row.
+         * @param   end
+         *      One past the last row.
+         */
+        public WeightTask(
+            final int[] firstInRows,
+            final int[] columns,
+            final double[] values,
+            final double[] globalWeights,
+            final int start,
+            final int end)
+        {
+            super();
+
+            this.firstInRows = firstInRows;
+            this.columns = columns;
+            this.values = values;
+            this.globalWeights = globalWeights;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Boolean call()
+        {
+            for (int row = this.start; row < this.end; row++)
+            {
+                final int rowStart = this.firstInRows[row];
+                final int rowEnd = this.firstInRows[row + 1];
+                double documentLength = 0.0;
+                for (int i = rowStart; i < rowEnd; i++)
+                {
+                    documentLength += this.values[i];
+                }
+
+                double sumOfSquares = 0.0;
+                for (int i = rowStart; i < rowEnd; i++)
+                {
+                    final double weight = localWeighting.computeWeight(
+                        this.values[i], documentLength)
+                        * this.globalWeights[this.columns[i]];
+                    this.values[i] = weight;
+                    sumOfSquares += weight * weight;
+                }
+
+                if (unitNormalize && sumOfSquares > 0.0)
+                {
+                    final double scale = 1.0 / Math.sqrt(sumOfSquares);
+                    for (int i = rowStart; i < rowEnd; i++)
+                    {
+                        this.values[i] *= scale;
+                    }
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * A buffer of rows in the compressed sparse row format, kept as one
+     * exactly sized chunk per batch so that the matrix arrays can be
+     * assembled without a second full copy of growable arrays.
+     */
+    protected static class RowBuffer
+        extends Object
+    {
+
+        /** The length of each row in each chunk. */
+        protected ArrayList<int[]> rowLengthChunks = new ArrayList<int[]>();
+
+        /** The column of each entry in each chunk. */
+        protected ArrayList<int[]> columnChunks = new ArrayList<int[]>();
+
+        /** The value of each entry in each chunk. */
+        protected ArrayList<double[]> valueChunks = new ArrayList<double[]>();
+
+        /** The number of rows. */
+        protected int rowCount = 0;
+
+        /** The number of entries. */
+        protected int size = 0;
+
+        /**
+         * Appends the rows counted by a task as a new chunk.
+         *
+         * @param   task
+         *      The task whose rows to append.
+         */
+        public void append(
+            final CountTask task)
+        {
+            final int addedRows = task.end - task.start;
+            if ((long) this.rowCount + addedRows >= Integer.MAX_VALUE
+                || (long) this.size + task.size > Integer.MAX_VALUE - 8)
+            {
+                throw new IllegalStateException(
+                    "Too many documents or entries for a sparse matrix.");
+            }
+
+            final double[] values = new double[task.size];
+            for (int i = 0; i < task.size; i++)
+            {
+                values[i] = task.counts[i];
+            }
+            this.rowLengthChunks.add(Arrays.copyOf(task.rowLengths,
+                addedRows));
+            this.columnChunks.add(Arrays.copyOf(task.columns, task.size));
+            this.valueChunks.add(values);
+            this.rowCount += addedRows;
+            this.size += task.size;
+        }
+
+        /**
+         * Creates the index of the first entry of each row, followed by the
+         * number of entries, and removes the row lengths from the buffer.
+         *
+         * @return
+         *      The first entry of each row.
+         */
+        public int[] removeFirstInRows()
+        {
+            final int[] result = new int[this.rowCount + 1];
+            int row = 0;
+            for (int[] chunk : this.rowLengthChunks)
+            {
+                for (int length : chunk)
+                {
+                    result[row + 1] = result[row] + length;
+                    row++;
+                }
+            }
+            this.rowLengthChunks.clear();
+            return result;
+        }
+
+        /**
+         * Creates the array of the column of each entry and removes the
+         * columns from the buffer, releasing each chunk once it is copied.
+         *
+         * @return
+         *      The column of each entry.
+         */
+        public int[] removeColumns()
+        {
+            final int[] result = new int[this.size];
+            int position = 0;
+            for (int i = 0; i < this.columnChunks.size(); i++)
+            {
+                final int[] chunk = this.columnChunks.set(i, null);
+                System.arraycopy(chunk, 0, result, position, chunk.length);
+                position += chunk.length;
+            }
+            this.columnChunks.clear();
+            return result;
+        }
+
+        /**
+         * Creates the array of the value of each entry and removes the values
+         * from the buffer, releasing each chunk once it is copied.
+         *
+         * @return
+         *      The value of each entry.
+         */
+        public double[] removeValues()
+        {
+            final double[] result = new double[this.size];
+            int position = 0;
+            for (int i = 0; i < this.valueChunks.size(); i++)
+            {
+                final double[] chunk = this.valueChunks.set(i, null);
+                System.arraycopy(chunk, 0, result, position, chunk.length);
+                position += chunk.length;
+            }
+            this.valueChunks.clear();
+            return result;
+        }
+
+    }
+
+}
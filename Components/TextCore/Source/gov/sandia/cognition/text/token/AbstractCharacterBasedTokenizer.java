@@ -14,10 +14,9 @@
 
 package gov.sandia.cognition.text.token;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.io.Reader;
-import java.util.LinkedList;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 
 /**
  * An abstract implementation of a tokenizer that considers each character
@@ -39,56 +38,40 @@ public abstract class AbstractCharacterBasedTokenizer
         super();
     }
 
+    @Override
+    public Iterable<Token> tokenize(
+        final String s)
+    {
+        // Tokenize directly from the string rather than through a reader.
+        return this.tokenize(this.createTokenCursor().reset(s));
+    }
+
     public Iterable<Token> tokenize(
         final Reader reader)
     {
-        // Create a buffered reader to do the tokenization.
-        final BufferedReader br = new BufferedReader(reader);
-        final LinkedList<Token> result = new LinkedList<Token>();
+        return this.tokenize(this.createTokenCursor().reset(reader));
+    }
 
+    /**
+     * Creates the list of tokens for the remaining text of a cursor.
+     *
+     * @param   cursor
+     *      The cursor to read the tokens from.
+     * @return
+     *      The list of tokens or null if there was an error reading the text.
+     */
+    protected Iterable<Token> tokenize(
+        final CharacterTokenCursor cursor)
+    {
+        final ArrayList<Token> result = new ArrayList<Token>();
         try
         {
-            // We are going to read the text into tokens. We keep track of
-            // the current index into the reader plus the starting point of
-            // each token. We read the data for each token into the string
-            // builder.
-            int index = 0;
-            int start = 0;
-            StringBuilder text = new StringBuilder();
-
-            // TODO: Is there a better way to read in the character?
-            final char[] buffer = new char[1];
-            while (br.read(buffer) == 1)
-            {
-                final char c = buffer[0];
-
-                //
-                if (!this.isTokenMember(c))
-                {
-                    if (text.length() > 0)
-                    {
-                        result.add(new DefaultToken(text.toString(), start));
-                        text = new StringBuilder();
-                    }
-
-                    start = index + 1;
-                }
-                else
-                {
-                    // This is a part of the current token, so add it.
-                    text.append(c);
-                }
-
-                index++;
-            }
-
-            // Take care of the last token, if there is one.
-            if (text.length() > 0)
+            while (cursor.next())
             {
-                result.add(new DefaultToken(text.toString(), start));
+                result.add(cursor.getToken().toToken());
             }
         }
-        catch (IOException e)
+        catch (UncheckedIOException e)
         {
             // Error during tokenization.
             return null;
@@ -97,6 +80,20 @@ public abstract class AbstractCharacterBasedTokenizer
         return result;
     }
 
+    /**
+     * Creates a new streaming cursor over the tokens of a text for this
+     * tokenizer. The cursor reuses a single buffer for all of its tokens,
+     * which avoids creating a {@code Token} and {@code String} per token.
+     * Each thread should use its own cursor.
+     *
+     * @return
+     *      A new token cursor for this tokenizer.
+     */
+    public CharacterTokenCursor createTokenCursor()
+    {
+        return new CharacterTokenCursor(this);
+    }
+
     /**
      * Determines if the given character is considered to be part of a token.
      *
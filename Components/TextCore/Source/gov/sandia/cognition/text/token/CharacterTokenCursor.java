@@ -0,0 +1,263 @@
+/*
+ * File:                CharacterTokenCursor.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.token;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+/**
+ * A streaming cursor over the tokens of a text for a character-based
+ * tokenizer. Instead of creating a {@code Token} object for each token, the
+ * cursor fills a single reusable {@code TokenBuffer} with the characters of
+ * the current token along with its offsets in the source. Text from a
+ * {@code Reader} is read in blocks into a reusable array, so a cursor that is
+ * reset for each new document does not allocate per token or per document
+ * once its buffers have grown to size.
+ * <p>
+ * The cursor is not thread-safe; each thread should create its own from the
+ * (shared) tokenizer. A typical loop looks like:
+ * <pre>
+ *     final CharacterTokenCursor cursor = tokenizer.createTokenCursor();
+ *     cursor.reset(text);
+ *     while (cursor.next())
+ *     {
+ *         final TokenBuffer token = cursor.getToken();
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class CharacterTokenCursor
+{
+
+    /** The default size of the block read from a reader is {@value}. */
+    public static final int DEFAULT_READ_BUFFER_SIZE = 8192;
+
+    /** The tokenizer that determines which characters are token members. */
+    protected AbstractCharacterBasedTokenizer tokenizer;
+
+    /** The token buffer that holds the current token. */
+    protected TokenBuffer token;
+
+    /** The text being tokenized, if the source is a character sequence. */
+    protected CharSequence text;
+
+    /** The reader being tokenized, if the source is a reader. */
+    protected Reader reader;
+
+    /** The block of characters read from the reader. */
+    protected char[] readBuffer;
+
+    /** The position of the next character in the read buffer. */
+    protected int readPosition;
+
+    /** The number of valid characters in the read buffer. */
+    protected int readLimit;
+
+    /** The offset in the source of the next character to read. */
+    protected int position;
+
+    /**
+     * Creates a new {@code CharacterTokenCursor} for the given tokenizer. It
+     * has no text until one of the reset methods is called.
+     *
+     * @param   tokenizer
+     *      The tokenizer that determines which characters are token members.
+     */
+    public CharacterTokenCursor(
+        final AbstractCharacterBasedTokenizer tokenizer)
+    {
+        super();
+
+        if (tokenizer == null)
+        {
+            throw new IllegalArgumentException("tokenizer cannot be null");
+        }
+
+        this.tokenizer = tokenizer;
+        this.token = new TokenBuffer();
+        this.readBuffer = null;
+        this.clearSource();
+    }
+
+    /**
+     * Clears the source of the cursor.
+     */
+    protected void clearSource()
+    {
+        this.text = null;
+        this.reader = null;
+        this.readPosition = 0;
+        this.readLimit = 0;
+        this.position = 0;
+        this.token.clear();
+    }
+
+    /**
+     * Resets the cursor to the start of the given text. The characters are
+     * read directly from the sequence without copying it.
+     *
+     * @param   text
+     *      The text to tokenize.
+     * @return
+     *      This cursor.
+     */
+    public CharacterTokenCursor reset(
+        final CharSequence text)
+    {
+        this.clearSource();
+        this.text = text;
+        return this;
+    }
+
+    /**
+     * Resets the cursor to the start of the given reader. The reader is read
+     * in blocks as the cursor advances and is not closed by the cursor.
+     *
+     * @param   reader
+     *      The reader to tokenize.
+     * @return
+     *      This cursor.
+     */
+    public CharacterTokenCursor reset(
+        final Reader reader)
+    {
+        this.clearSource();
+        this.reader = reader;
+        if (this.readBuffer == null)
+        {
+            this.readBuffer = new char[DEFAULT_READ_BUFFER_SIZE];
+        }
+        return this;
+    }
+
+    /**
+     * Advances the cursor to the next token. If there is one, its text and
+     * offsets are in the token buffer.
+     *
+     * @return
+     *      True if there is a next token; false if the end of the text has
+     *      been reached.
+     * @throws  UncheckedIOException
+     *      If there is an error reading from a reader.
+     */
+    public boolean next()
+    {
+        final TokenBuffer token = this.token;
+        token.clear();
+
+        int c;
+        while ((c = this.read()) >= 0)
+        {
+            final char character = (char) c;
+            if (this.tokenizer.isTokenMember(character))
+            {
+                // This is a part of the current token, so add it.
+                if (token.length() <= 0)
+                {
+                    token.setStart(this.position - 1);
+                }
+                token.append(character);
+            }
+            else if (token.length() > 0)
+            {
+                // The end of the current token.
+                break;
+            }
+        }
+
+        final int length = token.length();
+        token.setSourceLength(length);
+        return length > 0;
+    }
+
+    /**
+     * Reads the next character from the source.
+     *
+     * @return
+     *      The next character or -1 if the end of the source was reached.
+     */
+    protected int read()
+    {
+        if (this.text != null)
+        {
+            if (this.position < this.text.length())
+            {
+                final char c = this.text.charAt(this.position);
+                this.position++;
+                return c;
+            }
+            else
+            {
+                return -1;
+            }
+        }
+        else if (this.reader != null)
+        {
+            if (this.readPosition >= this.readLimit)
+            {
+                // Read in the next block.
+                try
+                {
+                    this.readLimit = this.reader.read(this.readBuffer);
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+
+                this.readPosition = 0;
+                if (this.readLimit <= 0)
+                {
+                    // End of the reader.
+                    this.reader = null;
+                    this.readLimit = 0;
+                    return -1;
+                }
+            }
+
+            final char c = this.readBuffer[this.readPosition];
+            this.readPosition++;
+            this.position++;
+            return c;
+        }
+        else
+        {
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the buffer holding the current token. The same buffer is reused
+     * for every token, so its contents are only valid until the next call to
+     * {@code next} or {@code reset}.
+     *
+     * @return
+     *      The buffer holding the current token.
+     */
+    public TokenBuffer getToken()
+    {
+        return this.token;
+    }
+
+    /**
+     * Gets the tokenizer that determines which characters are token members.
+     *
+     * @return
+     *      The tokenizer.
+     */
+    public AbstractCharacterBasedTokenizer getTokenizer()
+    {
+        return this.tokenizer;
+    }
+
+}
@@ -0,0 +1,377 @@
+/*
+ * File:                TokenBuffer.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.token;
+
+import java.util.Arrays;
+
+/**
+ * A mutable, reusable character buffer holding the text of a single token
+ * along with its position in the source text. It is the unit of work for the
+ * streaming tokenization pipeline: a {@code CharacterTokenCursor} fills the
+ * buffer with each token in turn and {@code TokenBufferFilter}s then rewrite
+ * it in place, so that no objects are created per token once the buffer has
+ * grown to the longest token seen.
+ * <p>
+ * Since the contents change as the buffer is reused, it intentionally does
+ * not override {@code equals} or {@code hashCode}. Use the static
+ * {@code contentHashCode} and {@code contentEquals} methods instead, which
+ * are consistent with {@code String}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     CharacterTokenCursor
+ */
+public class TokenBuffer
+    implements CharSequence
+{
+
+    /** The default initial capacity of the buffer is {@value}. */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    /** The characters in the buffer. Only the first length are valid. */
+    protected char[] characters;
+
+    /** The number of valid characters in the buffer. */
+    protected int length;
+
+    /** The starting point of the token in its source. */
+    protected int start;
+
+    /** The length of the token in its source, which may differ from the
+     *  length of the buffer once it has been rewritten by a filter. */
+    protected int sourceLength;
+
+    /**
+     * Creates a new, empty {@code TokenBuffer} with the default capacity.
+     */
+    public TokenBuffer()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty {@code TokenBuffer} with the given capacity.
+     *
+     * @param   capacity
+     *      The initial capacity of the buffer. Must be positive.
+     */
+    public TokenBuffer(
+        final int capacity)
+    {
+        super();
+
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        this.characters = new char[capacity];
+        this.clear();
+    }
+
+    /**
+     * Clears the buffer so that it is empty and starts at zero.
+     */
+    public void clear()
+    {
+        this.length = 0;
+        this.start = 0;
+        this.sourceLength = 0;
+    }
+
+    /**
+     * Appends a character to the end of the buffer, growing it if needed.
+     *
+     * @param   c
+     *      The character to append.
+     */
+    public void append(
+        final char c)
+    {
+        this.ensureCapacity(this.length + 1);
+        this.characters[this.length] = c;
+        this.length++;
+    }
+
+    /**
+     * Appends a range of characters to the end of the buffer, growing it if
+     * needed.
+     *
+     * @param   source
+     *      The array to copy the characters from.
+     * @param   offset
+     *      The offset of the first character to copy.
+     * @param   count
+     *      The number of characters to copy.
+     */
+    public void append(
+        final char[] source,
+        final int offset,
+        final int count)
+    {
+        this.ensureCapacity(this.length + count);
+        System.arraycopy(source, offset, this.characters, this.length, count);
+        this.length += count;
+    }
+
+    /**
+     * Replaces the contents of the buffer with a range of characters. The
+     * position in the source is unchanged.
+     *
+     * @param   source
+     *      The array to copy the characters from.
+     * @param   offset
+     *      The offset of the first character to copy.
+     * @param   count
+     *      The number of characters to copy.
+     */
+    public void setCharacters(
+        final char[] source,
+        final int offset,
+        final int count)
+    {
+        this.length = 0;
+        this.append(source, offset, count);
+    }
+
+    /**
+     * Makes sure the buffer can hold at least the given number of
+     * characters.
+     *
+     * @param   capacity
+     *      The minimum capacity.
+     */
+    public void ensureCapacity(
+        final int capacity)
+    {
+        if (capacity > this.characters.length)
+        {
+            this.characters = Arrays.copyOf(this.characters,
+                Math.max(capacity, 2 * this.characters.length));
+        }
+    }
+
+    /**
+     * Sets the character at the given position.
+     *
+     * @param   index
+     *      The index of the character. Must be less than the length.
+     * @param   c
+     *      The new character.
+     */
+    public void setCharAt(
+        final int index,
+        final char c)
+    {
+        if (index < 0 || index >= this.length)
+        {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        this.characters[index] = c;
+    }
+
+    public char charAt(
+        final int index)
+    {
+        if (index < 0 || index >= this.length)
+        {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        return this.characters[index];
+    }
+
+    public int length()
+    {
+        return this.length;
+    }
+
+    /**
+     * Sets the length of the buffer. It can only be used to shorten the
+     * contents.
+     *
+     * @param   length
+     *      The new length. Must be between zero and the current length.
+     */
+    public void setLength(
+        final int length)
+    {
+        if (length < 0 || length > this.length)
+        {
+            throw new IndexOutOfBoundsException("length: " + length);
+        }
+        this.length = length;
+    }
+
+    public String subSequence(
+        final int start,
+        final int end)
+    {
+        if (start < 0 || end > this.length || start > end)
+        {
+            throw new IndexOutOfBoundsException(
+                "start: " + start + ", end: " + end);
+        }
+        return new String(this.characters, start, end - start);
+    }
+
+    /**
+     * Creates a new {@code String} with the current contents of the buffer.
+     *
+     * @return
+     *      The contents of the buffer as a string.
+     */
+    @Override
+    public String toString()
+    {
+        return new String(this.characters, 0, this.length);
+    }
+
+    /**
+     * Creates a new {@code DefaultToken} from the current contents and
+     * position of the buffer.
+     *
+     * @return
+     *      A new token with the contents of the buffer.
+     */
+    public DefaultToken toToken()
+    {
+        return new DefaultToken(this.toString(), this.start,
+            this.sourceLength);
+    }
+
+    /**
+     * Gets the underlying character array. Only the first {@code length()}
+     * characters are valid and the array may be replaced when the buffer
+     * grows.
+     *
+     * @return
+     *      The underlying character array.
+     */
+    public char[] getCharacters()
+    {
+        return this.characters;
+    }
+
+    /**
+     * Gets the starting point of the token in its source.
+     *
+     * @return
+     *      The starting point of the token.
+     */
+    public int getStart()
+    {
+        return this.start;
+    }
+
+    /**
+     * Sets the starting point of the token in its source.
+     *
+     * @param   start
+     *      The starting point of the token.
+     */
+    public void setStart(
+        final int start)
+    {
+        this.start = start;
+    }
+
+    /**
+     * Gets the length of the token in its source. This is the length of the
+     * token as it was read, before any filter rewrote the buffer.
+     *
+     * @return
+     *      The length of the token in its source.
+     */
+    public int getSourceLength()
+    {
+        return this.sourceLength;
+    }
+
+    /**
+     * Sets the length of the token in its source.
+     *
+     * @param   sourceLength
+     *      The length of the token in its source.
+     */
+    public void setSourceLength(
+        final int sourceLength)
+    {
+        this.sourceLength = sourceLength;
+    }
+
+    /**
+     * Gets the end of the token in its source (exclusive).
+     *
+     * @return
+     *      The end of the token in its source.
+     */
+    public int getEnd()
+    {
+        return this.start + this.sourceLength;
+    }
+
+    /**
+     * Computes the hash code of the contents of a character sequence. It is
+     * the same as {@code toString().hashCode()} but does not create a string.
+     *
+     * @param   text
+     *      The character sequence.
+     * @return
+     *      The hash code of the contents, which is equal to that of the
+     *      {@code String} with the same contents.
+     */
+    public static int contentHashCode(
+        final CharSequence text)
+    {
+        if (text instanceof String)
+        {
+            // Strings cache their hash code.
+            return text.hashCode();
+        }
+
+        int hash = 0;
+        final int length = text.length();
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Determines if two character sequences have the same contents.
+     *
+     * @param   first
+     *      The first character sequence.
+     * @param   second
+     *      The second character sequence.
+     * @return
+     *      True if both have the same characters; otherwise, false.
+     */
+    public static boolean contentEquals(
+        final CharSequence first,
+        final CharSequence second)
+    {
+        final int length = first.length();
+        if (length != second.length())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++)
+        {
+            if (first.charAt(i) != second.charAt(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -74,7 +74,6 @@ public class LatentSemanticAnalysis
     implements BatchLearner<Collection<? extends Vectorizable>, Transform>
 {
 // TODO: Implement an iterative LSA that allows documents to be added and removed.
-// TODO: Implement a sparse LSA.
 
     /** The default requested rank is {@value}. */
     public static final int DEFAULT_REQUESTED_RANK = 10;
@@ -0,0 +1,718 @@
+/*
+ * File:            MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.topic;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationReferences;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A fast version of {@link LatentDirichletAllocationVectorGibbsSampler} whose
+ * per-occurrence cost does not depend on the number of topics. Instead of
+ * computing the full conditional distribution over all topics, each
+ * occurrence takes a few Metropolis-Hastings steps that alternate between a
+ * document proposal, proportional to the document-topic counts plus alpha,
+ * and a term proposal, proportional to the topic-term counts plus beta. Both
+ * proposals are sampled in constant time by picking a random occurrence of
+ * the document or term and using its topic, so no alias tables need to be
+ * built, and most of the terms of the acceptance ratio cancel out.
+ * <p>
+ * The documents are partitioned across the threads of a thread pool. Each
+ * partition samples against the shared topic-term counts from the start of
+ * the iteration plus its own sparse changes to them, and the shared counts
+ * are synchronized at the end of every iteration. With a single thread this
+ * is an exact Markov Chain Monte Carlo algorithm; with more it is the usual
+ * approximate distributed sampler. Since a partition only stores the
+ * (topic, term) counts that its reassignments changed, the extra memory per
+ * thread does not grow with the number of topics times the number of terms.
+ * The result is the same as the one produced by the other samplers.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+@PublicationReferences(
+    references={
+        @PublicationReference(
+            author={"Jinhui Yuan", "Fei Gao", "Qirong Ho", "Wei Dai",
+                "Jinliang Wei", "Xun Zheng", "Eric P. Xing",
+                "Tie-Yan Liu", "Wei-Ying Ma"},
+            title="LightLDA: Big Topic Models on Modest Computer Clusters",
+            year=2015,
+            type=PublicationType.Conference,
+            publication="Proceedings of the 24th International Conference on World Wide Web",
+            pages={1351, 1361},
+            url="https://arxiv.org/abs/1412.1576"),
+        @PublicationReference(
+            author={"Jianfei Chen", "Kaiwei Li", "Jun Zhu", "Wenguang Chen"},
+            title="WarpLDA: a Cache Efficient O(1) Algorithm for Latent Dirichlet Allocation",
+            year=2016,
+            type=PublicationType.Journal,
+            publication="Proceedings of the VLDB Endowment",
+            pages={744, 755},
+            url="https://arxiv.org/abs/1510.08628"),
+        @PublicationReference(
+            author={"David Newman", "Arthur Asuncion", "Padhraic Smyth",
+                "Max Welling"},
+            title="Distributed Algorithms for Topic Models",
+            year=2009,
+            type=PublicationType.Journal,
+            publication="Journal of Machine Learning Research",
+            pages={1801, 1828},
+            url="http://www.jmlr.org/papers/volume10/newman09a/newman09a.pdf")
+    }
+)
+public class MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler
+    extends LatentDirichletAllocationVectorGibbsSampler
+    implements ParallelAlgorithm
+{
+
+    /** The default number of Metropolis-Hastings steps per occurrence is
+     *  {@value}. */
+    public static final int DEFAULT_METROPOLIS_HASTINGS_STEPS = 2;
+
+    /** The initial capacity of the table of local changes to the topic-term
+     *  counts in each partition, which is {@value}. */
+    protected static final int INITIAL_DELTA_CAPACITY = 1024;
+
+    /** The key marking an empty slot in the table of local changes. */
+    protected static final long EMPTY_KEY = -1L;
+
+    /** The number of Metropolis-Hastings steps taken for each occurrence.
+     *  The steps alternate between the document and term proposals. */
+    protected int metropolisHastingsSteps;
+
+    /** The thread pool used for parallelization. */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /** The index of the first occurrence of each document, plus the total
+     *  number of occurrences at the end. */
+    protected transient int[] documentOccurrenceStarts;
+
+    /** The term of each occurrence. */
+    protected transient int[] occurrenceTerms;
+
+    /** The index into termOccurrences of the first occurrence of each term,
+     *  plus the total number of occurrences at the end. */
+    protected transient int[] termOccurrenceStarts;
+
+    /** The occurrences grouped by term. */
+    protected transient int[] termOccurrences;
+
+    /** The topic assignments at the start of the current iteration, which
+     *  are used to merge the counts from the partitions. */
+    protected transient int[] previousTopicAssignments;
+
+    /** The tasks that sample each partition of the documents. */
+    protected transient ArrayList<PartitionSampleTask> tasks;
+
+    /**
+     * Creates a new
+     * {@code MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler}
+     * with default parameters.
+     */
+    public MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler()
+    {
+        this(DEFAULT_TOPIC_COUNT, DEFAULT_ALPHA, DEFAULT_BETA,
+            DEFAULT_MAX_ITERATIONS, DEFAULT_BURN_IN_ITERATIONS,
+            DEFAULT_ITERATIONS_PER_SAMPLE, new Random());
+    }
+
+    /**
+     * Creates a new
+     * {@code MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler}
+     * with the given parameters.
+     *
+     * @param   topicCount
+     *      The number of topics for the algorithm to create. Must be positive.
+     * @param   alpha
+     *      The alpha parameter controlling the Dirichlet distribution for the
+     *      document-topic probabilities. It acts as a prior weight assigned to
+     *      the document-topic counts. Must be positive.
+     * @param   beta
+     *      The beta parameter controlling the Dirichlet distribution for the
+     *      topic-term probabilities. It acts as a prior weight assigned to
+     *      the topic-term counts.
+     * @param   maxIterations
+     *      The maximum number of iterations to run for. Must be positive.
+     * @param   burnInIterations
+     *      The number of burn-in iterations for the Markov Chain Monte Carlo
+     *      algorithm to run before sampling begins.
+     * @param   iterationsPerSample
+     *      The number of iterations to the Markov Chain Monte Carlo algorithm
+     *      between samples (after the burn-in iterations).
+     * @param   random
+     *      The random number generator to use.
+     */
+    public MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler(
+        final int topicCount,
+        final double alpha,
+        final double beta,
+        final int maxIterations,
+        final int burnInIterations,
+        final int iterationsPerSample,
+        final Random random)
+    {
+        super(topicCount, alpha, beta, maxIterations, burnInIterations,
+            iterationsPerSample, random);
+
+        this.setMetropolisHastingsSteps(DEFAULT_METROPOLIS_HASTINGS_STEPS);
+    }
+
+    @Override
+    public MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler clone()
+    {
+        final MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler clone =
+            (MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler)
+                super.clone();
+        clone.threadPool = null;
+        return clone;
+    }
+
+    @Override
+    protected boolean initializeAlgorithm()
+    {
+        if (!super.initializeAlgorithm())
+        {
+            return false;
+        }
+
+        final int occurrenceCount = this.occurrenceTopicAssignments.length;
+
+        // Lay out where each document starts and the term of each occurrence,
+        // in the same order used by the base class.
+        this.documentOccurrenceStarts = new int[this.documentCount + 1];
+        this.occurrenceTerms = new int[occurrenceCount];
+        this.termOccurrenceStarts = new int[this.termCount + 1];
+        int docTermIndex = 0;
+        int occurrence = 0;
+        for (int document = 0; document < this.documentCount; document++)
+        {
+            this.documentOccurrenceStarts[document] = occurrence;
+            final int docUniqueTerms = this.documentTermPairsCounts[document];
+            for (int i = 0; i < docUniqueTerms; i++)
+            {
+                final int term = this.documentTerms[docTermIndex];
+                final int count = this.documentTermCounts[docTermIndex];
+                for (int j = 0; j < count; j++)
+                {
+                    this.occurrenceTerms[occurrence] = term;
+                    occurrence++;
+                }
+                this.termOccurrenceStarts[term + 1] += count;
+                docTermIndex++;
+            }
+        }
+        this.documentOccurrenceStarts[this.documentCount] = occurrence;
+
+        // Group the occurrences by term with a counting sort.
+        for (int term = 0; term < this.termCount; term++)
+        {
+            this.termOccurrenceStarts[term + 1] +=
+                this.termOccurrenceStarts[term];
+        }
+        this.termOccurrences = new int[occurrenceCount];
+        final int[] positions = this.termOccurrenceStarts.clone();
+        for (occurrence = 0; occurrence < occurrenceCount; occurrence++)
+        {
+            final int term = this.occurrenceTerms[occurrence];
+            this.termOccurrences[positions[term]] = occurrence;
+            positions[term]++;
+        }
+
+        this.previousTopicAssignments = new int[occurrenceCount];
+
+        // Split the documents into contiguous partitions with about the same
+        // number of occurrences.
+        final int partitionCount = Math.max(1,
+            Math.min(this.getNumThreads(), this.documentCount));
+        this.tasks = new ArrayList<PartitionSampleTask>(partitionCount);
+        int start = 0;
+        for (int partition = 0; partition < partitionCount; partition++)
+        {
+            final long target = (long) occurrenceCount * (partition + 1)
+                / partitionCount;
+            int end = start;
+            while (end < this.documentCount
+                && (end == start
+                    || this.documentOccurrenceStarts[end] < target))
+            {
+                end++;
+            }
+            if (partition == partitionCount - 1)
+            {
+                end = this.documentCount;
+            }
+            if (end > start)
+            {
+                this.tasks.add(new PartitionSampleTask(start, end));
+            }
+            start = end;
+        }
+
+        return true;
+    }
+
+    @Override
+    protected boolean step()
+    {
+        // Remember the current assignments. The term proposal is based on
+        // them and they are used to merge the counts afterwards.
+        System.arraycopy(this.occurrenceTopicAssignments, 0,
+            this.previousTopicAssignments, 0,
+            this.occurrenceTopicAssignments.length);
+
+        for (PartitionSampleTask task : this.tasks)
+        {
+            task.prepare(new SplitMixRandom(this.random.nextLong()));
+        }
+
+        try
+        {
+            ParallelUtil.executeInParallel(this.tasks, this.getThreadPool());
+        }
+        catch (Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+
+        // Synchronize the shared topic-term counts with the changes made by
+        // all the partitions.
+        for (int occurrence = 0;
+            occurrence < this.occurrenceTopicAssignments.length;
+            occurrence++)
+        {
+            final int oldTopic = this.previousTopicAssignments[occurrence];
+            final int newTopic = this.occurrenceTopicAssignments[occurrence];
+            if (oldTopic != newTopic)
+            {
+                final int term = this.occurrenceTerms[occurrence];
+                this.topicTermCount[oldTopic][term] -= 1;
+                this.topicTermSum[oldTopic] -= 1;
+                this.topicTermCount[newTopic][term] += 1;
+                this.topicTermSum[newTopic] += 1;
+            }
+        }
+
+        if (this.iteration >= this.burnInIterations
+            && (this.iteration - this.burnInIterations)
+                % this.iterationsPerSample == 0)
+        {
+            this.readParameters();
+        }
+
+        return true;
+    }
+
+    @Override
+    protected void cleanupAlgorithm()
+    {
+        super.cleanupAlgorithm();
+
+        // Free the extra workspace.
+        this.documentOccurrenceStarts = null;
+        this.occurrenceTerms = null;
+        this.termOccurrenceStarts = null;
+        this.termOccurrences = null;
+        this.previousTopicAssignments = null;
+        this.tasks = null;
+    }
+
+    /**
+     * Gets the number of Metropolis-Hastings steps taken for each occurrence
+     * in each iteration.
+     *
+     * @return
+     *      The number of Metropolis-Hastings steps.
+     */
+    public int getMetropolisHastingsSteps()
+    {
+        return this.metropolisHastingsSteps;
+    }
+
+    /**
+     * Sets the number of Metropolis-Hastings steps taken for each occurrence
+     * in each iteration. The steps alternate between the document and term
+     * proposals, so it should normally be even.
+     *
+     * @param   metropolisHastingsSteps
+     *      The number of Metropolis-Hastings steps. Must be positive.
+     */
+    public void setMetropolisHastingsSteps(
+        final int metropolisHastingsSteps)
+    {
+        ArgumentChecker.assertIsPositive("metropolisHastingsSteps",
+            metropolisHastingsSteps);
+        this.metropolisHastingsSteps = metropolisHastingsSteps;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Mixes the bits of a (topic, term) key into a hash code for the table of
+     * local changes.
+     *
+     * @param   key
+     *      The key.
+     * @return
+     *      The hash code.
+     */
+    protected static int mix(
+        final long key)
+    {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * A task that samples the topics for a contiguous range of documents
+     * against the shared topic-term counts plus its own changes to them. The
+     * changes are kept in a small open-addressing hash table keyed by the
+     * (topic, term) pair, which is cleared at the start of every iteration.
+     */
+    protected class PartitionSampleTask
+        extends Object
+        implements Callable<Boolean>
+    {
+
+        /** The first document in the partition. */
+        protected int documentStart;
+
+        /** One past the last document in the partition. */
+        protected int documentEnd;
+
+        /** The (topic, term) keys of the local changes to the topic-term
+         *  counts, with EMPTY_KEY marking an empty slot. */
+        protected long[] deltaKeys;
+
+        /** The local changes to the topic-term counts for each key. */
+        protected int[] deltaCounts;
+
+        /** The number of keys in the table of local changes. */
+        protected int deltaSize;
+
+        /** The local copy of the topic-term sums. */
+        protected int[] localTopicTermSum;
+
+        /** The random number generator for the current iteration. */
+        protected Random localRandom;
+
+        /**
+         * Creates a new {@code PartitionSampleTask}.
+         *
+         * @param   documentStart
+         *      The first document in the partition.
+         * @param   documentEnd
+         *      One past the last document in the partition.
+         */
+        public PartitionSampleTask(
+            final int documentStart,
+            final int documentEnd)
+        {
+            super();
+
+            this.documentStart = documentStart;
+            this.documentEnd = documentEnd;
+            this.deltaKeys = new long[INITIAL_DELTA_CAPACITY];
+            Arrays.fill(this.deltaKeys, EMPTY_KEY);
+            this.deltaCounts = new int[INITIAL_DELTA_CAPACITY];
+            this.deltaSize = 0;
+            this.localTopicTermSum = new int[topicCount];
+        }
+
+        /**
+         * Prepares the task for the next iteration by clearing the local
+         * changes and copying the shared topic-term sums.
+         *
+         * @param   localRandom
+         *      The random number generator to use for the iteration.
+         */
+        public void prepare(
+            final Random localRandom)
+        {
+            if (this.deltaSize > 0)
+            {
+                Arrays.fill(this.deltaKeys, EMPTY_KEY);
+                Arrays.fill(this.deltaCounts, 0);
+                this.deltaSize = 0;
+            }
+            System.arraycopy(topicTermSum, 0, this.localTopicTermSum, 0,
+                topicCount);
+            this.localRandom = localRandom;
+        }
+
+        /**
+         * Gets the current count of a term in a topic, which is the shared
+         * count from the start of the iteration plus the local change.
+         *
+         * @param   topic
+         *      The topic.
+         * @param   term
+         *      The term.
+         * @return
+         *      The current topic-term count.
+         */
+        protected int getTopicTermCount(
+            final int topic,
+            final int term)
+        {
+            final long key = (long) topic * termCount + term;
+            final int mask = this.deltaKeys.length - 1;
+            int slot = mix(key) & mask;
+            while (this.deltaKeys[slot] != EMPTY_KEY)
+            {
+                if (this.deltaKeys[slot] == key)
+                {
+                    return topicTermCount[topic][term]
+                        + this.deltaCounts[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return topicTermCount[topic][term];
+        }
+
+        /**
+         * Adds to the local change of the count of a term in a topic.
+         *
+         * @param   topic
+         *      The topic.
+         * @param   term
+         *      The term.
+         * @param   amount
+         *      The amount to add.
+         */
+        protected void addTopicTermCount(
+            final int topic,
+            final int term,
+            final int amount)
+        {
+            final long key = (long) topic * termCount + term;
+            final int mask = this.deltaKeys.length - 1;
+            int slot = mix(key) & mask;
+            while (this.deltaKeys[slot] != EMPTY_KEY)
+            {
+                if (this.deltaKeys[slot] == key)
+                {
+                    this.deltaCounts[slot] += amount;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            this.deltaKeys[slot] = key;
+            this.deltaCounts[slot] = amount;
+            this.deltaSize++;
+            if (2 * this.deltaSize > this.deltaKeys.length)
+            {
+                this.rehash(2 * this.deltaKeys.length);
+            }
+        }
+
+        /**
+         * Moves the local changes into a new table with the given capacity.
+         *
+         * @param   capacity
+         *      The new capacity. Must be a power of two.
+         */
+        protected void rehash(
+            final int capacity)
+        {
+            final long[] oldKeys = this.deltaKeys;
+            final int[] oldCounts = this.deltaCounts;
+            this.deltaKeys = new long[capacity];
+            Arrays.fill(this.deltaKeys, EMPTY_KEY);
+            this.deltaCounts = new int[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++)
+            {
+                final long key = oldKeys[i];
+                if (key != EMPTY_KEY)
+                {
+                    int slot = mix(key) & mask;
+                    while (this.deltaKeys[slot] != EMPTY_KEY)
+                    {
+                        slot = (slot + 1) & mask;
+                    }
+                    this.deltaKeys[slot] = key;
+                    this.deltaCounts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        @Override
+        public Boolean call()
+        {
+            final Random random = this.localRandom;
+            final int[] topicSums = this.localTopicTermSum;
+            final int[] assignments = occurrenceTopicAssignments;
+            final int firstOccurrence =
+                documentOccurrenceStarts[this.documentStart];
+            final int lastOccurrence =
+                documentOccurrenceStarts[this.documentEnd];
+            final double termCountTimesBeta = termCount * beta;
+            final double topicCountTimesAlpha = topicCount * alpha;
+            final double topicCountTimesBeta = topicCount * beta;
+            final int steps = metropolisHastingsSteps;
+
+            for (int document = this.documentStart;
+                document < this.documentEnd;
+                document++)
+            {
+                final int[] documentTopics = documentTopicCount[document];
+                final int documentStart = documentOccurrenceStarts[document];
+                final int documentEnd = documentOccurrenceStarts[document + 1];
+                final int documentLength = documentEnd - documentStart;
+                for (int occurrence = documentStart; occurrence < documentEnd;
+                    occurrence++)
+                {
+                    final int term = occurrenceTerms[occurrence];
+                    final int termStart = termOccurrenceStarts[term];
+                    final int termLength =
+                        termOccurrenceStarts[term + 1] - termStart;
+
+                    // Remove the topic assignment. The assignment array keeps
+                    // the current state of the chain, which the document
+                    // proposal relies on. The topic-term count of the removed
+                    // topic is only corrected when it is read, so that an
+                    // occurrence that keeps its topic changes nothing.
+                    final int oldTopic = assignments[occurrence];
+                    int topic = oldTopic;
+                    documentTopics[topic] -= 1;
+                    topicSums[topic] -= 1;
+
+                    for (int step = 0; step < steps; step++)
+                    {
+                        final int proposal;
+                        final double acceptance;
+                        if ((step & 1) == 0)
+                        {
+                            // Document proposal: q(k) ~ n_dk + alpha, where
+                            // n_dk includes this occurrence's current topic.
+                            final double u = random.nextDouble()
+                                * (documentLength + topicCountTimesAlpha);
+                            if (u < documentLength)
+                            {
+                                proposal = assignments[documentStart + (int) u];
+                            }
+                            else
+                            {
+                                proposal = Math.min(topicCount - 1,
+                                    (int) ((u - documentLength) / alpha));
+                            }
+
+                            if (proposal == topic)
+                            {
+                                continue;
+                            }
+
+                            // The document terms cancel out.
+                            final int proposalCount =
+                                this.getTopicTermCount(proposal, term)
+                                - (proposal == oldTopic ? 1 : 0);
+                            final int currentCount =
+                                this.getTopicTermCount(topic, term)
+                                - (topic == oldTopic ? 1 : 0);
+                            acceptance =
+                                (proposalCount + beta)
+                                * (topicSums[topic] + termCountTimesBeta)
+                                / ((currentCount + beta)
+                                * (topicSums[proposal] + termCountTimesBeta));
+                        }
+                        else
+                        {
+                            // Term proposal: q(k) ~ n_kw + beta, where n_kw
+                            // are the local counts including this occurrence.
+                            // Occurrences from other partitions are counted
+                            // with their topics from the start of the
+                            // iteration, just like the local counts.
+                            final double u = random.nextDouble()
+                                * (termLength + topicCountTimesBeta);
+                            if (u < termLength)
+                            {
+                                final int other =
+                                    termOccurrences[termStart + (int) u];
+                                proposal = other >= firstOccurrence
+                                    && other < lastOccurrence
+                                    ? assignments[other]
+                                    : previousTopicAssignments[other];
+                            }
+                            else
+                            {
+                                proposal = Math.min(topicCount - 1,
+                                    (int) ((u - termLength) / beta));
+                            }
+
+                            if (proposal == topic)
+                            {
+                                continue;
+                            }
+
+                            // The topic-term terms cancel out.
+                            acceptance =
+                                (documentTopics[proposal] + alpha)
+                                * (topicSums[topic] + termCountTimesBeta)
+                                / ((documentTopics[topic] + alpha)
+                                * (topicSums[proposal] + termCountTimesBeta));
+                        }
+
+                        if (acceptance >= 1.0
+                            || random.nextDouble() < acceptance)
+                        {
+                            topic = proposal;
+                            assignments[occurrence] = topic;
+                        }
+                    }
+
+                    // Add the new topic assignment.
+                    documentTopics[topic] += 1;
+                    topicSums[topic] += 1;
+                    if (topic != oldTopic)
+                    {
+                        this.addTopicTermCount(oldTopic, term, -1);
+                        this.addTopicTermCount(topic, term, 1);
+                    }
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+}
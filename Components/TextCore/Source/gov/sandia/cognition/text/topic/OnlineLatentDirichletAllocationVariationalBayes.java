@@ -0,0 +1,1324 @@
+/*
+ * File:            OnlineLatentDirichletAllocationVariationalBayes.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.topic;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.annotation.PublicationReference;
+import gov.sandia.cognition.annotation.PublicationType;
+import gov.sandia.cognition.learning.algorithm.AbstractBatchAndIncrementalLearner;
+import gov.sandia.cognition.math.MathUtil;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorEntry;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.statistics.distribution.GammaDistribution;
+import gov.sandia.cognition.util.AbstractCloneableSerializable;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import gov.sandia.cognition.util.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * An online variational Bayes learner for Latent Dirichlet Allocation, which
+ * can learn topics from a stream of documents. The documents are consumed in
+ * mini-batches. For each mini-batch the per-document variational parameters
+ * are fit in parallel (the E-step) and then the topic-term parameters are
+ * moved towards the estimate from the mini-batch using a decreasing step size
+ * (the M-step). Only the topic-term parameters are kept between mini-batches,
+ * so memory does not grow with the number of documents.
+ * <p>
+ * The topic-term parameters are stored in the {@link Model} as a dense array
+ * with a lazy scale and offset, so that the part of the M-step that decays
+ * all the parameters does not have to touch every term. The cost of a
+ * mini-batch is thus proportional to the number of topics times the number
+ * of distinct terms in it. The model is serializable, so learning can be
+ * checkpointed by saving it and resumed by passing it back to
+ * {@code update}.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     LatentDirichletAllocationVectorGibbsSampler
+ */
+@PublicationReference(
+    author={"Matthew D. Hoffman", "David M. Blei", "Francis Bach"},
+    title="Online Learning for Latent Dirichlet Allocation",
+    year=2010,
+    type=PublicationType.Conference,
+    publication="Advances in Neural Information Processing Systems 23",
+    pages={856, 864},
+    url="http://papers.nips.cc/paper/3902-online-learning-for-latent-dirichlet-allocation")
+public class OnlineLatentDirichletAllocationVariationalBayes
+    extends AbstractBatchAndIncrementalLearner<Vectorizable, OnlineLatentDirichletAllocationVariationalBayes.Model>
+    implements Randomized, ParallelAlgorithm
+{
+
+    /** The default number of topics is {@value}. */
+    public static final int DEFAULT_TOPIC_COUNT = 10;
+
+    /** The default alpha is {@value}. */
+    public static final double DEFAULT_ALPHA = 0.1;
+
+    /** The default beta is {@value}. */
+    public static final double DEFAULT_BETA = 0.01;
+
+    /** The default mini-batch size is {@value}. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** The default corpus size is {@value}. */
+    public static final double DEFAULT_CORPUS_SIZE = 1000000.0;
+
+    /** The default delay is {@value}. */
+    public static final double DEFAULT_DELAY = 10.0;
+
+    /** The default forgetting rate is {@value}. */
+    public static final double DEFAULT_FORGETTING_RATE = 0.7;
+
+    /** The default maximum number of iterations per document is {@value}. */
+    public static final int DEFAULT_MAX_DOCUMENT_ITERATIONS = 100;
+
+    /** The default tolerance for the document iterations is {@value}. */
+    public static final double DEFAULT_DOCUMENT_TOLERANCE = 0.001;
+
+    /** The shape of the Gamma distribution used to initialize the variational
+     *  parameters. */
+    protected static final double INITIAL_GAMMA_SHAPE = 100.0;
+
+    /** When the lazy scale of the topic-term parameters falls below this, they
+     *  are rescaled. */
+    protected static final double MIN_SCALE = 1e-8;
+
+    /** A small value added to the normalizers to avoid dividing by zero. */
+    protected static final double NORMALIZER_EPSILON = 1e-100;
+
+    /** The number of topics. */
+    protected int topicCount;
+
+    /** The alpha parameter of the Dirichlet prior on the document-topic
+     *  probabilities. */
+    protected double alpha;
+
+    /** The beta parameter of the Dirichlet prior on the topic-term
+     *  probabilities. */
+    protected double beta;
+
+    /** The number of documents in each mini-batch. */
+    protected int batchSize;
+
+    /** The estimated total number of documents, which weights each
+     *  mini-batch. */
+    protected double corpusSize;
+
+    /** The delay, which down-weights the early mini-batches. */
+    protected double delay;
+
+    /** The forgetting rate, which controls how quickly the step size
+     *  decreases. */
+    protected double forgettingRate;
+
+    /** The maximum number of iterations of the E-step for each document. */
+    protected int maxDocumentIterations;
+
+    /** The tolerance on the mean change of the document parameters for the
+     *  E-step to stop. */
+    protected double documentTolerance;
+
+    /** The random number generator. */
+    protected Random random;
+
+    /** The thread pool used for parallelization. */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /** The local index of each term in the current mini-batch, or -1 for the
+     *  terms not in it. It is kept between mini-batches so that only the
+     *  entries of the terms in a mini-batch are reset. */
+    protected transient int[] localIndices;
+
+    /**
+     * Creates a new {@code OnlineLatentDirichletAllocationVariationalBayes}
+     * with default parameters.
+     */
+    public OnlineLatentDirichletAllocationVariationalBayes()
+    {
+        this(DEFAULT_TOPIC_COUNT, DEFAULT_ALPHA, DEFAULT_BETA,
+            DEFAULT_BATCH_SIZE, DEFAULT_CORPUS_SIZE, new Random());
+    }
+
+    /**
+     * Creates a new {@code OnlineLatentDirichletAllocationVariationalBayes}.
+     *
+     * @param   topicCount
+     *      The number of topics. Must be positive.
+     * @param   alpha
+     *      The alpha parameter of the Dirichlet prior on the document-topic
+     *      probabilities. Must be positive.
+     * @param   beta
+     *      The beta parameter of the Dirichlet prior on the topic-term
+     *      probabilities. Must be positive.
+     * @param   batchSize
+     *      The number of documents in each mini-batch. Must be positive.
+     * @param   corpusSize
+     *      The estimated total number of documents. Must be positive.
+     * @param   random
+     *      The random number generator.
+     */
+    public OnlineLatentDirichletAllocationVariationalBayes(
+        final int topicCount,
+        final double alpha,
+        final double beta,
+        final int batchSize,
+        final double corpusSize,
+        final Random random)
+    {
+        super();
+
+        this.setTopicCount(topicCount);
+        this.setAlpha(alpha);
+        this.setBeta(beta);
+        this.setBatchSize(batchSize);
+        this.setCorpusSize(corpusSize);
+        this.setDelay(DEFAULT_DELAY);
+        this.setForgettingRate(DEFAULT_FORGETTING_RATE);
+        this.setMaxDocumentIterations(DEFAULT_MAX_DOCUMENT_ITERATIONS);
+        this.setDocumentTolerance(DEFAULT_DOCUMENT_TOLERANCE);
+        this.setRandom(random);
+    }
+
+    @Override
+    public OnlineLatentDirichletAllocationVariationalBayes clone()
+    {
+        final OnlineLatentDirichletAllocationVariationalBayes clone =
+            (OnlineLatentDirichletAllocationVariationalBayes) super.clone();
+        clone.random = ObjectUtil.cloneSmart(this.random);
+        clone.threadPool = null;
+        clone.localIndices = null;
+        return clone;
+    }
+
+    @Override
+    public Model createInitialLearnedObject()
+    {
+        return new Model(this.topicCount, this.alpha, this.beta);
+    }
+
+    @Override
+    public void update(
+        final Model target,
+        final Vectorizable data)
+    {
+        this.updateMiniBatch(target, Collections.singletonList(data));
+    }
+
+    @Override
+    public void update(
+        final Model target,
+        final Iterable<? extends Vectorizable> data)
+    {
+        // Break the data up into mini-batches.
+        final ArrayList<Vectorizable> batch =
+            new ArrayList<Vectorizable>(this.batchSize);
+        for (Vectorizable document : data)
+        {
+            batch.add(document);
+            if (batch.size() >= this.batchSize)
+            {
+                this.updateMiniBatch(target, batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty())
+        {
+            this.updateMiniBatch(target, batch);
+        }
+    }
+
+    /**
+     * Updates the model with a single mini-batch of documents.
+     *
+     * @param   target
+     *      The model to update.
+     * @param   documents
+     *      The documents in the mini-batch. Their dimensionality must match
+     *      the number of terms in the model.
+     */
+    public void updateMiniBatch(
+        final Model target,
+        final Collection<? extends Vectorizable> documents)
+    {
+        if (documents.isEmpty())
+        {
+            return;
+        }
+
+        // Convert the documents to the terms and counts in them.
+        final int documentCount = documents.size();
+        final int[][] documentTerms = new int[documentCount][];
+        final double[][] documentCounts = new double[documentCount][];
+        int document = 0;
+        for (Vectorizable input : documents)
+        {
+            final Vector vector = input.convertToVector();
+            if (!target.isInitialized())
+            {
+                target.initialize(vector.getDimensionality(), this.random);
+            }
+            vector.assertDimensionalityEquals(target.termCount);
+            this.readDocument(vector, document, documentTerms,
+                documentCounts);
+            document++;
+        }
+
+        // Map the terms in the mini-batch to a local index, so that the
+        // expected log topic-term parameters only need to be computed for
+        // them.
+        final int topicCount = target.topicCount;
+        if (this.localIndices == null
+            || this.localIndices.length != target.termCount)
+        {
+            this.localIndices = new int[target.termCount];
+            Arrays.fill(this.localIndices, -1);
+        }
+        final int[] localIndices = this.localIndices;
+        int batchTermCount = 0;
+        int[] batchTerms = new int[64];
+        for (int[] terms : documentTerms)
+        {
+            for (int i = 0; i < terms.length; i++)
+            {
+                final int term = terms[i];
+                if (localIndices[term] < 0)
+                {
+                    if (batchTermCount == batchTerms.length)
+                    {
+                        batchTerms = Arrays.copyOf(batchTerms,
+                            2 * batchTermCount);
+                    }
+                    localIndices[term] = batchTermCount;
+                    batchTerms[batchTermCount] = term;
+                    batchTermCount++;
+                }
+                terms[i] = localIndices[term];
+            }
+        }
+        for (int j = 0; j < batchTermCount; j++)
+        {
+            localIndices[batchTerms[j]] = -1;
+        }
+
+        final double[][] expectedTopicTerms =
+            target.computeExpExpectedLogTopicTerms(batchTerms,
+                batchTermCount);
+
+        // Run the E-step on the documents in parallel.
+        final int partitionCount = Math.max(1,
+            Math.min(this.getNumThreads(), documentCount));
+        final ArrayList<DocumentBatchTask> tasks =
+            new ArrayList<DocumentBatchTask>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++)
+        {
+            tasks.add(new DocumentBatchTask(target.alpha, expectedTopicTerms,
+                documentTerms, documentCounts,
+                partition * documentCount / partitionCount,
+                (partition + 1) * documentCount / partitionCount,
+                new SplitMixRandom(this.random.nextLong())));
+        }
+
+        try
+        {
+            ParallelUtil.executeInParallel(tasks, this.getThreadPool());
+        }
+        catch (Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+
+        // Merge the sufficient statistics.
+        final double[][] statistics = tasks.get(0).statistics;
+        for (int i = 1; i < tasks.size(); i++)
+        {
+            final double[][] other = tasks.get(i).statistics;
+            for (int topic = 0; topic < topicCount; topic++)
+            {
+                for (int j = 0; j < batchTermCount; j++)
+                {
+                    statistics[topic][j] += other[topic][j];
+                }
+            }
+        }
+        for (int topic = 0; topic < topicCount; topic++)
+        {
+            for (int j = 0; j < batchTermCount; j++)
+            {
+                statistics[topic][j] *= expectedTopicTerms[topic][j];
+            }
+        }
+
+        // Run the M-step.
+        final double stepSize = Math.min(1.0,
+            Math.pow(this.delay + target.updateCount, -this.forgettingRate));
+        final double weight = stepSize * this.corpusSize / documentCount;
+        target.update(stepSize, weight, batchTerms, batchTermCount,
+            statistics);
+        target.documentCount += documentCount;
+    }
+
+    /**
+     * Reads the non-zero terms and counts of a document.
+     *
+     * @param   vector
+     *      The document vector.
+     * @param   document
+     *      The index of the document.
+     * @param   documentTerms
+     *      The array to put the terms in.
+     * @param   documentCounts
+     *      The array to put the counts in.
+     */
+    private void readDocument(
+        final Vector vector,
+        final int document,
+        final int[][] documentTerms,
+        final double[][] documentCounts)
+    {
+        int size = 0;
+        for (VectorEntry entry : vector)
+        {
+            if (entry.getValue() != 0.0)
+            {
+                size++;
+            }
+        }
+
+        final int[] terms = new int[size];
+        final double[] counts = new double[size];
+        int i = 0;
+        for (VectorEntry entry : vector)
+        {
+            final double value = entry.getValue();
+            if (value != 0.0)
+            {
+                terms[i] = entry.getIndex();
+                counts[i] = value;
+                i++;
+            }
+        }
+        documentTerms[document] = terms;
+        documentCounts[document] = counts;
+    }
+
+    /**
+     * Computes the expected topic probabilities of a document under the given
+     * model by fitting its variational parameters.
+     *
+     * @param   model
+     *      The model to use.
+     * @param   document
+     *      The document. Its dimensionality must match the number of terms in
+     *      the model.
+     * @return
+     *      The expected topic probabilities of the document.
+     */
+    public double[] computeDocumentTopicProbabilities(
+        final Model model,
+        final Vectorizable document)
+    {
+        final Vector vector = document.convertToVector();
+        vector.assertDimensionalityEquals(model.termCount);
+        final int[][] terms = new int[1][];
+        final double[][] counts = new double[1][];
+        this.readDocument(vector, 0, terms, counts);
+
+        final int termCount = terms[0].length;
+        final double[][] expectedTopicTerms =
+            model.computeExpExpectedLogTopicTerms(terms[0], termCount);
+        for (int i = 0; i < termCount; i++)
+        {
+            terms[0][i] = i;
+        }
+
+        final DocumentBatchTask task = new DocumentBatchTask(model.alpha,
+            expectedTopicTerms, terms, counts, 0, 1, this.random);
+        final double[] result = task.fitDocument(0);
+        double sum = 0.0;
+        for (double value : result)
+        {
+            sum += value;
+        }
+        for (int topic = 0; topic < result.length; topic++)
+        {
+            result[topic] /= sum;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of topics.
+     *
+     * @return
+     *      The number of topics.
+     */
+    public int getTopicCount()
+    {
+        return this.topicCount;
+    }
+
+    /**
+     * Sets the number of topics.
+     *
+     * @param   topicCount
+     *      The number of topics. Must be positive.
+     */
+    public void setTopicCount(
+        final int topicCount)
+    {
+        ArgumentChecker.assertIsPositive("topicCount", topicCount);
+        this.topicCount = topicCount;
+    }
+
+    /**
+     * Gets the alpha parameter of the Dirichlet prior on the document-topic
+     * probabilities.
+     *
+     * @return
+     *      The alpha parameter.
+     */
+    public double getAlpha()
+    {
+        return this.alpha;
+    }
+
+    /**
+     * Sets the alpha parameter of the Dirichlet prior on the document-topic
+     * probabilities.
+     *
+     * @param   alpha
+     *      The alpha parameter. Must be positive.
+     */
+    public void setAlpha(
+        final double alpha)
+    {
+        ArgumentChecker.assertIsPositive("alpha", alpha);
+        this.alpha = alpha;
+    }
+
+    /**
+     * Gets the beta parameter of the Dirichlet prior on the topic-term
+     * probabilities.
+     *
+     * @return
+     *      The beta parameter.
+     */
+    public double getBeta()
+    {
+        return this.beta;
+    }
+
+    /**
+     * Sets the beta parameter of the Dirichlet prior on the topic-term
+     * probabilities.
+     *
+     * @param   beta
+     *      The beta parameter. Must be positive.
+     */
+    public void setBeta(
+        final double beta)
+    {
+        ArgumentChecker.assertIsPositive("beta", beta);
+        this.beta = beta;
+    }
+
+    /**
+     * Gets the number of documents in each mini-batch.
+     *
+     * @return
+     *      The mini-batch size.
+     */
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Sets the number of documents in each mini-batch.
+     *
+     * @param   batchSize
+     *      The mini-batch size. Must be positive.
+     */
+    public void setBatchSize(
+        final int batchSize)
+    {
+        ArgumentChecker.assertIsPositive("batchSize", batchSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the estimated total number of documents. Each mini-batch is
+     * weighted as if it were a sample from a corpus of this size.
+     *
+     * @return
+     *      The corpus size.
+     */
+    public double getCorpusSize()
+    {
+        return this.corpusSize;
+    }
+
+    /**
+     * Sets the estimated total number of documents. Each mini-batch is
+     * weighted as if it were a sample from a corpus of this size.
+     *
+     * @param   corpusSize
+     *      The corpus size. Must be positive.
+     */
+    public void setCorpusSize(
+        final double corpusSize)
+    {
+        ArgumentChecker.assertIsPositive("corpusSize", corpusSize);
+        this.corpusSize = corpusSize;
+    }
+
+    /**
+     * Gets the delay, which down-weights the early mini-batches. The step
+     * size for update t is (delay + t)^(-forgettingRate).
+     *
+     * @return
+     *      The delay.
+     */
+    public double getDelay()
+    {
+        return this.delay;
+    }
+
+    /**
+     * Sets the delay, which down-weights the early mini-batches. The step
+     * size for update t is (delay + t)^(-forgettingRate).
+     *
+     * @param   delay
+     *      The delay. Cannot be negative.
+     */
+    public void setDelay(
+        final double delay)
+    {
+        ArgumentChecker.assertIsNonNegative("delay", delay);
+        this.delay = delay;
+    }
+
+    /**
+     * Gets the forgetting rate, which controls how quickly the step size
+     * decreases. The step size for update t is
+     * (delay + t)^(-forgettingRate).
+     *
+     * @return
+     *      The forgetting rate.
+     */
+    public double getForgettingRate()
+    {
+        return this.forgettingRate;
+    }
+
+    /**
+     * Sets the forgetting rate, which controls how quickly the step size
+     * decreases. The step size for update t is
+     * (delay + t)^(-forgettingRate). Convergence is guaranteed for values
+     * greater than 0.5.
+     *
+     * @param   forgettingRate
+     *      The forgetting rate. Must be between 0 and 1.
+     */
+    public void setForgettingRate(
+        final double forgettingRate)
+    {
+        ArgumentChecker.assertIsInRangeInclusive("forgettingRate",
+            forgettingRate, 0.0, 1.0);
+        this.forgettingRate = forgettingRate;
+    }
+
+    /**
+     * Gets the maximum number of iterations of the E-step for each document.
+     *
+     * @return
+     *      The maximum number of iterations per document.
+     */
+    public int getMaxDocumentIterations()
+    {
+        return this.maxDocumentIterations;
+    }
+
+    /**
+     * Sets the maximum number of iterations of the E-step for each document.
+     *
+     * @param   maxDocumentIterations
+     *      The maximum number of iterations per document. Must be positive.
+     */
+    public void setMaxDocumentIterations(
+        final int maxDocumentIterations)
+    {
+        ArgumentChecker.assertIsPositive("maxDocumentIterations",
+            maxDocumentIterations);
+        this.maxDocumentIterations = maxDocumentIterations;
+    }
+
+    /**
+     * Gets the tolerance on the mean change of the document parameters for
+     * the E-step to stop.
+     *
+     * @return
+     *      The document tolerance.
+     */
+    public double getDocumentTolerance()
+    {
+        return this.documentTolerance;
+    }
+
+    /**
+     * Sets the tolerance on the mean change of the document parameters for
+     * the E-step to stop.
+     *
+     * @param   documentTolerance
+     *      The document tolerance. Cannot be negative.
+     */
+    public void setDocumentTolerance(
+        final double documentTolerance)
+    {
+        ArgumentChecker.assertIsNonNegative("documentTolerance",
+            documentTolerance);
+        this.documentTolerance = documentTolerance;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * Computes exp(digamma(x)) for each of the given values, divided by
+     * exp(digamma) of their sum.
+     *
+     * @param   values
+     *      The values.
+     * @param   result
+     *      The array to put the result in.
+     */
+    protected static void computeExpExpectedLog(
+        final double[] values,
+        final double[] result)
+    {
+        double sum = 0.0;
+        for (double value : values)
+        {
+            sum += value;
+        }
+        final double digammaSum = MathUtil.digammaFunction(sum);
+        for (int i = 0; i < values.length; i++)
+        {
+            result[i] = Math.exp(
+                MathUtil.digammaFunction(values[i]) - digammaSum);
+        }
+    }
+
+    /**
+     * A task that runs the E-step for a range of the documents in a
+     * mini-batch and accumulates their sufficient statistics.
+     */
+    protected class DocumentBatchTask
+        extends Object
+        implements Callable<Boolean>
+    {
+
+        /** The alpha parameter. */
+        protected double alpha;
+
+        /** The exponential of the expected log topic-term parameters, indexed
+         *  by topic and then local term. */
+        protected double[][] expectedTopicTerms;
+
+        /** The local terms of each document. */
+        protected int[][] documentTerms;
+
+        /** The counts of each document. */
+        protected double[][] documentCounts;
+
+        /** The first document. */
+        protected int start;
+
+        /** One past the last document. */
+        protected int end;
+
+        /** The random number generator. */
+        protected Random random;
+
+        /** The sufficient statistics, indexed by topic and then local term. */
+        protected double[][] statistics;
+
+        /**
+         * Creates a new {@code DocumentBatchTask}.
+         *
+         * @param   alpha
+         *      The alpha parameter.
+         * @param   expectedTopicTerms
+         *      The exponential of the expected log topic-term parameters.
+         * @param   documentTerms
+         *      The local terms of each document.
+         * @param   documentCounts
+         *      The counts of each document.
+         * @param   start
+         *      The first document.
+         * @param   end
+         *      One past the last document.
+         * @param   random
+         *      The random number generator.
+         */
+        public DocumentBatchTask(
+            final double alpha,
+            final double[][] expectedTopicTerms,
+            final int[][] documentTerms,
+            final double[][] documentCounts,
+            final int start,
+            final int end,
+            final Random random)
+        {
+            super();
+
+            this.alpha = alpha;
+            this.expectedTopicTerms = expectedTopicTerms;
+            this.documentTerms = documentTerms;
+            this.documentCounts = documentCounts;
+            this.start = start;
+            this.end = end;
+            this.random = random;
+        }
+
+        @Override
+        public Boolean call()
+        {
+            final int topicCount = this.expectedTopicTerms.length;
+            this.statistics =
+                new double[topicCount][this.expectedTopicTerms[0].length];
+            for (int document = this.start; document < this.end; document++)
+            {
+                this.fitDocument(document);
+            }
+            return true;
+        }
+
+        /**
+         * Fits the variational parameters of a document. If the statistics
+         * have been allocated, the document's contribution is added to them.
+         *
+         * @param   document
+         *      The index of the document.
+         * @return
+         *      The variational Dirichlet parameters of the document.
+         */
+        protected double[] fitDocument(
+            final int document)
+        {
+            final int topicCount = this.expectedTopicTerms.length;
+            final int[] terms = this.documentTerms[document];
+            final double[] counts = this.documentCounts[document];
+            final int size = terms.length;
+
+            final double[] gamma = new double[topicCount];
+            for (int topic = 0; topic < topicCount; topic++)
+            {
+                gamma[topic] = GammaDistribution.sampleStandard(
+                    INITIAL_GAMMA_SHAPE, this.random) / INITIAL_GAMMA_SHAPE;
+            }
+            final double[] expectedTopics = new double[topicCount];
+            computeExpExpectedLog(gamma, expectedTopics);
+            final double[] normalizers = new double[size];
+            this.computeNormalizers(terms, expectedTopics, normalizers);
+
+            for (int iteration = 0;
+                iteration < maxDocumentIterations;
+                iteration++)
+            {
+                double change = 0.0;
+                for (int topic = 0; topic < topicCount; topic++)
+                {
+                    final double[] topicTerms =
+                        this.expectedTopicTerms[topic];
+                    double sum = 0.0;
+                    for (int i = 0; i < size; i++)
+                    {
+                        sum += counts[i] / normalizers[i]
+                            * topicTerms[terms[i]];
+                    }
+                    final double value =
+                        this.alpha + expectedTopics[topic] * sum;
+                    change += Math.abs(value - gamma[topic]);
+                    gamma[topic] = value;
+                }
+
+                computeExpExpectedLog(gamma, expectedTopics);
+                this.computeNormalizers(terms, expectedTopics, normalizers);
+                if (change / topicCount < documentTolerance)
+                {
+                    break;
+                }
+            }
+
+            if (this.statistics != null)
+            {
+                for (int topic = 0; topic < topicCount; topic++)
+                {
+                    final double[] topicStatistics = this.statistics[topic];
+                    final double expected = expectedTopics[topic];
+                    for (int i = 0; i < size; i++)
+                    {
+                        topicStatistics[terms[i]] +=
+                            expected * counts[i] / normalizers[i];
+                    }
+                }
+            }
+
+            return gamma;
+        }
+
+        /**
+         * Computes the normalizer of the topic assignment distribution for
+         * each term in a document.
+         *
+         * @param   terms
+         *      The local terms of the document.
+         * @param   expectedTopics
+         *      The exponential of the expected log topic probabilities.
+         * @param   normalizers
+         *      The array to put the normalizers in.
+         */
+        private void computeNormalizers(
+            final int[] terms,
+            final double[] expectedTopics,
+            final double[] normalizers)
+        {
+            Arrays.fill(normalizers, NORMALIZER_EPSILON);
+            for (int topic = 0; topic < expectedTopics.length; topic++)
+            {
+                final double[] topicTerms = this.expectedTopicTerms[topic];
+                final double expected = expectedTopics[topic];
+                for (int i = 0; i < terms.length; i++)
+                {
+                    normalizers[i] += expected * topicTerms[terms[i]];
+                }
+            }
+        }
+
+    }
+
+    /**
+     * The model learned by online Latent Dirichlet Allocation. It holds the
+     * variational Dirichlet parameters of the topic-term probabilities
+     * (lambda) along with the number of updates, which is all the state needed
+     * to resume learning. The parameters are stored in a dense array as
+     * lambda = scale * weights + offset so that decaying all of them is a
+     * constant-time operation.
+     */
+    public static class Model
+        extends AbstractCloneableSerializable
+    {
+
+        /** The number of topics. */
+        protected int topicCount;
+
+        /** The number of terms, which is zero until the first document. */
+        protected int termCount;
+
+        /** The alpha parameter of the Dirichlet prior on the document-topic
+         *  probabilities. */
+        protected double alpha;
+
+        /** The beta parameter of the Dirichlet prior on the topic-term
+         *  probabilities. */
+        protected double beta;
+
+        /** The scaled topic-term weights, indexed by topic * termCount +
+         *  term. */
+        protected double[] topicTermWeights;
+
+        /** The sum of the scaled weights for each topic. */
+        protected double[] topicWeightSums;
+
+        /** The scale applied to the weights. */
+        protected double scale;
+
+        /** The offset added to the scaled weights. */
+        protected double offset;
+
+        /** The number of mini-batch updates applied. */
+        protected long updateCount;
+
+        /** The number of documents the model has been updated with. */
+        protected long documentCount;
+
+        /**
+         * Creates a new, uninitialized {@code Model}. It is initialized with
+         * the number of terms of the first document it is updated with.
+         *
+         * @param   topicCount
+         *      The number of topics.
+         * @param   alpha
+         *      The alpha parameter.
+         * @param   beta
+         *      The beta parameter.
+         */
+        public Model(
+            final int topicCount,
+            final double alpha,
+            final double beta)
+        {
+            super();
+
+            this.topicCount = topicCount;
+            this.termCount = 0;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.topicTermWeights = null;
+            this.topicWeightSums = null;
+            this.scale = 1.0;
+            this.offset = 0.0;
+            this.updateCount = 0;
+            this.documentCount = 0;
+        }
+
+        @Override
+        public Model clone()
+        {
+            final Model clone = (Model) super.clone();
+            if (this.topicTermWeights != null)
+            {
+                clone.topicTermWeights = this.topicTermWeights.clone();
+                clone.topicWeightSums = this.topicWeightSums.clone();
+            }
+            return clone;
+        }
+
+        /**
+         * Initializes the topic-term parameters randomly.
+         *
+         * @param   termCount
+         *      The number of terms.
+         * @param   random
+         *      The random number generator.
+         */
+        protected void initialize(
+            final int termCount,
+            final Random random)
+        {
+            ArgumentChecker.assertIsPositive("termCount", termCount);
+            this.termCount = termCount;
+            this.topicTermWeights = new double[this.topicCount * termCount];
+            this.topicWeightSums = new double[this.topicCount];
+            this.scale = 1.0;
+            this.offset = 0.0;
+            for (int topic = 0; topic < this.topicCount; topic++)
+            {
+                double sum = 0.0;
+                for (int term = 0; term < termCount; term++)
+                {
+                    final double value = GammaDistribution.sampleStandard(
+                        INITIAL_GAMMA_SHAPE, random) / INITIAL_GAMMA_SHAPE;
+                    this.topicTermWeights[topic * termCount + term] = value;
+                    sum += value;
+                }
+                this.topicWeightSums[topic] = sum;
+            }
+        }
+
+        /**
+         * Computes the exponential of the expected log topic-term
+         * probabilities for the given terms.
+         *
+         * @param   terms
+         *      The terms.
+         * @param   size
+         *      The number of terms to use.
+         * @return
+         *      The values, indexed by topic and then by position in the
+         *      terms array.
+         */
+        protected double[][] computeExpExpectedLogTopicTerms(
+            final int[] terms,
+            final int size)
+        {
+            final double[][] result = new double[this.topicCount][size];
+            for (int topic = 0; topic < this.topicCount; topic++)
+            {
+                final double digammaSum = MathUtil.digammaFunction(
+                    this.getTopicParameterSum(topic));
+                final int topicStart = topic * this.termCount;
+                for (int i = 0; i < size; i++)
+                {
+                    final double parameter = this.scale
+                        * this.topicTermWeights[topicStart + terms[i]]
+                        + this.offset;
+                    result[topic][i] = Math.exp(
+                        MathUtil.digammaFunction(parameter) - digammaSum);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Applies the M-step: lambda = (1 - stepSize) * lambda +
+         * stepSize * beta + weight * statistics.
+         *
+         * @param   stepSize
+         *      The step size.
+         * @param   weight
+         *      The weight of the statistics.
+         * @param   terms
+         *      The terms that have statistics.
+         * @param   size
+         *      The number of terms that have statistics.
+         * @param   statistics
+         *      The statistics, indexed by topic and then by position in the
+         *      terms array.
+         */
+        protected void update(
+            final double stepSize,
+            final double weight,
+            final int[] terms,
+            final int size,
+            final double[][] statistics)
+        {
+            final double newScale = (1.0 - stepSize) * this.scale;
+            if (newScale >= MIN_SCALE)
+            {
+                // Decay everything lazily and then add the statistics.
+                this.scale = newScale;
+                this.offset = (1.0 - stepSize) * this.offset
+                    + stepSize * this.beta;
+                final double factor = weight / this.scale;
+                for (int topic = 0; topic < this.topicCount; topic++)
+                {
+                    final int topicStart = topic * this.termCount;
+                    double added = 0.0;
+                    for (int i = 0; i < size; i++)
+                    {
+                        final double value = factor * statistics[topic][i];
+                        this.topicTermWeights[topicStart + terms[i]] += value;
+                        added += value;
+                    }
+                    this.topicWeightSums[topic] += added;
+                }
+            }
+            else
+            {
+                // The scale is getting too small, so fold the decay into the
+                // weights and then add the statistics.
+                final double decay = 1.0 - stepSize;
+                final double newOffset = stepSize * this.beta;
+                for (int topic = 0; topic < this.topicCount; topic++)
+                {
+                    final int topicStart = topic * this.termCount;
+                    double sum = 0.0;
+                    for (int term = 0; term < this.termCount; term++)
+                    {
+                        final int index = topicStart + term;
+                        final double value = decay * (this.scale
+                            * this.topicTermWeights[index] + this.offset)
+                            + newOffset;
+                        this.topicTermWeights[index] = value;
+                        sum += value;
+                    }
+                    for (int i = 0; i < size; i++)
+                    {
+                        final double value = weight * statistics[topic][i];
+                        this.topicTermWeights[topicStart + terms[i]] += value;
+                        sum += value;
+                    }
+                    this.topicWeightSums[topic] = sum;
+                }
+                this.scale = 1.0;
+                this.offset = 0.0;
+            }
+            this.updateCount++;
+        }
+
+        /**
+         * Determines if the model has been initialized by being updated with
+         * at least one document.
+         *
+         * @return
+         *      True if the model has been initialized.
+         */
+        public boolean isInitialized()
+        {
+            return this.topicTermWeights != null;
+        }
+
+        /**
+         * Gets the variational Dirichlet parameter (lambda) for a topic and
+         * term.
+         *
+         * @param   topic
+         *      The topic.
+         * @param   term
+         *      The term.
+         * @return
+         *      The topic-term parameter.
+         */
+        public double getTopicTermParameter(
+            final int topic,
+            final int term)
+        {
+            return this.scale
+                * this.topicTermWeights[topic * this.termCount + term]
+                + this.offset;
+        }
+
+        /**
+         * Gets the sum of the variational Dirichlet parameters for a topic.
+         *
+         * @param   topic
+         *      The topic.
+         * @return
+         *      The sum of the topic-term parameters for the topic.
+         */
+        public double getTopicParameterSum(
+            final int topic)
+        {
+            return this.scale * this.topicWeightSums[topic]
+                + this.termCount * this.offset;
+        }
+
+        /**
+         * Computes the expected topic-term probabilities, which are the
+         * normalized topic-term parameters.
+         *
+         * @return
+         *      The topic-term probabilities, indexed by topic and then term.
+         */
+        public double[][] getTopicTermProbabilities()
+        {
+            final double[][] result =
+                new double[this.topicCount][this.termCount];
+            for (int topic = 0; topic < this.topicCount; topic++)
+            {
+                final double sum = this.getTopicParameterSum(topic);
+                for (int term = 0; term < this.termCount; term++)
+                {
+                    result[topic][term] =
+                        this.getTopicTermParameter(topic, term) / sum;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets the number of topics.
+         *
+         * @return
+         *      The number of topics.
+         */
+        public int getTopicCount()
+        {
+            return this.topicCount;
+        }
+
+        /**
+         * Gets the number of terms. It is zero until the model is
+         * initialized.
+         *
+         * @return
+         *      The number of terms.
+         */
+        public int getTermCount()
+        {
+            return this.termCount;
+        }
+
+        /**
+         * Gets the alpha parameter of the Dirichlet prior on the
+         * document-topic probabilities.
+         *
+         * @return
+         *      The alpha parameter.
+         */
+        public double getAlpha()
+        {
+            return this.alpha;
+        }
+
+        /**
+         * Gets the beta parameter of the Dirichlet prior on the topic-term
+         * probabilities.
+         *
+         * @return
+         *      The beta parameter.
+         */
+        public double getBeta()
+        {
+            return this.beta;
+        }
+
+        /**
+         * Gets the number of mini-batch updates applied to the model.
+         *
+         * @return
+         *      The number of updates.
+         */
+        public long getUpdateCount()
+        {
+            return this.updateCount;
+        }
+
+        /**
+         * Gets the number of documents the model has been updated with.
+         *
+         * @return
+         *      The number of documents.
+         */
+        public long getDocumentCount()
+        {
+            return this.documentCount;
+        }
+
+    }
+
+}
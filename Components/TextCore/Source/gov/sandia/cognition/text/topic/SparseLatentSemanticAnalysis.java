@@ -0,0 +1,334 @@
+/*
+ * File:            SparseLatentSemanticAnalysis.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.topic;
+
+import gov.sandia.cognition.algorithm.ParallelAlgorithm;
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.Vectorizable;
+import gov.sandia.cognition.math.matrix.custom.RandomizedSingularValueDecomposition;
+import gov.sandia.cognition.math.matrix.custom.SparseMatrix;
+import gov.sandia.cognition.util.ArgumentChecker;
+import gov.sandia.cognition.util.ObjectUtil;
+import gov.sandia.cognition.util.Randomized;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A version of latent semantic analysis for large, sparse term-document
+ * matrices. Instead of stacking the documents into a dense matrix and
+ * computing its full singular value decomposition, the documents are packed
+ * into a compressed sparse row matrix and only the requested number of
+ * concepts are computed using a parallel randomized truncated singular value
+ * decomposition. Its cost is linear in the number of non-zero entries, which
+ * makes it feasible for corpus-scale data. The result is the same kind of
+ * transform as {@link LatentSemanticAnalysis}, up to the sign of each concept
+ * and the accuracy of the randomized decomposition.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ * @see     RandomizedSingularValueDecomposition
+ */
+public class SparseLatentSemanticAnalysis
+    extends LatentSemanticAnalysis
+    implements Randomized, ParallelAlgorithm
+{
+
+    /** The default oversampling is {@value}. */
+    public static final int DEFAULT_OVERSAMPLING =
+        RandomizedSingularValueDecomposition.DEFAULT_OVERSAMPLING;
+
+    /** The default number of power iterations is {@value}. */
+    public static final int DEFAULT_POWER_ITERATIONS =
+        RandomizedSingularValueDecomposition.DEFAULT_POWER_ITERATIONS;
+
+    /** The number of extra random columns to sample. */
+    protected int oversampling;
+
+    /** The number of power iterations. */
+    protected int powerIterations;
+
+    /** The random number generator. */
+    protected Random random;
+
+    /** The thread pool. */
+    protected transient ThreadPoolExecutor threadPool;
+
+    /**
+     * Creates a new {@code SparseLatentSemanticAnalysis} with default
+     * parameters.
+     */
+    public SparseLatentSemanticAnalysis()
+    {
+        this(DEFAULT_REQUESTED_RANK);
+    }
+
+    /**
+     * Creates a new {@code SparseLatentSemanticAnalysis} with the given rank.
+     *
+     * @param   requestedRank
+     *      The requested rank. Must be positive.
+     */
+    public SparseLatentSemanticAnalysis(
+        final int requestedRank)
+    {
+        this(requestedRank, DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS,
+            new Random());
+    }
+
+    /**
+     * Creates a new {@code SparseLatentSemanticAnalysis}.
+     *
+     * @param   requestedRank
+     *      The requested rank. Must be positive.
+     * @param   oversampling
+     *      The number of extra random columns to sample. Cannot be negative.
+     * @param   powerIterations
+     *      The number of power iterations. Cannot be negative.
+     * @param   random
+     *      The random number generator.
+     */
+    public SparseLatentSemanticAnalysis(
+        final int requestedRank,
+        final int oversampling,
+        final int powerIterations,
+        final Random random)
+    {
+        super(requestedRank);
+
+        this.setOversampling(oversampling);
+        this.setPowerIterations(powerIterations);
+        this.setRandom(random);
+    }
+
+    @Override
+    public SparseLatentSemanticAnalysis clone()
+    {
+        final SparseLatentSemanticAnalysis clone =
+            (SparseLatentSemanticAnalysis) super.clone();
+        clone.random = ObjectUtil.cloneSmart(this.random);
+        clone.threadPool = null;
+        return clone;
+    }
+
+    @Override
+    public Transform learn(
+        final Collection<? extends Vectorizable> documents)
+    {
+        // Pack the documents as the rows of a document-by-term matrix. Its
+        // right singular vectors are the term basis.
+        final int documentCount = documents.size();
+        ArgumentChecker.assertIsPositive("documents.size", documentCount);
+        final int[] firstInRows = new int[documentCount + 1];
+        final IndexValueBuffer buffer = new IndexValueBuffer();
+        int dimensionality = -1;
+        int row = 0;
+        for (Vectorizable document : documents)
+        {
+            final Vector vector = document.convertToVector();
+            if (dimensionality < 0)
+            {
+                dimensionality = vector.getDimensionality();
+            }
+            else
+            {
+                vector.assertDimensionalityEquals(dimensionality);
+            }
+
+            vector.forEachNonZero(buffer);
+            buffer.sortSince(firstInRows[row]);
+            row++;
+            firstInRows[row] = buffer.size;
+        }
+
+        final SparseMatrix matrix = new SparseMatrix(documentCount,
+            dimensionality, firstInRows,
+            Arrays.copyOf(buffer.indices, buffer.size),
+            Arrays.copyOf(buffer.values, buffer.size));
+
+        final RandomizedSingularValueDecomposition svd =
+            RandomizedSingularValueDecomposition.create(matrix,
+                this.getRequestedRank(), this.getOversampling(),
+                this.getPowerIterations(), false, true, this.getRandom(),
+                this.getThreadPool());
+        final Matrix termBasis = svd.getV();
+        return new Transform(termBasis, svd.getS());
+    }
+
+    /**
+     * Gets the number of extra random columns sampled by the randomized
+     * decomposition.
+     *
+     * @return
+     *      The oversampling.
+     */
+    public int getOversampling()
+    {
+        return this.oversampling;
+    }
+
+    /**
+     * Sets the number of extra random columns sampled by the randomized
+     * decomposition.
+     *
+     * @param   oversampling
+     *      The oversampling. Cannot be negative.
+     */
+    public void setOversampling(
+        final int oversampling)
+    {
+        ArgumentChecker.assertIsNonNegative("oversampling", oversampling);
+        this.oversampling = oversampling;
+    }
+
+    /**
+     * Gets the number of power iterations of the randomized decomposition.
+     *
+     * @return
+     *      The number of power iterations.
+     */
+    public int getPowerIterations()
+    {
+        return this.powerIterations;
+    }
+
+    /**
+     * Sets the number of power iterations of the randomized decomposition.
+     * More iterations give a more accurate basis when the singular values
+     * decay slowly, as they do for most text.
+     *
+     * @param   powerIterations
+     *      The number of power iterations. Cannot be negative.
+     */
+    public void setPowerIterations(
+        final int powerIterations)
+    {
+        ArgumentChecker.assertIsNonNegative("powerIterations",
+            powerIterations);
+        this.powerIterations = powerIterations;
+    }
+
+    @Override
+    public Random getRandom()
+    {
+        return this.random;
+    }
+
+    @Override
+    public void setRandom(
+        final Random random)
+    {
+        this.random = random;
+    }
+
+    @Override
+    public ThreadPoolExecutor getThreadPool()
+    {
+        if (this.threadPool == null)
+        {
+            this.threadPool = ParallelUtil.createThreadPool();
+        }
+
+        return this.threadPool;
+    }
+
+    @Override
+    public void setThreadPool(
+        final ThreadPoolExecutor threadPool)
+    {
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public int getNumThreads()
+    {
+        return ParallelUtil.getNumThreads(this);
+    }
+
+    /**
+     * A growable buffer of the indices and values of the documents.
+     */
+    private static class IndexValueBuffer
+        extends Object
+        implements Vector.IndexValueConsumer
+    {
+
+        /** The column index of each value. */
+        private int[] indices = new int[1024];
+
+        /** The values. */
+        private double[] values = new double[1024];
+
+        /** The number of values in the buffer. */
+        private int size = 0;
+
+        @Override
+        public void consume(
+            final int index,
+            final double value)
+        {
+            if (value == 0.0)
+            {
+                return;
+            }
+            if (this.size == this.indices.length)
+            {
+                final long capacity = Math.min(2L * this.size,
+                    Integer.MAX_VALUE - 8);
+                if (capacity <= this.size)
+                {
+                    throw new IllegalArgumentException(
+                        "Too many non-zero values for an array.");
+                }
+                this.indices = Arrays.copyOf(this.indices, (int) capacity);
+                this.values = Arrays.copyOf(this.values, (int) capacity);
+            }
+            this.indices[this.size] = index;
+            this.values[this.size] = value;
+            this.size++;
+        }
+
+        /**
+         * Sorts the entries added since the given position by index, in case
+         * a vector does not visit its entries in order.
+         *
+         * @param   start
+         *      The position of the first entry of the current row.
+         */
+        public void sortSince(
+            final int start)
+        {
+            for (int i = start + 1; i < this.size; i++)
+            {
+                final int index = this.indices[i];
+                if (index >= this.indices[i - 1])
+                {
+                    continue;
+                }
+
+                // Insertion sort, which is fast for nearly sorted rows.
+                final double value = this.values[i];
+                int j = i - 1;
+                while (j >= start && this.indices[j] > index)
+                {
+                    this.indices[j + 1] = this.indices[j];
+                    this.values[j + 1] = this.values[j];
+                    j--;
+                }
+                this.indices[j + 1] = index;
+                this.values[j + 1] = value;
+            }
+        }
+
+    }
+
+}
@@ -1,8 +1,17 @@
 
 package gov.sandia.cognition.text.algorithm;
 
+import gov.sandia.cognition.learning.algorithm.minimization.matrix.ConjugateGradientMatrixSolver;
+import gov.sandia.cognition.learning.algorithm.semisupervised.valence.MultipartiteValenceMatrix;
+import gov.sandia.cognition.math.matrix.Vector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import org.junit.Test;
 
@@ -163,4 +172,216 @@ public class ValenceSpreaderTest
         assertTrue(r.documentWeights.get("mean3") <= -.4);
     }
 
+    /**
+     * Creates random documents over numbered terms in the given spreader and
+     * in a map of their term weights.
+     *
+     * @param random The random number generator
+     * @param v The spreader to add the documents to
+     * @param documents The map to add the documents to
+     * @param first The number of the first document to create
+     * @param count The number of documents to create
+     */
+    private static void addRandomDocuments(Random random,
+        ValenceSpreader<String, String> v,
+        Map<String, Map<String, Double>> documents,
+        int first,
+        int count)
+    {
+        for (int i = first; i < first + count; ++i)
+        {
+            Map<String, Double> terms = new HashMap<String, Double>();
+            int length = 2 + random.nextInt(8);
+            for (int j = 0; j < length; ++j)
+            {
+                terms.put("t" + (100 + random.nextInt(60)),
+                    1.0 + random.nextInt(3));
+            }
+            String id = "d" + (1000 + i);
+            v.addDocumentTermWeights(id, terms);
+            documents.put(id, terms);
+        }
+    }
+
+    /**
+     * Tests that the results match solving with MultipartiteValenceMatrix and
+     * ConjugateGradientMatrixSolver, using one thread and several.
+     */
+    @Test
+    public void multipartiteValenceMatrixTest()
+    {
+        Random random = new Random(5050);
+        for (int power : new int[]
+        {
+            1, 4
+        })
+        {
+            ValenceSpreader<String, String> v =
+                new ValenceSpreader<String, String>();
+            v.setIterativeSolverTolerance(1e-16);
+            Map<String, Map<String, Double>> documents =
+                new HashMap<String, Map<String, Double>>();
+            addRandomDocuments(random, v, documents, 0, 120);
+            Map<String, Double> termScores = new HashMap<String, Double>();
+            for (int i = 0; i < 8; ++i)
+            {
+                termScores.put("t" + (100 + random.nextInt(60)),
+                    random.nextBoolean() ? 1.0 : -1.0);
+            }
+            for (Map.Entry<String, Double> e : termScores.entrySet())
+            {
+                v.addWeightedTerm(e.getKey(), e.getValue(), 2.0);
+            }
+            v.addWeightedDocument("d1003", 1.0);
+            v.addWeightedDocument("d1017", -1.0, 0.5);
+            // Scores for unknown terms and documents are ignored.
+            v.addWeightedTerm("unknown", 1.0);
+            v.addWeightedDocument("unknown", 1.0);
+
+            // Build the same system in MultipartiteValenceMatrix.
+            Set<String> termSet = new HashSet<String>();
+            for (Map<String, Double> document : documents.values())
+            {
+                termSet.addAll(document.keySet());
+            }
+            List<String> terms = new ArrayList<String>(termSet);
+            Collections.sort(terms);
+            List<String> ids = new ArrayList<String>(documents.keySet());
+            Collections.sort(ids);
+            MultipartiteValenceMatrix mvm = new MultipartiteValenceMatrix(
+                Arrays.asList(terms.size(), ids.size()), power, 1);
+            for (int i = 0; i < ids.size(); ++i)
+            {
+                for (Map.Entry<String, Double> e : documents.get(ids.get(i)).entrySet())
+                {
+                    mvm.addRelationship(0, terms.indexOf(e.getKey()), 1, i,
+                        e.getValue());
+                }
+            }
+            for (Map.Entry<String, Double> e : termScores.entrySet())
+            {
+                if (terms.contains(e.getKey()))
+                {
+                    mvm.setElementsScore(0, terms.indexOf(e.getKey()), 2.0,
+                        e.getValue());
+                }
+            }
+            mvm.setElementsScore(1, ids.indexOf("d1003"), 1.0, 1.0);
+            mvm.setElementsScore(1, ids.indexOf("d1017"), 0.5, -1.0);
+            Vector rhs = mvm.init();
+            Vector expected = new ConjugateGradientMatrixSolver(rhs, rhs,
+                1e-16).learn(mvm).getOutput();
+
+            for (int numThreads : new int[]
+            {
+                1, 3
+            })
+            {
+                v.setWarmStart(false);
+                v.setNumThreads(numThreads);
+                ValenceSpreader.Result<String, String> r = v.spreadValence(
+                    power);
+                assertEquals(terms.size(), r.termWeights.size());
+                assertEquals(ids.size(), r.documentWeights.size());
+                assertTrue(v.getIterationCount() > 0);
+                for (int i = 0; i < terms.size(); ++i)
+                {
+                    assertEquals(expected.getElement(i),
+                        r.termWeights.get(terms.get(i)), 1e-6);
+                }
+                for (int i = 0; i < ids.size(); ++i)
+                {
+                    assertEquals(expected.getElement(terms.size() + i),
+                        r.documentWeights.get(ids.get(i)), 1e-6);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that warm-starting from the previous result after adding a few
+     * documents gives the same result in fewer iterations.
+     */
+    @Test
+    public void warmStartTest()
+    {
+        Random random = new Random(5151);
+        ValenceSpreader<String, String> v =
+            new ValenceSpreader<String, String>();
+        v.setIterativeSolverTolerance(1e-16);
+        Map<String, Map<String, Double>> documents =
+            new HashMap<String, Map<String, Double>>();
+        addRandomDocuments(random, v, documents, 0, 300);
+        v.addWeightedTerm("t100", 1.0);
+        v.addWeightedTerm("t101", -1.0);
+        v.addWeightedTerm("t102", 1.0);
+        v.addWeightedTerm("t103", -1.0);
+        v.spreadValence();
+
+        addRandomDocuments(random, v, documents, 300, 3);
+        ValenceSpreader.Result<String, String> warm = v.spreadValence();
+        int warmIterations = v.getIterationCount();
+
+        v.setWarmStart(false);
+        ValenceSpreader.Result<String, String> cold = v.spreadValence();
+        int coldIterations = v.getIterationCount();
+        assertTrue(warmIterations < coldIterations);
+        assertEquals(303, warm.documentWeights.size());
+        for (Map.Entry<String, Double> e : cold.documentWeights.entrySet())
+        {
+            assertEquals(e.getValue(), warm.documentWeights.get(e.getKey()),
+                1e-4);
+        }
+        for (Map.Entry<String, Double> e : cold.termWeights.entrySet())
+        {
+            assertEquals(e.getValue(), warm.termWeights.get(e.getKey()), 1e-4);
+        }
+    }
+
+    /**
+     * Tests that changing a returned result does not change the warm start of
+     * the next call.
+     */
+    @Test
+    public void warmStartChangedResultTest()
+    {
+        List<ValenceSpreader.Result<String, String>> results =
+            new ArrayList<ValenceSpreader.Result<String, String>>();
+        List<Integer> iterations = new ArrayList<Integer>();
+        for (boolean change : new boolean[]
+        {
+            false, true
+        })
+        {
+            Random random = new Random(5151);
+            ValenceSpreader<String, String> v =
+                new ValenceSpreader<String, String>();
+            v.setIterativeSolverTolerance(1e-16);
+            v.setNumThreads(1);
+            Map<String, Map<String, Double>> documents =
+                new HashMap<String, Map<String, Double>>();
+            addRandomDocuments(random, v, documents, 0, 100);
+            v.addWeightedTerm("t100", 1.0);
+            v.addWeightedTerm("t101", -1.0);
+            ValenceSpreader.Result<String, String> first = v.spreadValence();
+            if (change)
+            {
+                for (Map.Entry<String, Double> e : first.termWeights.entrySet())
+                {
+                    e.setValue(1e6);
+                }
+                first.documentWeights.clear();
+            }
+
+            addRandomDocuments(random, v, documents, 100, 3);
+            results.add(v.spreadValence());
+            iterations.add(v.getIterationCount());
+        }
+
+        assertEquals(iterations.get(0), iterations.get(1));
+        assertEquals(results.get(0).termWeights, results.get(1).termWeights);
+        assertEquals(results.get(0).documentWeights,
+            results.get(1).documentWeights);
+    }
+
 }
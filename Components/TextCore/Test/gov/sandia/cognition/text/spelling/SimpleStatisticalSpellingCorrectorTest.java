@@ -16,7 +16,9 @@ package gov.sandia.cognition.text.spelling;
 
 import gov.sandia.cognition.statistics.distribution.DefaultDataDistribution;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -28,6 +30,10 @@ import static org.junit.Assert.*;
  */
 public class SimpleStatisticalSpellingCorrectorTest
 {
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4949);
+
     /**
      * Creates a new test.
      */
@@ -150,6 +156,149 @@ public class SimpleStatisticalSpellingCorrectorTest
         assertEquals("high", instance.findBest(words, defaultBestWord));
     }
 
+    /**
+     * Test of evaluate method, of class SimpleStatisticalSpellingCorrector,
+     * against enumerating all of the one and two-character edits.
+     */
+    @Test
+    public void testEvaluateAgainstEdits()
+    {
+        // Use a small alphabet for the words so that there are many nearby
+        // words, and restrict the corrector to part of it for some trials.
+        final String letters = "abcdef";
+        for (char[] alphabet : new char[][] {
+            letters.toCharArray(), "abcd".toCharArray() })
+        {
+            final SimpleStatisticalSpellingCorrector instance =
+                new SimpleStatisticalSpellingCorrector(alphabet);
+            for (int i = 0; i < 300; i++)
+            {
+                // Distinct counts avoid ties between the best words.
+                instance.add(this.randomWord(letters), 1 + i);
+            }
+
+            for (int i = 0; i < 500; i++)
+            {
+                final String word = this.randomWord(letters);
+                assertEquals(word, this.evaluateByEdits(instance, word),
+                    instance.evaluate(word));
+            }
+
+            // Add more words after the index was built.
+            for (int i = 0; i < 100; i++)
+            {
+                instance.add(this.randomWord(letters), 1000 + i);
+            }
+            for (int i = 0; i < 200; i++)
+            {
+                final String word = this.randomWord(letters);
+                assertEquals(word, this.evaluateByEdits(instance, word),
+                    instance.evaluate(word));
+            }
+        }
+    }
+
+    /**
+     * Creates a random word from the given letters.
+     *
+     * @param   letters
+     *      The letters to use.
+     * @return
+     *      A random word of one to eight letters.
+     */
+    protected String randomWord(
+        final String letters)
+    {
+        final int length = 1 + this.random.nextInt(8);
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+        {
+            result.append(letters.charAt(this.random.nextInt(letters.length())));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Corrects a word by enumerating all of its one and two-character edits.
+     *
+     * @param   instance
+     *      The spelling corrector.
+     * @param   word
+     *      The word to correct.
+     * @return
+     *      The correction.
+     */
+    protected String evaluateByEdits(
+        final SimpleStatisticalSpellingCorrector instance,
+        final String word)
+    {
+        if (instance.getWordCounts().get(word) > 0)
+        {
+            return word;
+        }
+
+        final HashSet<String> oneCharacterEdits = new HashSet<String>();
+        instance.possibleOneCharacterEdits(word, oneCharacterEdits);
+        final String result = instance.findBest(oneCharacterEdits, null);
+        if (result != null)
+        {
+            return result;
+        }
+        return instance.findBest(
+            instance.knownTwoCharacterEdits(oneCharacterEdits), word);
+    }
+
+    /**
+     * Test of editDistance method, of class
+     * SimpleStatisticalSpellingCorrector.
+     */
+    @Test
+    public void testEditDistance()
+    {
+        final SimpleStatisticalSpellingCorrector instance =
+            new SimpleStatisticalSpellingCorrector();
+        assertEquals(0, instance.editDistance("", ""));
+        assertEquals(0, instance.editDistance("word", "word"));
+        assertEquals(1, instance.editDistance("word", "wrd"));
+        assertEquals(1, instance.editDistance("wrd", "word"));
+        assertEquals(1, instance.editDistance("word", "ward"));
+        assertEquals(1, instance.editDistance("word", "wrod"));
+        assertEquals(2, instance.editDistance("word", "rowd"));
+        assertEquals(2, instance.editDistance("ca", "abc"));
+        assertEquals(2, instance.editDistance("acb", "ba"));
+        assertEquals(3, instance.editDistance("word", "w"));
+        assertEquals(3, instance.editDistance("abcdef", "badcfe"));
+
+        // Only letters in the alphabet can be inserted or replaced.
+        assertEquals(1, instance.editDistance("cafe", "caf"));
+        assertEquals(3, instance.editDistance("caf", "cafE"));
+        assertEquals(3, instance.editDistance("cafe", "cafE"));
+        assertEquals(1, instance.editDistance("cEfa", "cEaf"));
+    }
+
+    /**
+     * Test of clone method, of class SimpleStatisticalSpellingCorrector.
+     */
+    @Test
+    public void testClone()
+    {
+        final SimpleStatisticalSpellingCorrector instance =
+            new SimpleStatisticalSpellingCorrector();
+        instance.add("spelling", 2);
+        assertEquals("spelling", instance.evaluate("speling"));
+
+        final SimpleStatisticalSpellingCorrector clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertEquals("spelling", clone.evaluate("speling"));
+
+        // Changing the word counts directly needs the index to be cleared.
+        clone.setWordCounts(new DefaultDataDistribution<String>());
+        clone.getWordCounts().increment("spilling", 3);
+        assertEquals("spilling", clone.evaluate("spiling"));
+        assertEquals("wxyz", clone.evaluate("wxyz"));
+        assertEquals("spelling", instance.evaluate("speling"));
+    }
+
     /**
      * Test of getWordCounts method, of class SimpleStatisticalSpellingCorrector.
      */
@@ -0,0 +1,276 @@
+/*
+ * File:                ConcurrentTermIndexTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.io.ObjectSerializationHandler;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class ConcurrentTermIndex.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ConcurrentTermIndexTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4545);
+
+    /**
+     * Creates a new test.
+     */
+    public ConcurrentTermIndexTest()
+    {
+    }
+
+    /**
+     * Test of constructors of class ConcurrentTermIndex.
+     */
+    @Test
+    public void testConstructors()
+    {
+        ConcurrentTermIndex instance = new ConcurrentTermIndex();
+        assertEquals(0, instance.getTermCount());
+        assertEquals(ConcurrentTermIndex.DEFAULT_STRIPE_COUNT,
+            instance.stripes.length);
+
+        instance = new ConcurrentTermIndex(5);
+        assertEquals(8, instance.stripes.length);
+
+        instance = new ConcurrentTermIndex(1);
+        assertEquals(1, instance.stripes.length);
+        instance.add(new DefaultTerm("a"));
+        assertEquals(0, instance.getIndex(new DefaultTerm("a")));
+
+        DefaultTermIndex other = new DefaultTermIndex();
+        other.add(new DefaultTerm("x"));
+        other.add(new DefaultTerm("y"));
+        instance = new ConcurrentTermIndex(other);
+        assertEquals(2, instance.getTermCount());
+        assertEquals(1, instance.getIndex(new DefaultTerm("y")));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new ConcurrentTermIndex(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of clone method, of class ConcurrentTermIndex.
+     */
+    @Test
+    public void testClone()
+    {
+        ConcurrentTermIndex instance = new ConcurrentTermIndex();
+        instance.add(new DefaultTerm("a"));
+        instance.add(new DefaultTerm("b"));
+        ConcurrentTermIndex clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertNotSame(instance.stripes, clone.stripes);
+        assertNotSame(instance.chunks, clone.chunks);
+        assertEquals(instance.getTerms(), clone.getTerms());
+
+        clone.add(new DefaultTerm("c"));
+        assertEquals(3, clone.getTermCount());
+        assertEquals(2, instance.getTermCount());
+        assertEquals(-1, instance.getIndexForName("c"));
+        assertEquals(2, clone.getIndexForName("c"));
+    }
+
+    /**
+     * Test of add method, of class ConcurrentTermIndex.
+     */
+    @Test
+    public void testAdd()
+    {
+        DefaultTerm term0 = new DefaultTerm("term0");
+        DefaultTerm term1 = new DefaultTerm("term1");
+        DefaultTerm term2 = new DefaultTerm("term2");
+        ConcurrentTermIndex instance = new ConcurrentTermIndex();
+
+        assertNull(instance.add((Term) null));
+        assertEquals(new DefaultIndexedTerm(0, term0), instance.add(term0));
+        assertEquals(new DefaultIndexedTerm(1, term1), instance.add(term1));
+        assertEquals(new DefaultIndexedTerm(1, term1), instance.add(new DefaultTerm("term1")));
+        assertEquals(new DefaultIndexedTerm(2, term2), instance.add(term2));
+        assertEquals(new DefaultIndexedTerm(0, term0), instance.add(new DefaultTerm("term0")));
+        assertSame(term1, instance.getTerm(1));
+    }
+
+    /**
+     * Tests that the index behaves like a DefaultTermIndex for many terms,
+     * which spans several chunks and grows the stripes.
+     */
+    @Test
+    public void testMatchesDefaultTermIndex()
+    {
+        ConcurrentTermIndex instance = new ConcurrentTermIndex(4);
+        DefaultTermIndex expected = new DefaultTermIndex();
+        for (int i = 0; i < 5000; i++)
+        {
+            final String name = "t" + random.nextInt(3000);
+            if (random.nextBoolean())
+            {
+                assertEquals(expected.add(new DefaultTerm(name)),
+                    instance.add(new DefaultTerm(name)));
+            }
+            else
+            {
+                assertEquals(expected.intern(name),
+                    instance.intern(new StringBuilder(name)));
+            }
+        }
+
+        assertEquals(expected.getTermCount(), instance.getTermCount());
+        assertTrue(instance.getTermCount() > 2 * ConcurrentTermIndex.CHUNK_SIZE);
+        assertEquals(expected.getTerms(), instance.getTerms());
+        for (int i = 0; i < 3100; i++)
+        {
+            final String name = "t" + i;
+            final DefaultTerm term = new DefaultTerm(name);
+            assertEquals(expected.getIndex(term), instance.getIndex(term));
+            assertEquals(expected.getIndex(term),
+                instance.getIndexForName(new StringBuilder(name)));
+            assertEquals(expected.hasTerm(term), instance.hasTerm(term));
+            assertEquals(expected.getIndexedTerm(term),
+                instance.getIndexedTerm(term));
+        }
+        assertNull(instance.getIndexedTerm(-1));
+        assertNull(instance.getIndexedTerm(instance.getTermCount()));
+        assertNull(instance.getIndexedTerm((Term) null));
+        assertEquals(-1, instance.getIndex((Term) null));
+    }
+
+    /**
+     * Tests adding terms from several threads at once.
+     *
+     * @throws  Exception
+     *      If there is an error.
+     */
+    @Test
+    public void testConcurrentAdd()
+        throws Exception
+    {
+        final ConcurrentTermIndex instance = new ConcurrentTermIndex(8);
+        final int threadCount = 4;
+        final int termCount = 20000;
+        final ArrayList<Callable<int[]>> tasks =
+            new ArrayList<Callable<int[]>>();
+        for (int t = 0; t < threadCount; t++)
+        {
+            final long seed = random.nextLong();
+            tasks.add(new Callable<int[]>()
+            {
+                public int[] call()
+                {
+                    // Each thread adds every term in its own random order.
+                    final Random random = new Random(seed);
+                    final int[] order = new int[termCount];
+                    for (int i = 0; i < termCount; i++)
+                    {
+                        order[i] = i;
+                    }
+                    for (int i = termCount - 1; i > 0; i--)
+                    {
+                        final int j = random.nextInt(i + 1);
+                        final int swap = order[i];
+                        order[i] = order[j];
+                        order[j] = swap;
+                    }
+
+                    final int[] result = new int[termCount];
+                    for (int i : order)
+                    {
+                        result[i] = instance.intern("term" + i).getIndex();
+                    }
+                    return result;
+                }
+            });
+        }
+
+        final ThreadPoolExecutor threadPool =
+            ParallelUtil.createThreadPool(threadCount);
+        final List<int[]> results =
+            ParallelUtil.executeInParallel(tasks, threadPool);
+
+        // All the threads must agree on one index per term.
+        assertEquals(termCount, instance.getTermCount());
+        final HashSet<Integer> seen = new HashSet<Integer>();
+        for (int i = 0; i < termCount; i++)
+        {
+            final int index = results.get(0)[i];
+            for (int[] result : results)
+            {
+                assertEquals(index, result[i]);
+            }
+            assertTrue(seen.add(index));
+            assertEquals("term" + i, instance.getTerm(index).getName());
+            assertEquals(index, instance.getIndexForName("term" + i));
+        }
+    }
+
+    /**
+     * Tests serializing the index.
+     *
+     * @throws  Exception
+     *      If there is an error.
+     */
+    @Test
+    public void testSerialize()
+        throws Exception
+    {
+        ConcurrentTermIndex instance = new ConcurrentTermIndex();
+        for (int i = 0; i < 100; i++)
+        {
+            instance.add(new DefaultTerm("w" + i));
+        }
+
+        ConcurrentTermIndex copy = (ConcurrentTermIndex)
+            ObjectSerializationHandler.convertFromBytes(
+                ObjectSerializationHandler.convertToBytes(instance));
+        assertEquals(instance.getTerms(), copy.getTerms());
+        assertEquals(57, copy.getIndexForName("w57"));
+        assertEquals(100, copy.intern("new").getIndex());
+    }
+
+    /**
+     * Test of freeze method, of class ConcurrentTermIndex.
+     */
+    @Test
+    public void testFreeze()
+    {
+        ConcurrentTermIndex instance = new ConcurrentTermIndex();
+        instance.add(new DefaultTerm("a"));
+        instance.add(new DefaultTerm("b"));
+        FrozenTermIndex frozen = instance.freeze();
+        assertEquals(2, frozen.getTermCount());
+        assertEquals(0, frozen.getIndexForName("a"));
+        assertEquals(1, frozen.getIndexForName("b"));
+        assertEquals(-1, frozen.getIndexForName("c"));
+    }
+
+}
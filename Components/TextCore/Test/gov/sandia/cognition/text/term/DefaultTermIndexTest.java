@@ -290,6 +290,96 @@ public class DefaultTermIndexTest
         assertEquals(-1, instance.getIndex((Termable) term3));
     }
 
+    /**
+     * Test of getIndexForName method, of class DefaultTermIndex.
+     */
+    @Test
+    public void testGetIndexForName()
+    {
+        DefaultTermIndex instance = new DefaultTermIndex();
+        assertEquals(-1, instance.getIndexForName("term1"));
+
+        instance.add(new DefaultTerm("term1"));
+        instance.add(new DefaultTerm("term2"));
+        assertEquals(0, instance.getIndexForName("term1"));
+        assertEquals(1, instance.getIndexForName(new StringBuilder("term2")));
+        assertEquals(-1, instance.getIndexForName("term3"));
+        assertEquals(-1, instance.getIndexForName(""));
+
+        // Terms added after the names were looked up are found, including
+        // when the table grows.
+        for (int i = 3; i < 100; i++)
+        {
+            instance.add(new DefaultTerm("term" + i));
+        }
+        for (int i = 1; i < 100; i++)
+        {
+            assertEquals(i - 1,
+                instance.getIndexForName(new StringBuilder("term" + i)));
+            assertEquals(instance.getIndex(new DefaultTerm("term" + i)),
+                instance.getIndexForName("term" + i));
+        }
+        assertEquals(-1, instance.getIndexForName("term100"));
+
+        DefaultTermIndex clone = instance.clone();
+        clone.add(new DefaultTerm("clone"));
+        assertEquals(99, clone.getIndexForName("clone"));
+        assertEquals(-1, instance.getIndexForName("clone"));
+    }
+
+    /**
+     * Test of intern method, of class DefaultTermIndex.
+     */
+    @Test
+    public void testIntern()
+    {
+        DefaultTermIndex instance = new DefaultTermIndex();
+        StringBuilder name = new StringBuilder("alpha");
+        DefaultIndexedTerm alpha = instance.intern(name);
+        assertEquals(0, alpha.getIndex());
+        assertEquals("alpha", alpha.getTerm().getName());
+        assertEquals(1, instance.getTermCount());
+
+        // Changing the name afterward does not change the term.
+        name.setLength(0);
+        name.append("beta");
+        DefaultIndexedTerm beta = instance.intern(name);
+        assertEquals(1, beta.getIndex());
+        assertEquals("alpha", alpha.getTerm().getName());
+        assertEquals("beta", beta.getTerm().getName());
+
+        assertSame(alpha, instance.intern("alpha"));
+        assertSame(beta, instance.intern(new StringBuilder("beta")));
+        assertSame(alpha, instance.getIndexedTerm(new DefaultTerm("alpha")));
+        assertEquals(2, instance.getTermCount());
+
+        assertSame(beta, instance.add(new DefaultTerm("beta")));
+        assertEquals(2, instance.intern("gamma").getIndex());
+        assertEquals(3, instance.getTermCount());
+    }
+
+    /**
+     * Test of prepareForConcurrentReads method, of class DefaultTermIndex.
+     */
+    @Test
+    public void testPrepareForConcurrentReads()
+    {
+        DefaultTermIndex instance = new DefaultTermIndex();
+        instance.add(new DefaultTerm("term1"));
+        instance.add(new DefaultTerm("term2"));
+        assertNull(instance.nameTable);
+
+        instance.prepareForConcurrentReads();
+        int[] table = instance.nameTable;
+        assertNotNull(table);
+
+        // Lookups use the prepared table rather than creating a new one.
+        assertEquals(1, instance.getIndexForName("term2"));
+        assertSame(table, instance.nameTable);
+        instance.prepareForConcurrentReads();
+        assertSame(table, instance.nameTable);
+    }
+
     /**
      * Test of getTerm method, of class DefaultTermIndex.
      */
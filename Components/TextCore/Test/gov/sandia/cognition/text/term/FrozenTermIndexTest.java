@@ -0,0 +1,228 @@
+/*
+ * File:                FrozenTermIndexTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term;
+
+import gov.sandia.cognition.io.ObjectSerializationHandler;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.text.term.vector.BagOfWordsTransform;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class FrozenTermIndex.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class FrozenTermIndexTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4546);
+
+    /**
+     * Creates a new test.
+     */
+    public FrozenTermIndexTest()
+    {
+    }
+
+    /**
+     * Creates a term index with random names.
+     *
+     * @param   count
+     *      The number of terms.
+     * @return
+     *      A new term index.
+     */
+    protected DefaultTermIndex createIndex(
+        final int count)
+    {
+        final DefaultTermIndex result = new DefaultTermIndex();
+        while (result.getTermCount() < count)
+        {
+            final int length = 1 + random.nextInt(8);
+            final StringBuilder name = new StringBuilder();
+            for (int i = 0; i < length; i++)
+            {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            result.intern(name);
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class FrozenTermIndex.
+     */
+    @Test
+    public void testConstructors()
+    {
+        FrozenTermIndex instance = new FrozenTermIndex(new DefaultTermIndex());
+        assertEquals(0, instance.getTermCount());
+        assertEquals(-1, instance.getIndexForName("a"));
+        assertTrue(instance.getTerms().isEmpty());
+
+        DefaultTermIndex other = new DefaultTermIndex();
+        other.add(new DefaultTerm("only"));
+        instance = new FrozenTermIndex(other);
+        assertEquals(1, instance.getTermCount());
+        assertEquals(0, instance.getIndexForName("only"));
+        assertEquals(-1, instance.getIndexForName("other"));
+        assertEquals(-1, instance.getIndexForName(""));
+    }
+
+    /**
+     * Tests that the frozen index has the same terms and indices as the
+     * index it was built from, for several sizes.
+     */
+    @Test
+    public void testMatchesSource()
+    {
+        for (int count : new int[] { 2, 3, 7, 50, 1000, 20000 })
+        {
+            final DefaultTermIndex source = this.createIndex(count);
+            final FrozenTermIndex instance = new FrozenTermIndex(source);
+            assertEquals(count, instance.getTermCount());
+            assertEquals(source.getTerms(), instance.getTerms());
+
+            for (int i = 0; i < count; i++)
+            {
+                final Term term = source.getTerm(i);
+                assertEquals(i, instance.getIndex(term));
+                assertEquals(i, instance.getIndexForName(
+                    new StringBuilder(term.getName())));
+                assertEquals(term, instance.getTerm(i));
+                assertEquals(term.getName(), instance.getTermName(i));
+                assertTrue(instance.hasTerm(term));
+                assertEquals(source.getIndexedTerm(i),
+                    instance.getIndexedTerm(term));
+            }
+
+            // Names that are not in the index are not found.
+            for (int i = 0; i < 200; i++)
+            {
+                final String name = "#" + random.nextInt();
+                assertEquals(-1, instance.getIndexForName(name));
+                assertFalse(instance.hasTerm(new DefaultTerm(name)));
+            }
+        }
+    }
+
+    /**
+     * Test of add method, of class FrozenTermIndex.
+     */
+    @Test
+    public void testAdd()
+    {
+        DefaultTermIndex source = new DefaultTermIndex();
+        source.add(new DefaultTerm("a"));
+        source.add(new DefaultTerm("b"));
+        FrozenTermIndex instance = new FrozenTermIndex(source);
+        assertNull(instance.add((Term) null));
+        assertEquals(1, instance.add(new DefaultTerm("b")).getIndex());
+        assertEquals(0, instance.intern("a").getIndex());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.add(new DefaultTerm("c"));
+        }
+        catch (UnsupportedOperationException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(2, instance.getTermCount());
+    }
+
+    /**
+     * Test of getIndexedTerm method, of class FrozenTermIndex.
+     */
+    @Test
+    public void testGetIndexedTerm()
+    {
+        DefaultTermIndex source = this.createIndex(10);
+        FrozenTermIndex instance = new FrozenTermIndex(source);
+        assertNull(instance.getIndexedTerm(-1));
+        assertNull(instance.getIndexedTerm(10));
+        assertNull(instance.getIndexedTerm(new DefaultTerm("?")));
+        assertNull(instance.getIndexedTerm((Term) null));
+        assertTrue(instance.hasIndexedTerm(source.getIndexedTerm(3)));
+        assertFalse(instance.hasIndexedTerm(
+            new DefaultIndexedTerm(3, new DefaultTerm("?"))));
+    }
+
+    /**
+     * Tests serializing and cloning the index.
+     *
+     * @throws  Exception
+     *      If there is an error.
+     */
+    @Test
+    public void testSerialize()
+        throws Exception
+    {
+        DefaultTermIndex source = this.createIndex(500);
+        FrozenTermIndex instance = new FrozenTermIndex(source);
+        FrozenTermIndex copy = (FrozenTermIndex)
+            ObjectSerializationHandler.convertFromBytes(
+                ObjectSerializationHandler.convertToBytes(instance));
+        FrozenTermIndex clone = instance.clone();
+        assertNotSame(instance, clone);
+        for (int i = 0; i < 500; i++)
+        {
+            final String name = source.getTerm(i).getName();
+            assertEquals(i, copy.getIndexForName(name));
+            assertEquals(i, clone.getIndexForName(name));
+        }
+    }
+
+    /**
+     * Tests that vectorizing with a frozen index gives the same vectors.
+     */
+    @Test
+    public void testBagOfWords()
+    {
+        DefaultTermIndex source = this.createIndex(300);
+        FrozenTermIndex instance = new FrozenTermIndex(source);
+        for (int n = 0; n < 20; n++)
+        {
+            final ArrayList<Term> terms = new ArrayList<Term>();
+            for (int i = 0; i < 50; i++)
+            {
+                terms.add(random.nextInt(10) == 0 ? new DefaultTerm("?")
+                    : source.getTerm(random.nextInt(30)));
+            }
+
+            final Vector expected = VectorFactory.getDenseDefault()
+                .createVector(300);
+            for (Term term : terms)
+            {
+                final int index = source.getIndex(term);
+                if (index >= 0)
+                {
+                    expected.increment(index, 1.0);
+                }
+            }
+
+            assertEquals(expected, BagOfWordsTransform.convertToVector(
+                terms, instance, VectorFactory.getSparseDefault()));
+            assertEquals(expected, BagOfWordsTransform.convertToVector(
+                terms, source, VectorFactory.getSparseDefault()));
+        }
+    }
+
+}
@@ -180,6 +180,55 @@ public class DefaultStopListTest
         // Tested by testAdd.
     }
 
+    /**
+     * Test of contains method with a character sequence, of class
+     * DefaultStopList.
+     */
+    @Test
+    public void testContains_CharSequence()
+    {
+        DefaultStopList instance = new DefaultStopList();
+        assertFalse(instance.contains((CharSequence) "a"));
+        assertFalse(instance.contains((CharSequence) ""));
+
+        String[] words = { "a", "an", "the", "of", "and", "or", "to", "in" };
+        instance.addAll(Arrays.asList(words));
+        for (String word : words)
+        {
+            assertTrue(instance.contains(new StringBuilder(word)));
+            assertTrue(instance.contains(
+                new StringBuilder(word.toUpperCase())));
+        }
+        assertFalse(instance.contains(new StringBuilder("")));
+        assertFalse(instance.contains(new StringBuilder("th")));
+        assertFalse(instance.contains(new StringBuilder("them")));
+        assertFalse(instance.contains(new StringBuilder("word")));
+
+        // Adding words after a lookup must be visible.
+        instance.add("Word");
+        assertTrue(instance.contains(new StringBuilder("word")));
+        assertTrue(instance.contains(new StringBuilder("WORD")));
+
+        // Compare against the set for many words.
+        for (int i = 0; i < 300; i++)
+        {
+            instance.add("w" + (2 * i));
+        }
+        for (int i = 0; i < 600; i++)
+        {
+            final String word = "W" + i;
+            assertEquals(instance.contains(word),
+                instance.contains(new StringBuilder(word)));
+            assertEquals(i % 2 == 0,
+                instance.contains(new StringBuilder(word)));
+        }
+
+        DefaultStopList clone = instance.clone();
+        clone.add("cloned");
+        assertTrue(clone.contains(new StringBuilder("cloned")));
+        assertFalse(instance.contains(new StringBuilder("cloned")));
+    }
+
     /**
      * Test of getWords method, of class DefaultStopList.
      */
@@ -19,6 +19,7 @@ import gov.sandia.cognition.text.term.DefaultTermOccurrence;
 import gov.sandia.cognition.text.term.TermOccurrence;
 import java.util.Iterator;
 import java.util.LinkedList;
+import gov.sandia.cognition.text.token.TokenBuffer;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -72,4 +73,22 @@ public class LowerCaseTermFilterTest
 
     }
 
+    /**
+     * Test of filterInPlace method, of class LowerCaseTermFilter.
+     */
+    @Test
+    public void testFilterInPlace()
+    {
+        LowerCaseTermFilter instance = new LowerCaseTermFilter();
+        TokenBuffer token = new TokenBuffer();
+        for (String text : new String[] { "TesT", "", "aBc 123", "lower" })
+        {
+            token.setCharacters(text.toCharArray(), 0, text.length());
+            token.setStart(7);
+            assertTrue(instance.filterInPlace(token));
+            assertEquals(text.toLowerCase(), token.toString());
+            assertEquals(7, token.getStart());
+        }
+    }
+
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import gov.sandia.cognition.text.term.TermOccurrence;
 import gov.sandia.cognition.text.token.DefaultToken;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import gov.sandia.cognition.text.token.TokenBuffer;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -72,6 +73,31 @@ public class StopListFilterTest
         assertNull(instance.filterTerm(bad2));
     }
 
+    /**
+     * Test of filterInPlace method, of class StopListFilter.
+     */
+    @Test
+    public void testFilterInPlace()
+    {
+        DefaultStopList stopList = new DefaultStopList();
+        stopList.add("bad");
+        StopListFilter instance = new StopListFilter(stopList);
+
+        TokenBuffer token = new TokenBuffer();
+        for (String text : new String[] { "good", "Good", "ba", "bads" })
+        {
+            token.setCharacters(text.toCharArray(), 0, text.length());
+            assertTrue(instance.filterInPlace(token));
+            assertEquals(text, token.toString());
+        }
+
+        for (String text : new String[] { "bad", "Bad", "BAD" })
+        {
+            token.setCharacters(text.toCharArray(), 0, text.length());
+            assertFalse(instance.filterInPlace(token));
+        }
+    }
+
     /**
      * Test of getStopList method, of class StopListFilter.
      */
@@ -17,6 +17,7 @@ package gov.sandia.cognition.text.term.filter;
 import gov.sandia.cognition.text.term.DefaultTerm;
 import gov.sandia.cognition.text.term.DefaultTermOccurrence;
 import gov.sandia.cognition.text.term.TermOccurrence;
+import gov.sandia.cognition.text.token.TokenBuffer;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -108,6 +109,32 @@ public class TermLengthFilterTest
         assertSame(six, instance.filterTerm(six));
     }
 
+    /**
+     * Test of filterInPlace method, of class TermLengthFilter.
+     */
+    @Test
+    public void testFilterInPlace()
+    {
+        TermLengthFilter instance = new TermLengthFilter(2, 5);
+        TokenBuffer token = new TokenBuffer();
+        String text = "abcdef";
+        boolean[] expected = { false, false, true, true, true, true, false };
+        for (int length = 0; length <= text.length(); length++)
+        {
+            token.setCharacters(text.toCharArray(), 0, length);
+            assertEquals(expected[length], instance.filterInPlace(token));
+            assertEquals(length, token.length());
+        }
+
+        instance.setMinimumLength(null);
+        instance.setMaximumLength(null);
+        for (int length = 0; length <= text.length(); length++)
+        {
+            token.setCharacters(text.toCharArray(), 0, length);
+            assertTrue(instance.filterInPlace(token));
+        }
+    }
+
     /**
      * Test of getMinimumLength method, of class TermLengthFilter.
      */
@@ -0,0 +1,188 @@
+/*
+ * File:                TokenBufferFilterChainTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.filter;
+
+import gov.sandia.cognition.text.term.DefaultTermIndex;
+import gov.sandia.cognition.text.term.TermOccurrence;
+import gov.sandia.cognition.text.term.filter.stem.PorterEnglishStemmingFilter;
+import gov.sandia.cognition.text.token.CharacterTokenCursor;
+import gov.sandia.cognition.text.token.LetterNumberTokenizer;
+import gov.sandia.cognition.text.token.TokenBuffer;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class TokenBufferFilterChain.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class TokenBufferFilterChainTest
+{
+
+    /**
+     * Creates a new test.
+     */
+    public TokenBufferFilterChainTest()
+    {
+    }
+
+    /**
+     * Test of constructors of class TokenBufferFilterChain.
+     */
+    @Test
+    public void testConstructors()
+    {
+        TokenBufferFilterChain instance = new TokenBufferFilterChain();
+        assertTrue(instance.getFilters().isEmpty());
+
+        LowerCaseTermFilter lowerCase = new LowerCaseTermFilter();
+        TermLengthFilter length = new TermLengthFilter();
+        instance = new TokenBufferFilterChain(lowerCase, length);
+        assertEquals(2, instance.getFilters().size());
+        assertSame(lowerCase, instance.getFilters().get(0));
+        assertSame(length, instance.getFilters().get(1));
+
+        instance = new TokenBufferFilterChain(
+            Arrays.<TokenBufferFilter>asList(length));
+        assertEquals(1, instance.getFilters().size());
+        assertSame(length, instance.getFilters().get(0));
+    }
+
+    /**
+     * Test of clone method, of class TokenBufferFilterChain.
+     */
+    @Test
+    public void testClone()
+    {
+        TermLengthFilter length = new TermLengthFilter();
+        TokenBufferFilterChain instance = new TokenBufferFilterChain(length);
+        TokenBufferFilterChain clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertNotSame(instance.getFilters(), clone.getFilters());
+        assertEquals(1, clone.getFilters().size());
+        assertNotSame(length, clone.getFilters().get(0));
+
+        clone.add(new LowerCaseTermFilter());
+        assertEquals(1, instance.getFilters().size());
+        assertEquals(2, clone.getFilters().size());
+    }
+
+    /**
+     * Test of filterInPlace method, of class TokenBufferFilterChain.
+     */
+    @Test
+    public void testFilterInPlace()
+    {
+        DefaultStopList stopList = new DefaultStopList();
+        stopList.add("the");
+        TokenBufferFilterChain instance = new TokenBufferFilterChain();
+
+        TokenBuffer token = new TokenBuffer();
+        token.setCharacters("Running".toCharArray(), 0, 7);
+        assertTrue(instance.filterInPlace(token));
+        assertEquals("Running", token.toString());
+
+        instance.add(new LowerCaseTermFilter());
+        instance.add(new StopListFilter(stopList));
+        instance.add(new TermLengthFilter(3, 10));
+        instance.add(new PorterEnglishStemmingFilter());
+        assertTrue(instance.filterInPlace(token));
+        assertEquals("run", token.toString());
+
+        token.setCharacters("THE".toCharArray(), 0, 3);
+        assertFalse(instance.filterInPlace(token));
+        token.setCharacters("An".toCharArray(), 0, 2);
+        assertFalse(instance.filterInPlace(token));
+        token.setCharacters("Connections".toCharArray(), 0, 11);
+        assertFalse(instance.filterInPlace(token));
+    }
+
+    /**
+     * Tests that the streaming pipeline of a cursor, filter chain, and term
+     * index gives the same terms as tokenizing and filtering with objects.
+     */
+    @Test
+    public void testStreamingMatchesTermFilters()
+    {
+        final String text = "The connected Connections were RUNNING through "
+            + "the generalizations; an oscillator oscillates. It is 42 and "
+            + "the Runner runs, connecting... ALL of the things!";
+
+        final DefaultStopList stopList = new DefaultStopList(Arrays.asList(
+            "the", "an", "it", "is", "and", "of", "all"));
+        final LowerCaseTermFilter lowerCase = new LowerCaseTermFilter();
+        final StopListFilter stop = new StopListFilter(stopList);
+        final TermLengthFilter length = new TermLengthFilter(2, 10);
+        final PorterEnglishStemmingFilter stemmer =
+            new PorterEnglishStemmingFilter();
+
+        // The object-based pipeline.
+        final LetterNumberTokenizer tokenizer = new LetterNumberTokenizer();
+        Iterable<? extends TermOccurrence> terms = tokenizer.tokenize(text);
+        for (SingleTermFilter filter : Arrays.<SingleTermFilter>asList(
+            lowerCase, stop, length, stemmer))
+        {
+            terms = filter.filterTerms(terms);
+        }
+        final DefaultTermIndex expectedIndex = new DefaultTermIndex();
+        final ArrayList<Integer> expected = new ArrayList<Integer>();
+        for (TermOccurrence term : terms)
+        {
+            expected.add(expectedIndex.add(term).getIndex());
+        }
+
+        // The streaming pipeline.
+        final TokenBufferFilterChain chain = new TokenBufferFilterChain(
+            lowerCase, stop, length, stemmer);
+        final DefaultTermIndex index = new DefaultTermIndex();
+        final CharacterTokenCursor cursor = tokenizer.createTokenCursor();
+        final ArrayList<Integer> actual = new ArrayList<Integer>();
+        final ArrayList<Integer> starts = new ArrayList<Integer>();
+        cursor.reset(new StringReader(text));
+        while (cursor.next())
+        {
+            final TokenBuffer token = cursor.getToken();
+            if (chain.filterInPlace(token))
+            {
+                actual.add(index.intern(token).getIndex());
+                starts.add(token.getStart());
+            }
+        }
+
+        assertTrue(expected.size() > 10);
+        assertEquals(expected, actual);
+        assertEquals(expectedIndex.getTerms(), index.getTerms());
+
+        // The offsets still refer to the original text.
+        final Iterator<Integer> startIterator = starts.iterator();
+        for (TermOccurrence term : terms)
+        {
+            assertEquals(term.getStart(), (int) startIterator.next());
+        }
+
+        // Tokenizing the same text again does not add terms.
+        final int termCount = index.getTermCount();
+        cursor.reset(text);
+        while (cursor.next())
+        {
+            if (chain.filterInPlace(cursor.getToken()))
+            {
+                assertTrue(index.getIndexForName(cursor.getToken()) >= 0);
+                index.intern(cursor.getToken());
+            }
+        }
+        assertEquals(termCount, index.getTermCount());
+    }
+
+}
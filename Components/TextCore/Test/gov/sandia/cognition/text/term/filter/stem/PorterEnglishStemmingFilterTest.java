@@ -17,6 +17,7 @@ package gov.sandia.cognition.text.term.filter.stem;
 import gov.sandia.cognition.text.term.DefaultTerm;
 import gov.sandia.cognition.text.term.DefaultTermOccurrence;
 import gov.sandia.cognition.text.term.TermOccurrence;
+import gov.sandia.cognition.text.token.TokenBuffer;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -62,6 +63,29 @@ public class PorterEnglishStemmingFilterTest
         assertEquals(occurrence.getLength(), result.getLength());
     }
 
+    /**
+     * Test of filterInPlace method, of class PorterEnglishStemmingFilter.
+     */
+    @Test
+    public void testFilterInPlace()
+    {
+        PorterEnglishStemmingFilter instance = new PorterEnglishStemmingFilter();
+        TokenBuffer token = new TokenBuffer();
+        String[] words = { "connected", "connections", "a", "is",
+            "generalizations", "oscillators", "running", "" };
+        for (String word : words)
+        {
+            token.setCharacters(word.toCharArray(), 0, word.length());
+            token.setStart(3);
+            token.setSourceLength(word.length());
+            assertTrue(instance.filterInPlace(token));
+            assertEquals(PorterEnglishStemmingFilter.stem(word),
+                token.toString());
+            assertEquals(3, token.getStart());
+            assertEquals(word.length(), token.getSourceLength());
+        }
+    }
+
     /**
      * Test of filterTerm method, of class PorterEnglishStemmingFilter.
      */
@@ -0,0 +1,265 @@
+/*
+ * File:                AllPairsTermSimilarityNetworkCreatorTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.relation;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.DimensionalityMismatchException;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.math.matrix.custom.SparseMatrix;
+import gov.sandia.cognition.text.term.DefaultTerm;
+import gov.sandia.cognition.text.term.DefaultTermIndex;
+import gov.sandia.cognition.text.term.vector.CosineSimilarityFunction;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class AllPairsTermSimilarityNetworkCreator.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class AllPairsTermSimilarityNetworkCreatorTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4848);
+
+    /**
+     * Creates a new test.
+     */
+    public AllPairsTermSimilarityNetworkCreatorTest()
+    {
+    }
+
+    /**
+     * Creates a term index with the given number of terms.
+     *
+     * @param   termCount
+     *      The number of terms.
+     * @return
+     *      A new term index.
+     */
+    protected DefaultTermIndex createTermIndex(
+        final int termCount)
+    {
+        final DefaultTermIndex result = new DefaultTermIndex();
+        for (int i = 0; i < termCount; i++)
+        {
+            result.add(new DefaultTerm("term" + i));
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class AllPairsTermSimilarityNetworkCreator.
+     */
+    @Test
+    public void testConstructors()
+    {
+        AllPairsTermSimilarityNetworkCreator instance =
+            new AllPairsTermSimilarityNetworkCreator();
+        assertEquals(AllPairsTermSimilarityNetworkCreator.DEFAULT_THRESHOLD,
+            instance.getThreshold(), 0.0);
+
+        instance = new AllPairsTermSimilarityNetworkCreator(0.8);
+        assertEquals(0.8, instance.getThreshold(), 0.0);
+    }
+
+    /**
+     * Test of create method, of class AllPairsTermSimilarityNetworkCreator,
+     * against comparing all pairs of terms.
+     */
+    @Test
+    public void testCreate()
+    {
+        final int termCount = 300;
+        final DefaultTermIndex termIndex = this.createTermIndex(termCount);
+        final ArrayList<Vector> documents = new ArrayList<Vector>();
+        for (int i = 0; i < 400; i++)
+        {
+            // Draw the terms from a few topics so that some are similar.
+            final Vector document =
+                VectorFactory.getSparseDefault().createVector(termCount);
+            final int topic = this.random.nextInt(10);
+            final int length = 1 + this.random.nextInt(30);
+            for (int j = 0; j < length; j++)
+            {
+                final int term = this.random.nextDouble() < 0.7
+                    ? (topic * 30 + this.random.nextInt(30)) % termCount
+                    : this.random.nextInt(termCount);
+                document.increment(term, 1.0 + this.random.nextInt(3));
+            }
+            documents.add(document);
+        }
+
+        final TermVectorSimilarityNetworkCreator exhaustive =
+            new TermVectorSimilarityNetworkCreator(
+                new CosineSimilarityFunction());
+        final Matrix all = exhaustive.create(documents, termIndex)
+            .getSimilarities();
+
+        final AllPairsTermSimilarityNetworkCreator instance =
+            new AllPairsTermSimilarityNetworkCreator();
+        instance.setThreadPool(ParallelUtil.createThreadPool(3));
+        for (double threshold : new double[] { 0.05, 0.2, 0.4, 0.7, 1.0 })
+        {
+            instance.setThreshold(threshold);
+            final MatrixBasedTermSimilarityNetwork result =
+                instance.create(documents, termIndex);
+            assertSame(termIndex, result.getTermIndex());
+            assertTrue(result.getSimilarities() instanceof SparseMatrix);
+
+            final Matrix actual = result.getSimilarities();
+            int pairCount = 0;
+            for (int i = 0; i < termCount; i++)
+            {
+                for (int j = 0; j < termCount; j++)
+                {
+                    final double similarity = all.getElement(i, j);
+                    if (i == j && similarity != 0.0)
+                    {
+                        assertEquals(1.0, actual.getElement(i, j), 0.0);
+                    }
+                    else if (similarity >= threshold + 1e-10)
+                    {
+                        assertEquals(similarity, actual.getElement(i, j),
+                            1e-10);
+                        pairCount++;
+                    }
+                    else if (similarity < threshold - 1e-10)
+                    {
+                        assertEquals(0.0, actual.getElement(i, j), 0.0);
+                    }
+                }
+            }
+
+            if (threshold <= 0.4)
+            {
+                assertTrue(pairCount > 0);
+            }
+        }
+    }
+
+    /**
+     * Test of create method, of class AllPairsTermSimilarityNetworkCreator,
+     * on the example from TermVectorSimilarityNetworkCreatorTest, which has
+     * terms with exactly the same vector.
+     */
+    @Test
+    public void testCreateExample()
+    {
+        final double[][] data = new double[][] {
+            { 1, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+            { 0, 0, 1, 1, 1, 1, 1, 0, 1, 0, 0, 0 },
+            { 0, 1, 0, 1, 1, 0, 0, 1, 0, 0, 0, 0 },
+            { 1, 0, 0, 0, 2, 0, 0, 1, 0, 0, 0, 0 },
+            { 0, 0, 0, 1, 0, 1, 1, 0, 0, 0, 0, 0 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 1, 1 }
+        };
+        final ArrayList<Vector> documents = new ArrayList<Vector>();
+        for (double[] values : data)
+        {
+            documents.add(VectorFactory.getDefault().copyArray(values));
+        }
+        final DefaultTermIndex termIndex = this.createTermIndex(12);
+
+        final AllPairsTermSimilarityNetworkCreator instance =
+            new AllPairsTermSimilarityNetworkCreator(0.8);
+        final Matrix result = instance.create(documents, termIndex)
+            .getSimilarities();
+
+        // Response and time have the same vector.
+        assertEquals(1.0, result.getElement(5, 6), 1e-10);
+        assertEquals(1.0, result.getElement(6, 5), 1e-10);
+        assertEquals(0.82, result.getElement(3, 5), 0.01);
+        assertEquals(0.87, result.getElement(4, 7), 0.01);
+        assertEquals(0.82, result.getElement(10, 11), 0.01);
+        assertEquals(0.0, result.getElement(9, 10), 0.0);
+        assertEquals(0.0, result.getElement(0, 4), 0.0);
+
+        int count = 0;
+        for (int i = 0; i < 12; i++)
+        {
+            for (int j = 0; j < 12; j++)
+            {
+                count += result.getElement(i, j) != 0.0 ? 1 : 0;
+            }
+        }
+        // The diagonal plus five pairs in both directions.
+        assertEquals(12 + 2 * 5, count);
+    }
+
+    /**
+     * Test of create method, of class AllPairsTermSimilarityNetworkCreator,
+     * with bad documents.
+     */
+    @Test
+    public void testCreateBadDimensionality()
+    {
+        final AllPairsTermSimilarityNetworkCreator instance =
+            new AllPairsTermSimilarityNetworkCreator();
+        final ArrayList<Vector> documents = new ArrayList<Vector>();
+        documents.add(VectorFactory.getDefault().createVector(4));
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.create(documents, this.createTermIndex(3));
+        }
+        catch (DimensionalityMismatchException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of setThreshold method, of class
+     * AllPairsTermSimilarityNetworkCreator.
+     */
+    @Test
+    public void testSetThreshold()
+    {
+        final AllPairsTermSimilarityNetworkCreator instance =
+            new AllPairsTermSimilarityNetworkCreator();
+        instance.setThreshold(1.0);
+        assertEquals(1.0, instance.getThreshold(), 0.0);
+        instance.setThreshold(0.1);
+        assertEquals(0.1, instance.getThreshold(), 0.0);
+
+        for (double bad : new double[] { 0.0, -0.1, 1.1, Double.NaN })
+        {
+            boolean exceptionThrown = false;
+            try
+            {
+                instance.setThreshold(bad);
+            }
+            catch (IllegalArgumentException e)
+            {
+                exceptionThrown = true;
+            }
+            finally
+            {
+                assertTrue(exceptionThrown);
+            }
+            assertEquals(0.1, instance.getThreshold(), 0.0);
+        }
+    }
+
+}
@@ -0,0 +1,395 @@
+/*
+ * File:                CosineInvertedIndexTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.vector;
+
+import gov.sandia.cognition.io.ObjectSerializationHandler;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.util.DefaultWeightedValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class CosineInvertedIndex.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class CosineInvertedIndexTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4747);
+
+    /**
+     * Creates a new test.
+     */
+    public CosineInvertedIndexTest()
+    {
+    }
+
+    /**
+     * Creates a random sparse document vector where the low terms are much
+     * more common than the high ones.
+     *
+     * @param   dimensionality
+     *      The number of terms.
+     * @param   termCount
+     *      The number of term occurrences to draw.
+     * @return
+     *      A new random document vector.
+     */
+    protected Vector createDocument(
+        final int dimensionality,
+        final int termCount)
+    {
+        final Vector result =
+            VectorFactory.getSparseDefault().createVector(dimensionality);
+        for (int i = 0; i < termCount; i++)
+        {
+            final int term = (int) (dimensionality
+                * Math.pow(this.random.nextDouble(), 3.0));
+            result.increment(term, 1.0 + this.random.nextDouble());
+        }
+        return result;
+    }
+
+    /**
+     * Finds the most similar documents by scoring every document.
+     *
+     * @param   documents
+     *      The documents.
+     * @param   removed
+     *      Whether each document has been removed.
+     * @param   query
+     *      The query.
+     * @param   k
+     *      The number of documents to find.
+     * @return
+     *      The similarities of the k most similar documents that share a term
+     *      with the query, in decreasing order.
+     */
+    protected double[] findExhaustive(
+        final List<Vector> documents,
+        final boolean[] removed,
+        final Vector query,
+        final int k)
+    {
+        final ArrayList<Double> similarities = new ArrayList<Double>();
+        for (int i = 0; i < documents.size(); i++)
+        {
+            final Vector document = documents.get(i);
+            if (!removed[i] && document.dotProduct(query) != 0.0)
+            {
+                similarities.add(document.cosine(query));
+            }
+        }
+        similarities.sort((first, second) -> Double.compare(second, first));
+        final int count = Math.min(k, similarities.size());
+        final double[] result = new double[count];
+        for (int i = 0; i < count; i++)
+        {
+            result[i] = similarities.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructors of class CosineInvertedIndex.
+     */
+    @Test
+    public void testConstructors()
+    {
+        CosineInvertedIndex instance = new CosineInvertedIndex();
+        assertEquals(0, instance.getDocumentCount());
+        assertEquals(0, instance.getAddedCount());
+        assertTrue(instance.findMostSimilar(
+            this.createDocument(10, 5), 3).isEmpty());
+    }
+
+    /**
+     * Test of clone method, of class CosineInvertedIndex.
+     */
+    @Test
+    public void testClone()
+    {
+        CosineInvertedIndex instance = new CosineInvertedIndex();
+        final Vector first = this.createDocument(20, 10);
+        instance.add(first);
+        CosineInvertedIndex clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertEquals(1, clone.getDocumentCount());
+
+        clone.add(first.scale(2.0));
+        clone.removeDocument(0);
+        assertEquals(1, instance.getDocumentCount());
+        assertEquals(1, instance.findMostSimilar(first, 5).size());
+        assertEquals(0, (int) instance.findMostSimilar(first, 5).get(0)
+            .getValue());
+        assertEquals(1, clone.findMostSimilar(first, 5).size());
+        assertEquals(1, (int) clone.findMostSimilar(first, 5).get(0)
+            .getValue());
+    }
+
+    /**
+     * Test of add and findMostSimilar methods, of class CosineInvertedIndex,
+     * on a small example.
+     */
+    @Test
+    public void testFindMostSimilarKnown()
+    {
+        final VectorFactory<?> factory = VectorFactory.getSparseDefault();
+        final CosineInvertedIndex instance = new CosineInvertedIndex();
+        assertEquals(0, instance.addDocument(
+            factory.copyValues(1.0, 1.0, 0.0, 0.0)));
+        assertEquals(1, instance.addDocument(
+            factory.copyValues(0.0, 1.0, 1.0, 0.0)));
+        assertEquals(2, instance.addDocument(
+            factory.copyValues(0.0, 0.0, 0.0, 3.0)));
+        assertEquals(3, instance.addDocument(
+            factory.copyValues(0.0, 0.0, 0.0, 0.0)));
+        assertEquals(4, instance.getDocumentCount());
+
+        List<DefaultWeightedValue<Integer>> result = instance.findMostSimilar(
+            factory.copyValues(2.0, 2.0, 0.0, 0.0), 10);
+        assertEquals(2, result.size());
+        assertEquals(0, (int) result.get(0).getValue());
+        assertEquals(1.0, result.get(0).getWeight(), 1e-6);
+        assertEquals(1, (int) result.get(1).getValue());
+        assertEquals(0.5, result.get(1).getWeight(), 1e-6);
+
+        result = instance.findMostSimilar(
+            factory.copyValues(2.0, 2.0, 0.0, 0.0), 1);
+        assertEquals(1, result.size());
+        assertEquals(0, (int) result.get(0).getValue());
+
+        // A query with a term beyond any document only matches the rest.
+        result = instance.findMostSimilar(
+            factory.copyValues(0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 5.0), 10);
+        assertEquals(1, result.size());
+        assertEquals(2, (int) result.get(0).getValue());
+
+        assertTrue(instance.findMostSimilar(
+            factory.createVector(4), 10).isEmpty());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.findMostSimilar(factory.copyValues(1.0), 0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of findMostSimilar method, of class CosineInvertedIndex, against
+     * scoring every document.
+     */
+    @Test
+    public void testFindMostSimilarMatchesExhaustive()
+    {
+        final int dimensionality = 500;
+        final ArrayList<Vector> documents = new ArrayList<Vector>();
+        final CosineInvertedIndex instance = new CosineInvertedIndex();
+        final boolean[] removed = new boolean[3000];
+        for (int i = 0; i < removed.length; i++)
+        {
+            final Vector document = this.createDocument(dimensionality,
+                1 + this.random.nextInt(40));
+            documents.add(document);
+            assertEquals(i, instance.addDocument(document));
+
+            // Search between additions too.
+            if (i % 500 == 499)
+            {
+                final Vector query = this.createDocument(dimensionality, 5);
+                final double[] expected = this.findExhaustive(documents,
+                    removed, query, 10);
+                final List<DefaultWeightedValue<Integer>> actual =
+                    instance.findMostSimilar(query, 10);
+                assertEquals(expected.length, actual.size());
+                for (int j = 0; j < expected.length; j++)
+                {
+                    assertEquals(expected[j], actual.get(j).getWeight(),
+                        1e-6);
+                }
+            }
+        }
+
+        // Remove some documents.
+        for (int i = 0; i < 300; i++)
+        {
+            final int document = this.random.nextInt(removed.length);
+            assertEquals(!removed[document],
+                instance.removeDocument(document));
+            removed[document] = true;
+        }
+        int removedCount = 0;
+        for (boolean value : removed)
+        {
+            removedCount += value ? 1 : 0;
+        }
+        assertEquals(removed.length - removedCount,
+            instance.getDocumentCount());
+        assertEquals(removed.length, instance.getAddedCount());
+
+        for (int k : new int[] { 1, 5, 50, 5000 })
+        {
+            for (int i = 0; i < 20; i++)
+            {
+                final Vector query = this.createDocument(dimensionality,
+                    1 + this.random.nextInt(20));
+                final double[] expected = this.findExhaustive(documents,
+                    removed, query, k);
+                final List<DefaultWeightedValue<Integer>> actual =
+                    instance.findMostSimilar(query, k);
+                assertEquals(expected.length, actual.size());
+                for (int j = 0; j < expected.length; j++)
+                {
+                    final int document = actual.get(j).getValue();
+                    assertFalse(removed[document]);
+                    assertEquals(expected[j], actual.get(j).getWeight(),
+                        1e-6);
+                    assertEquals(documents.get(document).cosine(query),
+                        actual.get(j).getWeight(), 1e-6);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of findMostSimilar method, of class CosineInvertedIndex, with
+     * negative weights in the documents and the query.
+     */
+    @Test
+    public void testFindMostSimilarNegativeWeights()
+    {
+        final int dimensionality = 50;
+        final ArrayList<Vector> documents = new ArrayList<Vector>();
+        final CosineInvertedIndex instance = new CosineInvertedIndex();
+        for (int i = 0; i < 500; i++)
+        {
+            final Vector document = this.createDocument(dimensionality, 8);
+            document.forEachNonZero((index, value) ->
+            {
+                if (this.random.nextBoolean())
+                {
+                    document.setElement(index, -value);
+                }
+            });
+            documents.add(document);
+            instance.add(document);
+        }
+
+        final boolean[] removed = new boolean[documents.size()];
+        for (int i = 0; i < 20; i++)
+        {
+            final Vector query = this.createDocument(dimensionality, 4);
+            query.negativeEquals();
+            final double[] expected = this.findExhaustive(documents,
+                removed, query, 7);
+            final List<DefaultWeightedValue<Integer>> actual =
+                instance.findMostSimilar(query, 7);
+            assertEquals(expected.length, actual.size());
+            for (int j = 0; j < expected.length; j++)
+            {
+                assertEquals(expected[j], actual.get(j).getWeight(), 1e-6);
+            }
+        }
+    }
+
+    /**
+     * Test of remove method, of class CosineInvertedIndex.
+     */
+    @Test
+    public void testRemove()
+    {
+        final CosineInvertedIndex instance = new CosineInvertedIndex();
+        final ArrayList<Vector> documents = new ArrayList<Vector>();
+        for (int i = 0; i < 50; i++)
+        {
+            final Vector document = this.createDocument(100, 20);
+            documents.add(document);
+        }
+        instance.addAll(documents);
+        assertEquals(50, instance.getDocumentCount());
+
+        assertTrue(instance.remove(documents.get(7)));
+        assertEquals(49, instance.getDocumentCount());
+        assertFalse(instance.containsDocument(7));
+        assertFalse(instance.removeDocument(7));
+        for (DefaultWeightedValue<Integer> result
+            : instance.findMostSimilar(documents.get(7), 100))
+        {
+            assertTrue(result.getValue() != 7);
+        }
+
+        // A positive multiple is the same document.
+        assertTrue(instance.remove(documents.get(8).scale(3.0)));
+        assertFalse(instance.containsDocument(8));
+
+        // A different document is not removed.
+        assertFalse(instance.remove(this.createDocument(100, 3)));
+        assertFalse(instance.removeDocument(-1));
+        assertFalse(instance.removeDocument(50));
+        assertEquals(48, instance.getDocumentCount());
+        assertTrue(instance.removeAll(Arrays.asList(documents.get(0),
+            documents.get(1))));
+        assertEquals(46, instance.getDocumentCount());
+    }
+
+    /**
+     * Tests serializing an index.
+     *
+     * @throws  Exception
+     *      If there is an error.
+     */
+    @Test
+    public void testSerialize()
+        throws Exception
+    {
+        final CosineInvertedIndex instance = new CosineInvertedIndex();
+        for (int i = 0; i < 300; i++)
+        {
+            instance.add(this.createDocument(100, 10));
+        }
+        instance.removeDocument(3);
+        final CosineInvertedIndex copy = (CosineInvertedIndex)
+            ObjectSerializationHandler.convertFromBytes(
+                ObjectSerializationHandler.convertToBytes(instance));
+        assertEquals(instance.getDocumentCount(), copy.getDocumentCount());
+        for (int i = 0; i < 10; i++)
+        {
+            final Vector query = this.createDocument(100, 5);
+            final List<DefaultWeightedValue<Integer>> expected =
+                instance.findMostSimilar(query, 10);
+            final List<DefaultWeightedValue<Integer>> actual =
+                copy.findMostSimilar(query, 10);
+            assertEquals(expected.size(), actual.size());
+            for (int j = 0; j < expected.size(); j++)
+            {
+                assertEquals(expected.get(j).getValue(),
+                    actual.get(j).getValue());
+                assertEquals(expected.get(j).getWeight(),
+                    actual.get(j).getWeight(), 0.0);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,489 @@
+/*
+ * File:                ParallelCorpusVectorizerTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.term.vector;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.custom.SparseMatrix;
+import gov.sandia.cognition.text.document.DefaultDocument;
+import gov.sandia.cognition.text.term.ConcurrentTermIndex;
+import gov.sandia.cognition.text.term.DefaultTerm;
+import gov.sandia.cognition.text.term.DefaultTermIndex;
+import gov.sandia.cognition.text.term.TermIndex;
+import gov.sandia.cognition.text.term.TermOccurrence;
+import gov.sandia.cognition.text.term.filter.DefaultStopList;
+import gov.sandia.cognition.text.term.filter.LowerCaseTermFilter;
+import gov.sandia.cognition.text.term.filter.SingleTermFilter;
+import gov.sandia.cognition.text.term.filter.StopListFilter;
+import gov.sandia.cognition.text.term.filter.TermLengthFilter;
+import gov.sandia.cognition.text.term.filter.TokenBufferFilter;
+import gov.sandia.cognition.text.term.filter.TokenBufferFilterChain;
+import gov.sandia.cognition.text.term.vector.ParallelCorpusVectorizer.GlobalWeighting;
+import gov.sandia.cognition.text.term.vector.ParallelCorpusVectorizer.LocalWeighting;
+import gov.sandia.cognition.text.term.vector.weighter.CompositeLocalGlobalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.global.AbstractFrequencyBasedGlobalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.global.EntropyGlobalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.global.InverseDocumentFrequencyGlobalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.local.BinaryLocalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.local.LocalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.local.LogLocalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.local.TermFrequencyLocalTermWeighter;
+import gov.sandia.cognition.text.term.vector.weighter.normalize.UnitTermWeightNormalizer;
+import gov.sandia.cognition.text.token.LetterNumberTokenizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class ParallelCorpusVectorizer.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class ParallelCorpusVectorizerTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4646);
+
+    /**
+     * Creates a new test.
+     */
+    public ParallelCorpusVectorizerTest()
+    {
+    }
+
+    /**
+     * Creates a random corpus of documents.
+     *
+     * @param   count
+     *      The number of documents.
+     * @return
+     *      The documents.
+     */
+    protected ArrayList<DefaultDocument> createDocuments(
+        final int count)
+    {
+        final String[] words = { "The", "cat", "SAT", "on", "a", "mat",
+            "dog", "ran", "to", "big", "red", "ball", "x", "Fast", "slow",
+            "tree", "bird", "sang", "song", "of", "night" };
+        final ArrayList<DefaultDocument> documents =
+            new ArrayList<DefaultDocument>(count);
+        for (int i = 0; i < count; i++)
+        {
+            final StringBuilder body = new StringBuilder();
+            final int length = this.random.nextInt(30);
+            for (int j = 0; j < length; j++)
+            {
+                // Skew the words so that some are much more common.
+                final int word = (int) (words.length
+                    * Math.pow(this.random.nextDouble(), 2.0));
+                body.append(words[word]);
+                body.append(this.random.nextBoolean() ? " " : ", ");
+            }
+            final DefaultDocument document = new DefaultDocument();
+            document.setBody(body.toString());
+            documents.add(document);
+        }
+
+        // A document without a body is an empty row.
+        documents.add(new DefaultDocument());
+        return documents;
+    }
+
+    /**
+     * Creates the filters used in the tests.
+     *
+     * @return
+     *      The lower case, stop list, and length filters.
+     */
+    protected TokenBufferFilterChain createFilters()
+    {
+        return new TokenBufferFilterChain(
+            new LowerCaseTermFilter(),
+            new StopListFilter(new DefaultStopList(
+                Arrays.asList("the", "a", "on", "to", "of"))),
+            new TermLengthFilter(2, 10));
+    }
+
+    /**
+     * Test of constructors of class ParallelCorpusVectorizer.
+     */
+    @Test
+    public void testConstructors()
+    {
+        LetterNumberTokenizer tokenizer = new LetterNumberTokenizer();
+        TokenBufferFilterChain filters = new TokenBufferFilterChain();
+        ParallelCorpusVectorizer instance =
+            new ParallelCorpusVectorizer(tokenizer, filters);
+        assertEquals(DefaultDocument.BODY_FIELD_NAME, instance.getFieldName());
+        assertSame(tokenizer, instance.getTokenizer());
+        assertSame(filters, instance.getFilters());
+        assertTrue(instance.getTermIndex() instanceof ConcurrentTermIndex);
+        assertTrue(instance.isAddNewTerms());
+        assertEquals(LocalWeighting.TERM_FREQUENCY,
+            instance.getLocalWeighting());
+        assertEquals(GlobalWeighting.INVERSE_DOCUMENT_FREQUENCY,
+            instance.getGlobalWeighting());
+        assertTrue(instance.isUnitNormalize());
+        assertEquals(ParallelCorpusVectorizer.DEFAULT_BATCH_SIZE,
+            instance.getBatchSize());
+        assertNull(instance.getGlobalWeights());
+        assertEquals(0, instance.getDocumentCount());
+
+        DefaultTermIndex termIndex = new DefaultTermIndex();
+        instance = new ParallelCorpusVectorizer("title", tokenizer, filters,
+            termIndex, false, LocalWeighting.LOG, GlobalWeighting.ENTROPY,
+            false);
+        assertEquals("title", instance.getFieldName());
+        assertSame(termIndex, instance.getTermIndex());
+        assertFalse(instance.isAddNewTerms());
+        assertEquals(LocalWeighting.LOG, instance.getLocalWeighting());
+        assertEquals(GlobalWeighting.ENTROPY, instance.getGlobalWeighting());
+        assertFalse(instance.isUnitNormalize());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new ParallelCorpusVectorizer(null, filters);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of clone method, of class ParallelCorpusVectorizer.
+     */
+    @Test
+    public void testClone()
+    {
+        ParallelCorpusVectorizer instance = new ParallelCorpusVectorizer(
+            new LetterNumberTokenizer(), new TokenBufferFilterChain());
+        instance.vectorize(this.createDocuments(10));
+        ParallelCorpusVectorizer clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertNotSame(instance.getTokenizer(), clone.getTokenizer());
+        assertNotSame(instance.getFilters(), clone.getFilters());
+        assertNotSame(instance.getTermIndex(), clone.getTermIndex());
+        assertEquals(instance.getTermIndex().getTermCount(),
+            clone.getTermIndex().getTermCount());
+        assertNotSame(instance.getGlobalWeights(), clone.getGlobalWeights());
+        assertEquals(instance.getGlobalWeights(), clone.getGlobalWeights());
+    }
+
+    /**
+     * Test of vectorize method, of class ParallelCorpusVectorizer, against
+     * applying the existing per-document transforms to a fixed index.
+     */
+    @Test
+    public void testVectorizeMatchesPerDocument()
+    {
+        final ArrayList<DefaultDocument> documents =
+            this.createDocuments(200);
+        final TokenBufferFilterChain filters = this.createFilters();
+        final LetterNumberTokenizer tokenizer = new LetterNumberTokenizer();
+
+        // Build the term counts one document at a time.
+        final DefaultTermIndex termIndex = new DefaultTermIndex();
+        final ArrayList<Iterable<? extends TermOccurrence>> documentTerms =
+            new ArrayList<Iterable<? extends TermOccurrence>>();
+        for (DefaultDocument document : documents)
+        {
+            Iterable<? extends TermOccurrence> terms =
+                new ArrayList<TermOccurrence>();
+            if (document.getBodyField() != null)
+            {
+                terms = tokenizer.tokenize(document.getBodyField().getText());
+                for (TokenBufferFilter filter : filters.getFilters())
+                {
+                    terms = ((SingleTermFilter) filter).filterTerms(terms);
+                }
+                termIndex.addAll(terms);
+            }
+            documentTerms.add(terms);
+        }
+        final BagOfWordsTransform bagOfWords =
+            new BagOfWordsTransform(termIndex);
+        final ArrayList<Vector> counts = new ArrayList<Vector>();
+        for (Iterable<? extends TermOccurrence> terms : documentTerms)
+        {
+            counts.add(bagOfWords.convertToVector(terms));
+        }
+
+        final LocalWeighting[] localWeightings = LocalWeighting.values();
+        final LocalTermWeighter[] localWeighters = {
+            null,
+            new TermFrequencyLocalTermWeighter(),
+            new BinaryLocalTermWeighter(),
+            new LogLocalTermWeighter() };
+        final ParallelCorpusVectorizer instance = new ParallelCorpusVectorizer(
+            DefaultDocument.BODY_FIELD_NAME, tokenizer, filters, termIndex, false, LocalWeighting.TERM_FREQUENCY,
+            GlobalWeighting.NONE, false);
+        instance.setThreadPool(ParallelUtil.createThreadPool(3));
+        instance.setBatchSize(17);
+        for (int i = 0; i < localWeightings.length; i++)
+        {
+            for (GlobalWeighting globalWeighting : GlobalWeighting.values())
+            {
+                for (boolean unitNormalize : new boolean[] { false, true })
+                {
+                    final AbstractFrequencyBasedGlobalTermWeighter
+                        globalWeighter;
+                    if (globalWeighting == GlobalWeighting.ENTROPY)
+                    {
+                        globalWeighter = new EntropyGlobalTermWeighter();
+                    }
+                    else if (globalWeighting
+                        == GlobalWeighting.INVERSE_DOCUMENT_FREQUENCY)
+                    {
+                        globalWeighter =
+                            new InverseDocumentFrequencyGlobalTermWeighter();
+                    }
+                    else
+                    {
+                        globalWeighter = null;
+                    }
+                    if (globalWeighter != null)
+                    {
+                        for (Vector count : counts)
+                        {
+                            globalWeighter.add(count);
+                        }
+                    }
+                    final CompositeLocalGlobalTermWeighter weighter =
+                        new CompositeLocalGlobalTermWeighter(
+                            localWeighters[i], globalWeighter,
+                            unitNormalize ? new UnitTermWeightNormalizer()
+                                : null);
+
+                    instance.setLocalWeighting(localWeightings[i]);
+                    instance.setGlobalWeighting(globalWeighting);
+                    instance.setUnitNormalize(unitNormalize);
+                    final SparseMatrix result = instance.vectorize(documents);
+
+                    assertEquals(documents.size(), result.getNumRows());
+                    assertEquals(termIndex.getTermCount(),
+                        result.getNumColumns());
+                    assertEquals(documents.size(),
+                        instance.getDocumentCount());
+                    assertEquals(termIndex.getTermCount(),
+                        instance.getGlobalWeights().getDimensionality());
+                    if (globalWeighter != null)
+                    {
+                        assertTrue(globalWeighter.getGlobalWeights().equals(
+                            instance.getGlobalWeights(), 1e-10));
+                    }
+                    for (int row = 0; row < documents.size(); row++)
+                    {
+                        final Vector expected =
+                            weighter.evaluate(counts.get(row));
+                        assertTrue(expected.equals(result.getRow(row),
+                            1e-10));
+                    }
+                    assertEquals(0.0, result.getRow(documents.size() - 1)
+                        .norm1(), 0.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of vectorize method, of class ParallelCorpusVectorizer, when new
+     * terms are added to the index by several threads.
+     */
+    @Test
+    public void testVectorizeAddNewTerms()
+    {
+        final ArrayList<DefaultDocument> documents =
+            this.createDocuments(500);
+        final TokenBufferFilterChain filters = this.createFilters();
+
+        // A single thread is the reference.
+        final ParallelCorpusVectorizer single = new ParallelCorpusVectorizer(
+            new LetterNumberTokenizer(), filters);
+        single.setThreadPool(ParallelUtil.createThreadPool(1));
+        final SparseMatrix expected = single.vectorize(documents);
+        final TermIndex expectedIndex = single.getTermIndex();
+
+        for (TermIndex termIndex : new TermIndex[] {
+            new ConcurrentTermIndex(), new DefaultTermIndex() })
+        {
+            final ParallelCorpusVectorizer instance =
+                new ParallelCorpusVectorizer(
+                    DefaultDocument.BODY_FIELD_NAME,
+                    new LetterNumberTokenizer(), filters, termIndex, true,
+                    LocalWeighting.TERM_FREQUENCY,
+                    GlobalWeighting.INVERSE_DOCUMENT_FREQUENCY, true);
+            instance.setThreadPool(ParallelUtil.createThreadPool(4));
+            instance.setBatchSize(64);
+            final SparseMatrix result = instance.vectorize(documents);
+
+            // The indices may differ, so compare through the term names. The
+            // order of the sums in the normalization can also differ.
+            assertEquals(expectedIndex.getTermCount(),
+                termIndex.getTermCount());
+            assertEquals(expected.getNumRows(), result.getNumRows());
+            assertEquals(expected.getNumColumns(), result.getNumColumns());
+            final int[] columnMap = new int[termIndex.getTermCount()];
+            for (int j = 0; j < columnMap.length; j++)
+            {
+                columnMap[j] = termIndex.getIndex(
+                    expectedIndex.getTerm(j));
+                assertTrue(columnMap[j] >= 0);
+                assertTrue(expected.getColumn(j).equals(
+                    result.getColumn(columnMap[j]), 1e-10));
+            }
+
+            // Vectorizing again does not add terms.
+            instance.vectorize(documents.subList(0, 10));
+            assertEquals(expectedIndex.getTermCount(),
+                termIndex.getTermCount());
+        }
+    }
+
+    /**
+     * Test of vectorize method, of class ParallelCorpusVectorizer, for a
+     * fixed index that skips unknown terms.
+     */
+    @Test
+    public void testVectorizeFixedIndex()
+    {
+        final DefaultTermIndex termIndex = new DefaultTermIndex();
+        termIndex.add(new DefaultTerm("dog"));
+        termIndex.add(new DefaultTerm("cat"));
+        final ParallelCorpusVectorizer instance = new ParallelCorpusVectorizer(
+            DefaultDocument.BODY_FIELD_NAME, new LetterNumberTokenizer(),
+            new TokenBufferFilterChain(new LowerCaseTermFilter()),
+            termIndex, false, LocalWeighting.COUNT,
+            GlobalWeighting.NONE, false);
+
+        final DefaultDocument first = new DefaultDocument();
+        first.setBody("Cat and dog and CAT and bird");
+        final DefaultDocument second = new DefaultDocument();
+        second.setBody("nothing known");
+        final SparseMatrix result = instance.vectorize(
+            Arrays.asList(first, second));
+        assertEquals(2, result.getNumRows());
+        assertEquals(2, result.getNumColumns());
+        assertEquals(2, termIndex.getTermCount());
+        assertEquals(1.0, result.getElement(0, 0), 0.0);
+        assertEquals(2.0, result.getElement(0, 1), 0.0);
+        assertEquals(0.0, result.getRow(1).norm1(), 0.0);
+
+        // An empty corpus gives an empty matrix.
+        final SparseMatrix empty = instance.vectorize(
+            new ArrayList<DefaultDocument>());
+        assertEquals(0, empty.getNumRows());
+        assertEquals(2, empty.getNumColumns());
+        assertEquals(0, instance.getDocumentCount());
+    }
+
+    /**
+     * Test of vectorize method, of class ParallelCorpusVectorizer, for new
+     * documents weighted with the global weights of an existing corpus.
+     */
+    @Test
+    public void testVectorizeExistingGlobalWeights()
+    {
+        final DefaultTermIndex termIndex = new DefaultTermIndex();
+        final ParallelCorpusVectorizer instance = new ParallelCorpusVectorizer(
+            DefaultDocument.BODY_FIELD_NAME, new LetterNumberTokenizer(),
+            new TokenBufferFilterChain(new LowerCaseTermFilter()),
+            termIndex, true, LocalWeighting.COUNT,
+            GlobalWeighting.INVERSE_DOCUMENT_FREQUENCY, false);
+        instance.setThreadPool(ParallelUtil.createThreadPool(2));
+
+        final DefaultDocument query = new DefaultDocument();
+        query.setBody("Dog dog bird CAT");
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.vectorize(Arrays.asList(query), true);
+        }
+        catch (IllegalStateException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        final ArrayList<DefaultDocument> corpus =
+            new ArrayList<DefaultDocument>();
+        for (String body : new String[] { "cat dog", "cat", "cat fish" })
+        {
+            final DefaultDocument document = new DefaultDocument();
+            document.setBody(body);
+            corpus.add(document);
+        }
+        instance.vectorize(corpus);
+        final Vector globalWeights = instance.getGlobalWeights();
+        assertEquals(3, globalWeights.getDimensionality());
+
+        // The query is weighted by the corpus, not by itself, and the new
+        // term did not occur in the corpus.
+        final SparseMatrix result = instance.vectorize(
+            Arrays.asList(query), true);
+        assertEquals(1, result.getNumRows());
+        assertEquals(4, result.getNumColumns());
+        final int cat = termIndex.getIndex(new DefaultTerm("cat"));
+        final int dog = termIndex.getIndex(new DefaultTerm("dog"));
+        final int fish = termIndex.getIndex(new DefaultTerm("fish"));
+        final int bird = termIndex.getIndex(new DefaultTerm("bird"));
+        assertEquals(0.0, result.getElement(0, cat), 0.0);
+        assertEquals(2.0 * Math.log(3.0), result.getElement(0, dog), 1e-10);
+        assertEquals(0.0, result.getElement(0, fish), 0.0);
+        assertEquals(0.0, result.getElement(0, bird), 0.0);
+        assertSame(globalWeights, instance.getGlobalWeights());
+        assertEquals(3, instance.getDocumentCount());
+
+        // Without the existing weights the query is its own corpus.
+        final SparseMatrix own = instance.vectorize(Arrays.asList(query));
+        assertEquals(0.0, own.getRow(0).norm1(), 0.0);
+        assertEquals(1, instance.getDocumentCount());
+        assertEquals(4, instance.getGlobalWeights().getDimensionality());
+    }
+
+    /**
+     * Test of setBatchSize method, of class ParallelCorpusVectorizer.
+     */
+    @Test
+    public void testSetBatchSize()
+    {
+        ParallelCorpusVectorizer instance = new ParallelCorpusVectorizer(
+            new LetterNumberTokenizer(), new TokenBufferFilterChain());
+        instance.setBatchSize(1);
+        assertEquals(1, instance.getBatchSize());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setBatchSize(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(1, instance.getBatchSize());
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * File:                CharacterTokenCursorTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.token;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class CharacterTokenCursor.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class CharacterTokenCursorTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4444);
+
+    /**
+     * Creates a new test.
+     */
+    public CharacterTokenCursorTest()
+    {
+    }
+
+    /**
+     * Test of constructors of class CharacterTokenCursor.
+     */
+    @Test
+    public void testConstructors()
+    {
+        LetterNumberTokenizer tokenizer = new LetterNumberTokenizer();
+        CharacterTokenCursor instance = new CharacterTokenCursor(tokenizer);
+        assertSame(tokenizer, instance.getTokenizer());
+        assertNotNull(instance.getToken());
+        assertFalse(instance.next());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new CharacterTokenCursor(null);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of next method, of class CharacterTokenCursor.
+     */
+    @Test
+    public void testNext()
+    {
+        CharacterTokenCursor instance =
+            new LetterNumberTokenizer().createTokenCursor();
+
+        String input = "...Mr. Taco? Help? 123\n AbC ?~!@\t Yes7.";
+        String[] expected = { "Mr", "Taco", "Help", "123", "AbC", "Yes7" };
+        assertTokens(input, expected, instance.reset(input));
+        assertTokens(input, expected, instance.reset(new StringReader(input)));
+        assertTokens(input, expected,
+            instance.reset(new StringBuilder(input)));
+
+        input = "aB3";
+        expected = new String[] { "aB3" };
+        assertTokens(input, expected, instance.reset(input));
+
+        input = "   4    ";
+        expected = new String[] { "4" };
+        assertTokens(input, expected, instance.reset(new StringReader(input)));
+
+        input = "";
+        expected = new String[0];
+        assertTokens(input, expected, instance.reset(input));
+        assertTokens(input, expected, instance.reset(new StringReader(input)));
+
+        // Once at the end, the cursor stays there.
+        assertFalse(instance.next());
+        assertEquals(0, instance.getToken().length());
+    }
+
+    /**
+     * Tests that tokens spanning blocks read from a reader are handled the
+     * same as tokens read from a string.
+     */
+    @Test
+    public void testNextAcrossReadBlocks()
+    {
+        final StringBuilder text = new StringBuilder();
+        final int length = 3 * CharacterTokenCursor.DEFAULT_READ_BUFFER_SIZE
+            + 17;
+        while (text.length() < length)
+        {
+            final int r = random.nextInt(10);
+            text.append(r < 3 ? ' ' : r < 4 ? '.' : (char) ('a' + r));
+        }
+        final String input = text.toString();
+
+        final LetterNumberTokenizer tokenizer = new LetterNumberTokenizer();
+        final CharacterTokenCursor fromString =
+            tokenizer.createTokenCursor().reset(input);
+        final CharacterTokenCursor fromReader =
+            tokenizer.createTokenCursor().reset(new StringReader(input));
+
+        int count = 0;
+        while (fromString.next())
+        {
+            assertTrue(fromReader.next());
+            final TokenBuffer expected = fromString.getToken();
+            final TokenBuffer actual = fromReader.getToken();
+            assertTrue(TokenBuffer.contentEquals(expected, actual));
+            assertEquals(expected.getStart(), actual.getStart());
+            assertEquals(expected.getSourceLength(), actual.getSourceLength());
+            assertEquals(input.substring(actual.getStart(), actual.getEnd()),
+                actual.toString());
+            count++;
+        }
+        assertFalse(fromReader.next());
+        assertTrue(count > 100);
+    }
+
+    /**
+     * Tests that a read error is reported as an unchecked exception.
+     */
+    @Test
+    public void testNextReadError()
+    {
+        final Reader reader = new Reader()
+        {
+            @Override
+            public int read(
+                final char[] buffer,
+                final int offset,
+                final int length)
+                throws IOException
+            {
+                throw new IOException("read error");
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+
+        final LetterNumberTokenizer tokenizer = new LetterNumberTokenizer();
+        boolean exceptionThrown = false;
+        try
+        {
+            tokenizer.createTokenCursor().reset(reader).next();
+        }
+        catch (UncheckedIOException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        // The list-based tokenize keeps its behavior of returning null.
+        assertNull(tokenizer.tokenize(reader));
+    }
+
+    /**
+     * Asserts that the cursor produces the expected tokens.
+     *
+     * @param   input
+     *      The input text.
+     * @param   expected
+     *      The expected token texts.
+     * @param   cursor
+     *      The cursor, reset to the input.
+     */
+    public static void assertTokens(
+        final String input,
+        final String[] expected,
+        final CharacterTokenCursor cursor)
+    {
+        final ArrayList<String> actual = new ArrayList<String>();
+        final TokenBuffer token = cursor.getToken();
+        while (cursor.next())
+        {
+            // The same buffer is reused for every token.
+            assertSame(token, cursor.getToken());
+            final int index = actual.size();
+            assertEquals(expected[index], token.toString());
+            assertEquals(expected[index].length(), token.getSourceLength());
+            assertEquals(expected[index],
+                input.substring(token.getStart(), token.getEnd()));
+            actual.add(token.toString());
+        }
+        assertEquals(expected.length, actual.size());
+    }
+
+}
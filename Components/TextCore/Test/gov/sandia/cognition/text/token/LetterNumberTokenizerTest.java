@@ -15,6 +15,7 @@
 package gov.sandia.cognition.text.token;
 
 import gov.sandia.cognition.collection.CollectionUtil;
+import java.io.StringReader;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -67,6 +68,41 @@ public class LetterNumberTokenizerTest
         assertEqualTokens(input, expected, result);
     }
 
+    /**
+     * Test of tokenize method with a reader, of class LetterNumberTokenizer.
+     */
+    @Test
+    public void testTokenizeReader()
+    {
+        LetterNumberTokenizer instance = new LetterNumberTokenizer();
+
+        String input = "...Mr. Taco? Help? 123\n AbC ?~!@\t Yes7.";
+        String[] expected = { "Mr", "Taco", "Help", "123", "AbC", "Yes7" };
+        Iterable<Token> result = instance.tokenize(new StringReader(input));
+        assertEqualTokens(input, expected, result);
+
+        input = "";
+        expected = new String[0];
+        result = instance.tokenize(new StringReader(input));
+        assertEqualTokens(input, expected, result);
+    }
+
+    /**
+     * Test of createTokenCursor method, of class LetterNumberTokenizer.
+     */
+    @Test
+    public void testCreateTokenCursor()
+    {
+        LetterNumberTokenizer instance = new LetterNumberTokenizer();
+        CharacterTokenCursor cursor = instance.createTokenCursor();
+        assertSame(instance, cursor.getTokenizer());
+        assertNotSame(cursor, instance.createTokenCursor());
+
+        String input = "  one,two  3 ";
+        CharacterTokenCursorTest.assertTokens(input,
+            new String[] { "one", "two", "3" }, cursor.reset(input));
+    }
+
     public void assertEqualTokens(
         final String input,
         final String[] expected,
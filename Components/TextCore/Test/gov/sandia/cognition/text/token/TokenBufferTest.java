@@ -0,0 +1,192 @@
+/*
+ * File:                TokenBufferTest.java
+ * Authors:             Justin Basilico
+ * Project:             Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.token;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class TokenBuffer.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class TokenBufferTest
+{
+
+    /**
+     * Creates a new test.
+     */
+    public TokenBufferTest()
+    {
+    }
+
+    /**
+     * Test of constructors of class TokenBuffer.
+     */
+    @Test
+    public void testConstructors()
+    {
+        TokenBuffer instance = new TokenBuffer();
+        assertEquals(0, instance.length());
+        assertEquals(0, instance.getStart());
+        assertEquals(0, instance.getSourceLength());
+        assertEquals(TokenBuffer.DEFAULT_CAPACITY,
+            instance.getCharacters().length);
+
+        instance = new TokenBuffer(3);
+        assertEquals(0, instance.length());
+        assertEquals(3, instance.getCharacters().length);
+
+        boolean exceptionThrown = false;
+        try
+        {
+            new TokenBuffer(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+    /**
+     * Test of append method, of class TokenBuffer.
+     */
+    @Test
+    public void testAppend()
+    {
+        TokenBuffer instance = new TokenBuffer(2);
+        instance.append('a');
+        instance.append('b');
+        instance.append('c');
+        assertEquals(3, instance.length());
+        assertEquals("abc", instance.toString());
+        assertTrue(instance.getCharacters().length >= 3);
+
+        instance.append("xyz123".toCharArray(), 1, 4);
+        assertEquals("abcyz12", instance.toString());
+
+        instance.setCharacters("hello".toCharArray(), 1, 3);
+        assertEquals("ell", instance.toString());
+
+        instance.setCharAt(0, 'E');
+        assertEquals('E', instance.charAt(0));
+        assertEquals("Ell", instance.toString());
+
+        instance.setLength(1);
+        assertEquals("E", instance.toString());
+
+        instance.clear();
+        assertEquals(0, instance.length());
+        assertEquals("", instance.toString());
+    }
+
+    /**
+     * Test of charAt and related bounds checks, of class TokenBuffer.
+     */
+    @Test
+    public void testBounds()
+    {
+        TokenBuffer instance = new TokenBuffer();
+        instance.setCharacters("abc".toCharArray(), 0, 3);
+        assertEquals('c', instance.charAt(2));
+        assertEquals("bc", instance.subSequence(1, 3));
+
+        // Room beyond the length in the array is not part of the token.
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.charAt(3);
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+
+        exceptionThrown = false;
+        try
+        {
+            instance.setLength(4);
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(3, instance.length());
+    }
+
+    /**
+     * Test of the position methods, of class TokenBuffer.
+     */
+    @Test
+    public void testPosition()
+    {
+        TokenBuffer instance = new TokenBuffer();
+        instance.setCharacters("Running".toCharArray(), 0, 7);
+        instance.setStart(12);
+        instance.setSourceLength(7);
+        assertEquals(12, instance.getStart());
+        assertEquals(7, instance.getSourceLength());
+        assertEquals(19, instance.getEnd());
+
+        // Rewriting the contents keeps the position in the source.
+        instance.setCharacters("run".toCharArray(), 0, 3);
+        DefaultToken token = instance.toToken();
+        assertEquals("run", token.getText());
+        assertEquals(12, token.getStart());
+        assertEquals(7, token.getLength());
+    }
+
+    /**
+     * Test of contentHashCode method, of class TokenBuffer.
+     */
+    @Test
+    public void testContentHashCode()
+    {
+        TokenBuffer instance = new TokenBuffer();
+        for (String text : new String[] { "", "a", "hello", "\u03A9mega 42" })
+        {
+            instance.setCharacters(text.toCharArray(), 0, text.length());
+            assertEquals(text.hashCode(),
+                TokenBuffer.contentHashCode(instance));
+            assertEquals(text.hashCode(), TokenBuffer.contentHashCode(text));
+            assertEquals(text.hashCode(),
+                TokenBuffer.contentHashCode(new StringBuilder(text)));
+        }
+    }
+
+    /**
+     * Test of contentEquals method, of class TokenBuffer.
+     */
+    @Test
+    public void testContentEquals()
+    {
+        TokenBuffer instance = new TokenBuffer();
+        instance.setCharacters("word".toCharArray(), 0, 4);
+        assertTrue(TokenBuffer.contentEquals(instance, "word"));
+        assertTrue(TokenBuffer.contentEquals("word", instance));
+        assertFalse(TokenBuffer.contentEquals(instance, "words"));
+        assertFalse(TokenBuffer.contentEquals(instance, "Word"));
+        assertFalse(TokenBuffer.contentEquals(instance, ""));
+        assertTrue(TokenBuffer.contentEquals("", new TokenBuffer()));
+    }
+
+}
@@ -0,0 +1,379 @@
+/*
+ * File:            MetropolisHastingsLatentDirichletAllocationVectorGibbsSamplerTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.topic;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.Test;
+
+import static gov.sandia.cognition.math.ProbabilityUtil.*;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class
+ * MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class MetropolisHastingsLatentDirichletAllocationVectorGibbsSamplerTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(211);
+
+    /**
+     * Creates a new test.
+     */
+    public MetropolisHastingsLatentDirichletAllocationVectorGibbsSamplerTest()
+    {
+    }
+
+    /**
+     * Creates documents from topics that use disjoint blocks of terms.
+     *
+     * @param   topicCount
+     *      The number of planted topics.
+     * @param   termsPerTopic
+     *      The number of terms in each topic.
+     * @param   documentsPerTopic
+     *      The number of documents for each topic.
+     * @param   documentLength
+     *      The number of occurrences in each document.
+     * @return
+     *      The documents, ordered by topic.
+     */
+    protected ArrayList<Vector> createPlantedData(
+        final int topicCount,
+        final int termsPerTopic,
+        final int documentsPerTopic,
+        final int documentLength)
+    {
+        final VectorFactory<?> factory = VectorFactory.getSparseDefault();
+        final ArrayList<Vector> data = new ArrayList<Vector>();
+        for (int topic = 0; topic < topicCount; topic++)
+        {
+            for (int i = 0; i < documentsPerTopic; i++)
+            {
+                final Vector document = factory.createVector(
+                    topicCount * termsPerTopic);
+                for (int j = 0; j < documentLength; j++)
+                {
+                    final int term = topic * termsPerTopic
+                        + random.nextInt(termsPerTopic);
+                    document.increment(term, 1.0);
+                }
+                data.add(document);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Test of constructors of class
+     * MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.
+     */
+    @Test
+    public void testConstructors()
+    {
+        int topicCount = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_TOPIC_COUNT;
+        double alpha = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_ALPHA;
+        double beta = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_BETA;
+        int maxIterations = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_MAX_ITERATIONS;
+        int burnInIterations = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_BURN_IN_ITERATIONS;
+        int iterationsPerSample = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_ITERATIONS_PER_SAMPLE;
+        int steps = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_METROPOLIS_HASTINGS_STEPS;
+
+        MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler instance =
+            new MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler();
+        assertEquals(topicCount, instance.getTopicCount());
+        assertEquals(alpha, instance.getAlpha(), 0.0);
+        assertEquals(beta, instance.getBeta(), 0.0);
+        assertEquals(maxIterations, instance.getMaxIterations());
+        assertEquals(burnInIterations, instance.getBurnInIterations());
+        assertEquals(iterationsPerSample, instance.getIterationsPerSample());
+        assertEquals(steps, instance.getMetropolisHastingsSteps());
+        assertNotNull(instance.getRandom());
+
+        topicCount = 1 + random.nextInt(100);
+        alpha = random.nextDouble() * 10.0;
+        beta = random.nextDouble() * 10.0;
+        maxIterations = 1 + random.nextInt(100000);
+        burnInIterations = random.nextInt(1000);
+        iterationsPerSample = 1 + random.nextInt(100);
+        instance = new MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler(
+            topicCount, alpha, beta, maxIterations, burnInIterations,
+            iterationsPerSample, random);
+        assertEquals(topicCount, instance.getTopicCount());
+        assertEquals(alpha, instance.getAlpha(), 0.0);
+        assertEquals(beta, instance.getBeta(), 0.0);
+        assertEquals(maxIterations, instance.getMaxIterations());
+        assertEquals(burnInIterations, instance.getBurnInIterations());
+        assertEquals(iterationsPerSample, instance.getIterationsPerSample());
+        assertEquals(steps, instance.getMetropolisHastingsSteps());
+        assertSame(random, instance.getRandom());
+    }
+
+    /**
+     * Test of learn method, of class
+     * MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.
+     */
+    @Test
+    public void testLearn()
+    {
+        final VectorFactory<?> factory = VectorFactory.getSparseDefault();
+        final ArrayList<Vector> data = new ArrayList<Vector>();
+
+        data.add(factory.copyValues(0, 0, 4, 2, 5, 6, 0, 3, 0));
+        data.add(factory.copyValues(0, 0, 0, 8, 0, 3, 0, 0, 0));
+        data.add(factory.copyValues(4, 0, 6, 0, 0, 0, 3, 5, 0));
+        data.add(factory.copyValues(1, 0, 0, 3, 2, 0, 3, 8, 0));
+        data.add(factory.copyValues(3, 0, 5, 3, 0, 5, 6, 0, 0));
+        data.add(factory.copyValues(0, 0, 0, 1, 3, 3, 3, 2, 0));
+
+        int termCount = 9;
+        int topicCount = 3;
+        MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler instance =
+            new MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler(
+                topicCount, 2.0, 0.5, 50, 20, 10, random);
+        instance.setThreadPool(ParallelUtil.createThreadPool(3));
+        assertNull(instance.learn(null));
+        assertNull(instance.learn(new ArrayList<Vector>()));
+
+        LatentDirichletAllocationVectorGibbsSampler.Result result =
+            instance.learn(data);
+        assertEquals(topicCount, result.getTopicCount());
+        assertEquals(data.size(), result.getDocumentCount());
+        assertEquals(termCount, result.getTermCount());
+        assertEquals(100, result.getTotalOccurrences());
+
+        for (int i = 0; i < topicCount; i++)
+        {
+            double sum = 0.0;
+            for (int j = 0; j < termCount; j++)
+            {
+                assertIsProbability(result.topicTermProbabilities[i][j]);
+                sum += result.topicTermProbabilities[i][j];
+            }
+            assertEquals(1.0, sum, 1e-10);
+        }
+
+        for (int i = 0; i < data.size(); i++)
+        {
+            double sum = 0.0;
+            for (int j = 0; j < topicCount; j++)
+            {
+                assertIsProbability(result.documentTopicProbabilities[i][j]);
+                sum += result.documentTopicProbabilities[i][j];
+            }
+            assertEquals(1.0, sum, 1e-10);
+        }
+
+        // The synchronized counts must match the final assignments.
+        final int[][] counts = new int[topicCount][termCount];
+        int occurrence = 0;
+        for (Vector document : data)
+        {
+            for (int term = 0; term < termCount; term++)
+            {
+                for (int i = 0; i < (int) document.getElement(term); i++)
+                {
+                    counts[instance.occurrenceTopicAssignments[occurrence]][term]++;
+                    occurrence++;
+                }
+            }
+        }
+        for (int topic = 0; topic < topicCount; topic++)
+        {
+            int sum = 0;
+            for (int term = 0; term < termCount; term++)
+            {
+                assertEquals(counts[topic][term],
+                    instance.topicTermCount[topic][term]);
+                sum += counts[topic][term];
+            }
+            assertEquals(sum, instance.topicTermSum[topic]);
+        }
+    }
+
+    /**
+     * Tests that the planted topics are recovered with one thread and with
+     * several.
+     */
+    @Test
+    public void testLearnPlantedTopics()
+    {
+        final int topicCount = 4;
+        final int documentsPerTopic = 15;
+        final ArrayList<Vector> data = createPlantedData(topicCount, 20,
+            documentsPerTopic, 40);
+
+        for (int threads = 1; threads <= 4; threads += 3)
+        {
+            final MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler instance =
+                new MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler(
+                    topicCount, 0.1, 0.1, 400, 200, 10, random);
+            instance.setThreadPool(ParallelUtil.createThreadPool(threads));
+            final LatentDirichletAllocationVectorGibbsSampler.Result result =
+                instance.learn(data);
+
+            // Each planted topic should map to its own learned topic.
+            final boolean[] used = new boolean[topicCount];
+            for (int planted = 0; planted < topicCount; planted++)
+            {
+                int learned = -1;
+                for (int i = 0; i < documentsPerTopic; i++)
+                {
+                    final double[] probabilities =
+                        result.getDocumentTopicProbabilities()[
+                            planted * documentsPerTopic + i];
+                    int best = 0;
+                    for (int topic = 1; topic < topicCount; topic++)
+                    {
+                        if (probabilities[topic] > probabilities[best])
+                        {
+                            best = topic;
+                        }
+                    }
+                    assertTrue(probabilities[best] > 0.75);
+                    if (learned < 0)
+                    {
+                        learned = best;
+                    }
+                    assertEquals(learned, best);
+                }
+                assertFalse(used[learned]);
+                used[learned] = true;
+            }
+        }
+    }
+
+    /**
+     * Tests that a partition reads the shared topic-term counts plus its own
+     * sparse changes, and that the changes are cleared for each iteration.
+     */
+    @Test
+    public void testPartitionTopicTermCounts()
+    {
+        final int topicCount = 50;
+        final int termCount = 100;
+        final MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler instance =
+            new MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler();
+        instance.topicCount = topicCount;
+        instance.termCount = termCount;
+        instance.topicTermCount = new int[topicCount][termCount];
+        instance.topicTermSum = new int[topicCount];
+        for (int topic = 0; topic < topicCount; topic++)
+        {
+            for (int term = 0; term < termCount; term++)
+            {
+                instance.topicTermCount[topic][term] = topic + term;
+            }
+        }
+
+        final MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.PartitionSampleTask task =
+            instance.new PartitionSampleTask(0, 0);
+        task.prepare(random);
+
+        // Change more pairs than the initial capacity so that it grows.
+        final int[][] expected = new int[topicCount][termCount];
+        for (int i = 0; i < 5000; i++)
+        {
+            final int topic = random.nextInt(topicCount);
+            final int term = random.nextInt(termCount);
+            final int amount = random.nextInt(5) - 2;
+            task.addTopicTermCount(topic, term, amount);
+            expected[topic][term] += amount;
+        }
+        assertTrue(task.deltaKeys.length
+            > MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.INITIAL_DELTA_CAPACITY);
+        for (int topic = 0; topic < topicCount; topic++)
+        {
+            for (int term = 0; term < termCount; term++)
+            {
+                assertEquals(topic + term + expected[topic][term],
+                    task.getTopicTermCount(topic, term));
+            }
+        }
+
+        task.prepare(random);
+        assertEquals(0, task.deltaSize);
+        for (int topic = 0; topic < topicCount; topic++)
+        {
+            for (int term = 0; term < termCount; term++)
+            {
+                assertEquals(topic + term, task.getTopicTermCount(topic, term));
+            }
+        }
+    }
+
+    /**
+     * Test of clone method, of class
+     * MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.
+     */
+    @Test
+    public void testClone()
+    {
+        final MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler instance =
+            new MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler();
+        instance.setMetropolisHastingsSteps(5);
+        instance.getThreadPool();
+        final MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler clone =
+            instance.clone();
+        assertNotSame(instance, clone);
+        assertEquals(5, clone.getMetropolisHastingsSteps());
+        assertNull(clone.threadPool);
+    }
+
+    /**
+     * Test of getMetropolisHastingsSteps method, of class
+     * MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.
+     */
+    @Test
+    public void testGetMetropolisHastingsSteps()
+    {
+        this.testSetMetropolisHastingsSteps();
+    }
+
+    /**
+     * Test of setMetropolisHastingsSteps method, of class
+     * MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.
+     */
+    @Test
+    public void testSetMetropolisHastingsSteps()
+    {
+        int steps = MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler.DEFAULT_METROPOLIS_HASTINGS_STEPS;
+        MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler instance =
+            new MetropolisHastingsLatentDirichletAllocationVectorGibbsSampler();
+        assertEquals(steps, instance.getMetropolisHastingsSteps());
+
+        steps = 7;
+        instance.setMetropolisHastingsSteps(steps);
+        assertEquals(steps, instance.getMetropolisHastingsSteps());
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.setMetropolisHastingsSteps(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+        assertEquals(steps, instance.getMetropolisHastingsSteps());
+    }
+
+}
@@ -0,0 +1,407 @@
+/*
+ * File:            OnlineLatentDirichletAllocationVariationalBayesTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.topic;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.io.ObjectSerializationHandler;
+import gov.sandia.cognition.math.matrix.DimensionalityMismatchException;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import gov.sandia.cognition.util.SplitMixRandom;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class OnlineLatentDirichletAllocationVariationalBayes.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class OnlineLatentDirichletAllocationVariationalBayesTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(4141);
+
+    /**
+     * Creates a new test.
+     */
+    public OnlineLatentDirichletAllocationVariationalBayesTest()
+    {
+    }
+
+    /**
+     * Creates documents from topics that use disjoint blocks of terms. The
+     * documents cycle through the topics.
+     *
+     * @param   topicCount
+     *      The number of planted topics.
+     * @param   termsPerTopic
+     *      The number of terms in each topic.
+     * @param   documentCount
+     *      The number of documents.
+     * @param   documentLength
+     *      The number of occurrences in each document.
+     * @return
+     *      The documents.
+     */
+    protected ArrayList<Vector> createPlantedData(
+        final int topicCount,
+        final int termsPerTopic,
+        final int documentCount,
+        final int documentLength)
+    {
+        final VectorFactory<?> factory = VectorFactory.getSparseDefault();
+        final ArrayList<Vector> data = new ArrayList<Vector>();
+        for (int i = 0; i < documentCount; i++)
+        {
+            final int topic = i % topicCount;
+            final Vector document = factory.createVector(
+                topicCount * termsPerTopic);
+            for (int j = 0; j < documentLength; j++)
+            {
+                document.increment(topic * termsPerTopic
+                    + random.nextInt(termsPerTopic), 1.0);
+            }
+            data.add(document);
+        }
+        return data;
+    }
+
+    /**
+     * Test of constructors of class
+     * OnlineLatentDirichletAllocationVariationalBayes.
+     */
+    @Test
+    public void testConstructors()
+    {
+        OnlineLatentDirichletAllocationVariationalBayes instance =
+            new OnlineLatentDirichletAllocationVariationalBayes();
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_TOPIC_COUNT, instance.getTopicCount());
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_ALPHA, instance.getAlpha(), 0.0);
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_BETA, instance.getBeta(), 0.0);
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_BATCH_SIZE, instance.getBatchSize());
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_CORPUS_SIZE, instance.getCorpusSize(), 0.0);
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_DELAY, instance.getDelay(), 0.0);
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_FORGETTING_RATE, instance.getForgettingRate(), 0.0);
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_MAX_DOCUMENT_ITERATIONS, instance.getMaxDocumentIterations());
+        assertEquals(OnlineLatentDirichletAllocationVariationalBayes.DEFAULT_DOCUMENT_TOLERANCE, instance.getDocumentTolerance(), 0.0);
+        assertNotNull(instance.getRandom());
+
+        instance = new OnlineLatentDirichletAllocationVariationalBayes(
+            7, 0.2, 0.3, 11, 1234.0, random);
+        assertEquals(7, instance.getTopicCount());
+        assertEquals(0.2, instance.getAlpha(), 0.0);
+        assertEquals(0.3, instance.getBeta(), 0.0);
+        assertEquals(11, instance.getBatchSize());
+        assertEquals(1234.0, instance.getCorpusSize(), 0.0);
+        assertSame(random, instance.getRandom());
+    }
+
+    /**
+     * Test of createInitialLearnedObject method, of class
+     * OnlineLatentDirichletAllocationVariationalBayes.
+     */
+    @Test
+    public void testCreateInitialLearnedObject()
+    {
+        final OnlineLatentDirichletAllocationVariationalBayes instance =
+            new OnlineLatentDirichletAllocationVariationalBayes(
+                3, 0.2, 0.3, 11, 1234.0, random);
+        final OnlineLatentDirichletAllocationVariationalBayes.Model model =
+            instance.createInitialLearnedObject();
+        assertEquals(3, model.getTopicCount());
+        assertEquals(0, model.getTermCount());
+        assertEquals(0.2, model.getAlpha(), 0.0);
+        assertEquals(0.3, model.getBeta(), 0.0);
+        assertEquals(0, model.getUpdateCount());
+        assertEquals(0, model.getDocumentCount());
+        assertFalse(model.isInitialized());
+    }
+
+    /**
+     * Test of clone method, of class
+     * OnlineLatentDirichletAllocationVariationalBayes.
+     */
+    @Test
+    public void testClone()
+    {
+        final ArrayList<Vector> data = createPlantedData(3, 10, 100, 20);
+        final OnlineLatentDirichletAllocationVariationalBayes instance =
+            new OnlineLatentDirichletAllocationVariationalBayes(
+                3, 0.3, 0.1, 25, 100, new SplitMixRandom(7));
+        final OnlineLatentDirichletAllocationVariationalBayes clone =
+            instance.clone();
+        assertNotSame(instance, clone);
+        assertNotSame(instance.getRandom(), clone.getRandom());
+        assertEquals(instance.getTopicCount(), clone.getTopicCount());
+
+        // The clone has its own copy of the random state, so both learn the
+        // same model.
+        final double[][] expected =
+            instance.learn(data).getTopicTermProbabilities();
+        final double[][] result =
+            clone.learn(data).getTopicTermProbabilities();
+        for (int topic = 0; topic < 3; topic++)
+        {
+            assertArrayEquals(expected[topic], result[topic], 0.0);
+        }
+    }
+
+    /**
+     * Tests that the planted topics are learned from a stream of
+     * mini-batches.
+     */
+    @Test
+    public void testLearnPlantedTopics()
+    {
+        final int topicCount = 4;
+        final int termsPerTopic = 25;
+        final ArrayList<Vector> data = createPlantedData(topicCount,
+            termsPerTopic, 2000, 50);
+        final OnlineLatentDirichletAllocationVariationalBayes instance =
+            new OnlineLatentDirichletAllocationVariationalBayes(
+                topicCount, 0.25, 0.05, 64, data.size(), random);
+        instance.setThreadPool(ParallelUtil.createThreadPool(3));
+
+        final OnlineLatentDirichletAllocationVariationalBayes.Model model =
+            instance.learn(data);
+        assertEquals(topicCount * termsPerTopic, model.getTermCount());
+        assertEquals(32, model.getUpdateCount());
+        assertEquals(data.size(), model.getDocumentCount());
+
+        // Each learned topic should put its mass on one planted block.
+        final double[][] topicTerms = model.getTopicTermProbabilities();
+        final int[] blocks = new int[topicCount];
+        final boolean[] used = new boolean[topicCount];
+        for (int topic = 0; topic < topicCount; topic++)
+        {
+            double total = 0.0;
+            int bestBlock = 0;
+            double bestMass = 0.0;
+            for (int block = 0; block < topicCount; block++)
+            {
+                double mass = 0.0;
+                for (int i = 0; i < termsPerTopic; i++)
+                {
+                    mass += topicTerms[topic][block * termsPerTopic + i];
+                }
+                total += mass;
+                if (mass > bestMass)
+                {
+                    bestMass = mass;
+                    bestBlock = block;
+                }
+            }
+            assertEquals(1.0, total, 1e-10);
+            assertTrue(bestMass > 0.95);
+            assertFalse(used[bestBlock]);
+            used[bestBlock] = true;
+            blocks[bestBlock] = topic;
+        }
+
+        // New documents should be assigned to the topic for their block.
+        final ArrayList<Vector> test = createPlantedData(topicCount,
+            termsPerTopic, 20, 30);
+        for (int i = 0; i < test.size(); i++)
+        {
+            final double[] probabilities =
+                instance.computeDocumentTopicProbabilities(model,
+                    test.get(i));
+            double sum = 0.0;
+            for (double p : probabilities)
+            {
+                sum += p;
+            }
+            assertEquals(1.0, sum, 1e-10);
+            assertTrue(probabilities[blocks[i % topicCount]] > 0.9);
+        }
+    }
+
+    /**
+     * Tests that learning can be checkpointed and resumed with the same
+     * result.
+     *
+     * @throws  Exception
+     *      If there is a serialization error.
+     */
+    @Test
+    public void testCheckpointAndResume()
+        throws Exception
+    {
+        final ArrayList<Vector> data = createPlantedData(3, 10, 300, 20);
+        final ArrayList<Vector> first = new ArrayList<Vector>(
+            data.subList(0, 150));
+        final ArrayList<Vector> second = new ArrayList<Vector>(
+            data.subList(150, 300));
+
+        final OnlineLatentDirichletAllocationVariationalBayes instance =
+            new OnlineLatentDirichletAllocationVariationalBayes(
+                3, 0.3, 0.1, 25, 300, new Random(7));
+        final OnlineLatentDirichletAllocationVariationalBayes.Model expected =
+            instance.learn(first);
+        instance.update(expected, second);
+
+        instance.setRandom(new Random(7));
+        final OnlineLatentDirichletAllocationVariationalBayes.Model model =
+            instance.learn(first);
+        final OnlineLatentDirichletAllocationVariationalBayes.Model resumed =
+            (OnlineLatentDirichletAllocationVariationalBayes.Model)
+            ObjectSerializationHandler.convertFromBytes(
+                ObjectSerializationHandler.convertToBytes(model));
+        assertNotSame(model, resumed);
+        assertEquals(6, resumed.getUpdateCount());
+        instance.update(resumed, second);
+
+        assertEquals(expected.getUpdateCount(), resumed.getUpdateCount());
+        assertEquals(expected.getDocumentCount(), resumed.getDocumentCount());
+        final double[][] expectedTopicTerms =
+            expected.getTopicTermProbabilities();
+        final double[][] resumedTopicTerms =
+            resumed.getTopicTermProbabilities();
+        for (int topic = 0; topic < 3; topic++)
+        {
+            assertArrayEquals(expectedTopicTerms[topic],
+                resumedTopicTerms[topic], 0.0);
+        }
+    }
+
+    /**
+     * Tests that the lazily scaled M-step matches the direct update.
+     */
+    @Test
+    public void testModelUpdate()
+    {
+        final OnlineLatentDirichletAllocationVariationalBayes.Model model =
+            new OnlineLatentDirichletAllocationVariationalBayes.Model(
+                2, 0.5, 0.25);
+        model.initialize(5, random);
+        final double[][] expected = new double[2][5];
+        for (int topic = 0; topic < 2; topic++)
+        {
+            for (int term = 0; term < 5; term++)
+            {
+                expected[topic][term] =
+                    model.getTopicTermParameter(topic, term);
+            }
+        }
+
+        // Use step sizes that exercise both the lazy and folded updates.
+        final double[] stepSizes = {0.5, 0.9, 0.999, 0.99999, 0.3, 1.0, 0.2};
+        for (double stepSize : stepSizes)
+        {
+            final int[] terms = {random.nextInt(5), 4};
+            if (terms[0] == 4)
+            {
+                terms[0] = 0;
+            }
+            final double[][] statistics = new double[2][2];
+            for (int topic = 0; topic < 2; topic++)
+            {
+                for (int term = 0; term < 5; term++)
+                {
+                    expected[topic][term] = (1.0 - stepSize)
+                        * expected[topic][term] + stepSize * 0.25;
+                }
+                for (int i = 0; i < 2; i++)
+                {
+                    statistics[topic][i] = random.nextDouble() * 10.0;
+                    expected[topic][terms[i]] += 3.0 * statistics[topic][i];
+                }
+            }
+            model.update(stepSize, 3.0, terms, 2, statistics);
+
+            for (int topic = 0; topic < 2; topic++)
+            {
+                double sum = 0.0;
+                for (int term = 0; term < 5; term++)
+                {
+                    assertEquals(expected[topic][term],
+                        model.getTopicTermParameter(topic, term),
+                        1e-8 * expected[topic][term]);
+                    sum += expected[topic][term];
+                }
+                assertEquals(sum, model.getTopicParameterSum(topic),
+                    1e-8 * sum);
+            }
+        }
+        assertEquals(stepSizes.length, model.getUpdateCount());
+
+        final OnlineLatentDirichletAllocationVariationalBayes.Model clone =
+            model.clone();
+        assertNotSame(model.topicTermWeights, clone.topicTermWeights);
+        assertArrayEquals(model.topicTermWeights, clone.topicTermWeights,
+            0.0);
+    }
+
+    /**
+     * Tests the argument checks.
+     */
+    @Test
+    public void testBadArguments()
+    {
+        final OnlineLatentDirichletAllocationVariationalBayes instance =
+            new OnlineLatentDirichletAllocationVariationalBayes();
+        try
+        {
+            instance.setTopicCount(0);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // correct path
+        }
+        try
+        {
+            instance.setBatchSize(0);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // correct path
+        }
+        try
+        {
+            instance.setForgettingRate(1.5);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // correct path
+        }
+        try
+        {
+            instance.setBeta(0.0);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e)
+        {
+            // correct path
+        }
+
+        // Documents must match the dimensionality of the model.
+        final OnlineLatentDirichletAllocationVariationalBayes.Model model =
+            instance.createInitialLearnedObject();
+        instance.update(model, VectorFactory.getDefault().copyValues(1, 2));
+        try
+        {
+            instance.update(model,
+                VectorFactory.getDefault().copyValues(1, 2, 3));
+            assertTrue(false);
+        }
+        catch (DimensionalityMismatchException e)
+        {
+            // correct path
+        }
+    }
+
+}
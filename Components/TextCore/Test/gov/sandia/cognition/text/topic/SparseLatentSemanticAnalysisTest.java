@@ -0,0 +1,143 @@
+/*
+ * File:            SparseLatentSemanticAnalysisTest.java
+ * Authors:         Justin Basilico
+ * Project:         Cognitive Foundry
+ *
+ * Copyright 2026 Cognitive Foundry. All rights reserved.
+ */
+
+package gov.sandia.cognition.text.topic;
+
+import gov.sandia.cognition.algorithm.ParallelUtil;
+import gov.sandia.cognition.math.matrix.Matrix;
+import gov.sandia.cognition.math.matrix.Vector;
+import gov.sandia.cognition.math.matrix.VectorFactory;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for class SparseLatentSemanticAnalysis.
+ *
+ * @author  Justin Basilico
+ * @since   4.1.0
+ */
+public class SparseLatentSemanticAnalysisTest
+{
+
+    /** The random number generator for the tests. */
+    protected Random random = new Random(818);
+
+    /**
+     * Creates a new test.
+     */
+    public SparseLatentSemanticAnalysisTest()
+    {
+    }
+
+    /**
+     * Test of constructors of class SparseLatentSemanticAnalysis.
+     */
+    @Test
+    public void testConstructors()
+    {
+        SparseLatentSemanticAnalysis instance =
+            new SparseLatentSemanticAnalysis();
+        assertEquals(SparseLatentSemanticAnalysis.DEFAULT_REQUESTED_RANK,
+            instance.getRequestedRank());
+        assertEquals(SparseLatentSemanticAnalysis.DEFAULT_OVERSAMPLING,
+            instance.getOversampling());
+        assertEquals(SparseLatentSemanticAnalysis.DEFAULT_POWER_ITERATIONS,
+            instance.getPowerIterations());
+        assertNotNull(instance.getRandom());
+
+        instance = new SparseLatentSemanticAnalysis(7, 3, 1, random);
+        assertEquals(7, instance.getRequestedRank());
+        assertEquals(3, instance.getOversampling());
+        assertEquals(1, instance.getPowerIterations());
+        assertSame(random, instance.getRandom());
+
+        SparseLatentSemanticAnalysis clone = instance.clone();
+        assertNotSame(instance, clone);
+        assertEquals(7, clone.getRequestedRank());
+    }
+
+    /**
+     * Tests that learn matches the dense LatentSemanticAnalysis.
+     */
+    @Test
+    public void testLearn()
+    {
+        double[][] data = new double[][] {
+            { 1, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+            { 0, 0, 1, 1, 1, 1, 1, 0, 1, 0, 0, 0 },
+            { 0, 1, 0, 1, 1, 0, 0, 1, 0, 0, 0, 0 },
+            { 1, 0, 0, 0, 2, 0, 0, 1, 0, 0, 0, 0 },
+            { 0, 0, 0, 1, 0, 1, 1, 0, 0, 0, 0, 0 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1 },
+            { 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 1, 1 }
+        };
+
+        ArrayList<Vector> documents = new ArrayList<Vector>();
+        for (double[] d : data)
+        {
+            documents.add(VectorFactory.getSparseDefault().copyArray(d));
+        }
+        documents.add(VectorFactory.getSparseDefault().createVector(12));
+
+        SparseLatentSemanticAnalysis instance =
+            new SparseLatentSemanticAnalysis(2, 10, 2, random);
+        instance.setThreadPool(ParallelUtil.createThreadPool(2));
+        try
+        {
+            for (int rank : new int[] { 2, 4, 12 })
+            {
+                instance.setRequestedRank(rank);
+                LatentSemanticAnalysis.Transform expected =
+                    new LatentSemanticAnalysis(rank).learn(documents);
+                LatentSemanticAnalysis.Transform result =
+                    instance.learn(documents);
+                assertEquals(Math.min(rank, 9), result.getRank());
+                assertEquals(12, result.getInputDimensionality());
+
+                Matrix expectedBasis = expected.getTermBasis();
+                for (int i = 0; i < result.getRank(); i++)
+                {
+                    assertEquals(expected.getSingularValues().getElement(i, i),
+                        result.getSingularValues().getElement(i, i), 1e-6);
+                    Vector expectedVector = expectedBasis.getColumn(i);
+                    Vector actual = result.getTermVector(i);
+                    assertTrue(actual.equals(expectedVector, 1e-4)
+                        || actual.equals(expectedVector.negative(), 1e-4));
+                }
+
+                Vector document = documents.get(1);
+                Vector transformed = result.evaluate(document);
+                assertEquals(expected.evaluate(document).norm2(),
+                    transformed.norm2(), 1e-4);
+            }
+        }
+        finally
+        {
+            instance.getThreadPool().shutdown();
+        }
+
+        boolean exceptionThrown = false;
+        try
+        {
+            instance.learn(new ArrayList<Vector>());
+        }
+        catch (IllegalArgumentException e)
+        {
+            exceptionThrown = true;
+        }
+        finally
+        {
+            assertTrue(exceptionThrown);
+        }
+    }
+
+}